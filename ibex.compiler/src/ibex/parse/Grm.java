@@ -6905,11 +6905,11 @@ class CUP$Grm$actions {
 		
                          List l = new ArrayList();
              if (a instanceof RhsSequence)
-                 l.addAll(((RhsSequence) a).terms());
+                 l.addAll(((RhsSequence) a).items());
              else
                  l.add(a);
              if (b instanceof RhsSequence)
-                 l.addAll(((RhsSequence) b).terms());
+                 l.addAll(((RhsSequence) b).items());
              else
                  l.add(b);
              RESULT = parser.nf.RhsSequence(parser.pos(a,b), l); 
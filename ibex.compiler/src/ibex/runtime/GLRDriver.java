@@ -20,9 +20,23 @@ public class GLRDriver implements Cloneable {
     public static final int DEBUG_ENQUEUE = 16;
     public static final int DEBUG_ACCEPT = 32;
 
-    public static int DEBUG = DEBUG_LOOP | DEBUG_SHIFT | DEBUG_REDUCE | DEBUG_ACTIONS | DEBUG_ACCEPT;
+    /**
+     * The kinds of tracing to print to <code>System.out</code>, read from
+     * the system property <code>ibex.debug</code>; 0 for no tracing.  It is
+     * final so that the checks of it compile away when tracing is off.
+     */
+    public static final int DEBUG = Integer.getInteger("ibex.debug", 0).intValue();
 
-    public static boolean USE_FAST_PATH = true;
+    /**
+     * If true, the parser runs as an LR(1) parser while the parse is
+     * deterministic, rather than building GSS nodes.  Either way, the
+     * semantic actions are run once the input is accepted, with the same
+     * values.  It is read from the system property
+     * <code>ibex.fastpath</code>, and is true unless that is
+     * <code>false</code>.
+     */
+    public static final boolean USE_FAST_PATH =
+        ! "false".equals(System.getProperty("ibex.fastpath"));
     public static boolean DO_ERROR_RECOVERY = true;
     public static final int REPAIR_STRING_LENGTH = 4;
     public static final int ERROR_LOOKAHEAD = REPAIR_STRING_LENGTH * 2;
@@ -31,20 +45,27 @@ public class GLRDriver implements Cloneable {
 
     ParserImpl parser;
 
+    /** The decoded tables, shared with other drivers for the same parser class. */
+    ParseTables tables;
+
     public GLRDriver(ParserImpl parser) {
         this.parser = parser;
-        actionTable = decodeActionTable();
-        overflowTable = decodeOverflowTable();
-        gotoTable = decodeGotoTable();
-        ruleTable = decodeRuleTable();
-        mergeTable = decodeMergeTable();
-        lookaheadTable = decodeLookaheadTable();
+        tables = ParseTables.forParser(parser);
+        actionTable = tables.actionTable;
+        overflowTable = tables.overflowTable;
+        gotoTable = tables.gotoTable;
+        ruleTable = tables.ruleTable;
+        mergeTable = tables.mergeTable;
+        lookaheadTable = tables.lookaheadTable;
+        session = IncrementalParse.forParser(parser);
     }
 
     public GLRDriver clone() {
         try {
             GLRDriver d = (GLRDriver) super.clone();
             d.topmost = null;
+            d.prevTopmost = null;
+            d.reduced = null;
             d.seen = null;
             return d;
         }
@@ -54,43 +75,197 @@ public class GLRDriver implements Cloneable {
         }
     }
 
-    Terminal[] input;
-    int inputScan = 0;
+    /**
+     * The terminals scanned from the input.  Terminals are scanned on
+     * demand and kept only while they might be read again, so the memory
+     * used does not grow with the length of the input.  A lookahead backs
+     * up one terminal and may read arbitrarily far ahead, and error
+     * recovery reads <code>ERROR_LOOKAHEAD</code> terminals ahead; the
+     * buffer grows to hold the longest such window.  The buffer is shared
+     * by a driver and its clones.
+     */
+    private static class Input {
+        ParserImpl parser;
 
-    private Terminal scanInput() throws IOException {
-        if (input == null) {
-            ArrayList<Terminal> ts = new ArrayList<Terminal>(4096);
+        /** Ring buffer of terminals; the length is a power of 2. */
+        Terminal[] buf;
+
+        /** Position of the first terminal in the buffer. */
+        int start;
+
+        /** Position after the last terminal scanned. */
+        int end;
+
+        /** True if the scanner has no more terminals. */
+        boolean done;
+
+        Input(ParserImpl parser) {
+            this.parser = parser;
+            this.buf = new Terminal[4 * ERROR_LOOKAHEAD];
+        }
+
+        /**
+         * Return the terminal at position <code>i</code>, or null if
+         * <code>i</code> is past the end of the input.
+         */
+        Terminal get(int i) {
+            assert i >= start : "terminal " + i + " was released";
+
+            while (i >= end) {
+                if (done) {
+                    return null;
+                }
+                scan();
+            }
+
+            return buf[i & (buf.length-1)];
+        }
+
+        private void scan() {
+            Terminal t;
 
             try {
-                while (true) {
-                    Terminal t = parser.scanTerminal();
-                    if (t instanceof EOF) {
-                        break;
-                    }
-                    ts.add(t);
+                t = parser.scanTerminal();
+                if (t instanceof EOF) {
+                    done = true;
+                    return;
                 }
             }
             catch (EOFException e) {
-                ts.add(eof);
+                done = true;
+                return;
             }
             catch (IOException e) {
-                ts.add(new ExceptionTerminal(e));
+                // Report the exception when the parser reaches it.
+                t = new ExceptionTerminal(e);
+                done = true;
             }
 
-            input = ts.toArray(new Terminal[ts.size()]);
+            if (end - start == buf.length) {
+                Terminal[] b = new Terminal[buf.length * 2];
+                for (int i = start; i < end; i++) {
+                    b[i & (b.length-1)] = buf[i & (buf.length-1)];
+                }
+                buf = b;
+            }
+
+            buf[end & (buf.length-1)] = t;
+            end++;
         }
 
-        if (inputScan < input.length) {
-            Terminal t = input[inputScan];
-            if (t instanceof ExceptionTerminal) {
-                throw ((ExceptionTerminal) t).exception();
+        /** Discard the terminals before position <code>i</code>. */
+        void release(int i) {
+            for (; start < i && start < end; start++) {
+                buf[start & (buf.length-1)] = null;
             }
-            inputScan++;
-            return t;
         }
-        else {
+    }
+
+    /**
+     * The input of an incremental parse, read from the text of the session
+     * rather than scanned by the parser.  Any terminal can be read at any
+     * time, so the terminals are not buffered.
+     */
+    private static class TextInput extends Input {
+        CharSequence text;
+        int[] terminalTable;
+        int eofSymbol;
+
+        /** The furthest position read, or -1. */
+        int maxRead = -1;
+
+        TextInput(ParserImpl parser, CharSequence text, int[] terminalTable) {
+            super(parser);
+            this.text = text;
+            this.terminalTable = terminalTable;
+            this.eofSymbol = parser.eofSymbol();
+        }
+
+        Terminal get(int i) {
+            if (i > maxRead) {
+                maxRead = i;
+            }
+
+            if (i >= text.length()) {
+                return null;
+            }
+
+            // Check the character as Util.scanChar does.
+            char ch = text.charAt(i);
+
+            if (ch >= terminalTable.length || terminalTable[ch] == eofSymbol) {
+                return new ExceptionTerminal(new IOException("unexpected character " + ch));
+            }
+
+            return new CharTerminal(terminalTable[ch], ch);
+        }
+
+        /**
+         * Return the symbol of the terminal at position <code>i</code>
+         * without creating the terminal, or -1 if the character there
+         * cannot be scanned.
+         */
+        int peek(int i) {
+            if (i > maxRead) {
+                maxRead = i;
+            }
+
+            if (i >= text.length()) {
+                return eofSymbol;
+            }
+
+            char ch = text.charAt(i);
+
+            if (ch >= terminalTable.length || terminalTable[ch] == eofSymbol) {
+                return -1;
+            }
+
+            return terminalTable[ch];
+        }
+
+        void release(int i) {
+        }
+    }
+
+    Input input;
+    int inputScan = 0;
+
+    /**
+     * The incremental parse session attached to the parser, or null.
+     * If not null, the input is read from the text of the session.
+     */
+    IncrementalParse session;
+
+    /**
+     * True if the subtrees parsed on the LR stack are recorded in the
+     * session, to be reused by the next parse.
+     */
+    private boolean recording;
+
+    private Terminal scanInput() throws IOException {
+        if (input == null) {
+            input = new Input(parser);
+        }
+
+        Terminal t = input.get(inputScan);
+
+        if (t == null) {
             return eof;
         }
+
+        if (t instanceof ExceptionTerminal) {
+            throw ((ExceptionTerminal) t).exception();
+        }
+
+        inputScan++;
+
+        if (! lookahead) {
+            // Keep the current terminal for lookaheads, which back up
+            // one terminal; the lookaheads are run before the next scan.
+            input.release(inputScan-1);
+        }
+
+        return t;
     }
 
     private Terminal scan() throws IOException {
@@ -188,6 +363,18 @@ public class GLRDriver implements Cloneable {
     /** The topmost nodes in the GSS. */
     ArrayList<Node> topmost;
 
+    /** The topmost nodes before the last shift, reused by doShifts. */
+    ArrayList<Node> prevTopmost;
+
+    /**
+     * For each rule, the round of reductions in which it was last
+     * reduced.  Used to check merges.
+     */
+    int[] reduced;
+
+    /** The current round of reductions. */
+    int reducedStamp;
+
     /** A node in the graph-structured stack (GSS) */
     protected static class Node implements Cloneable {
         public Node clone() {
@@ -205,13 +392,15 @@ public class GLRDriver implements Cloneable {
         int state;
 
         /** Number of links into the node.  This is used to determine when to
-         * recompute the deterministic depths for the entire GSS. */ 
+         * recompute the deterministic depths of the topmost nodes. */ 
         int refcount;
 
         /**
          * Deterministic depth of the node.  This is the number of
          * links that can be traversed before reaching a node with
-         * out-degree &gt; 1.
+         * out-degree &gt; 1, plus one if the traversal reaches a node
+         * with no links.  Depths of at least the longest rule are not
+         * distinguished.
          */
         int depth;   
 
@@ -221,6 +410,12 @@ public class GLRDriver implements Cloneable {
         /* Head of a list of links to the node's children. */
         Link out;     
 
+        /**
+         * The rules whose lookahead failed at the current terminal, which
+         * are not reduced from the node, or null.
+         */
+        int[] failedLookaheads;
+
         public Node(int state, int rule) {
             this.state = state;
             this.rule = rule;
@@ -282,12 +477,7 @@ public class GLRDriver implements Cloneable {
         }
 
         Object run() {
-            if (terminal instanceof CharTerminal)
-                return ((CharTerminal) terminal).val;
-            if (terminal instanceof ByteTerminal)
-                return ((ByteTerminal) terminal).val;
-            assert false : "unexpected terminal " + terminal;
-            return null;
+            return terminalValue(terminal);
         }
 
         public String toString() {
@@ -295,6 +485,16 @@ public class GLRDriver implements Cloneable {
         }
     }
 
+    /** Return the semantic value of a terminal. */
+    static Object terminalValue(Terminal terminal) {
+        if (terminal instanceof CharTerminal)
+            return ((CharTerminal) terminal).val;
+        if (terminal instanceof ByteTerminal)
+            return ((ByteTerminal) terminal).val;
+        assert false : "unexpected terminal " + terminal;
+        return null;
+    }
+
     protected class SemanticAction extends Action {
         int rule;
         Action[] children;
@@ -319,6 +519,37 @@ public class GLRDriver implements Cloneable {
                 System.out.println("run: " + this);
             }
 
+            sval = apply();
+
+            // Set children to null to indicate that we've run
+            // And to permit the tree to be collected.
+            children = null;
+
+            // The other derivations of the same symbol over the same
+            // input are packed into the ambiguous list.  Merge their
+            // values if the values are mergeable; otherwise, keep this
+            // derivation.  Since values are cached, subtrees shared by
+            // the derivations are run only once.
+            if (ambiguous != null && sval instanceof Mergeable) {
+                Object other = ambiguous.run();
+
+                if (other instanceof Mergeable) {
+                    sval = ((Mergeable) sval).merge((Mergeable) other);
+                }
+            }
+
+            if ((DEBUG & DEBUG_ACTIONS) != 0) {
+                System.out.println("run: " + this + " returning " + sval);
+            }
+
+            return sval;
+        }
+
+        /**
+         * Run the actions of the children and then the semantic action of
+         * the rule, and return its value.
+         */
+        Object apply() {
             // Run the children actions, building arguments to pass
             // to the semantic action function.
             // Actions for children should be run in the same order
@@ -361,17 +592,7 @@ public class GLRDriver implements Cloneable {
             //            else
 
             // Apply the semantic action.
-            sval = parser.semanticAction(rule, svals);
-
-            // Set children to null to indicate that we've run
-            // And to permit the tree to be collected.
-            children = null;
-
-            if ((DEBUG & DEBUG_ACTIONS) != 0) {
-                System.out.println("run: " + this + " returning " + sval);
-            }
-
-            return sval;
+            return parser.semanticAction(rule, svals);
         }
 
         public String toString() {
@@ -394,6 +615,29 @@ public class GLRDriver implements Cloneable {
         }
     }
 
+    /**
+     * The semantic action of an entry of the LR stack, which runs the
+     * actions logged for the entry.
+     */
+    protected class LoggedAction extends SemanticAction {
+        /** The entries of the log that compute the value. */
+        int start, end;
+
+        LoggedAction(int rule, int start, int end) {
+            super(rule, new Action[0]);
+            this.start = start;
+            this.end = end;
+        }
+
+        Object apply() {
+            return replay(start, end);
+        }
+
+        public String toString() {
+            return "logged(rule #" + rule + ": " + start + ".." + end + ")";
+        }
+    }
+
     private int editDistance(List<Terminal> continuation, Terminal[] lookahead, int n) {
         int[][] m = new int[continuation.size()+1][n+1];
 
@@ -638,19 +882,7 @@ public class GLRDriver implements Cloneable {
             return;
         }
 
-        actionMap = new int[actionTable.length][actionTable[0].length+1];
-
-        for (int i = 0; i < actionTable.length; i++) {
-            int j = 0;
-            for (int b = 0; b < actionTable[i].length; b++) {
-                int e = actionTable[i][b];
-                int action = action(e);
-                if (action == SHIFT || action == REDUCE) {
-                    actionMap[i][j++] = b;
-                }
-            }
-            actionMap[i][j] = -1;
-        }
+        actionMap = tables.actionMap();
     }
 
     List<Terminal> repairString;
@@ -760,11 +992,9 @@ public class GLRDriver implements Cloneable {
     private Terminal[] initLookahead() {
         Terminal[] lookahead = new Terminal[ERROR_LOOKAHEAD];
         for (int i = 0; i < ERROR_LOOKAHEAD; i++) {
-            lookahead[i] = eof;
+            Terminal t = input.get(inputScan+i);
+            lookahead[i] = t != null ? t : eof;
         }
-        // idea
-        // copy src, dst 
-        System.arraycopy(input, inputScan, lookahead, 0, Math.min(ERROR_LOOKAHEAD, input.length - inputScan));
         return lookahead;
     }
 
@@ -772,8 +1002,366 @@ public class GLRDriver implements Cloneable {
     private boolean fatalError;
     private EOF eof;
 
+    /*
+     * The LR stack.  While the GSS has a single top node, the parser
+     * pushes states on this stack rather than creating GSS nodes, and logs
+     * the reduction of each rule rather than building a SemanticAction.
+     * Entry 0 is the top node of the GSS, lrBase.  When the parse is no
+     * longer deterministic, the entries above lrBase are converted to GSS
+     * nodes by lrFlush.
+     */
+    private Node lrBase;
+
+    /** Index of the top entry of the LR stack. */
+    private int lrTop;
+
+    private int[] lrStates;
+
+    /** The rule reduced to push the entry, or -1 if a terminal was shifted. */
+    private int[] lrRules;
+
+    /** The number of terminals spanned by the entry. */
+    private int[] lrSpans;
+
+    /** The end in the log of the derivation of the entry. */
+    private int[] lrEnds;
+
+    /** The subtree recorded for the entry, if recording. */
+    private IncrementalParse.Subtree[] lrTrees;
+
+    /*
+     * The log of the derivations on the LR stack, in the order the parser
+     * built them.  Shifting a terminal or reusing a subtree logs a value,
+     * and reducing a rule logs the rule, which takes the values of its
+     * right-hand side and gives the value of the rule.  The log between
+     * the ends of two adjacent entries computes the value of the upper
+     * one, and is run by replay when the entry's action is run, once the
+     * input is accepted.  So, as on the GSS, no semantic action runs
+     * before the input is accepted, and none runs if it is not.
+     */
+    private static final int LOG_TERMINAL = -1;
+    private static final int LOG_VALUE = -2;
+
+    /** The rule reduced, LOG_TERMINAL, or LOG_VALUE. */
+    private int[] lrLog;
+
+    /**
+     * The terminal shifted, the value of the subtree reused, or the subtree
+     * recorded for the rule reduced, if recording.
+     */
+    private Object[] lrLogValues;
+
+    private int lrLogLength;
+
+    /** Return the position of the terminal <code>t</code> just scanned. */
+    private int position(Terminal t) {
+        return t == eof ? inputScan : inputScan-1;
+    }
+
+    /**
+     * Parse the terminal <code>t</code> using the LR stack.  Return true if
+     * <code>t</code> was shifted.  Otherwise, the next action is not
+     * deterministic or needs the GSS, so the LR stack is flushed to the
+     * GSS and false is returned.
+     */
+    private boolean lrParse(Terminal t) {
+        boolean trace = (DEBUG & DEBUG_LOOP) != 0;
+
+        if (lrTop == 0) {
+            lrBase = (Node) topmost.get(0);
+            lrStates[0] = lrBase.state;
+            lrEnds[0] = lrLogLength;
+        }
+
+        int symbol = t.symbol();
+        int pos = position(t);
+
+        // True once t has been skipped by reusing a subtree.  The parse
+        // then continues with the symbol of the terminal at pos, without
+        // scanning it, for as long as it reuses subtrees and reduces; the
+        // rules above a run of reused subtrees are reduced without
+        // scanning the input between them.  Any other action needs the
+        // terminal, so the parser returns to scan it.
+        boolean peeked = false;
+
+        for (;;) {
+            int e = actionTable[lrStates[lrTop]][symbol];
+
+            switch (action(e)) {
+            case SHIFT: {
+                int dest = actionData(e);
+
+                if (repairLength > 0) {
+                    repairLength--;
+                }
+
+                if (recording && ! error) {
+                    // Rather than shift t, push a subtree of the previous
+                    // parse starting with t, if one can be reused.
+                    IncrementalParse.Subtree r = session.reuse(pos, lrStates[lrTop]);
+
+                    if (r != null) {
+                        int nextState = gotoTable[lrStates[lrTop]][ruleLhsIndex(ruleTable[r.rule])];
+
+                        if (trace) {
+                            System.out.println("reuse " + r + " at " + pos);
+                            System.out.println("        and goto " + nextState);
+                        }
+
+                        TextInput in = (TextInput) input;
+                        in.maxRead = Math.max(in.maxRead, pos + r.limit - 1);
+                        inputScan = pos + r.span;
+
+                        lrLog(LOG_VALUE, r.value);
+                        lrPush(nextState, r.rule, r.span);
+                        lrTrees[lrTop] = r;
+
+                        pos = inputScan;
+                        symbol = in.peek(pos);
+
+                        if (symbol < 0) {
+                            return true;
+                        }
+
+                        peeked = true;
+                        continue;
+                    }
+                }
+
+                if (peeked) {
+                    return true;
+                }
+
+                if (trace) {
+                    System.out.println("shift " + t + " to " + dest);
+                }
+
+                lrLog(LOG_TERMINAL, t);
+                lrPush(dest, -1, 1);
+
+                if (recording) {
+                    lrTrees[lrTop] = IncrementalParse.TERMINAL;
+                }
+
+                return true;
+            }
+            case REDUCE: {
+                int rule = actionData(e);
+                int rhsLength = ruleRhsLength(ruleTable[rule]);
+
+                // Merge rules and reductions that pop lrBase need the GSS.
+                if (mergeTable[rule] != 0 || rhsLength > lrTop) {
+                    if (peeked) {
+                        return true;
+                    }
+                    break;
+                }
+
+                int bottom = lrTop - rhsLength;
+                int span = 0;
+
+                for (int k = bottom+1; k <= lrTop; k++) {
+                    span += lrSpans[k];
+                }
+
+                int nextState = gotoTable[lrStates[bottom]][ruleLhsIndex(ruleTable[rule])];
+
+                if (trace) {
+                    System.out.println("reduce with rule " + rule);
+                    System.out.println("        and goto " + nextState);
+                }
+
+                if (recording) {
+                    // Record the subtree so the next parse can reuse it.
+                    // Its value is set when the log is replayed.
+                    IncrementalParse.Subtree[] children = new IncrementalParse.Subtree[rhsLength];
+                    System.arraycopy(lrTrees, bottom+1, children, 0, rhsLength);
+
+                    int limit = ((TextInput) input).maxRead + 1 - (pos - span);
+                    IncrementalParse.Subtree r = new IncrementalParse.Subtree(lrStates[bottom], rule, span, limit, children);
+
+                    lrLog(rule, r);
+                    lrTop = bottom;
+                    lrPush(nextState, rule, span);
+                    lrTrees[lrTop] = r;
+                    continue;
+                }
+
+                lrLog(rule, null);
+                lrTop = bottom;
+                lrPush(nextState, rule, span);
+                continue;
+            }
+            }
+
+            if (peeked) {
+                return true;
+            }
+
+            lrFlush(pos);
+            return false;
+        }
+    }
+
+    /** Push an entry ending at the end of the log. */
+    private void lrPush(int state, int rule, int span) {
+        if (++lrTop == lrStates.length) {
+            int n = lrStates.length * 2;
+            lrStates = Arrays.copyOf(lrStates, n);
+            lrRules = Arrays.copyOf(lrRules, n);
+            lrSpans = Arrays.copyOf(lrSpans, n);
+            lrEnds = Arrays.copyOf(lrEnds, n);
+            if (lrTrees != null) {
+                lrTrees = Arrays.copyOf(lrTrees, n);
+            }
+        }
+
+        lrStates[lrTop] = state;
+        lrRules[lrTop] = rule;
+        lrSpans[lrTop] = span;
+        lrEnds[lrTop] = lrLogLength;
+    }
+
+    private void lrLog(int rule, Object value) {
+        if (lrLogLength == lrLog.length) {
+            int n = lrLog.length * 2;
+            lrLog = Arrays.copyOf(lrLog, n);
+            lrLogValues = Arrays.copyOf(lrLogValues, n);
+        }
+
+        lrLog[lrLogLength] = rule;
+        lrLogValues[lrLogLength] = value;
+        lrLogLength++;
+    }
+
+    /**
+     * Run the semantic actions of the rules logged from <code>start</code>
+     * to <code>end</code>, and return the value they compute.
+     */
+    private Object replay(int start, int end) {
+        Object[] stack = new Object[16];
+        int top = 0;
+
+        for (int i = start; i < end; i++) {
+            int rule = lrLog[i];
+            Object v;
+
+            if (rule == LOG_TERMINAL) {
+                v = terminalValue((Terminal) lrLogValues[i]);
+            }
+            else if (rule == LOG_VALUE) {
+                v = lrLogValues[i];
+            }
+            else {
+                int rhsLength = ruleRhsLength(ruleTable[rule]);
+                Object[] svals = new Object[rhsLength];
+                top -= rhsLength;
+                System.arraycopy(stack, top, svals, 0, rhsLength);
+                Arrays.fill(stack, top, top + rhsLength, null);
+
+                v = parser.semanticAction(rule, svals);
+
+                if ((DEBUG & DEBUG_ACTIONS) != 0) {
+                    System.out.println("run: logged rule #" + rule + " returning " + v);
+                }
+
+                if (lrLogValues[i] != null) {
+                    ((IncrementalParse.Subtree) lrLogValues[i]).value = v;
+                }
+            }
+
+            // The log is replayed once.
+            lrLogValues[i] = null;
+
+            if (top == stack.length) {
+                stack = Arrays.copyOf(stack, top * 2);
+            }
+
+            stack[top++] = v;
+        }
+
+        assert top == 1;
+        return stack[0];
+    }
+
+    /**
+     * Convert the entries of the LR stack above lrBase, which end at
+     * position <code>pos</code>, to GSS nodes.
+     */
+    private void lrFlush(int pos) {
+        if (lrTop == 0) {
+            return;
+        }
+
+        Node n = lrBase;
+
+        // Position of entry k, if recording.
+        int start = pos;
+
+        if (recording) {
+            for (int k = 1; k <= lrTop; k++) {
+                start -= lrSpans[k];
+            }
+        }
+
+        for (int k = 1; k <= lrTop; k++) {
+            Action a;
+
+            if (lrRules[k] == -1) {
+                a = new TerminalAction((Terminal) lrLogValues[lrEnds[k]-1]);
+            }
+            else {
+                a = new LoggedAction(lrRules[k], lrEnds[k-1], lrEnds[k]);
+            }
+
+            if (recording) {
+                // The GSS does not keep the subtrees, so keep them in the
+                // session.
+                if (lrRules[k] != -1) {
+                    session.pushRoot(start, lrTrees[k]);
+                }
+                lrTrees[k] = null;
+                start += lrSpans[k];
+            }
+
+            Node m = new Node(lrStates[k], lrRules[k]);
+            addLink(n, m, a, lrSpans[k]);
+            n = m;
+        }
+
+        topmost.set(0, n);
+        lrTop = 0;
+        lrBase = null;
+    }
+
     // returns the set of accepting stack nodes
     public Object parse(int startState, int startSym) throws IOException {
+        if (session == null || lookahead) {
+            recording = false;
+            return parseInput(startState, startSym);
+        }
+
+        // Parse the text of the session, reusing its previous parse.
+        session.begin(startState, startSym);
+        input = new TextInput(parser, session.text(), tables.terminalTable);
+        inputScan = 0;
+        recording = true;
+
+        boolean ok = false;
+
+        try {
+            Object result = parseInput(startState, startSym);
+            ok = ! error;
+            return result;
+        }
+        finally {
+            recording = false;
+            lrTrees = null;
+            session.end(ok, startState, startSym);
+        }
+    }
+
+    private Object parseInput(int startState, int startSym) throws IOException {
         // Pre-allocate the return array of reductions().  The parser can, at
         // most, reduce using all rules at once, plus one to indicate the end.
         globalRules = new int[ruleTable.length+1];
@@ -781,10 +1369,25 @@ public class GLRDriver implements Cloneable {
         error = false;
         fatalError = false;
 
+        reduced = new int[ruleTable.length];
+        reducedStamp = 0;
+
         topmost = new ArrayList<Node>();
+        prevTopmost = new ArrayList<Node>();
         topmost.add(new Node(startState, -1));
         boolean accept = false;
 
+        lrStates = new int[64];
+        lrRules = new int[64];
+        lrSpans = new int[64];
+        lrEnds = new int[64];
+        lrTrees = recording ? new IncrementalParse.Subtree[64] : null;
+        lrTop = 0;
+
+        lrLog = new int[256];
+        lrLogValues = new Object[256];
+        lrLogLength = 0;
+
         eof = new EOF(parser.eofSymbol());
 
         SCAN: while (! accept && ! fatalError) {
@@ -809,6 +1412,14 @@ public class GLRDriver implements Cloneable {
                 }
 
                 // Do LR(1) parsing if it will be deterministic.
+                if (USE_FAST_PATH && topmost.size() == 1) {
+                    if (lrParse(t)) {
+                        continue SCAN;
+                    }
+                }
+
+                // Reduce through the top node of the GSS if the reduction
+                // is deterministic.
                 if (USE_FAST_PATH && topmost.size() == 1) {
                     Node n = (Node) topmost.get(0);
                     int e = actionTable[n.state][t.symbol()];
@@ -820,25 +1431,6 @@ public class GLRDriver implements Cloneable {
                             throw new IOException();
                         error(n, t);
                         continue SCAN;
-                    case SHIFT: {
-                        int dest = actionData(e);
-
-                        if (repairLength > 0) {
-                            repairLength--;
-                        }
-
-                        if ((DEBUG & DEBUG_LOOP) != 0) {
-                            System.out.println("shift " + t + " to " + dest);
-                        }
-
-                        Node topSib = new Node(dest, -1);
-
-                        // insert topSib into topmost;
-                        // push topSib onto stack
-                        addLink(n, topSib, new TerminalAction(t), 1);
-                        topmost.set(0, topSib);
-                        continue SCAN;
-                    }
                     case REDUCE: {
                         int rule = actionData(e);
                         int lhs = ruleLhsIndex(ruleTable[rule]);
@@ -944,6 +1536,12 @@ public class GLRDriver implements Cloneable {
             }
         }
 
+        if (lookahead && error) {
+            // No parse of the lookahead was left on the GSS.  This fails
+            // the lookahead, as an error at a single top node does above.
+            throw new IOException();
+        }
+
         if (! error && ! topmost.isEmpty()) {
             // Only nodes in an accepting state should be in topmost.
             // Get all the semantic values in all the accepting states.
@@ -967,7 +1565,7 @@ public class GLRDriver implements Cloneable {
     }
 
     private void doLookaheads(Terminal t) {
-        List<Node> prevTops = new ArrayList<Node>(topmost);
+        Node first = topmost.isEmpty() ? null : topmost.get(0);
 
         for (Iterator<Node> j = topmost.iterator(); j.hasNext(); ) {
             Node n = (Node) j.next();
@@ -976,6 +1574,8 @@ public class GLRDriver implements Cloneable {
             int action = action(entry);
             boolean remove = false;
 
+            n.failedLookaheads = null;
+
             switch (action) {
             case POS_LOOKAHEAD: {
                 int rule = actionData(entry);
@@ -995,6 +1595,8 @@ public class GLRDriver implements Cloneable {
                 // get the number of actions in this string of actions.
                 int count = overflowTable[start];
 
+                // A failed lookahead guards only the reduction of its
+                // rule; the other actions of the node remain.
                 for (int i = 0; i < count; i++) {
                     entry = overflowTable[start+1+i];
                     action = action(entry);
@@ -1002,13 +1604,13 @@ public class GLRDriver implements Cloneable {
                     case POS_LOOKAHEAD: {
                         int rule = actionData(entry);
                         if (! doLookahead(rule))
-                            remove = true;
+                            failLookahead(n, rule);
                         break;
                     }
                     case NEG_LOOKAHEAD: {
                         int rule = actionData(entry);
                         if (doLookahead(rule))
-                            remove = true;
+                            failLookahead(n, rule);
                         break;
                     }
                     }
@@ -1038,14 +1640,29 @@ public class GLRDriver implements Cloneable {
                 fatalError = true;
                 return;
             }
-            for (Iterator<Node> i = prevTops.iterator(); i.hasNext(); ) {
-                Node current = (Node) i.next();
-                error(current, t);
-                return;
+            if (first != null) {
+                error(first, t);
             }
         }
     }
 
+    /** Do not reduce <code>rule</code> from <code>n</code> at this terminal. */
+    private void failLookahead(Node n, int rule) {
+        if ((DEBUG & DEBUG_LOOP) != 0) {
+            System.out.println("Lookahead failed: Not reducing rule #" + rule + " in state " + n.state);
+        }
+
+        int[] a = n.failedLookaheads;
+        if (a == null) {
+            a = new int[1];
+        }
+        else {
+            a = Arrays.copyOf(a, a.length+1);
+        }
+        a[a.length-1] = rule;
+        n.failedLookaheads = a;
+    }
+
     private boolean doLookahead(int rule) {
         int startSym = ruleLhsIndex(ruleTable[rule]);
         int startState = lookaheadTable[rule];
@@ -1097,6 +1714,18 @@ public class GLRDriver implements Cloneable {
         return l;
     }
 
+    /** Return true if the lookahead of <code>rule</code> failed at <code>n</code>. */
+    private static boolean failedLookahead(Node n, int rule) {
+        if (n.failedLookaheads != null) {
+            for (int i = 0; i < n.failedLookaheads.length; i++) {
+                if (n.failedLookaheads[i] == rule) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     // Pre-allocate the return array of reductions.  The parser can,
     // at most, reduce using all rules at once, plus one to indicate the end.
     private int[] globalRules;
@@ -1127,7 +1756,7 @@ public class GLRDriver implements Cloneable {
             for (int i = 0; i < length; i++) {
                 entry = overflowTable[start+1+i];
                 action = action(entry);
-                if (action == REDUCE) {
+                if (action == REDUCE && ! failedLookahead(n, actionData(entry))) {
                     rules[count++] = actionData(entry);
                 }
             }
@@ -1173,12 +1802,13 @@ public class GLRDriver implements Cloneable {
     private void enqueuePaths(Node root, int depth, int rule,
             Node useTop, Node useBottom, PathQueue pathqueue) {
         enqueuePathsDFS(root, depth, rule, useTop, useBottom,
-                        pathqueue, 0, new Path(root, depth));
+                        pathqueue, 0, 0, new Path(root, depth));
     }
 
     private void enqueuePathsDFS(Node current, int depth, int rule,
             Node useTop,
-            Node useBottom, PathQueue pathqueue, int currDepth, Path p)
+            Node useBottom, PathQueue pathqueue, int currDepth, int span,
+            Path p)
     {
         if (currDepth == depth) {
             if (useTop == null && useBottom == null) {
@@ -1200,15 +1830,24 @@ public class GLRDriver implements Cloneable {
 
         for (Link l = current.out; l != null; l = l.next) {
             // Set useTop, useBottom to null to indicate the link
-            // has been seen.
+            // has been seen.  Only paths through this link have seen
+            // it, not those through its siblings.
+            Node top = useTop;
+            Node bottom = useBottom;
+
             if (current == useTop && l.bottom == useBottom) {
-                useTop = useBottom = null;
+                top = bottom = null;
+            }
+            else if (top != null && span + l.span > 0) {
+                // useTop is a topmost node, so it cannot be reached
+                // once the path spans any input.
+                continue;
             }
 
             p.path[currDepth] = l;
 
-            enqueuePathsDFS(l.bottom, depth, rule, useTop,
-                            useBottom, pathqueue, currDepth+1, p);
+            enqueuePathsDFS(l.bottom, depth, rule, top,
+                            bottom, pathqueue, currDepth+1, span + l.span, p);
         }
     }
 
@@ -1332,8 +1971,14 @@ public class GLRDriver implements Cloneable {
                 return p1.length - p2.length;
             }
 
+            // There is at most one node with a given state for each
+            // input position, so a node is identified by the span of
+            // the path to it and its state.
             for (int i = 0; i < p1.length; i++) {
                 if (p1[i].bottom != p2[i].bottom) {
+                    if (p1[i].span != p2[i].span) {
+                        return p1[i].span - p2[i].span;
+                    }
                     return p1[i].bottom.state - p2[i].bottom.state;
                 }
             }
@@ -1354,36 +1999,6 @@ public class GLRDriver implements Cloneable {
         }
     }
 
-    private int[][] decodeActionTable() {
-        String[] t = parser.encodedActionTable();
-        return (int[][]) new Decoder().decode(t);
-    }
-
-    private int[] decodeOverflowTable() {
-        String[] t = parser.encodedOverflowTable();
-        return (int[]) new Decoder().decode(t);
-    }
-
-    private int[][] decodeGotoTable() {
-        String[] t = parser.encodedGotoTable();
-        return (int[][]) new Decoder().decode(t);
-    }
-
-    private int[] decodeRuleTable() {
-        String[] t = parser.encodedRuleTable();
-        return (int[]) new Decoder().decode(t);
-    }
-
-    private int[] decodeMergeTable() {
-        String[] t = parser.encodedMergeTable();
-        return (int[]) new Decoder().decode(t);
-    }
-
-    private int[] decodeLookaheadTable() {
-        String[] t = parser.encodedLookaheadTable();
-        return (int[]) new Decoder().decode(t);
-    }
-
     // The top 3 bits of an action table entry indicate the kind of action.
     // The bottom 29 bits are of an entry e are one of the following:
     // if action(e) == SHIFT, the state to transition to after the shift
@@ -1393,7 +2008,7 @@ public class GLRDriver implements Cloneable {
     // 0 otherwise
 
     // The run-time compiler should inline these methods.
-    private static int action(int entry) {
+    static int action(int entry) {
         return entry >>> 29;
     }
 
@@ -1407,7 +2022,7 @@ public class GLRDriver implements Cloneable {
         return entry >>> 8;
     }
 
-    private static int ruleRhsLength(int entry) {
+    static int ruleRhsLength(int entry) {
         return entry & 0xff;
     }
 
@@ -1443,20 +2058,24 @@ public class GLRDriver implements Cloneable {
             }
         }
 
-        boolean[] present = new boolean[ruleTable.length];
+        // Rules reduced in this round are marked with a new stamp, so the
+        // array need not be cleared.
+        int stamp = ++reducedStamp;
 
         // don't use an iterator; path queue can grow as we iterate
         // through it.
         while (! pathqueue.isEmpty()) {
             PathQueueEntry e = pathqueue.get();
-            present[e.rule] = true;
+            reduced[e.rule] = stamp;
             reduceViaPath(e.path, e.rule, t, pathqueue);
         }
 
-        filterFailedMerges(present);
+        filterFailedMerges(stamp);
     }
 
-    private void filterFailedMerges(boolean[] present) {
+    private void filterFailedMerges(int stamp) {
+        int[] reduced = this.reduced;
+
         for (Iterator<Node> i = topmost.iterator(); i.hasNext(); ) {
             Node node = i.next();
 
@@ -1483,11 +2102,11 @@ public class GLRDriver implements Cloneable {
                 discard = true;
                 break;
             case MERGE_THIS_YES_SIBLING_NO:
-                if (present[sibling])
+                if (reduced[sibling] == stamp)
                     discard = true;
                 break;
             case MERGE_THIS_YES_SIBLING_YES:
-                if (! present[sibling])
+                if (reduced[sibling] != stamp)
                     discard = true;
                 break;
             }
@@ -1500,7 +2119,7 @@ public class GLRDriver implements Cloneable {
                                    "this yes sibling yes"
                     };
                     System.out.println("discarding reduction with rule " + rule + " failed merge with sibling " + sibling);
-                    System.out.println("  this rule present=" + present[rule] + " sibling present=" + present[sibling]);
+                    System.out.println("  this rule present=" + (reduced[rule] == stamp) + " sibling present=" + (reduced[sibling] == stamp));
                     System.out.println("  merge action = " + s[mergeAction]);
                 }
                 i.remove();
@@ -1508,34 +2127,31 @@ public class GLRDriver implements Cloneable {
         }
     }
 
-    /** Reset the deterministic depth of all nodes in the GSS reachable
-     * from current. */ 
-    private int resetDeterminsticDepth(Node current) {
-        if (current.out == null) {
-            current.depth = 1;
-            return 1;
+    /**
+     * Recompute the deterministic depth of <code>current</code> by walking
+     * down the stack.  The walk stops after the longest rule, so its cost
+     * does not depend on the size of the GSS.
+     */
+    private void resetDeterministicDepth(Node current) {
+        int max = tables.maxRhsLength;
+        int d = 0;
+        Node n = current;
+
+        while (d < max && n.out != null && n.out.next == null) {
+            n = n.out.bottom;
+            d++;
         }
-        else {
-            int m = 0;
-            for (Link l = current.out; l != null; l = l.next) {
-                int d = resetDeterminsticDepth(l.bottom);
-                if (m < d) m = d;
-            }
-            current.depth = m+1;
-            return m+1;
+
+        if (n.out == null) {
+            d++;
         }
+
+        current.depth = d;
     }
 
     private Link addLink(Node bottom, Node top, Action semAction, int span) {
         Link link = new Link(bottom, top, semAction, span);
 
-        if (top.out == null) {
-            top.depth = bottom.depth+1;
-        }
-        else {
-            resetDeterminsticDepth(top);
-        }
-
         // add link to current's list of out links
         link.next = top.out;
         top.out = link;
@@ -1543,6 +2159,24 @@ public class GLRDriver implements Cloneable {
         // bump the bottom node's ref count
         bottom.refcount++;
 
+        if (link.next == null) {
+            top.depth = bottom.depth+1;
+        }
+        else {
+            // top is no longer deterministic.  Only other topmost nodes
+            // can be above it, so if any are, recompute their depths.
+            top.depth = 0;
+
+            if (top.refcount > 0) {
+                for (int i = 0; i < topmost.size(); i++) {
+                    Node n = topmost.get(i);
+                    if (n != top) {
+                        resetDeterministicDepth(n);
+                    }
+                }
+            }
+        }
+
         return link;
     }
 
@@ -1582,7 +2216,11 @@ public class GLRDriver implements Cloneable {
     }
 
     private void doShifts(Terminal t) {
-        ArrayList<Node> prevTops = new ArrayList<Node>(topmost);
+        // Swap topmost with the list from the previous round rather than
+        // copying it.
+        ArrayList<Node> prevTops = topmost;
+        topmost = prevTopmost;
+        prevTopmost = prevTops;
 
         topmost.clear();
 
@@ -1,6 +1,17 @@
 package ibex.runtime;
 
 
-/** Marker interface for parsers. */
+/**
+ * Marker interface for parsers.
+ * <p>
+ * The semantic actions of a parser must not modify the semantic values of
+ * the symbols of their rule, since a value may be passed to more than one
+ * action.  When the input is ambiguous, the value of a symbol shared by
+ * several derivations is passed to the action of each.  When the parser
+ * reparses an edited text with an {@link IncrementalParse}, the values of
+ * the subtrees it reuses from the previous parse are passed again to the
+ * actions of the rules it reparses; if an action modified them, the result
+ * would differ from that of parsing the text from scratch.
+ */
 public interface IParser {
 }
@@ -0,0 +1,396 @@
+package ibex.runtime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * An incremental parse of a text by a character parser.  Once a parse
+ * session is attached to a parser, the rule methods of the parser read the
+ * text of the session rather than calling <code>scan()</code>.  After the
+ * text is edited, calling a rule method again reparses the text, reusing
+ * the subtrees of the previous parse of the same rule that do not depend
+ * on the edited text, and running only the semantic actions of the rules
+ * above or within the edit.
+ * <pre>
+ *     Calc c = new Calc();
+ *     IncrementalParse p = IncrementalParse.attach(c, text);
+ *     Object v = c.E();
+ *     p.edit(offset, removedLength, insertedText);
+ *     v = c.E();
+ * </pre>
+ * Since the values of reused subtrees are returned again, the semantic
+ * actions must not modify the values of their children.
+ * <p>
+ * Only subtrees parsed while the parse was deterministic are reused;
+ * nondeterministic regions and regions containing syntax errors are
+ * reparsed.  A session must not be used by multiple threads at once.
+ */
+public final class IncrementalParse {
+    /** Map from parsers to their sessions. */
+    private static final Map<ParserImpl, IncrementalParse> sessions =
+        Collections.synchronizedMap(new WeakHashMap<ParserImpl, IncrementalParse>());
+
+    /**
+     * Attach a new session for <code>text</code> to <code>parser</code>,
+     * replacing any session already attached.
+     */
+    public static IncrementalParse attach(ICharParser parser, CharSequence text) {
+        IncrementalParse p = new IncrementalParse(text);
+        sessions.put((ParserImpl) parser, p);
+        return p;
+    }
+
+    /** Detach the session of <code>parser</code>, if any. */
+    public static void detach(ICharParser parser) {
+        sessions.remove((ParserImpl) parser);
+    }
+
+    /**
+     * Return the session of <code>parser</code>, or null if none is
+     * attached or the session is already in use by another parse.
+     */
+    static IncrementalParse forParser(ParserImpl parser) {
+        if (sessions.isEmpty()) {
+            return null;
+        }
+        IncrementalParse p = sessions.get(parser);
+        if (p == null || p.busy) {
+            return null;
+        }
+        return p;
+    }
+
+    /**
+     * A subtree of a parse.  Positions in a subtree are relative to its
+     * start, so a subtree can be reused at any position.
+     */
+    static final class Subtree {
+        /** The state below the subtree on the parse stack. */
+        final int state;
+
+        /** The rule reduced, or -1 for a terminal or unparsed input. */
+        final int rule;
+
+        /** The number of characters spanned. */
+        final int span;
+
+        /**
+         * The number of characters read to parse the subtree, including
+         * lookahead past its end.
+         */
+        final int limit;
+
+        /**
+         * The semantic value, set when the semantic action of the rule is
+         * run, once the input is accepted.
+         */
+        Object value;
+
+        /** The children, or null for a terminal or unparsed input. */
+        final Subtree[] children;
+
+        Subtree(int state, int rule, int span, int limit, Subtree[] children) {
+            this.state = state;
+            this.rule = rule;
+            this.span = span;
+            this.limit = limit;
+            this.children = children;
+        }
+
+        public String toString() {
+            return "subtree(rule #" + rule + ", state " + state + ", span " + span + ")";
+        }
+    }
+
+    /** A terminal child of a subtree. */
+    static final Subtree TERMINAL = new Subtree(-1, -1, 1, 1, null);
+
+    private final StringBuilder text;
+
+    /** True while a parse of the text is running. */
+    private boolean busy;
+
+    /** The start state of the previous parse, or -1 if there is none. */
+    private int startState = -1;
+
+    /** The start symbol of the previous parse. */
+    private int startSym;
+
+    /** The top-level subtrees of the previous parse, covering its text. */
+    private Subtree[] roots;
+
+    /**
+     * True if the text has been edited since the previous parse.  The
+     * edits replaced the text in [lo, hiOld) of the previous text with the
+     * text in [lo, hiNew).
+     */
+    private boolean edited;
+    private int lo;
+    private int hiOld;
+    private int hiNew;
+
+    /** Position in the previous parse for finding reusable subtrees. */
+    private Cursor cursor;
+
+    /** The top-level subtrees of the current parse and their starts. */
+    private Subtree[] newRoots;
+    private int[] newStarts;
+    private int newCount;
+
+    private IncrementalParse(CharSequence text) {
+        this.text = new StringBuilder(text);
+    }
+
+    /** The current text. */
+    public CharSequence text() {
+        return text;
+    }
+
+    /**
+     * Replace <code>removed</code> characters of the text at
+     * <code>offset</code> with <code>inserted</code>.
+     */
+    public void edit(int offset, int removed, CharSequence inserted) {
+        if (offset < 0 || removed < 0 || offset + removed > text.length()) {
+            throw new IndexOutOfBoundsException("edit of " + removed + " characters at " + offset + " in text of length " + text.length());
+        }
+
+        text.replace(offset, offset + removed, inserted.toString());
+
+        int end = offset + removed;
+
+        if (! edited) {
+            edited = true;
+            lo = offset;
+            hiOld = end;
+            hiNew = end;
+        }
+        else {
+            // Merge with the region already edited.
+            if (end > hiNew) {
+                hiOld += end - hiNew;
+                hiNew = end;
+            }
+            if (offset < lo) {
+                lo = offset;
+            }
+        }
+
+        hiNew += inserted.length() - removed;
+    }
+
+    /**
+     * Start a parse of the text, reusing the previous parse if it was
+     * from the same start state.
+     */
+    void begin(int startState, int startSym) {
+        busy = true;
+
+        if (roots != null && this.startState == startState && this.startSym == startSym) {
+            cursor = new Cursor(roots);
+        }
+        else {
+            cursor = null;
+        }
+
+        newRoots = new Subtree[16];
+        newStarts = new int[16];
+        newCount = 0;
+    }
+
+    /**
+     * Finish the parse.  If <code>ok</code>, the subtrees recorded replace
+     * those of the previous parse.  Otherwise, the previous parse and the
+     * edits since it are kept for the next parse.
+     */
+    void end(boolean ok, int startState, int startSym) {
+        busy = false;
+        cursor = null;
+
+        if (ok) {
+            this.startState = startState;
+            this.startSym = startSym;
+            this.roots = cover(newRoots, newStarts, newCount, text.length());
+            this.edited = false;
+        }
+
+        newRoots = null;
+        newStarts = null;
+    }
+
+    /**
+     * Return a subtree of the previous parse that can be reused at position
+     * <code>pos</code> of the text when the parser is in state
+     * <code>state</code>, or null if there is none.  The positions passed to
+     * successive calls must not decrease.
+     */
+    Subtree reuse(int pos, int state) {
+        if (cursor == null) {
+            return null;
+        }
+
+        int old;
+
+        if (! edited) {
+            old = pos;
+        }
+        else if (pos < lo) {
+            old = pos;
+        }
+        else if (pos >= hiNew) {
+            old = pos - hiNew + hiOld;
+        }
+        else {
+            return null;
+        }
+
+        return cursor.find(old, state, this);
+    }
+
+    /**
+     * Return true if the subtree <code>t</code> at position <code>old</code>
+     * of the previous text does not depend on the edited text.
+     */
+    boolean unchanged(int old, Subtree t) {
+        return ! edited || old + t.limit <= lo || old >= hiOld;
+    }
+
+    /**
+     * Add <code>t</code> at <code>start</code> to the top-level subtrees,
+     * removing the subtrees it contains.  The parser adds the subtrees on
+     * its stack when it converts the stack to a GSS, which it does before
+     * accepting the input, so the top-level subtrees cover the accepted
+     * parse.
+     */
+    void pushRoot(int start, Subtree t) {
+        int n = newCount;
+
+        if (t.span > 0) {
+            while (n > 0 && newStarts[n-1] >= start) {
+                newRoots[--n] = null;
+            }
+        }
+
+        if (n == newStarts.length) {
+            newRoots = Arrays.copyOf(newRoots, n * 2);
+            newStarts = Arrays.copyOf(newStarts, n * 2);
+        }
+
+        newRoots[n] = t;
+        newStarts[n] = start;
+        newCount = n + 1;
+    }
+
+    /**
+     * Return the first <code>n</code> subtrees of <code>l</code>, starting at <code>starts</code>,
+     * with the input not covered by them, up to <code>length</code>,
+     * as unparsed subtrees.
+     */
+    private static Subtree[] cover(Subtree[] l, int[] starts, int n, int length) {
+        ArrayList<Subtree> a = new ArrayList<Subtree>(n * 2 + 1);
+        int pos = 0;
+
+        for (int i = 0; i < n; i++) {
+            Subtree t = l[i];
+
+            if (starts[i] > pos) {
+                a.add(unparsed(starts[i] - pos));
+            }
+
+            a.add(t);
+            pos = starts[i] + t.span;
+        }
+
+        if (length > pos) {
+            a.add(unparsed(length - pos));
+        }
+
+        return a.toArray(new Subtree[a.size()]);
+    }
+
+    private static Subtree unparsed(int span) {
+        return new Subtree(-1, -1, span, span, null);
+    }
+
+    /** Iterates over the subtrees of a parse in order of position. */
+    private static final class Cursor {
+        /** The siblings of the current subtree. */
+        Subtree[] items;
+
+        /** The index of the current subtree in items. */
+        int index;
+
+        /** The position of the current subtree. */
+        int pos;
+
+        /** The items and index of the parents of the current subtree. */
+        Subtree[][] itemStack = new Subtree[16][];
+        int[] indexStack = new int[16];
+        int depth;
+
+        Cursor(Subtree[] roots) {
+            items = roots;
+        }
+
+        /**
+         * Return the outermost subtree at position <code>old</code>
+         * parsed in state <code>state</code> that is unchanged, or null.
+         */
+        Subtree find(int old, int state, IncrementalParse p) {
+            while (items != null) {
+                if (index == items.length) {
+                    pop();
+                    continue;
+                }
+
+                Subtree t = items[index];
+
+                if (pos + t.span <= old) {
+                    // Skip the subtree.
+                    pos += t.span;
+                    index++;
+                    continue;
+                }
+
+                if (pos == old && t.state == state && t.rule != -1 && p.unchanged(pos, t)) {
+                    return t;
+                }
+
+                if (t.children == null) {
+                    return null;
+                }
+
+                // Look for a smaller subtree.
+                push(t.children);
+            }
+
+            return null;
+        }
+
+        private void push(Subtree[] children) {
+            int n = depth++;
+            if (n == indexStack.length) {
+                itemStack = Arrays.copyOf(itemStack, n * 2);
+                indexStack = Arrays.copyOf(indexStack, n * 2);
+            }
+            itemStack[n] = items;
+            indexStack[n] = index;
+            items = children;
+            index = 0;
+        }
+
+        private void pop() {
+            if (depth == 0) {
+                items = null;
+                return;
+            }
+            int n = --depth;
+            items = itemStack[n];
+            itemStack[n] = null;
+            index = indexStack[n] + 1;
+        }
+    }
+}
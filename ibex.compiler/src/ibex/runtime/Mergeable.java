@@ -1,5 +1,11 @@
 package ibex.runtime;
 
+/**
+ * A semantic value that can be merged with the value of another derivation
+ * of the same symbol over the same input.  When the input is ambiguous, the
+ * parser merges the values of the derivations if they are
+ * <code>Mergeable</code>, and otherwise keeps one of them.
+ */
 public interface Mergeable {
     Mergeable merge(Mergeable o);
 }
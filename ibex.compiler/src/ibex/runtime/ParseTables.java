@@ -0,0 +1,115 @@
+package ibex.runtime;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The decoded parse tables of a generated parser.  Decoding the tables
+ * is expensive, so they are decoded once per parser class and shared by
+ * all the drivers for that class, including drivers running in different
+ * threads.  The tables must not be modified.
+ */
+final class ParseTables {
+    /** Map from parser classes to their tables. */
+    private static final Map<Class<?>, ParseTables> tables = new WeakHashMap<Class<?>, ParseTables>();
+
+    /**
+     * Return the tables of <code>parser</code>, decoding them if no parser
+     * of its class has been run before.
+     */
+    static ParseTables forParser(ParserImpl parser) {
+        Class<?> c = parser.getClass();
+
+        synchronized (tables) {
+            ParseTables t = tables.get(c);
+            if (t != null) {
+                return t;
+            }
+        }
+
+        // Decode outside the lock.  If another thread decodes the tables
+        // of the same class concurrently, the first to finish wins.
+        ParseTables t = new ParseTables(parser);
+
+        synchronized (tables) {
+            ParseTables u = tables.get(c);
+            if (u != null) {
+                return u;
+            }
+            tables.put(c, t);
+            return t;
+        }
+    }
+
+    /** @see GLRDriver#actionTable */
+    final int[][] actionTable;
+
+    /** @see GLRDriver#overflowTable */
+    final int[] overflowTable;
+
+    /** @see GLRDriver#gotoTable */
+    final int[][] gotoTable;
+
+    /** @see GLRDriver#ruleTable */
+    final int[] ruleTable;
+
+    /** @see GLRDriver#mergeTable */
+    final int[] mergeTable;
+
+    /** @see GLRDriver#lookaheadTable */
+    final int[] lookaheadTable;
+
+    /** Map from characters to terminal symbols, used by the scanner. */
+    final int[] terminalTable;
+
+    /** The length of the longest right-hand side of a rule. */
+    final int maxRhsLength;
+
+    /**
+     * For each state, the terminals that can be shifted or reduced in it,
+     * terminated by -1.  Used only for error recovery, so it is built
+     * lazily.
+     */
+    private int[][] actionMap;
+
+    private ParseTables(ParserImpl parser) {
+        actionTable = (int[][]) decode(parser.encodedActionTable());
+        overflowTable = (int[]) decode(parser.encodedOverflowTable());
+        gotoTable = (int[][]) decode(parser.encodedGotoTable());
+        ruleTable = (int[]) decode(parser.encodedRuleTable());
+        mergeTable = (int[]) decode(parser.encodedMergeTable());
+        lookaheadTable = (int[]) decode(parser.encodedLookaheadTable());
+        terminalTable = (int[]) decode(parser.encodedTerminalTable());
+
+        int m = 0;
+        for (int i = 0; i < ruleTable.length; i++) {
+            m = Math.max(m, GLRDriver.ruleRhsLength(ruleTable[i]));
+        }
+        maxRhsLength = m;
+    }
+
+    private static Object decode(String[] t) {
+        return new Decoder().decode(t);
+    }
+
+    synchronized int[][] actionMap() {
+        if (actionMap == null) {
+            int[][] m = new int[actionTable.length][actionTable[0].length+1];
+
+            for (int i = 0; i < actionTable.length; i++) {
+                int j = 0;
+                for (int b = 0; b < actionTable[i].length; b++) {
+                    int action = GLRDriver.action(actionTable[i][b]);
+                    if (action == GLRDriver.SHIFT || action == GLRDriver.REDUCE) {
+                        m[i][j++] = b;
+                    }
+                }
+                m[i][j] = -1;
+            }
+
+            actionMap = m;
+        }
+
+        return actionMap;
+    }
+}
@@ -16,9 +16,12 @@ public class Util {
         return new ByteTerminal(map[ch & 0xff], ch);
     }
     
+    /**
+     * Return the terminal table of <code>parser</code>.  The table is
+     * shared by all parsers of the same class and must not be modified.
+     */
     public static int[] decodeTerminalTable(ParserImpl parser) {
-        String[] t = parser.encodedTerminalTable();
-        return (int[]) new Decoder().decode(t);
+        return ParseTables.forParser(parser).terminalTable;
     }
     
 
@@ -0,0 +1,311 @@
+import java.io.*;
+import java.util.*;
+
+import ibex.runtime.Mergeable;
+
+/**
+ * Checks the parses of the grammars in Ambiguity.ibex.  The semantic value
+ * of a symbol is the set of its derivations, each written as the rule
+ * number followed by the values of the right-hand side, and their number.
+ * The derivations packed on one link are merged, so the value of the parse
+ * is every derivation of the input: a derivation that is dropped or reduced
+ * twice changes the count, and one reduced over the wrong children changes
+ * the derivations.  The expected derivations were enumerated independently
+ * of the parser.
+ * <p>
+ * The checks are then run again in a JVM in which the driver parses only
+ * on the GSS, without its LR fast path, and each parse must give the same
+ * value and run as many semantic actions as on the fast path.
+ * <p>
+ * Usage: <code>AmbiguityTest</code>; exits with status 1 if a check fails.
+ * <code>AmbiguityTest -parses</code> instead lists the parses of the
+ * checks.
+ */
+public class AmbiguityTest extends Ambiguity {
+    /** Derivations are listed only for inputs with at most this many. */
+    static final int MAX_LISTED = 20;
+
+    /** The derivations of a symbol over part of the input. */
+    static class Forest implements Mergeable {
+        long count;
+        SortedSet<String> derivations;
+
+        Forest(long count, SortedSet<String> derivations) {
+            this.count = count;
+            this.derivations = count <= MAX_LISTED ? derivations : null;
+        }
+
+        public Mergeable merge(Mergeable o) {
+            Forest that = (Forest) o;
+            SortedSet<String> s = null;
+            if (derivations != null && that.derivations != null) {
+                s = new TreeSet<String>(derivations);
+                s.addAll(that.derivations);
+            }
+            return new Forest(count + that.count, s);
+        }
+    }
+
+    AmbiguityTest(String input) {
+        this.input = input;
+    }
+
+    /** The number of semantic actions run. */
+    static int actions;
+
+    /** The parses of the checks, with their values. */
+    static List<String> parses = new ArrayList<String>();
+
+    public Object semanticAction(int rule, Object[] args) {
+        actions++;
+
+        long count = 1;
+        List<String> prefixes = new ArrayList<String>();
+        prefixes.add("(" + rule);
+
+        for (int i = 0; i < args.length; i++) {
+            Collection<String> ds;
+
+            if (args[i] instanceof Forest) {
+                Forest f = (Forest) args[i];
+                count *= f.count;
+                ds = f.derivations;
+            }
+            else {
+                ds = Collections.singleton(String.valueOf(args[i]));
+            }
+
+            if (ds == null || prefixes == null) {
+                prefixes = null;
+                continue;
+            }
+
+            List<String> l = new ArrayList<String>();
+            for (String p : prefixes) {
+                for (String d : ds) {
+                    l.add(p + " " + d);
+                }
+            }
+            prefixes = l;
+        }
+
+        SortedSet<String> s = null;
+        if (prefixes != null) {
+            s = new TreeSet<String>();
+            for (String p : prefixes) {
+                s.add(p + ")");
+            }
+        }
+
+        return new Forest(count, s);
+    }
+
+    /** Parse <code>input</code> as <code>symbol</code>, or return null. */
+    static Forest parse(String symbol, String input) throws IOException {
+        AmbiguityTest p = new AmbiguityTest(input);
+        Object v;
+
+        // Error recovery reports on the standard streams.
+        PrintStream out = System.out;
+        PrintStream err = System.err;
+        PrintStream quiet = new PrintStream(new ByteArrayOutputStream());
+        System.setOut(quiet);
+        System.setErr(quiet);
+
+        try {
+            if (symbol.equals("E")) v = p.E();
+            else if (symbol.equals("A")) v = p.A();
+            else if (symbol.equals("B")) v = p.B();
+            else if (symbol.equals("S")) v = p.S();
+            else if (symbol.equals("P")) v = p.P();
+            else throw new IllegalArgumentException(symbol);
+        }
+        finally {
+            System.setOut(out);
+            System.setErr(err);
+        }
+
+        Forest f = (Forest) v;
+        parses.add(symbol + " \"" + input + "\": " + actions + " actions, " +
+                   (f != null ? f.count + " derivations " + f.derivations : "no parse"));
+        actions = 0;
+        return f;
+    }
+
+    static int checks;
+    static int failures;
+
+    /**
+     * Check that <code>input</code> has <code>count</code> derivations as
+     * <code>symbol</code>, and that they are <code>derivations</code> if
+     * any are given.  A count of 0 means the input does not parse.
+     */
+    static void check(String symbol, String input, long count, String... derivations) throws IOException {
+        checks++;
+
+        Forest f = parse(symbol, input);
+        long n = f != null ? f.count : 0;
+        String error = null;
+
+        if (n != count) {
+            error = n + " derivations, expected " + count;
+        }
+        else if (derivations.length > 0 &&
+                 ! new TreeSet<String>(Arrays.asList(derivations)).equals(f.derivations)) {
+            error = "derivations " + f.derivations + ", expected " + Arrays.asList(derivations);
+        }
+
+        if (error != null) {
+            failures++;
+            System.out.println(symbol + " \"" + input + "\": " + error);
+        }
+    }
+
+    /**
+     * Run the checks in a JVM in which the driver parses only on the GSS,
+     * and check that its parses are those of this JVM.
+     */
+    static void compareWithGSS() throws IOException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        ProcessBuilder pb = new ProcessBuilder(java, "-Dibex.fastpath=false",
+                                               "-classpath", System.getProperty("java.class.path"),
+                                               "AmbiguityTest", "-parses");
+        pb.redirectErrorStream(true);
+        Process p = pb.start();
+
+        List<String> gss = new ArrayList<String>();
+        BufferedReader r = new BufferedReader(new InputStreamReader(p.getInputStream()));
+        for (String s = r.readLine(); s != null; s = r.readLine()) {
+            gss.add(s);
+        }
+        r.close();
+
+        for (int i = 0; i < Math.max(parses.size(), gss.size()); i++) {
+            checks++;
+
+            String fast = i < parses.size() ? parses.get(i) : null;
+            String slow = i < gss.size() ? gss.get(i) : null;
+
+            if (fast == null || ! fast.equals(slow)) {
+                failures++;
+                System.out.println("fast path: " + fast + "; GSS only: " + slow);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        boolean list = args.length > 0 && args[0].equals("-parses");
+
+        // When listing the parses, list only them.
+        PrintStream out = System.out;
+        if (list) {
+            System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        }
+
+        // Unambiguous expressions: E ::= E '+' T | T; T ::= T '*' F | F;
+        // F ::= '0'..'9' | '(' E ')'.
+        check("E", "1+2*3", 1L,
+              "(1 (2 (4 (5 (0 1)))) + (3 (4 (5 (0 2))) * (5 (0 3))))");
+        check("E", "1*2+3", 1L,
+              "(1 (2 (3 (4 (5 (0 1))) * (5 (0 2)))) + (4 (5 (0 3))))");
+        check("E", "(1+2)*3", 1L,
+              "(2 (3 (4 (6 ( (1 (2 (4 (5 (0 1)))) + (4 (5 (0 2)))) ))) * (5 (0 3))))");
+        check("E", "1+", 0L);
+        check("E", "1+2*(3+4", 0L);
+        check("E", "(1+2)*3)", 0L);
+
+        // A ::= A '+' A | 'n': the Catalan numbers.
+        check("A", "n", 1L,
+              "(8 n)");
+        check("A", "n+n", 1L,
+              "(7 (8 n) + (8 n))");
+        check("A", "n+n+n", 2L,
+              "(7 (7 (8 n) + (8 n)) + (8 n))",
+              "(7 (8 n) + (7 (8 n) + (8 n)))");
+        check("A", "n+n+n+n", 5L,
+              "(7 (7 (7 (8 n) + (8 n)) + (8 n)) + (8 n))",
+              "(7 (7 (8 n) + (7 (8 n) + (8 n))) + (8 n))",
+              "(7 (7 (8 n) + (8 n)) + (7 (8 n) + (8 n)))",
+              "(7 (8 n) + (7 (7 (8 n) + (8 n)) + (8 n)))",
+              "(7 (8 n) + (7 (8 n) + (7 (8 n) + (8 n))))");
+        check("A", "n+n+n+n+n+n+n+n", 429L);
+        check("A", "n+n+n+n+n+n+n+n+n+n+n+n", 58786L);
+        check("A", "n+n+n+n+n+n+n+n+n+n+n+n+n+n+n+n+n+n+n+n", 1767263190L);
+
+        // B ::= B B B | C; C ::= B B | 'b'.
+        check("B", "b", 1L,
+              "(10 (12 b))");
+        check("B", "bb", 1L,
+              "(10 (11 (10 (12 b)) (10 (12 b))))");
+        check("B", "bbb", 3L,
+              "(10 (11 (10 (11 (10 (12 b)) (10 (12 b)))) (10 (12 b))))",
+              "(10 (11 (10 (12 b)) (10 (11 (10 (12 b)) (10 (12 b))))))",
+              "(9 (10 (12 b)) (10 (12 b)) (10 (12 b)))");
+        check("B", "bbbb", 10L);
+        check("B", "bbbbbbb", 654L);
+        check("B", "bbbbbbbbbbbb", 1308320L);
+
+        // S ::= Y Y Y; Y ::= X?; X ::= 'a' | 'a' 'a'.
+        check("S", "", 1L,
+              "(18 (17 (15)) (17 (15)) (17 (15)))");
+        check("S", "a", 3L,
+              "(18 (17 (15)) (17 (15)) (17 (16 (13 a))))",
+              "(18 (17 (15)) (17 (16 (13 a))) (17 (15)))",
+              "(18 (17 (16 (13 a))) (17 (15)) (17 (15)))");
+        check("S", "aa", 6L,
+              "(18 (17 (15)) (17 (15)) (17 (16 (14 a a))))",
+              "(18 (17 (15)) (17 (16 (13 a))) (17 (16 (13 a))))",
+              "(18 (17 (15)) (17 (16 (14 a a))) (17 (15)))",
+              "(18 (17 (16 (13 a))) (17 (15)) (17 (16 (13 a))))",
+              "(18 (17 (16 (13 a))) (17 (16 (13 a))) (17 (15)))",
+              "(18 (17 (16 (14 a a))) (17 (15)) (17 (15)))");
+        check("S", "aaa", 7L,
+              "(18 (17 (15)) (17 (16 (13 a))) (17 (16 (14 a a))))",
+              "(18 (17 (15)) (17 (16 (14 a a))) (17 (16 (13 a))))",
+              "(18 (17 (16 (13 a))) (17 (15)) (17 (16 (14 a a))))",
+              "(18 (17 (16 (13 a))) (17 (16 (13 a))) (17 (16 (13 a))))",
+              "(18 (17 (16 (13 a))) (17 (16 (14 a a))) (17 (15)))",
+              "(18 (17 (16 (14 a a))) (17 (15)) (17 (16 (13 a))))",
+              "(18 (17 (16 (14 a a))) (17 (16 (13 a))) (17 (15)))");
+        check("S", "aaaa", 6L,
+              "(18 (17 (15)) (17 (16 (14 a a))) (17 (16 (14 a a))))",
+              "(18 (17 (16 (13 a))) (17 (16 (13 a))) (17 (16 (14 a a))))",
+              "(18 (17 (16 (13 a))) (17 (16 (14 a a))) (17 (16 (13 a))))",
+              "(18 (17 (16 (14 a a))) (17 (15)) (17 (16 (14 a a))))",
+              "(18 (17 (16 (14 a a))) (17 (16 (13 a))) (17 (16 (13 a))))",
+              "(18 (17 (16 (14 a a))) (17 (16 (14 a a))) (17 (15)))");
+        check("S", "aaaaa", 3L,
+              "(18 (17 (16 (13 a))) (17 (16 (14 a a))) (17 (16 (14 a a))))",
+              "(18 (17 (16 (14 a a))) (17 (16 (13 a))) (17 (16 (14 a a))))",
+              "(18 (17 (16 (14 a a))) (17 (16 (14 a a))) (17 (16 (13 a))))");
+        check("S", "aaaaaa", 1L,
+              "(18 (17 (16 (14 a a))) (17 (16 (14 a a))) (17 (16 (14 a a))))");
+        check("S", "aaaaaaa", 0L);
+
+        // P ::= ['x'* 'y'] 'x'* 'y' | 'x'* 'z'.  The lookahead guards only
+        // the first alternative.
+        check("P", "xxxy", 1L,
+              "(27 (24 (23)) (25 (20 (20 (20 (19) x) x) x)) y)");
+        check("P", "y", 1L,
+              "(27 (24 (23)) (25 (19)) y)");
+        check("P", "xxxz", 1L,
+              "(28 (26 (20 (20 (20 (19) x) x) x)) z)");
+        check("P", "xxx", 0L);
+
+        if (list) {
+            System.setOut(out);
+            for (String s : parses) {
+                System.out.println(s);
+            }
+            return;
+        }
+
+        compareWithGSS();
+
+        System.out.println(checks + " checks, " + failures + " failed");
+
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+import java.io.*;
+import java.util.*;
+
+import ibex.runtime.IncrementalParse;
+import ibex.runtime.Mergeable;
+
+/**
+ * Checks that reparsing an edited text with an IncrementalParse gives the
+ * same result as parsing the text from scratch.  The text, a list of lines
+ * of the grammar in Incremental.ibex, is edited at random, and after each
+ * batch of edits it is parsed both ways.  The semantic value of a symbol
+ * is a hash of its derivation, so a subtree reused where it should have
+ * been reparsed changes the value.  Edits that make the text invalid are
+ * undone after the check, so the next parse reuses the tree of the last
+ * valid text.
+ * <p>
+ * Usage: <code>IncrementalTest</code>; exits with status 1 if a check
+ * fails.  <code>IncrementalTest -time</code> instead reports the time to
+ * reparse a 10000-line text after a one-character edit.
+ */
+public class IncrementalTest extends Incremental {
+    /** The hash of a derivation. */
+    static final class Value implements Mergeable {
+        final long hash;
+
+        Value(long hash) {
+            this.hash = hash;
+        }
+
+        public Mergeable merge(Mergeable o) {
+            // Sum the derivations, in either order.
+            return new Value(hash + ((Value) o).hash);
+        }
+
+        public boolean equals(Object o) {
+            return o instanceof Value && ((Value) o).hash == hash;
+        }
+
+        public int hashCode() {
+            return (int) (hash ^ (hash >>> 32));
+        }
+
+        public String toString() {
+            return "#" + Long.toHexString(hash);
+        }
+    }
+
+    public Object semanticAction(int rule, Object[] args) {
+        long h = rule + 1;
+        for (int i = 0; i < args.length; i++) {
+            Object a = args[i];
+            h = h * 1000003L + (a instanceof Value ? ((Value) a).hash : a.hashCode());
+        }
+        return new Value(h);
+    }
+
+    /**
+     * Parse <code>input</code> as <code>symbol</code> from scratch, or
+     * return null.
+     */
+    static Object parse(String symbol, String input) throws IOException {
+        IncrementalTest p = new IncrementalTest();
+        p.input = input;
+        return parse(p, symbol);
+    }
+
+    /** Parse as <code>symbol</code> with <code>p</code>, or return null. */
+    static Object parse(IncrementalTest p, String symbol) throws IOException {
+        // Error recovery reports on the standard streams.
+        PrintStream out = System.out;
+        PrintStream err = System.err;
+        PrintStream quiet = new PrintStream(new ByteArrayOutputStream());
+        System.setOut(quiet);
+        System.setErr(quiet);
+
+        try {
+            if (symbol.equals("L")) return p.L();
+            if (symbol.equals("R")) return p.R();
+            throw new IllegalArgumentException(symbol);
+        }
+        finally {
+            System.setOut(out);
+            System.setErr(err);
+        }
+    }
+
+    static Random random = new Random(1);
+
+    static String expr(int depth) {
+        if (depth > 3 || random.nextInt(3) == 0) {
+            return "" + random.nextInt(10);
+        }
+        switch (random.nextInt(3)) {
+        case 0: return expr(depth+1) + "+" + expr(depth+1);
+        case 1: return expr(depth+1) + "*" + expr(depth+1);
+        default: return "(" + expr(depth+1) + ")";
+        }
+    }
+
+    static String line() {
+        if (random.nextInt(5) == 0) {
+            StringBuilder sb = new StringBuilder("#n");
+            for (int n = random.nextInt(4); n > 0; n--) {
+                sb.append("+n");
+            }
+            return sb.append('\n').toString();
+        }
+        return expr(0) + "\n";
+    }
+
+    /** An edit of the text, which can be undone. */
+    static class Edit {
+        int offset;
+        String removed;
+        String inserted;
+
+        Edit(int offset, String removed, String inserted) {
+            this.offset = offset;
+            this.removed = removed;
+            this.inserted = inserted;
+        }
+
+        void apply(IncrementalParse p) {
+            p.edit(offset, removed.length(), inserted);
+        }
+
+        void undo(IncrementalParse p) {
+            p.edit(offset, inserted.length(), removed);
+        }
+    }
+
+    /**
+     * Return a random edit of <code>text</code>.  Most edits keep the text
+     * valid; some insert or delete any character.
+     */
+    static Edit edit(String text) {
+        int i = random.nextInt(text.length());
+        char c = text.charAt(i);
+        String s = text.substring(i, i+1);
+
+        switch (random.nextInt(10)) {
+        case 0:
+        case 1:
+            if (Character.isDigit(c)) {
+                return new Edit(i, s, "" + random.nextInt(10));
+            }
+            break;
+        case 2:
+            if (Character.isDigit(c)) {
+                return new Edit(i+1, "", (random.nextBoolean() ? "+" : "*") + random.nextInt(10));
+            }
+            break;
+        case 3:
+            if (Character.isDigit(c)) {
+                return new Edit(i, s, "(" + c + ")");
+            }
+            break;
+        case 4:
+            if (c == 'n') {
+                return new Edit(i+1, "", "+n");
+            }
+            break;
+        case 5:
+            if (c == '\n') {
+                return new Edit(i+1, "", line());
+            }
+            break;
+        case 6: {
+            // Delete the line.
+            int start = text.lastIndexOf('\n', i-1) + 1;
+            int end = text.indexOf('\n', i) + 1;
+            if (end < text.length()) {
+                return new Edit(start, text.substring(start, end), "");
+            }
+            break;
+        }
+        case 7:
+            return new Edit(i, "", "" + "0123456789+*()#n\n".charAt(random.nextInt(17)));
+        case 8:
+            return new Edit(i, s, "");
+        }
+
+        return new Edit(i, "", "");
+    }
+
+    static int checks;
+    static int failures;
+
+    /** The number of checks of valid texts. */
+    static int valid;
+
+    /**
+     * Edit a text of <code>lines</code> lines <code>steps</code> times,
+     * and check each reparse as <code>symbol</code>.
+     */
+    static void check(String symbol, int lines, int steps) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            sb.append(line());
+        }
+
+        IncrementalTest q = new IncrementalTest();
+        IncrementalParse p = IncrementalParse.attach(q, sb);
+        check(symbol, p, parse(q, symbol), 0);
+
+        for (int step = 1; step <= steps; step++) {
+            List<Edit> edits = new ArrayList<Edit>();
+            for (int n = 1 + random.nextInt(3); n > 0; n--) {
+                Edit e = edit(p.text().toString());
+                e.apply(p);
+                edits.add(e);
+            }
+
+            if (! check(symbol, p, parse(q, symbol), step)) {
+                Collections.reverse(edits);
+                for (Edit e : edits) {
+                    e.undo(p);
+                }
+            }
+        }
+    }
+
+    /**
+     * Check the value <code>v</code> of an incremental parse of the text
+     * of <code>p</code> against a parse from scratch.  Return true if the
+     * text is valid.
+     */
+    static boolean check(String symbol, IncrementalParse p, Object v, int step) throws IOException {
+        checks++;
+
+        String text = p.text().toString();
+        Object w = parse(symbol, text);
+
+        if (v == null ? w != null : ! v.equals(w)) {
+            failures++;
+            System.out.println(symbol + " after step " + step + ": " + v + ", expected " + w);
+        }
+
+        if (w == null) {
+            return false;
+        }
+
+        valid++;
+        return true;
+    }
+
+    /** Report the time to reparse after one-character edits. */
+    static void time() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            sb.append(expr(0)).append('\n');
+        }
+
+        // Build a parse tree, as an editor would.
+        Incremental q = new Incremental() {
+            public Object semanticAction(int rule, Object[] args) {
+                return args;
+            }
+        };
+
+        IncrementalParse p = IncrementalParse.attach(q, sb);
+        q.L();
+
+        int n = 3000;
+        int warmup = 1000;
+        long[] times = new long[n - warmup];
+
+        for (int k = 0; k < n; k++) {
+            String text = p.text().toString();
+            int i = random.nextInt(text.length());
+            while (! Character.isDigit(text.charAt(i))) {
+                i = (i + 1) % text.length();
+            }
+            p.edit(i, 1, "" + random.nextInt(10));
+
+            long start = System.nanoTime();
+            q.L();
+            long time = System.nanoTime() - start;
+
+            if (k >= warmup) {
+                times[k - warmup] = time;
+            }
+        }
+
+        Arrays.sort(times);
+        System.out.println(sb.length() + " characters, 10000 lines: median " +
+                           times[times.length / 2] / 1000 + " us, 90th percentile " +
+                           times[times.length * 9 / 10] / 1000 + " us");
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("-time")) {
+            time();
+            return;
+        }
+
+        check("L", 200, 400);
+        check("R", 200, 400);
+        check("L", 20, 400);
+
+        System.out.println(checks + " checks, " + valid + " of valid texts, " + failures + " failed");
+
+        // Most parses of invalid texts return null either way, so check
+        // that the edits kept enough of the texts valid.
+        if (failures > 0 || valid < checks / 2) {
+            System.exit(1);
+        }
+    }
+}
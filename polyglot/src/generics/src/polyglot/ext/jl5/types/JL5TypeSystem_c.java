@@ -1976,6 +1976,15 @@ public class JL5TypeSystem_c extends TypeSystem_c implements JL5TypeSystem {
 		return true;
 	}
 
+	/**
+	 * Declared classes and raw references to them are determined by their
+	 * definition; parameterized types, type variables and the like are not.
+	 */
+	@Override
+	protected boolean isCacheable(Type t) {
+		return t.getClass() == JL5ParsedClassType_c.class || super.isCacheable(t);
+	}
+
 	@Override
 	public boolean descendsFrom(ClassDef child, ClassDef ancestor) {
 		Context ctx = emptyContext();
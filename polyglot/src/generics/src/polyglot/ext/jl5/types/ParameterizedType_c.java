@@ -339,12 +339,9 @@ public class ParameterizedType_c extends GenericTypeRef_c implements Parameteriz
                                     new DerefSubstitutionTransform<ClassType>(ts, this));
     }
 
-    /** Return an immutable list of methods. */
     @Override
-    public List<MethodInstance> methods() {
-        return new TransformingList<MethodDef,MethodInstance>(
-                                    def().methods(),
-                                    new MethodAsSubstitutionTypeTransform(ts, this));
+    protected Transformation<MethodDef,MethodInstance> methodTransform() {
+        return new MethodAsSubstitutionTypeTransform(ts, this);
     }
 
     /** Return an immutable list of interfaces */
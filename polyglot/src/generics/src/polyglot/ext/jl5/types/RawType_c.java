@@ -72,12 +72,9 @@ public class RawType_c extends GenericTypeRef_c implements RawType {
                                                          new FieldAsErasedTypeTransform(ts, this));
     }
 
-    /** Return an immutable list of methods. */
     @Override
-    public List<MethodInstance> methods() {
-        return new TransformingList<MethodDef,MethodInstance>(
-                                    def().methods(),
-                                    new MethodAsErasedTypeTransform(ts, this));
+    protected Transformation<MethodDef,MethodInstance> methodTransform() {
+        return new MethodAsErasedTypeTransform(ts, this);
     }
 
     @Override
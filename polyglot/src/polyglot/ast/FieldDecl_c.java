@@ -241,7 +241,7 @@ public class FieldDecl_c extends Term_c implements FieldDecl {
     		  TypeChecker tc0 = new TypeChecker(v.job(), v.typeSystem(), v.nodeFactory(), v.getMemo());
     		  final TypeChecker tc = (TypeChecker) tc0.context(v.context().freeze());
     		  final Node n = this;
-    		  r.setResolver(new AbstractGoal_c("ConstantValue") {
+    		  r.setResolver(new TypeCheckFragmentGoal("ConstantValue", parent, n, tc, r, true) {
     			  public boolean runTask() {
     				  if (state() == Goal.Status.RUNNING_RECURSIVE || state() == Goal.Status.RUNNING_WILL_FAIL) {
     					  // The field is not constant if the initializer is recursive.
@@ -231,23 +231,36 @@ public abstract class Node_c implements Node
 	    return null;
 	}
 
-	List result = l;
-	List vl = new ArrayList(l.size());
-	
-	for (Iterator i = l.iterator(); i.hasNext(); ) {
+	// The new list is only allocated when an element changes, so
+	// visitors that do not change the AST allocate nothing here.
+	List vl = null;
+	int k = 0;
+
+	for (Iterator i = l.iterator(); i.hasNext(); k++) {
 	    Node n = (Node) i.next();
 	    Node m = visitChild(n, v);
-	    if (n != m) {
-	        result = vl;
+	    if (n != m && vl == null) {
+	        vl = new ArrayList(l.size());
+	        Iterator j = l.iterator();
+	        for (int c = 0; c < k; c++) {
+	            addVisited(vl, (Node) j.next());
+	        }
 	    }
-            if (m instanceof NodeList) {
-                vl.addAll(((NodeList) m).nodes());
-            } else if (m != null) {
-	        vl.add(m);
+	    if (vl != null) {
+	        addVisited(vl, m);
 	    }
 	}
 
-	return result;
+	return vl != null ? vl : l;
+    }
+
+    /** Add the result <code>m</code> of visiting a list element to <code>l</code>. */
+    private static void addVisited(List l, Node m) {
+        if (m instanceof NodeList) {
+            l.addAll(((NodeList) m).nodes());
+        } else if (m != null) {
+            l.add(m);
+        }
     }
 
     public Node visitChildren(NodeVisitor v) {
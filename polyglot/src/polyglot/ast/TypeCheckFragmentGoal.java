@@ -25,7 +25,21 @@ public class TypeCheckFragmentGoal extends AbstractGoal_c {
 	this.r = r;
 	this.mightFail = mightFail;
     }
+
+    public TypeCheckFragmentGoal(String name, Node parent, Node n, TypeChecker v, LazyRef r, boolean mightFail) {
+	super(name);
+	this.parent = parent;
+	this.n = n;
+	this.v = v;
+	this.r = r;
+	this.mightFail = mightFail;
+    }
     
+    /** Return the job whose AST the fragment belongs to. */
+    public Job job() {
+	return v.job();
+    }
+
     public List<Goal> prereqs() {
 	List<Goal> l = super.prereqs();
 	List<Goal> l2 = Collections.singletonList(v.job().extensionInfo().scheduler().PreTypeCheck(v.job()));
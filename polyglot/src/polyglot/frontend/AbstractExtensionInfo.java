@@ -17,6 +17,7 @@ import polyglot.main.Version;
 import polyglot.types.TypeSystem;
 import polyglot.types.reflect.ClassFile;
 import polyglot.util.ErrorQueue;
+import polyglot.visit.InProcessPostCompiler;
 
 /**
  * This is an abstract <code>ExtensionInfo</code>.
@@ -46,6 +47,27 @@ public abstract class AbstractExtensionInfo implements ExtensionInfo {
         return new Options(this);
     }
 
+    /**
+     * Return a new instance of this class with a copy of its options, or
+     * null if the class has no public no-argument constructor.
+     */
+    public ExtensionInfo copy() {
+        AbstractExtensionInfo ext;
+
+        try {
+            ext = getClass().newInstance();
+        }
+        catch (InstantiationException e) {
+            return null;
+        }
+        catch (IllegalAccessException e) {
+            return null;
+        }
+
+        ext.options = getOptions().copy(ext);
+        return ext;
+    }
+
     /** Return a Stats object to accumulate and report statistics. */
     public Stats getStats() {
         if (this.stats == null) {
@@ -114,6 +136,15 @@ public abstract class AbstractExtensionInfo implements ExtensionInfo {
             target_factory = new TargetFactory(getOptions().output_directory,
                                                getOptions().output_ext,
                                                getOptions().output_stdout);
+
+            // The in-process post-compiler can compile the output from
+            // memory if it need not be kept.
+            Options options = getOptions();
+            if (options.post_compile_in_process && options.post_compiler != null &&
+                ! options.keep_output_files && ! options.output_stdout &&
+                InProcessPostCompiler.isAvailable()) {
+                target_factory.keepOutputInMemory();
+            }
         }
 
         return target_factory;
@@ -8,6 +8,8 @@ import polyglot.types.LazyRef_c;
 import polyglot.util.StringUtil;
 
 public abstract class AbstractGoal_c extends LazyRef_c<Goal.Status> implements Goal {
+	private static final long serialVersionUID = -5597118285774579999L;
+
 	String name;
 	public List<Goal> prereqs;
 
@@ -0,0 +1,257 @@
+/*
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2006 Polyglot project group, Cornell University
+ *
+ */
+
+package polyglot.frontend;
+
+import java.io.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+import polyglot.main.Report;
+import polyglot.types.QName;
+
+/**
+ * A <code>BuildDatabase</code> records, for each source file compiled, a
+ * hash of its contents, the top-level classes it defines, and the classes
+ * it looked up through the system resolver.  It is saved between
+ * compilations so that a later compilation of the same sources need only
+ * compile the files that changed and the files that depend on them,
+ * directly or transitively.
+ * <p>
+ * The classes of a source file that is not recompiled are loaded from
+ * the serialized type information in their class files, so the output
+ * directory must be on the class path.  If a class file is missing, the
+ * <code>SourceClassResolver</code> falls back to compiling the source.
+ */
+public class BuildDatabase
+{
+    /**
+     * The first line of a database file.  A file that does not start with
+     * it was written by another version of the compiler and is ignored.
+     */
+    public static final String HEADER = "polyglot build database 1";
+
+    protected static class Entry {
+        String hash;
+        Set<String> defines = new TreeSet<String>();
+        Set<String> uses = new TreeSet<String>();
+    }
+
+    /** Map from canonical source path to the entry for that source. */
+    protected Map<String,Entry> entries;
+
+    /** Entries for the jobs run in the current compilation. */
+    protected Map<String,Entry> current;
+
+    protected File file;
+
+    public BuildDatabase(File file) {
+        this.file = file;
+        this.entries = new TreeMap<String,Entry>();
+        this.current = new HashMap<String,Entry>();
+        load();
+    }
+
+    /**
+     * Read the database file.  A missing or unreadable file, or one with
+     * another version's header, yields an empty database, which causes
+     * every source to be recompiled.
+     */
+    protected void load() {
+        if (! file.exists()) {
+            return;
+        }
+
+        try {
+            BufferedReader r = new BufferedReader(new FileReader(file));
+            try {
+                if (! HEADER.equals(r.readLine())) {
+                    if (Report.should_report(Report.frontend, 1))
+                        Report.report(1, "Ignoring build database " + file + " written by another version");
+                    return;
+                }
+
+                Entry e = null;
+                String line;
+                while ((line = r.readLine()) != null) {
+                    if (line.startsWith("source ")) {
+                        int sp = line.lastIndexOf(' ');
+                        e = new Entry();
+                        e.hash = line.substring(sp+1);
+                        entries.put(line.substring(7, sp), e);
+                    }
+                    else if (e != null && line.startsWith("  defines ")) {
+                        e.defines.add(line.substring(10));
+                    }
+                    else if (e != null && line.startsWith("  uses ")) {
+                        e.uses.add(line.substring(7));
+                    }
+                }
+            }
+            finally {
+                r.close();
+            }
+        }
+        catch (IOException e) {
+            if (Report.should_report(Report.frontend, 1))
+                Report.report(1, "Could not read build database " + file + ": " + e.getMessage());
+            entries.clear();
+        }
+    }
+
+    /** Write the database file. */
+    public void save() throws IOException {
+        for (Map.Entry<String,Entry> e : current.entrySet()) {
+            entries.put(e.getKey(), e.getValue());
+        }
+        current.clear();
+
+        PrintWriter w = new PrintWriter(new BufferedWriter(new FileWriter(file)));
+        try {
+            w.println(HEADER);
+            for (Map.Entry<String,Entry> e : entries.entrySet()) {
+                Entry entry = e.getValue();
+                w.println("source " + e.getKey() + " " + entry.hash);
+                for (String s : entry.defines) {
+                    w.println("  defines " + s);
+                }
+                for (String s : entry.uses) {
+                    w.println("  uses " + s);
+                }
+            }
+        }
+        finally {
+            w.close();
+        }
+    }
+
+    /**
+     * Return the subset of <code>sources</code> that must be compiled: the
+     * sources that are new or whose contents changed since the last
+     * compilation, and every recorded source that uses a class defined by
+     * one of those, transitively.
+     */
+    public Collection<Source> outOfDate(Collection<Source> sources) {
+        Set<String> changed = new HashSet<String>();
+        Map<String,Source> byPath = new LinkedHashMap<String,Source>();
+
+        for (Source s : sources) {
+            String path = s.path();
+            byPath.put(path, s);
+            Entry e = path != null ? entries.get(path) : null;
+            if (e == null || ! e.hash.equals(hash(s))) {
+                changed.add(path);
+            }
+        }
+
+        // Propagate to dependents until nothing changes.
+        Set<String> dirty = new HashSet<String>();
+        for (String path : changed) {
+            Entry e = entries.get(path);
+            if (e != null) dirty.addAll(e.defines);
+        }
+
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+            for (Map.Entry<String,Entry> e : entries.entrySet()) {
+                String path = e.getKey();
+                if (changed.contains(path)) {
+                    continue;
+                }
+                for (String used : e.getValue().uses) {
+                    if (dirty.contains(used)) {
+                        changed.add(path);
+                        dirty.addAll(e.getValue().defines);
+                        progress = true;
+                        break;
+                    }
+                }
+            }
+        }
+
+        List<Source> result = new ArrayList<Source>();
+        for (Map.Entry<String,Source> e : byPath.entrySet()) {
+            if (changed.contains(e.getKey())) {
+                result.add(e.getValue());
+            }
+            else if (Report.should_report(Report.frontend, 1)) {
+                Report.report(1, "Source " + e.getKey() + " is up to date");
+            }
+        }
+        return result;
+    }
+
+    protected Entry entryFor(Job job) {
+        if (job == null || job.source().path() == null) {
+            return null;
+        }
+        String path = job.source().path();
+        Entry e = current.get(path);
+        if (e == null) {
+            e = new Entry();
+            e.hash = hash(job.source());
+            current.put(path, e);
+        }
+        return e;
+    }
+
+    /** Record that <code>job</code> looked up the class <code>name</code>. */
+    public synchronized void recordDependency(Job job, QName name) {
+        Entry e = entryFor(job);
+        if (e != null) {
+            e.uses.add(name.toString());
+        }
+    }
+
+    /** Record that <code>job</code> defines the class <code>name</code>. */
+    public synchronized void recordDefinition(Job job, QName name) {
+        Entry e = entryFor(job);
+        if (e != null) {
+            e.defines.add(name.toString());
+        }
+    }
+
+    /**
+     * Return a hash of the contents of the source, or the empty string if
+     * it cannot be read.
+     */
+    public String hash(Source source) {
+        if (source.path() == null) {
+            return "";
+        }
+
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-1");
+            InputStream in = new FileInputStream(source.path());
+            try {
+                byte[] buf = new byte[8192];
+                int n;
+                while ((n = in.read(buf)) > 0) {
+                    md.update(buf, 0, n);
+                }
+            }
+            finally {
+                in.close();
+            }
+
+            StringBuilder sb = new StringBuilder();
+            for (byte b : md.digest()) {
+                sb.append(Integer.toHexString((b >> 4) & 0xf));
+                sb.append(Integer.toHexString(b & 0xf));
+            }
+            return sb.toString();
+        }
+        catch (IOException e) {
+            return "";
+        }
+        catch (NoSuchAlgorithmException e) {
+            return "";
+        }
+    }
+}
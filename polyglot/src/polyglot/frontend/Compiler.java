@@ -10,6 +10,7 @@ package polyglot.frontend;
 import java.io.*;
 import java.util.*;
 
+import polyglot.main.Options;
 import polyglot.types.reflect.ClassFileLoader;
 import polyglot.util.*;
 
@@ -17,6 +18,17 @@ import polyglot.util.*;
  * This is the main entry point for the compiler. It contains a work list that
  * contains entries for all classes that must be compiled (or otherwise worked
  * on).
+ * <p>
+ * Several <code>Compiler</code> instances may run at the same time in
+ * different threads of one VM, provided each has its own
+ * <code>ExtensionInfo</code> and each thread calls
+ * <code>Globals.initialize</code> with its compiler before compiling.  The
+ * type system, scheduler, resolvers and class file loader belong to a single
+ * compiler, as do the <code>Report</code> topics, which are kept in the
+ * options, and the queue debugging messages are reported to.  The only
+ * state shared between compilers is the <code>Name</code>/<code>QName</code>
+ * intern tables, interned <code>Enum</code>s and unique-id counters; these
+ * are safe to use concurrently.
  */
 public class Compiler
 {
@@ -29,6 +41,12 @@ public class Compiler
     /** The error queue handles outputting error messages. */
     private ErrorQueue eq;
 
+    /**
+     * The queue to which <code>Report</code> writes debugging messages, or
+     * null if none has been needed yet.
+     */
+    private ErrorQueue reportQueue;
+
     /**
      * Class file loader.  There should be only one of these so we can cache
      * across type systems.
@@ -41,6 +59,12 @@ public class Compiler
      */
     private Collection outputFiles = new HashSet();
 
+    /**
+     * The database of source hashes and dependencies used for incremental
+     * compilation, or null if incremental compilation is not enabled.
+     */
+    private BuildDatabase buildDatabase;
+
     /**
      * Initialize the compiler.
      *
@@ -139,31 +163,64 @@ public class Compiler
      * Return true on success. The method <code>outputFiles</code> can be
      * used to obtain the output of the compilation.  This is the main entry
      * point for the compiler, called from main().
+     * <p>
+     * With <code>-j</code>, the sources are split among several compilers
+     * that run on their own threads; see <code>compileInParallel</code>.
      */
     public boolean compile(Collection<Source> sources) {
+        return compile(sources, null);
+    }
+
+    /**
+     * Compile the sources in <code>compiled</code>, or all of
+     * <code>sources</code> if <code>compiled</code> is null.  The other
+     * sources are treated as if given on the command line, so that their
+     * classes are visible, but are only checked as far as needed to
+     * compile the rest and no output is written for them.
+     */
+    protected boolean compile(Collection<Source> sources, Collection<Source> compiled) {
 	boolean okay = false;
     
 	try {
 	    try {
-                Scheduler scheduler = sourceExtension().scheduler();
-                List<Job> jobs = new ArrayList<Job>();
-
-                // Create a job for each source file.
-                for (Source source : sources) {
-                    // Add a new SourceJob for the given source. If a Job for the source
-                    // already exists, then we will be given the existing job.
-                    Job job = scheduler.addJob(source);
-                    jobs.add(job);
+                BuildDatabase db = buildDatabase();
+                if (db != null) {
+                    sources = db.outOfDate(sources);
                 }
 
-                scheduler.setCommandLineJobs(jobs);
-
-                for (Job job : jobs) {
-                    scheduler.addDependenciesForJob(job, true);
+                if (compiled == null && canCompileInParallel(sources)) {
+                    okay = compileInParallel(sources);
+                }
+                else {
+                    Scheduler scheduler = sourceExtension().scheduler();
+                    List<Job> jobs = new ArrayList<Job>();
+                    List<Job> compiledJobs = new ArrayList<Job>();
+
+                    // Create a job for each source file.
+                    for (Source source : sources) {
+                        // Add a new SourceJob for the given source. If a Job for the source
+                        // already exists, then we will be given the existing job.
+                        Job job = scheduler.addJob(source);
+                        jobs.add(job);
+
+                        if (compiled == null || compiled.contains(source)) {
+                            compiledJobs.add(job);
+                        }
+                    }
+
+                    scheduler.setCommandLineJobs(jobs);
+
+                    if (compiled != null) {
+                        scheduler.setCompiledCommandLineJobs(compiledJobs);
+                    }
+
+                    for (Job job : jobs) {
+                        scheduler.addDependenciesForJob(job, compiledJobs.contains(job));
+                    }
+
+                    // Compile the files to completion.
+                    okay = scheduler.runToCompletion();
                 }
-
-                // Compile the files to completion.
-                okay = scheduler.runToCompletion();
 	    }
 	    catch (InternalCompilerError e) {
 		// Report it like other errors, but rethrow to get the stack trace.
@@ -191,6 +248,16 @@ public class Compiler
 
 	eq.flush();
 
+        if (okay && buildDatabase != null) {
+            try {
+                buildDatabase.save();
+            }
+            catch (IOException e) {
+                eq.enqueue(ErrorInfo.IO_ERROR, "Could not write build database: " + e.getMessage());
+                eq.flush();
+            }
+        }
+
         for (Iterator i = allExtensions.iterator(); i.hasNext(); ) {
             ExtensionInfo ext = (ExtensionInfo) i.next();
             ext.getStats().report();
@@ -199,6 +266,269 @@ public class Compiler
 	return okay;
     }
 
+    /**
+     * Stack size of the threads the compilers of <code>compileInParallel</code>
+     * run on.  It is larger than the default so that deeply nested sources
+     * compile on them as they do on the main thread.
+     */
+    protected static final long WORKER_STACK_SIZE = 64L << 20;
+
+    /**
+     * Return true if <code>sources</code> can be compiled by
+     * <code>compileInParallel</code>.  The sources must be files, and the
+     * options must not ask for output that a single compiler must produce
+     * for the whole compilation: output to stdout, a build database, or a
+     * metrics or trace file.
+     */
+    protected boolean canCompileInParallel(Collection<Source> sources) {
+        Options options = extensionInfo.getOptions();
+
+        if (options.threads <= 1 || sources.size() <= 1) {
+            return false;
+        }
+
+        if (options.output_stdout || options.incremental_db != null ||
+            options.metrics_file != null || options.trace_file != null) {
+            return false;
+        }
+
+        for (Source source : sources) {
+            if (! (source instanceof FileSource) ||
+                ! (((FileSource) source).resource() instanceof FileResource)) {
+                return false;
+            }
+        }
+
+        return extensionInfo.copy() != null;
+    }
+
+    /**
+     * Compile <code>sources</code> with <code>options.threads</code>
+     * compilers at once, each on its own thread.  The sources are dealt
+     * round-robin to the compilers.  Each compiler sees all the sources,
+     * as if given on its command line, but compiles only its own share;
+     * the rest it checks only as far as needed, as a compiler does with
+     * classes it finds on the source path.  So every goal of a source,
+     * from parsing to code generation, runs on one thread in a compiler
+     * of its own, with the barriers and the handling of recursive goals
+     * unchanged.  The price is that every compiler parses every source
+     * and prepares it for type checking.
+     * <p>
+     * The compilers do not compile sources they find on the source path.
+     * Unless <code>-commandlineonly</code> is given, the sources found by
+     * any of them are compiled in a further round, in the same way, with
+     * the sources of the earlier rounds visible.  The post-compiler runs
+     * once, on the output of every round, if all succeeded.
+     * <p>
+     * The errors of each compiler are reported in the order of the
+     * compilers, leaving out an error already reported as many times by an
+     * earlier one, since errors in the signatures of a source are found by
+     * every compiler that checks it.  The errors are those a single
+     * compiler reports, though not always in the same order, and do not
+     * depend on the order in which the threads run.  The output files are
+     * the same as a single compiler writes.  An output sink set on this
+     * compiler's target factory receives the output of every compiler,
+     * and must be safe to use from several threads.
+     */
+    protected boolean compileInParallel(Collection<Source> sources) {
+        Options options = extensionInfo.getOptions();
+        List<FileSource> visible = new ArrayList<FileSource>();
+        Map<String, Integer> reported = new HashMap<String, Integer>();
+        boolean okay = true;
+
+        for (Source source : sources) {
+            visible.add((FileSource) source);
+        }
+
+        List<FileSource> todo = new ArrayList<FileSource>(visible);
+        OutputSink sink = extensionInfo.targetFactory().outputSink();
+        ErrorQueue reportQueue = reportQueue();
+
+        while (! todo.isEmpty()) {
+            int n = Math.min(options.threads, todo.size());
+            Worker[] workers = new Worker[n];
+            Thread[] threads = new Thread[n];
+
+            for (int i = 0; i < n; i++) {
+                List<FileSource> share = new ArrayList<FileSource>();
+                for (int j = i; j < todo.size(); j += n) {
+                    share.add(todo.get(j));
+                }
+
+                workers[i] = new Worker(visible, share, sink, reportQueue);
+                threads[i] = new Thread(null, workers[i], "compiler-" + i, WORKER_STACK_SIZE);
+                threads[i].start();
+            }
+
+            for (int i = 0; i < n; i++) {
+                try {
+                    threads[i].join();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InternalCompilerError(e);
+                }
+            }
+
+            Set<FileSource> found = new LinkedHashSet<FileSource>();
+
+            for (int i = 0; i < n; i++) {
+                Worker w = workers[i];
+
+                Map<String, Integer> seen = new HashMap<String, Integer>();
+
+                for (Iterator j = w.eq.getErrors().iterator(); j.hasNext(); ) {
+                    ErrorInfo e = (ErrorInfo) j.next();
+                    String key = e.getErrorKind() + " " + e.getPosition() + " " + e.getMessage();
+                    Integer count = seen.get(key);
+                    count = count == null ? 1 : count + 1;
+                    seen.put(key, count);
+
+                    // Report the error unless an earlier compiler reported
+                    // it as many times.
+                    Integer before = reported.get(key);
+                    if (before == null || before < count) {
+                        reported.put(key, count);
+                        eq.enqueue(e);
+                    }
+                }
+
+                if (w.failure instanceof RuntimeException) {
+                    throw (RuntimeException) w.failure;
+                }
+                if (w.failure instanceof Error) {
+                    throw (Error) w.failure;
+                }
+
+                outputFiles.addAll(w.compiler.outputFiles());
+                okay &= w.okay;
+                found.addAll(w.found);
+            }
+
+            todo = new ArrayList<FileSource>();
+
+            if (! options.compile_command_line_only) {
+                for (FileSource source : found) {
+                    if (! visible.contains(source)) {
+                        todo.add(source);
+                    }
+                }
+                visible.addAll(todo);
+            }
+        }
+
+        if (okay) {
+            // Run the post-compiler on the output of all the compilers.
+            Scheduler scheduler = sourceExtension().scheduler();
+            scheduler.setCommandLineJobs(Collections.<Job>emptyList());
+            okay = scheduler.runToCompletion();
+        }
+
+        return okay;
+    }
+
+    /**
+     * A compiler for part of the sources given to
+     * <code>compileInParallel</code>, and the thread that runs it.
+     */
+    protected class Worker implements Runnable {
+        /** The sources visible to the compiler. */
+        protected List<FileSource> visible;
+
+        /** The sources to compile, a subset of <code>visible</code>. */
+        protected List<FileSource> share;
+
+        /** The sink for output rendered in memory, or null. */
+        protected OutputSink sink;
+
+        /** The queue to which the compiler reports debugging messages. */
+        protected ErrorQueue reportQueue;
+
+        /** The errors the compiler reported. */
+        protected SilentErrorQueue eq;
+
+        /** The compiler, created on the worker's thread. */
+        protected Compiler compiler;
+
+        /** The sources the compiler found on the source path. */
+        protected List<FileSource> found = new ArrayList<FileSource>();
+
+        /** True if the compiler succeeded. */
+        protected boolean okay;
+
+        /** The exception the compiler threw, if any. */
+        protected Throwable failure;
+
+        protected Worker(List<FileSource> visible, List<FileSource> share, OutputSink sink, ErrorQueue reportQueue) {
+            this.visible = visible;
+            this.share = share;
+            this.sink = sink;
+            this.reportQueue = reportQueue;
+            this.eq = new SilentErrorQueue(extensionInfo.getOptions().error_count,
+                                           extensionInfo.compilerName());
+        }
+
+        public void run() {
+            try {
+                ExtensionInfo ext = extensionInfo.copy();
+
+                // Sources found on the source path are compiled in a later
+                // round, and the post-compiler is run once by the parent.
+                Options options = ext.getOptions();
+                options.threads = 1;
+                options.compile_command_line_only = true;
+                options.post_compiler = null;
+
+                compiler = new Compiler(ext, eq);
+                compiler.setReportQueue(reportQueue);
+                Globals.initialize(compiler);
+
+                if (sink != null) {
+                    ext.targetFactory().setOutputSink(sink);
+                }
+
+                SourceLoader loader = ext.sourceLoader();
+                List<Source> sources = new ArrayList<Source>(visible.size());
+                Set<Source> compiled = new HashSet<Source>();
+
+                for (FileSource s : visible) {
+                    Source source = loader.fileSource(s.resource().file().getPath(), s.userSpecified());
+                    sources.add(source);
+                    if (share.contains(s)) {
+                        compiled.add(source);
+                    }
+                }
+
+                okay = compiler.compile(sources, compiled);
+
+                for (Job job : ext.scheduler().jobs()) {
+                    if (job.source() instanceof FileSource && ! sources.contains(job.source())) {
+                        found.add((FileSource) job.source());
+                    }
+                }
+            }
+            catch (IOException e) {
+                eq.enqueue(ErrorInfo.IO_ERROR, e.getMessage());
+            }
+            catch (ErrorLimitError e) {
+            }
+            catch (Throwable e) {
+                failure = e;
+            }
+        }
+    }
+
+    /**
+     * Get the compiler's build database, or null if incremental compilation
+     * is not enabled.
+     */
+    public BuildDatabase buildDatabase() {
+        if (buildDatabase == null && extensionInfo.getOptions().incremental_db != null) {
+            buildDatabase = new BuildDatabase(extensionInfo.getOptions().incremental_db);
+        }
+        return buildDatabase;
+    }
+
     /** Get the compiler's class file loader. */
     public ClassFileLoader loader() {
         return this.loader;
@@ -239,6 +569,22 @@ public class Compiler
 	return eq;
     }
 
+    /**
+     * Get the queue to which <code>Report</code> writes the compiler's
+     * debugging messages, by default standard error.
+     */
+    public ErrorQueue reportQueue() {
+        if (reportQueue == null) {
+            reportQueue = new SimpleErrorQueue();
+        }
+        return reportQueue;
+    }
+
+    /** Set the queue to which <code>Report</code> writes debugging messages. */
+    public void setReportQueue(ErrorQueue reportQueue) {
+        this.reportQueue = reportQueue;
+    }
+
     static {
       // FIXME: if we get an io error (due to too many files open, for example)
       // it will throw an exception. but, we won't be able to do anything with
@@ -264,6 +610,8 @@ public class Compiler
     public static CodeWriter createCodeWriter(OutputStream w, int width) {
         if (Globals.Options().use_simple_code_writer)
             return new SimpleCodeWriter(w, width);
+        else if (Globals.Options().use_linear_code_writer)
+            return new LinearCodeWriter(w, width);
         else
 	    return new OptimalCodeWriter(w, width);
     }
@@ -273,6 +621,8 @@ public class Compiler
     public static CodeWriter createCodeWriter(Writer w, int width) {
         if (Globals.Options().use_simple_code_writer)
             return new SimpleCodeWriter(w, width);
+        else if (Globals.Options().use_linear_code_writer)
+            return new LinearCodeWriter(w, width);
         else
             return new OptimalCodeWriter(w, width);
     }
@@ -38,6 +38,14 @@ public interface ExtensionInfo {
      */    
     Options getOptions();
 
+    /**
+     * Return a new extension of the same kind, not yet initialized with a
+     * compiler, with a copy of this extension's options; or null if the
+     * extension cannot be copied.  <code>Compiler</code> uses copies to
+     * compile parts of the command line on several threads.
+     */
+    ExtensionInfo copy();
+
     /**
      * Return a Stats object to accumulate and report statistics.
      */ 
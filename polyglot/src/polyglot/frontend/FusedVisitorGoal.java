@@ -0,0 +1,151 @@
+package polyglot.frontend;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import polyglot.visit.FusedVisitor;
+import polyglot.visit.NodeVisitor;
+
+/**
+ * A goal that runs the visitors of several <code>VisitorGoal</code>s over
+ * the AST of a job in a single traversal, using a <code>FusedVisitor</code>.
+ * The goals must be independent of one another.  When this goal is run,
+ * each of the fused goals that has not already been attempted succeeds or
+ * fails with it, so that goals depending on one of them need not run its
+ * visitor again.
+ * <p>
+ * The prerequisites of the fused goals are prerequisites of this goal.
+ * The scheduler should make this goal a prerequisite of each of the fused
+ * goals, so that attempting one of them attempts this goal.
+ */
+public class FusedVisitorGoal extends VisitorGoal {
+    protected List<VisitorGoal> goals;
+
+    public FusedVisitorGoal(String name, Job job, List<VisitorGoal> goals) {
+        super(name, job, fuse(job, goals));
+        this.goals = goals;
+    }
+
+    /**
+     * Return true if <code>g</code> can be fused with other goals: it must
+     * be a <code>VisitorGoal</code> that runs its visitor in the usual way,
+     * and its visitor must be one a <code>FusedVisitor</code> can run.
+     */
+    public static boolean canFuse(Goal g) {
+        if (! (g instanceof VisitorGoal) || g instanceof FusedVisitorGoal) {
+            return false;
+        }
+
+        try {
+            if (g.getClass().getMethod("runTask").getDeclaringClass() != VisitorGoal.class) {
+                return false;
+            }
+        }
+        catch (NoSuchMethodException e) {
+            return false;
+        }
+
+        NodeVisitor v = ((VisitorGoal) g).visitor();
+        return v != null && FusedVisitor.canFuse(v);
+    }
+
+    protected static NodeVisitor fuse(Job job, List<VisitorGoal> goals) {
+        List<NodeVisitor> visitors = new ArrayList<NodeVisitor>(goals.size());
+        for (VisitorGoal g : goals) {
+            visitors.add(g.visitor());
+        }
+        ExtensionInfo extInfo = job.extensionInfo();
+        return new FusedVisitor(job, extInfo.typeSystem(), extInfo.nodeFactory(), visitors);
+    }
+
+    public List<VisitorGoal> goals() {
+        return goals;
+    }
+
+    public List<Goal> prereqs() {
+        List<Goal> l = new ArrayList<Goal>(super.prereqs());
+
+        for (VisitorGoal g : goals) {
+            for (Goal p : g.prereqs()) {
+                if (p != this && ! goals.contains(p) && ! l.contains(p)) {
+                    l.add(p);
+                }
+            }
+        }
+
+        return l;
+    }
+
+    public boolean runTask() {
+        List<VisitorGoal> todo = new ArrayList<VisitorGoal>(goals.size());
+        boolean reached = true;
+
+        for (VisitorGoal g : goals) {
+            if (g.state() != Goal.Status.NEW) {
+                reached &= g.hasBeenReached();
+            }
+            else if (job().extensionInfo().getOptions().disable_passes.contains(g.name())) {
+                g.update(Goal.Status.SUCCESS);
+            }
+            else {
+                todo.add(g);
+            }
+        }
+
+        if (todo.isEmpty()) {
+            return reached;
+        }
+
+        if (dependent(todo)) {
+            return runInSequence(todo);
+        }
+
+        if (todo.size() != goals.size()) {
+            // Do not run the visitors of goals already attempted.
+            v = fuse(job(), todo);
+        }
+
+        boolean result = super.runTask();
+
+        for (VisitorGoal g : todo) {
+            g.update(result ? Goal.Status.SUCCESS : Goal.Status.FAIL);
+        }
+
+        return result;
+    }
+
+    /**
+     * Return true if one of <code>goals</code> has been made to depend on
+     * another since they were fused.
+     */
+    protected boolean dependent(List<VisitorGoal> goals) {
+        for (VisitorGoal g : goals) {
+            for (Goal p : g.prereqs()) {
+                if (goals.contains(p)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Run the visitors of <code>goals</code> one at a time, in order,
+     * stopping at the first that fails, as if they had not been fused.
+     */
+    protected boolean runInSequence(List<VisitorGoal> goals) {
+        boolean result = true;
+
+        for (VisitorGoal g : goals) {
+            if (! result) {
+                g.fail();
+                continue;
+            }
+
+            result = g.runTask();
+            g.update(result ? Goal.Status.SUCCESS : Goal.Status.FAIL);
+        }
+
+        return result;
+    }
+}
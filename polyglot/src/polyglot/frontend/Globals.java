@@ -8,6 +8,8 @@ public class Globals {
     /**
      * Thread-local Compiler object. To ensure the compiler is reentrant (and
      * thus can be embedded in Eclipse), this should be the only static field.
+     * A thread must be initialized before it runs any pass; see
+     * <code>Compiler</code> for what may be shared between threads.
      */
     private static ThreadLocal<Compiler> compiler = new ThreadLocal<Compiler>();
     
@@ -51,11 +51,12 @@ public class JLScheduler extends Scheduler {
         
         goals.add(ConformanceChecked(job));
         goals.add(ReachabilityChecked(job));
-        goals.add(ExceptionsChecked(job));
-        goals.add(ExitPathsChecked(job));
-        goals.add(InitializationsChecked(job));
-        goals.add(ConstructorCallsChecked(job));
-        goals.add(ForwardReferencesChecked(job));
+        goals.addAll(fuse("Checked", job,
+                          ExceptionsChecked(job),
+                          ExitPathsChecked(job),
+                          InitializationsChecked(job),
+                          ConstructorCallsChecked(job),
+                          ForwardReferencesChecked(job)));
         goals.add(Serialized(job));
         goals.add(CodeGenerated(job));
         goals.add(End(job));
@@ -166,13 +167,51 @@ public class JLScheduler extends Scheduler {
         return new VisitorGoal("ForwardRefsChecked", job, new FwdReferenceChecker(job, ts, nf)).intern(this);
     }
 
+    /**
+     * Return the goals to run in place of the consecutive goals
+     * <code>goals</code> of <code>job</code>.  If the goals can be fused,
+     * this is a single goal, named <code>name</code>, that runs their
+     * visitors over the AST in one traversal; each of the goals depends on
+     * it, so attempting any of them runs it.  Otherwise, the goals are
+     * returned unchanged, to be run in sequence.  The goals can be fused if
+     * each is a <code>VisitorGoal</code> that can be fused and none depends
+     * on another.
+     */
+    public List<Goal> fuse(String name, Job job, Goal... goals) {
+        List<Goal> all = Arrays.asList(goals);
+        List<VisitorGoal> l = new ArrayList<VisitorGoal>(goals.length);
+
+        for (Goal g : goals) {
+            if (! FusedVisitorGoal.canFuse(g)) {
+                return all;
+            }
+            for (Goal p : g.prereqs()) {
+                if (all.contains(p)) {
+                    return all;
+                }
+            }
+            l.add((VisitorGoal) g);
+        }
+
+        FusedVisitorGoal f = new FusedVisitorGoal(name, job, l);
+        Goal g = f.intern(this);
+
+        if (g == f) {
+            for (VisitorGoal m : l) {
+                m.addPrereq(f);
+            }
+        }
+
+        return Collections.singletonList(g);
+    }
+
     public Goal Serialized(Job job) {
     	Compiler compiler = job.extensionInfo().compiler();
     	TypeSystem ts = job.extensionInfo().typeSystem();
     	NodeFactory nf = job.extensionInfo().nodeFactory();
     	if (compiler.serializeClassInfo()) {
     		return new VisitorGoal("Serialized", job,
-    				new ClassSerializer(ts, nf, job.source().lastModified(), compiler.errorQueue(), extInfo.version())).intern(this);
+    				createSerializer(ts, nf, job.source().lastModified(), compiler.errorQueue(), extInfo.version())).intern(this);
     	}
     	else {
     		return new SourceGoal_c("Serialized", job) {
@@ -236,6 +275,8 @@ public class JLScheduler extends Scheduler {
     }
 
     protected static class LookupGlobalTypeDefAndSetFlags extends TypeObjectGoal_c<ClassDef> {
+        private static final long serialVersionUID = -2815208670321180154L;
+
         protected QName className;
         protected Flags flags;
 
@@ -13,6 +13,7 @@ import polyglot.ast.Node;
 import polyglot.ast.NodeFactory;
 import polyglot.types.TypeSystem;
 import polyglot.util.CodeWriter;
+import polyglot.visit.FlowGraphCache;
 import polyglot.visit.TypeBuilder;
 
 /**
@@ -37,6 +38,9 @@ public class Job
     /** Map for memoizing nodes during type-checking. */
     protected Map<Node,Node> nodeMemo;
 
+    /** Control flow graphs of the AST, shared by dataflow passes. */
+    protected FlowGraphCache flowGraphs;
+
     /** True if all passes run so far have been successful. */
     protected boolean status;
 
@@ -70,6 +74,14 @@ public class Job
     public void setNodeMemo(Map<Node,Node> map) {
         this.nodeMemo = map;
     }
+
+    /** Get the control flow graphs built for the state's AST. */
+    public FlowGraphCache flowGraphs() {
+        if (flowGraphs == null) {
+            flowGraphs = new FlowGraphCache();
+        }
+        return flowGraphs;
+    }
     
     public JobExt ext() {
       return ext;
@@ -82,6 +94,10 @@ public class Job
 
     /** Set the state's AST. */
     public void ast(Node ast) {
+        if (ast != this.ast && flowGraphs != null) {
+            // The cached graphs are of the old AST.
+            flowGraphs.clear();
+        }
         this.ast = ast;
     }
 
@@ -0,0 +1,58 @@
+/*
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2006 Polyglot project group, Cornell University
+ *
+ */
+
+package polyglot.frontend;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import polyglot.types.QName;
+
+/**
+ * A <code>MemoryOutputSink</code> keeps the generated code of each output
+ * file, by class name and by path.
+ */
+public class MemoryOutputSink implements OutputSink
+{
+    protected Map<QName,String> byName;
+    protected Map<String,String> byPath;
+
+    public MemoryOutputSink() {
+        this.byName = new LinkedHashMap<QName,String>();
+        this.byPath = new HashMap<String,String>();
+    }
+
+    public synchronized void output(QName className, File file, CharSequence contents) {
+        String s = contents.toString();
+        byName.put(className, s);
+        byPath.put(file.getPath(), s);
+    }
+
+    /** Return the generated code of each class, in the order generated. */
+    public synchronized Map<QName,CharSequence> outputs() {
+        return Collections.<QName,CharSequence>unmodifiableMap(new LinkedHashMap<QName,String>(byName));
+    }
+
+    /** Return the generated code for <code>className</code>, or null. */
+    public synchronized CharSequence contents(QName className) {
+        return byName.get(className);
+    }
+
+    /** Return the generated code for the output file at <code>path</code>, or null. */
+    public synchronized CharSequence contentsOfFile(String path) {
+        return byPath.get(path);
+    }
+
+    /** Discard the generated code. */
+    public synchronized void clear() {
+        byName.clear();
+        byPath.clear();
+    }
+}
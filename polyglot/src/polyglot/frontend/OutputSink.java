@@ -0,0 +1,34 @@
+/*
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2006 Polyglot project group, Cornell University
+ *
+ */
+
+package polyglot.frontend;
+
+import java.io.File;
+
+import polyglot.types.QName;
+
+/**
+ * An <code>OutputSink</code> receives the generated code when the
+ * <code>TargetFactory</code> renders output files in memory rather than
+ * writing them to disk.
+ *
+ * @see TargetFactory#setOutputSink(OutputSink)
+ */
+public interface OutputSink
+{
+    /**
+     * Receive the contents of an output file.  The contents are in a buffer
+     * that is reused once this method returns, so a sink that keeps them
+     * must copy them.
+     *
+     * @param className The fully qualified name of the class the output
+     *        file is named after.
+     * @param file The file the output would have been written to.
+     * @param contents The generated code.
+     */
+    void output(QName className, File file, CharSequence contents);
+}
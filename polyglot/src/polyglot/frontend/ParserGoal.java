@@ -23,7 +23,9 @@ import polyglot.main.Report;
 import polyglot.types.Flags;
 import polyglot.util.ErrorInfo;
 import polyglot.util.ErrorQueue;
+import polyglot.util.ForwardingErrorQueue;
 import polyglot.util.Position;
+import polyglot.visit.NodeVisitor;
 
 /**
  * A pass which runs a parser.  After parsing it stores the AST in the Job.
@@ -55,7 +57,11 @@ public class ParserGoal extends SourceGoal_c
      * with the expected name, to allow proceeding with compilation.
      */
     public boolean runTask() {
-	ErrorQueue eq = compiler.errorQueue();
+	// The parser discards the AST if its queue has errors, so give it a
+	// queue that counts only the errors in this file.  Otherwise every
+	// file parsed after an error in another would be replaced by a dummy,
+	// and which files were depended on the order they were parsed in.
+	ErrorQueue eq = new ForwardingErrorQueue(compiler.errorQueue());
         
 	FileSource source = (FileSource) job().source();
 
@@ -85,10 +91,30 @@ public class ParserGoal extends SourceGoal_c
 	    ast = createDummyAST();
 	}
 
+	Stats stats = job().extensionInfo().getStats();
+	if (stats.enabled()) {
+	    stats.recordNodes(job(), countNodes(ast));
+	}
+
 	job().ast(ast);
 	return true;
     }
 
+    /** Return the number of nodes in <code>ast</code>. */
+    protected long countNodes(Node ast) {
+	final long[] count = new long[1];
+	ast.visit(new NodeVisitor() {
+	    public boolean readOnly() {
+		return true;
+	    }
+	    public NodeVisitor enter(Node n) {
+		count[0]++;
+		return this;
+	    }
+	});
+	return count[0];
+    }
+
     public String toString() {
 	return super.toString() + "(" + job().source() + ")";
     }
@@ -9,43 +9,93 @@ package polyglot.frontend;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarFile;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import polyglot.main.Report;
-import polyglot.util.FileUtil;
 import polyglot.util.InternalCompilerError;
 
 /**
  * We implement our own class loader.  All this pain is so
  * we can define the classpath on the command line.
+ * <p>
+ * Each zip or jar file is indexed once, when first searched, by sorted
+ * tables of its entry and directory names.  The contents of each
+ * directory are listed once and cached.  Package and class probes then
+ * answer from these tables, so a name that does not exist is rejected
+ * without going to the file system.  The caches may be used by
+ * concurrent threads.
  */
 public class ResourceLoader
 {
     /**
      * Keep a cache of the zips and jars so we don't have to keep
-     * opening them from the file system.
+     * opening them from the file system.  Maps each zip or jar file to
+     * its <code>ZipIndex</code>, or to <code>not_found</code>.
      */
-    protected Map zipCache;
+    protected Map<File,Object> zipCache;
 
     /**
-     * A cache of directories found in zip files.
+     * Directory contents cache.  Maps each directory searched to the set
+     * of names it contains, or to <code>not_a_directory</code>.
      */
-    protected Set dirCache;
+    protected Map<File,Set<String>> dirContentsCache;
+
+    protected final static Object not_found = new Object();
+    protected final static Set<String> not_a_directory = Collections.<String>emptySet();
 
     /**
-     * Directory contents cache. Cache the first level of the directory
-     * so that we get less FileNotFoundExceptions
+     * The entries and directories of a zip or jar file, in sorted arrays
+     * so that a large class path does not need a hash table per entry.
+     * Names are separated by '/'.
      */
-    protected Map dirContentsCache;
+    protected static class ZipIndex {
+        protected final ZipFile zip;
+        protected final String[] entries;
+        protected final String[] dirs;
 
-    protected final static Object not_found = new Object();
+        protected ZipIndex(ZipFile zip) {
+            this.zip = zip;
+
+            List<String> entries = new ArrayList<String>(zip.size());
+            Set<String> dirs = new HashSet<String>();
+
+            for (Enumeration<? extends ZipEntry> i = zip.entries(); i.hasMoreElements(); ) {
+                String n = i.nextElement().getName();
+                entries.add(n);
+
+                int index = n.indexOf('/');
+                while (index >= 0) {
+                    dirs.add(n.substring(0, index));
+                    index = n.indexOf('/', index+1);
+                }
+            }
+
+            this.entries = entries.toArray(new String[entries.size()]);
+            this.dirs = dirs.toArray(new String[dirs.size()]);
+            Arrays.sort(this.entries);
+            Arrays.sort(this.dirs);
+        }
+
+        protected boolean hasEntry(String name) {
+            return Arrays.binarySearch(entries, name) >= 0;
+        }
+
+        protected boolean hasDir(String name) {
+            return Arrays.binarySearch(dirs, name) >= 0;
+        }
+    }
 
     public ResourceLoader() {
-        this.zipCache = new HashMap();
-        this.dirContentsCache = new HashMap();
-	this.dirCache = new HashSet();
+        this.zipCache = new HashMap<File,Object>();
+        this.dirContentsCache = new ConcurrentHashMap<File,Set<String>>();
+    }
+
+    protected static boolean isZip(File f) {
+        String name = f.getName();
+        return name.endsWith(".jar") || name.endsWith(".zip");
     }
 
     /**
@@ -58,26 +108,15 @@ public class ResourceLoader
                              name.replace('.', File.separatorChar));
         }
 
-        if (!dir.canRead())
-            return false;
-
         try {
-            if (dir.getName().endsWith(".jar") ||
-                dir.getName().endsWith(".zip")) {
-
-                if (dirCache.contains(name)) {
-		    return true;
-		}
-
-		// load the zip file, forcing the package cache to be initialized
-		// with its contents.
-                loadZip(dir);
-    		
-		return dirCache.contains(name);
+            if (isZip(dir)) {
+		// load the zip file, forcing its index to be built.
+                ZipIndex index = loadZip(dir);
+		return index.hasDir(name.replace(File.separatorChar, '/'));
 	    }
             else {
-                File f = new File(dir, name);
-                return f.isDirectory() && FileUtil.checkNameFromRoot(dir, f);
+                File f = findInDir(dir, name);
+                return f != null && dirContents(f) != null;
             }
         }
         catch (FileNotFoundException e) {
@@ -102,15 +141,10 @@ public class ResourceLoader
 	    Report.report(3, "looking in " + dir + " for " + name);
         }
 	
-        if (!dir.canRead())
-            return null;
-        
         try {
-            if (dir.getName().endsWith(".jar") ||
-                dir.getName().endsWith(".zip")) {
-
-                ZipFile zip = loadZip(dir);
-                return loadFromZip(dir, zip, name);
+            if (isZip(dir)) {
+                ZipIndex index = loadZip(dir);
+                return loadFromZip(dir, index, name);
             }
             else {
                 return loadFromFile(name, dir);
@@ -126,17 +160,17 @@ public class ResourceLoader
         return null;
     }
 
-    ZipFile loadZip(File dir) throws IOException {
+    synchronized ZipIndex loadZip(File dir) throws IOException {
         Object o = zipCache.get(dir);
         if (o != not_found) {
-            ZipFile zip = (ZipFile) o;
-            if (zip != null) {
-                return zip;
+            ZipIndex index = (ZipIndex) o;
+            if (index != null) {
+                return index;
             }
             else {
                 // the zip is not in the cache.
                 // try to get it.
-                if (!dir.exists()) {
+                if (!dir.exists() || !dir.canRead()) {
                     // record that the file does not exist,
                     zipCache.put(dir, not_found);
                 }
@@ -144,84 +178,85 @@ public class ResourceLoader
                     // get the zip and put it in the cache.
                     if (Report.should_report(verbose, 2))
                         Report.report(2, "Opening zip " + dir);
+                    ZipFile zip;
 		    if (dir.getName().endsWith(".jar")) {
 			zip = new JarFile(dir);
 		    }
 		    else {
 			zip = new ZipFile(dir);
 		    }
-		    zipCache.put(dir, zip);
-		    
-		    // Load the package cache.
-		    for (Enumeration i = zip.entries(); i.hasMoreElements(); ) {
-			ZipEntry ei = (ZipEntry) i.nextElement();
-			String n = ei.getName();
-			
-			int index = n.indexOf('/');
-			while (index >= 0) {
-			    dirCache.add(n.substring(0, index));
-			    index = n.indexOf('/', index+1);
-			}
-		    }
+
+		    index = new ZipIndex(zip);
+		    zipCache.put(dir, index);
 		    
-                    return zip;
+                    return index;
                 }
             }
         }
         throw new FileNotFoundException(dir.getAbsolutePath());
     }
 
-    Resource loadFromZip(File source, ZipFile zip, String fileName) throws IOException {
+    Resource loadFromZip(File source, ZipIndex index, String fileName) throws IOException {
 	String entryName = fileName.replace(File.separatorChar, '/');
         if (Report.should_report(verbose, 2))
-            Report.report(2, "Looking for " + entryName + " in " + zip.getName());
-        if (zip != null) {
-            ZipEntry entry = zip.getEntry(entryName);
-            if (entry != null) {
-                if (Report.should_report(verbose, 3))
-                    Report.report(3, "found zip entry " + entry);
-                Resource c = new ZipResource(source, zip, entryName);
-                return c;
-            }
+            Report.report(2, "Looking for " + entryName + " in " + index.zip.getName());
+        if (index.hasEntry(entryName)) {
+            if (Report.should_report(verbose, 3))
+                Report.report(3, "found zip entry " + entryName);
+            Resource c = new ZipResource(source, index.zip, entryName);
+            return c;
         }
         return null;
     }
 
-    Resource loadFromFile(String name, File dir) throws IOException {
-	int sepIndex = name.indexOf(File.separatorChar);
-	if (sepIndex > 0) {
-	    File newDir = new File(dir, name.substring(0, sepIndex));
-	    String newName = name.substring(sepIndex+1);
-	    return loadFromFile(newName, newDir);
-	}
-        Set dirContents = (Set) dirContentsCache.get(dir);
+    /**
+     * Return the names in the directory <code>dir</code>, or null if
+     * <code>dir</code> is not a readable directory.
+     */
+    protected Set<String> dirContents(File dir) {
+        Set<String> dirContents = dirContentsCache.get(dir);
         if (dirContents == null) {
-            dirContents = new HashSet();
-            dirContentsCache.put(dir, dirContents);
-            if (dir.exists() && dir.isDirectory()) {
-                String[] contents = dir.list();
-                if (contents != null) {
-                    for (int j = 0; j < contents.length; j++) {
-                        dirContents.add(contents[j]);
-                    }
-                }
+            String[] contents = dir.list();
+            if (contents != null) {
+                dirContents = new HashSet<String>(Arrays.asList(contents));
             }
+            else {
+                dirContents = not_a_directory;
+            }
+            dirContentsCache.put(dir, dirContents);
         }
-        
-        // otherwise, try and open the thing.
-        File file = new File(dir, name);
-        
-        if (! file.exists())
-            return null;
-        
-        String firstPart = name;
+        return dirContents != not_a_directory ? dirContents : null;
+    }
 
-        // check to see if the directory has the first part of the filename,
-        // to avoid trying to open the file if it doesn't
-        if (!dirContents.contains(firstPart)) {
+    /**
+     * Return the file <code>name</code>, a relative path, under
+     * <code>dir</code>, or null if it does not exist.  Each directory on
+     * the path is listed rather than probed, so names must match exactly,
+     * even on case-insensitive file systems.
+     */
+    protected File findInDir(File dir, String name) {
+	int sepIndex = name.indexOf(File.separatorChar);
+	String firstPart = sepIndex > 0 ? name.substring(0, sepIndex) : name;
+
+        Set<String> dirContents = dirContents(dir);
+        if (dirContents == null || ! dirContents.contains(firstPart)) {
             return null;
         }
 
+        File file = new File(dir, firstPart);
+
+	if (sepIndex > 0) {
+	    return findInDir(file, name.substring(sepIndex+1));
+	}
+
+        return file;
+    }
+
+    Resource loadFromFile(String name, File dir) throws IOException {
+        File file = findInDir(dir, name);
+
+        if (file == null)
+            return null;
 
         if (Report.should_report(verbose, 3))
             Report.report(3, "found " + file);
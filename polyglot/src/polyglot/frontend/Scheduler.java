@@ -16,6 +16,7 @@ package polyglot.frontend;
 import java.util.*;
 
 import polyglot.ast.Node;
+import polyglot.ast.TypeCheckFragmentGoal;
 import polyglot.frontend.Goal.Status;
 import polyglot.main.Report;
 import polyglot.types.*;
@@ -55,17 +56,22 @@ public abstract class Scheduler {
     // TODO: remove this, we only need to intern the goal status, not the goal itself.
     // Actually, the lazy ref to the goal status is the goal.  The run() method is the resolver for the lazy ref.
     public Goal intern(Goal goal) {
-        Globals.Stats().accumulate("intern", 1);
-        Globals.Stats().accumulate("intern:" + (goal instanceof VisitorGoal ? ((VisitorGoal) goal).v.getClass().getName() : goal.getClass().getName()), 1);
-        Goal g = internCache.get(goal);
-        if (g == null) {
-            g = goal;
-            internCache.put(g, g);
+        Stats stats = extInfo.getStats();
+        if (stats.enabled()) {
+            stats.accumulate("intern", 1);
+            stats.accumulate("intern:" + (goal instanceof VisitorGoal ? ((VisitorGoal) goal).v.getClass().getName() : goal.getClass().getName()), 1);
         }
-        else {
-            assert goal.getClass() == g.getClass();
+        synchronized (internCache) {
+            Goal g = internCache.get(goal);
+            if (g == null) {
+                g = goal;
+                internCache.put(g, g);
+            }
+            else {
+                assert goal.getClass() == g.getClass();
+            }
+            return g;
         }
-        return g;
     }
     
     /**
@@ -78,19 +84,34 @@ public abstract class Scheduler {
     protected Map<Source, Option<Job>> jobs;
     
     protected Collection<Job> commandLineJobs;
+
+    /**
+     * The command-line jobs to compile, or null to compile all of them; see
+     * <code>setCompiledCommandLineJobs</code>.
+     */
+    protected Collection<Job> compiledCommandLineJobs;
     
     /** True if any pass has failed. */
-    protected boolean failed;
+    protected volatile boolean failed;
 
     protected static final Option<Job> COMPLETED_JOB = Option.<Job>None();
 
-    /** The currently running pass, or null if no pass is running. */
-    protected Goal currentGoal;
+    /**
+     * The currently running pass on each thread, or null if no pass is
+     * running.
+     */
+    protected ThreadLocal<Goal> currentGoal = new ThreadLocal<Goal>();
+
+    /**
+     * The job of the innermost running goal that belongs to a job, on each
+     * thread; see <code>owningJob</code>.  Unlike <code>currentJob()</code>,
+     * this is not reset by goals that are not associated with a job.
+     */
+    protected ThreadLocal<Job> enclosingJob = new ThreadLocal<Job>();
     
     public Scheduler(ExtensionInfo extInfo) {
         this.extInfo = extInfo;
         this.jobs = new LinkedHashMap<Source, Option<Job>>();
-        this.currentGoal = null;
     }
     
     public Collection<Job> commandLineJobs() {
@@ -100,6 +121,16 @@ public abstract class Scheduler {
     public void setCommandLineJobs(Collection<Job> c) {
         this.commandLineJobs = Collections.unmodifiableCollection(c);
     }
+
+    /**
+     * Compile only the command-line jobs in <code>c</code>, or all of them
+     * if <code>c</code> is null.  The other command-line jobs are still
+     * run up to the command-line barrier, so that their classes are
+     * visible, and further on demand.
+     */
+    public void setCompiledCommandLineJobs(Collection<Job> c) {
+        this.compiledCommandLineJobs = c == null ? null : Collections.unmodifiableCollection(c);
+    }
     
     public boolean reached(Goal goal) {
         return goal.hasBeenReached();
@@ -134,7 +165,8 @@ public abstract class Scheduler {
     Collection<Job> shouldCompile = new LinkedHashSet<Job>();
     
     public boolean shouldCompile(Job job) {
-	if (commandLineJobs().contains(job))
+	if (commandLineJobs().contains(job) &&
+	    (compiledCommandLineJobs == null || compiledCommandLineJobs.contains(job)))
 	    return true;
         if (Globals.Options().compile_command_line_only)
             return false;
@@ -215,14 +247,43 @@ public abstract class Scheduler {
     }
     
     public Goal currentGoal() {
-    	return currentGoal;
+    	return currentGoal.get();
     }
     
     public Job currentJob() {
-    	if (currentGoal instanceof SourceGoal_c)
-    		return ((SourceGoal_c) currentGoal).job();
+    	Goal g = currentGoal.get();
+    	if (g instanceof SourceGoal_c)
+    		return ((SourceGoal_c) g).job();
     	return null;
     }
+
+    /**
+     * Return the job of the innermost running goal that belongs to a job,
+     * or null if no such goal is running.
+     */
+    public Job enclosingJob() {
+        return enclosingJob.get();
+    }
+
+    /**
+     * Return the job <code>goal</code> works on, or null if it does not
+     * belong to a job.  Besides source goals, the goals that resolve a
+     * type, signature or constant declared in a job belong to that job,
+     * even when another job's pass runs them, so that the classes they
+     * look up are recorded as dependencies of the right source.
+     */
+    protected Job owningJob(Goal goal) {
+        if (goal instanceof SourceGoal) {
+            return ((SourceGoal) goal).job();
+        }
+        if (goal instanceof TypeCheckFragmentGoal) {
+            return ((TypeCheckFragmentGoal) goal).job();
+        }
+        if (goal instanceof SetResolverGoal) {
+            return ((SetResolverGoal) goal).job();
+        }
+        return null;
+    }
     
     /**
      * Run passes until the <code>goal</code> is attempted.  Returns true iff the goal is reached.
@@ -312,21 +373,40 @@ public abstract class Scheduler {
 				    job.initialErrorCount = job.compiler().errorQueue().errorCount();
             }
             
-            Goal oldGoal = currentGoal;
-            currentGoal = goal;
-            
-            long t = System.currentTimeMillis();
-            String key = goal.toString();
+            Goal oldGoal = currentGoal.get();
+            currentGoal.set(goal);
 
-            extInfo.getStats().accumulate(key + " attempts", 1);
-            extInfo.getStats().accumulate("total goal attempts", 1);
+            Job oldJob = enclosingJob.get();
+            Job owner = owningJob(goal);
+            if (owner != null) {
+                enclosingJob.set(owner);
+            }
+            
+            Stats stats = extInfo.getStats();
+            boolean collect = stats.enabled();
+            boolean reached = false;
+            String key = null;
+            long t = 0;
+            long allocated = 0;
+
+            if (collect) {
+                key = goal.toString();
+                stats.accumulate(key + " attempts", 1);
+                stats.accumulate("total goal attempts", 1);
+                allocated = stats.allocatedBytes();
+                t = System.nanoTime();
+            }
             
             try {
                 result = goal.runTask();
 
                 if (result && goal.getCached() == Goal.Status.RUNNING) {
-                    extInfo.getStats().accumulate(key + " reached", 1);
-                    extInfo.getStats().accumulate("total goal reached", 1);
+                    reached = true;
+
+                    if (collect) {
+                        stats.accumulate(key + " reached", 1);
+                        stats.accumulate("total goal reached", 1);
+                    }
 
                     goal.update(Status.SUCCESS);
 
@@ -334,18 +414,28 @@ public abstract class Scheduler {
                         Report.report(1, "Completed pass for " + goal);
                 }
                 else {
-                    extInfo.getStats().accumulate(key + " unreached", 1);
-                    extInfo.getStats().accumulate("total goal unreached", 1);
+                    if (collect) {
+                        stats.accumulate(key + " unreached", 1);
+                        stats.accumulate("total goal unreached", 1);
+                    }
 
                     if (Report.should_report(Report.frontend, 1))
                         Report.report(1, "Completed (unreached) pass for " + goal);
                 }
             }
             finally {
-                t = System.currentTimeMillis() - t;
-                extInfo.getStats().accumulate(key, t);
+                if (collect) {
+                    long end = System.nanoTime();
+                    if (allocated >= 0) {
+                        long a = stats.allocatedBytes();
+                        allocated = a >= 0 ? a - allocated : -1;
+                    }
+                    stats.accumulate(key, (end - t) / 1000000);
+                    stats.recordPass(goal, t, end - t, allocated, reached);
+                }
 
-                currentGoal = oldGoal;
+                currentGoal.set(oldGoal);
+                enclosingJob.set(oldJob);
                 
                 if (job != null) {
 				    // We've stopped running a pass. 
@@ -459,7 +549,7 @@ public abstract class Scheduler {
     
             if (Report.should_report(Report.frontend, 4)) {
                 Report.report(4, "Adding job for " + source + " at the " +
-                    "request of goal " + currentGoal);
+                    "request of goal " + currentGoal());
             }
         }
         else {
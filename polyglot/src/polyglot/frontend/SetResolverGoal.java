@@ -13,6 +13,11 @@ public class SetResolverGoal extends AbstractGoal_c {
 		this.job = job;
 	}
 
+	/** Return the job whose AST the resolved type is declared in. */
+	public Job job() {
+		return job;
+	}
+
 	@Override
 	public List<Goal> prereqs() {
 		return Collections.singletonList(job.extensionInfo().scheduler().PreTypeCheck(job));
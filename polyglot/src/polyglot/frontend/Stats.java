@@ -7,18 +7,35 @@
 
 package polyglot.frontend;
 
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import polyglot.main.Options;
 import polyglot.main.Report;
+import polyglot.util.ErrorInfo;
+import polyglot.util.ErrorQueue;
 
 /**
  * Statistics collection and reporting object.
  * Extensions can override this to collect more stats or to change
  * reporting.
+ * <p>
+ * Statistics are collected only if they are reported with
+ * <code>-report time</code> or written to a file with <code>-metrics</code>
+ * or <code>-trace</code>; code that computes a statistic should check
+ * <code>enabled()</code> first.  With <code>-metrics</code>, the counters
+ * and the time and allocation of each pass are written as JSON.  With
+ * <code>-trace</code>, the passes are written in the Chrome trace event
+ * format, which can be loaded into <code>chrome://tracing</code>.
  */
 public class Stats
 {
@@ -26,6 +43,20 @@ public class Stats
         public long count;
     }
 
+    /** A pass run by the scheduler. */
+    protected static class Pass {
+        public String goal;
+        public String job;
+        public long thread;
+        /** Start time, in nanoseconds since the stats were created. */
+        public long start;
+        /** Running time, in nanoseconds. */
+        public long time;
+        /** Bytes allocated by the pass's thread, or -1 if unknown. */
+        public long allocated;
+        public boolean reached;
+    }
+
     /** Extension we're collecting stats for. */
     protected ExtensionInfo ext;
 
@@ -38,17 +69,88 @@ public class Stats
      */
     protected List<Object> keys = new ArrayList<Object>(20);
 
+    /** The passes run, in the order they finished. */
+    protected List<Pass> passes = new ArrayList<Pass>();
+
+    /** Map from job names to the number of nodes in their ASTs. */
+    protected Map<String,Long> nodeCounts = new HashMap<String,Long>();
+
+    /** The time the stats were created, from <code>System.nanoTime()</code>. */
+    protected long origin;
+
     public Stats(ExtensionInfo ext) {
         this.ext = ext;
+        this.origin = System.nanoTime();
+    }
+
+    /** Return true if statistics should be collected. */
+    public boolean enabled() {
+        return exporting() || Report.should_report(Report.time, 1);
+    }
+
+    /** Return true if statistics are to be written to a file. */
+    protected boolean exporting() {
+        Options options = ext.getOptions();
+        return options.metrics_file != null || options.trace_file != null;
+    }
+
+    /**
+     * Return the number of bytes allocated by the current thread, or -1 if
+     * the JVM does not count them.
+     */
+    public long allocatedBytes() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean b = (com.sun.management.ThreadMXBean) bean;
+                if (b.isThreadAllocatedMemoryEnabled()) {
+                    return b.getThreadAllocatedBytes(Thread.currentThread().getId());
+                }
+            }
+        }
+        catch (LinkageError e) {
+            // Not a HotSpot JVM.
+        }
+        catch (UnsupportedOperationException e) {
+        }
+        return -1;
+    }
+
+    /**
+     * Record that the pass for <code>goal</code> ran on the current thread
+     * from <code>start</code>, as given by <code>System.nanoTime()</code>,
+     * for <code>time</code> nanoseconds, allocating <code>allocated</code>
+     * bytes.
+     */
+    public synchronized void recordPass(Goal goal, long start, long time, long allocated, boolean reached) {
+        if (! exporting()) {
+            return;
+        }
+
+        Pass p = new Pass();
+        p.goal = goal.name();
+        p.job = goal instanceof SourceGoal ? ((SourceGoal) goal).job().toString() : null;
+        p.thread = Thread.currentThread().getId();
+        p.start = start - origin;
+        p.time = time;
+        p.allocated = allocated;
+        p.reached = reached;
+        passes.add(p);
+    }
+
+    /** Record the number of nodes in the AST of <code>job</code>. */
+    public synchronized void recordNodes(Job job, long count) {
+        nodeCounts.put(job.toString(), Long.valueOf(count));
+        accumulate("AST nodes", count);
     }
 
     /** Reset the accumulated times for a pass. */
-    public void resetCounts(Object key) {
+    public synchronized void resetCounts(Object key) {
         counts.remove(key);
     }
 
     /** Return the accumulated times for a pass. */
-    public long getCount(Object key) {
+    public synchronized long getCount(Object key) {
         Counts t = counts.get(key);
         if (t == null) {
             return 0;
@@ -58,7 +160,7 @@ public class Stats
     }
 
     /** Accumulate inclusive and exclusive times for a pass. */
-    public void accumulate(Object key, long count) {
+    public synchronized void accumulate(Object key, long count) {
         Counts t = counts.get(key);
         if (t == null) {
             keys.add(key);
@@ -69,7 +171,7 @@ public class Stats
     }
 
     /** Report the stats. */
-    public void report() {
+    public synchronized void report() {
         if (Report.should_report(Report.time, 1)) {
             Report.report(1, "\nStatistics for " + ext.compilerName() +
                           " (" + ext.getClass().getName() + ")");
@@ -83,6 +185,130 @@ public class Stats
                 Report.report(1, format(key.toString(), Long.toString(t.count)));
             }
         }
+
+        Options options = ext.getOptions();
+
+        try {
+            if (options.metrics_file != null) {
+                writeMetrics(options.metrics_file);
+            }
+            if (options.trace_file != null) {
+                writeTrace(options.trace_file);
+            }
+        }
+        catch (IOException e) {
+            ErrorQueue eq = ext.compiler().errorQueue();
+            eq.enqueue(ErrorInfo.IO_ERROR, "Could not write metrics: " + e.getMessage());
+            eq.flush();
+        }
+    }
+
+    /** Write the counters, passes and AST sizes to <code>file</code> as JSON. */
+    protected void writeMetrics(File file) throws IOException {
+        PrintWriter w = new PrintWriter(new FileWriter(file));
+
+        w.println("{");
+        w.println("  \"compiler\": " + quote(ext.compilerName()) + ",");
+
+        w.println("  \"counters\": {");
+        for (Iterator<Object> i = keys.iterator(); i.hasNext(); ) {
+            Object key = i.next();
+            w.print("    " + quote(key.toString()) + ": " + counts.get(key).count);
+            w.println(i.hasNext() ? "," : "");
+        }
+        w.println("  },");
+
+        w.println("  \"passes\": [");
+        for (Iterator<Pass> i = passes.iterator(); i.hasNext(); ) {
+            Pass p = i.next();
+            w.print("    {\"goal\": " + quote(p.goal) +
+                    ", \"job\": " + quote(p.job) +
+                    ", \"thread\": " + p.thread +
+                    ", \"startNanos\": " + p.start +
+                    ", \"nanos\": " + p.time +
+                    ", \"allocatedBytes\": " + p.allocated +
+                    ", \"reached\": " + p.reached + "}");
+            w.println(i.hasNext() ? "," : "");
+        }
+        w.println("  ],");
+
+        w.println("  \"astNodes\": {");
+        for (Iterator<Map.Entry<String,Long>> i = nodeCounts.entrySet().iterator(); i.hasNext(); ) {
+            Map.Entry<String,Long> e = i.next();
+            w.print("    " + quote(e.getKey()) + ": " + e.getValue());
+            w.println(i.hasNext() ? "," : "");
+        }
+        w.println("  }");
+
+        w.println("}");
+        w.close();
+
+        if (w.checkError()) {
+            throw new IOException("error writing " + file);
+        }
+    }
+
+    /**
+     * Write the passes to <code>file</code> in the Chrome trace event
+     * format.  Each pass is a complete event on the thread that ran it;
+     * times are in microseconds.
+     */
+    protected void writeTrace(File file) throws IOException {
+        PrintWriter w = new PrintWriter(new FileWriter(file));
+
+        w.println("{\"traceEvents\": [");
+        for (Iterator<Pass> i = passes.iterator(); i.hasNext(); ) {
+            Pass p = i.next();
+            w.print("  {\"name\": " + quote(p.goal) +
+                    ", \"cat\": \"pass\", \"ph\": \"X\", \"pid\": 1" +
+                    ", \"tid\": " + p.thread +
+                    ", \"ts\": " + micros(p.start) +
+                    ", \"dur\": " + micros(p.time) +
+                    ", \"args\": {\"job\": " + quote(p.job) +
+                    ", \"allocatedBytes\": " + p.allocated +
+                    ", \"reached\": " + p.reached + "}}");
+            w.println(i.hasNext() ? "," : "");
+        }
+        w.println("],");
+        w.println("\"displayTimeUnit\": \"ms\"}");
+        w.close();
+
+        if (w.checkError()) {
+            throw new IOException("error writing " + file);
+        }
+    }
+
+    protected static String micros(long nanos) {
+        return nanos / 1000 + "." + (nanos % 1000) / 100;
+    }
+
+    /** Return <code>s</code> as a JSON string literal. */
+    protected static String quote(String s) {
+        if (s == null) {
+            return "null";
+        }
+
+        StringBuilder sb = new StringBuilder(s.length() + 2);
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            }
+            else if (c < ' ') {
+                String hex = Integer.toHexString(c);
+                sb.append("\\u");
+                for (int j = hex.length(); j < 4; j++) {
+                    sb.append('0');
+                }
+                sb.append(hex);
+            }
+            else {
+                sb.append(c);
+            }
+        }
+        sb.append('"');
+        return sb.toString();
     }
     
     public String format(String key, String value) {
@@ -12,6 +12,8 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
 
 import polyglot.main.Report;
 import polyglot.types.Name;
@@ -20,17 +22,147 @@ import polyglot.util.CodeWriter;
 import polyglot.util.InternalCompilerError;
 import polyglot.util.UnicodeWriter;
 
-/** A <code>TargetFactory</code> is responsible for opening output files. */
+/**
+ * A <code>TargetFactory</code> is responsible for opening output files.
+ * Output files are written to disk, unless an <code>OutputSink</code> is
+ * set, in which case they are rendered in memory and passed to the sink.
+ */
 public class TargetFactory
 {
     protected File outputDirectory;
     protected String outputExtension;
     protected boolean outputStdout;
 
+    /**
+     * The sink that receives output files rendered in memory, or null if
+     * output files are written to disk.
+     */
+    protected OutputSink sink;
+
+    /** Buffers for output rendered in memory, reused across output files. */
+    protected List<StringBuilder> bufferPool;
+
     public TargetFactory(File outDir, String outExt, boolean so) {
 	outputDirectory = outDir;
 	outputExtension = outExt;
 	outputStdout = so;
+	bufferPool = new ArrayList<StringBuilder>();
+    }
+
+    /**
+     * Render output files in memory and pass them to <code>sink</code>
+     * instead of writing them to disk, or write them to disk again if
+     * <code>sink</code> is null.  Output files are still named and
+     * recorded in <code>Compiler.outputFiles()</code> as if written, so
+     * unless the in-process post-compiler is used with a
+     * <code>MemoryOutputSink</code>, the post-compiler should be disabled.
+     */
+    public void setOutputSink(OutputSink sink) {
+        this.sink = sink;
+    }
+
+    /** Return the sink for output rendered in memory, or null. */
+    public OutputSink outputSink() {
+        return sink;
+    }
+
+    /**
+     * Keep output files in memory instead of writing them to disk, unless
+     * another sink was set.  This is used when the output is only needed
+     * by an in-process post-compiler.
+     */
+    public void keepOutputInMemory() {
+        if (sink == null) {
+            sink = new MemoryOutputSink();
+        }
+    }
+
+    /**
+     * Return the contents of the output file at <code>path</code>, or null
+     * if it was not kept in memory.
+     */
+    public CharSequence outputContents(String path) {
+        if (sink instanceof MemoryOutputSink) {
+            return ((MemoryOutputSink) sink).contentsOfFile(path);
+        }
+        return null;
+    }
+
+    /**
+     * A <code>Writer</code> into a pooled buffer.  When it is closed, the
+     * contents are passed to the sink and the buffer is returned to the
+     * pool.
+     */
+    protected class SinkWriter extends Writer {
+        protected File file;
+        protected StringBuilder buffer;
+
+        protected SinkWriter(File file) {
+            this.file = file;
+            this.buffer = acquireBuffer();
+        }
+
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            if (buffer == null) {
+                throw new IOException("Output to " + file + " is closed.");
+            }
+            buffer.append(cbuf, off, len);
+        }
+
+        public void write(String str, int off, int len) throws IOException {
+            if (buffer == null) {
+                throw new IOException("Output to " + file + " is closed.");
+            }
+            buffer.append(str, off, off + len);
+        }
+
+        public void flush() {
+        }
+
+        public void close() {
+            if (buffer != null) {
+                try {
+                    sink.output(className(file), file, buffer);
+                }
+                finally {
+                    releaseBuffer(buffer);
+                    buffer = null;
+                }
+            }
+        }
+    }
+
+    protected StringBuilder acquireBuffer() {
+        synchronized (bufferPool) {
+            if (! bufferPool.isEmpty()) {
+                return bufferPool.remove(bufferPool.size() - 1);
+            }
+        }
+        return new StringBuilder(8192);
+    }
+
+    protected void releaseBuffer(StringBuilder b) {
+        b.setLength(0);
+        synchronized (bufferPool) {
+            bufferPool.add(b);
+        }
+    }
+
+    /** Return the name of the class an output file is named after. */
+    protected QName className(File outputFile) {
+        String path = outputFile.getPath();
+        String dir = outputDirectory.getPath() + File.separator;
+
+        if (path.startsWith(dir)) {
+            path = path.substring(dir.length());
+        }
+
+        int dot = path.lastIndexOf('.');
+        if (dot > path.lastIndexOf(File.separatorChar)) {
+            path = path.substring(0, dot);
+        }
+
+        return QName.make(path.replace(File.separatorChar, '.'));
     }
 
     /** Open a writer to the output file for the class in the given package. */
@@ -54,6 +186,10 @@ public class TargetFactory
 	    return new UnicodeWriter(new PrintWriter(System.out));
 	}
 
+	if (sink != null) {
+	    return new UnicodeWriter(new SinkWriter(outputFile));
+	}
+
 	if (! outputFile.getParentFile().exists()) {
 	    File parent = outputFile.getParentFile();
 	    parent.mkdirs(); // ignore return; new FileWriter will check
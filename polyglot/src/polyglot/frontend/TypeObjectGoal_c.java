@@ -10,6 +10,7 @@ import polyglot.util.TypeInputStream;
 
 public class TypeObjectGoal_c<T extends TypeObject> extends AbstractGoal_c implements
         TypeObjectGoal<T> {
+    private static final long serialVersionUID = -1495559169113722008L;
 
     Ref<T> v;
     
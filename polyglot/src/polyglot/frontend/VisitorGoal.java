@@ -59,7 +59,9 @@ public class VisitorGoal extends SourceGoal_c {
 		    return false;
 		}
 		finally {
-		    job().ast(ast);
+		    if (! v.readOnly()) {
+		        job().ast(ast);
+		    }
 		}
     }
 }
@@ -9,13 +9,16 @@ package polyglot.main;
 import java.io.File;
 import java.io.PrintStream;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import polyglot.frontend.ExtensionInfo;
+import polyglot.util.InternalCompilerError;
 
 /** 
  * This object encapsulates various polyglot options. 
  */
-public class Options {
+public class Options implements Cloneable {
     /**
      * Back pointer to the extension that owns this options
      */
@@ -41,6 +44,12 @@ public class Options {
     public boolean output_stdout = false; // whether to output to stdout
     public String post_compiler;
       // compiler to run on java output file
+
+    /**
+     * Run the post-compiler in the compiler's JVM using
+     * <code>javax.tools</code> rather than as a separate process.
+     */
+    public boolean post_compile_in_process = false;
   
     public int output_width = 80;
     public boolean fully_qualified_names = false;
@@ -65,6 +74,37 @@ public class Options {
     
     /** Use SimpleCodeWriter instead of OptimalCodeWriter */
     public boolean use_simple_code_writer = false;
+
+    /** Use LinearCodeWriter instead of OptimalCodeWriter */
+    public boolean use_linear_code_writer = false;
+
+    /**
+     * Number of threads to compile on.  The source files are split into
+     * this many parts, each compiled to the end by a separate compiler on
+     * its own thread; see <code>Compiler.compile</code>.
+     */
+    public int threads = 1;
+
+    /**
+     * File in which source hashes and dependencies are kept between
+     * compilations, or null if incremental compilation is disabled.
+     */
+    public File incremental_db = null;
+
+    /** File to which per-pass metrics are written as JSON, or null. */
+    public File metrics_file = null;
+
+    /** File to which a Chrome trace of the passes is written, or null. */
+    public File trace_file = null;
+
+    /**
+     * The report topics selected with <code>-report</code> and
+     * <code>-verbose</code>, mapped to the level to report them to.  The
+     * map is shared with copies of the options, so the compilers that
+     * <code>-j</code> starts report the same topics; see
+     * <code>Report</code>.
+     */
+    public ConcurrentMap<String, Integer> report_topics = new ConcurrentHashMap<String, Integer>();
     
     /**
      * Constructor
@@ -74,6 +114,22 @@ public class Options {
         setDefaultValues();
     }
     
+    /**
+     * Return a copy of these options for <code>extension</code>.  The
+     * copy shares the collections of the original, which must not be
+     * changed once the command line is parsed.
+     */
+    public Options copy(ExtensionInfo extension) {
+        try {
+            Options o = (Options) super.clone();
+            o.extension = extension;
+            return o;
+        }
+        catch (CloneNotSupportedException e) {
+            throw new InternalCompilerError(e);
+        }
+    }
+
     /**
      * Set default values for options
      */
@@ -240,6 +296,32 @@ public class Options {
                 } catch (NumberFormatException e) {}
                 i++;
         }
+        else if (args[i].equals("-j") || args[i].equals("-threads"))
+        {
+            i++;
+            try {
+                threads = Math.max(1, Integer.parseInt(args[i]));
+                } catch (NumberFormatException e) {}
+                i++;
+        }
+        else if (args[i].equals("-incremental"))
+        {
+            i++;
+            incremental_db = new File(args[i]);
+            i++;
+        }
+        else if (args[i].equals("-metrics"))
+        {
+            i++;
+            metrics_file = new File(args[i]);
+            i++;
+        }
+        else if (args[i].equals("-trace"))
+        {
+            i++;
+            trace_file = new File(args[i]);
+            i++;
+        }
         else if (args[i].equals("-w"))
         {
             i++;
@@ -254,6 +336,11 @@ public class Options {
             post_compiler = args[i];
             i++;
         }
+        else if (args[i].equals("-inprocess"))
+        {
+            i++;
+            post_compile_in_process = true;
+        }
         else if (args[i].equals("-stdout")) 
         {
             i++;
@@ -316,7 +403,7 @@ public class Options {
         else if (args[i].equals("-v") || args[i].equals("-verbose"))
         {
             i++;
-            Report.addTopic("verbose", 1);
+            Report.addTopic(this, "verbose", 1);
         }
         else if (args[i].equals("-report")) {
             i++;
@@ -330,7 +417,7 @@ public class Options {
                 } 
                 catch (NumberFormatException e) {}
             }
-            Report.addTopic(topic, level);
+            Report.addTopic(this, topic, level);
             i++;
         }        
         else if (args[i].equals("-debugpositions")) {
@@ -341,6 +428,10 @@ public class Options {
         	use_simple_code_writer = true;
         	i++;
         }
+        else if (args[i].equals("-linearoutput")) {
+            use_linear_code_writer = true;
+            i++;
+        }
         else if (!args[i].startsWith("-")) {
             source.add(args[i]);
             File f = new File(args[i]).getParentFile();
@@ -375,6 +466,13 @@ public class Options {
         usageForFlag(out, "-errors <num>", "set the maximum number of errors");
         usageForFlag(out, "-w <num>", 
                           "set the maximum width of the .java output files");
+        usageForFlag(out, "-j <num> -threads <num>",
+                          "compile the source files on <num> threads, " +
+                          "splitting them among <num> compilers");
+        usageForFlag(out, "-incremental <file>",
+                          "recompile only changed sources and their dependents, " +
+                          "recording dependencies in <file>; the output " +
+                          "directory must be on the classpath");
         usageForFlag(out, "-dump <pass>", "dump the ast after pass <pass>");
         usageForFlag(out, "-print <pass>",
 	                  "pretty-print the ast after pass <pass>");
@@ -385,12 +483,24 @@ public class Options {
         usageForFlag(out, "-c", "compile only to .java");
         usageForFlag(out, "-post <compiler>", 
                           "run javac-like compiler after translation");
+        usageForFlag(out, "-inprocess",
+                          "run the post-compiler in this JVM using the " +
+                          "javax.tools compiler; the first word of the " +
+                          "post-compiler is ignored and the rest are " +
+                          "passed as options");
         usageForFlag(out, "-debugpositions", "generate position information for compiler-generated code");
         usageForFlag(out, "-simpleoutput", "use SimpleCodeWriter");
+        usageForFlag(out, "-linearoutput", "use LinearCodeWriter, which formats output in linear time");
         usageForFlag(out, "-v -verbose", "print verbose debugging information");
         usageForFlag(out, "-report <topic>=<level>", 
                           "print verbose debugging information about " +
                           "topic at specified verbosity");
+        usageForFlag(out, "-metrics <file>",
+                          "write the time and allocation of each pass and " +
+                          "the compiler's counters to <file> as JSON");
+        usageForFlag(out, "-trace <file>",
+                          "write the passes run to <file> in the Chrome " +
+                          "trace event format");
 
         StringBuffer allowedTopics = new StringBuffer("Allowed topics: ");
         for (Iterator iter = Report.topics.iterator(); iter.hasNext(); ) {
@@ -11,43 +11,53 @@ package polyglot.main;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentMap;
+import polyglot.frontend.Compiler;
+import polyglot.frontend.Globals;
 import polyglot.util.ErrorInfo;
 import polyglot.util.ErrorQueue;
+import polyglot.util.InternalCompilerError;
 import polyglot.util.Position;
 import polyglot.util.SimpleErrorQueue;
 
-/** Class used for reporting debug messages. */
+/**
+ * Class used for reporting debug messages.
+ * <p>
+ * The topics selected with <code>-report</code> are kept in the options
+ * of each compiler, and messages are written to the report queue of the
+ * compiler; both are those of the compiler running on the current thread,
+ * as set by <code>Globals.initialize</code>.  The topics started and
+ * stopped while running passes are kept per thread.  So compilers running
+ * in different threads do not see each other's topics or passes, and do
+ * not contend for a lock to check whether to report.
+ */
 public class Report {
   /** A collection of string names of topics which can be used with the
       -report command-line switch */
   public final static Collection topics = new HashSet();
 
-  /** A collection of string names of topics which we should always check
-      if we should report. */
-  protected final static Stack should_report = new Stack();
-
-  /** 
-   * The topics that the user has selected to report, mapped to the level
-   * they want to report them to.
-   */
-  protected final static Map reportTopics = new HashMap(); // Map[String, Integer]
-  
-  /** Error queue to which to write messages. */
-  protected static ErrorQueue eq;
+  /** For each thread, a collection of string names of topics which we
+      should always check if we should report. */
+  protected final static ThreadLocal<Stack<String>> should_report = new ThreadLocal<Stack<String>>() {
+    protected Stack<String> initialValue() {
+      Stack<String> s = new Stack<String>();
+      s.push(verbose);
+      return s;
+    }
+  };
 
   /**
-   * Indicates if there is no reporting at all.
+   * Indicates if no compiler in the VM reports at all.
    * The normal case is that we do not report anything, so for efficiency 
    * reasons, since <code>should_report</code> is called so often, we'll use
-   * this flag to bypass a lot of the checking. When the options are processed,
-   * this flag should be changed.
+   * this flag to bypass a lot of the checking, including finding the
+   * compiler of the current thread.  It is cleared when a topic is
+   * selected.
    */
-  protected static boolean noReporting = true;
+  protected static volatile boolean noReporting = true;
   
   /** Report topics understood by the base compiler. */
   public final static String cfg = "cfg";
@@ -82,8 +92,6 @@ public class Report {
     topics.add(visit);
     topics.add(verbose);
     topics.add(debug);
-
-    should_report.push(verbose);
   }
 
   /**
@@ -112,18 +120,14 @@ public class Report {
    * Start reporting messages on <code>topic</code>.
    */
   public static void start_reporting(String topic) {
-    synchronized (should_report) {
-      should_report.push(topic);
-    }
+    should_report.get().push(topic);
   }
 
   /**
    * Stop reporting messages on <code>topic</code>.
    */
   public static void stop_reporting(String topic) {
-    synchronized (should_report) {
-      should_report.remove(topic);
-    }
+    should_report.get().remove(topic);
   }
 
   /**
@@ -134,52 +138,73 @@ public class Report {
   public static boolean should_report(Collection topics, int level) {
       if (noReporting)
           return false;
-    synchronized (should_report) {
-	for (Iterator i = should_report.iterator(); i.hasNext();) {
-	    String topic = (String) i.next();
-	    if (level(topic) >= level) return true;
-	}
+    Compiler c = Globals.Compiler();
+    if (c == null)
+        return false;
+    ConcurrentMap<String, Integer> reportTopics = c.sourceExtension().getOptions().report_topics;
+    for (Iterator<String> i = should_report.get().iterator(); i.hasNext();) {
+	String topic = i.next();
+	if (level(reportTopics, topic) >= level) return true;
     }
     if (topics != null) {
-	synchronized (topics) {
-	    for (Iterator i = topics.iterator(); i.hasNext();) {
-	        String topic = (String) i.next();
-	        if (level(topic) >= level) return true;
-	    }
+	for (Iterator i = topics.iterator(); i.hasNext();) {
+	    String topic = (String) i.next();
+	    if (level(reportTopics, topic) >= level) return true;
 	}
     }
     return false;
   }
   
+  /**
+   * Report messages on <code>topic</code> up to obscurity
+   * <code>level</code> in the compiler running on the current thread.
+   */
   public static void addTopic(String topic, int level) {
-      synchronized (reportTopics) {
-	  Integer i = (Integer)reportTopics.get(topic);
-	  if (i == null || i.intValue() < level) {
-	      reportTopics.put(topic, new Integer(level));
-	  }
+      Compiler c = Globals.Compiler();
+      if (c == null)
+          throw new InternalCompilerError("Cannot select report topic \"" + topic + "\": no compiler is running on this thread.");
+      addTopic(c.sourceExtension().getOptions(), topic, level);
+  }
+
+  /**
+   * Report messages on <code>topic</code> up to obscurity
+   * <code>level</code> in the compilers using <code>options</code>.
+   */
+  public static void addTopic(Options options, String topic, int level) {
+      ConcurrentMap<String, Integer> reportTopics = options.report_topics;
+      Integer l = Integer.valueOf(level);
+      for (;;) {
+          Integer i = reportTopics.putIfAbsent(topic, l);
+          if (i == null || i.intValue() >= level || reportTopics.replace(topic, i, l))
+              break;
       }
       noReporting = false;
   }
 
-  /** Get the error queue, possibly creating it if not set. */
+  /**
+   * Get the queue to which the compiler running on the current thread
+   * reports messages.  With no compiler, messages are written to standard
+   * error.
+   */
   public static ErrorQueue getQueue() {
-      if (eq == null) {
-          eq = new SimpleErrorQueue();
-      }
-      return eq;
+      Compiler c = Globals.Compiler();
+      if (c == null)
+          return new SimpleErrorQueue();
+      return c.reportQueue();
   }
 
-  /** Set the error queue. */
+  /**
+   * Set the queue to which the compiler running on the current thread
+   * reports messages.
+   */
   public static void setQueue(ErrorQueue eq) {
-      Report.eq = eq;
+      Globals.Compiler().setReportQueue(eq);
   }
 
-  protected static int level(String name) {
-      synchronized (reportTopics) {
-	  Object i = reportTopics.get(name);
-	  if (i == null) return 0;
-	  else return ((Integer)i).intValue();
-      }
+  protected static int level(ConcurrentMap<String, Integer> reportTopics, String name) {
+      Integer i = reportTopics.get(name);
+      if (i == null) return 0;
+      else return i.intValue();
   }
 
   /** This is the standard way to report debugging information in the
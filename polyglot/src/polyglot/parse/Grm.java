@@ -0,0 +1,8511 @@
+
+//----------------------------------------------------
+// The following code was generated by CUP v0.10k
+// Sat Oct 17 19:02:26 UTC 2026
+//----------------------------------------------------
+
+package polyglot.parse;
+
+import java.util.*;
+import java_cup.runtime.*;
+import polyglot.ast.*;
+import polyglot.lex.*;
+import polyglot.util.*;
+import polyglot.types.TypeSystem;
+import polyglot.types.Flags;
+import polyglot.types.QName;
+import polyglot.ast.Assert;
+
+/** CUP v0.10k generated parser.
+  * @version Sat Oct 17 19:02:26 UTC 2026
+  */
+public class Grm
+ extends BaseParser
+{
+
+  /** Production table. */
+  protected static final short _production_table[][] = 
+    unpackFromStrings(new String[] {
+    "\000\u016f\000\002\002\004\000\002\003\003\000\002\004" +
+    "\003\000\002\004\003\000\002\004\003\000\002\004\003" +
+    "\000\002\004\003\000\002\004\003\000\002\004\003\000" +
+    "\002\004\003\000\002\005\003\000\002\005\003\000\002" +
+    "\006\003\000\002\006\003\000\002\007\003\000\002\007" +
+    "\003\000\002\010\003\000\002\010\003\000\002\011\003" +
+    "\000\002\011\003\000\002\011\003\000\002\011\003\000" +
+    "\002\011\003\000\002\012\003\000\002\012\003\000\002" +
+    "\013\003\000\002\013\003\000\002\014\003\000\002\015" +
+    "\003\000\002\016\003\000\002\017\004\000\002\017\004" +
+    "\000\002\020\003\000\002\020\003\000\002\021\003\000" +
+    "\002\022\005\000\002\023\005\000\002\023\004\000\002" +
+    "\024\003\000\002\024\002\000\002\026\003\000\002\026" +
+    "\002\000\002\030\003\000\002\030\002\000\002\027\003" +
+    "\000\002\027\004\000\002\031\003\000\002\031\004\000" +
+    "\002\025\005\000\002\032\003\000\002\032\003\000\002" +
+    "\033\005\000\002\034\007\000\002\035\003\000\002\035" +
+    "\003\000\002\035\003\000\002\036\002\000\002\036\003" +
+    "\000\002\037\003\000\002\037\004\000\002\040\003\000" +
+    "\002\040\003\000\002\040\003\000\002\040\003\000\002" +
+    "\040\003\000\002\040\003\000\002\040\003\000\002\040" +
+    "\003\000\002\040\003\000\002\040\003\000\002\040\003" +
+    "\000\002\041\010\000\002\042\004\000\002\043\002\000" +
+    "\002\043\003\000\002\044\004\000\002\045\002\000\002" +
+    "\045\003\000\002\046\003\000\002\046\005\000\002\047" +
+    "\005\000\002\051\002\000\002\051\003\000\002\050\003" +
+    "\000\002\050\004\000\002\052\003\000\002\052\003\000" +
+    "\002\052\003\000\002\052\003\000\002\052\003\000\002" +
+    "\052\004\000\002\052\004\000\002\053\003\000\002\053" +
+    "\003\000\002\053\010\000\002\053\003\000\002\054\006" +
+    "\000\002\055\003\000\002\055\005\000\002\056\003\000" +
+    "\002\056\005\000\002\057\003\000\002\057\005\000\002" +
+    "\060\003\000\002\060\003\000\002\061\004\000\002\062" +
+    "\012\000\002\062\011\000\002\063\002\000\002\063\003" +
+    "\000\002\064\003\000\002\064\005\000\002\065\004\000" +
+    "\002\065\005\000\002\066\002\000\002\066\003\000\002" +
+    "\067\004\000\002\070\003\000\002\070\005\000\002\071" +
+    "\003\000\002\071\003\000\002\072\004\000\002\073\011" +
+    "\000\002\074\006\000\002\074\005\000\002\074\005\000" +
+    "\002\074\004\000\002\075\007\000\002\075\007\000\002" +
+    "\075\011\000\002\075\011\000\002\076\007\000\002\077" +
+    "\002\000\002\077\003\000\002\100\004\000\002\100\005" +
+    "\000\002\101\005\000\002\102\002\000\002\102\003\000" +
+    "\002\103\003\000\002\103\004\000\002\104\003\000\002" +
+    "\104\003\000\002\104\003\000\002\104\003\000\002\104" +
+    "\003\000\002\105\003\000\002\106\004\000\002\107\006" +
+    "\000\002\107\005\000\002\107\005\000\002\107\004\000" +
+    "\002\110\003\000\002\110\005\000\002\111\005\000\002" +
+    "\111\004\000\002\112\002\000\002\112\003\000\002\113" +
+    "\003\000\002\113\004\000\002\114\003\000\002\114\003" +
+    "\000\002\114\003\000\002\115\004\000\002\116\004\000" +
+    "\002\116\005\000\002\117\003\000\002\117\003\000\002" +
+    "\117\003\000\002\117\003\000\002\117\003\000\002\117" +
+    "\003\000\002\117\004\000\002\120\003\000\002\120\003" +
+    "\000\002\120\003\000\002\120\003\000\002\120\003\000" +
+    "\002\121\003\000\002\121\003\000\002\121\003\000\002" +
+    "\121\003\000\002\121\003\000\002\121\003\000\002\121" +
+    "\003\000\002\121\003\000\002\121\003\000\002\121\003" +
+    "\000\002\121\003\000\002\121\003\000\002\122\003\000" +
+    "\002\123\005\000\002\124\005\000\002\125\004\000\002" +
+    "\126\003\000\002\126\003\000\002\126\003\000\002\126" +
+    "\003\000\002\126\003\000\002\126\003\000\002\126\003" +
+    "\000\002\127\007\000\002\130\011\000\002\131\011\000" +
+    "\002\132\007\000\002\133\006\000\002\133\005\000\002" +
+    "\133\005\000\002\133\004\000\002\134\003\000\002\134" +
+    "\004\000\002\135\004\000\002\136\003\000\002\136\004" +
+    "\000\002\137\005\000\002\137\004\000\002\140\007\000" +
+    "\002\141\007\000\002\142\011\000\002\143\013\000\002" +
+    "\144\013\000\002\145\002\000\002\145\003\000\002\146" +
+    "\003\000\002\146\003\000\002\147\002\000\002\147\003" +
+    "\000\002\150\003\000\002\151\003\000\002\151\005\000" +
+    "\002\152\002\000\002\152\003\000\002\154\005\000\002" +
+    "\155\005\000\002\156\005\000\002\157\005\000\002\160" +
+    "\007\000\002\161\005\000\002\161\006\000\002\162\002" +
+    "\000\002\162\003\000\002\163\003\000\002\163\004\000" +
+    "\002\164\007\000\002\165\004\000\002\166\005\000\002" +
+    "\166\007\000\002\167\003\000\002\167\003\000\002\170" +
+    "\003\000\002\170\003\000\002\170\005\000\002\170\003" +
+    "\000\002\170\003\000\002\170\003\000\002\170\003\000" +
+    "\002\170\005\000\002\170\005\000\002\170\005\000\002" +
+    "\170\005\000\002\170\005\000\002\171\007\000\002\171" +
+    "\010\000\002\171\011\000\002\171\012\000\002\171\011" +
+    "\000\002\171\012\000\002\172\002\000\002\172\003\000" +
+    "\002\173\003\000\002\173\005\000\002\174\006\000\002" +
+    "\174\006\000\002\174\006\000\002\174\006\000\002\175" +
+    "\003\000\002\175\004\000\002\176\005\000\002\177\002" +
+    "\000\002\177\003\000\002\200\004\000\002\200\005\000" +
+    "\002\201\005\000\002\201\005\000\002\201\007\000\002" +
+    "\202\006\000\002\202\010\000\002\202\010\000\002\202" +
+    "\012\000\002\203\006\000\002\203\006\000\002\204\003" +
+    "\000\002\204\003\000\002\204\003\000\002\204\003\000" +
+    "\002\205\004\000\002\206\004\000\002\207\003\000\002" +
+    "\207\003\000\002\207\004\000\002\207\004\000\002\207" +
+    "\004\000\002\207\003\000\002\211\004\000\002\212\004" +
+    "\000\002\210\003\000\002\210\004\000\002\210\004\000" +
+    "\002\210\003\000\002\213\007\000\002\213\006\000\002" +
+    "\213\007\000\002\214\003\000\002\214\005\000\002\214" +
+    "\005\000\002\214\005\000\002\215\003\000\002\215\005" +
+    "\000\002\215\005\000\002\216\003\000\002\216\005\000" +
+    "\002\216\005\000\002\216\005\000\002\217\003\000\002" +
+    "\217\005\000\002\217\005\000\002\217\005\000\002\217" +
+    "\005\000\002\217\005\000\002\220\003\000\002\220\005" +
+    "\000\002\220\005\000\002\221\003\000\002\221\005\000" +
+    "\002\222\003\000\002\222\005\000\002\223\003\000\002" +
+    "\223\005\000\002\224\003\000\002\224\005\000\002\225" +
+    "\003\000\002\225\005\000\002\226\003\000\002\226\007" +
+    "\000\002\227\003\000\002\227\003\000\002\230\005\000" +
+    "\002\231\003\000\002\231\003\000\002\231\003\000\002" +
+    "\232\003\000\002\232\003\000\002\232\003\000\002\232" +
+    "\003\000\002\232\003\000\002\232\003\000\002\232\003" +
+    "\000\002\232\003\000\002\232\003\000\002\232\003\000" +
+    "\002\232\003\000\002\232\003\000\002\233\002\000\002" +
+    "\233\003\000\002\234\003\000\002\235\003\000\002\153" +
+    "\003" });
+
+  /** Access to production table. */
+  public short[][] production_table() {return _production_table;}
+
+  /** Parse-action table. */
+  protected static final short[][] _action_table = 
+    unpackFromStrings(new String[] {
+    "\000\u0275\000\046\002\uffda\003\006\020\uffda\031\007\032" +
+    "\uffda\033\uffda\034\uffda\035\uffda\036\uffda\037\uffda\040\uffda" +
+    "\041\uffda\042\uffda\043\uffda\044\uffda\045\uffda\054\uffda\152" +
+    "\uffda\001\002\000\042\002\uffd8\020\uffd8\032\u026c\033\uffd8" +
+    "\034\uffd8\035\uffd8\036\uffd8\037\uffd8\040\uffd8\041\uffd8\042" +
+    "\uffd8\043\uffd8\044\uffd8\045\uffd8\054\uffd8\152\uffd8\001\002" +
+    "\000\004\002\u0269\001\002\000\040\002\uffd6\020\025\033" +
+    "\031\034\034\035\026\036\033\037\042\040\040\041\027" +
+    "\042\043\043\036\044\032\045\uffc9\054\uffc9\152\024\001" +
+    "\002\000\004\016\014\001\002\000\042\002\uffdb\020\uffdb" +
+    "\032\uffdb\033\uffdb\034\uffdb\035\uffdb\036\uffdb\037\uffdb\040" +
+    "\uffdb\041\uffdb\042\uffdb\043\uffdb\044\uffdb\045\uffdb\054\uffdb" +
+    "\152\uffdb\001\002\000\004\002\000\001\002\000\142\003" +
+    "\uffdf\014\uffdf\015\uffdf\016\uffdf\017\uffdf\020\uffdf\021\uffdf" +
+    "\022\uffdf\023\uffdf\024\uffdf\025\uffdf\026\uffdf\027\uffdf\030" +
+    "\uffdf\047\uffdf\075\uffdf\076\uffdf\077\uffdf\100\uffdf\103\uffdf" +
+    "\104\uffdf\105\uffdf\106\uffdf\107\uffdf\110\uffdf\111\uffdf\112" +
+    "\uffdf\113\uffdf\114\uffdf\115\uffdf\116\uffdf\117\uffdf\120\uffdf" +
+    "\121\uffdf\122\uffdf\123\uffdf\124\uffdf\125\uffdf\126\uffdf\127" +
+    "\uffdf\130\uffdf\131\uffdf\132\uffdf\133\uffdf\134\uffdf\135\uffdf" +
+    "\136\uffdf\137\uffdf\001\002\000\006\017\020\020\017\001" +
+    "\002\000\144\003\ufe93\014\ufe93\015\ufe93\016\ufe93\017\ufe93" +
+    "\020\ufe93\021\ufe93\022\ufe93\023\ufe93\024\ufe93\025\ufe93\026" +
+    "\ufe93\027\ufe93\030\ufe93\046\ufe93\047\ufe93\075\ufe93\076\ufe93" +
+    "\077\ufe93\100\ufe93\103\ufe93\104\ufe93\105\ufe93\106\ufe93\107" +
+    "\ufe93\110\ufe93\111\ufe93\112\ufe93\113\ufe93\114\ufe93\115\ufe93" +
+    "\116\ufe93\117\ufe93\120\ufe93\121\ufe93\122\ufe93\123\ufe93\124" +
+    "\ufe93\125\ufe93\126\ufe93\127\ufe93\130\ufe93\131\ufe93\132\ufe93" +
+    "\133\ufe93\134\ufe93\135\ufe93\136\ufe93\137\ufe93\001\002\000" +
+    "\142\003\uffe0\014\uffe0\015\uffe0\016\uffe0\017\uffe0\020\uffe0" +
+    "\021\uffe0\022\uffe0\023\uffe0\024\uffe0\025\uffe0\026\uffe0\027" +
+    "\uffe0\030\uffe0\047\uffe0\075\uffe0\076\uffe0\077\uffe0\100\uffe0" +
+    "\103\uffe0\104\uffe0\105\uffe0\106\uffe0\107\uffe0\110\uffe0\111" +
+    "\uffe0\112\uffe0\113\uffe0\114\uffe0\115\uffe0\116\uffe0\117\uffe0" +
+    "\120\uffe0\121\uffe0\122\uffe0\123\uffe0\124\uffe0\125\uffe0\126" +
+    "\uffe0\127\uffe0\130\uffe0\131\uffe0\132\uffe0\133\uffe0\134\uffe0" +
+    "\135\uffe0\136\uffe0\137\uffe0\001\002\000\142\003\uffe1\014" +
+    "\uffe1\015\uffe1\016\uffe1\017\uffe1\020\uffe1\021\uffe1\022\uffe1" +
+    "\023\uffe1\024\uffe1\025\uffe1\026\uffe1\027\uffe1\030\uffe1\047" +
+    "\uffe1\075\uffe1\076\uffe1\077\uffe1\100\uffe1\103\uffe1\104\uffe1" +
+    "\105\uffe1\106\uffe1\107\uffe1\110\uffe1\111\uffe1\112\uffe1\113" +
+    "\uffe1\114\uffe1\115\uffe1\116\uffe1\117\uffe1\120\uffe1\121\uffe1" +
+    "\122\uffe1\123\uffe1\124\uffe1\125\uffe1\126\uffe1\127\uffe1\130" +
+    "\uffe1\131\uffe1\132\uffe1\133\uffe1\134\uffe1\135\uffe1\136\uffe1" +
+    "\137\uffe1\001\002\000\042\002\uffd1\020\uffd1\032\uffd1\033" +
+    "\uffd1\034\uffd1\035\uffd1\036\uffd1\037\uffd1\040\uffd1\041\uffd1" +
+    "\042\uffd1\043\uffd1\044\uffd1\045\uffd1\054\uffd1\152\uffd1\001" +
+    "\002\000\004\016\014\001\002\000\142\003\uffde\014\uffde" +
+    "\015\uffde\016\uffde\017\uffde\020\uffde\021\uffde\022\uffde\023" +
+    "\uffde\024\uffde\025\uffde\026\uffde\027\uffde\030\uffde\047\uffde" +
+    "\075\uffde\076\uffde\077\uffde\100\uffde\103\uffde\104\uffde\105" +
+    "\uffde\106\uffde\107\uffde\110\uffde\111\uffde\112\uffde\113\uffde" +
+    "\114\uffde\115\uffde\116\uffde\117\uffde\120\uffde\121\uffde\122" +
+    "\uffde\123\uffde\124\uffde\125\uffde\126\uffde\127\uffde\130\uffde" +
+    "\131\uffde\132\uffde\133\uffde\134\uffde\135\uffde\136\uffde\137" +
+    "\uffde\001\002\000\060\004\uffc7\005\uffc7\006\uffc7\007\uffc7" +
+    "\010\uffc7\011\uffc7\012\uffc7\013\uffc7\016\uffc7\033\uffc7\034" +
+    "\uffc7\035\uffc7\036\uffc7\037\uffc7\040\uffc7\041\uffc7\042\uffc7" +
+    "\043\uffc7\044\uffc7\045\uffc7\050\uffc7\054\uffc7\152\uffc7\001" +
+    "\002\000\060\004\uffc8\005\uffc8\006\uffc8\007\uffc8\010\uffc8" +
+    "\011\uffc8\012\uffc8\013\uffc8\016\uffc8\033\031\034\034\035" +
+    "\026\036\033\037\042\040\040\041\027\042\043\043\036" +
+    "\044\032\045\uffc8\050\uffc8\054\uffc8\152\024\001\002\000" +
+    "\060\004\uffbb\005\uffbb\006\uffbb\007\uffbb\010\uffbb\011\uffbb" +
+    "\012\uffbb\013\uffbb\016\uffbb\033\uffbb\034\uffbb\035\uffbb\036" +
+    "\uffbb\037\uffbb\040\uffbb\041\uffbb\042\uffbb\043\uffbb\044\uffbb" +
+    "\045\uffbb\050\uffbb\054\uffbb\152\uffbb\001\002\000\040\002" +
+    "\uffca\020\uffca\033\uffca\034\uffca\035\uffca\036\uffca\037\uffca" +
+    "\040\uffca\041\uffca\042\uffca\043\uffca\044\uffca\045\uffca\054" +
+    "\uffca\152\uffca\001\002\000\060\004\uffc3\005\uffc3\006\uffc3" +
+    "\007\uffc3\010\uffc3\011\uffc3\012\uffc3\013\uffc3\016\uffc3\033" +
+    "\uffc3\034\uffc3\035\uffc3\036\uffc3\037\uffc3\040\uffc3\041\uffc3" +
+    "\042\uffc3\043\uffc3\044\uffc3\045\uffc3\050\uffc3\054\uffc3\152" +
+    "\uffc3\001\002\000\060\004\uffbf\005\uffbf\006\uffbf\007\uffbf" +
+    "\010\uffbf\011\uffbf\012\uffbf\013\uffbf\016\uffbf\033\uffbf\034" +
+    "\uffbf\035\uffbf\036\uffbf\037\uffbf\040\uffbf\041\uffbf\042\uffbf" +
+    "\043\uffbf\044\uffbf\045\uffbf\050\uffbf\054\uffbf\152\uffbf\001" +
+    "\002\000\040\002\uffcc\020\uffcc\033\uffcc\034\uffcc\035\uffcc" +
+    "\036\uffcc\037\uffcc\040\uffcc\041\uffcc\042\uffcc\043\uffcc\044" +
+    "\uffcc\045\uffcc\054\uffcc\152\uffcc\001\002\000\060\004\uffc5" +
+    "\005\uffc5\006\uffc5\007\uffc5\010\uffc5\011\uffc5\012\uffc5\013" +
+    "\uffc5\016\uffc5\033\uffc5\034\uffc5\035\uffc5\036\uffc5\037\uffc5" +
+    "\040\uffc5\041\uffc5\042\uffc5\043\uffc5\044\uffc5\045\uffc5\050" +
+    "\uffc5\054\uffc5\152\uffc5\001\002\000\060\004\uffbc\005\uffbc" +
+    "\006\uffbc\007\uffbc\010\uffbc\011\uffbc\012\uffbc\013\uffbc\016" +
+    "\uffbc\033\uffbc\034\uffbc\035\uffbc\036\uffbc\037\uffbc\040\uffbc" +
+    "\041\uffbc\042\uffbc\043\uffbc\044\uffbc\045\uffbc\050\uffbc\054" +
+    "\uffbc\152\uffbc\001\002\000\060\004\uffc2\005\uffc2\006\uffc2" +
+    "\007\uffc2\010\uffc2\011\uffc2\012\uffc2\013\uffc2\016\uffc2\033" +
+    "\uffc2\034\uffc2\035\uffc2\036\uffc2\037\uffc2\040\uffc2\041\uffc2" +
+    "\042\uffc2\043\uffc2\044\uffc2\045\uffc2\050\uffc2\054\uffc2\152" +
+    "\uffc2\001\002\000\060\004\uffc4\005\uffc4\006\uffc4\007\uffc4" +
+    "\010\uffc4\011\uffc4\012\uffc4\013\uffc4\016\uffc4\033\uffc4\034" +
+    "\uffc4\035\uffc4\036\uffc4\037\uffc4\040\uffc4\041\uffc4\042\uffc4" +
+    "\043\uffc4\044\uffc4\045\uffc4\050\uffc4\054\uffc4\152\uffc4\001" +
+    "\002\000\004\002\uffdc\001\002\000\060\004\uffbd\005\uffbd" +
+    "\006\uffbd\007\uffbd\010\uffbd\011\uffbd\012\uffbd\013\uffbd\016" +
+    "\uffbd\033\uffbd\034\uffbd\035\uffbd\036\uffbd\037\uffbd\040\uffbd" +
+    "\041\uffbd\042\uffbd\043\uffbd\044\uffbd\045\uffbd\050\uffbd\054" +
+    "\uffbd\152\uffbd\001\002\000\040\002\uffd3\020\uffd3\033\uffd3" +
+    "\034\uffd3\035\uffd3\036\uffd3\037\uffd3\040\uffd3\041\uffd3\042" +
+    "\uffd3\043\uffd3\044\uffd3\045\uffd3\054\uffd3\152\uffd3\001\002" +
+    "\000\060\004\uffc0\005\uffc0\006\uffc0\007\uffc0\010\uffc0\011" +
+    "\uffc0\012\uffc0\013\uffc0\016\uffc0\033\uffc0\034\uffc0\035\uffc0" +
+    "\036\uffc0\037\uffc0\040\uffc0\041\uffc0\042\uffc0\043\uffc0\044" +
+    "\uffc0\045\uffc0\050\uffc0\054\uffc0\152\uffc0\001\002\000\006" +
+    "\045\050\054\047\001\002\000\060\004\uffc1\005\uffc1\006" +
+    "\uffc1\007\uffc1\010\uffc1\011\uffc1\012\uffc1\013\uffc1\016\uffc1" +
+    "\033\uffc1\034\uffc1\035\uffc1\036\uffc1\037\uffc1\040\uffc1\041" +
+    "\uffc1\042\uffc1\043\uffc1\044\uffc1\045\uffc1\050\uffc1\054\uffc1" +
+    "\152\uffc1\001\002\000\060\004\uffbe\005\uffbe\006\uffbe\007" +
+    "\uffbe\010\uffbe\011\uffbe\012\uffbe\013\uffbe\016\uffbe\033\uffbe" +
+    "\034\uffbe\035\uffbe\036\uffbe\037\uffbe\040\uffbe\041\uffbe\042" +
+    "\uffbe\043\uffbe\044\uffbe\045\uffbe\050\uffbe\054\uffbe\152\uffbe" +
+    "\001\002\000\040\002\uffcb\020\uffcb\033\uffcb\034\uffcb\035" +
+    "\uffcb\036\uffcb\037\uffcb\040\uffcb\041\uffcb\042\uffcb\043\uffcb" +
+    "\044\uffcb\045\uffcb\054\uffcb\152\uffcb\001\002\000\040\002" +
+    "\uffd7\020\025\033\031\034\034\035\026\036\033\037\042" +
+    "\040\040\041\027\042\043\043\036\044\032\045\uffc9\054" +
+    "\uffc9\152\024\001\002\000\040\002\uffd2\020\uffd2\033\uffd2" +
+    "\034\uffd2\035\uffd2\036\uffd2\037\uffd2\040\uffd2\041\uffd2\042" +
+    "\uffd2\043\uffd2\044\uffd2\045\uffd2\054\uffd2\152\uffd2\001\002" +
+    "\000\004\016\014\001\002\000\004\016\014\001\002\000" +
+    "\010\023\uffb8\046\054\047\uffb8\001\002\000\006\023\uffb7" +
+    "\047\uffb7\001\002\000\006\023\uffb5\047\061\001\002\000" +
+    "\004\016\014\001\002\000\022\003\uffe6\014\uffe6\017\020" +
+    "\020\uffe6\022\uffe6\023\uffe6\026\uffe6\047\uffe6\001\002\000" +
+    "\014\003\uffe5\020\uffe5\022\uffe5\023\uffe5\047\uffe5\001\002" +
+    "\000\006\023\uffb9\047\uffb9\001\002\000\004\023\070\001" +
+    "\002\000\004\016\014\001\002\000\004\023\uffb4\001\002" +
+    "\000\006\022\066\023\uffb6\001\002\000\006\022\uffb3\023" +
+    "\uffb3\001\002\000\006\022\uffe4\023\uffe4\001\002\000\004" +
+    "\016\014\001\002\000\006\022\uffb2\023\uffb2\001\002\000" +
+    "\070\003\104\004\uffc9\005\uffc9\006\uffc9\007\uffc9\010\uffc9" +
+    "\011\uffc9\012\uffc9\013\uffc9\016\uffc9\020\073\023\076\024" +
+    "\uffb0\033\031\034\034\035\026\036\101\037\042\040\040" +
+    "\041\027\042\043\043\036\044\032\045\uffc9\050\uffc9\054" +
+    "\uffc9\152\024\001\002\000\160\002\uffba\003\uffba\004\uffba" +
+    "\005\uffba\006\uffba\007\uffba\010\uffba\011\uffba\012\uffba\013" +
+    "\uffba\016\uffba\020\uffba\023\uffba\024\uffba\026\uffba\033\uffba" +
+    "\034\uffba\035\uffba\036\uffba\037\uffba\040\uffba\041\uffba\042" +
+    "\uffba\043\uffba\044\uffba\045\uffba\050\uffba\052\uffba\053\uffba" +
+    "\054\uffba\055\uffba\057\uffba\060\uffba\061\uffba\062\uffba\063" +
+    "\uffba\064\uffba\065\uffba\066\uffba\067\uffba\070\uffba\071\uffba" +
+    "\074\uffba\075\uffba\076\uffba\140\uffba\142\uffba\144\uffba\145" +
+    "\uffba\146\uffba\147\uffba\150\uffba\151\uffba\152\uffba\153\uffba" +
+    "\001\002\000\070\003\uffaa\004\uffaa\005\uffaa\006\uffaa\007" +
+    "\uffaa\010\uffaa\011\uffaa\012\uffaa\013\uffaa\016\uffaa\020\uffaa" +
+    "\023\uffaa\024\uffaa\033\uffaa\034\uffaa\035\uffaa\036\uffaa\037" +
+    "\uffaa\040\uffaa\041\uffaa\042\uffaa\043\uffaa\044\uffaa\045\uffaa" +
+    "\050\uffaa\054\uffaa\152\uffaa\001\002\000\070\003\uffa8\004" +
+    "\uffa8\005\uffa8\006\uffa8\007\uffa8\010\uffa8\011\uffa8\012\uffa8" +
+    "\013\uffa8\016\uffa8\020\uffa8\023\uffa8\024\uffa8\033\uffa8\034" +
+    "\uffa8\035\uffa8\036\uffa8\037\uffa8\040\uffa8\041\uffa8\042\uffa8" +
+    "\043\uffa8\044\uffa8\045\uffa8\050\uffa8\054\uffa8\152\uffa8\001" +
+    "\002\000\070\003\uffa4\004\uffa4\005\uffa4\006\uffa4\007\uffa4" +
+    "\010\uffa4\011\uffa4\012\uffa4\013\uffa4\016\uffa4\020\uffa4\023" +
+    "\uffa4\024\uffa4\033\uffa4\034\uffa4\035\uffa4\036\uffa4\037\uffa4" +
+    "\040\uffa4\041\uffa4\042\uffa4\043\uffa4\044\uffa4\045\uffa4\050" +
+    "\uffa4\054\uffa4\152\uffa4\001\002\000\070\003\uffa9\004\uffa9" +
+    "\005\uffa9\006\uffa9\007\uffa9\010\uffa9\011\uffa9\012\uffa9\013" +
+    "\uffa9\016\uffa9\020\uffa9\023\uffa9\024\uffa9\033\uffa9\034\uffa9" +
+    "\035\uffa9\036\uffa9\037\uffa9\040\uffa9\041\uffa9\042\uffa9\043" +
+    "\uffa9\044\uffa9\045\uffa9\050\uffa9\054\uffa9\152\uffa9\001\002" +
+    "\000\150\003\276\004\124\005\117\006\130\007\114\010" +
+    "\112\011\116\012\126\013\134\016\014\020\264\023\076" +
+    "\024\uff65\026\223\033\031\034\034\035\026\036\033\037" +
+    "\042\040\227\041\027\042\301\043\036\044\032\045\uffc9" +
+    "\050\254\052\343\053\350\055\303\057\247\062\251\063" +
+    "\244\064\252\065\260\066\302\067\255\070\215\071\256" +
+    "\074\313\075\312\076\305\140\226\142\243\144\213\145" +
+    "\273\146\235\147\311\150\263\151\262\152\024\153\307" +
+    "\001\002\000\010\003\u01a7\020\u024c\023\076\001\002\000" +
+    "\070\003\uffab\004\uffab\005\uffab\006\uffab\007\uffab\010\uffab" +
+    "\011\uffab\012\uffab\013\uffab\016\uffab\020\uffab\023\uffab\024" +
+    "\uffab\033\uffab\034\uffab\035\uffab\036\uffab\037\uffab\040\uffab" +
+    "\041\uffab\042\uffab\043\uffab\044\uffab\045\uffab\050\uffab\054" +
+    "\uffab\152\uffab\001\002\000\064\003\u01a7\004\uffc2\005\uffc2" +
+    "\006\uffc2\007\uffc2\010\uffc2\011\uffc2\012\uffc2\013\uffc2\016" +
+    "\uffc2\023\076\033\uffc2\034\uffc2\035\uffc2\036\uffc2\037\uffc2" +
+    "\040\uffc2\041\uffc2\042\uffc2\043\uffc2\044\uffc2\045\uffc2\050" +
+    "\uffc2\054\uffc2\152\uffc2\001\002\000\004\024\u0249\001\002" +
+    "\000\070\003\uffae\004\uffae\005\uffae\006\uffae\007\uffae\010" +
+    "\uffae\011\uffae\012\uffae\013\uffae\016\uffae\020\uffae\023\uffae" +
+    "\024\uffae\033\uffae\034\uffae\035\uffae\036\uffae\037\uffae\040" +
+    "\uffae\041\uffae\042\uffae\043\uffae\044\uffae\045\uffae\050\uffae" +
+    "\054\uffae\152\uffae\001\002\000\010\020\u0248\023\u0247\024" +
+    "\u01a9\001\002\000\070\003\104\004\uffc9\005\uffc9\006\uffc9" +
+    "\007\uffc9\010\uffc9\011\uffc9\012\uffc9\013\uffc9\016\uffc9\020" +
+    "\073\023\076\024\uffaf\033\031\034\034\035\026\036\101" +
+    "\037\042\040\040\041\027\042\043\043\036\044\032\045" +
+    "\uffc9\050\uffc9\054\uffc9\152\024\001\002\000\032\004\124" +
+    "\005\117\006\130\007\114\010\112\011\116\012\126\013" +
+    "\134\016\014\045\113\050\132\054\047\001\002\000\070" +
+    "\003\uffa5\004\uffa5\005\uffa5\006\uffa5\007\uffa5\010\uffa5\011" +
+    "\uffa5\012\uffa5\013\uffa5\016\uffa5\020\uffa5\023\uffa5\024\uffa5" +
+    "\033\uffa5\034\uffa5\035\uffa5\036\uffa5\037\uffa5\040\uffa5\041" +
+    "\uffa5\042\uffa5\043\uffa5\044\uffa5\045\uffa5\050\uffa5\054\uffa5" +
+    "\152\uffa5\001\002\000\070\003\uffa2\004\uffa2\005\uffa2\006" +
+    "\uffa2\007\uffa2\010\uffa2\011\uffa2\012\uffa2\013\uffa2\016\uffa2" +
+    "\020\uffa2\023\uffa2\024\uffa2\033\uffa2\034\uffa2\035\uffa2\036" +
+    "\uffa2\037\uffa2\040\uffa2\041\uffa2\042\uffa2\043\uffa2\044\uffa2" +
+    "\045\uffa2\050\uffa2\054\uffa2\152\uffa2\001\002\000\070\003" +
+    "\uffac\004\uffac\005\uffac\006\uffac\007\uffac\010\uffac\011\uffac" +
+    "\012\uffac\013\uffac\016\uffac\020\uffac\023\uffac\024\uffac\033" +
+    "\uffac\034\uffac\035\uffac\036\uffac\037\uffac\040\uffac\041\uffac" +
+    "\042\uffac\043\uffac\044\uffac\045\uffac\050\uffac\054\uffac\152" +
+    "\uffac\001\002\000\012\014\uffeb\016\uffeb\017\uffeb\027\uffeb" +
+    "\001\002\000\004\016\014\001\002\000\012\014\uffec\016" +
+    "\uffec\017\uffec\027\uffec\001\002\000\004\016\014\001\002" +
+    "\000\012\014\uffee\016\uffee\017\uffee\027\uffee\001\002\000" +
+    "\012\014\uffef\016\uffef\017\uffef\027\uffef\001\002\000\052" +
+    "\015\uffe8\016\uffe8\020\uffe8\022\uffe8\024\uffe8\027\uffe8\030" +
+    "\uffe8\110\uffe8\111\uffe8\112\uffe8\113\uffe8\114\uffe8\115\uffe8" +
+    "\116\uffe8\117\uffe8\120\uffe8\121\uffe8\122\uffe8\123\uffe8\124" +
+    "\uffe8\001\002\000\012\014\ufff1\016\ufff1\017\ufff1\027\ufff1" +
+    "\001\002\000\012\014\uffe1\016\uffe1\017\uffe1\026\173\001" +
+    "\002\000\012\014\ufff0\016\ufff0\017\ufff0\027\ufff0\001\002" +
+    "\000\012\014\ufff2\016\ufff2\017\ufff2\027\ufff2\001\002\000" +
+    "\004\016\ufff4\001\002\000\012\014\uffea\016\uffea\017\uffea" +
+    "\027\uffea\001\002\000\006\014\136\016\ufff5\001\002\000" +
+    "\012\014\uffed\016\uffed\017\uffed\027\uffed\001\002\000\052" +
+    "\015\uffe7\016\uffe7\020\uffe7\022\uffe7\024\uffe7\027\uffe7\030" +
+    "\uffe7\110\uffe7\111\uffe7\112\uffe7\113\uffe7\114\uffe7\115\uffe7" +
+    "\116\uffe7\117\uffe7\120\uffe7\121\uffe7\122\uffe7\123\uffe7\124" +
+    "\uffe7\001\002\000\004\016\014\001\002\000\012\014\ufff3" +
+    "\016\ufff3\017\ufff3\027\ufff3\001\002\000\012\014\uffe9\016" +
+    "\uffe9\017\uffe9\027\uffe9\001\002\000\056\014\136\015\uffe6" +
+    "\016\uffe6\017\020\020\uffe6\022\uffe6\024\uffe6\027\uffe6\030" +
+    "\uffe6\110\uffe6\111\uffe6\112\uffe6\113\uffe6\114\uffe6\115\uffe6" +
+    "\116\uffe6\117\uffe6\120\uffe6\121\uffe6\122\uffe6\123\uffe6\124" +
+    "\uffe6\001\002\000\004\015\142\001\002\000\056\014\140" +
+    "\015\uffe2\016\uffe2\017\uffe2\020\uffe2\022\uffe2\024\uffe2\027" +
+    "\uffe2\030\uffe2\110\uffe2\111\uffe2\112\uffe2\113\uffe2\114\uffe2" +
+    "\115\uffe2\116\uffe2\117\uffe2\120\uffe2\121\uffe2\122\uffe2\123" +
+    "\uffe2\124\uffe2\001\002\000\004\015\141\001\002\000\110" +
+    "\003\ufee8\014\ufee8\015\ufee8\016\ufee8\017\ufee8\020\ufee8\021" +
+    "\ufee8\022\ufee8\023\ufee8\024\ufee8\027\ufee8\030\ufee8\051\ufee8" +
+    "\075\ufee8\076\ufee8\077\ufee8\100\ufee8\103\ufee8\104\ufee8\105" +
+    "\ufee8\106\ufee8\107\ufee8\110\ufee8\111\ufee8\112\ufee8\113\ufee8" +
+    "\114\ufee8\115\ufee8\116\ufee8\117\ufee8\120\ufee8\121\ufee8\122" +
+    "\ufee8\123\ufee8\124\ufee8\001\002\000\110\003\ufee9\014\ufee9" +
+    "\015\ufee9\016\ufee9\017\ufee9\020\ufee9\021\ufee9\022\ufee9\023" +
+    "\ufee9\024\ufee9\027\ufee9\030\ufee9\051\ufee9\075\ufee9\076\ufee9" +
+    "\077\ufee9\100\ufee9\103\ufee9\104\ufee9\105\ufee9\106\ufee9\107" +
+    "\ufee9\110\ufee9\111\ufee9\112\ufee9\113\ufee9\114\ufee9\115\ufee9" +
+    "\116\ufee9\117\ufee9\120\ufee9\121\ufee9\122\ufee9\123\ufee9\124" +
+    "\ufee9\001\002\000\004\026\144\001\002\000\030\004\124" +
+    "\005\117\006\130\007\114\010\112\011\116\012\126\013" +
+    "\134\016\014\027\uff95\040\150\001\002\000\004\016\014" +
+    "\001\002\000\006\022\167\027\uff94\001\002\000\004\027" +
+    "\157\001\002\000\024\004\124\005\117\006\130\007\114" +
+    "\010\112\011\116\012\126\013\134\016\014\001\002\000" +
+    "\006\022\uff93\027\uff93\001\002\000\004\016\014\001\002" +
+    "\000\010\014\155\022\uff90\027\uff90\001\002\000\014\014" +
+    "\uff9c\020\uff9c\022\uff9c\025\uff9c\027\uff9c\001\002\000\004" +
+    "\015\156\001\002\000\014\014\uff9b\020\uff9b\022\uff9b\025" +
+    "\uff9b\027\uff9b\001\002\000\012\003\uff8f\020\uff8f\023\uff8f" +
+    "\051\162\001\002\000\010\003\uff8e\020\uff8e\023\uff8e\001" +
+    "\002\000\010\003\uff96\020\uff96\023\uff96\001\002\000\004" +
+    "\016\014\001\002\000\012\003\uff8d\020\uff8d\022\165\023" +
+    "\uff8d\001\002\000\012\003\uff8c\020\uff8c\022\uff8c\023\uff8c" +
+    "\001\002\000\004\016\014\001\002\000\012\003\uff8b\020" +
+    "\uff8b\022\uff8b\023\uff8b\001\002\000\026\004\124\005\117" +
+    "\006\130\007\114\010\112\011\116\012\126\013\134\016" +
+    "\014\040\150\001\002\000\006\022\uff92\027\uff92\001\002" +
+    "\000\010\014\155\022\uff91\027\uff91\001\002\000\056\014" +
+    "\140\015\uffe3\016\uffe3\017\uffe3\020\uffe3\022\uffe3\024\uffe3" +
+    "\027\uffe3\030\uffe3\110\uffe3\111\uffe3\112\uffe3\113\uffe3\114" +
+    "\uffe3\115\uffe3\116\uffe3\117\uffe3\120\uffe3\121\uffe3\122\uffe3" +
+    "\123\uffe3\124\uffe3\001\002\000\030\004\124\005\117\006" +
+    "\130\007\114\010\112\011\116\012\126\013\134\016\014" +
+    "\027\uff95\040\150\001\002\000\004\027\175\001\002\000" +
+    "\006\023\uff8f\051\162\001\002\000\004\023\177\001\002" +
+    "\000\150\003\276\004\124\005\117\006\130\007\114\010" +
+    "\112\011\116\012\126\013\134\016\014\020\264\023\076" +
+    "\024\214\026\223\033\031\034\034\035\026\036\033\037" +
+    "\042\040\227\041\027\042\301\043\036\044\032\045\uffc9" +
+    "\050\254\052\265\053\242\055\303\057\247\062\251\063" +
+    "\244\064\252\065\260\066\302\067\255\070\215\071\256" +
+    "\074\313\075\312\076\305\140\226\142\243\144\213\145" +
+    "\273\146\235\147\311\150\263\151\262\152\024\153\307" +
+    "\001\002\000\070\003\uff87\004\uff87\005\uff87\006\uff87\007" +
+    "\uff87\010\uff87\011\uff87\012\uff87\013\uff87\016\uff87\020\uff87" +
+    "\023\uff87\024\uff87\033\uff87\034\uff87\035\uff87\036\uff87\037" +
+    "\uff87\040\uff87\041\uff87\042\uff87\043\uff87\044\uff87\045\uff87" +
+    "\050\uff87\054\uff87\152\uff87\001\002\000\150\003\276\004" +
+    "\124\005\117\006\130\007\114\010\112\011\116\012\126" +
+    "\013\134\016\014\020\264\023\076\024\u0239\026\223\033" +
+    "\031\034\034\035\026\036\033\037\042\040\227\041\027" +
+    "\042\301\043\036\044\032\045\uffc9\050\254\052\343\053" +
+    "\350\055\303\057\247\062\251\063\244\064\252\065\260" +
+    "\066\302\067\255\070\215\071\256\074\313\075\312\076" +
+    "\305\140\226\142\243\144\213\145\273\146\235\147\311" +
+    "\150\263\151\262\152\024\153\307\001\002\000\154\003" +
+    "\uff56\004\uff56\005\uff56\006\uff56\007\uff56\010\uff56\011\uff56" +
+    "\012\uff56\013\uff56\016\uff56\020\uff56\023\uff56\024\uff56\026" +
+    "\uff56\033\uff56\034\uff56\035\uff56\036\uff56\037\uff56\040\uff56" +
+    "\041\uff56\042\uff56\043\uff56\044\uff56\045\uff56\050\uff56\052" +
+    "\uff56\053\uff56\055\uff56\057\uff56\060\uff56\061\uff56\062\uff56" +
+    "\063\uff56\064\uff56\065\uff56\066\uff56\067\uff56\070\uff56\071" +
+    "\uff56\074\uff56\075\uff56\076\uff56\140\uff56\142\uff56\144\uff56" +
+    "\145\uff56\146\uff56\147\uff56\150\uff56\151\uff56\152\uff56\153" +
+    "\uff56\001\002\000\020\014\uff03\017\uff03\020\uff3a\022\uff3a" +
+    "\027\uff3a\075\uff03\076\uff03\001\002\000\156\003\uff47\004" +
+    "\uff47\005\uff47\006\uff47\007\uff47\010\uff47\011\uff47\012\uff47" +
+    "\013\uff47\016\uff47\020\uff47\023\uff47\024\uff47\026\uff47\033" +
+    "\uff47\034\uff47\035\uff47\036\uff47\037\uff47\040\uff47\041\uff47" +
+    "\042\uff47\043\uff47\044\uff47\045\uff47\050\uff47\052\uff47\053" +
+    "\uff47\055\uff47\056\uff47\057\uff47\060\uff47\061\uff47\062\uff47" +
+    "\063\uff47\064\uff47\065\uff47\066\uff47\067\uff47\070\uff47\071" +
+    "\uff47\074\uff47\075\uff47\076\uff47\140\uff47\142\uff47\144\uff47" +
+    "\145\uff47\146\uff47\147\uff47\150\uff47\151\uff47\152\uff47\153" +
+    "\uff47\001\002\000\154\003\uff63\004\uff63\005\uff63\006\uff63" +
+    "\007\uff63\010\uff63\011\uff63\012\uff63\013\uff63\016\uff63\020" +
+    "\uff63\023\uff63\024\uff63\026\uff63\033\uff63\034\uff63\035\uff63" +
+    "\036\uff63\037\uff63\040\uff63\041\uff63\042\uff63\043\uff63\044" +
+    "\uff63\045\uff63\050\uff63\052\uff63\053\uff63\055\uff63\057\uff63" +
+    "\060\uff63\061\uff63\062\uff63\063\uff63\064\uff63\065\uff63\066" +
+    "\uff63\067\uff63\070\uff63\071\uff63\074\uff63\075\uff63\076\uff63" +
+    "\140\uff63\142\uff63\144\uff63\145\uff63\146\uff63\147\uff63\150" +
+    "\uff63\151\uff63\152\uff63\153\uff63\001\002\000\130\014\uff02" +
+    "\015\uff02\017\uff02\020\uff02\021\uff02\022\uff02\024\uff02\025" +
+    "\ufea4\027\uff02\030\uff02\075\uff02\076\uff02\077\uff02\100\uff02" +
+    "\103\uff02\104\uff02\105\uff02\106\uff02\107\uff02\110\uff02\111" +
+    "\uff02\112\uff02\113\uff02\114\uff02\115\uff02\116\uff02\117\uff02" +
+    "\120\uff02\121\uff02\122\uff02\123\uff02\124\uff02\125\ufea4\126" +
+    "\ufea4\127\ufea4\130\ufea4\131\ufea4\132\ufea4\133\ufea4\134\ufea4" +
+    "\135\ufea4\136\ufea4\137\ufea4\001\002\000\156\003\uff4c\004" +
+    "\uff4c\005\uff4c\006\uff4c\007\uff4c\010\uff4c\011\uff4c\012\uff4c" +
+    "\013\uff4c\016\uff4c\020\uff4c\023\uff4c\024\uff4c\026\uff4c\033" +
+    "\uff4c\034\uff4c\035\uff4c\036\uff4c\037\uff4c\040\uff4c\041\uff4c" +
+    "\042\uff4c\043\uff4c\044\uff4c\045\uff4c\050\uff4c\052\uff4c\053" +
+    "\uff4c\055\uff4c\056\uff4c\057\uff4c\060\uff4c\061\uff4c\062\uff4c" +
+    "\063\uff4c\064\uff4c\065\uff4c\066\uff4c\067\uff4c\070\uff4c\071" +
+    "\uff4c\074\uff4c\075\uff4c\076\uff4c\140\uff4c\142\uff4c\144\uff4c" +
+    "\145\uff4c\146\uff4c\147\uff4c\150\uff4c\151\uff4c\152\uff4c\153" +
+    "\uff4c\001\002\000\032\025\u0233\125\u022c\126\u022d\127\u0237" +
+    "\130\u0230\131\u0234\132\u0232\133\u0231\134\u022f\135\u022e\136" +
+    "\u022b\137\u0236\001\002\000\154\003\uff5f\004\uff5f\005\uff5f" +
+    "\006\uff5f\007\uff5f\010\uff5f\011\uff5f\012\uff5f\013\uff5f\016" +
+    "\uff5f\020\uff5f\023\uff5f\024\uff5f\026\uff5f\033\uff5f\034\uff5f" +
+    "\035\uff5f\036\uff5f\037\uff5f\040\uff5f\041\uff5f\042\uff5f\043" +
+    "\uff5f\044\uff5f\045\uff5f\050\uff5f\052\uff5f\053\uff5f\055\uff5f" +
+    "\057\uff5f\060\uff5f\061\uff5f\062\uff5f\063\uff5f\064\uff5f\065" +
+    "\uff5f\066\uff5f\067\uff5f\070\uff5f\071\uff5f\074\uff5f\075\uff5f" +
+    "\076\uff5f\140\uff5f\142\uff5f\144\uff5f\145\uff5f\146\uff5f\147" +
+    "\uff5f\150\uff5f\151\uff5f\152\uff5f\153\uff5f\001\002\000\006" +
+    "\016\uffe7\017\u0157\001\002\000\100\014\ufffd\015\ufffd\017" +
+    "\ufffd\020\ufffd\021\ufffd\022\ufffd\024\ufffd\027\ufffd\030\ufffd" +
+    "\075\ufffd\076\ufffd\077\ufffd\100\ufffd\103\ufffd\104\ufffd\105" +
+    "\ufffd\106\ufffd\107\ufffd\110\ufffd\111\ufffd\112\ufffd\113\ufffd" +
+    "\114\ufffd\115\ufffd\116\ufffd\117\ufffd\120\ufffd\121\ufffd\122" +
+    "\ufffd\123\ufffd\124\ufffd\001\002\000\070\003\uff83\004\uff83" +
+    "\005\uff83\006\uff83\007\uff83\010\uff83\011\uff83\012\uff83\013" +
+    "\uff83\016\uff83\020\uff83\023\uff83\024\uff83\033\uff83\034\uff83" +
+    "\035\uff83\036\uff83\037\uff83\040\uff83\041\uff83\042\uff83\043" +
+    "\uff83\044\uff83\045\uff83\050\uff83\054\uff83\152\uff83\001\002" +
+    "\000\072\004\124\005\117\006\130\007\114\010\112\011" +
+    "\116\012\126\013\134\016\014\026\326\050\254\052\343" +
+    "\053\350\074\313\075\312\076\305\077\342\100\330\101" +
+    "\340\102\332\140\226\142\243\144\213\145\273\146\235" +
+    "\147\311\150\263\151\262\001\002\000\004\020\u0228\001" +
+    "\002\000\156\003\uff45\004\uff45\005\uff45\006\uff45\007\uff45" +
+    "\010\uff45\011\uff45\012\uff45\013\uff45\016\uff45\020\uff45\023" +
+    "\uff45\024\uff45\026\uff45\033\uff45\034\uff45\035\uff45\036\uff45" +
+    "\037\uff45\040\uff45\041\uff45\042\uff45\043\uff45\044\uff45\045" +
+    "\uff45\050\uff45\052\uff45\053\uff45\055\uff45\056\uff45\057\uff45" +
+    "\060\uff45\061\uff45\062\uff45\063\uff45\064\uff45\065\uff45\066" +
+    "\uff45\067\uff45\070\uff45\071\uff45\074\uff45\075\uff45\076\uff45" +
+    "\140\uff45\142\uff45\144\uff45\145\uff45\146\uff45\147\uff45\150" +
+    "\uff45\151\uff45\152\uff45\153\uff45\001\002\000\020\014\uff05" +
+    "\017\uff05\020\uff39\022\uff39\027\uff39\075\uff05\076\uff05\001" +
+    "\002\000\156\003\uff4f\004\uff4f\005\uff4f\006\uff4f\007\uff4f" +
+    "\010\uff4f\011\uff4f\012\uff4f\013\uff4f\016\uff4f\020\uff4f\023" +
+    "\uff4f\024\uff4f\026\uff4f\033\uff4f\034\uff4f\035\uff4f\036\uff4f" +
+    "\037\uff4f\040\uff4f\041\uff4f\042\uff4f\043\uff4f\044\uff4f\045" +
+    "\uff4f\050\uff4f\052\uff4f\053\uff4f\055\uff4f\056\uff4f\057\uff4f" +
+    "\060\uff4f\061\uff4f\062\uff4f\063\uff4f\064\uff4f\065\uff4f\066" +
+    "\uff4f\067\uff4f\070\uff4f\071\uff4f\074\uff4f\075\uff4f\076\uff4f" +
+    "\140\uff4f\142\uff4f\144\uff4f\145\uff4f\146\uff4f\147\uff4f\150" +
+    "\uff4f\151\uff4f\152\uff4f\153\uff4f\001\002\000\014\020\uff3b" +
+    "\022\uff3b\027\uff3b\075\ufedb\076\ufedb\001\002\000\072\004" +
+    "\124\005\117\006\130\007\114\010\112\011\116\012\126" +
+    "\013\134\016\014\026\326\050\254\052\343\053\350\074" +
+    "\313\075\312\076\305\077\342\100\330\101\340\102\332" +
+    "\140\226\142\243\144\213\145\273\146\235\147\311\150" +
+    "\263\151\262\001\002\000\006\075\u0140\076\u013f\001\002" +
+    "\000\130\014\uff04\015\uff04\017\uff04\020\uff04\021\uff04\022" +
+    "\uff04\024\uff04\025\ufea5\027\uff04\030\uff04\075\uff04\076\uff04" +
+    "\077\uff04\100\uff04\103\uff04\104\uff04\105\uff04\106\uff04\107" +
+    "\uff04\110\uff04\111\uff04\112\uff04\113\uff04\114\uff04\115\uff04" +
+    "\116\uff04\117\uff04\120\uff04\121\uff04\122\uff04\123\uff04\124" +
+    "\uff04\125\ufea5\126\ufea5\127\ufea5\130\ufea5\131\ufea5\132\ufea5" +
+    "\133\ufea5\134\ufea5\135\ufea5\136\ufea5\137\ufea5\001\002\000" +
+    "\100\014\uffff\015\uffff\017\uffff\020\uffff\021\uffff\022\uffff" +
+    "\024\uffff\027\uffff\030\uffff\075\uffff\076\uffff\077\uffff\100" +
+    "\uffff\103\uffff\104\uffff\105\uffff\106\uffff\107\uffff\110\uffff" +
+    "\111\uffff\112\uffff\113\uffff\114\uffff\115\uffff\116\uffff\117" +
+    "\uffff\120\uffff\121\uffff\122\uffff\123\uffff\124\uffff\001\002" +
+    "\000\054\004\124\005\117\006\130\007\114\010\112\011" +
+    "\116\012\126\013\134\016\014\033\uffc0\034\uffc0\035\uffc0" +
+    "\036\uffc0\037\uffc0\040\uffc0\041\uffc0\042\uffc0\043\uffc0\044" +
+    "\uffc0\045\uffc0\152\uffc0\001\002\000\154\003\uff61\004\uff61" +
+    "\005\uff61\006\uff61\007\uff61\010\uff61\011\uff61\012\uff61\013" +
+    "\uff61\016\uff61\020\uff61\023\uff61\024\uff61\026\uff61\033\uff61" +
+    "\034\uff61\035\uff61\036\uff61\037\uff61\040\uff61\041\uff61\042" +
+    "\uff61\043\uff61\044\uff61\045\uff61\050\uff61\052\uff61\053\uff61" +
+    "\055\uff61\057\uff61\060\uff61\061\uff61\062\uff61\063\uff61\064" +
+    "\uff61\065\uff61\066\uff61\067\uff61\070\uff61\071\uff61\074\uff61" +
+    "\075\uff61\076\uff61\140\uff61\142\uff61\144\uff61\145\uff61\146" +
+    "\uff61\147\uff61\150\uff61\151\uff61\152\uff61\153\uff61\001\002" +
+    "\000\150\003\276\004\124\005\117\006\130\007\114\010" +
+    "\112\011\116\012\126\013\134\016\014\020\264\023\076" +
+    "\024\u0224\026\223\033\031\034\034\035\026\036\033\037" +
+    "\042\040\227\041\027\042\301\043\036\044\032\045\uffc9" +
+    "\050\254\052\343\053\350\055\303\057\247\062\251\063" +
+    "\244\064\252\065\260\066\302\067\255\070\215\071\256" +
+    "\074\313\075\312\076\305\140\226\142\243\144\213\145" +
+    "\273\146\235\147\311\150\263\151\262\152\024\153\307" +
+    "\001\002\000\156\003\uff4a\004\uff4a\005\uff4a\006\uff4a\007" +
+    "\uff4a\010\uff4a\011\uff4a\012\uff4a\013\uff4a\016\uff4a\020\uff4a" +
+    "\023\uff4a\024\uff4a\026\uff4a\033\uff4a\034\uff4a\035\uff4a\036" +
+    "\uff4a\037\uff4a\040\uff4a\041\uff4a\042\uff4a\043\uff4a\044\uff4a" +
+    "\045\uff4a\050\uff4a\052\uff4a\053\uff4a\055\uff4a\056\uff4a\057" +
+    "\uff4a\060\uff4a\061\uff4a\062\uff4a\063\uff4a\064\uff4a\065\uff4a" +
+    "\066\uff4a\067\uff4a\070\uff4a\071\uff4a\074\uff4a\075\uff4a\076" +
+    "\uff4a\140\uff4a\142\uff4a\144\uff4a\145\uff4a\146\uff4a\147\uff4a" +
+    "\150\uff4a\151\uff4a\152\uff4a\153\uff4a\001\002\000\156\003" +
+    "\uff44\004\uff44\005\uff44\006\uff44\007\uff44\010\uff44\011\uff44" +
+    "\012\uff44\013\uff44\016\uff44\020\uff44\023\uff44\024\uff44\026" +
+    "\uff44\033\uff44\034\uff44\035\uff44\036\uff44\037\uff44\040\uff44" +
+    "\041\uff44\042\uff44\043\uff44\044\uff44\045\uff44\050\uff44\052" +
+    "\uff44\053\uff44\055\uff44\056\uff44\057\uff44\060\uff44\061\uff44" +
+    "\062\uff44\063\uff44\064\uff44\065\uff44\066\uff44\067\uff44\070" +
+    "\uff44\071\uff44\074\uff44\075\uff44\076\uff44\140\uff44\142\uff44" +
+    "\144\uff44\145\uff44\146\uff44\147\uff44\150\uff44\151\uff44\152" +
+    "\uff44\153\uff44\001\002\000\004\020\u0222\001\002\000\100" +
+    "\014\ufffb\015\ufffb\017\ufffb\020\ufffb\021\ufffb\022\ufffb\024" +
+    "\ufffb\027\ufffb\030\ufffb\075\ufffb\076\ufffb\077\ufffb\100\ufffb" +
+    "\103\ufffb\104\ufffb\105\ufffb\106\ufffb\107\ufffb\110\ufffb\111" +
+    "\ufffb\112\ufffb\113\ufffb\114\ufffb\115\ufffb\116\ufffb\117\ufffb" +
+    "\120\ufffb\121\ufffb\122\ufffb\123\ufffb\124\ufffb\001\002\000" +
+    "\010\020\uff3e\022\uff3e\027\uff3e\001\002\000\156\003\uff4e" +
+    "\004\uff4e\005\uff4e\006\uff4e\007\uff4e\010\uff4e\011\uff4e\012" +
+    "\uff4e\013\uff4e\016\uff4e\020\uff4e\023\uff4e\024\uff4e\026\uff4e" +
+    "\033\uff4e\034\uff4e\035\uff4e\036\uff4e\037\uff4e\040\uff4e\041" +
+    "\uff4e\042\uff4e\043\uff4e\044\uff4e\045\uff4e\050\uff4e\052\uff4e" +
+    "\053\uff4e\055\uff4e\056\uff4e\057\uff4e\060\uff4e\061\uff4e\062" +
+    "\uff4e\063\uff4e\064\uff4e\065\uff4e\066\uff4e\067\uff4e\070\uff4e" +
+    "\071\uff4e\074\uff4e\075\uff4e\076\uff4e\140\uff4e\142\uff4e\144" +
+    "\uff4e\145\uff4e\146\uff4e\147\uff4e\150\uff4e\151\uff4e\152\uff4e" +
+    "\153\uff4e\001\002\000\156\003\uff48\004\uff48\005\uff48\006" +
+    "\uff48\007\uff48\010\uff48\011\uff48\012\uff48\013\uff48\016\uff48" +
+    "\020\uff48\023\uff48\024\uff48\026\uff48\033\uff48\034\uff48\035" +
+    "\uff48\036\uff48\037\uff48\040\uff48\041\uff48\042\uff48\043\uff48" +
+    "\044\uff48\045\uff48\050\uff48\052\uff48\053\uff48\055\uff48\056" +
+    "\uff48\057\uff48\060\uff48\061\uff48\062\uff48\063\uff48\064\uff48" +
+    "\065\uff48\066\uff48\067\uff48\070\uff48\071\uff48\074\uff48\075" +
+    "\uff48\076\uff48\140\uff48\142\uff48\144\uff48\145\uff48\146\uff48" +
+    "\147\uff48\150\uff48\151\uff48\152\uff48\153\uff48\001\002\000" +
+    "\154\003\uff59\004\uff59\005\uff59\006\uff59\007\uff59\010\uff59" +
+    "\011\uff59\012\uff59\013\uff59\016\uff59\020\uff59\023\uff59\024" +
+    "\uff59\026\uff59\033\uff59\034\uff59\035\uff59\036\uff59\037\uff59" +
+    "\040\uff59\041\uff59\042\uff59\043\uff59\044\uff59\045\uff59\050" +
+    "\uff59\052\uff59\053\uff59\055\uff59\057\uff59\060\uff59\061\uff59" +
+    "\062\uff59\063\uff59\064\uff59\065\uff59\066\uff59\067\uff59\070" +
+    "\uff59\071\uff59\074\uff59\075\uff59\076\uff59\140\uff59\142\uff59" +
+    "\144\uff59\145\uff59\146\uff59\147\uff59\150\uff59\151\uff59\152" +
+    "\uff59\153\uff59\001\002\000\006\017\u0143\026\u021e\001\002" +
+    "\000\100\014\ufffe\015\ufffe\017\ufffe\020\ufffe\021\ufffe\022" +
+    "\ufffe\024\ufffe\027\ufffe\030\ufffe\075\ufffe\076\ufffe\077\ufffe" +
+    "\100\ufffe\103\ufffe\104\ufffe\105\ufffe\106\ufffe\107\ufffe\110" +
+    "\ufffe\111\ufffe\112\ufffe\113\ufffe\114\ufffe\115\ufffe\116\ufffe" +
+    "\117\ufffe\120\ufffe\121\ufffe\122\ufffe\123\ufffe\124\ufffe\001" +
+    "\002\000\004\026\u021b\001\002\000\076\015\uff09\017\uff09" +
+    "\020\uff09\021\uff09\022\uff09\024\uff09\027\uff09\030\uff09\075" +
+    "\uff09\076\uff09\077\uff09\100\uff09\103\uff09\104\uff09\105\uff09" +
+    "\106\uff09\107\uff09\110\uff09\111\uff09\112\uff09\113\uff09\114" +
+    "\uff09\115\uff09\116\uff09\117\uff09\120\uff09\121\uff09\122\uff09" +
+    "\123\uff09\124\uff09\001\002\000\004\016\014\001\002\000" +
+    "\004\026\u0202\001\002\000\154\003\uff5b\004\uff5b\005\uff5b" +
+    "\006\uff5b\007\uff5b\010\uff5b\011\uff5b\012\uff5b\013\uff5b\016" +
+    "\uff5b\020\uff5b\023\uff5b\024\uff5b\026\uff5b\033\uff5b\034\uff5b" +
+    "\035\uff5b\036\uff5b\037\uff5b\040\uff5b\041\uff5b\042\uff5b\043" +
+    "\uff5b\044\uff5b\045\uff5b\050\uff5b\052\uff5b\053\uff5b\055\uff5b" +
+    "\057\uff5b\060\uff5b\061\uff5b\062\uff5b\063\uff5b\064\uff5b\065" +
+    "\uff5b\066\uff5b\067\uff5b\070\uff5b\071\uff5b\074\uff5b\075\uff5b" +
+    "\076\uff5b\140\uff5b\142\uff5b\144\uff5b\145\uff5b\146\uff5b\147" +
+    "\uff5b\150\uff5b\151\uff5b\152\uff5b\153\uff5b\001\002\000\120" +
+    "\003\276\004\124\005\117\006\130\007\114\010\112\011" +
+    "\116\012\126\013\134\016\014\020\264\023\076\026\223" +
+    "\042\u019a\050\254\052\343\053\350\055\303\057\247\062" +
+    "\251\063\244\064\252\065\260\066\302\067\255\070\215" +
+    "\071\256\074\313\075\312\076\305\140\226\142\243\144" +
+    "\213\145\273\146\235\147\311\150\263\151\262\153\307" +
+    "\001\002\000\004\026\u01f5\001\002\000\050\014\uffdf\016" +
+    "\uffdf\017\uffdf\025\uffdf\026\uffdf\030\u01f4\075\uffdf\076\uffdf" +
+    "\125\uffdf\126\uffdf\127\uffdf\130\uffdf\131\uffdf\132\uffdf\133" +
+    "\uffdf\134\uffdf\135\uffdf\136\uffdf\137\uffdf\001\002\000\004" +
+    "\017\u01f2\001\002\000\074\004\124\005\117\006\130\007" +
+    "\114\010\112\011\116\012\126\013\134\016\014\020\ufe97" +
+    "\026\326\050\254\052\343\053\350\074\313\075\312\076" +
+    "\305\077\342\100\330\101\340\102\332\140\226\142\243" +
+    "\144\213\145\273\146\235\147\311\150\263\151\262\001" +
+    "\002\000\006\003\u01a7\023\076\001\002\000\156\003\uff4d" +
+    "\004\uff4d\005\uff4d\006\uff4d\007\uff4d\010\uff4d\011\uff4d\012" +
+    "\uff4d\013\uff4d\016\uff4d\020\uff4d\023\uff4d\024\uff4d\026\uff4d" +
+    "\033\uff4d\034\uff4d\035\uff4d\036\uff4d\037\uff4d\040\uff4d\041" +
+    "\uff4d\042\uff4d\043\uff4d\044\uff4d\045\uff4d\050\uff4d\052\uff4d" +
+    "\053\uff4d\055\uff4d\056\uff4d\057\uff4d\060\uff4d\061\uff4d\062" +
+    "\uff4d\063\uff4d\064\uff4d\065\uff4d\066\uff4d\067\uff4d\070\uff4d" +
+    "\071\uff4d\074\uff4d\075\uff4d\076\uff4d\140\uff4d\142\uff4d\144" +
+    "\uff4d\145\uff4d\146\uff4d\147\uff4d\150\uff4d\151\uff4d\152\uff4d" +
+    "\153\uff4d\001\002\000\006\016\014\020\uff1b\001\002\000" +
+    "\046\014\u0111\016\uffe6\017\u0113\025\ufea6\026\u0112\075\ufedd" +
+    "\076\ufedd\125\ufea6\126\ufea6\127\ufea6\130\ufea6\131\ufea6\132" +
+    "\ufea6\133\ufea6\134\ufea6\135\ufea6\136\ufea6\137\ufea6\001\002" +
+    "\000\100\014\ufff8\015\ufff8\017\ufff8\020\ufff8\021\ufff8\022" +
+    "\ufff8\024\ufff8\027\ufff8\030\ufff8\075\ufff8\076\ufff8\077\ufff8" +
+    "\100\ufff8\103\ufff8\104\ufff8\105\ufff8\106\ufff8\107\ufff8\110" +
+    "\ufff8\111\ufff8\112\ufff8\113\ufff8\114\ufff8\115\ufff8\116\ufff8" +
+    "\117\ufff8\120\ufff8\121\ufff8\122\ufff8\123\ufff8\124\ufff8\001" +
+    "\002\000\100\014\ufff9\015\ufff9\017\ufff9\020\ufff9\021\ufff9" +
+    "\022\ufff9\024\ufff9\027\ufff9\030\ufff9\075\ufff9\076\ufff9\077" +
+    "\ufff9\100\ufff9\103\ufff9\104\ufff9\105\ufff9\106\ufff9\107\ufff9" +
+    "\110\ufff9\111\ufff9\112\ufff9\113\ufff9\114\ufff9\115\ufff9\116" +
+    "\ufff9\117\ufff9\120\ufff9\121\ufff9\122\ufff9\123\ufff9\124\ufff9" +
+    "\001\002\000\156\003\uff43\004\uff43\005\uff43\006\uff43\007" +
+    "\uff43\010\uff43\011\uff43\012\uff43\013\uff43\016\uff43\020\uff43" +
+    "\023\uff43\024\uff43\026\uff43\033\uff43\034\uff43\035\uff43\036" +
+    "\uff43\037\uff43\040\uff43\041\uff43\042\uff43\043\uff43\044\uff43" +
+    "\045\uff43\050\uff43\052\uff43\053\uff43\055\uff43\056\uff43\057" +
+    "\uff43\060\uff43\061\uff43\062\uff43\063\uff43\064\uff43\065\uff43" +
+    "\066\uff43\067\uff43\070\uff43\071\uff43\074\uff43\075\uff43\076" +
+    "\uff43\140\uff43\142\uff43\144\uff43\145\uff43\146\uff43\147\uff43" +
+    "\150\uff43\151\uff43\152\uff43\153\uff43\001\002\000\014\014" +
+    "\uff07\017\uff07\026\u01dd\075\uff07\076\uff07\001\002\000\010" +
+    "\014\136\016\ufff5\017\u013d\001\002\000\010\020\uff3f\022" +
+    "\uff3f\027\uff3f\001\002\000\154\003\uff57\004\uff57\005\uff57" +
+    "\006\uff57\007\uff57\010\uff57\011\uff57\012\uff57\013\uff57\016" +
+    "\uff57\020\uff57\023\uff57\024\uff57\026\uff57\033\uff57\034\uff57" +
+    "\035\uff57\036\uff57\037\uff57\040\uff57\041\uff57\042\uff57\043" +
+    "\uff57\044\uff57\045\uff57\050\uff57\052\uff57\053\uff57\055\uff57" +
+    "\057\uff57\060\uff57\061\uff57\062\uff57\063\uff57\064\uff57\065" +
+    "\uff57\066\uff57\067\uff57\070\uff57\071\uff57\074\uff57\075\uff57" +
+    "\076\uff57\140\uff57\142\uff57\144\uff57\145\uff57\146\uff57\147" +
+    "\uff57\150\uff57\151\uff57\152\uff57\153\uff57\001\002\000\004" +
+    "\045\050\001\002\000\010\017\u01d2\075\ufede\076\ufede\001" +
+    "\002\000\100\014\ufffc\015\ufffc\017\ufffc\020\ufffc\021\ufffc" +
+    "\022\ufffc\024\ufffc\027\ufffc\030\ufffc\075\ufffc\076\ufffc\077" +
+    "\ufffc\100\ufffc\103\ufffc\104\ufffc\105\ufffc\106\ufffc\107\ufffc" +
+    "\110\ufffc\111\ufffc\112\ufffc\113\ufffc\114\ufffc\115\ufffc\116" +
+    "\ufffc\117\ufffc\120\ufffc\121\ufffc\122\ufffc\123\ufffc\124\ufffc" +
+    "\001\002\000\156\003\uff49\004\uff49\005\uff49\006\uff49\007" +
+    "\uff49\010\uff49\011\uff49\012\uff49\013\uff49\016\uff49\020\uff49" +
+    "\023\uff49\024\uff49\026\uff49\033\uff49\034\uff49\035\uff49\036" +
+    "\uff49\037\uff49\040\uff49\041\uff49\042\uff49\043\uff49\044\uff49" +
+    "\045\uff49\050\uff49\052\uff49\053\uff49\055\uff49\056\uff49\057" +
+    "\uff49\060\uff49\061\uff49\062\uff49\063\uff49\064\uff49\065\uff49" +
+    "\066\uff49\067\uff49\070\uff49\071\uff49\074\uff49\075\uff49\076" +
+    "\uff49\140\uff49\142\uff49\144\uff49\145\uff49\146\uff49\147\uff49" +
+    "\150\uff49\151\uff49\152\uff49\153\uff49\001\002\000\010\020" +
+    "\uff3d\022\uff3d\027\uff3d\001\002\000\006\020\u01d1\024\u01a9" +
+    "\001\002\000\154\003\uff5a\004\uff5a\005\uff5a\006\uff5a\007" +
+    "\uff5a\010\uff5a\011\uff5a\012\uff5a\013\uff5a\016\uff5a\020\uff5a" +
+    "\023\uff5a\024\uff5a\026\uff5a\033\uff5a\034\uff5a\035\uff5a\036" +
+    "\uff5a\037\uff5a\040\uff5a\041\uff5a\042\uff5a\043\uff5a\044\uff5a" +
+    "\045\uff5a\050\uff5a\052\uff5a\053\uff5a\055\uff5a\057\uff5a\060" +
+    "\uff5a\061\uff5a\062\uff5a\063\uff5a\064\uff5a\065\uff5a\066\uff5a" +
+    "\067\uff5a\070\uff5a\071\uff5a\074\uff5a\075\uff5a\076\uff5a\140" +
+    "\uff5a\142\uff5a\144\uff5a\145\uff5a\146\uff5a\147\uff5a\150\uff5a" +
+    "\151\uff5a\152\uff5a\153\uff5a\001\002\000\154\003\uff58\004" +
+    "\uff58\005\uff58\006\uff58\007\uff58\010\uff58\011\uff58\012\uff58" +
+    "\013\uff58\016\uff58\020\uff58\023\uff58\024\uff58\026\uff58\033" +
+    "\uff58\034\uff58\035\uff58\036\uff58\037\uff58\040\uff58\041\uff58" +
+    "\042\uff58\043\uff58\044\uff58\045\uff58\050\uff58\052\uff58\053" +
+    "\uff58\055\uff58\057\uff58\060\uff58\061\uff58\062\uff58\063\uff58" +
+    "\064\uff58\065\uff58\066\uff58\067\uff58\070\uff58\071\uff58\074" +
+    "\uff58\075\uff58\076\uff58\140\uff58\142\uff58\144\uff58\145\uff58" +
+    "\146\uff58\147\uff58\150\uff58\151\uff58\152\uff58\153\uff58\001" +
+    "\002\000\034\026\u01a4\033\uffbe\034\uffbe\035\uffbe\036\uffbe" +
+    "\037\uffbe\040\uffbe\041\uffbe\042\uffbe\043\uffbe\044\uffbe\045" +
+    "\uffbe\152\uffbe\001\002\000\006\016\014\020\uff1b\001\002" +
+    "\000\004\026\u018e\001\002\000\156\003\uff46\004\uff46\005" +
+    "\uff46\006\uff46\007\uff46\010\uff46\011\uff46\012\uff46\013\uff46" +
+    "\016\uff46\020\uff46\023\uff46\024\uff46\026\uff46\033\uff46\034" +
+    "\uff46\035\uff46\036\uff46\037\uff46\040\uff46\041\uff46\042\uff46" +
+    "\043\uff46\044\uff46\045\uff46\050\uff46\052\uff46\053\uff46\055" +
+    "\uff46\056\uff46\057\uff46\060\uff46\061\uff46\062\uff46\063\uff46" +
+    "\064\uff46\065\uff46\066\uff46\067\uff46\070\uff46\071\uff46\074" +
+    "\uff46\075\uff46\076\uff46\140\uff46\142\uff46\144\uff46\145\uff46" +
+    "\146\uff46\147\uff46\150\uff46\151\uff46\152\uff46\153\uff46\001" +
+    "\002\000\072\004\124\005\117\006\130\007\114\010\112" +
+    "\011\116\012\126\013\134\016\014\026\326\050\254\052" +
+    "\343\053\350\074\313\075\312\076\305\077\342\100\330" +
+    "\101\340\102\332\140\226\142\243\144\213\145\273\146" +
+    "\235\147\311\150\263\151\262\001\002\000\014\020\uff3c" +
+    "\022\uff3c\027\uff3c\075\ufedc\076\ufedc\001\002\000\072\004" +
+    "\124\005\117\006\130\007\114\010\112\011\116\012\126" +
+    "\013\134\016\014\026\326\050\254\052\343\053\350\074" +
+    "\313\075\312\076\305\077\342\100\330\101\340\102\332" +
+    "\140\226\142\243\144\213\145\273\146\235\147\311\150" +
+    "\263\151\262\001\002\000\100\014\u0185\015\uff0a\017\uff0a" +
+    "\020\uff0a\021\uff0a\022\uff0a\024\uff0a\027\uff0a\030\uff0a\075" +
+    "\uff0a\076\uff0a\077\uff0a\100\uff0a\103\uff0a\104\uff0a\105\uff0a" +
+    "\106\uff0a\107\uff0a\110\uff0a\111\uff0a\112\uff0a\113\uff0a\114" +
+    "\uff0a\115\uff0a\116\uff0a\117\uff0a\120\uff0a\121\uff0a\122\uff0a" +
+    "\123\uff0a\124\uff0a\001\002\000\100\014\ufffa\015\ufffa\017" +
+    "\ufffa\020\ufffa\021\ufffa\022\ufffa\024\ufffa\027\ufffa\030\ufffa" +
+    "\075\ufffa\076\ufffa\077\ufffa\100\ufffa\103\ufffa\104\ufffa\105" +
+    "\ufffa\106\ufffa\107\ufffa\110\ufffa\111\ufffa\112\ufffa\113\ufffa" +
+    "\114\ufffa\115\ufffa\116\ufffa\117\ufffa\120\ufffa\121\ufffa\122" +
+    "\ufffa\123\ufffa\124\ufffa\001\002\000\072\004\124\005\117" +
+    "\006\130\007\114\010\112\011\116\012\126\013\134\016" +
+    "\014\026\326\050\254\052\343\053\350\074\313\075\312" +
+    "\076\305\077\342\100\330\101\340\102\332\140\226\142" +
+    "\243\144\213\145\273\146\235\147\311\150\263\151\262" +
+    "\001\002\000\024\004\124\005\117\006\130\007\114\010" +
+    "\112\011\116\012\126\013\134\016\014\001\002\000\154" +
+    "\003\uff60\004\uff60\005\uff60\006\uff60\007\uff60\010\uff60\011" +
+    "\uff60\012\uff60\013\uff60\016\uff60\020\uff60\023\uff60\024\uff60" +
+    "\026\uff60\033\uff60\034\uff60\035\uff60\036\uff60\037\uff60\040" +
+    "\uff60\041\uff60\042\uff60\043\uff60\044\uff60\045\uff60\050\uff60" +
+    "\052\uff60\053\uff60\055\uff60\057\uff60\060\uff60\061\uff60\062" +
+    "\uff60\063\uff60\064\uff60\065\uff60\066\uff60\067\uff60\070\uff60" +
+    "\071\uff60\074\uff60\075\uff60\076\uff60\140\uff60\142\uff60\144" +
+    "\uff60\145\uff60\146\uff60\147\uff60\150\uff60\151\uff60\152\uff60" +
+    "\153\uff60\001\002\000\100\014\uff08\015\uff08\017\uff08\020" +
+    "\uff08\021\uff08\022\uff08\024\uff08\027\uff08\030\uff08\075\uff08" +
+    "\076\uff08\077\uff08\100\uff08\103\uff08\104\uff08\105\uff08\106" +
+    "\uff08\107\uff08\110\uff08\111\uff08\112\uff08\113\uff08\114\uff08" +
+    "\115\uff08\116\uff08\117\uff08\120\uff08\121\uff08\122\uff08\123" +
+    "\uff08\124\uff08\001\002\000\156\003\uff4b\004\uff4b\005\uff4b" +
+    "\006\uff4b\007\uff4b\010\uff4b\011\uff4b\012\uff4b\013\uff4b\016" +
+    "\uff4b\020\uff4b\023\uff4b\024\uff4b\026\uff4b\033\uff4b\034\uff4b" +
+    "\035\uff4b\036\uff4b\037\uff4b\040\uff4b\041\uff4b\042\uff4b\043" +
+    "\uff4b\044\uff4b\045\uff4b\050\uff4b\052\uff4b\053\uff4b\055\uff4b" +
+    "\056\uff4b\057\uff4b\060\uff4b\061\uff4b\062\uff4b\063\uff4b\064" +
+    "\uff4b\065\uff4b\066\uff4b\067\uff4b\070\uff4b\071\uff4b\074\uff4b" +
+    "\075\uff4b\076\uff4b\140\uff4b\142\uff4b\144\uff4b\145\uff4b\146" +
+    "\uff4b\147\uff4b\150\uff4b\151\uff4b\152\uff4b\153\uff4b\001\002" +
+    "\000\006\014\u016c\026\uffe5\001\002\000\004\014\u016c\001" +
+    "\002\000\004\026\322\001\002\000\074\004\124\005\117" +
+    "\006\130\007\114\010\112\011\116\012\126\013\134\016" +
+    "\014\026\326\027\ufef6\050\254\052\343\053\350\074\313" +
+    "\075\312\076\305\077\342\100\330\101\340\102\332\140" +
+    "\226\142\243\144\213\145\273\146\235\147\311\150\263" +
+    "\151\262\001\002\000\062\015\ufec2\020\ufec2\022\ufec2\024" +
+    "\ufec2\027\ufec2\030\ufec2\077\u0105\100\u0106\105\ufec2\106\ufec2" +
+    "\107\ufec2\110\ufec2\111\ufec2\112\ufec2\113\ufec2\114\ufec2\115" +
+    "\ufec2\116\ufec2\117\ufec2\120\ufec2\121\ufec2\122\ufec2\123\ufec2" +
+    "\124\ufec2\001\002\000\024\015\ufead\020\ufead\022\ufead\024" +
+    "\ufead\027\ufead\030\ufead\122\u013b\123\ufead\124\ufead\001\002" +
+    "\000\074\015\ufedc\020\ufedc\021\ufedc\022\ufedc\024\ufedc\027" +
+    "\ufedc\030\ufedc\075\ufedc\076\ufedc\077\ufedc\100\ufedc\103\ufedc" +
+    "\104\ufedc\105\ufedc\106\ufedc\107\ufedc\110\ufedc\111\ufedc\112" +
+    "\ufedc\113\ufedc\114\ufedc\115\ufedc\116\ufedc\117\ufedc\120\ufedc" +
+    "\121\ufedc\122\ufedc\123\ufedc\124\ufedc\001\002\000\072\004" +
+    "\124\005\117\006\130\007\114\010\112\011\116\012\126" +
+    "\013\134\016\014\026\326\050\254\052\343\053\350\074" +
+    "\313\075\312\076\305\077\342\100\330\101\340\102\332" +
+    "\140\226\142\243\144\213\145\273\146\235\147\311\150" +
+    "\263\151\262\001\002\000\070\015\ufed7\020\ufed7\021\ufed7" +
+    "\022\ufed7\024\ufed7\027\ufed7\030\ufed7\077\ufed7\100\ufed7\103" +
+    "\ufed7\104\ufed7\105\ufed7\106\ufed7\107\ufed7\110\ufed7\111\ufed7" +
+    "\112\ufed7\113\ufed7\114\ufed7\115\ufed7\116\ufed7\117\ufed7\120" +
+    "\ufed7\121\ufed7\122\ufed7\123\ufed7\124\ufed7\001\002\000\076" +
+    "\004\124\005\117\006\130\007\114\010\112\011\116\012" +
+    "\126\013\134\016\014\026\326\050\254\052\343\053\350" +
+    "\074\313\075\312\076\305\077\342\100\330\101\340\102" +
+    "\332\140\226\141\u015a\142\243\143\u015d\144\213\145\273" +
+    "\146\235\147\311\150\263\151\262\001\002\000\132\014" +
+    "\u0111\015\ufedd\017\u0113\020\ufedd\021\ufedd\022\ufedd\024\ufedd" +
+    "\025\ufea6\026\u0112\027\ufedd\030\ufedd\075\ufedd\076\ufedd\077" +
+    "\ufedd\100\ufedd\103\ufedd\104\ufedd\105\ufedd\106\ufedd\107\ufedd" +
+    "\110\ufedd\111\ufedd\112\ufedd\113\ufedd\114\ufedd\115\ufedd\116" +
+    "\ufedd\117\ufedd\120\ufedd\121\ufedd\122\ufedd\123\ufedd\124\ufedd" +
+    "\125\ufea6\126\ufea6\127\ufea6\130\ufea6\131\ufea6\132\ufea6\133" +
+    "\ufea6\134\ufea6\135\ufea6\136\ufea6\137\ufea6\001\002\000\072" +
+    "\004\124\005\117\006\130\007\114\010\112\011\116\012" +
+    "\126\013\134\016\014\026\326\050\254\052\343\053\350" +
+    "\074\313\075\312\076\305\077\342\100\330\101\340\102" +
+    "\332\140\226\142\243\144\213\145\273\146\235\147\311" +
+    "\150\263\151\262\001\002\000\036\015\ufeb5\020\ufeb5\022" +
+    "\ufeb5\024\ufeb5\027\ufeb5\030\ufeb5\115\u0132\116\u0131\117\ufeb5" +
+    "\120\ufeb5\121\ufeb5\122\ufeb5\123\ufeb5\124\ufeb5\001\002\000" +
+    "\004\017\u0157\001\002\000\030\015\ufeb1\020\ufeb1\022\ufeb1" +
+    "\024\ufeb1\027\ufeb1\030\ufeb1\120\u012d\121\ufeb1\122\ufeb1\123" +
+    "\ufeb1\124\ufeb1\001\002\000\070\015\ufecd\020\ufecd\021\ufecd" +
+    "\022\ufecd\024\ufecd\027\ufecd\030\ufecd\077\ufecd\100\ufecd\103" +
+    "\ufecd\104\ufecd\105\ufecd\106\ufecd\107\ufecd\110\ufecd\111\ufecd" +
+    "\112\ufecd\113\ufecd\114\ufecd\115\ufecd\116\ufecd\117\ufecd\120" +
+    "\ufecd\121\ufecd\122\ufecd\123\ufecd\124\ufecd\001\002\000\016" +
+    "\015\ufea8\020\ufea8\022\ufea8\024\ufea8\027\ufea8\030\ufea8\001" +
+    "\002\000\072\004\124\005\117\006\130\007\114\010\112" +
+    "\011\116\012\126\013\134\016\014\026\326\050\254\052" +
+    "\343\053\350\074\313\075\312\076\305\077\342\100\330" +
+    "\101\340\102\332\140\226\142\243\144\213\145\273\146" +
+    "\235\147\311\150\263\151\262\001\002\000\076\015\ufede" +
+    "\017\u014b\020\ufede\021\ufede\022\ufede\024\ufede\027\ufede\030" +
+    "\ufede\075\ufede\076\ufede\077\ufede\100\ufede\103\ufede\104\ufede" +
+    "\105\ufede\106\ufede\107\ufede\110\ufede\111\ufede\112\ufede\113" +
+    "\ufede\114\ufede\115\ufede\116\ufede\117\ufede\120\ufede\121\ufede" +
+    "\122\ufede\123\ufede\124\ufede\001\002\000\072\004\124\005" +
+    "\117\006\130\007\114\010\112\011\116\012\126\013\134" +
+    "\016\014\026\326\050\254\052\343\053\350\074\313\075" +
+    "\312\076\305\077\342\100\330\101\340\102\332\140\226" +
+    "\142\243\144\213\145\273\146\235\147\311\150\263\151" +
+    "\262\001\002\000\100\014\uff07\015\uff07\017\uff07\020\uff07" +
+    "\021\uff07\022\uff07\024\uff07\027\uff07\030\uff07\075\uff07\076" +
+    "\uff07\077\uff07\100\uff07\103\uff07\104\uff07\105\uff07\106\uff07" +
+    "\107\uff07\110\uff07\111\uff07\112\uff07\113\uff07\114\uff07\115" +
+    "\uff07\116\uff07\117\uff07\120\uff07\121\uff07\122\uff07\123\uff07" +
+    "\124\uff07\001\002\000\004\027\u0148\001\002\000\006\022" +
+    "\ufef4\027\ufef4\001\002\000\070\015\ufec9\020\ufec9\021\ufec9" +
+    "\022\ufec9\024\ufec9\027\ufec9\030\ufec9\077\ufec9\100\ufec9\103" +
+    "\ufec9\104\ufec9\105\ufec9\106\ufec9\107\ufec9\110\ufec9\111\ufec9" +
+    "\112\ufec9\113\ufec9\114\ufec9\115\ufec9\116\ufec9\117\ufec9\120" +
+    "\ufec9\121\ufec9\122\ufec9\123\ufec9\124\ufec9\001\002\000\074" +
+    "\015\ufedb\020\ufedb\021\ufedb\022\ufedb\024\ufedb\027\ufedb\030" +
+    "\ufedb\075\ufedb\076\ufedb\077\ufedb\100\ufedb\103\ufedb\104\ufedb" +
+    "\105\ufedb\106\ufedb\107\ufedb\110\ufedb\111\ufedb\112\ufedb\113" +
+    "\ufedb\114\ufedb\115\ufedb\116\ufedb\117\ufedb\120\ufedb\121\ufedb" +
+    "\122\ufedb\123\ufedb\124\ufedb\001\002\000\004\017\u0143\001" +
+    "\002\000\016\015\ufea9\020\ufea9\022\ufea9\024\ufea9\027\ufea9" +
+    "\030\ufea9\001\002\000\006\022\u0141\027\ufef5\001\002\000" +
+    "\074\015\ufed0\020\ufed0\021\ufed0\022\ufed0\024\ufed0\027\ufed0" +
+    "\030\ufed0\075\u0140\076\u013f\077\ufed0\100\ufed0\103\ufed0\104" +
+    "\ufed0\105\ufed0\106\ufed0\107\ufed0\110\ufed0\111\ufed0\112\ufed0" +
+    "\113\ufed0\114\ufed0\115\ufed0\116\ufed0\117\ufed0\120\ufed0\121" +
+    "\ufed0\122\ufed0\123\ufed0\124\ufed0\001\002\000\070\015\ufed3" +
+    "\020\ufed3\021\ufed3\022\ufed3\024\ufed3\027\ufed3\030\ufed3\077" +
+    "\ufed3\100\ufed3\103\ufed3\104\ufed3\105\ufed3\106\ufed3\107\ufed3" +
+    "\110\ufed3\111\ufed3\112\ufed3\113\ufed3\114\ufed3\115\ufed3\116" +
+    "\ufed3\117\ufed3\120\ufed3\121\ufed3\122\ufed3\123\ufed3\124\ufed3" +
+    "\001\002\000\006\014\136\017\u013d\001\002\000\056\015" +
+    "\ufebe\020\ufebe\022\ufebe\024\ufebe\027\ufebe\030\ufebe\105\u0101" +
+    "\106\u0103\107\u0102\110\ufebe\111\ufebe\112\ufebe\113\ufebe\114" +
+    "\ufebe\115\ufebe\116\ufebe\117\ufebe\120\ufebe\121\ufebe\122\ufebe" +
+    "\123\ufebe\124\ufebe\001\002\000\022\015\ufeab\020\ufeab\022" +
+    "\ufeab\024\ufeab\027\ufeab\030\ufeab\123\u0135\124\u0136\001\002" +
+    "\000\100\014\uff05\015\uff05\017\uff05\020\uff05\021\uff05\022" +
+    "\uff05\024\uff05\027\uff05\030\uff05\075\uff05\076\uff05\077\uff05" +
+    "\100\uff05\103\uff05\104\uff05\105\uff05\106\uff05\107\uff05\110" +
+    "\uff05\111\uff05\112\uff05\113\uff05\114\uff05\115\uff05\116\uff05" +
+    "\117\uff05\120\uff05\121\uff05\122\uff05\123\uff05\124\uff05\001" +
+    "\002\000\032\015\ufeb3\020\ufeb3\022\ufeb3\024\ufeb3\027\ufeb3" +
+    "\030\ufeb3\117\u012f\120\ufeb3\121\ufeb3\122\ufeb3\123\ufeb3\124" +
+    "\ufeb3\001\002\000\026\015\ufeaf\020\ufeaf\022\ufeaf\024\ufeaf" +
+    "\027\ufeaf\030\ufeaf\121\u012b\122\ufeaf\123\ufeaf\124\ufeaf\001" +
+    "\002\000\016\015\ufe95\020\ufe95\022\ufe95\024\ufe95\027\ufe95" +
+    "\030\ufe95\001\002\000\100\014\uff03\015\uff03\017\uff03\020" +
+    "\uff03\021\uff03\022\uff03\024\uff03\027\uff03\030\uff03\075\uff03" +
+    "\076\uff03\077\uff03\100\uff03\103\uff03\104\uff03\105\uff03\106" +
+    "\uff03\107\uff03\110\uff03\111\uff03\112\uff03\113\uff03\114\uff03" +
+    "\115\uff03\116\uff03\117\uff03\120\uff03\121\uff03\122\uff03\123" +
+    "\uff03\124\uff03\001\002\000\070\015\ufec5\020\ufec5\021\u0109" +
+    "\022\ufec5\024\ufec5\027\ufec5\030\ufec5\077\ufec5\100\ufec5\103" +
+    "\u010a\104\u0108\105\ufec5\106\ufec5\107\ufec5\110\ufec5\111\ufec5" +
+    "\112\ufec5\113\ufec5\114\ufec5\115\ufec5\116\ufec5\117\ufec5\120" +
+    "\ufec5\121\ufec5\122\ufec5\123\ufec5\124\ufec5\001\002\000\070" +
+    "\015\ufed8\020\ufed8\021\ufed8\022\ufed8\024\ufed8\027\ufed8\030" +
+    "\ufed8\077\ufed8\100\ufed8\103\ufed8\104\ufed8\105\ufed8\106\ufed8" +
+    "\107\ufed8\110\ufed8\111\ufed8\112\ufed8\113\ufed8\114\ufed8\115" +
+    "\ufed8\116\ufed8\117\ufed8\120\ufed8\121\ufed8\122\ufed8\123\ufed8" +
+    "\124\ufed8\001\002\000\050\015\ufeb8\020\ufeb8\022\ufeb8\024" +
+    "\ufeb8\027\ufeb8\030\ufeb8\110\370\111\372\112\374\113\371" +
+    "\114\373\115\ufeb8\116\ufeb8\117\ufeb8\120\ufeb8\121\ufeb8\122" +
+    "\ufeb8\123\ufeb8\124\ufeb8\001\002\000\072\004\124\005\117" +
+    "\006\130\007\114\010\112\011\116\012\126\013\134\016" +
+    "\014\026\326\050\254\052\343\053\350\074\313\075\312" +
+    "\076\305\077\342\100\330\101\340\102\332\140\226\142" +
+    "\243\144\213\145\273\146\235\147\311\150\263\151\262" +
+    "\001\002\000\072\004\124\005\117\006\130\007\114\010" +
+    "\112\011\116\012\126\013\134\016\014\026\326\050\254" +
+    "\052\343\053\350\074\313\075\312\076\305\077\342\100" +
+    "\330\101\340\102\332\140\226\142\243\144\213\145\273" +
+    "\146\235\147\311\150\263\151\262\001\002\000\072\004" +
+    "\124\005\117\006\130\007\114\010\112\011\116\012\126" +
+    "\013\134\016\014\026\326\050\254\052\343\053\350\074" +
+    "\313\075\312\076\305\077\342\100\330\101\340\102\332" +
+    "\140\226\142\243\144\213\145\273\146\235\147\311\150" +
+    "\263\151\262\001\002\000\024\004\124\005\117\006\130" +
+    "\007\114\010\112\011\116\012\126\013\134\016\014\001" +
+    "\002\000\072\004\124\005\117\006\130\007\114\010\112" +
+    "\011\116\012\126\013\134\016\014\026\326\050\254\052" +
+    "\343\053\350\074\313\075\312\076\305\077\342\100\330" +
+    "\101\340\102\332\140\226\142\243\144\213\145\273\146" +
+    "\235\147\311\150\263\151\262\001\002\000\100\014\uff04" +
+    "\015\uff04\017\uff04\020\uff04\021\uff04\022\uff04\024\uff04\027" +
+    "\uff04\030\uff04\075\uff04\076\uff04\077\uff04\100\uff04\103\uff04" +
+    "\104\uff04\105\uff04\106\uff04\107\uff04\110\uff04\111\uff04\112" +
+    "\uff04\113\uff04\114\uff04\115\uff04\116\uff04\117\uff04\120\uff04" +
+    "\121\uff04\122\uff04\123\uff04\124\uff04\001\002\000\102\014" +
+    "\u0111\015\ufedd\017\u0113\020\ufedd\021\ufedd\022\ufedd\024\ufedd" +
+    "\026\u0112\027\ufedd\030\ufedd\075\ufedd\076\ufedd\077\ufedd\100" +
+    "\ufedd\103\ufedd\104\ufedd\105\ufedd\106\ufedd\107\ufedd\110\ufedd" +
+    "\111\ufedd\112\ufedd\113\ufedd\114\ufedd\115\ufedd\116\ufedd\117" +
+    "\ufedd\120\ufedd\121\ufedd\122\ufedd\123\ufedd\124\ufedd\001\002" +
+    "\000\056\015\ufebb\020\ufebb\022\ufebb\024\ufebb\027\ufebb\030" +
+    "\ufebb\105\u0101\106\u0103\107\u0102\110\ufebb\111\ufebb\112\ufebb" +
+    "\113\ufebb\114\ufebb\115\ufebb\116\ufebb\117\ufebb\120\ufebb\121" +
+    "\ufebb\122\ufebb\123\ufebb\124\ufebb\001\002\000\100\014\uff02" +
+    "\015\uff02\017\uff02\020\uff02\021\uff02\022\uff02\024\uff02\027" +
+    "\uff02\030\uff02\075\uff02\076\uff02\077\uff02\100\uff02\103\uff02" +
+    "\104\uff02\105\uff02\106\uff02\107\uff02\110\uff02\111\uff02\112" +
+    "\uff02\113\uff02\114\uff02\115\uff02\116\uff02\117\uff02\120\uff02" +
+    "\121\uff02\122\uff02\123\uff02\124\uff02\001\002\000\072\004" +
+    "\124\005\117\006\130\007\114\010\112\011\116\012\126" +
+    "\013\134\016\014\026\326\050\254\052\343\053\350\074" +
+    "\313\075\312\076\305\077\342\100\330\101\340\102\332" +
+    "\140\226\142\243\144\213\145\273\146\235\147\311\150" +
+    "\263\151\262\001\002\000\072\004\124\005\117\006\130" +
+    "\007\114\010\112\011\116\012\126\013\134\016\014\026" +
+    "\326\050\254\052\343\053\350\074\313\075\312\076\305" +
+    "\077\342\100\330\101\340\102\332\140\226\142\243\144" +
+    "\213\145\273\146\235\147\311\150\263\151\262\001\002" +
+    "\000\072\004\124\005\117\006\130\007\114\010\112\011" +
+    "\116\012\126\013\134\016\014\026\326\050\254\052\343" +
+    "\053\350\074\313\075\312\076\305\077\342\100\330\101" +
+    "\340\102\332\140\226\142\243\144\213\145\273\146\235" +
+    "\147\311\150\263\151\262\001\002\000\062\015\ufec0\020" +
+    "\ufec0\022\ufec0\024\ufec0\027\ufec0\030\ufec0\077\u0105\100\u0106" +
+    "\105\ufec0\106\ufec0\107\ufec0\110\ufec0\111\ufec0\112\ufec0\113" +
+    "\ufec0\114\ufec0\115\ufec0\116\ufec0\117\ufec0\120\ufec0\121\ufec0" +
+    "\122\ufec0\123\ufec0\124\ufec0\001\002\000\072\004\124\005" +
+    "\117\006\130\007\114\010\112\011\116\012\126\013\134" +
+    "\016\014\026\326\050\254\052\343\053\350\074\313\075" +
+    "\312\076\305\077\342\100\330\101\340\102\332\140\226" +
+    "\142\243\144\213\145\273\146\235\147\311\150\263\151" +
+    "\262\001\002\000\072\004\124\005\117\006\130\007\114" +
+    "\010\112\011\116\012\126\013\134\016\014\026\326\050" +
+    "\254\052\343\053\350\074\313\075\312\076\305\077\342" +
+    "\100\330\101\340\102\332\140\226\142\243\144\213\145" +
+    "\273\146\235\147\311\150\263\151\262\001\002\000\070" +
+    "\015\ufec3\020\ufec3\021\u0109\022\ufec3\024\ufec3\027\ufec3\030" +
+    "\ufec3\077\ufec3\100\ufec3\103\u010a\104\u0108\105\ufec3\106\ufec3" +
+    "\107\ufec3\110\ufec3\111\ufec3\112\ufec3\113\ufec3\114\ufec3\115" +
+    "\ufec3\116\ufec3\117\ufec3\120\ufec3\121\ufec3\122\ufec3\123\ufec3" +
+    "\124\ufec3\001\002\000\072\004\124\005\117\006\130\007" +
+    "\114\010\112\011\116\012\126\013\134\016\014\026\326" +
+    "\050\254\052\343\053\350\074\313\075\312\076\305\077" +
+    "\342\100\330\101\340\102\332\140\226\142\243\144\213" +
+    "\145\273\146\235\147\311\150\263\151\262\001\002\000" +
+    "\072\004\124\005\117\006\130\007\114\010\112\011\116" +
+    "\012\126\013\134\016\014\026\326\050\254\052\343\053" +
+    "\350\074\313\075\312\076\305\077\342\100\330\101\340" +
+    "\102\332\140\226\142\243\144\213\145\273\146\235\147" +
+    "\311\150\263\151\262\001\002\000\072\004\124\005\117" +
+    "\006\130\007\114\010\112\011\116\012\126\013\134\016" +
+    "\014\026\326\050\254\052\343\053\350\074\313\075\312" +
+    "\076\305\077\342\100\330\101\340\102\332\140\226\142" +
+    "\243\144\213\145\273\146\235\147\311\150\263\151\262" +
+    "\001\002\000\070\015\ufec7\020\ufec7\021\ufec7\022\ufec7\024" +
+    "\ufec7\027\ufec7\030\ufec7\077\ufec7\100\ufec7\103\ufec7\104\ufec7" +
+    "\105\ufec7\106\ufec7\107\ufec7\110\ufec7\111\ufec7\112\ufec7\113" +
+    "\ufec7\114\ufec7\115\ufec7\116\ufec7\117\ufec7\120\ufec7\121\ufec7" +
+    "\122\ufec7\123\ufec7\124\ufec7\001\002\000\070\015\ufec8\020" +
+    "\ufec8\021\ufec8\022\ufec8\024\ufec8\027\ufec8\030\ufec8\077\ufec8" +
+    "\100\ufec8\103\ufec8\104\ufec8\105\ufec8\106\ufec8\107\ufec8\110" +
+    "\ufec8\111\ufec8\112\ufec8\113\ufec8\114\ufec8\115\ufec8\116\ufec8" +
+    "\117\ufec8\120\ufec8\121\ufec8\122\ufec8\123\ufec8\124\ufec8\001" +
+    "\002\000\070\015\ufec6\020\ufec6\021\ufec6\022\ufec6\024\ufec6" +
+    "\027\ufec6\030\ufec6\077\ufec6\100\ufec6\103\ufec6\104\ufec6\105" +
+    "\ufec6\106\ufec6\107\ufec6\110\ufec6\111\ufec6\112\ufec6\113\ufec6" +
+    "\114\ufec6\115\ufec6\116\ufec6\117\ufec6\120\ufec6\121\ufec6\122" +
+    "\ufec6\123\ufec6\124\ufec6\001\002\000\070\015\ufec4\020\ufec4" +
+    "\021\u0109\022\ufec4\024\ufec4\027\ufec4\030\ufec4\077\ufec4\100" +
+    "\ufec4\103\u010a\104\u0108\105\ufec4\106\ufec4\107\ufec4\110\ufec4" +
+    "\111\ufec4\112\ufec4\113\ufec4\114\ufec4\115\ufec4\116\ufec4\117" +
+    "\ufec4\120\ufec4\121\ufec4\122\ufec4\123\ufec4\124\ufec4\001\002" +
+    "\000\062\015\ufebf\020\ufebf\022\ufebf\024\ufebf\027\ufebf\030" +
+    "\ufebf\077\u0105\100\u0106\105\ufebf\106\ufebf\107\ufebf\110\ufebf" +
+    "\111\ufebf\112\ufebf\113\ufebf\114\ufebf\115\ufebf\116\ufebf\117" +
+    "\ufebf\120\ufebf\121\ufebf\122\ufebf\123\ufebf\124\ufebf\001\002" +
+    "\000\062\015\ufec1\020\ufec1\022\ufec1\024\ufec1\027\ufec1\030" +
+    "\ufec1\077\u0105\100\u0106\105\ufec1\106\ufec1\107\ufec1\110\ufec1" +
+    "\111\ufec1\112\ufec1\113\ufec1\114\ufec1\115\ufec1\116\ufec1\117" +
+    "\ufec1\120\ufec1\121\ufec1\122\ufec1\123\ufec1\124\ufec1\001\002" +
+    "\000\074\004\124\005\117\006\130\007\114\010\112\011" +
+    "\116\012\126\013\134\015\142\016\014\026\326\050\254" +
+    "\052\343\053\350\074\313\075\312\076\305\077\342\100" +
+    "\330\101\340\102\332\140\226\142\243\144\213\145\273" +
+    "\146\235\147\311\150\263\151\262\001\002\000\074\004" +
+    "\124\005\117\006\130\007\114\010\112\011\116\012\126" +
+    "\013\134\016\014\026\326\027\ufef6\050\254\052\343\053" +
+    "\350\074\313\075\312\076\305\077\342\100\330\101\340" +
+    "\102\332\140\226\142\243\144\213\145\273\146\235\147" +
+    "\311\150\263\151\262\001\002\000\014\016\014\045\u0117" +
+    "\052\u0116\053\u0114\074\u0115\001\002\000\004\017\u011d\001" +
+    "\002\000\004\016\014\001\002\000\100\014\ufefd\015\ufefd" +
+    "\017\ufefd\020\ufefd\021\ufefd\022\ufefd\024\ufefd\027\ufefd\030" +
+    "\ufefd\075\ufefd\076\ufefd\077\ufefd\100\ufefd\103\ufefd\104\ufefd" +
+    "\105\ufefd\106\ufefd\107\ufefd\110\ufefd\111\ufefd\112\ufefd\113" +
+    "\ufefd\114\ufefd\115\ufefd\116\ufefd\117\ufefd\120\ufefd\121\ufefd" +
+    "\122\ufefd\123\ufefd\124\ufefd\001\002\000\100\014\ufefe\015" +
+    "\ufefe\017\ufefe\020\ufefe\021\ufefe\022\ufefe\024\ufefe\027\ufefe" +
+    "\030\ufefe\075\ufefe\076\ufefe\077\ufefe\100\ufefe\103\ufefe\104" +
+    "\ufefe\105\ufefe\106\ufefe\107\ufefe\110\ufefe\111\ufefe\112\ufefe" +
+    "\113\ufefe\114\ufefe\115\ufefe\116\ufefe\117\ufefe\120\ufefe\121" +
+    "\ufefe\122\ufefe\123\ufefe\124\ufefe\001\002\000\004\026\u0119" +
+    "\001\002\000\074\004\124\005\117\006\130\007\114\010" +
+    "\112\011\116\012\126\013\134\016\014\026\326\027\ufef6" +
+    "\050\254\052\343\053\350\074\313\075\312\076\305\077" +
+    "\342\100\330\101\340\102\332\140\226\142\243\144\213" +
+    "\145\273\146\235\147\311\150\263\151\262\001\002\000" +
+    "\004\027\u011b\001\002\000\102\014\ufef8\015\ufef8\017\ufef8" +
+    "\020\ufef8\021\ufef8\022\ufef8\023\070\024\ufef8\027\ufef8\030" +
+    "\ufef8\075\ufef8\076\ufef8\077\ufef8\100\ufef8\103\ufef8\104\ufef8" +
+    "\105\ufef8\106\ufef8\107\ufef8\110\ufef8\111\ufef8\112\ufef8\113" +
+    "\ufef8\114\ufef8\115\ufef8\116\ufef8\117\ufef8\120\ufef8\121\ufef8" +
+    "\122\ufef8\123\ufef8\124\ufef8\001\002\000\100\014\ufef7\015" +
+    "\ufef7\017\ufef7\020\ufef7\021\ufef7\022\ufef7\024\ufef7\027\ufef7" +
+    "\030\ufef7\075\ufef7\076\ufef7\077\ufef7\100\ufef7\103\ufef7\104" +
+    "\ufef7\105\ufef7\106\ufef7\107\ufef7\110\ufef7\111\ufef7\112\ufef7" +
+    "\113\ufef7\114\ufef7\115\ufef7\116\ufef7\117\ufef7\120\ufef7\121" +
+    "\ufef7\122\ufef7\123\ufef7\124\ufef7\001\002\000\004\016\014" +
+    "\001\002\000\132\014\ufee5\015\ufee5\017\ufee5\020\ufee5\021" +
+    "\ufee5\022\ufee5\024\ufee5\025\ufee5\026\u011f\027\ufee5\030\ufee5" +
+    "\075\ufee5\076\ufee5\077\ufee5\100\ufee5\103\ufee5\104\ufee5\105" +
+    "\ufee5\106\ufee5\107\ufee5\110\ufee5\111\ufee5\112\ufee5\113\ufee5" +
+    "\114\ufee5\115\ufee5\116\ufee5\117\ufee5\120\ufee5\121\ufee5\122" +
+    "\ufee5\123\ufee5\124\ufee5\125\ufee5\126\ufee5\127\ufee5\130\ufee5" +
+    "\131\ufee5\132\ufee5\133\ufee5\134\ufee5\135\ufee5\136\ufee5\137" +
+    "\ufee5\001\002\000\074\004\124\005\117\006\130\007\114" +
+    "\010\112\011\116\012\126\013\134\016\014\026\326\027" +
+    "\ufef6\050\254\052\343\053\350\074\313\075\312\076\305" +
+    "\077\342\100\330\101\340\102\332\140\226\142\243\144" +
+    "\213\145\273\146\235\147\311\150\263\151\262\001\002" +
+    "\000\004\027\u0121\001\002\000\100\014\ufee1\015\ufee1\017" +
+    "\ufee1\020\ufee1\021\ufee1\022\ufee1\024\ufee1\027\ufee1\030\ufee1" +
+    "\075\ufee1\076\ufee1\077\ufee1\100\ufee1\103\ufee1\104\ufee1\105" +
+    "\ufee1\106\ufee1\107\ufee1\110\ufee1\111\ufee1\112\ufee1\113\ufee1" +
+    "\114\ufee1\115\ufee1\116\ufee1\117\ufee1\120\ufee1\121\ufee1\122" +
+    "\ufee1\123\ufee1\124\ufee1\001\002\000\004\027\u0123\001\002" +
+    "\000\100\014\ufee4\015\ufee4\017\ufee4\020\ufee4\021\ufee4\022" +
+    "\ufee4\024\ufee4\027\ufee4\030\ufee4\075\ufee4\076\ufee4\077\ufee4" +
+    "\100\ufee4\103\ufee4\104\ufee4\105\ufee4\106\ufee4\107\ufee4\110" +
+    "\ufee4\111\ufee4\112\ufee4\113\ufee4\114\ufee4\115\ufee4\116\ufee4" +
+    "\117\ufee4\120\ufee4\121\ufee4\122\ufee4\123\ufee4\124\ufee4\001" +
+    "\002\000\004\015\u0125\001\002\000\130\014\ufee0\015\ufee0" +
+    "\017\ufee0\020\ufee0\021\ufee0\022\ufee0\024\ufee0\025\ufee0\027" +
+    "\ufee0\030\ufee0\075\ufee0\076\ufee0\077\ufee0\100\ufee0\103\ufee0" +
+    "\104\ufee0\105\ufee0\106\ufee0\107\ufee0\110\ufee0\111\ufee0\112" +
+    "\ufee0\113\ufee0\114\ufee0\115\ufee0\116\ufee0\117\ufee0\120\ufee0" +
+    "\121\ufee0\122\ufee0\123\ufee0\124\ufee0\125\ufee0\126\ufee0\127" +
+    "\ufee0\130\ufee0\131\ufee0\132\ufee0\133\ufee0\134\ufee0\135\ufee0" +
+    "\136\ufee0\137\ufee0\001\002\000\050\015\ufeb9\020\ufeb9\022" +
+    "\ufeb9\024\ufeb9\027\ufeb9\030\ufeb9\110\ufeb9\111\ufeb9\112\ufeb9" +
+    "\113\ufeb9\114\ufeb9\115\ufeb9\116\ufeb9\117\ufeb9\120\ufeb9\121" +
+    "\ufeb9\122\ufeb9\123\ufeb9\124\ufeb9\001\002\000\004\014\136" +
+    "\001\002\000\056\015\ufebc\020\ufebc\022\ufebc\024\ufebc\027" +
+    "\ufebc\030\ufebc\105\u0101\106\u0103\107\u0102\110\ufebc\111\ufebc" +
+    "\112\ufebc\113\ufebc\114\ufebc\115\ufebc\116\ufebc\117\ufebc\120" +
+    "\ufebc\121\ufebc\122\ufebc\123\ufebc\124\ufebc\001\002\000\056" +
+    "\015\ufeba\020\ufeba\022\ufeba\024\ufeba\027\ufeba\030\ufeba\105" +
+    "\u0101\106\u0103\107\u0102\110\ufeba\111\ufeba\112\ufeba\113\ufeba" +
+    "\114\ufeba\115\ufeba\116\ufeba\117\ufeba\120\ufeba\121\ufeba\122" +
+    "\ufeba\123\ufeba\124\ufeba\001\002\000\056\015\ufebd\020\ufebd" +
+    "\022\ufebd\024\ufebd\027\ufebd\030\ufebd\105\u0101\106\u0103\107" +
+    "\u0102\110\ufebd\111\ufebd\112\ufebd\113\ufebd\114\ufebd\115\ufebd" +
+    "\116\ufebd\117\ufebd\120\ufebd\121\ufebd\122\ufebd\123\ufebd\124" +
+    "\ufebd\001\002\000\072\004\124\005\117\006\130\007\114" +
+    "\010\112\011\116\012\126\013\134\016\014\026\326\050" +
+    "\254\052\343\053\350\074\313\075\312\076\305\077\342" +
+    "\100\330\101\340\102\332\140\226\142\243\144\213\145" +
+    "\273\146\235\147\311\150\263\151\262\001\002\000\030" +
+    "\015\ufeb0\020\ufeb0\022\ufeb0\024\ufeb0\027\ufeb0\030\ufeb0\120" +
+    "\u012d\121\ufeb0\122\ufeb0\123\ufeb0\124\ufeb0\001\002\000\072" +
+    "\004\124\005\117\006\130\007\114\010\112\011\116\012" +
+    "\126\013\134\016\014\026\326\050\254\052\343\053\350" +
+    "\074\313\075\312\076\305\077\342\100\330\101\340\102" +
+    "\332\140\226\142\243\144\213\145\273\146\235\147\311" +
+    "\150\263\151\262\001\002\000\032\015\ufeb2\020\ufeb2\022" +
+    "\ufeb2\024\ufeb2\027\ufeb2\030\ufeb2\117\u012f\120\ufeb2\121\ufeb2" +
+    "\122\ufeb2\123\ufeb2\124\ufeb2\001\002\000\072\004\124\005" +
+    "\117\006\130\007\114\010\112\011\116\012\126\013\134" +
+    "\016\014\026\326\050\254\052\343\053\350\074\313\075" +
+    "\312\076\305\077\342\100\330\101\340\102\332\140\226" +
+    "\142\243\144\213\145\273\146\235\147\311\150\263\151" +
+    "\262\001\002\000\036\015\ufeb4\020\ufeb4\022\ufeb4\024\ufeb4" +
+    "\027\ufeb4\030\ufeb4\115\u0132\116\u0131\117\ufeb4\120\ufeb4\121" +
+    "\ufeb4\122\ufeb4\123\ufeb4\124\ufeb4\001\002\000\072\004\124" +
+    "\005\117\006\130\007\114\010\112\011\116\012\126\013" +
+    "\134\016\014\026\326\050\254\052\343\053\350\074\313" +
+    "\075\312\076\305\077\342\100\330\101\340\102\332\140" +
+    "\226\142\243\144\213\145\273\146\235\147\311\150\263" +
+    "\151\262\001\002\000\072\004\124\005\117\006\130\007" +
+    "\114\010\112\011\116\012\126\013\134\016\014\026\326" +
+    "\050\254\052\343\053\350\074\313\075\312\076\305\077" +
+    "\342\100\330\101\340\102\332\140\226\142\243\144\213" +
+    "\145\273\146\235\147\311\150\263\151\262\001\002\000" +
+    "\050\015\ufeb7\020\ufeb7\022\ufeb7\024\ufeb7\027\ufeb7\030\ufeb7" +
+    "\110\370\111\372\112\374\113\371\114\373\115\ufeb7\116" +
+    "\ufeb7\117\ufeb7\120\ufeb7\121\ufeb7\122\ufeb7\123\ufeb7\124\ufeb7" +
+    "\001\002\000\050\015\ufeb6\020\ufeb6\022\ufeb6\024\ufeb6\027" +
+    "\ufeb6\030\ufeb6\110\370\111\372\112\374\113\371\114\373" +
+    "\115\ufeb6\116\ufeb6\117\ufeb6\120\ufeb6\121\ufeb6\122\ufeb6\123" +
+    "\ufeb6\124\ufeb6\001\002\000\072\004\124\005\117\006\130" +
+    "\007\114\010\112\011\116\012\126\013\134\016\014\026" +
+    "\326\050\254\052\343\053\350\074\313\075\312\076\305" +
+    "\077\342\100\330\101\340\102\332\140\226\142\243\144" +
+    "\213\145\273\146\235\147\311\150\263\151\262\001\002" +
+    "\000\072\004\124\005\117\006\130\007\114\010\112\011" +
+    "\116\012\126\013\134\016\014\026\326\050\254\052\343" +
+    "\053\350\074\313\075\312\076\305\077\342\100\330\101" +
+    "\340\102\332\140\226\142\243\144\213\145\273\146\235" +
+    "\147\311\150\263\151\262\001\002\000\004\030\u0138\001" +
+    "\002\000\072\004\124\005\117\006\130\007\114\010\112" +
+    "\011\116\012\126\013\134\016\014\026\326\050\254\052" +
+    "\343\053\350\074\313\075\312\076\305\077\342\100\330" +
+    "\101\340\102\332\140\226\142\243\144\213\145\273\146" +
+    "\235\147\311\150\263\151\262\001\002\000\016\015\ufeaa" +
+    "\020\ufeaa\022\ufeaa\024\ufeaa\027\ufeaa\030\ufeaa\001\002\000" +
+    "\024\015\ufeac\020\ufeac\022\ufeac\024\ufeac\027\ufeac\030\ufeac" +
+    "\122\u013b\123\ufeac\124\ufeac\001\002\000\072\004\124\005" +
+    "\117\006\130\007\114\010\112\011\116\012\126\013\134" +
+    "\016\014\026\326\050\254\052\343\053\350\074\313\075" +
+    "\312\076\305\077\342\100\330\101\340\102\332\140\226" +
+    "\142\243\144\213\145\273\146\235\147\311\150\263\151" +
+    "\262\001\002\000\026\015\ufeae\020\ufeae\022\ufeae\024\ufeae" +
+    "\027\ufeae\030\ufeae\121\u012b\122\ufeae\123\ufeae\124\ufeae\001" +
+    "\002\000\004\045\u013e\001\002\000\100\014\uff01\015\uff01" +
+    "\017\uff01\020\uff01\021\uff01\022\uff01\024\uff01\027\uff01\030" +
+    "\uff01\075\uff01\076\uff01\077\uff01\100\uff01\103\uff01\104\uff01" +
+    "\105\uff01\106\uff01\107\uff01\110\uff01\111\uff01\112\uff01\113" +
+    "\uff01\114\uff01\115\uff01\116\uff01\117\uff01\120\uff01\121\uff01" +
+    "\122\uff01\123\uff01\124\uff01\001\002\000\074\015\ufed9\020" +
+    "\ufed9\021\ufed9\022\ufed9\024\ufed9\027\ufed9\030\ufed9\075\ufed9" +
+    "\076\ufed9\077\ufed9\100\ufed9\103\ufed9\104\ufed9\105\ufed9\106" +
+    "\ufed9\107\ufed9\110\ufed9\111\ufed9\112\ufed9\113\ufed9\114\ufed9" +
+    "\115\ufed9\116\ufed9\117\ufed9\120\ufed9\121\ufed9\122\ufed9\123" +
+    "\ufed9\124\ufed9\001\002\000\074\015\ufeda\020\ufeda\021\ufeda" +
+    "\022\ufeda\024\ufeda\027\ufeda\030\ufeda\075\ufeda\076\ufeda\077" +
+    "\ufeda\100\ufeda\103\ufeda\104\ufeda\105\ufeda\106\ufeda\107\ufeda" +
+    "\110\ufeda\111\ufeda\112\ufeda\113\ufeda\114\ufeda\115\ufeda\116" +
+    "\ufeda\117\ufeda\120\ufeda\121\ufeda\122\ufeda\123\ufeda\124\ufeda" +
+    "\001\002\000\072\004\124\005\117\006\130\007\114\010" +
+    "\112\011\116\012\126\013\134\016\014\026\326\050\254" +
+    "\052\343\053\350\074\313\075\312\076\305\077\342\100" +
+    "\330\101\340\102\332\140\226\142\243\144\213\145\273" +
+    "\146\235\147\311\150\263\151\262\001\002\000\006\022" +
+    "\ufef3\027\ufef3\001\002\000\004\016\014\001\002\000\132" +
+    "\014\ufee6\015\ufee6\017\ufee6\020\ufee6\021\ufee6\022\ufee6\024" +
+    "\ufee6\025\ufee6\026\u0145\027\ufee6\030\ufee6\075\ufee6\076\ufee6" +
+    "\077\ufee6\100\ufee6\103\ufee6\104\ufee6\105\ufee6\106\ufee6\107" +
+    "\ufee6\110\ufee6\111\ufee6\112\ufee6\113\ufee6\114\ufee6\115\ufee6" +
+    "\116\ufee6\117\ufee6\120\ufee6\121\ufee6\122\ufee6\123\ufee6\124" +
+    "\ufee6\125\ufee6\126\ufee6\127\ufee6\130\ufee6\131\ufee6\132\ufee6" +
+    "\133\ufee6\134\ufee6\135\ufee6\136\ufee6\137\ufee6\001\002\000" +
+    "\074\004\124\005\117\006\130\007\114\010\112\011\116" +
+    "\012\126\013\134\016\014\026\326\027\ufef6\050\254\052" +
+    "\343\053\350\074\313\075\312\076\305\077\342\100\330" +
+    "\101\340\102\332\140\226\142\243\144\213\145\273\146" +
+    "\235\147\311\150\263\151\262\001\002\000\004\027\u0147" +
+    "\001\002\000\100\014\ufee2\015\ufee2\017\ufee2\020\ufee2\021" +
+    "\ufee2\022\ufee2\024\ufee2\027\ufee2\030\ufee2\075\ufee2\076\ufee2" +
+    "\077\ufee2\100\ufee2\103\ufee2\104\ufee2\105\ufee2\106\ufee2\107" +
+    "\ufee2\110\ufee2\111\ufee2\112\ufee2\113\ufee2\114\ufee2\115\ufee2" +
+    "\116\ufee2\117\ufee2\120\ufee2\121\ufee2\122\ufee2\123\ufee2\124" +
+    "\ufee2\001\002\000\102\014\ufefc\015\ufefc\017\ufefc\020\ufefc" +
+    "\021\ufefc\022\ufefc\023\070\024\ufefc\027\ufefc\030\ufefc\075" +
+    "\ufefc\076\ufefc\077\ufefc\100\ufefc\103\ufefc\104\ufefc\105\ufefc" +
+    "\106\ufefc\107\ufefc\110\ufefc\111\ufefc\112\ufefc\113\ufefc\114" +
+    "\ufefc\115\ufefc\116\ufefc\117\ufefc\120\ufefc\121\ufefc\122\ufefc" +
+    "\123\ufefc\124\ufefc\001\002\000\100\014\ufefb\015\ufefb\017" +
+    "\ufefb\020\ufefb\021\ufefb\022\ufefb\024\ufefb\027\ufefb\030\ufefb" +
+    "\075\ufefb\076\ufefb\077\ufefb\100\ufefb\103\ufefb\104\ufefb\105" +
+    "\ufefb\106\ufefb\107\ufefb\110\ufefb\111\ufefb\112\ufefb\113\ufefb" +
+    "\114\ufefb\115\ufefb\116\ufefb\117\ufefb\120\ufefb\121\ufefb\122" +
+    "\ufefb\123\ufefb\124\ufefb\001\002\000\070\015\ufed6\020\ufed6" +
+    "\021\ufed6\022\ufed6\024\ufed6\027\ufed6\030\ufed6\077\ufed6\100" +
+    "\ufed6\103\ufed6\104\ufed6\105\ufed6\106\ufed6\107\ufed6\110\ufed6" +
+    "\111\ufed6\112\ufed6\113\ufed6\114\ufed6\115\ufed6\116\ufed6\117" +
+    "\ufed6\120\ufed6\121\ufed6\122\ufed6\123\ufed6\124\ufed6\001\002" +
+    "\000\006\016\014\074\u014c\001\002\000\004\016\014\001" +
+    "\002\000\132\014\ufee7\015\ufee7\017\ufee7\020\ufee7\021\ufee7" +
+    "\022\ufee7\024\ufee7\025\ufee7\026\u014e\027\ufee7\030\ufee7\075" +
+    "\ufee7\076\ufee7\077\ufee7\100\ufee7\103\ufee7\104\ufee7\105\ufee7" +
+    "\106\ufee7\107\ufee7\110\ufee7\111\ufee7\112\ufee7\113\ufee7\114" +
+    "\ufee7\115\ufee7\116\ufee7\117\ufee7\120\ufee7\121\ufee7\122\ufee7" +
+    "\123\ufee7\124\ufee7\125\ufee7\126\ufee7\127\ufee7\130\ufee7\131" +
+    "\ufee7\132\ufee7\133\ufee7\134\ufee7\135\ufee7\136\ufee7\137\ufee7" +
+    "\001\002\000\074\004\124\005\117\006\130\007\114\010" +
+    "\112\011\116\012\126\013\134\016\014\026\326\027\ufef6" +
+    "\050\254\052\343\053\350\074\313\075\312\076\305\077" +
+    "\342\100\330\101\340\102\332\140\226\142\243\144\213" +
+    "\145\273\146\235\147\311\150\263\151\262\001\002\000" +
+    "\004\027\u0150\001\002\000\100\014\ufee3\015\ufee3\017\ufee3" +
+    "\020\ufee3\021\ufee3\022\ufee3\024\ufee3\027\ufee3\030\ufee3\075" +
+    "\ufee3\076\ufee3\077\ufee3\100\ufee3\103\ufee3\104\ufee3\105\ufee3" +
+    "\106\ufee3\107\ufee3\110\ufee3\111\ufee3\112\ufee3\113\ufee3\114" +
+    "\ufee3\115\ufee3\116\ufee3\117\ufee3\120\ufee3\121\ufee3\122\ufee3" +
+    "\123\ufee3\124\ufee3\001\002\000\004\026\u0152\001\002\000" +
+    "\074\004\124\005\117\006\130\007\114\010\112\011\116" +
+    "\012\126\013\134\016\014\026\326\027\ufef6\050\254\052" +
+    "\343\053\350\074\313\075\312\076\305\077\342\100\330" +
+    "\101\340\102\332\140\226\142\243\144\213\145\273\146" +
+    "\235\147\311\150\263\151\262\001\002\000\004\027\u0154" +
+    "\001\002\000\102\014\ufefa\015\ufefa\017\ufefa\020\ufefa\021" +
+    "\ufefa\022\ufefa\023\070\024\ufefa\027\ufefa\030\ufefa\075\ufefa" +
+    "\076\ufefa\077\ufefa\100\ufefa\103\ufefa\104\ufefa\105\ufefa\106" +
+    "\ufefa\107\ufefa\110\ufefa\111\ufefa\112\ufefa\113\ufefa\114\ufefa" +
+    "\115\ufefa\116\ufefa\117\ufefa\120\ufefa\121\ufefa\122\ufefa\123" +
+    "\ufefa\124\ufefa\001\002\000\100\014\ufef9\015\ufef9\017\ufef9" +
+    "\020\ufef9\021\ufef9\022\ufef9\024\ufef9\027\ufef9\030\ufef9\075" +
+    "\ufef9\076\ufef9\077\ufef9\100\ufef9\103\ufef9\104\ufef9\105\ufef9" +
+    "\106\ufef9\107\ufef9\110\ufef9\111\ufef9\112\ufef9\113\ufef9\114" +
+    "\ufef9\115\ufef9\116\ufef9\117\ufef9\120\ufef9\121\ufef9\122\ufef9" +
+    "\123\ufef9\124\ufef9\001\002\000\070\015\ufecf\020\ufecf\021" +
+    "\ufecf\022\ufecf\024\ufecf\027\ufecf\030\ufecf\077\ufecf\100\ufecf" +
+    "\103\ufecf\104\ufecf\105\ufecf\106\ufecf\107\ufecf\110\ufecf\111" +
+    "\ufecf\112\ufecf\113\ufecf\114\ufecf\115\ufecf\116\ufecf\117\ufecf" +
+    "\120\ufecf\121\ufecf\122\ufecf\123\ufecf\124\ufecf\001\002\000" +
+    "\004\045\u0158\001\002\000\100\014\ufeff\015\ufeff\017\ufeff" +
+    "\020\ufeff\021\ufeff\022\ufeff\024\ufeff\027\ufeff\030\ufeff\075" +
+    "\ufeff\076\ufeff\077\ufeff\100\ufeff\103\ufeff\104\ufeff\105\ufeff" +
+    "\106\ufeff\107\ufeff\110\ufeff\111\ufeff\112\ufeff\113\ufeff\114" +
+    "\ufeff\115\ufeff\116\ufeff\117\ufeff\120\ufeff\121\ufeff\122\ufeff" +
+    "\123\ufeff\124\ufeff\001\002\000\070\015\ufece\020\ufece\021" +
+    "\ufece\022\ufece\024\ufece\027\ufece\030\ufece\077\ufece\100\ufece" +
+    "\103\ufece\104\ufece\105\ufece\106\ufece\107\ufece\110\ufece\111" +
+    "\ufece\112\ufece\113\ufece\114\ufece\115\ufece\116\ufece\117\ufece" +
+    "\120\ufece\121\ufece\122\ufece\123\ufece\124\ufece\001\002\000" +
+    "\070\015\ufff7\020\ufff7\021\ufff7\022\ufff7\024\ufff7\027\ufff7" +
+    "\030\ufff7\077\ufff7\100\ufff7\103\ufff7\104\ufff7\105\ufff7\106" +
+    "\ufff7\107\ufff7\110\ufff7\111\ufff7\112\ufff7\113\ufff7\114\ufff7" +
+    "\115\ufff7\116\ufff7\117\ufff7\120\ufff7\121\ufff7\122\ufff7\123" +
+    "\ufff7\124\ufff7\001\002\000\070\015\ufed5\020\ufed5\021\ufed5" +
+    "\022\ufed5\024\ufed5\027\ufed5\030\ufed5\077\ufed5\100\ufed5\103" +
+    "\ufed5\104\ufed5\105\ufed5\106\ufed5\107\ufed5\110\ufed5\111\ufed5" +
+    "\112\ufed5\113\ufed5\114\ufed5\115\ufed5\116\ufed5\117\ufed5\120" +
+    "\ufed5\121\ufed5\122\ufed5\123\ufed5\124\ufed5\001\002\000\070" +
+    "\015\ufed4\020\ufed4\021\ufed4\022\ufed4\024\ufed4\027\ufed4\030" +
+    "\ufed4\077\ufed4\100\ufed4\103\ufed4\104\ufed4\105\ufed4\106\ufed4" +
+    "\107\ufed4\110\ufed4\111\ufed4\112\ufed4\113\ufed4\114\ufed4\115" +
+    "\ufed4\116\ufed4\117\ufed4\120\ufed4\121\ufed4\122\ufed4\123\ufed4" +
+    "\124\ufed4\001\002\000\070\015\ufff6\020\ufff6\021\ufff6\022" +
+    "\ufff6\024\ufff6\027\ufff6\030\ufff6\077\ufff6\100\ufff6\103\ufff6" +
+    "\104\ufff6\105\ufff6\106\ufff6\107\ufff6\110\ufff6\111\ufff6\112" +
+    "\ufff6\113\ufff6\114\ufff6\115\ufff6\116\ufff6\117\ufff6\120\ufff6" +
+    "\121\ufff6\122\ufff6\123\ufff6\124\ufff6\001\002\000\120\014" +
+    "\u0111\017\u0113\021\ufedd\025\ufea6\026\u0112\027\ufedd\075\ufedd" +
+    "\076\ufedd\077\ufedd\100\ufedd\103\ufedd\104\ufedd\105\ufedd\106" +
+    "\ufedd\107\ufedd\110\ufedd\111\ufedd\112\ufedd\113\ufedd\114\ufedd" +
+    "\115\ufedd\116\ufedd\117\ufedd\120\ufedd\121\ufedd\122\ufedd\123" +
+    "\ufedd\124\ufedd\125\ufea6\126\ufea6\127\ufea6\130\ufea6\131\ufea6" +
+    "\132\ufea6\133\ufea6\134\ufea6\135\ufea6\136\ufea6\137\ufea6\001" +
+    "\002\000\004\027\u0165\001\002\000\010\014\136\017\u013d" +
+    "\027\ufeeb\001\002\000\004\027\u0163\001\002\000\010\014" +
+    "\140\017\uffe3\027\ufeea\001\002\000\072\004\124\005\117" +
+    "\006\130\007\114\010\112\011\116\012\126\013\134\016" +
+    "\014\026\326\050\254\052\343\053\350\074\313\075\312" +
+    "\076\305\077\342\100\330\101\340\102\332\140\226\142" +
+    "\243\144\213\145\273\146\235\147\311\150\263\151\262" +
+    "\001\002\000\070\015\ufecc\020\ufecc\021\ufecc\022\ufecc\024" +
+    "\ufecc\027\ufecc\030\ufecc\077\ufecc\100\ufecc\103\ufecc\104\ufecc" +
+    "\105\ufecc\106\ufecc\107\ufecc\110\ufecc\111\ufecc\112\ufecc\113" +
+    "\ufecc\114\ufecc\115\ufecc\116\ufecc\117\ufecc\120\ufecc\121\ufecc" +
+    "\122\ufecc\123\ufecc\124\ufecc\001\002\000\160\004\124\005" +
+    "\117\006\130\007\114\010\112\011\116\012\126\013\134" +
+    "\014\uff06\015\uff06\016\014\017\uff06\020\uff06\021\uff06\022" +
+    "\uff06\024\uff06\026\326\027\uff06\030\uff06\050\254\052\343" +
+    "\053\350\074\313\075\uff06\076\uff06\077\uff06\100\uff06\101" +
+    "\340\102\332\103\uff06\104\uff06\105\uff06\106\uff06\107\uff06" +
+    "\110\uff06\111\uff06\112\uff06\113\uff06\114\uff06\115\uff06\116" +
+    "\uff06\117\uff06\120\uff06\121\uff06\122\uff06\123\uff06\124\uff06" +
+    "\140\226\142\243\144\213\145\273\146\235\147\311\150" +
+    "\263\151\262\001\002\000\070\015\ufecb\020\ufecb\021\ufecb" +
+    "\022\ufecb\024\ufecb\027\ufecb\030\ufecb\077\ufecb\100\ufecb\103" +
+    "\ufecb\104\ufecb\105\ufecb\106\ufecb\107\ufecb\110\ufecb\111\ufecb" +
+    "\112\ufecb\113\ufecb\114\ufecb\115\ufecb\116\ufecb\117\ufecb\120" +
+    "\ufecb\121\ufecb\122\ufecb\123\ufecb\124\ufecb\001\002\000\010" +
+    "\014\140\017\uffe2\027\u0168\001\002\000\062\004\124\005" +
+    "\117\006\130\007\114\010\112\011\116\012\126\013\134" +
+    "\016\014\026\326\050\254\052\343\053\350\074\313\101" +
+    "\340\102\332\140\226\142\243\144\213\145\273\146\235" +
+    "\147\311\150\263\151\262\001\002\000\070\015\ufeca\020" +
+    "\ufeca\021\ufeca\022\ufeca\024\ufeca\027\ufeca\030\ufeca\077\ufeca" +
+    "\100\ufeca\103\ufeca\104\ufeca\105\ufeca\106\ufeca\107\ufeca\110" +
+    "\ufeca\111\ufeca\112\ufeca\113\ufeca\114\ufeca\115\ufeca\116\ufeca" +
+    "\117\ufeca\120\ufeca\121\ufeca\122\ufeca\123\ufeca\124\ufeca\001" +
+    "\002\000\100\014\ufeee\015\ufeee\017\ufeee\020\ufeee\021\ufeee" +
+    "\022\ufeee\024\ufeee\027\ufeee\030\ufeee\075\ufeee\076\ufeee\077" +
+    "\ufeee\100\ufeee\103\ufeee\104\ufeee\105\ufeee\106\ufeee\107\ufeee" +
+    "\110\ufeee\111\ufeee\112\ufeee\113\ufeee\114\ufeee\115\ufeee\116" +
+    "\ufeee\117\ufeee\120\ufeee\121\ufeee\122\ufeee\123\ufeee\124\ufeee" +
+    "\001\002\000\100\014\u016c\015\ufeeb\017\ufeeb\020\ufeeb\021" +
+    "\ufeeb\022\ufeeb\024\ufeeb\027\ufeeb\030\ufeeb\075\ufeeb\076\ufeeb" +
+    "\077\ufeeb\100\ufeeb\103\ufeeb\104\ufeeb\105\ufeeb\106\ufeeb\107" +
+    "\ufeeb\110\ufeeb\111\ufeeb\112\ufeeb\113\ufeeb\114\ufeeb\115\ufeeb" +
+    "\116\ufeeb\117\ufeeb\120\ufeeb\121\ufeeb\122\ufeeb\123\ufeeb\124" +
+    "\ufeeb\001\002\000\074\004\124\005\117\006\130\007\114" +
+    "\010\112\011\116\012\126\013\134\015\142\016\014\026" +
+    "\326\050\254\052\343\053\350\074\313\075\312\076\305" +
+    "\077\342\100\330\101\340\102\332\140\226\142\243\144" +
+    "\213\145\273\146\235\147\311\150\263\151\262\001\002" +
+    "\000\006\014\140\023\u016f\001\002\000\076\015\ufef0\017" +
+    "\ufef0\020\ufef0\021\ufef0\022\ufef0\024\ufef0\027\ufef0\030\ufef0" +
+    "\075\ufef0\076\ufef0\077\ufef0\100\ufef0\103\ufef0\104\ufef0\105" +
+    "\ufef0\106\ufef0\107\ufef0\110\ufef0\111\ufef0\112\ufef0\113\ufef0" +
+    "\114\ufef0\115\ufef0\116\ufef0\117\ufef0\120\ufef0\121\ufef0\122" +
+    "\ufef0\123\ufef0\124\ufef0\001\002\000\100\004\124\005\117" +
+    "\006\130\007\114\010\112\011\116\012\126\013\134\016" +
+    "\014\022\u0172\023\u016f\024\u0173\026\326\050\254\052\343" +
+    "\053\350\074\313\075\312\076\305\077\342\100\330\101" +
+    "\340\102\332\140\226\142\243\144\213\145\273\146\235" +
+    "\147\311\150\263\151\262\001\002\000\006\022\uff69\024" +
+    "\uff69\001\002\000\006\022\u0177\024\u0178\001\002\000\004" +
+    "\024\u0176\001\002\000\076\015\uff6a\017\uff6a\020\uff6a\021" +
+    "\uff6a\022\uff6a\024\uff6a\027\uff6a\030\uff6a\075\uff6a\076\uff6a" +
+    "\077\uff6a\100\uff6a\103\uff6a\104\uff6a\105\uff6a\106\uff6a\107" +
+    "\uff6a\110\uff6a\111\uff6a\112\uff6a\113\uff6a\114\uff6a\115\uff6a" +
+    "\116\uff6a\117\uff6a\120\uff6a\121\uff6a\122\uff6a\123\uff6a\124" +
+    "\uff6a\001\002\000\010\020\uff99\022\uff99\024\uff99\001\002" +
+    "\000\010\020\uff9a\022\uff9a\024\uff9a\001\002\000\076\015" +
+    "\uff6b\017\uff6b\020\uff6b\021\uff6b\022\uff6b\024\uff6b\027\uff6b" +
+    "\030\uff6b\075\uff6b\076\uff6b\077\uff6b\100\uff6b\103\uff6b\104" +
+    "\uff6b\105\uff6b\106\uff6b\107\uff6b\110\uff6b\111\uff6b\112\uff6b" +
+    "\113\uff6b\114\uff6b\115\uff6b\116\uff6b\117\uff6b\120\uff6b\121" +
+    "\uff6b\122\uff6b\123\uff6b\124\uff6b\001\002\000\076\004\124" +
+    "\005\117\006\130\007\114\010\112\011\116\012\126\013" +
+    "\134\016\014\023\u016f\024\u017a\026\326\050\254\052\343" +
+    "\053\350\074\313\075\312\076\305\077\342\100\330\101" +
+    "\340\102\332\140\226\142\243\144\213\145\273\146\235" +
+    "\147\311\150\263\151\262\001\002\000\076\015\uff6c\017" +
+    "\uff6c\020\uff6c\021\uff6c\022\uff6c\024\uff6c\027\uff6c\030\uff6c" +
+    "\075\uff6c\076\uff6c\077\uff6c\100\uff6c\103\uff6c\104\uff6c\105" +
+    "\uff6c\106\uff6c\107\uff6c\110\uff6c\111\uff6c\112\uff6c\113\uff6c" +
+    "\114\uff6c\115\uff6c\116\uff6c\117\uff6c\120\uff6c\121\uff6c\122" +
+    "\uff6c\123\uff6c\124\uff6c\001\002\000\006\022\uff68\024\uff68" +
+    "\001\002\000\076\015\uff6d\017\uff6d\020\uff6d\021\uff6d\022" +
+    "\uff6d\024\uff6d\027\uff6d\030\uff6d\075\uff6d\076\uff6d\077\uff6d" +
+    "\100\uff6d\103\uff6d\104\uff6d\105\uff6d\106\uff6d\107\uff6d\110" +
+    "\uff6d\111\uff6d\112\uff6d\113\uff6d\114\uff6d\115\uff6d\116\uff6d" +
+    "\117\uff6d\120\uff6d\121\uff6d\122\uff6d\123\uff6d\124\uff6d\001" +
+    "\002\000\004\015\u017c\001\002\000\100\014\ufeec\015\ufeec" +
+    "\017\ufeec\020\ufeec\021\ufeec\022\ufeec\024\ufeec\027\ufeec\030" +
+    "\ufeec\075\ufeec\076\ufeec\077\ufeec\100\ufeec\103\ufeec\104\ufeec" +
+    "\105\ufeec\106\ufeec\107\ufeec\110\ufeec\111\ufeec\112\ufeec\113" +
+    "\ufeec\114\ufeec\115\ufeec\116\ufeec\117\ufeec\120\ufeec\121\ufeec" +
+    "\122\ufeec\123\ufeec\124\ufeec\001\002\000\076\015\ufef2\017" +
+    "\ufef2\020\ufef2\021\ufef2\022\ufef2\024\ufef2\027\ufef2\030\ufef2" +
+    "\075\ufef2\076\ufef2\077\ufef2\100\ufef2\103\ufef2\104\ufef2\105" +
+    "\ufef2\106\ufef2\107\ufef2\110\ufef2\111\ufef2\112\ufef2\113\ufef2" +
+    "\114\ufef2\115\ufef2\116\ufef2\117\ufef2\120\ufef2\121\ufef2\122" +
+    "\ufef2\123\ufef2\124\ufef2\001\002\000\100\014\ufeed\015\ufeed" +
+    "\017\ufeed\020\ufeed\021\ufeed\022\ufeed\024\ufeed\027\ufeed\030" +
+    "\ufeed\075\ufeed\076\ufeed\077\ufeed\100\ufeed\103\ufeed\104\ufeed" +
+    "\105\ufeed\106\ufeed\107\ufeed\110\ufeed\111\ufeed\112\ufeed\113" +
+    "\ufeed\114\ufeed\115\ufeed\116\ufeed\117\ufeed\120\ufeed\121\ufeed" +
+    "\122\ufeed\123\ufeed\124\ufeed\001\002\000\106\003\ufeea\014" +
+    "\140\015\ufeea\017\ufeea\020\ufeea\021\ufeea\022\ufeea\023\ufeea" +
+    "\024\ufeea\027\ufeea\030\ufeea\051\ufeea\075\ufeea\076\ufeea\077" +
+    "\ufeea\100\ufeea\103\ufeea\104\ufeea\105\ufeea\106\ufeea\107\ufeea" +
+    "\110\ufeea\111\ufeea\112\ufeea\113\ufeea\114\ufeea\115\ufeea\116" +
+    "\ufeea\117\ufeea\120\ufeea\121\ufeea\122\ufeea\123\ufeea\124\ufeea" +
+    "\001\002\000\100\014\u016c\015\ufeeb\017\ufeeb\020\ufeeb\021" +
+    "\ufeeb\022\ufeeb\024\ufeeb\027\ufeeb\030\ufeeb\075\ufeeb\076\ufeeb" +
+    "\077\ufeeb\100\ufeeb\103\ufeeb\104\ufeeb\105\ufeeb\106\ufeeb\107" +
+    "\ufeeb\110\ufeeb\111\ufeeb\112\ufeeb\113\ufeeb\114\ufeeb\115\ufeeb" +
+    "\116\ufeeb\117\ufeeb\120\ufeeb\121\ufeeb\122\ufeeb\123\ufeeb\124" +
+    "\ufeeb\001\002\000\006\014\140\023\u016f\001\002\000\076" +
+    "\015\ufeef\017\ufeef\020\ufeef\021\ufeef\022\ufeef\024\ufeef\027" +
+    "\ufeef\030\ufeef\075\ufeef\076\ufeef\077\ufeef\100\ufeef\103\ufeef" +
+    "\104\ufeef\105\ufeef\106\ufeef\107\ufeef\110\ufeef\111\ufeef\112" +
+    "\ufeef\113\ufeef\114\ufeef\115\ufeef\116\ufeef\117\ufeef\120\ufeef" +
+    "\121\ufeef\122\ufeef\123\ufeef\124\ufeef\001\002\000\076\015" +
+    "\ufef1\017\ufef1\020\ufef1\021\ufef1\022\ufef1\024\ufef1\027\ufef1" +
+    "\030\ufef1\075\ufef1\076\ufef1\077\ufef1\100\ufef1\103\ufef1\104" +
+    "\ufef1\105\ufef1\106\ufef1\107\ufef1\110\ufef1\111\ufef1\112\ufef1" +
+    "\113\ufef1\114\ufef1\115\ufef1\116\ufef1\117\ufef1\120\ufef1\121" +
+    "\ufef1\122\ufef1\123\ufef1\124\ufef1\001\002\000\070\015\ufed2" +
+    "\020\ufed2\021\ufed2\022\ufed2\024\ufed2\027\ufed2\030\ufed2\077" +
+    "\ufed2\100\ufed2\103\ufed2\104\ufed2\105\ufed2\106\ufed2\107\ufed2" +
+    "\110\ufed2\111\ufed2\112\ufed2\113\ufed2\114\ufed2\115\ufed2\116" +
+    "\ufed2\117\ufed2\120\ufed2\121\ufed2\122\ufed2\123\ufed2\124\ufed2" +
+    "\001\002\000\072\004\124\005\117\006\130\007\114\010" +
+    "\112\011\116\012\126\013\134\016\014\026\326\050\254" +
+    "\052\343\053\350\074\313\075\312\076\305\077\342\100" +
+    "\330\101\340\102\332\140\226\142\243\144\213\145\273" +
+    "\146\235\147\311\150\263\151\262\001\002\000\004\015" +
+    "\u0187\001\002\000\130\014\ufedf\015\ufedf\017\ufedf\020\ufedf" +
+    "\021\ufedf\022\ufedf\024\ufedf\025\ufedf\027\ufedf\030\ufedf\075" +
+    "\ufedf\076\ufedf\077\ufedf\100\ufedf\103\ufedf\104\ufedf\105\ufedf" +
+    "\106\ufedf\107\ufedf\110\ufedf\111\ufedf\112\ufedf\113\ufedf\114" +
+    "\ufedf\115\ufedf\116\ufedf\117\ufedf\120\ufedf\121\ufedf\122\ufedf" +
+    "\123\ufedf\124\ufedf\125\ufedf\126\ufedf\127\ufedf\130\ufedf\131" +
+    "\ufedf\132\ufedf\133\ufedf\134\ufedf\135\ufedf\136\ufedf\137\ufedf" +
+    "\001\002\000\006\020\u0189\030\u018a\001\002\000\156\003" +
+    "\uff0c\004\uff0c\005\uff0c\006\uff0c\007\uff0c\010\uff0c\011\uff0c" +
+    "\012\uff0c\013\uff0c\016\uff0c\020\uff0c\023\uff0c\024\uff0c\026" +
+    "\uff0c\033\uff0c\034\uff0c\035\uff0c\036\uff0c\037\uff0c\040\uff0c" +
+    "\041\uff0c\042\uff0c\043\uff0c\044\uff0c\045\uff0c\050\uff0c\052" +
+    "\uff0c\053\uff0c\055\uff0c\056\uff0c\057\uff0c\060\uff0c\061\uff0c" +
+    "\062\uff0c\063\uff0c\064\uff0c\065\uff0c\066\uff0c\067\uff0c\070" +
+    "\uff0c\071\uff0c\074\uff0c\075\uff0c\076\uff0c\140\uff0c\142\uff0c" +
+    "\144\uff0c\145\uff0c\146\uff0c\147\uff0c\150\uff0c\151\uff0c\152" +
+    "\uff0c\153\uff0c\001\002\000\072\004\124\005\117\006\130" +
+    "\007\114\010\112\011\116\012\126\013\134\016\014\026" +
+    "\326\050\254\052\343\053\350\074\313\075\312\076\305" +
+    "\077\342\100\330\101\340\102\332\140\226\142\243\144" +
+    "\213\145\273\146\235\147\311\150\263\151\262\001\002" +
+    "\000\004\020\u018c\001\002\000\156\003\uff0b\004\uff0b\005" +
+    "\uff0b\006\uff0b\007\uff0b\010\uff0b\011\uff0b\012\uff0b\013\uff0b" +
+    "\016\uff0b\020\uff0b\023\uff0b\024\uff0b\026\uff0b\033\uff0b\034" +
+    "\uff0b\035\uff0b\036\uff0b\037\uff0b\040\uff0b\041\uff0b\042\uff0b" +
+    "\043\uff0b\044\uff0b\045\uff0b\050\uff0b\052\uff0b\053\uff0b\055" +
+    "\uff0b\056\uff0b\057\uff0b\060\uff0b\061\uff0b\062\uff0b\063\uff0b" +
+    "\064\uff0b\065\uff0b\066\uff0b\067\uff0b\070\uff0b\071\uff0b\074" +
+    "\uff0b\075\uff0b\076\uff0b\140\uff0b\142\uff0b\144\uff0b\145\uff0b" +
+    "\146\uff0b\147\uff0b\150\uff0b\151\uff0b\152\uff0b\153\uff0b\001" +
+    "\002\000\070\015\ufed1\020\ufed1\021\ufed1\022\ufed1\024\ufed1" +
+    "\027\ufed1\030\ufed1\077\ufed1\100\ufed1\103\ufed1\104\ufed1\105" +
+    "\ufed1\106\ufed1\107\ufed1\110\ufed1\111\ufed1\112\ufed1\113\ufed1" +
+    "\114\ufed1\115\ufed1\116\ufed1\117\ufed1\120\ufed1\121\ufed1\122" +
+    "\ufed1\123\ufed1\124\ufed1\001\002\000\072\004\124\005\117" +
+    "\006\130\007\114\010\112\011\116\012\126\013\134\016" +
+    "\014\026\326\050\254\052\343\053\350\074\313\075\312" +
+    "\076\305\077\342\100\330\101\340\102\332\140\226\142" +
+    "\243\144\213\145\273\146\235\147\311\150\263\151\262" +
+    "\001\002\000\004\027\u0190\001\002\000\120\003\276\004" +
+    "\124\005\117\006\130\007\114\010\112\011\116\012\126" +
+    "\013\134\016\014\020\264\023\076\026\223\042\u019a\050" +
+    "\254\052\343\053\350\055\u019b\057\247\062\251\063\u0194" +
+    "\064\u0196\065\260\066\302\067\255\070\215\071\256\074" +
+    "\313\075\312\076\305\140\226\142\243\144\213\145\273" +
+    "\146\235\147\311\150\263\151\262\153\307\001\002\000" +
+    "\004\056\uff52\001\002\000\004\056\uff50\001\002\000\004" +
+    "\056\uff53\001\002\000\004\026\u01c9\001\002\000\156\003" +
+    "\uff5b\004\uff5b\005\uff5b\006\uff5b\007\uff5b\010\uff5b\011\uff5b" +
+    "\012\uff5b\013\uff5b\016\uff5b\020\uff5b\023\uff5b\024\uff5b\026" +
+    "\uff5b\033\uff5b\034\uff5b\035\uff5b\036\uff5b\037\uff5b\040\uff5b" +
+    "\041\uff5b\042\uff5b\043\uff5b\044\uff5b\045\uff5b\050\uff5b\052" +
+    "\uff5b\053\uff5b\055\uff5b\056\uff54\057\uff5b\060\uff5b\061\uff5b" +
+    "\062\uff5b\063\uff5b\064\uff5b\065\uff5b\066\uff5b\067\uff5b\070" +
+    "\uff5b\071\uff5b\074\uff5b\075\uff5b\076\uff5b\140\uff5b\142\uff5b" +
+    "\144\uff5b\145\uff5b\146\uff5b\147\uff5b\150\uff5b\151\uff5b\152" +
+    "\uff5b\153\uff5b\001\002\000\004\026\u01ae\001\002\000\046" +
+    "\014\uffdf\017\uffdf\025\uffdf\026\uffdf\030\u01ab\075\uffdf\076" +
+    "\uffdf\125\uffdf\126\uffdf\127\uffdf\130\uffdf\131\uffdf\132\uffdf" +
+    "\133\uffdf\134\uffdf\135\uffdf\136\uffdf\137\uffdf\001\002\000" +
+    "\004\056\uff51\001\002\000\004\056\u01aa\001\002\000\004" +
+    "\026\u01a4\001\002\000\004\026\u019d\001\002\000\154\003" +
+    "\uff38\004\uff38\005\uff38\006\uff38\007\uff38\010\uff38\011\uff38" +
+    "\012\uff38\013\uff38\016\uff38\020\uff38\023\uff38\024\uff38\026" +
+    "\uff38\033\uff38\034\uff38\035\uff38\036\uff38\037\uff38\040\uff38" +
+    "\041\uff38\042\uff38\043\uff38\044\uff38\045\uff38\050\uff38\052" +
+    "\uff38\053\uff38\055\uff38\057\uff38\060\uff38\061\uff38\062\uff38" +
+    "\063\uff38\064\uff38\065\uff38\066\uff38\067\uff38\070\uff38\071" +
+    "\uff38\074\uff38\075\uff38\076\uff38\140\uff38\142\uff38\144\uff38" +
+    "\145\uff38\146\uff38\147\uff38\150\uff38\151\uff38\152\uff38\153" +
+    "\uff38\001\002\000\072\004\124\005\117\006\130\007\114" +
+    "\010\112\011\116\012\126\013\134\016\014\026\326\050" +
+    "\254\052\343\053\350\074\313\075\312\076\305\077\342" +
+    "\100\330\101\340\102\332\140\226\142\243\144\213\145" +
+    "\273\146\235\147\311\150\263\151\262\001\002\000\004" +
+    "\027\u019f\001\002\000\120\003\276\004\124\005\117\006" +
+    "\130\007\114\010\112\011\116\012\126\013\134\016\014" +
+    "\020\264\023\076\026\223\042\u019a\050\254\052\343\053" +
+    "\350\055\u019b\057\247\062\251\063\u0194\064\u0196\065\260" +
+    "\066\302\067\255\070\215\071\256\074\313\075\312\076" +
+    "\305\140\226\142\243\144\213\145\273\146\235\147\311" +
+    "\150\263\151\262\153\307\001\002\000\004\056\u01a1\001" +
+    "\002\000\120\003\276\004\124\005\117\006\130\007\114" +
+    "\010\112\011\116\012\126\013\134\016\014\020\264\023" +
+    "\076\026\223\042\u019a\050\254\052\343\053\350\055\u019b" +
+    "\057\247\062\251\063\u0194\064\u0196\065\260\066\302\067" +
+    "\255\070\215\071\256\074\313\075\312\076\305\140\226" +
+    "\142\243\144\213\145\273\146\235\147\311\150\263\151" +
+    "\262\153\307\001\002\000\004\056\uff36\001\002\000\154" +
+    "\003\uff37\004\uff37\005\uff37\006\uff37\007\uff37\010\uff37\011" +
+    "\uff37\012\uff37\013\uff37\016\uff37\020\uff37\023\uff37\024\uff37" +
+    "\026\uff37\033\uff37\034\uff37\035\uff37\036\uff37\037\uff37\040" +
+    "\uff37\041\uff37\042\uff37\043\uff37\044\uff37\045\uff37\050\uff37" +
+    "\052\uff37\053\uff37\055\uff37\057\uff37\060\uff37\061\uff37\062" +
+    "\uff37\063\uff37\064\uff37\065\uff37\066\uff37\067\uff37\070\uff37" +
+    "\071\uff37\074\uff37\075\uff37\076\uff37\140\uff37\142\uff37\144" +
+    "\uff37\145\uff37\146\uff37\147\uff37\150\uff37\151\uff37\152\uff37" +
+    "\153\uff37\001\002\000\072\004\124\005\117\006\130\007" +
+    "\114\010\112\011\116\012\126\013\134\016\014\026\326" +
+    "\050\254\052\343\053\350\074\313\075\312\076\305\077" +
+    "\342\100\330\101\340\102\332\140\226\142\243\144\213" +
+    "\145\273\146\235\147\311\150\263\151\262\001\002\000" +
+    "\004\027\u01a6\001\002\000\006\003\u01a7\023\076\001\002" +
+    "\000\004\024\u01a9\001\002\000\156\003\uff15\004\uff15\005" +
+    "\uff15\006\uff15\007\uff15\010\uff15\011\uff15\012\uff15\013\uff15" +
+    "\016\uff15\020\uff15\023\uff15\024\uff15\026\uff15\033\uff15\034" +
+    "\uff15\035\uff15\036\uff15\037\uff15\040\uff15\041\uff15\042\uff15" +
+    "\043\uff15\044\uff15\045\uff15\050\uff15\052\uff15\053\uff15\055" +
+    "\uff15\056\uff15\057\uff15\060\uff15\061\uff15\062\uff15\063\uff15" +
+    "\064\uff15\065\uff15\066\uff15\067\uff15\070\uff15\071\uff15\074" +
+    "\uff15\075\uff15\076\uff15\140\uff15\142\uff15\144\uff15\145\uff15" +
+    "\146\uff15\147\uff15\150\uff15\151\uff15\152\uff15\153\uff15\001" +
+    "\002\000\164\003\uff66\004\uff66\005\uff66\006\uff66\007\uff66" +
+    "\010\uff66\011\uff66\012\uff66\013\uff66\016\uff66\020\uff66\023" +
+    "\uff66\024\uff66\026\uff66\033\uff66\034\uff66\035\uff66\036\uff66" +
+    "\037\uff66\040\uff66\041\uff66\042\uff66\043\uff66\044\uff66\045" +
+    "\uff66\050\uff66\052\uff66\053\uff66\054\uff66\055\uff66\056\uff66" +
+    "\057\uff66\060\uff66\061\uff66\062\uff66\063\uff66\064\uff66\065" +
+    "\uff66\066\uff66\067\uff66\070\uff66\071\uff66\072\uff66\073\uff66" +
+    "\074\uff66\075\uff66\076\uff66\140\uff66\142\uff66\144\uff66\145" +
+    "\uff66\146\uff66\147\uff66\150\uff66\151\uff66\152\uff66\153\uff66" +
+    "\001\002\000\120\003\276\004\124\005\117\006\130\007" +
+    "\114\010\112\011\116\012\126\013\134\016\014\020\264" +
+    "\023\076\026\223\042\u019a\050\254\052\343\053\350\055" +
+    "\303\057\247\062\251\063\244\064\252\065\260\066\302" +
+    "\067\255\070\215\071\256\074\313\075\312\076\305\140" +
+    "\226\142\243\144\213\145\273\146\235\147\311\150\263" +
+    "\151\262\153\307\001\002\000\120\003\276\004\124\005" +
+    "\117\006\130\007\114\010\112\011\116\012\126\013\134" +
+    "\016\014\020\264\023\076\026\223\042\u019a\050\254\052" +
+    "\343\053\350\055\u019b\057\247\062\251\063\u0194\064\u0196" +
+    "\065\260\066\302\067\255\070\215\071\256\074\313\075" +
+    "\312\076\305\140\226\142\243\144\213\145\273\146\235" +
+    "\147\311\150\263\151\262\153\307\001\002\000\004\056" +
+    "\uff41\001\002\000\154\003\uff42\004\uff42\005\uff42\006\uff42" +
+    "\007\uff42\010\uff42\011\uff42\012\uff42\013\uff42\016\uff42\020" +
+    "\uff42\023\uff42\024\uff42\026\uff42\033\uff42\034\uff42\035\uff42" +
+    "\036\uff42\037\uff42\040\uff42\041\uff42\042\uff42\043\uff42\044" +
+    "\uff42\045\uff42\050\uff42\052\uff42\053\uff42\055\uff42\057\uff42" +
+    "\060\uff42\061\uff42\062\uff42\063\uff42\064\uff42\065\uff42\066" +
+    "\uff42\067\uff42\070\uff42\071\uff42\074\uff42\075\uff42\076\uff42" +
+    "\140\uff42\142\uff42\144\uff42\145\uff42\146\uff42\147\uff42\150" +
+    "\uff42\151\uff42\152\uff42\153\uff42\001\002\000\066\004\124" +
+    "\005\117\006\130\007\114\010\112\011\116\012\126\013" +
+    "\134\016\014\020\uff24\026\223\040\u01b2\050\254\052\343" +
+    "\053\350\074\313\075\312\076\305\140\226\142\243\144" +
+    "\213\145\273\146\235\147\311\150\263\151\262\001\002" +
+    "\000\010\020\uff1d\022\uff1d\027\uff1d\001\002\000\004\020" +
+    "\uff21\001\002\000\006\020\uff22\022\u01bf\001\002\000\024" +
+    "\004\124\005\117\006\130\007\114\010\112\011\116\012" +
+    "\126\013\134\016\014\001\002\000\004\020\u01b5\001\002" +
+    "\000\004\020\uff23\001\002\000\074\004\124\005\117\006" +
+    "\130\007\114\010\112\011\116\012\126\013\134\016\014" +
+    "\020\ufe97\026\326\050\254\052\343\053\350\074\313\075" +
+    "\312\076\305\077\342\100\330\101\340\102\332\140\226" +
+    "\142\243\144\213\145\273\146\235\147\311\150\263\151" +
+    "\262\001\002\000\004\020\ufe96\001\002\000\004\020\u01b8" +
+    "\001\002\000\064\004\124\005\117\006\130\007\114\010" +
+    "\112\011\116\012\126\013\134\016\014\026\223\027\uff20" +
+    "\050\254\052\343\053\350\074\313\075\312\076\305\140" +
+    "\226\142\243\144\213\145\273\146\235\147\311\150\263" +
+    "\151\262\001\002\000\004\027\uff1f\001\002\000\006\022" +
+    "\u01bf\027\uff1e\001\002\000\004\027\u01bc\001\002\000\120" +
+    "\003\276\004\124\005\117\006\130\007\114\010\112\011" +
+    "\116\012\126\013\134\016\014\020\264\023\076\026\223" +
+    "\042\u019a\050\254\052\343\053\350\055\u019b\057\247\062" +
+    "\251\063\u0194\064\u0196\065\260\066\302\067\255\070\215" +
+    "\071\256\074\313\075\312\076\305\140\226\142\243\144" +
+    "\213\145\273\146\235\147\311\150\263\151\262\153\307" +
+    "\001\002\000\004\056\uff25\001\002\000\154\003\uff26\004" +
+    "\uff26\005\uff26\006\uff26\007\uff26\010\uff26\011\uff26\012\uff26" +
+    "\013\uff26\016\uff26\020\uff26\023\uff26\024\uff26\026\uff26\033" +
+    "\uff26\034\uff26\035\uff26\036\uff26\037\uff26\040\uff26\041\uff26" +
+    "\042\uff26\043\uff26\044\uff26\045\uff26\050\uff26\052\uff26\053" +
+    "\uff26\055\uff26\057\uff26\060\uff26\061\uff26\062\uff26\063\uff26" +
+    "\064\uff26\065\uff26\066\uff26\067\uff26\070\uff26\071\uff26\074" +
+    "\uff26\075\uff26\076\uff26\140\uff26\142\uff26\144\uff26\145\uff26" +
+    "\146\uff26\147\uff26\150\uff26\151\uff26\152\uff26\153\uff26\001" +
+    "\002\000\062\004\124\005\117\006\130\007\114\010\112" +
+    "\011\116\012\126\013\134\016\014\026\223\050\254\052" +
+    "\343\053\350\074\313\075\312\076\305\140\226\142\243" +
+    "\144\213\145\273\146\235\147\311\150\263\151\262\001" +
+    "\002\000\010\020\uff1c\022\uff1c\027\uff1c\001\002\000\004" +
+    "\016\014\001\002\000\012\014\155\020\uff9e\022\uff9e\025" +
+    "\u01c7\001\002\000\006\020\uffa0\022\uffa0\001\002\000\006" +
+    "\020\uff5c\022\u01c5\001\002\000\004\016\014\001\002\000" +
+    "\006\020\uff9f\022\uff9f\001\002\000\074\004\124\005\117" +
+    "\006\130\007\114\010\112\011\116\012\126\013\134\016" +
+    "\014\023\u016f\026\326\050\254\052\343\053\350\074\313" +
+    "\075\312\076\305\077\342\100\330\101\340\102\332\140" +
+    "\226\142\243\144\213\145\273\146\235\147\311\150\263" +
+    "\151\262\001\002\000\006\020\uff9d\022\uff9d\001\002\000" +
+    "\072\004\124\005\117\006\130\007\114\010\112\011\116" +
+    "\012\126\013\134\016\014\026\326\050\254\052\343\053" +
+    "\350\074\313\075\312\076\305\077\342\100\330\101\340" +
+    "\102\332\140\226\142\243\144\213\145\273\146\235\147" +
+    "\311\150\263\151\262\001\002\000\004\027\u01cb\001\002" +
+    "\000\120\003\276\004\124\005\117\006\130\007\114\010" +
+    "\112\011\116\012\126\013\134\016\014\020\264\023\076" +
+    "\026\223\042\u019a\050\254\052\343\053\350\055\u019b\057" +
+    "\247\062\251\063\u0194\064\u0196\065\260\066\302\067\255" +
+    "\070\215\071\256\074\313\075\312\076\305\140\226\142" +
+    "\243\144\213\145\273\146\235\147\311\150\263\151\262" +
+    "\153\307\001\002\000\004\056\uff28\001\002\000\154\003" +
+    "\uff29\004\uff29\005\uff29\006\uff29\007\uff29\010\uff29\011\uff29" +
+    "\012\uff29\013\uff29\016\uff29\020\uff29\023\uff29\024\uff29\026" +
+    "\uff29\033\uff29\034\uff29\035\uff29\036\uff29\037\uff29\040\uff29" +
+    "\041\uff29\042\uff29\043\uff29\044\uff29\045\uff29\050\uff29\052" +
+    "\uff29\053\uff29\055\uff29\057\uff29\060\uff29\061\uff29\062\uff29" +
+    "\063\uff29\064\uff29\065\uff29\066\uff29\067\uff29\070\uff29\071" +
+    "\uff29\074\uff29\075\uff29\076\uff29\140\uff29\142\uff29\144\uff29" +
+    "\145\uff29\146\uff29\147\uff29\150\uff29\151\uff29\152\uff29\153" +
+    "\uff29\001\002\000\004\020\u01d0\001\002\000\004\020\uff1a" +
+    "\001\002\000\156\003\uff18\004\uff18\005\uff18\006\uff18\007" +
+    "\uff18\010\uff18\011\uff18\012\uff18\013\uff18\016\uff18\020\uff18" +
+    "\023\uff18\024\uff18\026\uff18\033\uff18\034\uff18\035\uff18\036" +
+    "\uff18\037\uff18\040\uff18\041\uff18\042\uff18\043\uff18\044\uff18" +
+    "\045\uff18\050\uff18\052\uff18\053\uff18\055\uff18\056\uff18\057" +
+    "\uff18\060\uff18\061\uff18\062\uff18\063\uff18\064\uff18\065\uff18" +
+    "\066\uff18\067\uff18\070\uff18\071\uff18\074\uff18\075\uff18\076" +
+    "\uff18\140\uff18\142\uff18\144\uff18\145\uff18\146\uff18\147\uff18" +
+    "\150\uff18\151\uff18\152\uff18\153\uff18\001\002\000\154\003" +
+    "\uff55\004\uff55\005\uff55\006\uff55\007\uff55\010\uff55\011\uff55" +
+    "\012\uff55\013\uff55\016\uff55\020\uff55\023\uff55\024\uff55\026" +
+    "\uff55\033\uff55\034\uff55\035\uff55\036\uff55\037\uff55\040\uff55" +
+    "\041\uff55\042\uff55\043\uff55\044\uff55\045\uff55\050\uff55\052" +
+    "\uff55\053\uff55\055\uff55\057\uff55\060\uff55\061\uff55\062\uff55" +
+    "\063\uff55\064\uff55\065\uff55\066\uff55\067\uff55\070\uff55\071" +
+    "\uff55\074\uff55\075\uff55\076\uff55\140\uff55\142\uff55\144\uff55" +
+    "\145\uff55\146\uff55\147\uff55\150\uff55\151\uff55\152\uff55\153" +
+    "\uff55\001\002\000\012\016\014\052\u01d4\053\u01d3\074\u014c" +
+    "\001\002\000\004\026\u01d9\001\002\000\004\026\u01d5\001" +
+    "\002\000\074\004\124\005\117\006\130\007\114\010\112" +
+    "\011\116\012\126\013\134\016\014\026\326\027\ufef6\050" +
+    "\254\052\343\053\350\074\313\075\312\076\305\077\342" +
+    "\100\330\101\340\102\332\140\226\142\243\144\213\145" +
+    "\273\146\235\147\311\150\263\151\262\001\002\000\004" +
+    "\027\u01d7\001\002\000\004\020\u01d8\001\002\000\150\003" +
+    "\uff80\004\uff80\005\uff80\006\uff80\007\uff80\010\uff80\011\uff80" +
+    "\012\uff80\013\uff80\016\uff80\020\uff80\023\uff80\024\uff80\026" +
+    "\uff80\033\uff80\034\uff80\035\uff80\036\uff80\037\uff80\040\uff80" +
+    "\041\uff80\042\uff80\043\uff80\044\uff80\045\uff80\050\uff80\052" +
+    "\uff80\053\uff80\055\uff80\057\uff80\062\uff80\063\uff80\064\uff80" +
+    "\065\uff80\066\uff80\067\uff80\070\uff80\071\uff80\074\uff80\075" +
+    "\uff80\076\uff80\140\uff80\142\uff80\144\uff80\145\uff80\146\uff80" +
+    "\147\uff80\150\uff80\151\uff80\152\uff80\153\uff80\001\002\000" +
+    "\074\004\124\005\117\006\130\007\114\010\112\011\116" +
+    "\012\126\013\134\016\014\026\326\027\ufef6\050\254\052" +
+    "\343\053\350\074\313\075\312\076\305\077\342\100\330" +
+    "\101\340\102\332\140\226\142\243\144\213\145\273\146" +
+    "\235\147\311\150\263\151\262\001\002\000\004\027\u01db" +
+    "\001\002\000\004\020\u01dc\001\002\000\150\003\uff7f\004" +
+    "\uff7f\005\uff7f\006\uff7f\007\uff7f\010\uff7f\011\uff7f\012\uff7f" +
+    "\013\uff7f\016\uff7f\020\uff7f\023\uff7f\024\uff7f\026\uff7f\033" +
+    "\uff7f\034\uff7f\035\uff7f\036\uff7f\037\uff7f\040\uff7f\041\uff7f" +
+    "\042\uff7f\043\uff7f\044\uff7f\045\uff7f\050\uff7f\052\uff7f\053" +
+    "\uff7f\055\uff7f\057\uff7f\062\uff7f\063\uff7f\064\uff7f\065\uff7f" +
+    "\066\uff7f\067\uff7f\070\uff7f\071\uff7f\074\uff7f\075\uff7f\076" +
+    "\uff7f\140\uff7f\142\uff7f\144\uff7f\145\uff7f\146\uff7f\147\uff7f" +
+    "\150\uff7f\151\uff7f\152\uff7f\153\uff7f\001\002\000\074\004" +
+    "\124\005\117\006\130\007\114\010\112\011\116\012\126" +
+    "\013\134\016\014\026\326\027\ufef6\050\254\052\343\053" +
+    "\350\074\313\075\312\076\305\077\342\100\330\101\340" +
+    "\102\332\140\226\142\243\144\213\145\273\146\235\147" +
+    "\311\150\263\151\262\001\002\000\004\027\u01df\001\002" +
+    "\000\004\020\u01e0\001\002\000\150\003\uff82\004\uff82\005" +
+    "\uff82\006\uff82\007\uff82\010\uff82\011\uff82\012\uff82\013\uff82" +
+    "\016\uff82\020\uff82\023\uff82\024\uff82\026\uff82\033\uff82\034" +
+    "\uff82\035\uff82\036\uff82\037\uff82\040\uff82\041\uff82\042\uff82" +
+    "\043\uff82\044\uff82\045\uff82\050\uff82\052\uff82\053\uff82\055" +
+    "\uff82\057\uff82\062\uff82\063\uff82\064\uff82\065\uff82\066\uff82" +
+    "\067\uff82\070\uff82\071\uff82\074\uff82\075\uff82\076\uff82\140" +
+    "\uff82\142\uff82\144\uff82\145\uff82\146\uff82\147\uff82\150\uff82" +
+    "\151\uff82\152\uff82\153\uff82\001\002\000\004\020\u01e2\001" +
+    "\002\000\156\003\uff19\004\uff19\005\uff19\006\uff19\007\uff19" +
+    "\010\uff19\011\uff19\012\uff19\013\uff19\016\uff19\020\uff19\023" +
+    "\uff19\024\uff19\026\uff19\033\uff19\034\uff19\035\uff19\036\uff19" +
+    "\037\uff19\040\uff19\041\uff19\042\uff19\043\uff19\044\uff19\045" +
+    "\uff19\050\uff19\052\uff19\053\uff19\055\uff19\056\uff19\057\uff19" +
+    "\060\uff19\061\uff19\062\uff19\063\uff19\064\uff19\065\uff19\066" +
+    "\uff19\067\uff19\070\uff19\071\uff19\074\uff19\075\uff19\076\uff19" +
+    "\140\uff19\142\uff19\144\uff19\145\uff19\146\uff19\147\uff19\150" +
+    "\uff19\151\uff19\152\uff19\153\uff19\001\002\000\006\072\u01e7" +
+    "\073\uff12\001\002\000\162\003\uff14\004\uff14\005\uff14\006" +
+    "\uff14\007\uff14\010\uff14\011\uff14\012\uff14\013\uff14\016\uff14" +
+    "\020\uff14\023\uff14\024\uff14\026\uff14\033\uff14\034\uff14\035" +
+    "\uff14\036\uff14\037\uff14\040\uff14\041\uff14\042\uff14\043\uff14" +
+    "\044\uff14\045\uff14\050\uff14\052\uff14\053\uff14\055\uff14\056" +
+    "\uff14\057\uff14\060\uff14\061\uff14\062\uff14\063\uff14\064\uff14" +
+    "\065\uff14\066\uff14\067\uff14\070\uff14\071\uff14\072\u01e7\073" +
+    "\uff11\074\uff14\075\uff14\076\uff14\140\uff14\142\uff14\144\uff14" +
+    "\145\uff14\146\uff14\147\uff14\150\uff14\151\uff14\152\uff14\153" +
+    "\uff14\001\002\000\162\003\uff10\004\uff10\005\uff10\006\uff10" +
+    "\007\uff10\010\uff10\011\uff10\012\uff10\013\uff10\016\uff10\020" +
+    "\uff10\023\uff10\024\uff10\026\uff10\033\uff10\034\uff10\035\uff10" +
+    "\036\uff10\037\uff10\040\uff10\041\uff10\042\uff10\043\uff10\044" +
+    "\uff10\045\uff10\050\uff10\052\uff10\053\uff10\055\uff10\056\uff10" +
+    "\057\uff10\060\uff10\061\uff10\062\uff10\063\uff10\064\uff10\065" +
+    "\uff10\066\uff10\067\uff10\070\uff10\071\uff10\072\uff10\073\uff10" +
+    "\074\uff10\075\uff10\076\uff10\140\uff10\142\uff10\144\uff10\145" +
+    "\uff10\146\uff10\147\uff10\150\uff10\151\uff10\152\uff10\153\uff10" +
+    "\001\002\000\004\073\u01ec\001\002\000\004\026\u01e8\001" +
+    "\002\000\026\004\124\005\117\006\130\007\114\010\112" +
+    "\011\116\012\126\013\134\016\014\040\150\001\002\000" +
+    "\004\027\u01ea\001\002\000\006\003\u01a7\023\076\001\002" +
+    "\000\162\003\uff0e\004\uff0e\005\uff0e\006\uff0e\007\uff0e\010" +
+    "\uff0e\011\uff0e\012\uff0e\013\uff0e\016\uff0e\020\uff0e\023\uff0e" +
+    "\024\uff0e\026\uff0e\033\uff0e\034\uff0e\035\uff0e\036\uff0e\037" +
+    "\uff0e\040\uff0e\041\uff0e\042\uff0e\043\uff0e\044\uff0e\045\uff0e" +
+    "\050\uff0e\052\uff0e\053\uff0e\055\uff0e\056\uff0e\057\uff0e\060" +
+    "\uff0e\061\uff0e\062\uff0e\063\uff0e\064\uff0e\065\uff0e\066\uff0e" +
+    "\067\uff0e\070\uff0e\071\uff0e\072\uff0e\073\uff0e\074\uff0e\075" +
+    "\uff0e\076\uff0e\140\uff0e\142\uff0e\144\uff0e\145\uff0e\146\uff0e" +
+    "\147\uff0e\150\uff0e\151\uff0e\152\uff0e\153\uff0e\001\002\000" +
+    "\006\003\u01a7\023\076\001\002\000\156\003\uff13\004\uff13" +
+    "\005\uff13\006\uff13\007\uff13\010\uff13\011\uff13\012\uff13\013" +
+    "\uff13\016\uff13\020\uff13\023\uff13\024\uff13\026\uff13\033\uff13" +
+    "\034\uff13\035\uff13\036\uff13\037\uff13\040\uff13\041\uff13\042" +
+    "\uff13\043\uff13\044\uff13\045\uff13\050\uff13\052\uff13\053\uff13" +
+    "\055\uff13\056\uff13\057\uff13\060\uff13\061\uff13\062\uff13\063" +
+    "\uff13\064\uff13\065\uff13\066\uff13\067\uff13\070\uff13\071\uff13" +
+    "\074\uff13\075\uff13\076\uff13\140\uff13\142\uff13\144\uff13\145" +
+    "\uff13\146\uff13\147\uff13\150\uff13\151\uff13\152\uff13\153\uff13" +
+    "\001\002\000\156\003\uff0d\004\uff0d\005\uff0d\006\uff0d\007" +
+    "\uff0d\010\uff0d\011\uff0d\012\uff0d\013\uff0d\016\uff0d\020\uff0d" +
+    "\023\uff0d\024\uff0d\026\uff0d\033\uff0d\034\uff0d\035\uff0d\036" +
+    "\uff0d\037\uff0d\040\uff0d\041\uff0d\042\uff0d\043\uff0d\044\uff0d" +
+    "\045\uff0d\050\uff0d\052\uff0d\053\uff0d\055\uff0d\056\uff0d\057" +
+    "\uff0d\060\uff0d\061\uff0d\062\uff0d\063\uff0d\064\uff0d\065\uff0d" +
+    "\066\uff0d\067\uff0d\070\uff0d\071\uff0d\074\uff0d\075\uff0d\076" +
+    "\uff0d\140\uff0d\142\uff0d\144\uff0d\145\uff0d\146\uff0d\147\uff0d" +
+    "\150\uff0d\151\uff0d\152\uff0d\153\uff0d\001\002\000\162\003" +
+    "\uff0f\004\uff0f\005\uff0f\006\uff0f\007\uff0f\010\uff0f\011\uff0f" +
+    "\012\uff0f\013\uff0f\016\uff0f\020\uff0f\023\uff0f\024\uff0f\026" +
+    "\uff0f\033\uff0f\034\uff0f\035\uff0f\036\uff0f\037\uff0f\040\uff0f" +
+    "\041\uff0f\042\uff0f\043\uff0f\044\uff0f\045\uff0f\050\uff0f\052" +
+    "\uff0f\053\uff0f\055\uff0f\056\uff0f\057\uff0f\060\uff0f\061\uff0f" +
+    "\062\uff0f\063\uff0f\064\uff0f\065\uff0f\066\uff0f\067\uff0f\070" +
+    "\uff0f\071\uff0f\072\uff0f\073\uff0f\074\uff0f\075\uff0f\076\uff0f" +
+    "\140\uff0f\142\uff0f\144\uff0f\145\uff0f\146\uff0f\147\uff0f\150" +
+    "\uff0f\151\uff0f\152\uff0f\153\uff0f\001\002\000\004\020\u01f1" +
+    "\001\002\000\156\003\uff17\004\uff17\005\uff17\006\uff17\007" +
+    "\uff17\010\uff17\011\uff17\012\uff17\013\uff17\016\uff17\020\uff17" +
+    "\023\uff17\024\uff17\026\uff17\033\uff17\034\uff17\035\uff17\036" +
+    "\uff17\037\uff17\040\uff17\041\uff17\042\uff17\043\uff17\044\uff17" +
+    "\045\uff17\050\uff17\052\uff17\053\uff17\055\uff17\056\uff17\057" +
+    "\uff17\060\uff17\061\uff17\062\uff17\063\uff17\064\uff17\065\uff17" +
+    "\066\uff17\067\uff17\070\uff17\071\uff17\074\uff17\075\uff17\076" +
+    "\uff17\140\uff17\142\uff17\144\uff17\145\uff17\146\uff17\147\uff17" +
+    "\150\uff17\151\uff17\152\uff17\153\uff17\001\002\000\004\045" +
+    "\u01f3\001\002\000\100\014\uff00\015\uff00\017\uff00\020\uff00" +
+    "\021\uff00\022\uff00\024\uff00\027\uff00\030\uff00\075\uff00\076" +
+    "\uff00\077\uff00\100\uff00\103\uff00\104\uff00\105\uff00\106\uff00" +
+    "\107\uff00\110\uff00\111\uff00\112\uff00\113\uff00\114\uff00\115" +
+    "\uff00\116\uff00\117\uff00\120\uff00\121\uff00\122\uff00\123\uff00" +
+    "\124\uff00\001\002\000\120\003\276\004\124\005\117\006" +
+    "\130\007\114\010\112\011\116\012\126\013\134\016\014" +
+    "\020\264\023\076\026\223\042\u019a\050\254\052\343\053" +
+    "\350\055\303\057\247\062\251\063\244\064\252\065\260" +
+    "\066\302\067\255\070\215\071\256\074\313\075\312\076" +
+    "\305\140\226\142\243\144\213\145\273\146\235\147\311" +
+    "\150\263\151\262\153\307\001\002\000\066\004\124\005" +
+    "\117\006\130\007\114\010\112\011\116\012\126\013\134" +
+    "\016\014\020\uff24\026\223\040\u01b2\050\254\052\343\053" +
+    "\350\074\313\075\312\076\305\140\226\142\243\144\213" +
+    "\145\273\146\235\147\311\150\263\151\262\001\002\000" +
+    "\004\020\u01f7\001\002\000\074\004\124\005\117\006\130" +
+    "\007\114\010\112\011\116\012\126\013\134\016\014\020" +
+    "\ufe97\026\326\050\254\052\343\053\350\074\313\075\312" +
+    "\076\305\077\342\100\330\101\340\102\332\140\226\142" +
+    "\243\144\213\145\273\146\235\147\311\150\263\151\262" +
+    "\001\002\000\004\020\u01f9\001\002\000\064\004\124\005" +
+    "\117\006\130\007\114\010\112\011\116\012\126\013\134" +
+    "\016\014\026\223\027\uff20\050\254\052\343\053\350\074" +
+    "\313\075\312\076\305\140\226\142\243\144\213\145\273" +
+    "\146\235\147\311\150\263\151\262\001\002\000\004\027" +
+    "\u01fb\001\002\000\120\003\276\004\124\005\117\006\130" +
+    "\007\114\010\112\011\116\012\126\013\134\016\014\020" +
+    "\264\023\076\026\223\042\u019a\050\254\052\343\053\350" +
+    "\055\303\057\247\062\251\063\244\064\252\065\260\066" +
+    "\302\067\255\070\215\071\256\074\313\075\312\076\305" +
+    "\140\226\142\243\144\213\145\273\146\235\147\311\150" +
+    "\263\151\262\153\307\001\002\000\004\063\u01fd\001\002" +
+    "\000\004\026\u01fe\001\002\000\072\004\124\005\117\006" +
+    "\130\007\114\010\112\011\116\012\126\013\134\016\014" +
+    "\026\326\050\254\052\343\053\350\074\313\075\312\076" +
+    "\305\077\342\100\330\101\340\102\332\140\226\142\243" +
+    "\144\213\145\273\146\235\147\311\150\263\151\262\001" +
+    "\002\000\004\027\u0200\001\002\000\004\020\u0201\001\002" +
+    "\000\156\003\uff27\004\uff27\005\uff27\006\uff27\007\uff27\010" +
+    "\uff27\011\uff27\012\uff27\013\uff27\016\uff27\020\uff27\023\uff27" +
+    "\024\uff27\026\uff27\033\uff27\034\uff27\035\uff27\036\uff27\037" +
+    "\uff27\040\uff27\041\uff27\042\uff27\043\uff27\044\uff27\045\uff27" +
+    "\050\uff27\052\uff27\053\uff27\055\uff27\056\uff27\057\uff27\060" +
+    "\uff27\061\uff27\062\uff27\063\uff27\064\uff27\065\uff27\066\uff27" +
+    "\067\uff27\070\uff27\071\uff27\074\uff27\075\uff27\076\uff27\140" +
+    "\uff27\142\uff27\144\uff27\145\uff27\146\uff27\147\uff27\150\uff27" +
+    "\151\uff27\152\uff27\153\uff27\001\002\000\072\004\124\005" +
+    "\117\006\130\007\114\010\112\011\116\012\126\013\134" +
+    "\016\014\026\326\050\254\052\343\053\350\074\313\075" +
+    "\312\076\305\077\342\100\330\101\340\102\332\140\226" +
+    "\142\243\144\213\145\273\146\235\147\311\150\263\151" +
+    "\262\001\002\000\004\027\u0204\001\002\000\004\023\u0205" +
+    "\001\002\000\010\024\u0208\060\u020d\061\u0207\001\002\000" +
+    "\156\003\uff35\004\uff35\005\uff35\006\uff35\007\uff35\010\uff35" +
+    "\011\uff35\012\uff35\013\uff35\016\uff35\020\uff35\023\uff35\024" +
+    "\uff35\026\uff35\033\uff35\034\uff35\035\uff35\036\uff35\037\uff35" +
+    "\040\uff35\041\uff35\042\uff35\043\uff35\044\uff35\045\uff35\050" +
+    "\uff35\052\uff35\053\uff35\055\uff35\056\uff35\057\uff35\060\uff35" +
+    "\061\uff35\062\uff35\063\uff35\064\uff35\065\uff35\066\uff35\067" +
+    "\uff35\070\uff35\071\uff35\074\uff35\075\uff35\076\uff35\140\uff35" +
+    "\142\uff35\144\uff35\145\uff35\146\uff35\147\uff35\150\uff35\151" +
+    "\uff35\152\uff35\153\uff35\001\002\000\004\030\u0219\001\002" +
+    "\000\156\003\uff31\004\uff31\005\uff31\006\uff31\007\uff31\010" +
+    "\uff31\011\uff31\012\uff31\013\uff31\016\uff31\020\uff31\023\uff31" +
+    "\024\uff31\026\uff31\033\uff31\034\uff31\035\uff31\036\uff31\037" +
+    "\uff31\040\uff31\041\uff31\042\uff31\043\uff31\044\uff31\045\uff31" +
+    "\050\uff31\052\uff31\053\uff31\055\uff31\056\uff31\057\uff31\060" +
+    "\uff31\061\uff31\062\uff31\063\uff31\064\uff31\065\uff31\066\uff31" +
+    "\067\uff31\070\uff31\071\uff31\074\uff31\075\uff31\076\uff31\140" +
+    "\uff31\142\uff31\144\uff31\145\uff31\146\uff31\147\uff31\150\uff31" +
+    "\151\uff31\152\uff31\153\uff31\001\002\000\010\024\u0215\060" +
+    "\u020d\061\u0207\001\002\000\010\024\uff30\060\uff30\061\uff30" +
+    "\001\002\000\154\003\uff2d\004\uff2d\005\uff2d\006\uff2d\007" +
+    "\uff2d\010\uff2d\011\uff2d\012\uff2d\013\uff2d\016\uff2d\020\uff2d" +
+    "\023\uff2d\024\uff2d\026\uff2d\033\uff2d\034\uff2d\035\uff2d\036" +
+    "\uff2d\037\uff2d\040\uff2d\041\uff2d\042\uff2d\043\uff2d\044\uff2d" +
+    "\045\uff2d\050\uff2d\052\uff2d\053\uff2d\055\uff2d\057\uff2d\060" +
+    "\uff2d\061\uff2d\062\uff2d\063\uff2d\064\uff2d\065\uff2d\066\uff2d" +
+    "\067\uff2d\070\uff2d\071\uff2d\074\uff2d\075\uff2d\076\uff2d\140" +
+    "\uff2d\142\uff2d\144\uff2d\145\uff2d\146\uff2d\147\uff2d\150\uff2d" +
+    "\151\uff2d\152\uff2d\153\uff2d\001\002\000\154\003\276\004" +
+    "\124\005\117\006\130\007\114\010\112\011\116\012\126" +
+    "\013\134\016\014\020\264\023\076\024\u0213\026\223\033" +
+    "\031\034\034\035\026\036\033\037\042\040\227\041\027" +
+    "\042\301\043\036\044\032\045\uffc9\050\254\052\343\053" +
+    "\350\055\303\057\247\060\u020d\061\u0207\062\251\063\244" +
+    "\064\252\065\260\066\302\067\255\070\215\071\256\074" +
+    "\313\075\312\076\305\140\226\142\243\144\213\145\273" +
+    "\146\235\147\311\150\263\151\262\152\024\153\307\001" +
+    "\002\000\072\004\124\005\117\006\130\007\114\010\112" +
+    "\011\116\012\126\013\134\016\014\026\326\050\254\052" +
+    "\343\053\350\074\313\075\312\076\305\077\342\100\330" +
+    "\101\340\102\332\140\226\142\243\144\213\145\273\146" +
+    "\235\147\311\150\263\151\262\001\002\000\004\030\u0210" +
+    "\001\002\000\004\030\ufe94\001\002\000\154\003\uff2b\004" +
+    "\uff2b\005\uff2b\006\uff2b\007\uff2b\010\uff2b\011\uff2b\012\uff2b" +
+    "\013\uff2b\016\uff2b\020\uff2b\023\uff2b\024\uff2b\026\uff2b\033" +
+    "\uff2b\034\uff2b\035\uff2b\036\uff2b\037\uff2b\040\uff2b\041\uff2b" +
+    "\042\uff2b\043\uff2b\044\uff2b\045\uff2b\050\uff2b\052\uff2b\053" +
+    "\uff2b\055\uff2b\057\uff2b\060\uff2b\061\uff2b\062\uff2b\063\uff2b" +
+    "\064\uff2b\065\uff2b\066\uff2b\067\uff2b\070\uff2b\071\uff2b\074" +
+    "\uff2b\075\uff2b\076\uff2b\140\uff2b\142\uff2b\144\uff2b\145\uff2b" +
+    "\146\uff2b\147\uff2b\150\uff2b\151\uff2b\152\uff2b\153\uff2b\001" +
+    "\002\000\154\003\276\004\124\005\117\006\130\007\114" +
+    "\010\112\011\116\012\126\013\134\016\014\020\264\023" +
+    "\076\024\uff2e\026\223\033\031\034\034\035\026\036\033" +
+    "\037\042\040\227\041\027\042\301\043\036\044\032\045" +
+    "\uffc9\050\254\052\343\053\350\055\303\057\247\060\uff2e" +
+    "\061\uff2e\062\251\063\244\064\252\065\260\066\302\067" +
+    "\255\070\215\071\256\074\313\075\312\076\305\140\226" +
+    "\142\243\144\213\145\273\146\235\147\311\150\263\151" +
+    "\262\152\024\153\307\001\002\000\154\003\uff2c\004\uff2c" +
+    "\005\uff2c\006\uff2c\007\uff2c\010\uff2c\011\uff2c\012\uff2c\013" +
+    "\uff2c\016\uff2c\020\uff2c\023\uff2c\024\uff2c\026\uff2c\033\uff2c" +
+    "\034\uff2c\035\uff2c\036\uff2c\037\uff2c\040\uff2c\041\uff2c\042" +
+    "\uff2c\043\uff2c\044\uff2c\045\uff2c\050\uff2c\052\uff2c\053\uff2c" +
+    "\055\uff2c\057\uff2c\060\uff2c\061\uff2c\062\uff2c\063\uff2c\064" +
+    "\uff2c\065\uff2c\066\uff2c\067\uff2c\070\uff2c\071\uff2c\074\uff2c" +
+    "\075\uff2c\076\uff2c\140\uff2c\142\uff2c\144\uff2c\145\uff2c\146" +
+    "\uff2c\147\uff2c\150\uff2c\151\uff2c\152\uff2c\153\uff2c\001\002" +
+    "\000\156\003\uff32\004\uff32\005\uff32\006\uff32\007\uff32\010" +
+    "\uff32\011\uff32\012\uff32\013\uff32\016\uff32\020\uff32\023\uff32" +
+    "\024\uff32\026\uff32\033\uff32\034\uff32\035\uff32\036\uff32\037" +
+    "\uff32\040\uff32\041\uff32\042\uff32\043\uff32\044\uff32\045\uff32" +
+    "\050\uff32\052\uff32\053\uff32\055\uff32\056\uff32\057\uff32\060" +
+    "\uff32\061\uff32\062\uff32\063\uff32\064\uff32\065\uff32\066\uff32" +
+    "\067\uff32\070\uff32\071\uff32\074\uff32\075\uff32\076\uff32\140" +
+    "\uff32\142\uff32\144\uff32\145\uff32\146\uff32\147\uff32\150\uff32" +
+    "\151\uff32\152\uff32\153\uff32\001\002\000\154\003\uff62\004" +
+    "\uff62\005\uff62\006\uff62\007\uff62\010\uff62\011\uff62\012\uff62" +
+    "\013\uff62\016\uff62\020\uff62\023\uff62\024\uff62\026\uff62\033" +
+    "\uff62\034\uff62\035\uff62\036\uff62\037\uff62\040\uff62\041\uff62" +
+    "\042\uff62\043\uff62\044\uff62\045\uff62\050\uff62\052\uff62\053" +
+    "\uff62\055\uff62\057\uff62\060\uff62\061\uff62\062\uff62\063\uff62" +
+    "\064\uff62\065\uff62\066\uff62\067\uff62\070\uff62\071\uff62\074" +
+    "\uff62\075\uff62\076\uff62\140\uff62\142\uff62\144\uff62\145\uff62" +
+    "\146\uff62\147\uff62\150\uff62\151\uff62\152\uff62\153\uff62\001" +
+    "\002\000\156\003\uff33\004\uff33\005\uff33\006\uff33\007\uff33" +
+    "\010\uff33\011\uff33\012\uff33\013\uff33\016\uff33\020\uff33\023" +
+    "\uff33\024\uff33\026\uff33\033\uff33\034\uff33\035\uff33\036\uff33" +
+    "\037\uff33\040\uff33\041\uff33\042\uff33\043\uff33\044\uff33\045" +
+    "\uff33\050\uff33\052\uff33\053\uff33\055\uff33\056\uff33\057\uff33" +
+    "\060\uff33\061\uff33\062\uff33\063\uff33\064\uff33\065\uff33\066" +
+    "\uff33\067\uff33\070\uff33\071\uff33\074\uff33\075\uff33\076\uff33" +
+    "\140\uff33\142\uff33\144\uff33\145\uff33\146\uff33\147\uff33\150" +
+    "\uff33\151\uff33\152\uff33\153\uff33\001\002\000\010\024\uff2f" +
+    "\060\uff2f\061\uff2f\001\002\000\154\003\276\004\124\005" +
+    "\117\006\130\007\114\010\112\011\116\012\126\013\134" +
+    "\016\014\020\264\023\076\024\u0218\026\223\033\031\034" +
+    "\034\035\026\036\033\037\042\040\227\041\027\042\301" +
+    "\043\036\044\032\045\uffc9\050\254\052\343\053\350\055" +
+    "\303\057\247\060\u020d\061\u0207\062\251\063\244\064\252" +
+    "\065\260\066\302\067\255\070\215\071\256\074\313\075" +
+    "\312\076\305\140\226\142\243\144\213\145\273\146\235" +
+    "\147\311\150\263\151\262\152\024\153\307\001\002\000" +
+    "\156\003\uff34\004\uff34\005\uff34\006\uff34\007\uff34\010\uff34" +
+    "\011\uff34\012\uff34\013\uff34\016\uff34\020\uff34\023\uff34\024" +
+    "\uff34\026\uff34\033\uff34\034\uff34\035\uff34\036\uff34\037\uff34" +
+    "\040\uff34\041\uff34\042\uff34\043\uff34\044\uff34\045\uff34\050" +
+    "\uff34\052\uff34\053\uff34\055\uff34\056\uff34\057\uff34\060\uff34" +
+    "\061\uff34\062\uff34\063\uff34\064\uff34\065\uff34\066\uff34\067" +
+    "\uff34\070\uff34\071\uff34\074\uff34\075\uff34\076\uff34\140\uff34" +
+    "\142\uff34\144\uff34\145\uff34\146\uff34\147\uff34\150\uff34\151" +
+    "\uff34\152\uff34\153\uff34\001\002\000\154\003\uff2a\004\uff2a" +
+    "\005\uff2a\006\uff2a\007\uff2a\010\uff2a\011\uff2a\012\uff2a\013" +
+    "\uff2a\016\uff2a\020\uff2a\023\uff2a\024\uff2a\026\uff2a\033\uff2a" +
+    "\034\uff2a\035\uff2a\036\uff2a\037\uff2a\040\uff2a\041\uff2a\042" +
+    "\uff2a\043\uff2a\044\uff2a\045\uff2a\050\uff2a\052\uff2a\053\uff2a" +
+    "\055\uff2a\057\uff2a\060\uff2a\061\uff2a\062\uff2a\063\uff2a\064" +
+    "\uff2a\065\uff2a\066\uff2a\067\uff2a\070\uff2a\071\uff2a\074\uff2a" +
+    "\075\uff2a\076\uff2a\140\uff2a\142\uff2a\144\uff2a\145\uff2a\146" +
+    "\uff2a\147\uff2a\150\uff2a\151\uff2a\152\uff2a\153\uff2a\001\002" +
+    "\000\006\020\uff5d\022\u01c5\001\002\000\072\004\124\005" +
+    "\117\006\130\007\114\010\112\011\116\012\126\013\134" +
+    "\016\014\026\326\050\254\052\343\053\350\074\313\075" +
+    "\312\076\305\077\342\100\330\101\340\102\332\140\226" +
+    "\142\243\144\213\145\273\146\235\147\311\150\263\151" +
+    "\262\001\002\000\004\027\u021d\001\002\000\120\003\276" +
+    "\004\124\005\117\006\130\007\114\010\112\011\116\012" +
+    "\126\013\134\016\014\020\264\023\076\026\223\042\u019a" +
+    "\050\254\052\343\053\350\055\303\057\247\062\251\063" +
+    "\244\064\252\065\260\066\302\067\255\070\215\071\256" +
+    "\074\313\075\312\076\305\140\226\142\243\144\213\145" +
+    "\273\146\235\147\311\150\263\151\262\153\307\001\002" +
+    "\000\074\004\124\005\117\006\130\007\114\010\112\011" +
+    "\116\012\126\013\134\016\014\026\326\027\ufef6\050\254" +
+    "\052\343\053\350\074\313\075\312\076\305\077\342\100" +
+    "\330\101\340\102\332\140\226\142\243\144\213\145\273" +
+    "\146\235\147\311\150\263\151\262\001\002\000\004\027" +
+    "\u0220\001\002\000\004\020\u0221\001\002\000\150\003\uff81" +
+    "\004\uff81\005\uff81\006\uff81\007\uff81\010\uff81\011\uff81\012" +
+    "\uff81\013\uff81\016\uff81\020\uff81\023\uff81\024\uff81\026\uff81" +
+    "\033\uff81\034\uff81\035\uff81\036\uff81\037\uff81\040\uff81\041" +
+    "\uff81\042\uff81\043\uff81\044\uff81\045\uff81\050\uff81\052\uff81" +
+    "\053\uff81\055\uff81\057\uff81\062\uff81\063\uff81\064\uff81\065" +
+    "\uff81\066\uff81\067\uff81\070\uff81\071\uff81\074\uff81\075\uff81" +
+    "\076\uff81\140\uff81\142\uff81\144\uff81\145\uff81\146\uff81\147" +
+    "\uff81\150\uff81\151\uff81\152\uff81\153\uff81\001\002\000\154" +
+    "\003\uff5e\004\uff5e\005\uff5e\006\uff5e\007\uff5e\010\uff5e\011" +
+    "\uff5e\012\uff5e\013\uff5e\016\uff5e\020\uff5e\023\uff5e\024\uff5e" +
+    "\026\uff5e\033\uff5e\034\uff5e\035\uff5e\036\uff5e\037\uff5e\040" +
+    "\uff5e\041\uff5e\042\uff5e\043\uff5e\044\uff5e\045\uff5e\050\uff5e" +
+    "\052\uff5e\053\uff5e\055\uff5e\057\uff5e\060\uff5e\061\uff5e\062" +
+    "\uff5e\063\uff5e\064\uff5e\065\uff5e\066\uff5e\067\uff5e\070\uff5e" +
+    "\071\uff5e\074\uff5e\075\uff5e\076\uff5e\140\uff5e\142\uff5e\144" +
+    "\uff5e\145\uff5e\146\uff5e\147\uff5e\150\uff5e\151\uff5e\152\uff5e" +
+    "\153\uff5e\001\002\000\150\003\276\004\124\005\117\006" +
+    "\130\007\114\010\112\011\116\012\126\013\134\016\014" +
+    "\020\264\023\076\024\u0225\026\223\033\031\034\034\035" +
+    "\026\036\033\037\042\040\227\041\027\042\301\043\036" +
+    "\044\032\045\uffc9\050\254\052\343\053\350\055\303\057" +
+    "\247\062\251\063\244\064\252\065\260\066\302\067\255" +
+    "\070\215\071\256\074\313\075\312\076\305\140\226\142" +
+    "\243\144\213\145\273\146\235\147\311\150\263\151\262" +
+    "\152\024\153\307\001\002\000\070\003\uff85\004\uff85\005" +
+    "\uff85\006\uff85\007\uff85\010\uff85\011\uff85\012\uff85\013\uff85" +
+    "\016\uff85\020\uff85\023\uff85\024\uff85\033\uff85\034\uff85\035" +
+    "\uff85\036\uff85\037\uff85\040\uff85\041\uff85\042\uff85\043\uff85" +
+    "\044\uff85\045\uff85\050\uff85\054\uff85\152\uff85\001\002\000" +
+    "\070\003\uff86\004\uff86\005\uff86\006\uff86\007\uff86\010\uff86" +
+    "\011\uff86\012\uff86\013\uff86\016\uff86\020\uff86\023\uff86\024" +
+    "\uff86\033\uff86\034\uff86\035\uff86\036\uff86\037\uff86\040\uff86" +
+    "\041\uff86\042\uff86\043\uff86\044\uff86\045\uff86\050\uff86\054" +
+    "\uff86\152\uff86\001\002\000\004\027\u0227\001\002\000\012" +
+    "\014\uff06\017\uff06\075\uff06\076\uff06\001\002\000\156\003" +
+    "\uff40\004\uff40\005\uff40\006\uff40\007\uff40\010\uff40\011\uff40" +
+    "\012\uff40\013\uff40\016\uff40\020\uff40\023\uff40\024\uff40\026" +
+    "\uff40\033\uff40\034\uff40\035\uff40\036\uff40\037\uff40\040\uff40" +
+    "\041\uff40\042\uff40\043\uff40\044\uff40\045\uff40\050\uff40\052" +
+    "\uff40\053\uff40\055\uff40\056\uff40\057\uff40\060\uff40\061\uff40" +
+    "\062\uff40\063\uff40\064\uff40\065\uff40\066\uff40\067\uff40\070" +
+    "\uff40\071\uff40\074\uff40\075\uff40\076\uff40\140\uff40\142\uff40" +
+    "\144\uff40\145\uff40\146\uff40\147\uff40\150\uff40\151\uff40\152" +
+    "\uff40\153\uff40\001\002\000\004\020\u022a\001\002\000\156" +
+    "\003\uff16\004\uff16\005\uff16\006\uff16\007\uff16\010\uff16\011" +
+    "\uff16\012\uff16\013\uff16\016\uff16\020\uff16\023\uff16\024\uff16" +
+    "\026\uff16\033\uff16\034\uff16\035\uff16\036\uff16\037\uff16\040" +
+    "\uff16\041\uff16\042\uff16\043\uff16\044\uff16\045\uff16\050\uff16" +
+    "\052\uff16\053\uff16\055\uff16\056\uff16\057\uff16\060\uff16\061" +
+    "\uff16\062\uff16\063\uff16\064\uff16\065\uff16\066\uff16\067\uff16" +
+    "\070\uff16\071\uff16\074\uff16\075\uff16\076\uff16\140\uff16\142" +
+    "\uff16\144\uff16\145\uff16\146\uff16\147\uff16\150\uff16\151\uff16" +
+    "\152\uff16\153\uff16\001\002\000\072\004\ufe99\005\ufe99\006" +
+    "\ufe99\007\ufe99\010\ufe99\011\ufe99\012\ufe99\013\ufe99\016\ufe99" +
+    "\026\ufe99\050\ufe99\052\ufe99\053\ufe99\074\ufe99\075\ufe99\076" +
+    "\ufe99\077\ufe99\100\ufe99\101\ufe99\102\ufe99\140\ufe99\142\ufe99" +
+    "\144\ufe99\145\ufe99\146\ufe99\147\ufe99\150\ufe99\151\ufe99\001" +
+    "\002\000\072\004\ufea2\005\ufea2\006\ufea2\007\ufea2\010\ufea2" +
+    "\011\ufea2\012\ufea2\013\ufea2\016\ufea2\026\ufea2\050\ufea2\052" +
+    "\ufea2\053\ufea2\074\ufea2\075\ufea2\076\ufea2\077\ufea2\100\ufea2" +
+    "\101\ufea2\102\ufea2\140\ufea2\142\ufea2\144\ufea2\145\ufea2\146" +
+    "\ufea2\147\ufea2\150\ufea2\151\ufea2\001\002\000\072\004\ufea1" +
+    "\005\ufea1\006\ufea1\007\ufea1\010\ufea1\011\ufea1\012\ufea1\013" +
+    "\ufea1\016\ufea1\026\ufea1\050\ufea1\052\ufea1\053\ufea1\074\ufea1" +
+    "\075\ufea1\076\ufea1\077\ufea1\100\ufea1\101\ufea1\102\ufea1\140" +
+    "\ufea1\142\ufea1\144\ufea1\145\ufea1\146\ufea1\147\ufea1\150\ufea1" +
+    "\151\ufea1\001\002\000\072\004\ufe9a\005\ufe9a\006\ufe9a\007" +
+    "\ufe9a\010\ufe9a\011\ufe9a\012\ufe9a\013\ufe9a\016\ufe9a\026\ufe9a" +
+    "\050\ufe9a\052\ufe9a\053\ufe9a\074\ufe9a\075\ufe9a\076\ufe9a\077" +
+    "\ufe9a\100\ufe9a\101\ufe9a\102\ufe9a\140\ufe9a\142\ufe9a\144\ufe9a" +
+    "\145\ufe9a\146\ufe9a\147\ufe9a\150\ufe9a\151\ufe9a\001\002\000" +
+    "\072\004\ufe9b\005\ufe9b\006\ufe9b\007\ufe9b\010\ufe9b\011\ufe9b" +
+    "\012\ufe9b\013\ufe9b\016\ufe9b\026\ufe9b\050\ufe9b\052\ufe9b\053" +
+    "\ufe9b\074\ufe9b\075\ufe9b\076\ufe9b\077\ufe9b\100\ufe9b\101\ufe9b" +
+    "\102\ufe9b\140\ufe9b\142\ufe9b\144\ufe9b\145\ufe9b\146\ufe9b\147" +
+    "\ufe9b\150\ufe9b\151\ufe9b\001\002\000\072\004\ufe9f\005\ufe9f" +
+    "\006\ufe9f\007\ufe9f\010\ufe9f\011\ufe9f\012\ufe9f\013\ufe9f\016" +
+    "\ufe9f\026\ufe9f\050\ufe9f\052\ufe9f\053\ufe9f\074\ufe9f\075\ufe9f" +
+    "\076\ufe9f\077\ufe9f\100\ufe9f\101\ufe9f\102\ufe9f\140\ufe9f\142" +
+    "\ufe9f\144\ufe9f\145\ufe9f\146\ufe9f\147\ufe9f\150\ufe9f\151\ufe9f" +
+    "\001\002\000\072\004\ufe9c\005\ufe9c\006\ufe9c\007\ufe9c\010" +
+    "\ufe9c\011\ufe9c\012\ufe9c\013\ufe9c\016\ufe9c\026\ufe9c\050\ufe9c" +
+    "\052\ufe9c\053\ufe9c\074\ufe9c\075\ufe9c\076\ufe9c\077\ufe9c\100" +
+    "\ufe9c\101\ufe9c\102\ufe9c\140\ufe9c\142\ufe9c\144\ufe9c\145\ufe9c" +
+    "\146\ufe9c\147\ufe9c\150\ufe9c\151\ufe9c\001\002\000\072\004" +
+    "\ufe9d\005\ufe9d\006\ufe9d\007\ufe9d\010\ufe9d\011\ufe9d\012\ufe9d" +
+    "\013\ufe9d\016\ufe9d\026\ufe9d\050\ufe9d\052\ufe9d\053\ufe9d\074" +
+    "\ufe9d\075\ufe9d\076\ufe9d\077\ufe9d\100\ufe9d\101\ufe9d\102\ufe9d" +
+    "\140\ufe9d\142\ufe9d\144\ufe9d\145\ufe9d\146\ufe9d\147\ufe9d\150" +
+    "\ufe9d\151\ufe9d\001\002\000\072\004\ufea3\005\ufea3\006\ufea3" +
+    "\007\ufea3\010\ufea3\011\ufea3\012\ufea3\013\ufea3\016\ufea3\026" +
+    "\ufea3\050\ufea3\052\ufea3\053\ufea3\074\ufea3\075\ufea3\076\ufea3" +
+    "\077\ufea3\100\ufea3\101\ufea3\102\ufea3\140\ufea3\142\ufea3\144" +
+    "\ufea3\145\ufea3\146\ufea3\147\ufea3\150\ufea3\151\ufea3\001\002" +
+    "\000\072\004\ufe9e\005\ufe9e\006\ufe9e\007\ufe9e\010\ufe9e\011" +
+    "\ufe9e\012\ufe9e\013\ufe9e\016\ufe9e\026\ufe9e\050\ufe9e\052\ufe9e" +
+    "\053\ufe9e\074\ufe9e\075\ufe9e\076\ufe9e\077\ufe9e\100\ufe9e\101" +
+    "\ufe9e\102\ufe9e\140\ufe9e\142\ufe9e\144\ufe9e\145\ufe9e\146\ufe9e" +
+    "\147\ufe9e\150\ufe9e\151\ufe9e\001\002\000\072\004\124\005" +
+    "\117\006\130\007\114\010\112\011\116\012\126\013\134" +
+    "\016\014\026\326\050\254\052\343\053\350\074\313\075" +
+    "\312\076\305\077\342\100\330\101\340\102\332\140\226" +
+    "\142\243\144\213\145\273\146\235\147\311\150\263\151" +
+    "\262\001\002\000\072\004\ufe98\005\ufe98\006\ufe98\007\ufe98" +
+    "\010\ufe98\011\ufe98\012\ufe98\013\ufe98\016\ufe98\026\ufe98\050" +
+    "\ufe98\052\ufe98\053\ufe98\074\ufe98\075\ufe98\076\ufe98\077\ufe98" +
+    "\100\ufe98\101\ufe98\102\ufe98\140\ufe98\142\ufe98\144\ufe98\145" +
+    "\ufe98\146\ufe98\147\ufe98\150\ufe98\151\ufe98\001\002\000\072" +
+    "\004\ufea0\005\ufea0\006\ufea0\007\ufea0\010\ufea0\011\ufea0\012" +
+    "\ufea0\013\ufea0\016\ufea0\026\ufea0\050\ufea0\052\ufea0\053\ufea0" +
+    "\074\ufea0\075\ufea0\076\ufea0\077\ufea0\100\ufea0\101\ufea0\102" +
+    "\ufea0\140\ufea0\142\ufea0\144\ufea0\145\ufea0\146\ufea0\147\ufea0" +
+    "\150\ufea0\151\ufea0\001\002\000\016\015\ufea7\020\ufea7\022" +
+    "\ufea7\024\ufea7\027\ufea7\030\ufea7\001\002\000\070\003\uff84" +
+    "\004\uff84\005\uff84\006\uff84\007\uff84\010\uff84\011\uff84\012" +
+    "\uff84\013\uff84\016\uff84\020\uff84\023\uff84\024\uff84\033\uff84" +
+    "\034\uff84\035\uff84\036\uff84\037\uff84\040\uff84\041\uff84\042" +
+    "\uff84\043\uff84\044\uff84\045\uff84\050\uff84\054\uff84\152\uff84" +
+    "\001\002\000\014\014\uff9c\020\uff9c\022\uff9c\025\uff9c\026" +
+    "\u023d\001\002\000\006\020\u023c\022\u01c5\001\002\000\070" +
+    "\003\uffa1\004\uffa1\005\uffa1\006\uffa1\007\uffa1\010\uffa1\011" +
+    "\uffa1\012\uffa1\013\uffa1\016\uffa1\020\uffa1\023\uffa1\024\uffa1" +
+    "\033\uffa1\034\uffa1\035\uffa1\036\uffa1\037\uffa1\040\uffa1\041" +
+    "\uffa1\042\uffa1\043\uffa1\044\uffa1\045\uffa1\050\uffa1\054\uffa1" +
+    "\152\uffa1\001\002\000\030\004\124\005\117\006\130\007" +
+    "\114\010\112\011\116\012\126\013\134\016\014\027\uff95" +
+    "\040\150\001\002\000\004\027\u023f\001\002\000\014\003" +
+    "\ufeeb\014\136\020\ufeeb\023\ufeeb\051\ufeeb\001\002\000\012" +
+    "\003\uff8f\020\uff8f\023\uff8f\051\162\001\002\000\010\003" +
+    "\uff97\020\uff97\023\uff97\001\002\000\010\023\uffb8\046\054" +
+    "\047\uffb8\001\002\000\006\023\uffb5\047\061\001\002\000" +
+    "\004\023\070\001\002\000\070\003\uffa3\004\uffa3\005\uffa3" +
+    "\006\uffa3\007\uffa3\010\uffa3\011\uffa3\012\uffa3\013\uffa3\016" +
+    "\uffa3\020\uffa3\023\uffa3\024\uffa3\033\uffa3\034\uffa3\035\uffa3" +
+    "\036\uffa3\037\uffa3\040\uffa3\041\uffa3\042\uffa3\043\uffa3\044" +
+    "\uffa3\045\uffa3\050\uffa3\054\uffa3\152\uffa3\001\002\000\070" +
+    "\003\uffad\004\uffad\005\uffad\006\uffad\007\uffad\010\uffad\011" +
+    "\uffad\012\uffad\013\uffad\016\uffad\020\uffad\023\uffad\024\uffad" +
+    "\033\uffad\034\uffad\035\uffad\036\uffad\037\uffad\040\uffad\041" +
+    "\uffad\042\uffad\043\uffad\044\uffad\045\uffad\050\uffad\054\uffad" +
+    "\152\uffad\001\002\000\070\003\uffa6\004\uffa6\005\uffa6\006" +
+    "\uffa6\007\uffa6\010\uffa6\011\uffa6\012\uffa6\013\uffa6\016\uffa6" +
+    "\020\uffa6\023\uffa6\024\uffa6\033\uffa6\034\uffa6\035\uffa6\036" +
+    "\uffa6\037\uffa6\040\uffa6\041\uffa6\042\uffa6\043\uffa6\044\uffa6" +
+    "\045\uffa6\050\uffa6\054\uffa6\152\uffa6\001\002\000\070\003" +
+    "\uffa7\004\uffa7\005\uffa7\006\uffa7\007\uffa7\010\uffa7\011\uffa7" +
+    "\012\uffa7\013\uffa7\016\uffa7\020\uffa7\023\uffa7\024\uffa7\033" +
+    "\uffa7\034\uffa7\035\uffa7\036\uffa7\037\uffa7\040\uffa7\041\uffa7" +
+    "\042\uffa7\043\uffa7\044\uffa7\045\uffa7\050\uffa7\054\uffa7\152" +
+    "\uffa7\001\002\000\246\002\uffb1\003\uffb1\004\uffb1\005\uffb1" +
+    "\006\uffb1\007\uffb1\010\uffb1\011\uffb1\012\uffb1\013\uffb1\014" +
+    "\uffb1\015\uffb1\016\uffb1\017\uffb1\020\uffb1\021\uffb1\022\uffb1" +
+    "\023\uffb1\024\uffb1\026\uffb1\027\uffb1\030\uffb1\033\uffb1\034" +
+    "\uffb1\035\uffb1\036\uffb1\037\uffb1\040\uffb1\041\uffb1\042\uffb1" +
+    "\043\uffb1\044\uffb1\045\uffb1\050\uffb1\052\uffb1\053\uffb1\054" +
+    "\uffb1\055\uffb1\057\uffb1\060\uffb1\061\uffb1\062\uffb1\063\uffb1" +
+    "\064\uffb1\065\uffb1\066\uffb1\067\uffb1\070\uffb1\071\uffb1\074" +
+    "\uffb1\075\uffb1\076\uffb1\077\uffb1\100\uffb1\103\uffb1\104\uffb1" +
+    "\105\uffb1\106\uffb1\107\uffb1\110\uffb1\111\uffb1\112\uffb1\113" +
+    "\uffb1\114\uffb1\115\uffb1\116\uffb1\117\uffb1\120\uffb1\121\uffb1" +
+    "\122\uffb1\123\uffb1\124\uffb1\140\uffb1\142\uffb1\144\uffb1\145" +
+    "\uffb1\146\uffb1\147\uffb1\150\uffb1\151\uffb1\152\uffb1\153\uffb1" +
+    "\001\002\000\070\003\uff88\004\uff88\005\uff88\006\uff88\007" +
+    "\uff88\010\uff88\011\uff88\012\uff88\013\uff88\016\uff88\020\uff88" +
+    "\023\uff88\024\uff88\033\uff88\034\uff88\035\uff88\036\uff88\037" +
+    "\uff88\040\uff88\041\uff88\042\uff88\043\uff88\044\uff88\045\uff88" +
+    "\050\uff88\054\uff88\152\uff88\001\002\000\070\003\uff98\004" +
+    "\uff98\005\uff98\006\uff98\007\uff98\010\uff98\011\uff98\012\uff98" +
+    "\013\uff98\016\uff98\020\uff98\023\uff98\024\uff98\033\uff98\034" +
+    "\uff98\035\uff98\036\uff98\037\uff98\040\uff98\041\uff98\042\uff98" +
+    "\043\uff98\044\uff98\045\uff98\050\uff98\054\uff98\152\uff98\001" +
+    "\002\000\070\003\uff89\004\uff89\005\uff89\006\uff89\007\uff89" +
+    "\010\uff89\011\uff89\012\uff89\013\uff89\016\uff89\020\uff89\023" +
+    "\uff89\024\uff89\033\uff89\034\uff89\035\uff89\036\uff89\037\uff89" +
+    "\040\uff89\041\uff89\042\uff89\043\uff89\044\uff89\045\uff89\050" +
+    "\uff89\054\uff89\152\uff89\001\002\000\070\003\uff8a\004\uff8a" +
+    "\005\uff8a\006\uff8a\007\uff8a\010\uff8a\011\uff8a\012\uff8a\013" +
+    "\uff8a\016\uff8a\020\uff8a\023\uff8a\024\uff8a\033\uff8a\034\uff8a" +
+    "\035\uff8a\036\uff8a\037\uff8a\040\uff8a\041\uff8a\042\uff8a\043" +
+    "\uff8a\044\uff8a\045\uff8a\050\uff8a\054\uff8a\152\uff8a\001\002" +
+    "\000\150\003\276\004\124\005\117\006\130\007\114\010" +
+    "\112\011\116\012\126\013\134\016\014\020\264\023\076" +
+    "\024\uff64\026\223\033\031\034\034\035\026\036\033\037" +
+    "\042\040\227\041\027\042\301\043\036\044\032\045\uffc9" +
+    "\050\254\052\343\053\350\055\303\057\247\062\251\063" +
+    "\244\064\252\065\260\066\302\067\255\070\215\071\256" +
+    "\074\313\075\312\076\305\140\226\142\243\144\213\145" +
+    "\273\146\235\147\311\150\263\151\262\152\024\153\307" +
+    "\001\002\000\004\024\u0250\001\002\000\164\003\uff67\004" +
+    "\uff67\005\uff67\006\uff67\007\uff67\010\uff67\011\uff67\012\uff67" +
+    "\013\uff67\016\uff67\020\uff67\023\uff67\024\uff67\026\uff67\033" +
+    "\uff67\034\uff67\035\uff67\036\uff67\037\uff67\040\uff67\041\uff67" +
+    "\042\uff67\043\uff67\044\uff67\045\uff67\050\uff67\052\uff67\053" +
+    "\uff67\054\uff67\055\uff67\056\uff67\057\uff67\060\uff67\061\uff67" +
+    "\062\uff67\063\uff67\064\uff67\065\uff67\066\uff67\067\uff67\070" +
+    "\uff67\071\uff67\072\uff67\073\uff67\074\uff67\075\uff67\076\uff67" +
+    "\140\uff67\142\uff67\144\uff67\145\uff67\146\uff67\147\uff67\150" +
+    "\uff67\151\uff67\152\uff67\153\uff67\001\002\000\006\023\uff7d" +
+    "\046\u0252\001\002\000\004\016\014\001\002\000\004\023" +
+    "\u0257\001\002\000\006\022\u0255\023\uff7c\001\002\000\004" +
+    "\016\014\001\002\000\006\022\uff7a\023\uff7a\001\002\000" +
+    "\064\004\uffc9\005\uffc9\006\uffc9\007\uffc9\010\uffc9\011\uffc9" +
+    "\012\uffc9\013\uffc9\016\uffc9\020\u025a\024\uff78\033\031\034" +
+    "\034\035\026\036\033\037\042\040\040\041\027\042\043" +
+    "\043\036\044\032\045\uffc9\050\uffc9\054\uffc9\152\024\001" +
+    "\002\000\072\002\uff7e\003\uff7e\004\uff7e\005\uff7e\006\uff7e" +
+    "\007\uff7e\010\uff7e\011\uff7e\012\uff7e\013\uff7e\016\uff7e\020" +
+    "\uff7e\023\uff7e\024\uff7e\033\uff7e\034\uff7e\035\uff7e\036\uff7e" +
+    "\037\uff7e\040\uff7e\041\uff7e\042\uff7e\043\uff7e\044\uff7e\045" +
+    "\uff7e\050\uff7e\054\uff7e\152\uff7e\001\002\000\064\004\uff73" +
+    "\005\uff73\006\uff73\007\uff73\010\uff73\011\uff73\012\uff73\013" +
+    "\uff73\016\uff73\020\uff73\024\uff73\033\uff73\034\uff73\035\uff73" +
+    "\036\uff73\037\uff73\040\uff73\041\uff73\042\uff73\043\uff73\044" +
+    "\uff73\045\uff73\050\uff73\054\uff73\152\uff73\001\002\000\064" +
+    "\004\uff70\005\uff70\006\uff70\007\uff70\010\uff70\011\uff70\012" +
+    "\uff70\013\uff70\016\uff70\020\uff70\024\uff70\033\uff70\034\uff70" +
+    "\035\uff70\036\uff70\037\uff70\040\uff70\041\uff70\042\uff70\043" +
+    "\uff70\044\uff70\045\uff70\050\uff70\054\uff70\152\uff70\001\002" +
+    "\000\064\004\uff76\005\uff76\006\uff76\007\uff76\010\uff76\011" +
+    "\uff76\012\uff76\013\uff76\016\uff76\020\uff76\024\uff76\033\uff76" +
+    "\034\uff76\035\uff76\036\uff76\037\uff76\040\uff76\041\uff76\042" +
+    "\uff76\043\uff76\044\uff76\045\uff76\050\uff76\054\uff76\152\uff76" +
+    "\001\002\000\064\004\uff72\005\uff72\006\uff72\007\uff72\010" +
+    "\uff72\011\uff72\012\uff72\013\uff72\016\uff72\020\uff72\024\uff72" +
+    "\033\uff72\034\uff72\035\uff72\036\uff72\037\uff72\040\uff72\041" +
+    "\uff72\042\uff72\043\uff72\044\uff72\045\uff72\050\uff72\054\uff72" +
+    "\152\uff72\001\002\000\004\020\u0266\001\002\000\064\004" +
+    "\uffc9\005\uffc9\006\uffc9\007\uffc9\010\uffc9\011\uffc9\012\uffc9" +
+    "\013\uffc9\016\uffc9\020\u025a\024\uff77\033\031\034\034\035" +
+    "\026\036\033\037\042\040\040\041\027\042\043\043\036" +
+    "\044\032\045\uffc9\050\uffc9\054\uffc9\152\024\001\002\000" +
+    "\004\024\u0264\001\002\000\032\004\124\005\117\006\130" +
+    "\007\114\010\112\011\116\012\126\013\134\016\014\045" +
+    "\050\050\132\054\047\001\002\000\064\004\uff6f\005\uff6f" +
+    "\006\uff6f\007\uff6f\010\uff6f\011\uff6f\012\uff6f\013\uff6f\016" +
+    "\uff6f\020\uff6f\024\uff6f\033\uff6f\034\uff6f\035\uff6f\036\uff6f" +
+    "\037\uff6f\040\uff6f\041\uff6f\042\uff6f\043\uff6f\044\uff6f\045" +
+    "\uff6f\050\uff6f\054\uff6f\152\uff6f\001\002\000\064\004\uff74" +
+    "\005\uff74\006\uff74\007\uff74\010\uff74\011\uff74\012\uff74\013" +
+    "\uff74\016\uff74\020\uff74\024\uff74\033\uff74\034\uff74\035\uff74" +
+    "\036\uff74\037\uff74\040\uff74\041\uff74\042\uff74\043\uff74\044" +
+    "\uff74\045\uff74\050\uff74\054\uff74\152\uff74\001\002\000\064" +
+    "\004\uff71\005\uff71\006\uff71\007\uff71\010\uff71\011\uff71\012" +
+    "\uff71\013\uff71\016\uff71\020\uff71\024\uff71\033\uff71\034\uff71" +
+    "\035\uff71\036\uff71\037\uff71\040\uff71\041\uff71\042\uff71\043" +
+    "\uff71\044\uff71\045\uff71\050\uff71\054\uff71\152\uff71\001\002" +
+    "\000\072\002\uff79\003\uff79\004\uff79\005\uff79\006\uff79\007" +
+    "\uff79\010\uff79\011\uff79\012\uff79\013\uff79\016\uff79\020\uff79" +
+    "\023\uff79\024\uff79\033\uff79\034\uff79\035\uff79\036\uff79\037" +
+    "\uff79\040\uff79\041\uff79\042\uff79\043\uff79\044\uff79\045\uff79" +
+    "\050\uff79\054\uff79\152\uff79\001\002\000\064\004\uff75\005" +
+    "\uff75\006\uff75\007\uff75\010\uff75\011\uff75\012\uff75\013\uff75" +
+    "\016\uff75\020\uff75\024\uff75\033\uff75\034\uff75\035\uff75\036" +
+    "\uff75\037\uff75\040\uff75\041\uff75\042\uff75\043\uff75\044\uff75" +
+    "\045\uff75\050\uff75\054\uff75\152\uff75\001\002\000\064\004" +
+    "\uff6e\005\uff6e\006\uff6e\007\uff6e\010\uff6e\011\uff6e\012\uff6e" +
+    "\013\uff6e\016\uff6e\020\uff6e\024\uff6e\033\uff6e\034\uff6e\035" +
+    "\uff6e\036\uff6e\037\uff6e\040\uff6e\041\uff6e\042\uff6e\043\uff6e" +
+    "\044\uff6e\045\uff6e\050\uff6e\054\uff6e\152\uff6e\001\002\000" +
+    "\006\022\uff7b\023\uff7b\001\002\000\060\004\uffc6\005\uffc6" +
+    "\006\uffc6\007\uffc6\010\uffc6\011\uffc6\012\uffc6\013\uffc6\016" +
+    "\uffc6\033\uffc6\034\uffc6\035\uffc6\036\uffc6\037\uffc6\040\uffc6" +
+    "\041\uffc6\042\uffc6\043\uffc6\044\uffc6\045\uffc6\050\uffc6\054" +
+    "\uffc6\152\uffc6\001\002\000\004\002\001\001\002\000\042" +
+    "\002\uffcf\020\uffcf\032\uffcf\033\uffcf\034\uffcf\035\uffcf\036" +
+    "\uffcf\037\uffcf\040\uffcf\041\uffcf\042\uffcf\043\uffcf\044\uffcf" +
+    "\045\uffcf\054\uffcf\152\uffcf\001\002\000\042\002\uffd5\020" +
+    "\uffd5\032\uffd5\033\uffd5\034\uffd5\035\uffd5\036\uffd5\037\uffd5" +
+    "\040\uffd5\041\uffd5\042\uffd5\043\uffd5\044\uffd5\045\uffd5\054" +
+    "\uffd5\152\uffd5\001\002\000\004\016\014\001\002\000\042" +
+    "\002\uffd9\020\uffd9\032\u026c\033\uffd9\034\uffd9\035\uffd9\036" +
+    "\uffd9\037\uffd9\040\uffd9\041\uffd9\042\uffd9\043\uffd9\044\uffd9" +
+    "\045\uffd9\054\uffd9\152\uffd9\001\002\000\040\002\uffd6\020" +
+    "\025\033\031\034\034\035\026\036\033\037\042\040\040" +
+    "\041\027\042\043\043\036\044\032\045\uffc9\054\uffc9\152" +
+    "\024\001\002\000\042\002\uffd0\020\uffd0\032\uffd0\033\uffd0" +
+    "\034\uffd0\035\uffd0\036\uffd0\037\uffd0\040\uffd0\041\uffd0\042" +
+    "\uffd0\043\uffd0\044\uffd0\045\uffd0\054\uffd0\152\uffd0\001\002" +
+    "\000\004\002\uffdd\001\002\000\042\002\uffd4\020\uffd4\032" +
+    "\uffd4\033\uffd4\034\uffd4\035\uffd4\036\uffd4\037\uffd4\040\uffd4" +
+    "\041\uffd4\042\uffd4\043\uffd4\044\uffd4\045\uffd4\054\uffd4\152" +
+    "\uffd4\001\002\000\004\017\u0275\001\002\000\006\017\uffe0" +
+    "\020\u0274\001\002\000\042\002\uffce\020\uffce\032\uffce\033" +
+    "\uffce\034\uffce\035\uffce\036\uffce\037\uffce\040\uffce\041\uffce" +
+    "\042\uffce\043\uffce\044\uffce\045\uffce\054\uffce\152\uffce\001" +
+    "\002\000\006\016\014\021\u0276\001\002\000\004\020\u0277" +
+    "\001\002\000\042\002\uffcd\020\uffcd\032\uffcd\033\uffcd\034" +
+    "\uffcd\035\uffcd\036\uffcd\037\uffcd\040\uffcd\041\uffcd\042\uffcd" +
+    "\043\uffcd\044\uffcd\045\uffcd\054\uffcd\152\uffcd\001\002" });
+
+  /** Access to parse-action table. */
+  public short[][] action_table() {return _action_table;}
+
+  /** <code>reduce_goto</code> table. */
+  protected static final short[][] _reduce_table = 
+    unpackFromStrings(new String[] {
+    "\000\u0275\000\012\003\004\023\010\024\003\025\007\001" +
+    "\001\000\014\026\u026d\027\u026c\032\u026a\033\u026e\034\u0269" +
+    "\001\001\000\002\001\001\000\022\030\034\031\044\035" +
+    "\036\036\040\037\022\040\021\041\027\076\043\001\001" +
+    "\000\012\020\012\021\015\022\014\153\011\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\004\153\020\001\001\000\002" +
+    "\001\001\000\002\001\001\000\004\040\u0267\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\016\035\045\036\040\037\022\040\021\041" +
+    "\027\076\043\001\001\000\002\001\001\000\004\153\u0250" +
+    "\001\001\000\004\153\050\001\001\000\006\042\051\043" +
+    "\052\001\001\000\002\001\001\000\006\044\061\045\057" +
+    "\001\001\000\016\014\055\015\056\020\054\021\015\022" +
+    "\014\153\011\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\004\047\070\001\001\000\020\014" +
+    "\064\016\063\020\054\021\015\022\014\046\062\153\011" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\016\014\064\016\066\020\054" +
+    "\021\015\022\014\153\011\001\001\000\002\001\001\000" +
+    "\036\036\105\037\022\040\021\050\104\051\101\052\102" +
+    "\053\110\054\106\061\073\062\076\072\077\073\071\076" +
+    "\107\111\074\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\162\004\314\006\245\007\265\010\132\011\120\012\122" +
+    "\013\124\014\117\017\211\020\260\021\015\022\014\036" +
+    "\270\037\022\040\021\041\210\111\220\112\u024e\113\u024d" +
+    "\114\204\115\227\116\233\117\313\121\247\122\236\123" +
+    "\276\125\256\126\215\127\240\130\277\132\206\140\267" +
+    "\142\315\143\201\153\252\154\231\155\273\156\237\157" +
+    "\303\160\203\161\216\166\232\167\340\170\307\171\217" +
+    "\174\244\201\224\202\202\203\205\204\223\205\305\206" +
+    "\221\211\235\212\274\230\266\231\207\001\001\000\006" +
+    "\071\u024a\111\u024c\001\001\000\002\001\001\000\004\111" +
+    "\u0249\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\032\036\105\037\022\040\021\052\u0245\053" +
+    "\110\054\106\061\073\062\076\072\077\073\071\076\107" +
+    "\111\074\001\001\000\032\006\114\007\126\010\132\011" +
+    "\120\012\122\013\124\014\117\017\130\020\134\021\121" +
+    "\022\014\153\011\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\004\153\u0241" +
+    "\001\001\000\002\001\001\000\012\055\u023a\056\u01c2\057" +
+    "\u01c1\153\u0239\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\004\200\171\001\001\000\002\001\001\000" +
+    "\002\001\001\000\004\153\142\001\001\000\002\001\001" +
+    "\000\002\001\001\000\004\200\136\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\040\006\144\007" +
+    "\126\010\132\011\120\012\122\013\124\014\117\017\130" +
+    "\020\134\021\015\022\014\063\146\064\145\065\150\153" +
+    "\011\001\001\000\006\057\170\153\153\001\001\000\002" +
+    "\001\001\000\002\001\001\000\032\006\151\007\126\010" +
+    "\132\011\120\012\122\013\124\014\117\017\130\020\134" +
+    "\021\015\022\014\153\011\001\001\000\002\001\001\000" +
+    "\006\057\152\153\153\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\006\066" +
+    "\160\067\157\001\001\000\002\001\001\000\002\001\001" +
+    "\000\020\014\055\015\163\020\054\021\015\022\014\070" +
+    "\162\153\011\001\001\000\002\001\001\000\002\001\001" +
+    "\000\016\014\055\015\165\020\054\021\015\022\014\153" +
+    "\011\001\001\000\002\001\001\000\034\006\144\007\126" +
+    "\010\132\011\120\012\122\013\124\014\117\017\130\020" +
+    "\134\021\015\022\014\065\167\153\011\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\040\006" +
+    "\144\007\126\010\132\011\120\012\122\013\124\014\117" +
+    "\017\130\020\134\021\015\022\014\063\173\064\145\065" +
+    "\150\153\011\001\001\000\002\001\001\000\006\066\175" +
+    "\067\157\001\001\000\004\074\177\001\001\000\162\004" +
+    "\314\006\245\007\265\010\132\011\120\012\122\013\124" +
+    "\014\117\017\211\020\260\021\015\022\014\036\270\037" +
+    "\022\040\021\041\210\075\230\111\220\113\200\114\204" +
+    "\115\227\116\233\117\313\121\247\122\236\123\276\125" +
+    "\256\126\215\127\240\130\277\132\206\140\267\142\315" +
+    "\143\201\153\252\154\231\155\273\156\237\157\303\160" +
+    "\203\161\216\166\232\167\271\170\307\171\217\174\244" +
+    "\201\224\202\202\203\205\204\223\205\305\206\221\211" +
+    "\235\212\274\230\266\231\207\001\001\000\002\001\001" +
+    "\000\156\004\314\006\245\007\265\010\132\011\120\012" +
+    "\122\013\124\014\117\017\211\020\260\021\015\022\014" +
+    "\036\270\037\022\040\021\041\210\111\220\114\u0213\115" +
+    "\227\116\233\117\313\121\247\122\236\123\276\125\256" +
+    "\126\215\127\240\130\277\132\206\140\267\142\315\143" +
+    "\201\153\252\154\231\155\273\156\237\157\303\160\203" +
+    "\161\216\166\232\167\340\170\307\171\217\174\244\201" +
+    "\224\202\202\203\205\204\223\205\305\206\221\211\235" +
+    "\212\274\230\266\231\207\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\004\232\u0234\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\122\004\314\007\354\010\132\011\120\012" +
+    "\122\017\333\020\330\021\015\022\014\153\011\167\340" +
+    "\170\307\171\357\174\244\201\224\202\363\203\205\204" +
+    "\352\205\324\206\346\207\345\210\353\211\365\212\326" +
+    "\213\335\214\364\215\322\216\355\217\366\220\332\221" +
+    "\360\222\334\223\361\224\323\225\356\226\350\227\362" +
+    "\230\336\231\207\234\u0228\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\122\004\314\007\354\010\132\011\120\012" +
+    "\122\017\333\020\330\021\015\022\014\153\011\167\340" +
+    "\170\307\171\357\174\244\201\224\202\363\203\205\204" +
+    "\352\205\324\206\346\207\345\210\353\211\365\212\326" +
+    "\213\335\214\364\215\322\216\355\217\366\220\332\221" +
+    "\360\222\334\223\361\224\323\225\356\226\350\227\362" +
+    "\230\336\231\207\234\u0225\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\032\006\u01c0\007\126" +
+    "\010\132\011\120\012\122\013\124\014\117\017\130\020" +
+    "\134\021\015\022\014\153\011\001\001\000\002\001\001" +
+    "\000\160\004\314\006\245\007\265\010\132\011\120\012" +
+    "\122\013\124\014\117\017\211\020\260\021\015\022\014" +
+    "\036\270\037\022\040\021\041\210\111\220\113\u0222\114" +
+    "\204\115\227\116\233\117\313\121\247\122\236\123\276" +
+    "\125\256\126\215\127\240\130\277\132\206\140\267\142" +
+    "\315\143\201\153\252\154\231\155\273\156\237\157\303" +
+    "\160\203\161\216\166\232\167\340\170\307\171\217\174" +
+    "\244\201\224\202\202\203\205\204\223\205\305\206\221" +
+    "\211\235\212\274\230\266\231\207\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\012\055\u0219\056\u01c2\057" +
+    "\u01c1\153\153\001\001\000\002\001\001\000\002\001\001" +
+    "\000\132\004\314\007\354\010\132\011\120\012\122\017" +
+    "\333\020\330\021\015\022\014\111\220\117\u01fb\121\247" +
+    "\122\236\123\276\125\256\126\215\127\240\130\277\132" +
+    "\206\140\267\142\315\143\201\153\252\154\231\155\273" +
+    "\156\237\157\303\160\203\161\216\166\232\167\340\170" +
+    "\307\171\217\174\244\201\224\202\202\203\205\204\223" +
+    "\205\305\206\221\211\235\212\274\230\266\231\207\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\124\004\314\007\354\010\132\011\120\012\122\017" +
+    "\333\020\330\021\015\022\014\153\011\167\340\170\307" +
+    "\171\357\174\244\201\224\202\363\203\205\204\352\205" +
+    "\324\206\346\207\345\210\353\211\365\212\326\213\335" +
+    "\214\364\215\322\216\355\217\366\220\332\221\360\222" +
+    "\334\223\361\224\323\225\356\226\350\227\362\230\336" +
+    "\231\207\233\u01ef\234\u01b5\001\001\000\004\111\u01e2\001" +
+    "\001\000\002\001\001\000\006\152\u01e0\153\u01ce\001\001" +
+    "\000\004\200\136\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\004\200\171" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\006\152\u01cd\153\u01ce" +
+    "\001\001\000\002\001\001\000\002\001\001\000\064\004" +
+    "\314\007\354\010\132\011\120\012\122\017\333\020\375" +
+    "\021\015\022\014\153\011\167\340\170\307\171\357\174" +
+    "\244\201\374\202\363\203\377\204\352\205\324\206\346" +
+    "\207\u018c\210\353\211\365\212\326\213\335\001\001\000" +
+    "\002\001\001\000\122\004\314\007\354\010\132\011\120" +
+    "\012\122\017\333\020\330\021\015\022\014\153\011\167" +
+    "\340\170\307\171\357\174\244\201\224\202\363\203\205" +
+    "\204\352\205\324\206\346\207\345\210\353\211\365\212" +
+    "\326\213\335\214\364\215\322\216\355\217\366\220\332" +
+    "\221\360\222\334\223\361\224\323\225\356\226\350\227" +
+    "\362\230\336\231\207\234\u0187\001\001\000\002\001\001" +
+    "\000\002\001\001\000\064\004\314\007\354\010\132\011" +
+    "\120\012\122\017\333\020\375\021\015\022\014\153\011" +
+    "\167\340\170\307\171\357\174\244\201\374\202\363\203" +
+    "\377\204\352\205\324\206\346\207\u0183\210\353\211\365" +
+    "\212\326\213\335\001\001\000\026\007\317\010\132\011" +
+    "\120\012\122\014\316\015\320\020\054\021\015\022\014" +
+    "\153\011\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\010\175\u017f\176\u0169\200\u0180\001\001" +
+    "\000\010\175\u016a\176\u0169\200\u016c\001\001\000\002\001" +
+    "\001\000\126\004\314\007\354\010\132\011\120\012\122" +
+    "\017\333\020\330\021\015\022\014\153\011\167\340\170" +
+    "\307\171\357\172\343\173\351\174\244\201\224\202\363" +
+    "\203\205\204\352\205\324\206\346\207\345\210\353\211" +
+    "\365\212\326\213\335\214\364\215\322\216\355\217\366" +
+    "\220\332\221\360\222\334\223\361\224\323\225\356\226" +
+    "\350\227\362\230\336\231\207\234\344\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\122\004" +
+    "\314\007\u015f\010\132\011\120\012\122\017\333\020\u015d" +
+    "\021\015\022\014\153\011\167\340\170\307\171\357\174" +
+    "\244\201\224\202\363\203\205\204\352\205\324\206\346" +
+    "\207\345\210\353\211\365\212\326\213\335\214\364\215" +
+    "\322\216\355\217\366\220\332\221\360\222\334\223\361" +
+    "\224\323\225\356\226\350\227\362\230\336\231\207\234" +
+    "\u015e\001\001\000\002\001\001\000\066\004\314\005\u015b" +
+    "\007\354\010\132\011\120\012\122\017\333\020\375\021" +
+    "\015\022\014\153\011\167\340\170\307\171\357\174\244" +
+    "\201\374\202\363\203\377\204\352\205\324\206\346\207" +
+    "\u015a\210\353\211\365\212\326\213\335\001\001\000\004" +
+    "\200\136\001\001\000\064\004\314\007\354\010\132\011" +
+    "\120\012\122\017\333\020\375\021\015\022\014\153\011" +
+    "\167\340\170\307\171\357\174\244\201\374\202\363\203" +
+    "\377\204\352\205\324\206\346\207\u0158\210\353\211\365" +
+    "\212\326\213\335\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\064\004\314\007\354\010\132\011\120\012\122\017" +
+    "\333\020\375\021\015\022\014\153\011\167\340\170\307" +
+    "\171\357\174\244\201\374\202\363\203\377\204\352\205" +
+    "\324\206\346\207\u0155\210\353\211\365\212\326\213\335" +
+    "\001\001\000\002\001\001\000\064\004\314\007\354\010" +
+    "\132\011\120\012\122\017\333\020\375\021\015\022\014" +
+    "\153\011\167\340\170\307\171\357\174\244\201\374\202" +
+    "\363\203\377\204\352\205\324\206\346\207\u0149\210\353" +
+    "\211\365\212\326\213\335\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\004\200\171" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\072\004\314\007\354\010\132\011\120" +
+    "\012\122\017\333\020\375\021\015\022\014\153\011\167" +
+    "\340\170\307\171\357\174\244\201\374\202\363\203\377" +
+    "\204\352\205\324\206\346\207\345\210\353\211\365\212" +
+    "\326\213\335\214\364\215\322\216\u0129\001\001\000\072" +
+    "\004\314\007\354\010\132\011\120\012\122\017\333\020" +
+    "\375\021\015\022\014\153\011\167\340\170\307\171\357" +
+    "\174\244\201\374\202\363\203\377\204\352\205\324\206" +
+    "\346\207\345\210\353\211\365\212\326\213\335\214\364" +
+    "\215\322\216\u0128\001\001\000\072\004\314\007\354\010" +
+    "\132\011\120\012\122\017\333\020\375\021\015\022\014" +
+    "\153\011\167\340\170\307\171\357\174\244\201\374\202" +
+    "\363\203\377\204\352\205\324\206\346\207\345\210\353" +
+    "\211\365\212\326\213\335\214\364\215\322\216\u0127\001" +
+    "\001\000\030\007\u0126\010\132\011\120\012\122\013\u0125" +
+    "\014\117\017\130\020\134\021\015\022\014\153\011\001" +
+    "\001\000\072\004\314\007\354\010\132\011\120\012\122" +
+    "\017\333\020\375\021\015\022\014\153\011\167\340\170" +
+    "\307\171\357\174\244\201\374\202\363\203\377\204\352" +
+    "\205\324\206\346\207\345\210\353\211\365\212\326\213" +
+    "\335\214\364\215\322\216\376\001\001\000\002\001\001" +
+    "\000\004\200\136\001\001\000\002\001\001\000\002\001" +
+    "\001\000\070\004\314\007\354\010\132\011\120\012\122" +
+    "\017\333\020\375\021\015\022\014\153\011\167\340\170" +
+    "\307\171\357\174\244\201\374\202\363\203\377\204\352" +
+    "\205\324\206\346\207\345\210\353\211\365\212\326\213" +
+    "\335\214\364\215\u010f\001\001\000\070\004\314\007\354" +
+    "\010\132\011\120\012\122\017\333\020\375\021\015\022" +
+    "\014\153\011\167\340\170\307\171\357\174\244\201\374" +
+    "\202\363\203\377\204\352\205\324\206\346\207\345\210" +
+    "\353\211\365\212\326\213\335\214\364\215\u010e\001\001" +
+    "\000\070\004\314\007\354\010\132\011\120\012\122\017" +
+    "\333\020\375\021\015\022\014\153\011\167\340\170\307" +
+    "\171\357\174\244\201\374\202\363\203\377\204\352\205" +
+    "\324\206\346\207\345\210\353\211\365\212\326\213\335" +
+    "\214\364\215\u0103\001\001\000\002\001\001\000\066\004" +
+    "\314\007\354\010\132\011\120\012\122\017\333\020\375" +
+    "\021\015\022\014\153\011\167\340\170\307\171\357\174" +
+    "\244\201\374\202\363\203\377\204\352\205\324\206\346" +
+    "\207\345\210\353\211\365\212\326\213\335\214\u010d\001" +
+    "\001\000\066\004\314\007\354\010\132\011\120\012\122" +
+    "\017\333\020\375\021\015\022\014\153\011\167\340\170" +
+    "\307\171\357\174\244\201\374\202\363\203\377\204\352" +
+    "\205\324\206\346\207\345\210\353\211\365\212\326\213" +
+    "\335\214\u0106\001\001\000\002\001\001\000\064\004\314" +
+    "\007\354\010\132\011\120\012\122\017\333\020\375\021" +
+    "\015\022\014\153\011\167\340\170\307\171\357\174\244" +
+    "\201\374\202\363\203\377\204\352\205\324\206\346\207" +
+    "\u010c\210\353\211\365\212\326\213\335\001\001\000\064" +
+    "\004\314\007\354\010\132\011\120\012\122\017\333\020" +
+    "\375\021\015\022\014\153\011\167\340\170\307\171\357" +
+    "\174\244\201\374\202\363\203\377\204\352\205\324\206" +
+    "\346\207\u010b\210\353\211\365\212\326\213\335\001\001" +
+    "\000\064\004\314\007\354\010\132\011\120\012\122\017" +
+    "\333\020\375\021\015\022\014\153\011\167\340\170\307" +
+    "\171\357\174\244\201\374\202\363\203\377\204\352\205" +
+    "\324\206\346\207\u010a\210\353\211\365\212\326\213\335" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\122\004\314\007\354\010\132\011\120\012\122\017" +
+    "\333\020\330\021\015\022\014\153\011\167\340\170\307" +
+    "\171\357\174\244\201\224\202\363\203\205\204\352\205" +
+    "\324\206\346\207\345\210\353\211\365\212\326\213\335" +
+    "\214\364\215\322\216\355\217\366\220\332\221\360\222" +
+    "\334\223\361\224\323\225\356\226\350\227\362\230\336" +
+    "\231\207\234\u0123\001\001\000\126\004\314\007\354\010" +
+    "\132\011\120\012\122\017\333\020\330\021\015\022\014" +
+    "\153\011\167\340\170\307\171\357\172\u0121\173\351\174" +
+    "\244\201\224\202\363\203\205\204\352\205\324\206\346" +
+    "\207\345\210\353\211\365\212\326\213\335\214\364\215" +
+    "\322\216\355\217\366\220\332\221\360\222\334\223\361" +
+    "\224\323\225\356\226\350\227\362\230\336\231\207\234" +
+    "\344\001\001\000\004\153\020\001\001\000\002\001\001" +
+    "\000\006\021\u0117\153\011\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\126\004\314\007\354" +
+    "\010\132\011\120\012\122\017\333\020\330\021\015\022" +
+    "\014\153\011\167\340\170\307\171\357\172\u0119\173\351" +
+    "\174\244\201\224\202\363\203\205\204\352\205\324\206" +
+    "\346\207\345\210\353\211\365\212\326\213\335\214\364" +
+    "\215\322\216\355\217\366\220\332\221\360\222\334\223" +
+    "\361\224\323\225\356\226\350\227\362\230\336\231\207" +
+    "\234\344\001\001\000\002\001\001\000\004\047\u011b\001" +
+    "\001\000\002\001\001\000\004\153\u011d\001\001\000\002" +
+    "\001\001\000\126\004\314\007\354\010\132\011\120\012" +
+    "\122\017\333\020\330\021\015\022\014\153\011\167\340" +
+    "\170\307\171\357\172\u011f\173\351\174\244\201\224\202" +
+    "\363\203\205\204\352\205\324\206\346\207\345\210\353" +
+    "\211\365\212\326\213\335\214\364\215\322\216\355\217" +
+    "\366\220\332\221\360\222\334\223\361\224\323\225\356" +
+    "\226\350\227\362\230\336\231\207\234\344\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\004\200\171\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\102\004\314\007\354\010" +
+    "\132\011\120\012\122\017\333\020\375\021\015\022\014" +
+    "\153\011\167\340\170\307\171\357\174\244\201\374\202" +
+    "\363\203\377\204\352\205\324\206\346\207\345\210\353" +
+    "\211\365\212\326\213\335\214\364\215\322\216\355\217" +
+    "\366\220\332\221\360\222\u012b\001\001\000\002\001\001" +
+    "\000\100\004\314\007\354\010\132\011\120\012\122\017" +
+    "\333\020\375\021\015\022\014\153\011\167\340\170\307" +
+    "\171\357\174\244\201\374\202\363\203\377\204\352\205" +
+    "\324\206\346\207\345\210\353\211\365\212\326\213\335" +
+    "\214\364\215\322\216\355\217\366\220\332\221\u012d\001" +
+    "\001\000\002\001\001\000\076\004\314\007\354\010\132" +
+    "\011\120\012\122\017\333\020\375\021\015\022\014\153" +
+    "\011\167\340\170\307\171\357\174\244\201\374\202\363" +
+    "\203\377\204\352\205\324\206\346\207\345\210\353\211" +
+    "\365\212\326\213\335\214\364\215\322\216\355\217\366" +
+    "\220\u012f\001\001\000\002\001\001\000\074\004\314\007" +
+    "\354\010\132\011\120\012\122\017\333\020\375\021\015" +
+    "\022\014\153\011\167\340\170\307\171\357\174\244\201" +
+    "\374\202\363\203\377\204\352\205\324\206\346\207\345" +
+    "\210\353\211\365\212\326\213\335\214\364\215\322\216" +
+    "\355\217\u0133\001\001\000\074\004\314\007\354\010\132" +
+    "\011\120\012\122\017\333\020\375\021\015\022\014\153" +
+    "\011\167\340\170\307\171\357\174\244\201\374\202\363" +
+    "\203\377\204\352\205\324\206\346\207\345\210\353\211" +
+    "\365\212\326\213\335\214\364\215\322\216\355\217\u0132" +
+    "\001\001\000\002\001\001\000\002\001\001\000\106\004" +
+    "\314\007\354\010\132\011\120\012\122\017\333\020\375" +
+    "\021\015\022\014\153\011\167\340\170\307\171\357\174" +
+    "\244\201\374\202\363\203\377\204\352\205\324\206\346" +
+    "\207\345\210\353\211\365\212\326\213\335\214\364\215" +
+    "\322\216\355\217\366\220\332\221\360\222\334\223\361" +
+    "\224\u0139\001\001\000\122\004\314\007\354\010\132\011" +
+    "\120\012\122\017\333\020\330\021\015\022\014\153\011" +
+    "\167\340\170\307\171\357\174\244\201\224\202\363\203" +
+    "\205\204\352\205\324\206\346\207\345\210\353\211\365" +
+    "\212\326\213\335\214\364\215\322\216\355\217\366\220" +
+    "\332\221\360\222\334\223\361\224\323\225\356\226\350" +
+    "\227\362\230\336\231\207\234\u0136\001\001\000\002\001" +
+    "\001\000\112\004\314\007\354\010\132\011\120\012\122" +
+    "\017\333\020\375\021\015\022\014\153\011\167\340\170" +
+    "\307\171\357\174\244\201\374\202\363\203\377\204\352" +
+    "\205\324\206\346\207\345\210\353\211\365\212\326\213" +
+    "\335\214\364\215\322\216\355\217\366\220\332\221\360" +
+    "\222\334\223\361\224\323\225\356\226\u0138\001\001\000" +
+    "\002\001\001\000\002\001\001\000\104\004\314\007\354" +
+    "\010\132\011\120\012\122\017\333\020\375\021\015\022" +
+    "\014\153\011\167\340\170\307\171\357\174\244\201\374" +
+    "\202\363\203\377\204\352\205\324\206\346\207\345\210" +
+    "\353\211\365\212\326\213\335\214\364\215\322\216\355" +
+    "\217\366\220\332\221\360\222\334\223\u013b\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\122\004\314\007\354\010" +
+    "\132\011\120\012\122\017\333\020\330\021\015\022\014" +
+    "\153\011\167\340\170\307\171\357\174\244\201\224\202" +
+    "\363\203\205\204\352\205\324\206\346\207\345\210\353" +
+    "\211\365\212\326\213\335\214\364\215\322\216\355\217" +
+    "\366\220\332\221\360\222\334\223\361\224\323\225\356" +
+    "\226\350\227\362\230\336\231\207\234\u0141\001\001\000" +
+    "\002\001\001\000\004\153\u0143\001\001\000\002\001\001" +
+    "\000\126\004\314\007\354\010\132\011\120\012\122\017" +
+    "\333\020\330\021\015\022\014\153\011\167\340\170\307" +
+    "\171\357\172\u0145\173\351\174\244\201\224\202\363\203" +
+    "\205\204\352\205\324\206\346\207\345\210\353\211\365" +
+    "\212\326\213\335\214\364\215\322\216\355\217\366\220" +
+    "\332\221\360\222\334\223\361\224\323\225\356\226\350" +
+    "\227\362\230\336\231\207\234\344\001\001\000\002\001" +
+    "\001\000\002\001\001\000\004\047\u0148\001\001\000\002" +
+    "\001\001\000\002\001\001\000\004\153\u014c\001\001\000" +
+    "\006\021\u0150\153\011\001\001\000\002\001\001\000\126" +
+    "\004\314\007\354\010\132\011\120\012\122\017\333\020" +
+    "\330\021\015\022\014\153\011\167\340\170\307\171\357" +
+    "\172\u014e\173\351\174\244\201\224\202\363\203\205\204" +
+    "\352\205\324\206\346\207\345\210\353\211\365\212\326" +
+    "\213\335\214\364\215\322\216\355\217\366\220\332\221" +
+    "\360\222\334\223\361\224\323\225\356\226\350\227\362" +
+    "\230\336\231\207\234\344\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\126\004\314\007\354" +
+    "\010\132\011\120\012\122\017\333\020\330\021\015\022" +
+    "\014\153\011\167\340\170\307\171\357\172\u0152\173\351" +
+    "\174\244\201\224\202\363\203\205\204\352\205\324\206" +
+    "\346\207\345\210\353\211\365\212\326\213\335\214\364" +
+    "\215\322\216\355\217\366\220\332\221\360\222\334\223" +
+    "\361\224\323\225\356\226\350\227\362\230\336\231\207" +
+    "\234\344\001\001\000\002\001\001\000\004\047\u0154\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\004" +
+    "\200\u0166\001\001\000\002\001\001\000\006\177\u0160\200" +
+    "\u0161\001\001\000\002\001\001\000\002\001\001\000\064" +
+    "\004\314\007\354\010\132\011\120\012\122\017\333\020" +
+    "\375\021\015\022\014\153\011\167\340\170\307\171\357" +
+    "\174\244\201\374\202\363\203\377\204\352\205\324\206" +
+    "\346\207\u0163\210\353\211\365\212\326\213\335\001\001" +
+    "\000\002\001\001\000\056\004\314\007\354\010\132\011" +
+    "\120\012\122\017\333\020\375\021\015\022\014\153\011" +
+    "\167\340\170\307\171\357\174\244\201\374\202\363\203" +
+    "\377\204\352\205\324\206\346\210\u0165\213\335\001\001" +
+    "\000\002\001\001\000\002\001\001\000\056\004\314\007" +
+    "\354\010\132\011\120\012\122\017\333\020\375\021\015" +
+    "\022\014\153\011\167\340\170\307\171\357\174\244\201" +
+    "\374\202\363\203\377\204\352\205\324\206\346\210\u0168" +
+    "\213\335\001\001\000\002\001\001\000\002\001\001\000" +
+    "\010\176\u017d\177\u017c\200\u017e\001\001\000\122\004\314" +
+    "\007\354\010\132\011\120\012\122\017\333\020\330\021" +
+    "\015\022\014\153\011\167\340\170\307\171\357\174\244" +
+    "\201\224\202\363\203\205\204\352\205\324\206\346\207" +
+    "\345\210\353\211\365\212\326\213\335\214\364\215\322" +
+    "\216\355\217\366\220\332\221\360\222\334\223\361\224" +
+    "\323\225\356\226\350\227\362\230\336\231\207\234\u017a" +
+    "\001\001\000\004\107\u016d\001\001\000\002\001\001\000" +
+    "\130\004\314\007\354\010\132\011\120\012\122\017\333" +
+    "\020\330\021\015\022\014\060\u016f\107\u0173\110\u0170\153" +
+    "\011\167\340\170\307\171\357\174\244\201\224\202\363" +
+    "\203\205\204\352\205\324\206\346\207\345\210\353\211" +
+    "\365\212\326\213\335\214\364\215\322\216\355\217\366" +
+    "\220\332\221\360\222\334\223\361\224\323\225\356\226" +
+    "\350\227\362\230\336\231\207\234\u0174\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\126\004\314\007\354\010\132\011\120\012\122\017" +
+    "\333\020\330\021\015\022\014\060\u0178\107\u0173\153\011" +
+    "\167\340\170\307\171\357\174\244\201\224\202\363\203" +
+    "\205\204\352\205\324\206\346\207\345\210\353\211\365" +
+    "\212\326\213\335\214\364\215\322\216\355\217\366\220" +
+    "\332\221\360\222\334\223\361\224\323\225\356\226\350" +
+    "\227\362\230\336\231\207\234\u0174\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\010\176\u017d\177\u0182\200\u017e\001\001" +
+    "\000\004\107\u0181\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\122\004\314\007\354\010\132" +
+    "\011\120\012\122\017\333\020\330\021\015\022\014\153" +
+    "\011\167\340\170\307\171\357\174\244\201\224\202\363" +
+    "\203\205\204\352\205\324\206\346\207\345\210\353\211" +
+    "\365\212\326\213\335\214\364\215\322\216\355\217\366" +
+    "\220\332\221\360\222\334\223\361\224\323\225\356\226" +
+    "\350\227\362\230\336\231\207\234\u0185\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\122\004\314\007\354\010\132\011\120\012\122" +
+    "\017\333\020\330\021\015\022\014\153\011\167\340\170" +
+    "\307\171\357\174\244\201\224\202\363\203\205\204\352" +
+    "\205\324\206\346\207\345\210\353\211\365\212\326\213" +
+    "\335\214\364\215\322\216\355\217\366\220\332\221\360" +
+    "\222\334\223\361\224\323\225\356\226\350\227\362\230" +
+    "\336\231\207\234\u018a\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\122\004\314\007\354\010" +
+    "\132\011\120\012\122\017\333\020\330\021\015\022\014" +
+    "\153\011\167\340\170\307\171\357\174\244\201\224\202" +
+    "\363\203\205\204\352\205\324\206\346\207\345\210\353" +
+    "\211\365\212\326\213\335\214\364\215\322\216\355\217" +
+    "\366\220\332\221\360\222\334\223\361\224\323\225\356" +
+    "\226\350\227\362\230\336\231\207\234\u018e\001\001\000" +
+    "\002\001\001\000\144\004\314\007\354\010\132\011\120" +
+    "\012\122\017\333\020\330\021\015\022\014\111\220\117" +
+    "\u019b\120\u0198\121\u0194\122\236\123\276\124\u0192\125\256" +
+    "\126\215\127\240\130\277\131\u0190\132\206\140\267\141" +
+    "\u0197\142\315\143\201\144\u0191\153\u0196\154\231\155\273" +
+    "\156\237\157\303\160\203\161\216\166\232\167\340\170" +
+    "\307\171\217\174\244\201\224\202\202\203\205\204\223" +
+    "\205\305\206\221\211\235\212\274\230\266\231\207\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\122\004" +
+    "\314\007\354\010\132\011\120\012\122\017\333\020\330" +
+    "\021\015\022\014\153\011\167\340\170\307\171\357\174" +
+    "\244\201\224\202\363\203\205\204\352\205\324\206\346" +
+    "\207\345\210\353\211\365\212\326\213\335\214\364\215" +
+    "\322\216\355\217\366\220\332\221\360\222\334\223\361" +
+    "\224\323\225\356\226\350\227\362\230\336\231\207\234" +
+    "\u019d\001\001\000\002\001\001\000\144\004\314\007\354" +
+    "\010\132\011\120\012\122\017\333\020\330\021\015\022" +
+    "\014\111\220\117\u019b\120\u019f\121\u0194\122\236\123\276" +
+    "\124\u0192\125\256\126\215\127\240\130\277\131\u0190\132" +
+    "\206\140\267\141\u0197\142\315\143\201\144\u0191\153\u0196" +
+    "\154\231\155\273\156\237\157\303\160\203\161\216\166" +
+    "\232\167\340\170\307\171\217\174\244\201\224\202\202" +
+    "\203\205\204\223\205\305\206\221\211\235\212\274\230" +
+    "\266\231\207\001\001\000\002\001\001\000\144\004\314" +
+    "\007\354\010\132\011\120\012\122\017\333\020\330\021" +
+    "\015\022\014\111\220\117\u01a2\120\u01a1\121\u0194\122\236" +
+    "\123\276\124\u0192\125\256\126\215\127\240\130\277\131" +
+    "\u0190\132\206\140\267\141\u0197\142\315\143\201\144\u0191" +
+    "\153\u0196\154\231\155\273\156\237\157\303\160\203\161" +
+    "\216\166\232\167\340\170\307\171\217\174\244\201\224" +
+    "\202\202\203\205\204\223\205\305\206\221\211\235\212" +
+    "\274\230\266\231\207\001\001\000\002\001\001\000\002" +
+    "\001\001\000\122\004\314\007\354\010\132\011\120\012" +
+    "\122\017\333\020\330\021\015\022\014\153\011\167\340" +
+    "\170\307\171\357\174\244\201\224\202\363\203\205\204" +
+    "\352\205\324\206\346\207\345\210\353\211\365\212\326" +
+    "\213\335\214\364\215\322\216\355\217\366\220\332\221" +
+    "\360\222\334\223\361\224\323\225\356\226\350\227\362" +
+    "\230\336\231\207\234\u01a4\001\001\000\002\001\001\000" +
+    "\004\111\u01a7\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\132\004\314\007\354\010\132\011" +
+    "\120\012\122\017\333\020\330\021\015\022\014\111\220" +
+    "\117\u01a2\121\247\122\236\123\276\125\256\126\215\127" +
+    "\240\130\277\132\206\140\267\142\315\143\201\153\252" +
+    "\154\231\155\273\156\237\157\303\160\203\161\216\166" +
+    "\232\167\340\170\307\171\217\174\244\201\224\202\202" +
+    "\203\205\204\223\205\305\206\221\211\235\212\274\230" +
+    "\266\231\207\001\001\000\144\004\314\007\354\010\132" +
+    "\011\120\012\122\017\333\020\330\021\015\022\014\111" +
+    "\220\117\u01ac\120\u01ab\121\u0194\122\236\123\276\124\u0192" +
+    "\125\256\126\215\127\240\130\277\131\u0190\132\206\140" +
+    "\267\141\u0197\142\315\143\201\144\u0191\153\u0196\154\231" +
+    "\155\273\156\237\157\303\160\203\161\216\166\232\167" +
+    "\340\170\307\171\217\174\244\201\224\202\202\203\205" +
+    "\204\223\205\305\206\221\211\235\212\274\230\266\231" +
+    "\207\001\001\000\002\001\001\000\002\001\001\000\102" +
+    "\004\314\006\245\007\265\010\132\011\120\012\122\013" +
+    "\124\014\117\017\211\020\260\021\015\022\014\116\u01af" +
+    "\126\u01ae\145\u01b2\146\u01b3\151\u01b0\153\011\167\340\170" +
+    "\307\171\217\174\244\201\224\202\202\203\205\204\223" +
+    "\205\305\206\221\211\235\212\274\230\266\231\207\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\032\006\u01c0\007\126\010\132\011\120\012\122\013" +
+    "\124\014\117\017\130\020\134\021\015\022\014\153\011" +
+    "\001\001\000\002\001\001\000\002\001\001\000\124\004" +
+    "\314\007\354\010\132\011\120\012\122\017\333\020\330" +
+    "\021\015\022\014\153\011\167\340\170\307\171\357\174" +
+    "\244\201\224\202\363\203\205\204\352\205\324\206\346" +
+    "\207\345\210\353\211\365\212\326\213\335\214\364\215" +
+    "\322\216\355\217\366\220\332\221\360\222\334\223\361" +
+    "\224\323\225\356\226\350\227\362\230\336\231\207\233" +
+    "\u01b6\234\u01b5\001\001\000\002\001\001\000\002\001\001" +
+    "\000\072\004\314\007\354\010\132\011\120\012\122\017" +
+    "\333\020\330\021\015\022\014\126\u01ae\147\u01ba\150\u01b8" +
+    "\151\u01b9\153\011\167\340\170\307\171\217\174\244\201" +
+    "\224\202\202\203\205\204\223\205\305\206\221\211\235" +
+    "\212\274\230\266\231\207\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\144\004\314\007\354" +
+    "\010\132\011\120\012\122\017\333\020\330\021\015\022" +
+    "\014\111\220\117\u01bd\120\u01bc\121\u0194\122\236\123\276" +
+    "\124\u0192\125\256\126\215\127\240\130\277\131\u0190\132" +
+    "\206\140\267\141\u0197\142\315\143\201\144\u0191\153\u0196" +
+    "\154\231\155\273\156\237\157\303\160\203\161\216\166" +
+    "\232\167\340\170\307\171\217\174\244\201\224\202\202" +
+    "\203\205\204\223\205\305\206\221\211\235\212\274\230" +
+    "\266\231\207\001\001\000\002\001\001\000\002\001\001" +
+    "\000\064\004\314\007\354\010\132\011\120\012\122\017" +
+    "\333\020\330\021\015\022\014\126\u01bf\153\011\167\340" +
+    "\170\307\171\217\174\244\201\224\202\202\203\205\204" +
+    "\223\205\305\206\221\211\235\212\274\230\266\231\207" +
+    "\001\001\000\002\001\001\000\012\055\u01c3\056\u01c2\057" +
+    "\u01c1\153\153\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\010\056\u01c5\057\u01c1\153\153\001" +
+    "\001\000\002\001\001\000\126\004\314\007\354\010\132" +
+    "\011\120\012\122\017\333\020\330\021\015\022\014\060" +
+    "\u01c7\107\u0173\153\011\167\340\170\307\171\357\174\244" +
+    "\201\224\202\363\203\205\204\352\205\324\206\346\207" +
+    "\345\210\353\211\365\212\326\213\335\214\364\215\322" +
+    "\216\355\217\366\220\332\221\360\222\334\223\361\224" +
+    "\323\225\356\226\350\227\362\230\336\231\207\234\u0174" +
+    "\001\001\000\002\001\001\000\122\004\314\007\354\010" +
+    "\132\011\120\012\122\017\333\020\330\021\015\022\014" +
+    "\153\011\167\340\170\307\171\357\174\244\201\224\202" +
+    "\363\203\205\204\352\205\324\206\346\207\345\210\353" +
+    "\211\365\212\326\213\335\214\364\215\322\216\355\217" +
+    "\366\220\332\221\360\222\334\223\361\224\323\225\356" +
+    "\226\350\227\362\230\336\231\207\234\u01c9\001\001\000" +
+    "\002\001\001\000\144\004\314\007\354\010\132\011\120" +
+    "\012\122\017\333\020\330\021\015\022\014\111\220\117" +
+    "\u01cc\120\u01cb\121\u0194\122\236\123\276\124\u0192\125\256" +
+    "\126\215\127\240\130\277\131\u0190\132\206\140\267\141" +
+    "\u0197\142\315\143\201\144\u0191\153\u0196\154\231\155\273" +
+    "\156\237\157\303\160\203\161\216\166\232\167\340\170" +
+    "\307\171\217\174\244\201\224\202\202\203\205\204\223" +
+    "\205\305\206\221\211\235\212\274\230\266\231\207\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\004\153\u014c\001\001\000\002\001\001\000\002\001\001" +
+    "\000\126\004\314\007\354\010\132\011\120\012\122\017" +
+    "\333\020\330\021\015\022\014\153\011\167\340\170\307" +
+    "\171\357\172\u01d5\173\351\174\244\201\224\202\363\203" +
+    "\205\204\352\205\324\206\346\207\345\210\353\211\365" +
+    "\212\326\213\335\214\364\215\322\216\355\217\366\220" +
+    "\332\221\360\222\334\223\361\224\323\225\356\226\350" +
+    "\227\362\230\336\231\207\234\344\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\126\004\314" +
+    "\007\354\010\132\011\120\012\122\017\333\020\330\021" +
+    "\015\022\014\153\011\167\340\170\307\171\357\172\u01d9" +
+    "\173\351\174\244\201\224\202\363\203\205\204\352\205" +
+    "\324\206\346\207\345\210\353\211\365\212\326\213\335" +
+    "\214\364\215\322\216\355\217\366\220\332\221\360\222" +
+    "\334\223\361\224\323\225\356\226\350\227\362\230\336" +
+    "\231\207\234\344\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\126\004\314\007\354\010\132" +
+    "\011\120\012\122\017\333\020\330\021\015\022\014\153" +
+    "\011\167\340\170\307\171\357\172\u01dd\173\351\174\244" +
+    "\201\224\202\363\203\205\204\352\205\324\206\346\207" +
+    "\345\210\353\211\365\212\326\213\335\214\364\215\322" +
+    "\216\355\217\366\220\332\221\360\222\334\223\361\224" +
+    "\323\225\356\226\350\227\362\230\336\231\207\234\344" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\010\162\u01e5" +
+    "\163\u01e3\164\u01e4\001\001\000\004\164\u01ee\001\001\000" +
+    "\002\001\001\000\004\165\u01ec\001\001\000\002\001\001" +
+    "\000\034\006\144\007\126\010\132\011\120\012\122\013" +
+    "\124\014\117\017\130\020\134\021\015\022\014\065\u01e8" +
+    "\153\011\001\001\000\002\001\001\000\004\111\u01ea\001" +
+    "\001\000\002\001\001\000\004\111\u01ed\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\132\004\314\007\354\010\132\011\120\012\122\017" +
+    "\333\020\330\021\015\022\014\111\220\117\u01ac\121\247" +
+    "\122\236\123\276\125\256\126\215\127\240\130\277\132" +
+    "\206\140\267\142\315\143\201\153\252\154\231\155\273" +
+    "\156\237\157\303\160\203\161\216\166\232\167\340\170" +
+    "\307\171\217\174\244\201\224\202\202\203\205\204\223" +
+    "\205\305\206\221\211\235\212\274\230\266\231\207\001" +
+    "\001\000\102\004\314\006\245\007\265\010\132\011\120" +
+    "\012\122\013\124\014\117\017\211\020\260\021\015\022" +
+    "\014\116\u01af\126\u01ae\145\u01f5\146\u01b3\151\u01b0\153\011" +
+    "\167\340\170\307\171\217\174\244\201\224\202\202\203" +
+    "\205\204\223\205\305\206\221\211\235\212\274\230\266" +
+    "\231\207\001\001\000\002\001\001\000\124\004\314\007" +
+    "\354\010\132\011\120\012\122\017\333\020\330\021\015" +
+    "\022\014\153\011\167\340\170\307\171\357\174\244\201" +
+    "\224\202\363\203\205\204\352\205\324\206\346\207\345" +
+    "\210\353\211\365\212\326\213\335\214\364\215\322\216" +
+    "\355\217\366\220\332\221\360\222\334\223\361\224\323" +
+    "\225\356\226\350\227\362\230\336\231\207\233\u01f7\234" +
+    "\u01b5\001\001\000\002\001\001\000\072\004\314\007\354" +
+    "\010\132\011\120\012\122\017\333\020\330\021\015\022" +
+    "\014\126\u01ae\147\u01f9\150\u01b8\151\u01b9\153\011\167\340" +
+    "\170\307\171\217\174\244\201\224\202\202\203\205\204" +
+    "\223\205\305\206\221\211\235\212\274\230\266\231\207" +
+    "\001\001\000\002\001\001\000\132\004\314\007\354\010" +
+    "\132\011\120\012\122\017\333\020\330\021\015\022\014" +
+    "\111\220\117\u01bd\121\247\122\236\123\276\125\256\126" +
+    "\215\127\240\130\277\132\206\140\267\142\315\143\201" +
+    "\153\252\154\231\155\273\156\237\157\303\160\203\161" +
+    "\216\166\232\167\340\170\307\171\217\174\244\201\224" +
+    "\202\202\203\205\204\223\205\305\206\221\211\235\212" +
+    "\274\230\266\231\207\001\001\000\002\001\001\000\002" +
+    "\001\001\000\122\004\314\007\354\010\132\011\120\012" +
+    "\122\017\333\020\330\021\015\022\014\153\011\167\340" +
+    "\170\307\171\357\174\244\201\224\202\363\203\205\204" +
+    "\352\205\324\206\346\207\345\210\353\211\365\212\326" +
+    "\213\335\214\364\215\322\216\355\217\366\220\332\221" +
+    "\360\222\334\223\361\224\323\225\356\226\350\227\362" +
+    "\230\336\231\207\234\u01fe\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\122\004\314\007\354" +
+    "\010\132\011\120\012\122\017\333\020\330\021\015\022" +
+    "\014\153\011\167\340\170\307\171\357\174\244\201\224" +
+    "\202\363\203\205\204\352\205\324\206\346\207\345\210" +
+    "\353\211\365\212\326\213\335\214\364\215\322\216\355" +
+    "\217\366\220\332\221\360\222\334\223\361\224\323\225" +
+    "\356\226\350\227\362\230\336\231\207\234\u0202\001\001" +
+    "\000\002\001\001\000\004\133\u0205\001\001\000\012\134" +
+    "\u0208\135\u0209\136\u020b\137\u020a\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\010\135\u0215\136" +
+    "\u0216\137\u020a\001\001\000\002\001\001\000\002\001\001" +
+    "\000\162\004\314\006\245\007\265\010\132\011\120\012" +
+    "\122\013\124\014\117\017\211\020\260\021\015\022\014" +
+    "\036\270\037\022\040\021\041\210\111\220\113\u0210\114" +
+    "\204\115\227\116\233\117\313\121\247\122\236\123\276" +
+    "\125\256\126\215\127\240\130\277\132\206\137\u0211\140" +
+    "\267\142\315\143\201\153\252\154\231\155\273\156\237" +
+    "\157\303\160\203\161\216\166\232\167\340\170\307\171" +
+    "\217\174\244\201\224\202\202\203\205\204\223\205\305" +
+    "\206\221\211\235\212\274\230\266\231\207\001\001\000" +
+    "\124\004\314\007\354\010\132\011\120\012\122\017\333" +
+    "\020\330\021\015\022\014\153\011\167\340\170\307\171" +
+    "\357\174\244\201\224\202\363\203\205\204\352\205\324" +
+    "\206\346\207\345\210\353\211\365\212\326\213\335\214" +
+    "\364\215\322\216\355\217\366\220\332\221\360\222\334" +
+    "\223\361\224\323\225\356\226\350\227\362\230\336\231" +
+    "\207\234\u020e\235\u020d\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\156\004\314\006\245\007" +
+    "\265\010\132\011\120\012\122\013\124\014\117\017\211" +
+    "\020\260\021\015\022\014\036\270\037\022\040\021\041" +
+    "\210\111\220\114\u0213\115\227\116\233\117\313\121\247" +
+    "\122\236\123\276\125\256\126\215\127\240\130\277\132" +
+    "\206\140\267\142\315\143\201\153\252\154\231\155\273" +
+    "\156\237\157\303\160\203\161\216\166\232\167\340\170" +
+    "\307\171\217\174\244\201\224\202\202\203\205\204\223" +
+    "\205\305\206\221\211\235\212\274\230\266\231\207\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\162\004\314\006" +
+    "\245\007\265\010\132\011\120\012\122\013\124\014\117" +
+    "\017\211\020\260\021\015\022\014\036\270\037\022\040" +
+    "\021\041\210\111\220\113\u0210\114\204\115\227\116\233" +
+    "\117\313\121\247\122\236\123\276\125\256\126\215\127" +
+    "\240\130\277\132\206\137\u0211\140\267\142\315\143\201" +
+    "\153\252\154\231\155\273\156\237\157\303\160\203\161" +
+    "\216\166\232\167\340\170\307\171\217\174\244\201\224" +
+    "\202\202\203\205\204\223\205\305\206\221\211\235\212" +
+    "\274\230\266\231\207\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\122\004\314\007\354\010" +
+    "\132\011\120\012\122\017\333\020\330\021\015\022\014" +
+    "\153\011\167\340\170\307\171\357\174\244\201\224\202" +
+    "\363\203\205\204\352\205\324\206\346\207\345\210\353" +
+    "\211\365\212\326\213\335\214\364\215\322\216\355\217" +
+    "\366\220\332\221\360\222\334\223\361\224\323\225\356" +
+    "\226\350\227\362\230\336\231\207\234\u021b\001\001\000" +
+    "\002\001\001\000\132\004\314\007\354\010\132\011\120" +
+    "\012\122\017\333\020\330\021\015\022\014\111\220\117" +
+    "\u01cc\121\247\122\236\123\276\125\256\126\215\127\240" +
+    "\130\277\132\206\140\267\142\315\143\201\153\252\154" +
+    "\231\155\273\156\237\157\303\160\203\161\216\166\232" +
+    "\167\340\170\307\171\217\174\244\201\224\202\202\203" +
+    "\205\204\223\205\305\206\221\211\235\212\274\230\266" +
+    "\231\207\001\001\000\126\004\314\007\354\010\132\011" +
+    "\120\012\122\017\333\020\330\021\015\022\014\153\011" +
+    "\167\340\170\307\171\357\172\u021e\173\351\174\244\201" +
+    "\224\202\363\203\205\204\352\205\324\206\346\207\345" +
+    "\210\353\211\365\212\326\213\335\214\364\215\322\216" +
+    "\355\217\366\220\332\221\360\222\334\223\361\224\323" +
+    "\225\356\226\350\227\362\230\336\231\207\234\344\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\156\004\314\006\245\007\265\010" +
+    "\132\011\120\012\122\013\124\014\117\017\211\020\260" +
+    "\021\015\022\014\036\270\037\022\040\021\041\210\111" +
+    "\220\114\u0213\115\227\116\233\117\313\121\247\122\236" +
+    "\123\276\125\256\126\215\127\240\130\277\132\206\140" +
+    "\267\142\315\143\201\153\252\154\231\155\273\156\237" +
+    "\157\303\160\203\161\216\166\232\167\340\170\307\171" +
+    "\217\174\244\201\224\202\202\203\205\204\223\205\305" +
+    "\206\221\211\235\212\274\230\266\231\207\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\120\004\314\007\354\010\132\011\120\012" +
+    "\122\017\333\020\330\021\015\022\014\153\011\167\340" +
+    "\170\307\171\357\174\244\201\224\202\363\203\205\204" +
+    "\352\205\324\206\346\207\345\210\353\211\365\212\326" +
+    "\213\335\214\364\215\322\216\355\217\366\220\332\221" +
+    "\360\222\334\223\361\224\323\225\356\226\350\227\u0237" +
+    "\230\336\231\207\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\040\006\144\007" +
+    "\126\010\132\011\120\012\122\013\124\014\117\017\130" +
+    "\020\134\021\015\022\014\063\u023d\064\145\065\150\153" +
+    "\011\001\001\000\002\001\001\000\006\177\u023f\200\u017e" +
+    "\001\001\000\006\066\u0240\067\157\001\001\000\002\001" +
+    "\001\000\006\042\051\043\u0242\001\001\000\006\044\061" +
+    "\045\u0243\001\001\000\004\047\u0244\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\156\004\314\006\245" +
+    "\007\265\010\132\011\120\012\122\013\124\014\117\017" +
+    "\211\020\260\021\015\022\014\036\270\037\022\040\021" +
+    "\041\210\111\220\114\u0213\115\227\116\233\117\313\121" +
+    "\247\122\236\123\276\125\256\126\215\127\240\130\277" +
+    "\132\206\140\267\142\315\143\201\153\252\154\231\155" +
+    "\273\156\237\157\303\160\203\161\216\166\232\167\340" +
+    "\170\307\171\217\174\244\201\224\202\202\203\205\204" +
+    "\223\205\305\206\221\211\235\212\274\230\266\231\207" +
+    "\001\001\000\002\001\001\000\002\001\001\000\006\077" +
+    "\u0252\100\u0253\001\001\000\016\014\064\016\u0266\020\054" +
+    "\021\015\022\014\153\011\001\001\000\004\101\u0257\001" +
+    "\001\000\002\001\001\000\016\014\064\016\u0255\020\054" +
+    "\021\015\022\014\153\011\001\001\000\002\001\001\000" +
+    "\032\036\u025f\037\022\040\021\041\u025b\054\u0260\062\u025c" +
+    "\076\u0262\102\u025e\103\u025d\104\u025a\105\u0261\106\u0258\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\026\036\u025f\037\022\040\021\041\u025b\054\u0260\062\u025c" +
+    "\076\u0262\104\u0264\105\u0261\106\u0258\001\001\000\002\001" +
+    "\001\000\032\006\114\007\126\010\132\011\120\012\122" +
+    "\013\124\014\117\017\130\020\134\021\015\022\014\153" +
+    "\011\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\012\020\u0271\021" +
+    "\015\022\u0272\153\011\001\001\000\010\032\u0270\033\u026e" +
+    "\034\u0269\001\001\000\022\030\u026f\031\044\035\036\036" +
+    "\040\037\022\040\021\041\027\076\043\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\004\153\020" +
+    "\001\001\000\002\001\001\000\002\001\001" });
+
+  /** Access to <code>reduce_goto</code> table. */
+  public short[][] reduce_table() {return _reduce_table;}
+
+  /** Instance of action encapsulation class. */
+  protected CUP$Grm$actions action_obj;
+
+  /** Action encapsulation object initializer. */
+  protected void init_actions()
+    {
+      action_obj = new CUP$Grm$actions(this);
+    }
+
+  /** Invoke a user supplied parse action. */
+  public java_cup.runtime.Symbol do_action(
+    int                        act_num,
+    java_cup.runtime.lr_parser parser,
+    java.util.Stack            stack,
+    int                        top)
+    throws java.lang.Exception
+  {
+    /* call code in generated class */
+    return action_obj.CUP$Grm$do_action(act_num, parser, stack, top);
+  }
+
+  /** Indicates start state. */
+  public int start_state() {return 0;}
+  /** Indicates start production. */
+  public int start_production() {return 0;}
+
+  /** <code>EOF</code> Symbol index. */
+  public int EOF_sym() {return 0;}
+
+  /** <code>error</code> Symbol index. */
+  public int error_sym() {return 1;}
+
+
+  /** Scan to get the next Symbol. */
+  public java_cup.runtime.Symbol scan()
+    throws java.lang.Exception
+    {
+ return nextSymbol(); 
+    }
+
+
+
+  public Grm(Lexer l, TypeSystem t, NodeFactory n, ErrorQueue q) {
+    super(l,t,n,q);
+  }
+
+  /**
+   * Override the default CUP routine.
+   */
+  public void syntax_error (java_cup.runtime.Symbol current)
+  {
+    Position p = ((Token) current.value).getPosition ();
+    report_error ("Syntax error: unexpected " + current.value + ".", p);
+  }
+
+  /**
+   * Override the default CUP routine.
+   */
+  public void report_error (String message, Object info)
+  {
+    if (info instanceof Position)
+	eq.enqueue (ErrorInfo.SYNTAX_ERROR, message, (Position) info);
+    else
+	eq.enqueue (ErrorInfo.SYNTAX_ERROR, message);
+  }
+
+  protected Position posForObject(Object o) {
+      if (o instanceof ParsedName) {
+          return pos ((ParsedName) o);
+      }
+      return super.posForObject(o);
+  }      
+
+  public Position pos (ParsedName n) {
+    if (n == null) return null;
+    else return n.pos;
+  }
+
+  public List variableDeclarators(TypeNode a, List b, FlagsNode flags)
+    throws Exception
+  {
+    List l = new TypedList(new LinkedList(), LocalDecl.class, false);
+    for (Iterator i = b.iterator(); i.hasNext(); ) {
+	VarDeclarator d = (VarDeclarator) i.next();
+	l.add(nf.LocalDecl(pos(d), flags, array(a, d.dims),
+				  d.name, d.init));
+    }
+    return l;
+  }
+
+}
+
+/** Cup generated class to encapsulate user supplied action code.*/
+class CUP$Grm$actions {
+  private final Grm parser;
+
+  /** Constructor */
+  CUP$Grm$actions(Grm parser) {
+    this.parser = parser;
+  }
+
+  /** Method with the actual generated action code. */
+  public final java_cup.runtime.Symbol CUP$Grm$do_action(
+    int                        CUP$Grm$act_num,
+    java_cup.runtime.lr_parser CUP$Grm$parser,
+    java.util.Stack            CUP$Grm$stack,
+    int                        CUP$Grm$top)
+    throws java.lang.Exception
+    {
+      /* Symbol object for return from actions */
+      java_cup.runtime.Symbol CUP$Grm$result;
+
+      if (CUP$Grm$act_num <= 183) {
+        if (CUP$Grm$act_num <= 91) {
+          return CUP$Grm$do_action_0(CUP$Grm$act_num,CUP$Grm$parser,CUP$Grm$stack,CUP$Grm$top);
+        } else {
+          return CUP$Grm$do_action_92(CUP$Grm$act_num,CUP$Grm$parser,CUP$Grm$stack,CUP$Grm$top);
+        }
+      } else {
+        if (CUP$Grm$act_num <= 275) {
+          return CUP$Grm$do_action_184(CUP$Grm$act_num,CUP$Grm$parser,CUP$Grm$stack,CUP$Grm$top);
+        } else {
+          return CUP$Grm$do_action_276(CUP$Grm$act_num,CUP$Grm$parser,CUP$Grm$stack,CUP$Grm$top);
+        }
+      }
+    }
+
+  /** Method with the actual generated action code. */
+  public final java_cup.runtime.Symbol CUP$Grm$do_action_0(
+    int                        CUP$Grm$act_num,
+    java_cup.runtime.lr_parser CUP$Grm$parser,
+    java.util.Stack            CUP$Grm$stack,
+    int                        CUP$Grm$top)
+    throws java.lang.Exception
+    {
+      /* Symbol object for return from actions */
+      java_cup.runtime.Symbol CUP$Grm$result;
+
+      /* select the action based on the action number */
+      switch (CUP$Grm$act_num)
+        {
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 91: // class_body_declaration ::= error LBRACE 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(40/*class_body_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 90: // class_body_declaration ::= error SEMICOLON 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(40/*class_body_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 89: // class_body_declaration ::= SEMICOLON 
+            {
+              List RESULT = null;
+		 List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(40/*class_body_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 88: // class_body_declaration ::= block 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block a = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               l.add(parser.nf.Initializer(parser.pos(a), parser.nf.FlagsNode(parser.pos(a), Flags.NONE), a));
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(40/*class_body_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 87: // class_body_declaration ::= constructor_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ConstructorDecl a = (ConstructorDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               l.add(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(40/*class_body_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 86: // class_body_declaration ::= static_initializer 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Initializer a = (Initializer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               l.add(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(40/*class_body_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 85: // class_body_declaration ::= class_member_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(40/*class_body_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 84: // class_body_declarations ::= class_body_declarations class_body_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a;
+               a.addAll(b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(38/*class_body_declarations*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 83: // class_body_declarations ::= class_body_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(38/*class_body_declarations*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 82: // class_body_declarations_opt ::= class_body_declarations 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(39/*class_body_declarations_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 81: // class_body_declarations_opt ::= 
+            {
+              List RESULT = null;
+		 RESULT = new TypedList(new LinkedList(), ClassMember.class, false); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(39/*class_body_declarations_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 80: // class_body ::= LBRACE class_body_declarations_opt RBRACE 
+            {
+              ClassBody RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.ClassBody(parser.pos(n, b), a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(37/*class_body*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 79: // interface_type_list ::= interface_type_list COMMA interface_type 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode b = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a;
+               a.add(b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(36/*interface_type_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 78: // interface_type_list ::= interface_type 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), TypeNode.class, false);
+               l.add(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(36/*interface_type_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 77: // interfaces_opt ::= interfaces 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(35/*interfaces_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 76: // interfaces_opt ::= 
+            {
+              List RESULT = null;
+		 RESULT = new TypedList(new LinkedList(), TypeNode.class, false); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(35/*interfaces_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 75: // interfaces ::= IMPLEMENTS interface_type_list 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(34/*interfaces*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 74: // super_opt ::= super 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(33/*super_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 73: // super_opt ::= 
+            {
+              TypeNode RESULT = null;
+
+              CUP$Grm$result = new java_cup.runtime.Symbol(33/*super_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 72: // super ::= EXTENDS class_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(32/*super*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 71: // class_declaration ::= modifiers_opt CLASS identifier super_opt interfaces_opt class_body 
+            {
+              ClassDecl RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		FlagsNode a = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		TypeNode c = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List d = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassBody e = (ClassBody)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.ClassDecl(parser.pos(n, e),
+                a, b, c, d, e); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(31/*class_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 70: // modifier ::= STRICTFP 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.STRICTFP); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(30/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 69: // modifier ::= VOLATILE 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.VOLATILE); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(30/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 68: // modifier ::= TRANSIENT 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.TRANSIENT); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(30/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 67: // modifier ::= SYNCHRONIZED 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.SYNCHRONIZED); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(30/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 66: // modifier ::= NATIVE 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.NATIVE); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(30/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 65: // modifier ::= FINAL 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.FINAL); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(30/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 64: // modifier ::= ABSTRACT 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.ABSTRACT); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(30/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 63: // modifier ::= STATIC 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.STATIC); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(30/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 62: // modifier ::= PRIVATE 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.PRIVATE); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(30/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 61: // modifier ::= PROTECTED 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.PROTECTED); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(30/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 60: // modifier ::= PUBLIC 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.PUBLIC); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(30/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 59: // modifiers ::= modifiers modifier 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		FlagsNode a = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		FlagsNode b = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 Flags fa = a.flags();
+               Flags fb = b.flags();
+               if (fa.intersects(fb)) parser.die(parser.position());
+               RESULT = parser.nf.FlagsNode(parser.pos(a, b), fa.set(fb)); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(29/*modifiers*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 58: // modifiers ::= modifier 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		FlagsNode a = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(29/*modifiers*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 57: // modifiers_opt ::= modifiers 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		FlagsNode a = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(28/*modifiers_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 56: // modifiers_opt ::= 
+            {
+              FlagsNode RESULT = null;
+		 RESULT = parser.nf.FlagsNode(Position.COMPILER_GENERATED, Flags.NONE); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(28/*modifiers_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 55: // type_declaration ::= SEMICOLON 
+            {
+              ClassDecl RESULT = null;
+		 RESULT = null; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(27/*type_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 54: // type_declaration ::= interface_declaration 
+            {
+              ClassDecl RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassDecl a = (ClassDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(27/*type_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 53: // type_declaration ::= class_declaration 
+            {
+              ClassDecl RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassDecl a = (ClassDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(27/*type_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 52: // type_import_on_demand_declaration ::= IMPORT name DOT MULT SEMICOLON 
+            {
+              Import RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		ParsedName b = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token c = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Import(parser.pos(a, c), Import.PACKAGE, QName.make(b.toString())); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(26/*type_import_on_demand_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 51: // single_type_import_declaration ::= IMPORT qualified_name SEMICOLON 
+            {
+              Import RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		ParsedName b = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token c = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Import(parser.pos(a, c), Import.CLASS, QName.make(b.toString())); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(25/*single_type_import_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 50: // import_declaration ::= type_import_on_demand_declaration 
+            {
+              Import RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Import a = (Import)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(24/*import_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 49: // import_declaration ::= single_type_import_declaration 
+            {
+              Import RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Import a = (Import)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(24/*import_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 48: // package_declaration ::= PACKAGE name SEMICOLON 
+            {
+              PackageNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		 RESULT = a.toPackage(); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(19/*package_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 47: // type_declarations ::= type_declarations type_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassDecl b = (ClassDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a;
+               if (b != null)
+                   a.add(b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(23/*type_declarations*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 46: // type_declarations ::= type_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassDecl a = (ClassDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), TopLevelDecl.class, false); 
+               if (a != null)
+                   l.add(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(23/*type_declarations*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 45: // import_declarations ::= import_declarations import_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Import b = (Import)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+               a.add(b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(21/*import_declarations*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 44: // import_declarations ::= import_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Import a = (Import)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), Import.class, false); 
+               l.add(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(21/*import_declarations*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 43: // type_declarations_opt ::= 
+            {
+              List RESULT = null;
+		 RESULT = new TypedList(new LinkedList(), TopLevelDecl.class, false); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(22/*type_declarations_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 42: // type_declarations_opt ::= type_declarations 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(22/*type_declarations_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 41: // import_declarations_opt ::= 
+            {
+              List RESULT = null;
+		 RESULT = new TypedList(new LinkedList(), Import.class, false); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(20/*import_declarations_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 40: // import_declarations_opt ::= import_declarations 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(20/*import_declarations_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 39: // package_declaration_opt ::= 
+            {
+              PackageNode RESULT = null;
+		 RESULT = null; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(18/*package_declaration_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 38: // package_declaration_opt ::= package_declaration 
+            {
+              PackageNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		PackageNode a = (PackageNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(18/*package_declaration_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 37: // compilation_unit ::= error type_declarations_opt 
+            {
+              SourceFile RESULT = null;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.SourceFile(new Position(parser.lexer.path(), parser.lexer.file()),
+					     null, Collections.EMPTY_LIST, c);
+	    
+              CUP$Grm$result = new java_cup.runtime.Symbol(17/*compilation_unit*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 36: // compilation_unit ::= package_declaration_opt import_declarations_opt type_declarations_opt 
+            {
+              SourceFile RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		PackageNode a = (PackageNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.SourceFile(new Position(parser.lexer.path(), parser.lexer.file()),
+					     a, b, c);
+	    
+              CUP$Grm$result = new java_cup.runtime.Symbol(17/*compilation_unit*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 35: // qualified_name ::= name DOT identifier 
+            {
+              ParsedName RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = new ParsedName(parser.nf, parser.ts, parser.pos(a, b), a, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(16/*qualified_name*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 34: // simple_name ::= identifier 
+            {
+              ParsedName RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Id a = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = new ParsedName(parser.nf, parser.ts, parser.pos(a), a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(15/*simple_name*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 33: // name ::= qualified_name 
+            {
+              ParsedName RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(14/*name*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 32: // name ::= simple_name 
+            {
+              ParsedName RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(14/*name*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 31: // array_type ::= name dims 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Integer b = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.array(a.toType(), b.intValue()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(13/*array_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 30: // array_type ::= primitive_type dims 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Integer b = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.array(a, b.intValue()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(13/*array_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 29: // interface_type ::= class_or_interface_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(12/*interface_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 28: // class_type ::= class_or_interface_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(11/*class_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 27: // class_or_interface_type ::= name 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a.toType(); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(10/*class_or_interface_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 26: // reference_type ::= array_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(9/*reference_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 25: // reference_type ::= class_or_interface_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(9/*reference_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 24: // floating_point_type ::= DOUBLE 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.CanonicalTypeNode(parser.pos(a),
+                       parser.ts.Double()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(8/*floating_point_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 23: // floating_point_type ::= FLOAT 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.CanonicalTypeNode(parser.pos(a),
+                       parser.ts.Float()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(8/*floating_point_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 22: // integral_type ::= LONG 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.CanonicalTypeNode(parser.pos(a), parser.ts.Long()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(7/*integral_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 21: // integral_type ::= INT 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.CanonicalTypeNode(parser.pos(a), parser.ts.Int()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(7/*integral_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 20: // integral_type ::= SHORT 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.CanonicalTypeNode(parser.pos(a), parser.ts.Short()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(7/*integral_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 19: // integral_type ::= CHAR 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.CanonicalTypeNode(parser.pos(a), parser.ts.Char()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(7/*integral_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 18: // integral_type ::= BYTE 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.CanonicalTypeNode(parser.pos(a), parser.ts.Byte()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(7/*integral_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 17: // numeric_type ::= floating_point_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(6/*numeric_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 16: // numeric_type ::= integral_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(6/*numeric_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 15: // primitive_type ::= BOOLEAN 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.CanonicalTypeNode(parser.pos(a), parser.ts.Boolean()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(5/*primitive_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 14: // primitive_type ::= numeric_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(5/*primitive_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 13: // type ::= reference_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(4/*type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 12: // type ::= primitive_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(4/*type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 11: // boundary_literal ::= LONG_LITERAL_BD 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.LongLiteral a = (polyglot.lex.LongLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.IntLit(parser.pos(a), IntLit.LONG,
+                     a.getValue().longValue()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(3/*boundary_literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 10: // boundary_literal ::= INTEGER_LITERAL_BD 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.IntegerLiteral a = (polyglot.lex.IntegerLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.IntLit(parser.pos(a), IntLit.INT,
+                                     a.getValue().intValue()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(3/*boundary_literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 9: // literal ::= NULL_LITERAL 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.NullLiteral a = (polyglot.lex.NullLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.NullLit(parser.pos(a)); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(2/*literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 8: // literal ::= STRING_LITERAL 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.StringLiteral a = (polyglot.lex.StringLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.StringLit(parser.pos(a), a.getValue()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(2/*literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 7: // literal ::= CHARACTER_LITERAL 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.CharacterLiteral a = (polyglot.lex.CharacterLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.CharLit(parser.pos(a),
+                      a.getValue().charValue()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(2/*literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 6: // literal ::= BOOLEAN_LITERAL 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.BooleanLiteral a = (polyglot.lex.BooleanLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.BooleanLit(parser.pos(a),
+                                         a.getValue().booleanValue()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(2/*literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 5: // literal ::= FLOAT_LITERAL 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.FloatLiteral a = (polyglot.lex.FloatLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.FloatLit(parser.pos(a), FloatLit.FLOAT,
+                                           a.getValue().floatValue()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(2/*literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 4: // literal ::= DOUBLE_LITERAL 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.DoubleLiteral a = (polyglot.lex.DoubleLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.FloatLit(parser.pos(a), FloatLit.DOUBLE,
+                                           a.getValue().doubleValue()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(2/*literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 3: // literal ::= LONG_LITERAL 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.LongLiteral a = (polyglot.lex.LongLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.IntLit(parser.pos(a), IntLit.LONG,
+                     a.getValue().longValue()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(2/*literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 2: // literal ::= INTEGER_LITERAL 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.IntegerLiteral a = (polyglot.lex.IntegerLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.IntLit(parser.pos(a), IntLit.INT,
+                                     a.getValue().intValue()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(2/*literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 1: // goal ::= compilation_unit 
+            {
+              SourceFile RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		SourceFile a = (SourceFile)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 if (parser.eq.hasErrors()) RESULT = null;
+               else RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(1/*goal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 0: // $START ::= goal EOF 
+            {
+              Object RESULT = null;
+		int start_valleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int start_valright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		SourceFile start_val = (SourceFile)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		RESULT = start_val;
+              CUP$Grm$result = new java_cup.runtime.Symbol(0/*$START*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          /* ACCEPT */
+          CUP$Grm$parser.done_parsing();
+          return CUP$Grm$result;
+
+          default:
+            {
+              throw new Exception(
+                 "Invalid action number found in internal parse table");
+            }
+
+        }
+    }
+
+  /** Method with the actual generated action code. */
+  public final java_cup.runtime.Symbol CUP$Grm$do_action_92(
+    int                        CUP$Grm$act_num,
+    java_cup.runtime.lr_parser CUP$Grm$parser,
+    java.util.Stack            CUP$Grm$stack,
+    int                        CUP$Grm$top)
+    throws java.lang.Exception
+    {
+      /* Symbol object for return from actions */
+      java_cup.runtime.Symbol CUP$Grm$result;
+
+      /* select the action based on the action number */
+      switch (CUP$Grm$act_num)
+        {
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 183: // statement_without_trailing_substatement ::= break_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Branch a = (Branch)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(79/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 182: // statement_without_trailing_substatement ::= do_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Do a = (Do)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(79/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 181: // statement_without_trailing_substatement ::= switch_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Switch a = (Switch)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(79/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 180: // statement_without_trailing_substatement ::= expression_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt a = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(79/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 179: // statement_without_trailing_substatement ::= empty_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Empty a = (Empty)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(79/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 178: // statement_without_trailing_substatement ::= block 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block a = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(79/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 177: // statement_no_short_if ::= for_statement_no_short_if 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		For a = (For)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(78/*statement_no_short_if*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 176: // statement_no_short_if ::= while_statement_no_short_if 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		While a = (While)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(78/*statement_no_short_if*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 175: // statement_no_short_if ::= if_then_else_statement_no_short_if 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		If a = (If)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(78/*statement_no_short_if*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 174: // statement_no_short_if ::= labeled_statement_no_short_if 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Labeled a = (Labeled)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(78/*statement_no_short_if*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 173: // statement_no_short_if ::= statement_without_trailing_substatement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt a = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(78/*statement_no_short_if*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 172: // statement ::= error SEMICOLON 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Empty(parser.pos(a)); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(77/*statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 171: // statement ::= for_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		For a = (For)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(77/*statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 170: // statement ::= while_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		While a = (While)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(77/*statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 169: // statement ::= if_then_else_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		If a = (If)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(77/*statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 168: // statement ::= if_then_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		If a = (If)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(77/*statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 167: // statement ::= labeled_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Labeled a = (Labeled)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(77/*statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 166: // statement ::= statement_without_trailing_substatement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt a = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(77/*statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 165: // local_variable_declaration ::= FINAL type variable_declarators 
+            {
+              List RESULT = null;
+		int xleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int xright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token x = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.variableDeclarators(a, b, parser.nf.FlagsNode(parser.pos(x), Flags.FINAL)); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(76/*local_variable_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 164: // local_variable_declaration ::= type variable_declarators 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.variableDeclarators(a, b, parser.nf.FlagsNode(parser.pos(a), Flags.NONE)); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(76/*local_variable_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 163: // local_variable_declaration_statement ::= local_variable_declaration SEMICOLON 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(75/*local_variable_declaration_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 162: // block_statement ::= class_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassDecl a = (ClassDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), Stmt.class, false);
+               l.add(parser.nf.LocalClassDecl(parser.pos(a), a));
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(74/*block_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 161: // block_statement ::= statement 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt a = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), Stmt.class, false);
+               l.add(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(74/*block_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 160: // block_statement ::= local_variable_declaration_statement 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(74/*block_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 159: // block_statements ::= block_statements block_statement 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a;
+               a.addAll(b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(73/*block_statements*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 158: // block_statements ::= block_statement 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), Stmt.class, false);
+               l.addAll(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(73/*block_statements*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 157: // block_statements_opt ::= block_statements 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(72/*block_statements_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 156: // block_statements_opt ::= 
+            {
+              List RESULT = null;
+		 RESULT = new TypedList(new LinkedList(), Stmt.class, false); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(72/*block_statements_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 155: // block ::= error RBRACE 
+            {
+              Block RESULT = null;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Block(parser.pos(d),
+                                        Collections.EMPTY_LIST); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(71/*block*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 154: // block ::= LBRACE block_statements_opt RBRACE 
+            {
+              Block RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Block(parser.pos(n, d), a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(71/*block*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 153: // variable_initializers ::= variable_initializers COMMA variable_initializer 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; a.add(b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(70/*variable_initializers*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 152: // variable_initializers ::= variable_initializer 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), Expr.class, false);
+           l.add(a);
+           RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(70/*variable_initializers*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 151: // array_initializer ::= LBRACE RBRACE 
+            {
+              ArrayInit RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.ArrayInit(parser.pos(n, d)); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(69/*array_initializer*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 150: // array_initializer ::= LBRACE COMMA RBRACE 
+            {
+              ArrayInit RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.ArrayInit(parser.pos(n, d)); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(69/*array_initializer*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 149: // array_initializer ::= LBRACE variable_initializers RBRACE 
+            {
+              ArrayInit RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.ArrayInit(parser.pos(n, d), a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(69/*array_initializer*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 148: // array_initializer ::= LBRACE variable_initializers COMMA RBRACE 
+            {
+              ArrayInit RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.ArrayInit(parser.pos(n, d), a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(69/*array_initializer*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 147: // abstract_method_declaration ::= method_header SEMICOLON 
+            {
+              MethodDecl RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		MethodDecl a = (MethodDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(68/*abstract_method_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 146: // constant_declaration ::= field_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(67/*constant_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 145: // interface_member_declaration ::= SEMICOLON 
+            {
+              List RESULT = null;
+		 RESULT = Collections.EMPTY_LIST; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(66/*interface_member_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 144: // interface_member_declaration ::= interface_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassDecl a = (ClassDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               l.add(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(66/*interface_member_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 143: // interface_member_declaration ::= class_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassDecl a = (ClassDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               l.add(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(66/*interface_member_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 142: // interface_member_declaration ::= abstract_method_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		MethodDecl a = (MethodDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               l.add(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(66/*interface_member_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 141: // interface_member_declaration ::= constant_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(66/*interface_member_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 140: // interface_member_declarations ::= interface_member_declarations interface_member_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a;
+               a.addAll(b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(65/*interface_member_declarations*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 139: // interface_member_declarations ::= interface_member_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(65/*interface_member_declarations*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 138: // interface_member_declarations_opt ::= interface_member_declarations 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(64/*interface_member_declarations_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 137: // interface_member_declarations_opt ::= 
+            {
+              List RESULT = null;
+		 RESULT = new TypedList(new LinkedList(), ClassMember.class, false); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(64/*interface_member_declarations_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 136: // interface_body ::= LBRACE interface_member_declarations_opt RBRACE 
+            {
+              ClassBody RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.ClassBody(parser.pos(n, d), a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(63/*interface_body*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 135: // extends_interfaces ::= extends_interfaces COMMA interface_type 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode b = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a;
+               a.add(b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(62/*extends_interfaces*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 134: // extends_interfaces ::= EXTENDS interface_type 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), TypeNode.class, false);
+               l.add(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(62/*extends_interfaces*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 133: // extends_interfaces_opt ::= extends_interfaces 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(61/*extends_interfaces_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 132: // extends_interfaces_opt ::= 
+            {
+              List RESULT = null;
+		 RESULT = new TypedList(new LinkedList(), TypeNode.class, false); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(61/*extends_interfaces_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 131: // interface_declaration ::= modifiers_opt INTERFACE identifier extends_interfaces_opt interface_body 
+            {
+              ClassDecl RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		FlagsNode a = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassBody d = (ClassBody)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.ClassDecl(
+                    parser.pos(n, d), a.flags(a.flags().Interface()),
+                        b, null, c, d); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(60/*interface_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 130: // explicit_constructor_invocation ::= primary DOT SUPER LPAREN argument_list_opt RPAREN SEMICOLON 
+            {
+              ConstructorCall RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token c = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.SuperCall(parser.pos(a, c, n), a, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(59/*explicit_constructor_invocation*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 129: // explicit_constructor_invocation ::= primary DOT THIS LPAREN argument_list_opt RPAREN SEMICOLON 
+            {
+              ConstructorCall RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token c = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.ThisCall(parser.pos(a, c, n), a, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(59/*explicit_constructor_invocation*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 128: // explicit_constructor_invocation ::= SUPER LPAREN argument_list_opt RPAREN SEMICOLON 
+            {
+              ConstructorCall RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token c = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.SuperCall(parser.pos(a, c), b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(59/*explicit_constructor_invocation*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 127: // explicit_constructor_invocation ::= THIS LPAREN argument_list_opt RPAREN SEMICOLON 
+            {
+              ConstructorCall RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token c = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.ThisCall(parser.pos(a, c), b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(59/*explicit_constructor_invocation*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 126: // constructor_body ::= LBRACE RBRACE 
+            {
+              Block RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Block(parser.pos(n, d),
+                parser.nf.SuperCall(parser.pos(n, d),
+                Collections.EMPTY_LIST)); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(58/*constructor_body*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 125: // constructor_body ::= LBRACE block_statements RBRACE 
+            {
+              Block RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 a.add(0, parser.nf.SuperCall(parser.pos(n, d), 
+                Collections.EMPTY_LIST));
+               RESULT = parser.nf.Block(parser.pos(n, d), a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(58/*constructor_body*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 124: // constructor_body ::= LBRACE explicit_constructor_invocation RBRACE 
+            {
+              Block RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		ConstructorCall a = (ConstructorCall)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Block(parser.pos(n, d), a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(58/*constructor_body*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 123: // constructor_body ::= LBRACE explicit_constructor_invocation block_statements RBRACE 
+            {
+              Block RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		ConstructorCall a = (ConstructorCall)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), Stmt.class, false);
+               l.add(a);
+               l.addAll(b);
+               RESULT = parser.nf.Block(parser.pos(n, d), l); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(58/*constructor_body*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 122: // constructor_declaration ::= modifiers_opt simple_name LPAREN formal_parameter_list_opt RPAREN throws_opt constructor_body 
+            {
+              ConstructorDecl RESULT = null;
+		int mleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int mright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		FlagsNode m = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block d = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.ConstructorDecl(parser.pos(a, d), m, parser.nf.Id(parser.pos(a), a.toString()), b,
+                c, d); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(57/*constructor_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 121: // static_initializer ::= STATIC block 
+            {
+              Initializer RESULT = null;
+		int xleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int xright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token x = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block a = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Initializer(parser.pos(x,a), parser.nf.FlagsNode(parser.pos(x), Flags.STATIC), a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(56/*static_initializer*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 120: // method_body ::= SEMICOLON 
+            {
+              Block RESULT = null;
+		 RESULT = null; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(55/*method_body*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 119: // method_body ::= block 
+            {
+              Block RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block a = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(55/*method_body*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 118: // class_type_list ::= class_type_list COMMA class_type 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode b = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a;
+               a.add(b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(54/*class_type_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 117: // class_type_list ::= class_type 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), TypeNode.class, false);
+               l.add(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(54/*class_type_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 116: // throws ::= THROWS class_type_list 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(53/*throws*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 115: // throws_opt ::= throws 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(52/*throws_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 114: // throws_opt ::= 
+            {
+              List RESULT = null;
+		 RESULT = new TypedList(new LinkedList(), TypeNode.class, false); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(52/*throws_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 113: // formal_parameter ::= FINAL type variable_declarator_id 
+            {
+              Formal RESULT = null;
+		int xleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int xright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token x = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		VarDeclarator b = (VarDeclarator)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Formal(parser.pos(a, b, b), parser.nf.FlagsNode(parser.pos(x), Flags.FINAL),
+                     parser.array(a, b.dims), b.name); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(51/*formal_parameter*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 112: // formal_parameter ::= type variable_declarator_id 
+            {
+              Formal RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		VarDeclarator b = (VarDeclarator)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Formal(parser.pos(a, b, b), parser.nf.FlagsNode(parser.pos(a), Flags.NONE),
+                                         parser.array(a, b.dims), b.name); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(51/*formal_parameter*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 111: // formal_parameter_list ::= formal_parameter_list COMMA formal_parameter 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Formal b = (Formal)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a;
+               a.add(b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(50/*formal_parameter_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 110: // formal_parameter_list ::= formal_parameter 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Formal a = (Formal)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), Formal.class, false);
+               l.add(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(50/*formal_parameter_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 109: // formal_parameter_list_opt ::= formal_parameter_list 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(49/*formal_parameter_list_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 108: // formal_parameter_list_opt ::= 
+            {
+              List RESULT = null;
+		 RESULT = new TypedList(new LinkedList(), Formal.class, false); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(49/*formal_parameter_list_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 107: // method_header ::= modifiers_opt VOID identifier LPAREN formal_parameter_list_opt RPAREN throws_opt 
+            {
+              MethodDecl RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		FlagsNode a = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Id c = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List d = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int gleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int gright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token g = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int fleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List f = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.MethodDecl(parser.pos(b, g, c), a,
+                parser.nf.CanonicalTypeNode(parser.pos(b),
+                parser.ts.Void()), c, d, f, null); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(48/*method_header*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 106: // method_header ::= modifiers_opt type identifier LPAREN formal_parameter_list_opt RPAREN dims_opt throws_opt 
+            {
+              MethodDecl RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).right;
+		FlagsNode a = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-7)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		TypeNode b = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		Id c = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		List d = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int gleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int gright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token g = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Integer e = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int fleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List f = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.MethodDecl(parser.pos(b, g, c), a,
+                parser.array(b, e.intValue()), c,
+                d, f, null); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(48/*method_header*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 105: // method_declaration ::= method_header method_body 
+            {
+              MethodDecl RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		MethodDecl a = (MethodDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block b = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = (MethodDecl) a.body(b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(47/*method_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 104: // variable_initializer ::= array_initializer 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ArrayInit a = (ArrayInit)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(46/*variable_initializer*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 103: // variable_initializer ::= expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(46/*variable_initializer*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 102: // variable_declarator_id ::= variable_declarator_id LBRACK RBRACK 
+            {
+              VarDeclarator RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		VarDeclarator a = (VarDeclarator)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		 RESULT = a;
+               a.dims++; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(45/*variable_declarator_id*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 101: // variable_declarator_id ::= identifier 
+            {
+              VarDeclarator RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Id a = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = new VarDeclarator(parser.pos(a), a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(45/*variable_declarator_id*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 100: // variable_declarator ::= variable_declarator_id EQ variable_initializer 
+            {
+              VarDeclarator RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		VarDeclarator a = (VarDeclarator)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a;
+               a.init = b; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(44/*variable_declarator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 99: // variable_declarator ::= variable_declarator_id 
+            {
+              VarDeclarator RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		VarDeclarator a = (VarDeclarator)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(44/*variable_declarator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 98: // variable_declarators ::= variable_declarators COMMA variable_declarator 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		VarDeclarator b = (VarDeclarator)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a;
+               a.add(b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(43/*variable_declarators*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 97: // variable_declarators ::= variable_declarator 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		VarDeclarator a = (VarDeclarator)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), VarDeclarator.class, false);
+               l.add(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(43/*variable_declarators*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 96: // field_declaration ::= modifiers_opt type variable_declarators SEMICOLON 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		FlagsNode a = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		TypeNode b = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token e = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               for (Iterator i = c.iterator(); i.hasNext(); ) {
+                   VarDeclarator d = (VarDeclarator) i.next();
+                   l.add(parser.nf.FieldDecl(parser.pos(b, e),
+                                             a, parser.array(b, d.dims),
+                                             d.name, d.init));
+               }
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(42/*field_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 95: // class_member_declaration ::= interface_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassDecl a = (ClassDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               l.add(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(41/*class_member_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 94: // class_member_declaration ::= modifiers_opt CLASS identifier super_opt interfaces_opt class_body 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		FlagsNode a = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		TypeNode c = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List d = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassBody e = (ClassBody)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               l.add(parser.nf.ClassDecl(parser.pos(n, e),
+                        a, b, c, d, e));
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(41/*class_member_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 93: // class_member_declaration ::= method_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		MethodDecl a = (MethodDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               l.add(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(41/*class_member_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 92: // class_member_declaration ::= field_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(41/*class_member_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          default:
+            {
+              throw new Exception(
+                 "Invalid action number found in internal parse table");
+            }
+
+        }
+    }
+
+  /** Method with the actual generated action code. */
+  public final java_cup.runtime.Symbol CUP$Grm$do_action_184(
+    int                        CUP$Grm$act_num,
+    java_cup.runtime.lr_parser CUP$Grm$parser,
+    java.util.Stack            CUP$Grm$stack,
+    int                        CUP$Grm$top)
+    throws java.lang.Exception
+    {
+      /* Symbol object for return from actions */
+      java_cup.runtime.Symbol CUP$Grm$result;
+
+      /* select the action based on the action number */
+      switch (CUP$Grm$act_num)
+        {
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 275: // dim_exprs ::= dim_expr 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), Expr.class, false);
+               l.add(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(123/*dim_exprs*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 274: // array_creation_expression ::= NEW class_or_interface_type dims array_initializer 
+            {
+              NewArray RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Integer b = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ArrayInit c = (ArrayInit)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.NewArray(parser.pos(n, c), a,
+                b.intValue(), c); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(122/*array_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 273: // array_creation_expression ::= NEW primitive_type dims array_initializer 
+            {
+              NewArray RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Integer b = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ArrayInit c = (ArrayInit)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.NewArray(parser.pos(n, c), a,
+                b.intValue(), c); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(122/*array_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 272: // array_creation_expression ::= NEW class_or_interface_type dim_exprs dims_opt 
+            {
+              NewArray RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Integer c = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.NewArray(parser.pos(n, b), a, b, 
+                c.intValue()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(122/*array_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 271: // array_creation_expression ::= NEW primitive_type dim_exprs dims_opt 
+            {
+              NewArray RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Integer c = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.NewArray(parser.pos(n, b), a, b,
+                c.intValue()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(122/*array_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 270: // argument_list ::= argument_list COMMA expression 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a;
+               a.add(b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(121/*argument_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 269: // argument_list ::= expression 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), Expr.class, false);
+               l.add(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(121/*argument_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 268: // argument_list_opt ::= argument_list 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(120/*argument_list_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 267: // argument_list_opt ::= 
+            {
+              List RESULT = null;
+		 RESULT = new TypedList(new LinkedList(), Expr.class, false); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(120/*argument_list_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 266: // class_instance_creation_expression ::= name DOT NEW simple_name LPAREN argument_list_opt RPAREN class_body 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-7)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		ParsedName b = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassBody d = (ClassBody)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.New(parser.pos(a, d), a.toExpr(),
+				      b.toType(), c, d); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(119/*class_instance_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 265: // class_instance_creation_expression ::= name DOT NEW simple_name LPAREN argument_list_opt RPAREN 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		ParsedName b = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.New(parser.pos(a, d), a.toExpr(),
+				      b.toType(), c); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(119/*class_instance_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 264: // class_instance_creation_expression ::= primary DOT NEW simple_name LPAREN argument_list_opt RPAREN class_body 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-7)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		ParsedName b = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassBody d = (ClassBody)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.New(parser.pos(a, d), a,
+				      b.toType(), c, d); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(119/*class_instance_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 263: // class_instance_creation_expression ::= primary DOT NEW simple_name LPAREN argument_list_opt RPAREN 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		ParsedName b = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.New(parser.pos(a, d), a,
+				      b.toType(), c); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(119/*class_instance_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 262: // class_instance_creation_expression ::= NEW class_type LPAREN argument_list_opt RPAREN class_body 
+            {
+              Expr RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassBody c = (ClassBody)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.New(parser.pos(n, c), a, b, c); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(119/*class_instance_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 261: // class_instance_creation_expression ::= NEW class_type LPAREN argument_list_opt RPAREN 
+            {
+              Expr RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.New(parser.pos(n, d), a, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(119/*class_instance_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 260: // primary_no_new_array ::= name DOT THIS 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.This(parser.pos(a, n, n), a.toType()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(118/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 259: // primary_no_new_array ::= name DOT CLASS 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.ClassLit(parser.pos(a, n, n), a.toType()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(118/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 258: // primary_no_new_array ::= array_type DOT CLASS 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.ClassLit(parser.pos(a, n, n), a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(118/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 257: // primary_no_new_array ::= VOID DOT CLASS 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.ClassLit(parser.pos(a, n, n), 
+                parser.nf.CanonicalTypeNode(parser.pos(a),
+                                            parser.ts.Void())); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(118/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 256: // primary_no_new_array ::= primitive_type DOT CLASS 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.ClassLit(parser.pos(a, n, n), a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(118/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 255: // primary_no_new_array ::= array_access 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ArrayAccess a = (ArrayAccess)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(118/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 254: // primary_no_new_array ::= method_invocation 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Call a = (Call)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(118/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 253: // primary_no_new_array ::= field_access 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Field a = (Field)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(118/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 252: // primary_no_new_array ::= class_instance_creation_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(118/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 251: // primary_no_new_array ::= LPAREN expression RPAREN 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(118/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 250: // primary_no_new_array ::= THIS 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.This(parser.pos(a)); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(118/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 249: // primary_no_new_array ::= literal 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.ast.Lit a = (polyglot.ast.Lit)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(118/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 248: // primary ::= array_creation_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		NewArray a = (NewArray)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(117/*primary*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 247: // primary ::= primary_no_new_array 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(117/*primary*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 246: // assert_statement ::= ASSERT expression COLON expression SEMICOLON 
+            {
+              Assert RESULT = null;
+		int xleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int xright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token x = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Assert(parser.pos(x, d), a, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(116/*assert_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 245: // assert_statement ::= ASSERT expression SEMICOLON 
+            {
+              Assert RESULT = null;
+		int xleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int xright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token x = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Assert(parser.pos(x, d), a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(116/*assert_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 244: // finally ::= FINALLY block 
+            {
+              Block RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block a = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(115/*finally*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 243: // catch_clause ::= CATCH LPAREN formal_parameter RPAREN block 
+            {
+              Catch RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Formal a = (Formal)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block b = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Catch(parser.pos(n, b), a, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(114/*catch_clause*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 242: // catches ::= catches catch_clause 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Catch b = (Catch)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a;
+               a.add(b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(113/*catches*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 241: // catches ::= catch_clause 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Catch a = (Catch)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), Catch.class, false);
+               l.add(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(113/*catches*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 240: // catches_opt ::= catches 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(112/*catches_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 239: // catches_opt ::= 
+            {
+              List RESULT = null;
+		 RESULT = new TypedList(new LinkedList(), Catch.class, false); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(112/*catches_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 238: // try_statement ::= TRY block catches_opt finally 
+            {
+              Try RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Block a = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block c = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Try(parser.pos(n, c), a, b, c); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(111/*try_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 237: // try_statement ::= TRY block catches 
+            {
+              Try RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Block a = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Try(parser.pos(n, b), a, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(111/*try_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 236: // synchronized_statement ::= SYNCHRONIZED LPAREN expression RPAREN block 
+            {
+              Synchronized RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block b = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Synchronized(parser.pos(n, b), a, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(110/*synchronized_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 235: // throw_statement ::= THROW expression SEMICOLON 
+            {
+              Throw RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Throw(parser.pos(n, d), a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(109/*throw_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 234: // return_statement ::= RETURN expression_opt SEMICOLON 
+            {
+              Return RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Return(parser.pos(n, d), a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(108/*return_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 233: // continue_statement ::= CONTINUE identifier_opt SEMICOLON 
+            {
+              Branch RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Id a = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 if (a == null)
+                   RESULT = parser.nf.Continue(parser.pos(n, d));
+               else
+                   RESULT = parser.nf.Continue(parser.pos(n, d), a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(107/*continue_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 232: // break_statement ::= BREAK identifier_opt SEMICOLON 
+            {
+              Branch RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Id a = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 if (a == null)
+                   RESULT = parser.nf.Break(parser.pos(n, d));
+               else
+                   RESULT = parser.nf.Break(parser.pos(n, d), a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(106/*break_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 231: // identifier_opt ::= identifier 
+            {
+              Id RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Id a = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(104/*identifier_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 230: // identifier_opt ::= 
+            {
+              Id RESULT = null;
+		 RESULT = null; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(104/*identifier_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 229: // statement_expression_list ::= statement_expression_list COMMA statement_expression 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a;
+               a.add(parser.nf.Eval(parser.pos(a, b, b), b)); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(103/*statement_expression_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 228: // statement_expression_list ::= statement_expression 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), Eval.class, false);
+               l.add(parser.nf.Eval(parser.pos(a), a));
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(103/*statement_expression_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 227: // for_update ::= statement_expression_list 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(102/*for_update*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 226: // for_update_opt ::= for_update 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(101/*for_update_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 225: // for_update_opt ::= 
+            {
+              List RESULT = null;
+		 RESULT = new TypedList(new LinkedList(), ForUpdate.class, false); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(101/*for_update_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 224: // for_init ::= local_variable_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), ForInit.class, false);
+               l.addAll(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(100/*for_init*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 223: // for_init ::= statement_expression_list 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(100/*for_init*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 222: // for_init_opt ::= for_init 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(99/*for_init_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 221: // for_init_opt ::= 
+            {
+              List RESULT = null;
+		 RESULT = new TypedList(new LinkedList(), ForInit.class, false); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(99/*for_init_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 220: // for_statement_no_short_if ::= FOR LPAREN for_init_opt SEMICOLON expression_opt SEMICOLON for_update_opt RPAREN statement_no_short_if 
+            {
+              For RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-8)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-8)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-8)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token e = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt d = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.For(parser.pos(n, e), a, b, c, d); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(98/*for_statement_no_short_if*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-8)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 219: // for_statement ::= FOR LPAREN for_init_opt SEMICOLON expression_opt SEMICOLON for_update_opt RPAREN statement 
+            {
+              For RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-8)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-8)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-8)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token e = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt d = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.For(parser.pos(n, e), a, b, c, d); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(97/*for_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-8)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 218: // do_statement ::= DO statement WHILE LPAREN expression RPAREN SEMICOLON 
+            {
+              Do RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		Stmt a = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Do(parser.pos(n, d), a, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(96/*do_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 217: // while_statement_no_short_if ::= WHILE LPAREN expression RPAREN statement_no_short_if 
+            {
+              While RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt b = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.While(parser.pos(n, b), a, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(95/*while_statement_no_short_if*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 216: // while_statement ::= WHILE LPAREN expression RPAREN statement 
+            {
+              While RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt b = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.While(parser.pos(n, b), a, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(94/*while_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 215: // switch_label ::= DEFAULT COLON 
+            {
+              Case RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Default(parser.pos(n, d)); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(93/*switch_label*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 214: // switch_label ::= CASE constant_expression COLON 
+            {
+              Case RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Case(parser.pos(n, d), a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(93/*switch_label*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 213: // switch_labels ::= switch_labels switch_label 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Case b = (Case)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a;
+               a.add(b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(92/*switch_labels*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 212: // switch_labels ::= switch_label 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Case a = (Case)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), Case.class, false);
+               l.add(a);
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(92/*switch_labels*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 211: // switch_block_statement_group ::= switch_labels block_statements 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new TypedList(new LinkedList(), SwitchElement.class, false);
+               l.addAll(a); 
+               l.add(parser.nf.SwitchBlock(parser.pos(a, b), b));
+               RESULT = l; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(91/*switch_block_statement_group*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 210: // switch_block_statement_groups ::= switch_block_statement_groups switch_block_statement_group 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a;
+               a.addAll(b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(90/*switch_block_statement_groups*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 209: // switch_block_statement_groups ::= switch_block_statement_group 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(90/*switch_block_statement_groups*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 208: // switch_block ::= LBRACE RBRACE 
+            {
+              List RESULT = null;
+		 RESULT = new TypedList(new LinkedList(), SwitchElement.class, false); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(89/*switch_block*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 207: // switch_block ::= LBRACE switch_labels RBRACE 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(89/*switch_block*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 206: // switch_block ::= LBRACE switch_block_statement_groups RBRACE 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(89/*switch_block*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 205: // switch_block ::= LBRACE switch_block_statement_groups switch_labels RBRACE 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		 RESULT = a;
+               a.addAll(b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(89/*switch_block*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 204: // switch_statement ::= SWITCH LPAREN expression RPAREN switch_block 
+            {
+              Switch RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int rprnleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int rprnright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token rprn = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 
+               Position endpos = parser.pos(n, b);
+               if (endpos == null) endpos = parser.pos(n, rprn);
+               RESULT = parser.nf.Switch(endpos, a, b); 
+            
+              CUP$Grm$result = new java_cup.runtime.Symbol(88/*switch_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 203: // if_then_else_statement_no_short_if ::= IF LPAREN expression RPAREN statement_no_short_if ELSE statement_no_short_if 
+            {
+              If RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Stmt b = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt c = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.If(parser.pos(n, c), a, b, c); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(87/*if_then_else_statement_no_short_if*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 202: // if_then_else_statement ::= IF LPAREN expression RPAREN statement_no_short_if ELSE statement 
+            {
+              If RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Stmt b = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt c = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.If(parser.pos(n, c), a, b, c); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(86/*if_then_else_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 201: // if_then_statement ::= IF LPAREN expression RPAREN statement 
+            {
+              If RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt b = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.If(parser.pos(n, b), a, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(85/*if_then_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 200: // statement_expression ::= class_instance_creation_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(84/*statement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 199: // statement_expression ::= method_invocation 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Call a = (Call)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(84/*statement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 198: // statement_expression ::= postdecrement_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Unary a = (Unary)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(84/*statement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 197: // statement_expression ::= postincrement_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Unary a = (Unary)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(84/*statement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 196: // statement_expression ::= predecrement_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Unary a = (Unary)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(84/*statement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 195: // statement_expression ::= preincrement_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Unary a = (Unary)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(84/*statement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 194: // statement_expression ::= assignment 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(84/*statement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 193: // expression_statement ::= statement_expression SEMICOLON 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Eval(parser.pos(a, d), a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(83/*expression_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 192: // labeled_statement_no_short_if ::= identifier COLON statement_no_short_if 
+            {
+              Labeled RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Id a = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt b = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Labeled(parser.pos(a, b),
+                                      a, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(82/*labeled_statement_no_short_if*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 191: // labeled_statement ::= identifier COLON statement 
+            {
+              Labeled RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Id a = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt b = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Labeled(parser.pos(a, b),
+                                      a, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(81/*labeled_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 190: // empty_statement ::= SEMICOLON 
+            {
+              Empty RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Empty(parser.pos(a)); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(80/*empty_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 189: // statement_without_trailing_substatement ::= assert_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Assert a = (Assert)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(79/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 188: // statement_without_trailing_substatement ::= try_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Try a = (Try)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(79/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 187: // statement_without_trailing_substatement ::= throw_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Throw a = (Throw)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(79/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 186: // statement_without_trailing_substatement ::= synchronized_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Synchronized a = (Synchronized)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(79/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 185: // statement_without_trailing_substatement ::= return_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Return a = (Return)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(79/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 184: // statement_without_trailing_substatement ::= continue_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Branch a = (Branch)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(79/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          default:
+            {
+              throw new Exception(
+                 "Invalid action number found in internal parse table");
+            }
+
+        }
+    }
+
+  /** Method with the actual generated action code. */
+  public final java_cup.runtime.Symbol CUP$Grm$do_action_276(
+    int                        CUP$Grm$act_num,
+    java_cup.runtime.lr_parser CUP$Grm$parser,
+    java.util.Stack            CUP$Grm$stack,
+    int                        CUP$Grm$top)
+    throws java.lang.Exception
+    {
+      /* Symbol object for return from actions */
+      java_cup.runtime.Symbol CUP$Grm$result;
+
+      /* select the action based on the action number */
+      switch (CUP$Grm$act_num)
+        {
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 366: // identifier ::= IDENTIFIER 
+            {
+              Id RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Identifier a = (Identifier)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Id(parser.pos(a), a.getIdentifier()); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(105/*identifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 365: // constant_expression ::= expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(155/*constant_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 364: // expression ::= assignment_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(154/*expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 363: // expression_opt ::= expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(153/*expression_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 362: // expression_opt ::= 
+            {
+              Expr RESULT = null;
+		 RESULT = null; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(153/*expression_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 361: // assignment_operator ::= OREQ 
+            {
+              Assign.Operator RESULT = null;
+		 RESULT = Assign.BIT_OR_ASSIGN; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(152/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 360: // assignment_operator ::= XOREQ 
+            {
+              Assign.Operator RESULT = null;
+		 RESULT = Assign.BIT_XOR_ASSIGN; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(152/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 359: // assignment_operator ::= ANDEQ 
+            {
+              Assign.Operator RESULT = null;
+		 RESULT = Assign.BIT_AND_ASSIGN; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(152/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 358: // assignment_operator ::= URSHIFTEQ 
+            {
+              Assign.Operator RESULT = null;
+		 RESULT = Assign.USHR_ASSIGN; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(152/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 357: // assignment_operator ::= RSHIFTEQ 
+            {
+              Assign.Operator RESULT = null;
+		 RESULT = Assign.SHR_ASSIGN; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(152/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 356: // assignment_operator ::= LSHIFTEQ 
+            {
+              Assign.Operator RESULT = null;
+		 RESULT = Assign.SHL_ASSIGN; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(152/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 355: // assignment_operator ::= MINUSEQ 
+            {
+              Assign.Operator RESULT = null;
+		 RESULT = Assign.SUB_ASSIGN; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(152/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 354: // assignment_operator ::= PLUSEQ 
+            {
+              Assign.Operator RESULT = null;
+		 RESULT = Assign.ADD_ASSIGN; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(152/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 353: // assignment_operator ::= MODEQ 
+            {
+              Assign.Operator RESULT = null;
+		 RESULT = Assign.MOD_ASSIGN; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(152/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 352: // assignment_operator ::= DIVEQ 
+            {
+              Assign.Operator RESULT = null;
+		 RESULT = Assign.DIV_ASSIGN; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(152/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 351: // assignment_operator ::= MULTEQ 
+            {
+              Assign.Operator RESULT = null;
+		 RESULT = Assign.MUL_ASSIGN; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(152/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 350: // assignment_operator ::= EQ 
+            {
+              Assign.Operator RESULT = null;
+		 RESULT = Assign.ASSIGN; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(152/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 349: // left_hand_side ::= array_access 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ArrayAccess a = (ArrayAccess)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(151/*left_hand_side*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 348: // left_hand_side ::= field_access 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Field a = (Field)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(151/*left_hand_side*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 347: // left_hand_side ::= name 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a.toExpr(); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(151/*left_hand_side*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 346: // assignment ::= left_hand_side assignment_operator assignment_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Assign.Operator b = (Assign.Operator)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr c = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Assign(parser.pos(a, c), a, b, c); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(150/*assignment*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 345: // assignment_expression ::= assignment 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(149/*assignment_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 344: // assignment_expression ::= conditional_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(149/*assignment_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 343: // conditional_expression ::= conditional_or_expression QUESTION expression COLON conditional_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr c = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Conditional(parser.pos(a, c), a, 
+                b, c); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(148/*conditional_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 342: // conditional_expression ::= conditional_or_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(148/*conditional_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 341: // conditional_or_expression ::= conditional_or_expression OROR conditional_and_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.COND_OR, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(147/*conditional_or_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 340: // conditional_or_expression ::= conditional_and_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(147/*conditional_or_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 339: // conditional_and_expression ::= conditional_and_expression ANDAND inclusive_or_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.COND_AND, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(146/*conditional_and_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 338: // conditional_and_expression ::= inclusive_or_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(146/*conditional_and_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 337: // inclusive_or_expression ::= inclusive_or_expression OR exclusive_or_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.BIT_OR, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(145/*inclusive_or_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 336: // inclusive_or_expression ::= exclusive_or_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(145/*inclusive_or_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 335: // exclusive_or_expression ::= exclusive_or_expression XOR and_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.BIT_XOR, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(144/*exclusive_or_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 334: // exclusive_or_expression ::= and_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(144/*exclusive_or_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 333: // and_expression ::= and_expression AND equality_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.BIT_AND, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(143/*and_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 332: // and_expression ::= equality_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(143/*and_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 331: // equality_expression ::= equality_expression NOTEQ relational_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.NE, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(142/*equality_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 330: // equality_expression ::= equality_expression EQEQ relational_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.EQ, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(142/*equality_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 329: // equality_expression ::= relational_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(142/*equality_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 328: // relational_expression ::= relational_expression INSTANCEOF reference_type 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode b = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Instanceof(parser.pos(a, b), a, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(141/*relational_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 327: // relational_expression ::= relational_expression GTEQ shift_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.GE, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(141/*relational_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 326: // relational_expression ::= relational_expression LTEQ shift_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.LE, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(141/*relational_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 325: // relational_expression ::= relational_expression GT shift_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.GT, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(141/*relational_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 324: // relational_expression ::= relational_expression LT shift_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.LT, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(141/*relational_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 323: // relational_expression ::= shift_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(141/*relational_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 322: // shift_expression ::= shift_expression URSHIFT additive_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.USHR, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(140/*shift_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 321: // shift_expression ::= shift_expression RSHIFT additive_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.SHR, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(140/*shift_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 320: // shift_expression ::= shift_expression LSHIFT additive_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.SHL, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(140/*shift_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 319: // shift_expression ::= additive_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(140/*shift_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 318: // additive_expression ::= additive_expression MINUS multiplicative_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.SUB, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(139/*additive_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 317: // additive_expression ::= additive_expression PLUS multiplicative_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.ADD, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(139/*additive_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 316: // additive_expression ::= multiplicative_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(139/*additive_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 315: // multiplicative_expression ::= multiplicative_expression MOD unary_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.MOD, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(138/*multiplicative_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 314: // multiplicative_expression ::= multiplicative_expression DIV unary_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.DIV, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(138/*multiplicative_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 313: // multiplicative_expression ::= multiplicative_expression MULT unary_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.MUL, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(138/*multiplicative_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 312: // multiplicative_expression ::= unary_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(138/*multiplicative_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 311: // cast_expression ::= LPAREN name dims RPAREN unary_expression_not_plus_minus 
+            {
+              Cast RESULT = null;
+		int pleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int pright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token p = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Integer b = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr c = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Cast(parser.pos(p, c,a),
+                parser.array(a.toType(), b.intValue()), c); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(137/*cast_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 310: // cast_expression ::= LPAREN expression RPAREN unary_expression_not_plus_minus 
+            {
+              Cast RESULT = null;
+		int pleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int pright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token p = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Cast(parser.pos(p, b,a),
+                parser.exprToType(a), b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(137/*cast_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 309: // cast_expression ::= LPAREN primitive_type dims_opt RPAREN unary_expression 
+            {
+              Cast RESULT = null;
+		int pleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int pright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token p = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Integer b = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr c = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Cast(parser.pos(p, c,a),
+                parser.array(a, b.intValue()), c); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(137/*cast_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 308: // unary_expression_not_plus_minus ::= cast_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Cast a = (Cast)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(134/*unary_expression_not_plus_minus*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 307: // unary_expression_not_plus_minus ::= NOT unary_expression 
+            {
+              Expr RESULT = null;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Unary(parser.pos(b,a,a), Unary.NOT, a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(134/*unary_expression_not_plus_minus*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 306: // unary_expression_not_plus_minus ::= COMP unary_expression 
+            {
+              Expr RESULT = null;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Unary(parser.pos(b,a,a), Unary.BIT_NOT, a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(134/*unary_expression_not_plus_minus*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 305: // unary_expression_not_plus_minus ::= postfix_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(134/*unary_expression_not_plus_minus*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 304: // predecrement_expression ::= MINUSMINUS unary_expression 
+            {
+              Unary RESULT = null;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Unary(parser.pos(b,a,a), Unary.PRE_DEC, a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(136/*predecrement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 303: // preincrement_expression ::= PLUSPLUS unary_expression 
+            {
+              Unary RESULT = null;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Unary(parser.pos(b,a,a), Unary.PRE_INC, a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(135/*preincrement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 302: // unary_expression ::= unary_expression_not_plus_minus 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(133/*unary_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 301: // unary_expression ::= MINUS boundary_literal 
+            {
+              Expr RESULT = null;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.ast.Lit a = (polyglot.ast.Lit)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Unary(parser.pos(b,a,a), Unary.NEG, a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(133/*unary_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 300: // unary_expression ::= MINUS unary_expression 
+            {
+              Expr RESULT = null;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Unary(parser.pos(b,a,a), Unary.NEG, a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(133/*unary_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 299: // unary_expression ::= PLUS unary_expression 
+            {
+              Expr RESULT = null;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Unary(parser.pos(b,a,a), Unary.POS, a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(133/*unary_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 298: // unary_expression ::= predecrement_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Unary a = (Unary)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(133/*unary_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 297: // unary_expression ::= preincrement_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Unary a = (Unary)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(133/*unary_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 296: // postdecrement_expression ::= postfix_expression MINUSMINUS 
+            {
+              Unary RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Unary(parser.pos(a,b), a, Unary.POST_DEC); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(132/*postdecrement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 295: // postincrement_expression ::= postfix_expression PLUSPLUS 
+            {
+              Unary RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Unary(parser.pos(a,b), a, Unary.POST_INC); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(131/*postincrement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 294: // postfix_expression ::= postdecrement_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Unary a = (Unary)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(130/*postfix_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 293: // postfix_expression ::= postincrement_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Unary a = (Unary)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(130/*postfix_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 292: // postfix_expression ::= name 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a.toExpr(); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(130/*postfix_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 291: // postfix_expression ::= primary 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(130/*postfix_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 290: // array_access ::= primary_no_new_array LBRACK expression RBRACK 
+            {
+              ArrayAccess RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.ArrayAccess(parser.pos(a, d), a, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(129/*array_access*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 289: // array_access ::= name LBRACK expression RBRACK 
+            {
+              ArrayAccess RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.ArrayAccess(parser.pos(a, d), a.toExpr(), b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(129/*array_access*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 288: // method_invocation ::= name DOT SUPER DOT identifier LPAREN argument_list_opt RPAREN 
+            {
+              Call RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-7)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Call(parser.pos(b,d),
+                parser.nf.Super(parser.pos(n), a.toType()),
+                b, c); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(128/*method_invocation*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 287: // method_invocation ::= SUPER DOT identifier LPAREN argument_list_opt RPAREN 
+            {
+              Call RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Call(parser.pos(a,d, b),
+                parser.nf.Super(parser.pos(a)),
+                b, c); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(128/*method_invocation*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 286: // method_invocation ::= primary DOT identifier LPAREN argument_list_opt RPAREN 
+            {
+              Call RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Call(parser.pos(b,d), a,
+                b, c); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(128/*method_invocation*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 285: // method_invocation ::= name LPAREN argument_list_opt RPAREN 
+            {
+              Call RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Call(parser.pos(a,d),
+                a.prefix == null ? null : a.prefix.toReceiver(),
+                a.name, b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(128/*method_invocation*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 284: // field_access ::= name DOT SUPER DOT identifier 
+            {
+              Field RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Field(parser.pos(b),
+                parser.nf.Super(parser.pos(n), a.toType()),
+                b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(127/*field_access*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 283: // field_access ::= SUPER DOT identifier 
+            {
+              Field RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Id a = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Field(parser.pos(a),
+                parser.nf.Super(parser.pos(n)),
+                a); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(127/*field_access*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 282: // field_access ::= primary DOT identifier 
+            {
+              Field RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = parser.nf.Field(parser.pos(a, b, b), a,
+                b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(127/*field_access*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 281: // dims ::= dims LBRACK RBRACK 
+            {
+              Integer RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Integer a = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		 RESULT = new Integer(a.intValue() + 1); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(126/*dims*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 280: // dims ::= LBRACK RBRACK 
+            {
+              Integer RESULT = null;
+		 RESULT = new Integer(1); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(126/*dims*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 279: // dims_opt ::= dims 
+            {
+              Integer RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Integer a = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(125/*dims_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 278: // dims_opt ::= 
+            {
+              Integer RESULT = null;
+		 RESULT = new Integer(0); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(125/*dims_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 277: // dim_expr ::= LBRACK expression RBRACK 
+            {
+              Expr RESULT = null;
+		int xleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int xright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token x = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int yleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int yright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token y = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = (Expr)a.position(parser.pos(x,y,a)); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(124/*dim_expr*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 276: // dim_exprs ::= dim_exprs dim_expr 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a;
+               a.add(b); 
+              CUP$Grm$result = new java_cup.runtime.Symbol(123/*dim_exprs*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          default:
+            {
+              throw new Exception(
+                 "Invalid action number found in internal parse table");
+            }
+
+        }
+    }
+}
+
@@ -0,0 +1,9584 @@
+
+//----------------------------------------------------
+// The following code was generated by CUP v0.10k
+// Sat Oct 17 19:02:38 UTC 2026
+//----------------------------------------------------
+
+package polyglot.qq;
+
+import java.util.*;
+import java_cup.runtime.*;
+import polyglot.ast.*;
+import polyglot.lex.*;
+import polyglot.util.*;
+import polyglot.types.TypeSystem;
+import polyglot.types.Flags;
+import polyglot.types.QName;
+import polyglot.ast.Assert;
+import polyglot.parse.ParsedName;
+import polyglot.parse.VarDeclarator;
+import polyglot.lex.Lexer;
+
+/** CUP v0.10k generated parser.
+  * @version Sat Oct 17 19:02:38 UTC 2026
+  */
+public class Grm
+ extends polyglot.parse.Grm implements QQParser
+{
+
+  /** Production table. */
+  protected static final short _production_table[][] = 
+    unpackFromStrings(new String[] {
+    "\000\u018f\000\002\002\004\000\002\003\003\000\002\003" +
+    "\003\000\002\003\003\000\002\003\003\000\002\003\003" +
+    "\000\002\003\003\000\002\003\003\000\002\003\003\000" +
+    "\002\004\003\000\002\004\003\000\002\005\003\000\002" +
+    "\005\003\000\002\006\003\000\002\006\003\000\002\007" +
+    "\003\000\002\007\003\000\002\010\003\000\002\010\003" +
+    "\000\002\010\003\000\002\010\003\000\002\010\003\000" +
+    "\002\011\003\000\002\011\003\000\002\012\003\000\002" +
+    "\012\003\000\002\013\003\000\002\013\003\000\002\014" +
+    "\003\000\002\015\003\000\002\016\004\000\002\016\004" +
+    "\000\002\016\004\000\002\017\003\000\002\017\003\000" +
+    "\002\020\003\000\002\021\005\000\002\022\005\000\002" +
+    "\022\004\000\002\023\003\000\002\023\002\000\002\025" +
+    "\003\000\002\025\002\000\002\027\003\000\002\027\002" +
+    "\000\002\026\003\000\002\026\004\000\002\030\003\000" +
+    "\002\030\004\000\002\024\005\000\002\031\003\000\002" +
+    "\031\003\000\002\032\005\000\002\033\007\000\002\034" +
+    "\003\000\002\034\003\000\002\034\003\000\002\034\003" +
+    "\000\002\035\002\000\002\035\003\000\002\036\003\000" +
+    "\002\036\004\000\002\037\003\000\002\037\003\000\002" +
+    "\037\003\000\002\037\003\000\002\037\003\000\002\037" +
+    "\003\000\002\037\003\000\002\037\003\000\002\037\003" +
+    "\000\002\037\003\000\002\037\003\000\002\040\010\000" +
+    "\002\041\004\000\002\042\002\000\002\042\003\000\002" +
+    "\043\004\000\002\044\002\000\002\044\003\000\002\045" +
+    "\003\000\002\045\005\000\002\046\005\000\002\050\002" +
+    "\000\002\050\003\000\002\047\003\000\002\047\004\000" +
+    "\002\047\003\000\002\051\003\000\002\051\003\000\002" +
+    "\051\003\000\002\051\003\000\002\051\003\000\002\051" +
+    "\004\000\002\051\004\000\002\052\003\000\002\052\003" +
+    "\000\002\052\010\000\002\052\003\000\002\052\003\000" +
+    "\002\053\006\000\002\054\003\000\002\054\005\000\002" +
+    "\055\003\000\002\055\005\000\002\056\003\000\002\056" +
+    "\005\000\002\057\003\000\002\057\003\000\002\060\004" +
+    "\000\002\061\012\000\002\061\011\000\002\062\002\000" +
+    "\002\062\003\000\002\063\003\000\002\063\005\000\002" +
+    "\063\003\000\002\064\004\000\002\064\005\000\002\064" +
+    "\003\000\002\065\002\000\002\065\003\000\002\066\004" +
+    "\000\002\066\003\000\002\067\003\000\002\067\005\000" +
+    "\002\067\003\000\002\070\003\000\002\070\003\000\002" +
+    "\071\004\000\002\072\011\000\002\073\004\000\002\073" +
+    "\005\000\002\074\007\000\002\074\007\000\002\074\011" +
+    "\000\002\074\011\000\002\075\007\000\002\076\002\000" +
+    "\002\076\003\000\002\077\004\000\002\077\005\000\002" +
+    "\100\005\000\002\101\002\000\002\101\003\000\002\102" +
+    "\003\000\002\102\004\000\002\102\003\000\002\103\003" +
+    "\000\002\103\003\000\002\103\003\000\002\103\003\000" +
+    "\002\103\003\000\002\104\003\000\002\105\004\000\002" +
+    "\106\006\000\002\106\005\000\002\106\005\000\002\106" +
+    "\004\000\002\107\003\000\002\107\005\000\002\110\005" +
+    "\000\002\110\004\000\002\111\002\000\002\111\003\000" +
+    "\002\112\003\000\002\112\004\000\002\112\003\000\002" +
+    "\113\003\000\002\113\003\000\002\113\003\000\002\114" +
+    "\004\000\002\115\004\000\002\115\005\000\002\116\003" +
+    "\000\002\116\003\000\002\116\003\000\002\116\003\000" +
+    "\002\116\003\000\002\116\003\000\002\116\004\000\002" +
+    "\116\003\000\002\116\003\000\002\117\003\000\002\117" +
+    "\003\000\002\117\003\000\002\117\003\000\002\117\003" +
+    "\000\002\120\003\000\002\120\003\000\002\120\003\000" +
+    "\002\120\003\000\002\120\003\000\002\120\003\000\002" +
+    "\120\003\000\002\120\003\000\002\120\003\000\002\120" +
+    "\003\000\002\120\003\000\002\120\003\000\002\121\003" +
+    "\000\002\122\005\000\002\123\005\000\002\124\004\000" +
+    "\002\125\003\000\002\125\003\000\002\125\003\000\002" +
+    "\125\003\000\002\125\003\000\002\125\003\000\002\125" +
+    "\003\000\002\125\003\000\002\126\007\000\002\127\011" +
+    "\000\002\130\011\000\002\131\007\000\002\132\006\000" +
+    "\002\132\005\000\002\132\005\000\002\132\004\000\002" +
+    "\133\003\000\002\133\004\000\002\133\003\000\002\134" +
+    "\004\000\002\135\003\000\002\135\004\000\002\136\005" +
+    "\000\002\136\004\000\002\137\007\000\002\140\007\000" +
+    "\002\141\011\000\002\142\013\000\002\143\013\000\002" +
+    "\144\002\000\002\144\003\000\002\145\003\000\002\145" +
+    "\003\000\002\146\002\000\002\146\003\000\002\147\003" +
+    "\000\002\150\003\000\002\150\005\000\002\151\002\000" +
+    "\002\151\003\000\002\153\005\000\002\154\005\000\002" +
+    "\155\005\000\002\156\005\000\002\157\007\000\002\160" +
+    "\005\000\002\160\006\000\002\161\002\000\002\161\003" +
+    "\000\002\162\003\000\002\162\004\000\002\163\007\000" +
+    "\002\164\004\000\002\165\005\000\002\165\007\000\002" +
+    "\166\003\000\002\166\003\000\002\167\003\000\002\167" +
+    "\003\000\002\167\005\000\002\167\003\000\002\167\003" +
+    "\000\002\167\003\000\002\167\003\000\002\167\005\000" +
+    "\002\167\005\000\002\167\005\000\002\167\005\000\002" +
+    "\167\005\000\002\167\003\000\002\170\007\000\002\170" +
+    "\010\000\002\170\011\000\002\170\012\000\002\170\011" +
+    "\000\002\170\012\000\002\171\002\000\002\171\003\000" +
+    "\002\172\003\000\002\172\005\000\002\172\003\000\002" +
+    "\173\006\000\002\173\006\000\002\173\006\000\002\173" +
+    "\006\000\002\174\003\000\002\174\004\000\002\175\005" +
+    "\000\002\176\002\000\002\176\003\000\002\177\004\000" +
+    "\002\177\005\000\002\200\005\000\002\200\005\000\002" +
+    "\200\007\000\002\200\005\000\002\201\006\000\002\201" +
+    "\010\000\002\201\010\000\002\201\012\000\002\201\010" +
+    "\000\002\202\006\000\002\202\006\000\002\203\003\000" +
+    "\002\203\003\000\002\203\003\000\002\203\003\000\002" +
+    "\204\004\000\002\205\004\000\002\206\003\000\002\206" +
+    "\003\000\002\206\004\000\002\206\004\000\002\206\004" +
+    "\000\002\206\003\000\002\210\004\000\002\211\004\000" +
+    "\002\207\003\000\002\207\004\000\002\207\004\000\002" +
+    "\207\003\000\002\212\007\000\002\212\006\000\002\212" +
+    "\007\000\002\212\006\000\002\213\003\000\002\213\005" +
+    "\000\002\213\005\000\002\213\005\000\002\214\003\000" +
+    "\002\214\005\000\002\214\005\000\002\215\003\000\002" +
+    "\215\005\000\002\215\005\000\002\215\005\000\002\216" +
+    "\003\000\002\216\005\000\002\216\005\000\002\216\005" +
+    "\000\002\216\005\000\002\216\005\000\002\217\003\000" +
+    "\002\217\005\000\002\217\005\000\002\220\003\000\002" +
+    "\220\005\000\002\221\003\000\002\221\005\000\002\222" +
+    "\003\000\002\222\005\000\002\223\003\000\002\223\005" +
+    "\000\002\224\003\000\002\224\005\000\002\225\003\000" +
+    "\002\225\007\000\002\226\003\000\002\226\003\000\002" +
+    "\227\005\000\002\230\003\000\002\230\003\000\002\230" +
+    "\003\000\002\230\003\000\002\231\003\000\002\231\003" +
+    "\000\002\231\003\000\002\231\003\000\002\231\003\000" +
+    "\002\231\003\000\002\231\003\000\002\231\003\000\002" +
+    "\231\003\000\002\231\003\000\002\231\003\000\002\231" +
+    "\003\000\002\232\002\000\002\232\003\000\002\233\003" +
+    "\000\002\234\003\000\002\152\003\000\002\243\004\000" +
+    "\002\243\004\000\002\243\004\000\002\243\004\000\002" +
+    "\243\004\000\002\243\004\000\002\235\003\000\002\236" +
+    "\003\000\002\237\003\000\002\240\003\000\002\241\003" +
+    "\000\002\242\003\000\002\242\006\000\002\242\003" });
+
+  /** Access to production table. */
+  public short[][] production_table() {return _production_table;}
+
+  /** Parse-action table. */
+  protected static final short[][] _action_table = 
+    unpackFromStrings(new String[] {
+    "\000\u02a4\000\016\165\006\166\005\167\004\170\012\171" +
+    "\010\172\007\001\002\000\026\004\126\005\116\006\132" +
+    "\007\115\010\113\011\117\012\130\013\136\016\042\161" +
+    "\123\001\002\000\154\003\307\004\126\005\116\006\132" +
+    "\007\115\010\113\011\117\012\130\013\136\016\042\020" +
+    "\274\023\075\026\231\033\023\034\026\035\017\036\025" +
+    "\037\033\040\235\041\020\042\312\043\027\044\024\045" +
+    "\uffc7\050\264\052\275\053\247\055\314\057\257\062\260" +
+    "\063\252\064\262\065\270\066\313\067\265\070\223\071" +
+    "\266\074\324\075\323\076\316\140\234\142\251\144\221" +
+    "\145\304\146\242\147\322\150\273\151\272\152\015\153" +
+    "\320\156\261\160\254\161\327\001\002\000\076\004\126" +
+    "\005\116\006\132\007\115\010\113\011\117\012\130\013" +
+    "\136\016\042\026\345\050\264\052\365\053\355\074\324" +
+    "\075\323\076\316\077\356\100\374\101\353\102\347\140" +
+    "\234\142\251\144\221\145\304\146\242\147\322\150\273" +
+    "\151\272\156\357\161\u0103\001\002\000\056\004\uffc7\005" +
+    "\uffc7\006\uffc7\007\uffc7\010\uffc7\011\uffc7\012\uffc7\013\uffc7" +
+    "\016\uffc7\033\023\034\026\035\017\036\025\037\033\040" +
+    "\031\041\020\042\034\043\027\044\024\050\uffc7\152\015" +
+    "\161\uffc7\001\002\000\050\002\uffd9\003\u0282\020\uffd9\031" +
+    "\u0284\032\uffd9\033\uffd9\034\uffd9\035\uffd9\036\uffd9\037\uffd9" +
+    "\040\uffd9\041\uffd9\042\uffd9\043\uffd9\044\uffd9\045\uffd9\054" +
+    "\uffd9\152\uffd9\162\uffd9\001\002\000\004\002\u027f\001\002" +
+    "\000\040\020\016\033\023\034\026\035\017\036\025\037" +
+    "\033\040\031\041\020\042\034\043\027\044\024\045\uffc7" +
+    "\054\uffc7\152\015\162\022\001\002\000\062\004\uffc5\005" +
+    "\uffc5\006\uffc5\007\uffc5\010\uffc5\011\uffc5\012\uffc5\013\uffc5" +
+    "\016\uffc5\033\uffc5\034\uffc5\035\uffc5\036\uffc5\037\uffc5\040" +
+    "\uffc5\041\uffc5\042\uffc5\043\uffc5\044\uffc5\045\uffc5\050\uffc5" +
+    "\054\uffc5\152\uffc5\161\uffc5\001\002\000\062\004\uffc6\005" +
+    "\uffc6\006\uffc6\007\uffc6\010\uffc6\011\uffc6\012\uffc6\013\uffc6" +
+    "\016\uffc6\033\023\034\026\035\017\036\025\037\033\040" +
+    "\031\041\020\042\034\043\027\044\024\045\uffc6\050\uffc6" +
+    "\054\uffc6\152\015\161\uffc6\001\002\000\062\004\uffb9\005" +
+    "\uffb9\006\uffb9\007\uffb9\010\uffb9\011\uffb9\012\uffb9\013\uffb9" +
+    "\016\uffb9\033\uffb9\034\uffb9\035\uffb9\036\uffb9\037\uffb9\040" +
+    "\uffb9\041\uffb9\042\uffb9\043\uffb9\044\uffb9\045\uffb9\050\uffb9" +
+    "\054\uffb9\152\uffb9\161\uffb9\001\002\000\042\002\uffc9\020" +
+    "\uffc9\033\uffc9\034\uffc9\035\uffc9\036\uffc9\037\uffc9\040\uffc9" +
+    "\041\uffc9\042\uffc9\043\uffc9\044\uffc9\045\uffc9\054\uffc9\152" +
+    "\uffc9\162\uffc9\001\002\000\062\004\uffc1\005\uffc1\006\uffc1" +
+    "\007\uffc1\010\uffc1\011\uffc1\012\uffc1\013\uffc1\016\uffc1\033" +
+    "\uffc1\034\uffc1\035\uffc1\036\uffc1\037\uffc1\040\uffc1\041\uffc1" +
+    "\042\uffc1\043\uffc1\044\uffc1\045\uffc1\050\uffc1\054\uffc1\152" +
+    "\uffc1\161\uffc1\001\002\000\062\004\uffbd\005\uffbd\006\uffbd" +
+    "\007\uffbd\010\uffbd\011\uffbd\012\uffbd\013\uffbd\016\uffbd\033" +
+    "\uffbd\034\uffbd\035\uffbd\036\uffbd\037\uffbd\040\uffbd\041\uffbd" +
+    "\042\uffbd\043\uffbd\044\uffbd\045\uffbd\050\uffbd\054\uffbd\152" +
+    "\uffbd\161\uffbd\001\002\000\042\002\uffcb\020\uffcb\033\uffcb" +
+    "\034\uffcb\035\uffcb\036\uffcb\037\uffcb\040\uffcb\041\uffcb\042" +
+    "\uffcb\043\uffcb\044\uffcb\045\uffcb\054\uffcb\152\uffcb\162\uffcb" +
+    "\001\002\000\042\002\uffc8\020\uffc8\033\uffc8\034\uffc8\035" +
+    "\uffc8\036\uffc8\037\uffc8\040\uffc8\041\uffc8\042\uffc8\043\uffc8" +
+    "\044\uffc8\045\uffc8\054\uffc8\152\uffc8\162\uffc8\001\002\000" +
+    "\062\004\uffc3\005\uffc3\006\uffc3\007\uffc3\010\uffc3\011\uffc3" +
+    "\012\uffc3\013\uffc3\016\uffc3\033\uffc3\034\uffc3\035\uffc3\036" +
+    "\uffc3\037\uffc3\040\uffc3\041\uffc3\042\uffc3\043\uffc3\044\uffc3" +
+    "\045\uffc3\050\uffc3\054\uffc3\152\uffc3\161\uffc3\001\002\000" +
+    "\062\004\uffba\005\uffba\006\uffba\007\uffba\010\uffba\011\uffba" +
+    "\012\uffba\013\uffba\016\uffba\033\uffba\034\uffba\035\uffba\036" +
+    "\uffba\037\uffba\040\uffba\041\uffba\042\uffba\043\uffba\044\uffba" +
+    "\045\uffba\050\uffba\054\uffba\152\uffba\161\uffba\001\002\000" +
+    "\062\004\uffc0\005\uffc0\006\uffc0\007\uffc0\010\uffc0\011\uffc0" +
+    "\012\uffc0\013\uffc0\016\uffc0\033\uffc0\034\uffc0\035\uffc0\036" +
+    "\uffc0\037\uffc0\040\uffc0\041\uffc0\042\uffc0\043\uffc0\044\uffc0" +
+    "\045\uffc0\050\uffc0\054\uffc0\152\uffc0\161\uffc0\001\002\000" +
+    "\062\004\uffc2\005\uffc2\006\uffc2\007\uffc2\010\uffc2\011\uffc2" +
+    "\012\uffc2\013\uffc2\016\uffc2\033\uffc2\034\uffc2\035\uffc2\036" +
+    "\uffc2\037\uffc2\040\uffc2\041\uffc2\042\uffc2\043\uffc2\044\uffc2" +
+    "\045\uffc2\050\uffc2\054\uffc2\152\uffc2\161\uffc2\001\002\000" +
+    "\062\004\uffbb\005\uffbb\006\uffbb\007\uffbb\010\uffbb\011\uffbb" +
+    "\012\uffbb\013\uffbb\016\uffbb\033\uffbb\034\uffbb\035\uffbb\036" +
+    "\uffbb\037\uffbb\040\uffbb\041\uffbb\042\uffbb\043\uffbb\044\uffbb" +
+    "\045\uffbb\050\uffbb\054\uffbb\152\uffbb\161\uffbb\001\002\000" +
+    "\004\002\ufe77\001\002\000\062\004\uffbe\005\uffbe\006\uffbe" +
+    "\007\uffbe\010\uffbe\011\uffbe\012\uffbe\013\uffbe\016\uffbe\033" +
+    "\uffbe\034\uffbe\035\uffbe\036\uffbe\037\uffbe\040\uffbe\041\uffbe" +
+    "\042\uffbe\043\uffbe\044\uffbe\045\uffbe\050\uffbe\054\uffbe\152" +
+    "\uffbe\161\uffbe\001\002\000\006\045\040\054\037\001\002" +
+    "\000\062\004\uffbf\005\uffbf\006\uffbf\007\uffbf\010\uffbf\011" +
+    "\uffbf\012\uffbf\013\uffbf\016\uffbf\033\uffbf\034\uffbf\035\uffbf" +
+    "\036\uffbf\037\uffbf\040\uffbf\041\uffbf\042\uffbf\043\uffbf\044" +
+    "\uffbf\045\uffbf\050\uffbf\054\uffbf\152\uffbf\161\uffbf\001\002" +
+    "\000\062\004\uffbc\005\uffbc\006\uffbc\007\uffbc\010\uffbc\011" +
+    "\uffbc\012\uffbc\013\uffbc\016\uffbc\033\uffbc\034\uffbc\035\uffbc" +
+    "\036\uffbc\037\uffbc\040\uffbc\041\uffbc\042\uffbc\043\uffbc\044" +
+    "\uffbc\045\uffbc\050\uffbc\054\uffbc\152\uffbc\161\uffbc\001\002" +
+    "\000\004\002\ufe7d\001\002\000\042\002\uffca\020\uffca\033" +
+    "\uffca\034\uffca\035\uffca\036\uffca\037\uffca\040\uffca\041\uffca" +
+    "\042\uffca\043\uffca\044\uffca\045\uffca\054\uffca\152\uffca\162" +
+    "\uffca\001\002\000\004\016\042\001\002\000\004\016\042" +
+    "\001\002\000\010\023\uffb6\046\045\047\uffb6\001\002\000" +
+    "\146\002\ufe81\003\ufe81\014\ufe81\015\ufe81\016\ufe81\017\ufe81" +
+    "\020\ufe81\021\ufe81\022\ufe81\023\ufe81\024\ufe81\025\ufe81\026" +
+    "\ufe81\027\ufe81\030\ufe81\046\ufe81\047\ufe81\075\ufe81\076\ufe81" +
+    "\077\ufe81\100\ufe81\103\ufe81\104\ufe81\105\ufe81\106\ufe81\107" +
+    "\ufe81\110\ufe81\111\ufe81\112\ufe81\113\ufe81\114\ufe81\115\ufe81" +
+    "\116\ufe81\117\ufe81\120\ufe81\121\ufe81\122\ufe81\123\ufe81\124" +
+    "\ufe81\125\ufe81\126\ufe81\127\ufe81\130\ufe81\131\ufe81\132\ufe81" +
+    "\133\ufe81\134\ufe81\135\ufe81\136\ufe81\137\ufe81\001\002\000" +
+    "\006\023\uffb5\047\uffb5\001\002\000\006\023\uffb3\047\060" +
+    "\001\002\000\006\016\042\161\046\001\002\000\020\003" +
+    "\uffe6\014\uffe6\020\uffe6\022\uffe6\023\uffe6\026\uffe6\047\uffe6" +
+    "\001\002\000\144\002\uffde\003\uffde\014\uffde\015\uffde\016" +
+    "\uffde\017\uffde\020\uffde\021\uffde\022\uffde\023\uffde\024\uffde" +
+    "\025\uffde\026\uffde\027\uffde\030\uffde\047\uffde\075\uffde\076" +
+    "\uffde\077\uffde\100\uffde\103\uffde\104\uffde\105\uffde\106\uffde" +
+    "\107\uffde\110\uffde\111\uffde\112\uffde\113\uffde\114\uffde\115" +
+    "\uffde\116\uffde\117\uffde\120\uffde\121\uffde\122\uffde\123\uffde" +
+    "\124\uffde\125\uffde\126\uffde\127\uffde\130\uffde\131\uffde\132" +
+    "\uffde\133\uffde\134\uffde\135\uffde\136\uffde\137\uffde\001\002" +
+    "\000\022\003\uffe7\014\uffe7\017\055\020\uffe7\022\uffe7\023" +
+    "\uffe7\026\uffe7\047\uffe7\001\002\000\014\003\uffe5\020\uffe5" +
+    "\022\uffe5\023\uffe5\047\uffe5\001\002\000\144\002\uffdf\003" +
+    "\uffdf\014\uffdf\015\uffdf\016\uffdf\017\uffdf\020\uffdf\021\uffdf" +
+    "\022\uffdf\023\uffdf\024\uffdf\025\uffdf\026\uffdf\027\uffdf\030" +
+    "\uffdf\047\uffdf\075\uffdf\076\uffdf\077\uffdf\100\uffdf\103\uffdf" +
+    "\104\uffdf\105\uffdf\106\uffdf\107\uffdf\110\uffdf\111\uffdf\112" +
+    "\uffdf\113\uffdf\114\uffdf\115\uffdf\116\uffdf\117\uffdf\120\uffdf" +
+    "\121\uffdf\122\uffdf\123\uffdf\124\uffdf\125\uffdf\126\uffdf\127" +
+    "\uffdf\130\uffdf\131\uffdf\132\uffdf\133\uffdf\134\uffdf\135\uffdf" +
+    "\136\uffdf\137\uffdf\001\002\000\144\002\uffe0\003\uffe0\014" +
+    "\uffe0\015\uffe0\016\uffe0\017\uffe0\020\uffe0\021\uffe0\022\uffe0" +
+    "\023\uffe0\024\uffe0\025\uffe0\026\uffe0\027\uffe0\030\uffe0\047" +
+    "\uffe0\075\uffe0\076\uffe0\077\uffe0\100\uffe0\103\uffe0\104\uffe0" +
+    "\105\uffe0\106\uffe0\107\uffe0\110\uffe0\111\uffe0\112\uffe0\113" +
+    "\uffe0\114\uffe0\115\uffe0\116\uffe0\117\uffe0\120\uffe0\121\uffe0" +
+    "\122\uffe0\123\uffe0\124\uffe0\125\uffe0\126\uffe0\127\uffe0\130" +
+    "\uffe0\131\uffe0\132\uffe0\133\uffe0\134\uffe0\135\uffe0\136\uffe0" +
+    "\137\uffe0\001\002\000\006\023\uffb7\047\uffb7\001\002\000" +
+    "\004\016\042\001\002\000\144\002\uffdd\003\uffdd\014\uffdd" +
+    "\015\uffdd\016\uffdd\017\uffdd\020\uffdd\021\uffdd\022\uffdd\023" +
+    "\uffdd\024\uffdd\025\uffdd\026\uffdd\027\uffdd\030\uffdd\047\uffdd" +
+    "\075\uffdd\076\uffdd\077\uffdd\100\uffdd\103\uffdd\104\uffdd\105" +
+    "\uffdd\106\uffdd\107\uffdd\110\uffdd\111\uffdd\112\uffdd\113\uffdd" +
+    "\114\uffdd\115\uffdd\116\uffdd\117\uffdd\120\uffdd\121\uffdd\122" +
+    "\uffdd\123\uffdd\124\uffdd\125\uffdd\126\uffdd\127\uffdd\130\uffdd" +
+    "\131\uffdd\132\uffdd\133\uffdd\134\uffdd\135\uffdd\136\uffdd\137" +
+    "\uffdd\001\002\000\004\023\067\001\002\000\006\016\042" +
+    "\161\046\001\002\000\004\023\uffb2\001\002\000\006\022" +
+    "\uffb1\023\uffb1\001\002\000\006\022\uffe4\023\uffe4\001\002" +
+    "\000\006\022\065\023\uffb4\001\002\000\006\016\042\161" +
+    "\046\001\002\000\006\022\uffb0\023\uffb0\001\002\000\076" +
+    "\003\104\004\uffc7\005\uffc7\006\uffc7\007\uffc7\010\uffc7\011" +
+    "\uffc7\012\uffc7\013\uffc7\016\uffc7\020\072\023\075\024\uffae" +
+    "\033\023\034\026\035\017\036\101\037\033\040\031\041" +
+    "\020\042\034\043\027\044\024\045\uffc7\050\uffc7\054\uffc7" +
+    "\152\015\161\uffc7\163\074\164\112\001\002\000\170\002" +
+    "\uffb8\003\uffb8\004\uffb8\005\uffb8\006\uffb8\007\uffb8\010\uffb8" +
+    "\011\uffb8\012\uffb8\013\uffb8\016\uffb8\020\uffb8\023\uffb8\024" +
+    "\uffb8\026\uffb8\033\uffb8\034\uffb8\035\uffb8\036\uffb8\037\uffb8" +
+    "\040\uffb8\041\uffb8\042\uffb8\043\uffb8\044\uffb8\045\uffb8\050" +
+    "\uffb8\052\uffb8\053\uffb8\054\uffb8\055\uffb8\057\uffb8\060\uffb8" +
+    "\061\uffb8\062\uffb8\063\uffb8\064\uffb8\065\uffb8\066\uffb8\067" +
+    "\uffb8\070\uffb8\071\uffb8\074\uffb8\075\uffb8\076\uffb8\140\uffb8" +
+    "\142\uffb8\144\uffb8\145\uffb8\146\uffb8\147\uffb8\150\uffb8\151" +
+    "\uffb8\152\uffb8\153\uffb8\156\uffb8\160\uffb8\161\uffb8\162\uffb8" +
+    "\001\002\000\074\003\uffa7\004\uffa7\005\uffa7\006\uffa7\007" +
+    "\uffa7\010\uffa7\011\uffa7\012\uffa7\013\uffa7\016\uffa7\020\uffa7" +
+    "\023\uffa7\024\uffa7\033\uffa7\034\uffa7\035\uffa7\036\uffa7\037" +
+    "\uffa7\040\uffa7\041\uffa7\042\uffa7\043\uffa7\044\uffa7\045\uffa7" +
+    "\050\uffa7\054\uffa7\152\uffa7\161\uffa7\163\uffa7\001\002\000" +
+    "\074\003\uffa5\004\uffa5\005\uffa5\006\uffa5\007\uffa5\010\uffa5" +
+    "\011\uffa5\012\uffa5\013\uffa5\016\uffa5\020\uffa5\023\uffa5\024" +
+    "\uffa5\033\uffa5\034\uffa5\035\uffa5\036\uffa5\037\uffa5\040\uffa5" +
+    "\041\uffa5\042\uffa5\043\uffa5\044\uffa5\045\uffa5\050\uffa5\054" +
+    "\uffa5\152\uffa5\161\uffa5\163\uffa5\001\002\000\074\003\uffa1" +
+    "\004\uffa1\005\uffa1\006\uffa1\007\uffa1\010\uffa1\011\uffa1\012" +
+    "\uffa1\013\uffa1\016\uffa1\020\uffa1\023\uffa1\024\uffa1\033\uffa1" +
+    "\034\uffa1\035\uffa1\036\uffa1\037\uffa1\040\uffa1\041\uffa1\042" +
+    "\uffa1\043\uffa1\044\uffa1\045\uffa1\050\uffa1\054\uffa1\152\uffa1" +
+    "\161\uffa1\163\uffa1\001\002\000\074\003\uff9e\004\uff9e\005" +
+    "\uff9e\006\uff9e\007\uff9e\010\uff9e\011\uff9e\012\uff9e\013\uff9e" +
+    "\016\uff9e\020\uff9e\023\uff9e\024\uff9e\033\uff9e\034\uff9e\035" +
+    "\uff9e\036\uff9e\037\uff9e\040\uff9e\041\uff9e\042\uff9e\043\uff9e" +
+    "\044\uff9e\045\uff9e\050\uff9e\054\uff9e\152\uff9e\161\uff9e\163" +
+    "\uff9e\001\002\000\160\003\307\004\126\005\116\006\132" +
+    "\007\115\010\113\011\117\012\130\013\136\016\042\020" +
+    "\274\023\075\024\uff5e\026\231\033\023\034\026\035\017" +
+    "\036\025\037\033\040\235\041\020\042\312\043\027\044" +
+    "\024\045\uffc7\050\264\052\275\053\247\055\314\057\257" +
+    "\062\260\063\252\064\262\065\270\066\313\067\265\070" +
+    "\223\071\266\074\324\075\323\076\316\140\234\142\251" +
+    "\144\221\145\304\146\242\147\322\150\273\151\272\152" +
+    "\015\153\320\156\261\160\254\161\327\164\301\001\002" +
+    "\000\074\003\uffa6\004\uffa6\005\uffa6\006\uffa6\007\uffa6\010" +
+    "\uffa6\011\uffa6\012\uffa6\013\uffa6\016\uffa6\020\uffa6\023\uffa6" +
+    "\024\uffa6\033\uffa6\034\uffa6\035\uffa6\036\uffa6\037\uffa6\040" +
+    "\uffa6\041\uffa6\042\uffa6\043\uffa6\044\uffa6\045\uffa6\050\uffa6" +
+    "\054\uffa6\152\uffa6\161\uffa6\163\uffa6\001\002\000\010\003" +
+    "\u01be\020\u0261\023\075\001\002\000\074\003\uffa8\004\uffa8" +
+    "\005\uffa8\006\uffa8\007\uffa8\010\uffa8\011\uffa8\012\uffa8\013" +
+    "\uffa8\016\uffa8\020\uffa8\023\uffa8\024\uffa8\033\uffa8\034\uffa8" +
+    "\035\uffa8\036\uffa8\037\uffa8\040\uffa8\041\uffa8\042\uffa8\043" +
+    "\uffa8\044\uffa8\045\uffa8\050\uffa8\054\uffa8\152\uffa8\161\uffa8" +
+    "\163\uffa8\001\002\000\066\003\u01be\004\uffc0\005\uffc0\006" +
+    "\uffc0\007\uffc0\010\uffc0\011\uffc0\012\uffc0\013\uffc0\016\uffc0" +
+    "\023\075\033\uffc0\034\uffc0\035\uffc0\036\uffc0\037\uffc0\040" +
+    "\uffc0\041\uffc0\042\uffc0\043\uffc0\044\uffc0\045\uffc0\050\uffc0" +
+    "\054\uffc0\152\uffc0\161\uffc0\001\002\000\004\024\u025e\001" +
+    "\002\000\074\003\uffac\004\uffac\005\uffac\006\uffac\007\uffac" +
+    "\010\uffac\011\uffac\012\uffac\013\uffac\016\uffac\020\uffac\023" +
+    "\uffac\024\uffac\033\uffac\034\uffac\035\uffac\036\uffac\037\uffac" +
+    "\040\uffac\041\uffac\042\uffac\043\uffac\044\uffac\045\uffac\050" +
+    "\uffac\054\uffac\152\uffac\161\uffac\163\uffac\001\002\000\010" +
+    "\020\u025d\023\u025c\024\u01c0\001\002\000\074\003\104\004" +
+    "\uffc7\005\uffc7\006\uffc7\007\uffc7\010\uffc7\011\uffc7\012\uffc7" +
+    "\013\uffc7\016\uffc7\020\072\023\075\024\uffad\033\023\034" +
+    "\026\035\017\036\101\037\033\040\031\041\020\042\034" +
+    "\043\027\044\024\045\uffc7\050\uffc7\054\uffc7\152\015\161" +
+    "\uffc7\163\074\001\002\000\074\003\uffa2\004\uffa2\005\uffa2" +
+    "\006\uffa2\007\uffa2\010\uffa2\011\uffa2\012\uffa2\013\uffa2\016" +
+    "\uffa2\020\uffa2\023\uffa2\024\uffa2\033\uffa2\034\uffa2\035\uffa2" +
+    "\036\uffa2\037\uffa2\040\uffa2\041\uffa2\042\uffa2\043\uffa2\044" +
+    "\uffa2\045\uffa2\050\uffa2\054\uffa2\152\uffa2\161\uffa2\163\uffa2" +
+    "\001\002\000\034\004\126\005\116\006\132\007\115\010" +
+    "\113\011\117\012\130\013\136\016\042\045\114\050\134" +
+    "\054\037\161\123\001\002\000\074\003\uff9f\004\uff9f\005" +
+    "\uff9f\006\uff9f\007\uff9f\010\uff9f\011\uff9f\012\uff9f\013\uff9f" +
+    "\016\uff9f\020\uff9f\023\uff9f\024\uff9f\033\uff9f\034\uff9f\035" +
+    "\uff9f\036\uff9f\037\uff9f\040\uff9f\041\uff9f\042\uff9f\043\uff9f" +
+    "\044\uff9f\045\uff9f\050\uff9f\054\uff9f\152\uff9f\161\uff9f\163" +
+    "\uff9f\001\002\000\074\003\uffa9\004\uffa9\005\uffa9\006\uffa9" +
+    "\007\uffa9\010\uffa9\011\uffa9\012\uffa9\013\uffa9\016\uffa9\020" +
+    "\uffa9\023\uffa9\024\uffa9\033\uffa9\034\uffa9\035\uffa9\036\uffa9" +
+    "\037\uffa9\040\uffa9\041\uffa9\042\uffa9\043\uffa9\044\uffa9\045" +
+    "\uffa9\050\uffa9\054\uffa9\152\uffa9\161\uffa9\163\uffa9\001\002" +
+    "\000\074\003\uffaa\004\uffaa\005\uffaa\006\uffaa\007\uffaa\010" +
+    "\uffaa\011\uffaa\012\uffaa\013\uffaa\016\uffaa\020\uffaa\023\uffaa" +
+    "\024\uffaa\033\uffaa\034\uffaa\035\uffaa\036\uffaa\037\uffaa\040" +
+    "\uffaa\041\uffaa\042\uffaa\043\uffaa\044\uffaa\045\uffaa\050\uffaa" +
+    "\054\uffaa\152\uffaa\161\uffaa\163\uffaa\001\002\000\014\002" +
+    "\uffec\014\uffec\016\uffec\017\uffec\027\uffec\001\002\000\004" +
+    "\016\042\001\002\000\014\002\uffed\014\uffed\016\uffed\017" +
+    "\uffed\027\uffed\001\002\000\014\002\ufff0\014\ufff0\016\ufff0" +
+    "\017\ufff0\027\ufff0\001\002\000\014\002\uffef\014\uffef\016" +
+    "\uffef\017\uffef\027\uffef\001\002\000\004\016\042\001\002" +
+    "\000\054\002\uffe9\015\uffe9\016\uffe9\020\uffe9\022\uffe9\024" +
+    "\uffe9\027\uffe9\030\uffe9\110\uffe9\111\uffe9\112\uffe9\113\uffe9" +
+    "\114\uffe9\115\uffe9\116\uffe9\117\uffe9\120\uffe9\121\uffe9\122" +
+    "\uffe9\123\uffe9\124\uffe9\001\002\000\014\002\ufff2\014\ufff2" +
+    "\016\ufff2\017\ufff2\027\ufff2\001\002\000\056\002\uffe6\014" +
+    "\140\015\uffe6\016\uffe6\020\uffe6\022\uffe6\024\uffe6\027\uffe6" +
+    "\030\uffe6\110\uffe6\111\uffe6\112\uffe6\113\uffe6\114\uffe6\115" +
+    "\uffe6\116\uffe6\117\uffe6\120\uffe6\121\uffe6\122\uffe6\123\uffe6" +
+    "\124\uffe6\001\002\000\012\014\uffe0\016\uffe0\017\uffe0\026" +
+    "\201\001\002\000\014\002\ufff1\014\ufff1\016\ufff1\017\ufff1" +
+    "\027\ufff1\001\002\000\014\002\ufff3\014\ufff3\016\ufff3\017" +
+    "\ufff3\027\ufff3\001\002\000\006\002\ufff5\016\ufff5\001\002" +
+    "\000\014\002\uffeb\014\uffeb\016\uffeb\017\uffeb\027\uffeb\001" +
+    "\002\000\010\002\ufff6\014\140\016\ufff6\001\002\000\014" +
+    "\002\uffee\014\uffee\016\uffee\017\uffee\027\uffee\001\002\000" +
+    "\054\002\uffe8\015\uffe8\016\uffe8\020\uffe8\022\uffe8\024\uffe8" +
+    "\027\uffe8\030\uffe8\110\uffe8\111\uffe8\112\uffe8\113\uffe8\114" +
+    "\uffe8\115\uffe8\116\uffe8\117\uffe8\120\uffe8\121\uffe8\122\uffe8" +
+    "\123\uffe8\124\uffe8\001\002\000\004\016\042\001\002\000" +
+    "\014\002\ufff4\014\ufff4\016\ufff4\017\ufff4\027\ufff4\001\002" +
+    "\000\014\002\uffea\014\uffea\016\uffea\017\uffea\027\uffea\001" +
+    "\002\000\060\002\uffe7\014\140\015\uffe7\016\uffe7\017\055" +
+    "\020\uffe7\022\uffe7\024\uffe7\027\uffe7\030\uffe7\110\uffe7\111" +
+    "\uffe7\112\uffe7\113\uffe7\114\uffe7\115\uffe7\116\uffe7\117\uffe7" +
+    "\120\uffe7\121\uffe7\122\uffe7\123\uffe7\124\uffe7\001\002\000" +
+    "\004\015\144\001\002\000\060\002\uffe2\014\142\015\uffe2" +
+    "\016\uffe2\017\uffe2\020\uffe2\022\uffe2\024\uffe2\027\uffe2\030" +
+    "\uffe2\110\uffe2\111\uffe2\112\uffe2\113\uffe2\114\uffe2\115\uffe2" +
+    "\116\uffe2\117\uffe2\120\uffe2\121\uffe2\122\uffe2\123\uffe2\124" +
+    "\uffe2\001\002\000\004\015\143\001\002\000\114\002\ufeda" +
+    "\003\ufeda\014\ufeda\015\ufeda\016\ufeda\017\ufeda\020\ufeda\021" +
+    "\ufeda\022\ufeda\023\ufeda\024\ufeda\027\ufeda\030\ufeda\051\ufeda" +
+    "\075\ufeda\076\ufeda\077\ufeda\100\ufeda\103\ufeda\104\ufeda\105" +
+    "\ufeda\106\ufeda\107\ufeda\110\ufeda\111\ufeda\112\ufeda\113\ufeda" +
+    "\114\ufeda\115\ufeda\116\ufeda\117\ufeda\120\ufeda\121\ufeda\122" +
+    "\ufeda\123\ufeda\124\ufeda\164\ufeda\001\002\000\114\002\ufedb" +
+    "\003\ufedb\014\ufedb\015\ufedb\016\ufedb\017\ufedb\020\ufedb\021" +
+    "\ufedb\022\ufedb\023\ufedb\024\ufedb\027\ufedb\030\ufedb\051\ufedb" +
+    "\075\ufedb\076\ufedb\077\ufedb\100\ufedb\103\ufedb\104\ufedb\105" +
+    "\ufedb\106\ufedb\107\ufedb\110\ufedb\111\ufedb\112\ufedb\113\ufedb" +
+    "\114\ufedb\115\ufedb\116\ufedb\117\ufedb\120\ufedb\121\ufedb\122" +
+    "\ufedb\123\ufedb\124\ufedb\164\ufedb\001\002\000\004\026\146" +
+    "\001\002\000\036\004\126\005\116\006\132\007\115\010" +
+    "\113\011\117\012\130\013\136\016\042\027\uff91\040\153" +
+    "\157\150\161\123\164\155\001\002\000\004\016\042\001" +
+    "\002\000\006\022\uff8a\027\uff8a\001\002\000\006\022\175" +
+    "\027\uff90\001\002\000\004\027\163\001\002\000\026\004" +
+    "\126\005\116\006\132\007\115\010\113\011\117\012\130" +
+    "\013\136\016\042\161\123\001\002\000\006\022\uff8f\027" +
+    "\uff8f\001\002\000\006\022\uff8d\027\uff8d\001\002\000\004" +
+    "\016\042\001\002\000\010\014\161\022\uff8b\027\uff8b\001" +
+    "\002\000\014\014\uff98\020\uff98\022\uff98\025\uff98\027\uff98" +
+    "\001\002\000\004\015\162\001\002\000\014\014\uff97\020" +
+    "\uff97\022\uff97\025\uff97\027\uff97\001\002\000\014\003\uff89" +
+    "\020\uff89\023\uff89\051\167\164\165\001\002\000\010\003" +
+    "\uff88\020\uff88\023\uff88\001\002\000\010\003\uff86\020\uff86" +
+    "\023\uff86\001\002\000\010\003\uff92\020\uff92\023\uff92\001" +
+    "\002\000\010\016\042\161\046\164\171\001\002\000\012" +
+    "\003\uff87\020\uff87\022\173\023\uff87\001\002\000\012\003" +
+    "\uff83\020\uff83\022\uff83\023\uff83\001\002\000\012\003\uff85" +
+    "\020\uff85\022\uff85\023\uff85\001\002\000\006\016\042\161" +
+    "\046\001\002\000\012\003\uff84\020\uff84\022\uff84\023\uff84" +
+    "\001\002\000\032\004\126\005\116\006\132\007\115\010" +
+    "\113\011\117\012\130\013\136\016\042\040\153\157\150" +
+    "\161\123\001\002\000\006\022\uff8e\027\uff8e\001\002\000" +
+    "\010\014\161\022\uff8c\027\uff8c\001\002\000\060\002\uffe3" +
+    "\014\142\015\uffe3\016\uffe3\017\uffe3\020\uffe3\022\uffe3\024" +
+    "\uffe3\027\uffe3\030\uffe3\110\uffe3\111\uffe3\112\uffe3\113\uffe3" +
+    "\114\uffe3\115\uffe3\116\uffe3\117\uffe3\120\uffe3\121\uffe3\122" +
+    "\uffe3\123\uffe3\124\uffe3\001\002\000\036\004\126\005\116" +
+    "\006\132\007\115\010\113\011\117\012\130\013\136\016" +
+    "\042\027\uff91\040\153\157\150\161\123\164\155\001\002" +
+    "\000\004\027\203\001\002\000\010\023\uff89\051\167\164" +
+    "\165\001\002\000\004\023\205\001\002\000\160\003\307" +
+    "\004\126\005\116\006\132\007\115\010\113\011\117\012" +
+    "\130\013\136\016\042\020\274\023\075\024\222\026\231" +
+    "\033\023\034\026\035\017\036\025\037\033\040\235\041" +
+    "\020\042\312\043\027\044\024\045\uffc7\050\264\052\275" +
+    "\053\247\055\314\057\257\062\260\063\252\064\262\065" +
+    "\270\066\313\067\265\070\223\071\266\074\324\075\323" +
+    "\076\316\140\234\142\251\144\221\145\304\146\242\147" +
+    "\322\150\273\151\272\152\015\153\320\156\261\160\254" +
+    "\161\327\164\301\001\002\000\076\002\uff7f\003\uff7f\004" +
+    "\uff7f\005\uff7f\006\uff7f\007\uff7f\010\uff7f\011\uff7f\012\uff7f" +
+    "\013\uff7f\016\uff7f\020\uff7f\023\uff7f\024\uff7f\033\uff7f\034" +
+    "\uff7f\035\uff7f\036\uff7f\037\uff7f\040\uff7f\041\uff7f\042\uff7f" +
+    "\043\uff7f\044\uff7f\045\uff7f\050\uff7f\054\uff7f\152\uff7f\161" +
+    "\uff7f\163\uff7f\001\002\000\156\003\307\004\126\005\116" +
+    "\006\132\007\115\010\113\011\117\012\130\013\136\016" +
+    "\042\020\274\023\075\024\u024e\026\231\033\023\034\026" +
+    "\035\017\036\025\037\033\040\235\041\020\042\312\043" +
+    "\027\044\024\045\uffc7\050\264\052\275\053\247\055\314" +
+    "\057\257\062\260\063\252\064\262\065\270\066\313\067" +
+    "\265\070\223\071\266\074\324\075\323\076\316\140\234" +
+    "\142\251\144\221\145\304\146\242\147\322\150\273\151" +
+    "\272\152\015\153\320\156\261\160\254\161\327\001\002" +
+    "\000\164\002\uff4e\003\uff4e\004\uff4e\005\uff4e\006\uff4e\007" +
+    "\uff4e\010\uff4e\011\uff4e\012\uff4e\013\uff4e\016\uff4e\020\uff4e" +
+    "\023\uff4e\024\uff4e\026\uff4e\033\uff4e\034\uff4e\035\uff4e\036" +
+    "\uff4e\037\uff4e\040\uff4e\041\uff4e\042\uff4e\043\uff4e\044\uff4e" +
+    "\045\uff4e\050\uff4e\052\uff4e\053\uff4e\055\uff4e\057\uff4e\060" +
+    "\uff4e\061\uff4e\062\uff4e\063\uff4e\064\uff4e\065\uff4e\066\uff4e" +
+    "\067\uff4e\070\uff4e\071\uff4e\074\uff4e\075\uff4e\076\uff4e\140" +
+    "\uff4e\142\uff4e\144\uff4e\145\uff4e\146\uff4e\147\uff4e\150\uff4e" +
+    "\151\uff4e\152\uff4e\153\uff4e\156\uff4e\160\uff4e\161\uff4e\001" +
+    "\002\000\020\014\ufef7\017\ufef7\020\uff30\022\uff30\027\uff30" +
+    "\075\ufef7\076\ufef7\001\002\000\166\002\uff3d\003\uff3d\004" +
+    "\uff3d\005\uff3d\006\uff3d\007\uff3d\010\uff3d\011\uff3d\012\uff3d" +
+    "\013\uff3d\016\uff3d\020\uff3d\023\uff3d\024\uff3d\026\uff3d\033" +
+    "\uff3d\034\uff3d\035\uff3d\036\uff3d\037\uff3d\040\uff3d\041\uff3d" +
+    "\042\uff3d\043\uff3d\044\uff3d\045\uff3d\050\uff3d\052\uff3d\053" +
+    "\uff3d\055\uff3d\056\uff3d\057\uff3d\060\uff3d\061\uff3d\062\uff3d" +
+    "\063\uff3d\064\uff3d\065\uff3d\066\uff3d\067\uff3d\070\uff3d\071" +
+    "\uff3d\074\uff3d\075\uff3d\076\uff3d\140\uff3d\142\uff3d\144\uff3d" +
+    "\145\uff3d\146\uff3d\147\uff3d\150\uff3d\151\uff3d\152\uff3d\153" +
+    "\uff3d\156\uff3d\160\uff3d\161\uff3d\001\002\000\162\003\uff5c" +
+    "\004\uff5c\005\uff5c\006\uff5c\007\uff5c\010\uff5c\011\uff5c\012" +
+    "\uff5c\013\uff5c\016\uff5c\020\uff5c\023\uff5c\024\uff5c\026\uff5c" +
+    "\033\uff5c\034\uff5c\035\uff5c\036\uff5c\037\uff5c\040\uff5c\041" +
+    "\uff5c\042\uff5c\043\uff5c\044\uff5c\045\uff5c\050\uff5c\052\uff5c" +
+    "\053\uff5c\055\uff5c\057\uff5c\060\uff5c\061\uff5c\062\uff5c\063" +
+    "\uff5c\064\uff5c\065\uff5c\066\uff5c\067\uff5c\070\uff5c\071\uff5c" +
+    "\074\uff5c\075\uff5c\076\uff5c\140\uff5c\142\uff5c\144\uff5c\145" +
+    "\uff5c\146\uff5c\147\uff5c\150\uff5c\151\uff5c\152\uff5c\153\uff5c" +
+    "\156\uff5c\160\uff5c\161\uff5c\001\002\000\166\002\uff42\003" +
+    "\uff42\004\uff42\005\uff42\006\uff42\007\uff42\010\uff42\011\uff42" +
+    "\012\uff42\013\uff42\016\uff42\020\uff42\023\uff42\024\uff42\026" +
+    "\uff42\033\uff42\034\uff42\035\uff42\036\uff42\037\uff42\040\uff42" +
+    "\041\uff42\042\uff42\043\uff42\044\uff42\045\uff42\050\uff42\052" +
+    "\uff42\053\uff42\055\uff42\056\uff42\057\uff42\060\uff42\061\uff42" +
+    "\062\uff42\063\uff42\064\uff42\065\uff42\066\uff42\067\uff42\070" +
+    "\uff42\071\uff42\074\uff42\075\uff42\076\uff42\140\uff42\142\uff42" +
+    "\144\uff42\145\uff42\146\uff42\147\uff42\150\uff42\151\uff42\152" +
+    "\uff42\153\uff42\156\uff42\160\uff42\161\uff42\001\002\000\132" +
+    "\002\ufef6\014\ufef6\015\ufef6\017\ufef6\020\ufef6\021\ufef6\022" +
+    "\ufef6\024\ufef6\025\ufe93\027\ufef6\030\ufef6\075\ufef6\076\ufef6" +
+    "\077\ufef6\100\ufef6\103\ufef6\104\ufef6\105\ufef6\106\ufef6\107" +
+    "\ufef6\110\ufef6\111\ufef6\112\ufef6\113\ufef6\114\ufef6\115\ufef6" +
+    "\116\ufef6\117\ufef6\120\ufef6\121\ufef6\122\ufef6\123\ufef6\124" +
+    "\ufef6\125\ufe93\126\ufe93\127\ufe93\130\ufe93\131\ufe93\132\ufe93" +
+    "\133\ufe93\134\ufe93\135\ufe93\136\ufe93\137\ufe93\001\002\000" +
+    "\032\025\u0248\125\u0241\126\u0242\127\u024c\130\u0245\131\u0249" +
+    "\132\u0247\133\u0246\134\u0244\135\u0243\136\u0240\137\u024b\001" +
+    "\002\000\164\002\uff57\003\uff57\004\uff57\005\uff57\006\uff57" +
+    "\007\uff57\010\uff57\011\uff57\012\uff57\013\uff57\016\uff57\020" +
+    "\uff57\023\uff57\024\uff57\026\uff57\033\uff57\034\uff57\035\uff57" +
+    "\036\uff57\037\uff57\040\uff57\041\uff57\042\uff57\043\uff57\044" +
+    "\uff57\045\uff57\050\uff57\052\uff57\053\uff57\055\uff57\057\uff57" +
+    "\060\uff57\061\uff57\062\uff57\063\uff57\064\uff57\065\uff57\066" +
+    "\uff57\067\uff57\070\uff57\071\uff57\074\uff57\075\uff57\076\uff57" +
+    "\140\uff57\142\uff57\144\uff57\145\uff57\146\uff57\147\uff57\150" +
+    "\uff57\151\uff57\152\uff57\153\uff57\156\uff57\160\uff57\161\uff57" +
+    "\001\002\000\006\016\uffe8\017\u0176\001\002\000\102\002" +
+    "\ufffe\014\ufffe\015\ufffe\017\ufffe\020\ufffe\021\ufffe\022\ufffe" +
+    "\024\ufffe\027\ufffe\030\ufffe\075\ufffe\076\ufffe\077\ufffe\100" +
+    "\ufffe\103\ufffe\104\ufffe\105\ufffe\106\ufffe\107\ufffe\110\ufffe" +
+    "\111\ufffe\112\ufffe\113\ufffe\114\ufffe\115\ufffe\116\ufffe\117" +
+    "\ufffe\120\ufffe\121\ufffe\122\ufffe\123\ufffe\124\ufffe\001\002" +
+    "\000\076\002\uff7e\003\uff7e\004\uff7e\005\uff7e\006\uff7e\007" +
+    "\uff7e\010\uff7e\011\uff7e\012\uff7e\013\uff7e\016\uff7e\020\uff7e" +
+    "\023\uff7e\024\uff7e\033\uff7e\034\uff7e\035\uff7e\036\uff7e\037" +
+    "\uff7e\040\uff7e\041\uff7e\042\uff7e\043\uff7e\044\uff7e\045\uff7e" +
+    "\050\uff7e\054\uff7e\152\uff7e\161\uff7e\163\uff7e\001\002\000" +
+    "\076\004\126\005\116\006\132\007\115\010\113\011\117" +
+    "\012\130\013\136\016\042\026\345\050\264\052\365\053" +
+    "\355\074\324\075\323\076\316\077\356\100\374\101\353" +
+    "\102\347\140\234\142\251\144\221\145\304\146\242\147" +
+    "\322\150\273\151\272\156\357\161\u0103\001\002\000\004" +
+    "\020\u023d\001\002\000\166\002\uff3b\003\uff3b\004\uff3b\005" +
+    "\uff3b\006\uff3b\007\uff3b\010\uff3b\011\uff3b\012\uff3b\013\uff3b" +
+    "\016\uff3b\020\uff3b\023\uff3b\024\uff3b\026\uff3b\033\uff3b\034" +
+    "\uff3b\035\uff3b\036\uff3b\037\uff3b\040\uff3b\041\uff3b\042\uff3b" +
+    "\043\uff3b\044\uff3b\045\uff3b\050\uff3b\052\uff3b\053\uff3b\055" +
+    "\uff3b\056\uff3b\057\uff3b\060\uff3b\061\uff3b\062\uff3b\063\uff3b" +
+    "\064\uff3b\065\uff3b\066\uff3b\067\uff3b\070\uff3b\071\uff3b\074" +
+    "\uff3b\075\uff3b\076\uff3b\140\uff3b\142\uff3b\144\uff3b\145\uff3b" +
+    "\146\uff3b\147\uff3b\150\uff3b\151\uff3b\152\uff3b\153\uff3b\156" +
+    "\uff3b\160\uff3b\161\uff3b\001\002\000\020\014\ufef9\017\ufef9" +
+    "\020\uff2f\022\uff2f\027\uff2f\075\ufef9\076\ufef9\001\002\000" +
+    "\166\002\uff45\003\uff45\004\uff45\005\uff45\006\uff45\007\uff45" +
+    "\010\uff45\011\uff45\012\uff45\013\uff45\016\uff45\020\uff45\023" +
+    "\uff45\024\uff45\026\uff45\033\uff45\034\uff45\035\uff45\036\uff45" +
+    "\037\uff45\040\uff45\041\uff45\042\uff45\043\uff45\044\uff45\045" +
+    "\uff45\050\uff45\052\uff45\053\uff45\055\uff45\056\uff45\057\uff45" +
+    "\060\uff45\061\uff45\062\uff45\063\uff45\064\uff45\065\uff45\066" +
+    "\uff45\067\uff45\070\uff45\071\uff45\074\uff45\075\uff45\076\uff45" +
+    "\140\uff45\142\uff45\144\uff45\145\uff45\146\uff45\147\uff45\150" +
+    "\uff45\151\uff45\152\uff45\153\uff45\156\uff45\160\uff45\161\uff45" +
+    "\001\002\000\014\020\uff31\022\uff31\027\uff31\075\ufecb\076" +
+    "\ufecb\001\002\000\076\004\126\005\116\006\132\007\115" +
+    "\010\113\011\117\012\130\013\136\016\042\026\345\050" +
+    "\264\052\365\053\355\074\324\075\323\076\316\077\356" +
+    "\100\374\101\353\102\347\140\234\142\251\144\221\145" +
+    "\304\146\242\147\322\150\273\151\272\156\357\161\u0103" +
+    "\001\002\000\006\075\u0166\076\u0165\001\002\000\132\002" +
+    "\ufef8\014\ufef8\015\ufef8\017\ufef8\020\ufef8\021\ufef8\022\ufef8" +
+    "\024\ufef8\025\ufe94\027\ufef8\030\ufef8\075\ufef8\076\ufef8\077" +
+    "\ufef8\100\ufef8\103\ufef8\104\ufef8\105\ufef8\106\ufef8\107\ufef8" +
+    "\110\ufef8\111\ufef8\112\ufef8\113\ufef8\114\ufef8\115\ufef8\116" +
+    "\ufef8\117\ufef8\120\ufef8\121\ufef8\122\ufef8\123\ufef8\124\ufef8" +
+    "\125\ufe94\126\ufe94\127\ufe94\130\ufe94\131\ufe94\132\ufe94\133" +
+    "\ufe94\134\ufe94\135\ufe94\136\ufe94\137\ufe94\001\002\000\102" +
+    "\002\000\014\000\015\000\017\000\020\000\021\000\022" +
+    "\000\024\000\027\000\030\000\075\000\076\000\077\000" +
+    "\100\000\103\000\104\000\105\000\106\000\107\000\110" +
+    "\000\111\000\112\000\113\000\114\000\115\000\116\000" +
+    "\117\000\120\000\121\000\122\000\123\000\124\000\001" +
+    "\002\000\056\004\126\005\116\006\132\007\115\010\113" +
+    "\011\117\012\130\013\136\016\042\033\uffbe\034\uffbe\035" +
+    "\uffbe\036\uffbe\037\uffbe\040\uffbe\041\uffbe\042\uffbe\043\uffbe" +
+    "\044\uffbe\045\uffbe\152\uffbe\161\123\001\002\000\164\002" +
+    "\uff59\003\uff59\004\uff59\005\uff59\006\uff59\007\uff59\010\uff59" +
+    "\011\uff59\012\uff59\013\uff59\016\uff59\020\uff59\023\uff59\024" +
+    "\uff59\026\uff59\033\uff59\034\uff59\035\uff59\036\uff59\037\uff59" +
+    "\040\uff59\041\uff59\042\uff59\043\uff59\044\uff59\045\uff59\050" +
+    "\uff59\052\uff59\053\uff59\055\uff59\057\uff59\060\uff59\061\uff59" +
+    "\062\uff59\063\uff59\064\uff59\065\uff59\066\uff59\067\uff59\070" +
+    "\uff59\071\uff59\074\uff59\075\uff59\076\uff59\140\uff59\142\uff59" +
+    "\144\uff59\145\uff59\146\uff59\147\uff59\150\uff59\151\uff59\152" +
+    "\uff59\153\uff59\156\uff59\160\uff59\161\uff59\001\002\000\164" +
+    "\002\uff4b\003\uff4b\004\uff4b\005\uff4b\006\uff4b\007\uff4b\010" +
+    "\uff4b\011\uff4b\012\uff4b\013\uff4b\016\uff4b\020\uff4b\023\uff4b" +
+    "\024\uff4b\026\uff4b\033\uff4b\034\uff4b\035\uff4b\036\uff4b\037" +
+    "\uff4b\040\uff4b\041\uff4b\042\uff4b\043\uff4b\044\uff4b\045\uff4b" +
+    "\050\uff4b\052\uff4b\053\uff4b\055\uff4b\057\uff4b\060\uff4b\061" +
+    "\uff4b\062\uff4b\063\uff4b\064\uff4b\065\uff4b\066\uff4b\067\uff4b" +
+    "\070\uff4b\071\uff4b\074\uff4b\075\uff4b\076\uff4b\140\uff4b\142" +
+    "\uff4b\144\uff4b\145\uff4b\146\uff4b\147\uff4b\150\uff4b\151\uff4b" +
+    "\152\uff4b\153\uff4b\156\uff4b\160\uff4b\161\uff4b\001\002\000" +
+    "\166\002\uff40\003\uff40\004\uff40\005\uff40\006\uff40\007\uff40" +
+    "\010\uff40\011\uff40\012\uff40\013\uff40\016\uff40\020\uff40\023" +
+    "\uff40\024\uff40\026\uff40\033\uff40\034\uff40\035\uff40\036\uff40" +
+    "\037\uff40\040\uff40\041\uff40\042\uff40\043\uff40\044\uff40\045" +
+    "\uff40\050\uff40\052\uff40\053\uff40\055\uff40\056\uff40\057\uff40" +
+    "\060\uff40\061\uff40\062\uff40\063\uff40\064\uff40\065\uff40\066" +
+    "\uff40\067\uff40\070\uff40\071\uff40\074\uff40\075\uff40\076\uff40" +
+    "\140\uff40\142\uff40\144\uff40\145\uff40\146\uff40\147\uff40\150" +
+    "\uff40\151\uff40\152\uff40\153\uff40\156\uff40\160\uff40\161\uff40" +
+    "\001\002\000\166\002\uff3a\003\uff3a\004\uff3a\005\uff3a\006" +
+    "\uff3a\007\uff3a\010\uff3a\011\uff3a\012\uff3a\013\uff3a\016\uff3a" +
+    "\020\uff3a\023\uff3a\024\uff3a\026\uff3a\033\uff3a\034\uff3a\035" +
+    "\uff3a\036\uff3a\037\uff3a\040\uff3a\041\uff3a\042\uff3a\043\uff3a" +
+    "\044\uff3a\045\uff3a\050\uff3a\052\uff3a\053\uff3a\055\uff3a\056" +
+    "\uff3a\057\uff3a\060\uff3a\061\uff3a\062\uff3a\063\uff3a\064\uff3a" +
+    "\065\uff3a\066\uff3a\067\uff3a\070\uff3a\071\uff3a\074\uff3a\075" +
+    "\uff3a\076\uff3a\140\uff3a\142\uff3a\144\uff3a\145\uff3a\146\uff3a" +
+    "\147\uff3a\150\uff3a\151\uff3a\152\uff3a\153\uff3a\156\uff3a\160" +
+    "\uff3a\161\uff3a\001\002\000\102\002\ufffc\014\ufffc\015\ufffc" +
+    "\017\ufffc\020\ufffc\021\ufffc\022\ufffc\024\ufffc\027\ufffc\030" +
+    "\ufffc\075\ufffc\076\ufffc\077\ufffc\100\ufffc\103\ufffc\104\ufffc" +
+    "\105\ufffc\106\ufffc\107\ufffc\110\ufffc\111\ufffc\112\ufffc\113" +
+    "\ufffc\114\ufffc\115\ufffc\116\ufffc\117\ufffc\120\ufffc\121\ufffc" +
+    "\122\ufffc\123\ufffc\124\ufffc\001\002\000\004\020\u023a\001" +
+    "\002\000\010\020\uff34\022\uff34\027\uff34\001\002\000\166" +
+    "\002\uff44\003\uff44\004\uff44\005\uff44\006\uff44\007\uff44\010" +
+    "\uff44\011\uff44\012\uff44\013\uff44\016\uff44\020\uff44\023\uff44" +
+    "\024\uff44\026\uff44\033\uff44\034\uff44\035\uff44\036\uff44\037" +
+    "\uff44\040\uff44\041\uff44\042\uff44\043\uff44\044\uff44\045\uff44" +
+    "\050\uff44\052\uff44\053\uff44\055\uff44\056\uff44\057\uff44\060" +
+    "\uff44\061\uff44\062\uff44\063\uff44\064\uff44\065\uff44\066\uff44" +
+    "\067\uff44\070\uff44\071\uff44\074\uff44\075\uff44\076\uff44\140" +
+    "\uff44\142\uff44\144\uff44\145\uff44\146\uff44\147\uff44\150\uff44" +
+    "\151\uff44\152\uff44\153\uff44\156\uff44\160\uff44\161\uff44\001" +
+    "\002\000\166\002\uff3e\003\uff3e\004\uff3e\005\uff3e\006\uff3e" +
+    "\007\uff3e\010\uff3e\011\uff3e\012\uff3e\013\uff3e\016\uff3e\020" +
+    "\uff3e\023\uff3e\024\uff3e\026\uff3e\033\uff3e\034\uff3e\035\uff3e" +
+    "\036\uff3e\037\uff3e\040\uff3e\041\uff3e\042\uff3e\043\uff3e\044" +
+    "\uff3e\045\uff3e\050\uff3e\052\uff3e\053\uff3e\055\uff3e\056\uff3e" +
+    "\057\uff3e\060\uff3e\061\uff3e\062\uff3e\063\uff3e\064\uff3e\065" +
+    "\uff3e\066\uff3e\067\uff3e\070\uff3e\071\uff3e\074\uff3e\075\uff3e" +
+    "\076\uff3e\140\uff3e\142\uff3e\144\uff3e\145\uff3e\146\uff3e\147" +
+    "\uff3e\150\uff3e\151\uff3e\152\uff3e\153\uff3e\156\uff3e\160\uff3e" +
+    "\161\uff3e\001\002\000\006\017\u015d\026\u0236\001\002\000" +
+    "\164\002\uff51\003\uff51\004\uff51\005\uff51\006\uff51\007\uff51" +
+    "\010\uff51\011\uff51\012\uff51\013\uff51\016\uff51\020\uff51\023" +
+    "\uff51\024\uff51\026\uff51\033\uff51\034\uff51\035\uff51\036\uff51" +
+    "\037\uff51\040\uff51\041\uff51\042\uff51\043\uff51\044\uff51\045" +
+    "\uff51\050\uff51\052\uff51\053\uff51\055\uff51\057\uff51\060\uff51" +
+    "\061\uff51\062\uff51\063\uff51\064\uff51\065\uff51\066\uff51\067" +
+    "\uff51\070\uff51\071\uff51\074\uff51\075\uff51\076\uff51\140\uff51" +
+    "\142\uff51\144\uff51\145\uff51\146\uff51\147\uff51\150\uff51\151" +
+    "\uff51\152\uff51\153\uff51\156\uff51\160\uff51\161\uff51\001\002" +
+    "\000\102\002\uffff\014\uffff\015\uffff\017\uffff\020\uffff\021" +
+    "\uffff\022\uffff\024\uffff\027\uffff\030\uffff\075\uffff\076\uffff" +
+    "\077\uffff\100\uffff\103\uffff\104\uffff\105\uffff\106\uffff\107" +
+    "\uffff\110\uffff\111\uffff\112\uffff\113\uffff\114\uffff\115\uffff" +
+    "\116\uffff\117\uffff\120\uffff\121\uffff\122\uffff\123\uffff\124" +
+    "\uffff\001\002\000\004\026\u0233\001\002\000\100\002\ufefd" +
+    "\015\ufefd\017\ufefd\020\ufefd\021\ufefd\022\ufefd\024\ufefd\027" +
+    "\ufefd\030\ufefd\075\ufefd\076\ufefd\077\ufefd\100\ufefd\103\ufefd" +
+    "\104\ufefd\105\ufefd\106\ufefd\107\ufefd\110\ufefd\111\ufefd\112" +
+    "\ufefd\113\ufefd\114\ufefd\115\ufefd\116\ufefd\117\ufefd\120\ufefd" +
+    "\121\ufefd\122\ufefd\123\ufefd\124\ufefd\001\002\000\164\002" +
+    "\uff4c\003\uff4c\004\uff4c\005\uff4c\006\uff4c\007\uff4c\010\uff4c" +
+    "\011\uff4c\012\uff4c\013\uff4c\016\uff4c\020\uff4c\023\uff4c\024" +
+    "\uff4c\026\uff4c\033\uff4c\034\uff4c\035\uff4c\036\uff4c\037\uff4c" +
+    "\040\uff4c\041\uff4c\042\uff4c\043\uff4c\044\uff4c\045\uff4c\050" +
+    "\uff4c\052\uff4c\053\uff4c\055\uff4c\057\uff4c\060\uff4c\061\uff4c" +
+    "\062\uff4c\063\uff4c\064\uff4c\065\uff4c\066\uff4c\067\uff4c\070" +
+    "\uff4c\071\uff4c\074\uff4c\075\uff4c\076\uff4c\140\uff4c\142\uff4c" +
+    "\144\uff4c\145\uff4c\146\uff4c\147\uff4c\150\uff4c\151\uff4c\152" +
+    "\uff4c\153\uff4c\156\uff4c\160\uff4c\161\uff4c\001\002\000\004" +
+    "\016\042\001\002\000\164\002\uff53\003\uff53\004\uff53\005" +
+    "\uff53\006\uff53\007\uff53\010\uff53\011\uff53\012\uff53\013\uff53" +
+    "\016\uff53\020\uff53\023\uff53\024\uff53\026\uff53\033\uff53\034" +
+    "\uff53\035\uff53\036\uff53\037\uff53\040\uff53\041\uff53\042\uff53" +
+    "\043\uff53\044\uff53\045\uff53\050\uff53\052\uff53\053\uff53\055" +
+    "\uff53\057\uff53\060\uff53\061\uff53\062\uff53\063\uff53\064\uff53" +
+    "\065\uff53\066\uff53\067\uff53\070\uff53\071\uff53\074\uff53\075" +
+    "\uff53\076\uff53\140\uff53\142\uff53\144\uff53\145\uff53\146\uff53" +
+    "\147\uff53\150\uff53\151\uff53\152\uff53\153\uff53\156\uff53\160" +
+    "\uff53\161\uff53\001\002\000\004\026\u0219\001\002\000\126" +
+    "\003\307\004\126\005\116\006\132\007\115\010\113\011" +
+    "\117\012\130\013\136\016\042\020\274\023\075\026\231" +
+    "\042\u01b1\050\264\052\275\053\247\055\314\057\257\062" +
+    "\260\063\252\064\262\065\270\066\313\067\265\070\223" +
+    "\071\266\074\324\075\323\076\316\140\234\142\251\144" +
+    "\221\145\304\146\242\147\322\150\273\151\272\153\320" +
+    "\156\261\160\254\161\u0103\001\002\000\050\014\ufef0\017" +
+    "\ufef0\020\uff2e\022\uff2e\025\ufe92\027\uff2e\075\ufef0\076\ufef0" +
+    "\125\ufe92\126\ufe92\127\ufe92\130\ufe92\131\ufe92\132\ufe92\133" +
+    "\ufe92\134\ufe92\135\ufe92\136\ufe92\137\ufe92\001\002\000\004" +
+    "\026\u020c\001\002\000\050\014\uffde\016\uffde\017\uffde\025" +
+    "\uffde\026\uffde\030\u020b\075\uffde\076\uffde\125\uffde\126\uffde" +
+    "\127\uffde\130\uffde\131\uffde\132\uffde\133\uffde\134\uffde\135" +
+    "\uffde\136\uffde\137\uffde\001\002\000\004\017\u0209\001\002" +
+    "\000\100\004\126\005\116\006\132\007\115\010\113\011" +
+    "\117\012\130\013\136\016\042\020\ufe85\026\345\050\264" +
+    "\052\365\053\355\074\324\075\323\076\316\077\356\100" +
+    "\374\101\353\102\347\140\234\142\251\144\221\145\304" +
+    "\146\242\147\322\150\273\151\272\156\357\161\u0103\001" +
+    "\002\000\006\003\u01be\023\075\001\002\000\166\002\uff43" +
+    "\003\uff43\004\uff43\005\uff43\006\uff43\007\uff43\010\uff43\011" +
+    "\uff43\012\uff43\013\uff43\016\uff43\020\uff43\023\uff43\024\uff43" +
+    "\026\uff43\033\uff43\034\uff43\035\uff43\036\uff43\037\uff43\040" +
+    "\uff43\041\uff43\042\uff43\043\uff43\044\uff43\045\uff43\050\uff43" +
+    "\052\uff43\053\uff43\055\uff43\056\uff43\057\uff43\060\uff43\061" +
+    "\uff43\062\uff43\063\uff43\064\uff43\065\uff43\066\uff43\067\uff43" +
+    "\070\uff43\071\uff43\074\uff43\075\uff43\076\uff43\140\uff43\142" +
+    "\uff43\144\uff43\145\uff43\146\uff43\147\uff43\150\uff43\151\uff43" +
+    "\152\uff43\153\uff43\156\uff43\160\uff43\161\uff43\001\002\000" +
+    "\006\016\042\020\uff0f\001\002\000\046\014\u012c\016\uffe7" +
+    "\017\u012e\025\ufe95\026\u012d\075\ufecd\076\ufecd\125\ufe95\126" +
+    "\ufe95\127\ufe95\130\ufe95\131\ufe95\132\ufe95\133\ufe95\134\ufe95" +
+    "\135\ufe95\136\ufe95\137\ufe95\001\002\000\102\002\ufff9\014" +
+    "\ufff9\015\ufff9\017\ufff9\020\ufff9\021\ufff9\022\ufff9\024\ufff9" +
+    "\027\ufff9\030\ufff9\075\ufff9\076\ufff9\077\ufff9\100\ufff9\103" +
+    "\ufff9\104\ufff9\105\ufff9\106\ufff9\107\ufff9\110\ufff9\111\ufff9" +
+    "\112\ufff9\113\ufff9\114\ufff9\115\ufff9\116\ufff9\117\ufff9\120" +
+    "\ufff9\121\ufff9\122\ufff9\123\ufff9\124\ufff9\001\002\000\102" +
+    "\002\ufffa\014\ufffa\015\ufffa\017\ufffa\020\ufffa\021\ufffa\022" +
+    "\ufffa\024\ufffa\027\ufffa\030\ufffa\075\ufffa\076\ufffa\077\ufffa" +
+    "\100\ufffa\103\ufffa\104\ufffa\105\ufffa\106\ufffa\107\ufffa\110" +
+    "\ufffa\111\ufffa\112\ufffa\113\ufffa\114\ufffa\115\ufffa\116\ufffa" +
+    "\117\ufffa\120\ufffa\121\ufffa\122\ufffa\123\ufffa\124\ufffa\001" +
+    "\002\000\166\002\uff39\003\uff39\004\uff39\005\uff39\006\uff39" +
+    "\007\uff39\010\uff39\011\uff39\012\uff39\013\uff39\016\uff39\020" +
+    "\uff39\023\uff39\024\uff39\026\uff39\033\uff39\034\uff39\035\uff39" +
+    "\036\uff39\037\uff39\040\uff39\041\uff39\042\uff39\043\uff39\044" +
+    "\uff39\045\uff39\050\uff39\052\uff39\053\uff39\055\uff39\056\uff39" +
+    "\057\uff39\060\uff39\061\uff39\062\uff39\063\uff39\064\uff39\065" +
+    "\uff39\066\uff39\067\uff39\070\uff39\071\uff39\074\uff39\075\uff39" +
+    "\076\uff39\140\uff39\142\uff39\144\uff39\145\uff39\146\uff39\147" +
+    "\uff39\150\uff39\151\uff39\152\uff39\153\uff39\156\uff39\160\uff39" +
+    "\161\uff39\001\002\000\014\014\ufefb\017\ufefb\026\u01f4\075" +
+    "\ufefb\076\ufefb\001\002\000\010\014\140\016\ufff6\017\u0154" +
+    "\001\002\000\010\020\uff35\022\uff35\027\uff35\001\002\000" +
+    "\164\002\uff4f\003\uff4f\004\uff4f\005\uff4f\006\uff4f\007\uff4f" +
+    "\010\uff4f\011\uff4f\012\uff4f\013\uff4f\016\uff4f\020\uff4f\023" +
+    "\uff4f\024\uff4f\026\uff4f\033\uff4f\034\uff4f\035\uff4f\036\uff4f" +
+    "\037\uff4f\040\uff4f\041\uff4f\042\uff4f\043\uff4f\044\uff4f\045" +
+    "\uff4f\050\uff4f\052\uff4f\053\uff4f\055\uff4f\057\uff4f\060\uff4f" +
+    "\061\uff4f\062\uff4f\063\uff4f\064\uff4f\065\uff4f\066\uff4f\067" +
+    "\uff4f\070\uff4f\071\uff4f\074\uff4f\075\uff4f\076\uff4f\140\uff4f" +
+    "\142\uff4f\144\uff4f\145\uff4f\146\uff4f\147\uff4f\150\uff4f\151" +
+    "\uff4f\152\uff4f\153\uff4f\156\uff4f\160\uff4f\161\uff4f\001\002" +
+    "\000\162\003\uff5a\004\uff5a\005\uff5a\006\uff5a\007\uff5a\010" +
+    "\uff5a\011\uff5a\012\uff5a\013\uff5a\016\uff5a\020\uff5a\023\uff5a" +
+    "\024\uff5a\026\uff5a\033\uff5a\034\uff5a\035\uff5a\036\uff5a\037" +
+    "\uff5a\040\uff5a\041\uff5a\042\uff5a\043\uff5a\044\uff5a\045\uff5a" +
+    "\050\uff5a\052\uff5a\053\uff5a\055\uff5a\057\uff5a\060\uff5a\061" +
+    "\uff5a\062\uff5a\063\uff5a\064\uff5a\065\uff5a\066\uff5a\067\uff5a" +
+    "\070\uff5a\071\uff5a\074\uff5a\075\uff5a\076\uff5a\140\uff5a\142" +
+    "\uff5a\144\uff5a\145\uff5a\146\uff5a\147\uff5a\150\uff5a\151\uff5a" +
+    "\152\uff5a\153\uff5a\156\uff5a\160\uff5a\161\uff5a\001\002\000" +
+    "\004\045\040\001\002\000\010\017\u01e9\075\ufece\076\ufece" +
+    "\001\002\000\102\002\ufffd\014\ufffd\015\ufffd\017\ufffd\020" +
+    "\ufffd\021\ufffd\022\ufffd\024\ufffd\027\ufffd\030\ufffd\075\ufffd" +
+    "\076\ufffd\077\ufffd\100\ufffd\103\ufffd\104\ufffd\105\ufffd\106" +
+    "\ufffd\107\ufffd\110\ufffd\111\ufffd\112\ufffd\113\ufffd\114\ufffd" +
+    "\115\ufffd\116\ufffd\117\ufffd\120\ufffd\121\ufffd\122\ufffd\123" +
+    "\ufffd\124\ufffd\001\002\000\166\002\uff3f\003\uff3f\004\uff3f" +
+    "\005\uff3f\006\uff3f\007\uff3f\010\uff3f\011\uff3f\012\uff3f\013" +
+    "\uff3f\016\uff3f\020\uff3f\023\uff3f\024\uff3f\026\uff3f\033\uff3f" +
+    "\034\uff3f\035\uff3f\036\uff3f\037\uff3f\040\uff3f\041\uff3f\042" +
+    "\uff3f\043\uff3f\044\uff3f\045\uff3f\050\uff3f\052\uff3f\053\uff3f" +
+    "\055\uff3f\056\uff3f\057\uff3f\060\uff3f\061\uff3f\062\uff3f\063" +
+    "\uff3f\064\uff3f\065\uff3f\066\uff3f\067\uff3f\070\uff3f\071\uff3f" +
+    "\074\uff3f\075\uff3f\076\uff3f\140\uff3f\142\uff3f\144\uff3f\145" +
+    "\uff3f\146\uff3f\147\uff3f\150\uff3f\151\uff3f\152\uff3f\153\uff3f" +
+    "\156\uff3f\160\uff3f\161\uff3f\001\002\000\010\020\uff33\022" +
+    "\uff33\027\uff33\001\002\000\006\020\u01e8\024\u01c0\001\002" +
+    "\000\164\002\uff50\003\uff50\004\uff50\005\uff50\006\uff50\007" +
+    "\uff50\010\uff50\011\uff50\012\uff50\013\uff50\016\uff50\020\uff50" +
+    "\023\uff50\024\uff50\026\uff50\033\uff50\034\uff50\035\uff50\036" +
+    "\uff50\037\uff50\040\uff50\041\uff50\042\uff50\043\uff50\044\uff50" +
+    "\045\uff50\050\uff50\052\uff50\053\uff50\055\uff50\057\uff50\060" +
+    "\uff50\061\uff50\062\uff50\063\uff50\064\uff50\065\uff50\066\uff50" +
+    "\067\uff50\070\uff50\071\uff50\074\uff50\075\uff50\076\uff50\140" +
+    "\uff50\142\uff50\144\uff50\145\uff50\146\uff50\147\uff50\150\uff50" +
+    "\151\uff50\152\uff50\153\uff50\156\uff50\160\uff50\161\uff50\001" +
+    "\002\000\164\002\uff52\003\uff52\004\uff52\005\uff52\006\uff52" +
+    "\007\uff52\010\uff52\011\uff52\012\uff52\013\uff52\016\uff52\020" +
+    "\uff52\023\uff52\024\uff52\026\uff52\033\uff52\034\uff52\035\uff52" +
+    "\036\uff52\037\uff52\040\uff52\041\uff52\042\uff52\043\uff52\044" +
+    "\uff52\045\uff52\050\uff52\052\uff52\053\uff52\055\uff52\057\uff52" +
+    "\060\uff52\061\uff52\062\uff52\063\uff52\064\uff52\065\uff52\066" +
+    "\uff52\067\uff52\070\uff52\071\uff52\074\uff52\075\uff52\076\uff52" +
+    "\140\uff52\142\uff52\144\uff52\145\uff52\146\uff52\147\uff52\150" +
+    "\uff52\151\uff52\152\uff52\153\uff52\156\uff52\160\uff52\161\uff52" +
+    "\001\002\000\034\026\u01bb\033\uffbc\034\uffbc\035\uffbc\036" +
+    "\uffbc\037\uffbc\040\uffbc\041\uffbc\042\uffbc\043\uffbc\044\uffbc" +
+    "\045\uffbc\152\uffbc\001\002\000\006\016\042\020\uff0f\001" +
+    "\002\000\004\026\u01a5\001\002\000\166\002\uff3c\003\uff3c" +
+    "\004\uff3c\005\uff3c\006\uff3c\007\uff3c\010\uff3c\011\uff3c\012" +
+    "\uff3c\013\uff3c\016\uff3c\020\uff3c\023\uff3c\024\uff3c\026\uff3c" +
+    "\033\uff3c\034\uff3c\035\uff3c\036\uff3c\037\uff3c\040\uff3c\041" +
+    "\uff3c\042\uff3c\043\uff3c\044\uff3c\045\uff3c\050\uff3c\052\uff3c" +
+    "\053\uff3c\055\uff3c\056\uff3c\057\uff3c\060\uff3c\061\uff3c\062" +
+    "\uff3c\063\uff3c\064\uff3c\065\uff3c\066\uff3c\067\uff3c\070\uff3c" +
+    "\071\uff3c\074\uff3c\075\uff3c\076\uff3c\140\uff3c\142\uff3c\144" +
+    "\uff3c\145\uff3c\146\uff3c\147\uff3c\150\uff3c\151\uff3c\152\uff3c" +
+    "\153\uff3c\156\uff3c\160\uff3c\161\uff3c\001\002\000\076\004" +
+    "\126\005\116\006\132\007\115\010\113\011\117\012\130" +
+    "\013\136\016\042\026\345\050\264\052\365\053\355\074" +
+    "\324\075\323\076\316\077\356\100\374\101\353\102\347" +
+    "\140\234\142\251\144\221\145\304\146\242\147\322\150" +
+    "\273\151\272\156\u0108\161\u0103\001\002\000\014\020\uff32" +
+    "\022\uff32\027\uff32\075\ufecc\076\ufecc\001\002\000\076\004" +
+    "\126\005\116\006\132\007\115\010\113\011\117\012\130" +
+    "\013\136\016\042\026\345\050\264\052\365\053\355\074" +
+    "\324\075\323\076\316\077\356\100\374\101\353\102\347" +
+    "\140\234\142\251\144\221\145\304\146\242\147\322\150" +
+    "\273\151\272\156\357\161\u0103\001\002\000\102\002\ufefe" +
+    "\014\u019c\015\ufefe\017\ufefe\020\ufefe\021\ufefe\022\ufefe\024" +
+    "\ufefe\027\ufefe\030\ufefe\075\ufefe\076\ufefe\077\ufefe\100\ufefe" +
+    "\103\ufefe\104\ufefe\105\ufefe\106\ufefe\107\ufefe\110\ufefe\111" +
+    "\ufefe\112\ufefe\113\ufefe\114\ufefe\115\ufefe\116\ufefe\117\ufefe" +
+    "\120\ufefe\121\ufefe\122\ufefe\123\ufefe\124\ufefe\001\002\000" +
+    "\102\002\ufffb\014\ufffb\015\ufffb\017\ufffb\020\ufffb\021\ufffb" +
+    "\022\ufffb\024\ufffb\027\ufffb\030\ufffb\075\ufffb\076\ufffb\077" +
+    "\ufffb\100\ufffb\103\ufffb\104\ufffb\105\ufffb\106\ufffb\107\ufffb" +
+    "\110\ufffb\111\ufffb\112\ufffb\113\ufffb\114\ufffb\115\ufffb\116" +
+    "\ufffb\117\ufffb\120\ufffb\121\ufffb\122\ufffb\123\ufffb\124\ufffb" +
+    "\001\002\000\076\004\126\005\116\006\132\007\115\010" +
+    "\113\011\117\012\130\013\136\016\042\026\345\050\264" +
+    "\052\365\053\355\074\324\075\323\076\316\077\356\100" +
+    "\374\101\353\102\347\140\234\142\251\144\221\145\304" +
+    "\146\242\147\322\150\273\151\272\156\u0108\161\u0103\001" +
+    "\002\000\026\004\126\005\116\006\132\007\115\010\113" +
+    "\011\117\012\130\013\136\016\042\161\046\001\002\000" +
+    "\102\002\ufefc\014\ufefc\015\ufefc\017\ufefc\020\ufefc\021\ufefc" +
+    "\022\ufefc\024\ufefc\027\ufefc\030\ufefc\075\ufefc\076\ufefc\077" +
+    "\ufefc\100\ufefc\103\ufefc\104\ufefc\105\ufefc\106\ufefc\107\ufefc" +
+    "\110\ufefc\111\ufefc\112\ufefc\113\ufefc\114\ufefc\115\ufefc\116" +
+    "\ufefc\117\ufefc\120\ufefc\121\ufefc\122\ufefc\123\ufefc\124\ufefc" +
+    "\001\002\000\164\002\uff58\003\uff58\004\uff58\005\uff58\006" +
+    "\uff58\007\uff58\010\uff58\011\uff58\012\uff58\013\uff58\016\uff58" +
+    "\020\uff58\023\uff58\024\uff58\026\uff58\033\uff58\034\uff58\035" +
+    "\uff58\036\uff58\037\uff58\040\uff58\041\uff58\042\uff58\043\uff58" +
+    "\044\uff58\045\uff58\050\uff58\052\uff58\053\uff58\055\uff58\057" +
+    "\uff58\060\uff58\061\uff58\062\uff58\063\uff58\064\uff58\065\uff58" +
+    "\066\uff58\067\uff58\070\uff58\071\uff58\074\uff58\075\uff58\076" +
+    "\uff58\140\uff58\142\uff58\144\uff58\145\uff58\146\uff58\147\uff58" +
+    "\150\uff58\151\uff58\152\uff58\153\uff58\156\uff58\160\uff58\161" +
+    "\uff58\001\002\000\010\014\140\016\uffe6\017\332\001\002" +
+    "\000\166\002\uff41\003\uff41\004\uff41\005\uff41\006\uff41\007" +
+    "\uff41\010\uff41\011\uff41\012\uff41\013\uff41\016\uff41\020\uff41" +
+    "\023\uff41\024\uff41\026\uff41\033\uff41\034\uff41\035\uff41\036" +
+    "\uff41\037\uff41\040\uff41\041\uff41\042\uff41\043\uff41\044\uff41" +
+    "\045\uff41\050\uff41\052\uff41\053\uff41\055\uff41\056\uff41\057" +
+    "\uff41\060\uff41\061\uff41\062\uff41\063\uff41\064\uff41\065\uff41" +
+    "\066\uff41\067\uff41\070\uff41\071\uff41\074\uff41\075\uff41\076" +
+    "\uff41\140\uff41\142\uff41\144\uff41\145\uff41\146\uff41\147\uff41" +
+    "\150\uff41\151\uff41\152\uff41\153\uff41\156\uff41\160\uff41\161" +
+    "\uff41\001\002\000\060\002\uffe1\014\142\015\uffe1\016\uffe1" +
+    "\017\uffe1\020\uffe1\022\uffe1\024\uffe1\027\uffe1\030\uffe1\110" +
+    "\uffe1\111\uffe1\112\uffe1\113\uffe1\114\uffe1\115\uffe1\116\uffe1" +
+    "\117\uffe1\120\uffe1\121\uffe1\122\uffe1\123\uffe1\124\uffe1\001" +
+    "\002\000\004\016\042\001\002\000\134\002\ufed6\014\ufed6" +
+    "\015\ufed6\017\ufed6\020\ufed6\021\ufed6\022\ufed6\024\ufed6\025" +
+    "\ufed6\026\334\027\ufed6\030\ufed6\075\ufed6\076\ufed6\077\ufed6" +
+    "\100\ufed6\103\ufed6\104\ufed6\105\ufed6\106\ufed6\107\ufed6\110" +
+    "\ufed6\111\ufed6\112\ufed6\113\ufed6\114\ufed6\115\ufed6\116\ufed6" +
+    "\117\ufed6\120\ufed6\121\ufed6\122\ufed6\123\ufed6\124\ufed6\125" +
+    "\ufed6\126\ufed6\127\ufed6\130\ufed6\131\ufed6\132\ufed6\133\ufed6" +
+    "\134\ufed6\135\ufed6\136\ufed6\137\ufed6\001\002\000\102\004" +
+    "\126\005\116\006\132\007\115\010\113\011\117\012\130" +
+    "\013\136\016\042\026\345\027\ufee9\050\264\052\365\053" +
+    "\355\074\324\075\323\076\316\077\356\100\374\101\353" +
+    "\102\347\140\234\142\251\144\221\145\304\146\242\147" +
+    "\322\150\273\151\272\156\357\161\u0103\164\372\001\002" +
+    "\000\072\002\ufebd\015\ufebd\020\ufebd\021\ufebd\022\ufebd\024" +
+    "\ufebd\027\ufebd\030\ufebd\077\ufebd\100\ufebd\103\ufebd\104\ufebd" +
+    "\105\ufebd\106\ufebd\107\ufebd\110\ufebd\111\ufebd\112\ufebd\113" +
+    "\ufebd\114\ufebd\115\ufebd\116\ufebd\117\ufebd\120\ufebd\121\ufebd" +
+    "\122\ufebd\123\ufebd\124\ufebd\001\002\000\102\002\ufef7\014" +
+    "\ufef7\015\ufef7\017\ufef7\020\ufef7\021\ufef7\022\ufef7\024\ufef7" +
+    "\027\ufef7\030\ufef7\075\ufef7\076\ufef7\077\ufef7\100\ufef7\103" +
+    "\ufef7\104\ufef7\105\ufef7\106\ufef7\107\ufef7\110\ufef7\111\ufef7" +
+    "\112\ufef7\113\ufef7\114\ufef7\115\ufef7\116\ufef7\117\ufef7\120" +
+    "\ufef7\121\ufef7\122\ufef7\123\ufef7\124\ufef7\001\002\000\006" +
+    "\022\u0178\027\ufee8\001\002\000\064\002\ufeb1\015\ufeb1\020" +
+    "\ufeb1\022\ufeb1\024\ufeb1\027\ufeb1\030\ufeb1\077\u011a\100\u011b" +
+    "\105\ufeb1\106\ufeb1\107\ufeb1\110\ufeb1\111\ufeb1\112\ufeb1\113" +
+    "\ufeb1\114\ufeb1\115\ufeb1\116\ufeb1\117\ufeb1\120\ufeb1\121\ufeb1" +
+    "\122\ufeb1\123\ufeb1\124\ufeb1\001\002\000\004\017\u0176\001" +
+    "\002\000\072\002\ufec3\015\ufec3\020\ufec3\021\ufec3\022\ufec3" +
+    "\024\ufec3\027\ufec3\030\ufec3\077\ufec3\100\ufec3\103\ufec3\104" +
+    "\ufec3\105\ufec3\106\ufec3\107\ufec3\110\ufec3\111\ufec3\112\ufec3" +
+    "\113\ufec3\114\ufec3\115\ufec3\116\ufec3\117\ufec3\120\ufec3\121" +
+    "\ufec3\122\ufec3\123\ufec3\124\ufec3\001\002\000\102\002\ufef9" +
+    "\014\ufef9\015\ufef9\017\ufef9\020\ufef9\021\ufef9\022\ufef9\024" +
+    "\ufef9\027\ufef9\030\ufef9\075\ufef9\076\ufef9\077\ufef9\100\ufef9" +
+    "\103\ufef9\104\ufef9\105\ufef9\106\ufef9\107\ufef9\110\ufef9\111" +
+    "\ufef9\112\ufef9\113\ufef9\114\ufef9\115\ufef9\116\ufef9\117\ufef9" +
+    "\120\ufef9\121\ufef9\122\ufef9\123\ufef9\124\ufef9\001\002\000" +
+    "\076\002\ufecb\015\ufecb\020\ufecb\021\ufecb\022\ufecb\024\ufecb" +
+    "\027\ufecb\030\ufecb\075\ufecb\076\ufecb\077\ufecb\100\ufecb\103" +
+    "\ufecb\104\ufecb\105\ufecb\106\ufecb\107\ufecb\110\ufecb\111\ufecb" +
+    "\112\ufecb\113\ufecb\114\ufecb\115\ufecb\116\ufecb\117\ufecb\120" +
+    "\ufecb\121\ufecb\122\ufecb\123\ufecb\124\ufecb\001\002\000\076" +
+    "\004\126\005\116\006\132\007\115\010\113\011\117\012" +
+    "\130\013\136\016\042\026\345\050\264\052\365\053\355" +
+    "\074\324\075\323\076\316\077\356\100\374\101\353\102" +
+    "\347\140\234\142\251\144\221\145\304\146\242\147\322" +
+    "\150\273\151\272\156\357\161\u016a\001\002\000\076\002" +
+    "\ufec0\015\ufec0\020\ufec0\021\ufec0\022\ufec0\024\ufec0\027\ufec0" +
+    "\030\ufec0\075\u0166\076\u0165\077\ufec0\100\ufec0\103\ufec0\104" +
+    "\ufec0\105\ufec0\106\ufec0\107\ufec0\110\ufec0\111\ufec0\112\ufec0" +
+    "\113\ufec0\114\ufec0\115\ufec0\116\ufec0\117\ufec0\120\ufec0\121" +
+    "\ufec0\122\ufec0\123\ufec0\124\ufec0\001\002\000\076\004\126" +
+    "\005\116\006\132\007\115\010\113\011\117\012\130\013" +
+    "\136\016\042\026\345\050\264\052\365\053\355\074\324" +
+    "\075\323\076\316\077\356\100\374\101\353\102\347\140" +
+    "\234\142\251\144\221\145\304\146\242\147\322\150\273" +
+    "\151\272\156\u0108\161\u0103\001\002\000\004\027\u0163\001" +
+    "\002\000\052\002\ufea7\015\ufea7\020\ufea7\022\ufea7\024\ufea7" +
+    "\027\ufea7\030\ufea7\110\u0110\111\u0112\112\u0114\113\u0111\114" +
+    "\u0113\115\ufea7\116\ufea7\117\ufea7\120\ufea7\121\ufea7\122\ufea7" +
+    "\123\ufea7\124\ufea7\001\002\000\072\002\ufeb4\015\ufeb4\020" +
+    "\ufeb4\021\u011e\022\ufeb4\024\ufeb4\027\ufeb4\030\ufeb4\077\ufeb4" +
+    "\100\ufeb4\103\u011f\104\u011d\105\ufeb4\106\ufeb4\107\ufeb4\110" +
+    "\ufeb4\111\ufeb4\112\ufeb4\113\ufeb4\114\ufeb4\115\ufeb4\116\ufeb4" +
+    "\117\ufeb4\120\ufeb4\121\ufeb4\122\ufeb4\123\ufeb4\124\ufeb4\001" +
+    "\002\000\076\004\126\005\116\006\132\007\115\010\113" +
+    "\011\117\012\130\013\136\016\042\026\345\050\264\052" +
+    "\365\053\355\074\324\075\323\076\316\077\356\100\374" +
+    "\101\353\102\347\140\234\142\251\144\221\145\304\146" +
+    "\242\147\322\150\273\151\272\156\u0108\161\u0103\001\002" +
+    "\000\072\002\ufec8\015\ufec8\020\ufec8\021\ufec8\022\ufec8\024" +
+    "\ufec8\027\ufec8\030\ufec8\077\ufec8\100\ufec8\103\ufec8\104\ufec8" +
+    "\105\ufec8\106\ufec8\107\ufec8\110\ufec8\111\ufec8\112\ufec8\113" +
+    "\ufec8\114\ufec8\115\ufec8\116\ufec8\117\ufec8\120\ufec8\121\ufec8" +
+    "\122\ufec8\123\ufec8\124\ufec8\001\002\000\004\017\u015d\001" +
+    "\002\000\076\004\126\005\116\006\132\007\115\010\113" +
+    "\011\117\012\130\013\136\016\042\026\345\050\264\052" +
+    "\365\053\355\074\324\075\323\076\316\077\356\100\374" +
+    "\101\353\102\347\140\234\142\251\144\221\145\304\146" +
+    "\242\147\322\150\273\151\272\156\u0108\161\u0103\001\002" +
+    "\000\132\002\ufef0\014\ufef0\015\ufef0\017\ufef0\020\ufef0\021" +
+    "\ufef0\022\ufef0\024\ufef0\025\ufe92\027\ufef0\030\ufef0\075\ufef0" +
+    "\076\ufef0\077\ufef0\100\ufef0\103\ufef0\104\ufef0\105\ufef0\106" +
+    "\ufef0\107\ufef0\110\ufef0\111\ufef0\112\ufef0\113\ufef0\114\ufef0" +
+    "\115\ufef0\116\ufef0\117\ufef0\120\ufef0\121\ufef0\122\ufef0\123" +
+    "\ufef0\124\ufef0\125\ufe92\126\ufe92\127\ufe92\130\ufe92\131\ufe92" +
+    "\132\ufe92\133\ufe92\134\ufe92\135\ufe92\136\ufe92\137\ufe92\001" +
+    "\002\000\024\002\ufe9a\015\ufe9a\020\ufe9a\022\ufe9a\024\ufe9a" +
+    "\027\ufe9a\030\ufe9a\123\u0156\124\u0157\001\002\000\040\002" +
+    "\ufea4\015\ufea4\020\ufea4\022\ufea4\024\ufea4\027\ufea4\030\ufea4" +
+    "\115\u010e\116\u010d\117\ufea4\120\ufea4\121\ufea4\122\ufea4\123" +
+    "\ufea4\124\ufea4\001\002\000\034\002\ufea2\015\ufea2\020\ufea2" +
+    "\022\ufea2\024\ufea2\027\ufea2\030\ufea2\117\u010b\120\ufea2\121" +
+    "\ufea2\122\ufea2\123\ufea2\124\ufea2\001\002\000\134\002\ufecd" +
+    "\014\u012c\015\ufecd\017\u012e\020\ufecd\021\ufecd\022\ufecd\024" +
+    "\ufecd\025\ufe95\026\u012d\027\ufecd\030\ufecd\075\ufecd\076\ufecd" +
+    "\077\ufecd\100\ufecd\103\ufecd\104\ufecd\105\ufecd\106\ufecd\107" +
+    "\ufecd\110\ufecd\111\ufecd\112\ufecd\113\ufecd\114\ufecd\115\ufecd" +
+    "\116\ufecd\117\ufecd\120\ufecd\121\ufecd\122\ufecd\123\ufecd\124" +
+    "\ufecd\125\ufe95\126\ufe95\127\ufe95\130\ufe95\131\ufe95\132\ufe95" +
+    "\133\ufe95\134\ufe95\135\ufe95\136\ufe95\137\ufe95\001\002\000" +
+    "\060\002\ufead\015\ufead\020\ufead\022\ufead\024\ufead\027\ufead" +
+    "\030\ufead\105\u0116\106\u0118\107\u0117\110\ufead\111\ufead\112" +
+    "\ufead\113\ufead\114\ufead\115\ufead\116\ufead\117\ufead\120\ufead" +
+    "\121\ufead\122\ufead\123\ufead\124\ufead\001\002\000\102\002" +
+    "\ufefb\014\ufefb\015\ufefb\017\ufefb\020\ufefb\021\ufefb\022\ufefb" +
+    "\024\ufefb\027\ufefb\030\ufefb\075\ufefb\076\ufefb\077\ufefb\100" +
+    "\ufefb\103\ufefb\104\ufefb\105\ufefb\106\ufefb\107\ufefb\110\ufefb" +
+    "\111\ufefb\112\ufefb\113\ufefb\114\ufefb\115\ufefb\116\ufefb\117" +
+    "\ufefb\120\ufefb\121\ufefb\122\ufefb\123\ufefb\124\ufefb\001\002" +
+    "\000\030\002\ufe9e\015\ufe9e\020\ufe9e\022\ufe9e\024\ufe9e\027" +
+    "\ufe9e\030\ufe9e\121\u0143\122\ufe9e\123\ufe9e\124\ufe9e\001\002" +
+    "\000\006\014\140\017\u0154\001\002\000\020\002\ufe97\015" +
+    "\ufe97\020\ufe97\022\ufe97\024\ufe97\027\ufe97\030\ufe97\001\002" +
+    "\000\020\002\ufe83\015\ufe83\020\ufe83\022\ufe83\024\ufe83\027" +
+    "\ufe83\030\ufe83\001\002\000\006\022\ufee5\027\ufee5\001\002" +
+    "\000\100\002\ufece\015\ufece\017\u0149\020\ufece\021\ufece\022" +
+    "\ufece\024\ufece\027\ufece\030\ufece\075\ufece\076\ufece\077\ufece" +
+    "\100\ufece\103\ufece\104\ufece\105\ufece\106\ufece\107\ufece\110" +
+    "\ufece\111\ufece\112\ufece\113\ufece\114\ufece\115\ufece\116\ufece" +
+    "\117\ufece\120\ufece\121\ufece\122\ufece\123\ufece\124\ufece\001" +
+    "\002\000\102\004\126\005\116\006\132\007\115\010\113" +
+    "\011\117\012\130\013\136\016\042\026\345\050\264\052" +
+    "\365\053\355\074\324\075\323\076\316\077\356\100\374" +
+    "\101\353\102\347\140\234\141\u0145\142\251\143\u0148\144" +
+    "\221\145\304\146\242\147\322\150\273\151\272\156\u0108" +
+    "\161\u0103\001\002\000\072\002\ufec7\015\ufec7\020\ufec7\021" +
+    "\ufec7\022\ufec7\024\ufec7\027\ufec7\030\ufec7\077\ufec7\100\ufec7" +
+    "\103\ufec7\104\ufec7\105\ufec7\106\ufec7\107\ufec7\110\ufec7\111" +
+    "\ufec7\112\ufec7\113\ufec7\114\ufec7\115\ufec7\116\ufec7\117\ufec7" +
+    "\120\ufec7\121\ufec7\122\ufec7\123\ufec7\124\ufec7\001\002\000" +
+    "\006\022\ufee7\027\ufee7\001\002\000\026\002\ufe9c\015\ufe9c" +
+    "\020\ufe9c\022\ufe9c\024\ufe9c\027\ufe9c\030\ufe9c\122\u0141\123" +
+    "\ufe9c\124\ufe9c\001\002\000\076\002\ufecc\015\ufecc\020\ufecc" +
+    "\021\ufecc\022\ufecc\024\ufecc\027\ufecc\030\ufecc\075\ufecc\076" +
+    "\ufecc\077\ufecc\100\ufecc\103\ufecc\104\ufecc\105\ufecc\106\ufecc" +
+    "\107\ufecc\110\ufecc\111\ufecc\112\ufecc\113\ufecc\114\ufecc\115" +
+    "\ufecc\116\ufecc\117\ufecc\120\ufecc\121\ufecc\122\ufecc\123\ufecc" +
+    "\124\ufecc\001\002\000\020\002\ufe98\015\ufe98\020\ufe98\022" +
+    "\ufe98\024\ufe98\027\ufe98\030\ufe98\001\002\000\032\002\ufea0" +
+    "\015\ufea0\020\ufea0\022\ufea0\024\ufea0\027\ufea0\030\ufea0\120" +
+    "\u0105\121\ufea0\122\ufea0\123\ufea0\124\ufea0\001\002\000\006" +
+    "\014\140\017\332\001\002\000\072\002\ufeb8\015\ufeb8\020" +
+    "\ufeb8\021\ufeb8\022\ufeb8\024\ufeb8\027\ufeb8\030\ufeb8\077\ufeb8" +
+    "\100\ufeb8\103\ufeb8\104\ufeb8\105\ufeb8\106\ufeb8\107\ufeb8\110" +
+    "\ufeb8\111\ufeb8\112\ufeb8\113\ufeb8\114\ufeb8\115\ufeb8\116\ufeb8" +
+    "\117\ufeb8\120\ufeb8\121\ufeb8\122\ufeb8\123\ufeb8\124\ufeb8\001" +
+    "\002\000\076\004\126\005\116\006\132\007\115\010\113" +
+    "\011\117\012\130\013\136\016\042\026\345\050\264\052" +
+    "\365\053\355\074\324\075\323\076\316\077\356\100\374" +
+    "\101\353\102\347\140\234\142\251\144\221\145\304\146" +
+    "\242\147\322\150\273\151\272\156\u0108\161\u0103\001\002" +
+    "\000\102\002\ufef8\014\ufef8\015\ufef8\017\ufef8\020\ufef8\021" +
+    "\ufef8\022\ufef8\024\ufef8\027\ufef8\030\ufef8\075\ufef8\076\ufef8" +
+    "\077\ufef8\100\ufef8\103\ufef8\104\ufef8\105\ufef8\106\ufef8\107" +
+    "\ufef8\110\ufef8\111\ufef8\112\ufef8\113\ufef8\114\ufef8\115\ufef8" +
+    "\116\ufef8\117\ufef8\120\ufef8\121\ufef8\122\ufef8\123\ufef8\124" +
+    "\ufef8\001\002\000\104\002\ufecd\014\u012c\015\ufecd\017\u012e" +
+    "\020\ufecd\021\ufecd\022\ufecd\024\ufecd\026\u012d\027\ufecd\030" +
+    "\ufecd\075\ufecd\076\ufecd\077\ufecd\100\ufecd\103\ufecd\104\ufecd" +
+    "\105\ufecd\106\ufecd\107\ufecd\110\ufecd\111\ufecd\112\ufecd\113" +
+    "\ufecd\114\ufecd\115\ufecd\116\ufecd\117\ufecd\120\ufecd\121\ufecd" +
+    "\122\ufecd\123\ufecd\124\ufecd\001\002\000\102\002\ufef0\014" +
+    "\ufef0\015\ufef0\017\ufef0\020\ufef0\021\ufef0\022\ufef0\024\ufef0" +
+    "\027\ufef0\030\ufef0\075\ufef0\076\ufef0\077\ufef0\100\ufef0\103" +
+    "\ufef0\104\ufef0\105\ufef0\106\ufef0\107\ufef0\110\ufef0\111\ufef0" +
+    "\112\ufef0\113\ufef0\114\ufef0\115\ufef0\116\ufef0\117\ufef0\120" +
+    "\ufef0\121\ufef0\122\ufef0\123\ufef0\124\ufef0\001\002\000\034" +
+    "\002\ufea1\015\ufea1\020\ufea1\022\ufea1\024\ufea1\027\ufea1\030" +
+    "\ufea1\117\u010b\120\ufea1\121\ufea1\122\ufea1\123\ufea1\124\ufea1" +
+    "\001\002\000\102\002\ufef6\014\ufef6\015\ufef6\017\ufef6\020" +
+    "\ufef6\021\ufef6\022\ufef6\024\ufef6\027\ufef6\030\ufef6\075\ufef6" +
+    "\076\ufef6\077\ufef6\100\ufef6\103\ufef6\104\ufef6\105\ufef6\106" +
+    "\ufef6\107\ufef6\110\ufef6\111\ufef6\112\ufef6\113\ufef6\114\ufef6" +
+    "\115\ufef6\116\ufef6\117\ufef6\120\ufef6\121\ufef6\122\ufef6\123" +
+    "\ufef6\124\ufef6\001\002\000\076\004\126\005\116\006\132" +
+    "\007\115\010\113\011\117\012\130\013\136\016\042\026" +
+    "\345\050\264\052\365\053\355\074\324\075\323\076\316" +
+    "\077\356\100\374\101\353\102\347\140\234\142\251\144" +
+    "\221\145\304\146\242\147\322\150\273\151\272\156\u0108" +
+    "\161\u0103\001\002\000\040\002\ufea3\015\ufea3\020\ufea3\022" +
+    "\ufea3\024\ufea3\027\ufea3\030\ufea3\115\u010e\116\u010d\117\ufea3" +
+    "\120\ufea3\121\ufea3\122\ufea3\123\ufea3\124\ufea3\001\002\000" +
+    "\076\004\126\005\116\006\132\007\115\010\113\011\117" +
+    "\012\130\013\136\016\042\026\345\050\264\052\365\053" +
+    "\355\074\324\075\323\076\316\077\356\100\374\101\353" +
+    "\102\347\140\234\142\251\144\221\145\304\146\242\147" +
+    "\322\150\273\151\272\156\u0108\161\u0103\001\002\000\076" +
+    "\004\126\005\116\006\132\007\115\010\113\011\117\012" +
+    "\130\013\136\016\042\026\345\050\264\052\365\053\355" +
+    "\074\324\075\323\076\316\077\356\100\374\101\353\102" +
+    "\347\140\234\142\251\144\221\145\304\146\242\147\322" +
+    "\150\273\151\272\156\u0108\161\u0103\001\002\000\052\002" +
+    "\ufea6\015\ufea6\020\ufea6\022\ufea6\024\ufea6\027\ufea6\030\ufea6" +
+    "\110\u0110\111\u0112\112\u0114\113\u0111\114\u0113\115\ufea6\116" +
+    "\ufea6\117\ufea6\120\ufea6\121\ufea6\122\ufea6\123\ufea6\124\ufea6" +
+    "\001\002\000\076\004\126\005\116\006\132\007\115\010" +
+    "\113\011\117\012\130\013\136\016\042\026\345\050\264" +
+    "\052\365\053\355\074\324\075\323\076\316\077\356\100" +
+    "\374\101\353\102\347\140\234\142\251\144\221\145\304" +
+    "\146\242\147\322\150\273\151\272\156\u0108\161\u0103\001" +
+    "\002\000\076\004\126\005\116\006\132\007\115\010\113" +
+    "\011\117\012\130\013\136\016\042\026\345\050\264\052" +
+    "\365\053\355\074\324\075\323\076\316\077\356\100\374" +
+    "\101\353\102\347\140\234\142\251\144\221\145\304\146" +
+    "\242\147\322\150\273\151\272\156\u0108\161\u0103\001\002" +
+    "\000\076\004\126\005\116\006\132\007\115\010\113\011" +
+    "\117\012\130\013\136\016\042\026\345\050\264\052\365" +
+    "\053\355\074\324\075\323\076\316\077\356\100\374\101" +
+    "\353\102\347\140\234\142\251\144\221\145\304\146\242" +
+    "\147\322\150\273\151\272\156\u0108\161\u0103\001\002\000" +
+    "\026\004\126\005\116\006\132\007\115\010\113\011\117" +
+    "\012\130\013\136\016\042\161\123\001\002\000\076\004" +
+    "\126\005\116\006\132\007\115\010\113\011\117\012\130" +
+    "\013\136\016\042\026\345\050\264\052\365\053\355\074" +
+    "\324\075\323\076\316\077\356\100\374\101\353\102\347" +
+    "\140\234\142\251\144\221\145\304\146\242\147\322\150" +
+    "\273\151\272\156\u0108\161\u0103\001\002\000\060\002\ufeaa" +
+    "\015\ufeaa\020\ufeaa\022\ufeaa\024\ufeaa\027\ufeaa\030\ufeaa\105" +
+    "\u0116\106\u0118\107\u0117\110\ufeaa\111\ufeaa\112\ufeaa\113\ufeaa" +
+    "\114\ufeaa\115\ufeaa\116\ufeaa\117\ufeaa\120\ufeaa\121\ufeaa\122" +
+    "\ufeaa\123\ufeaa\124\ufeaa\001\002\000\076\004\126\005\116" +
+    "\006\132\007\115\010\113\011\117\012\130\013\136\016" +
+    "\042\026\345\050\264\052\365\053\355\074\324\075\323" +
+    "\076\316\077\356\100\374\101\353\102\347\140\234\142" +
+    "\251\144\221\145\304\146\242\147\322\150\273\151\272" +
+    "\156\u0108\161\u0103\001\002\000\076\004\126\005\116\006" +
+    "\132\007\115\010\113\011\117\012\130\013\136\016\042" +
+    "\026\345\050\264\052\365\053\355\074\324\075\323\076" +
+    "\316\077\356\100\374\101\353\102\347\140\234\142\251" +
+    "\144\221\145\304\146\242\147\322\150\273\151\272\156" +
+    "\u0108\161\u0103\001\002\000\076\004\126\005\116\006\132" +
+    "\007\115\010\113\011\117\012\130\013\136\016\042\026" +
+    "\345\050\264\052\365\053\355\074\324\075\323\076\316" +
+    "\077\356\100\374\101\353\102\347\140\234\142\251\144" +
+    "\221\145\304\146\242\147\322\150\273\151\272\156\u0108" +
+    "\161\u0103\001\002\000\064\002\ufeaf\015\ufeaf\020\ufeaf\022" +
+    "\ufeaf\024\ufeaf\027\ufeaf\030\ufeaf\077\u011a\100\u011b\105\ufeaf" +
+    "\106\ufeaf\107\ufeaf\110\ufeaf\111\ufeaf\112\ufeaf\113\ufeaf\114" +
+    "\ufeaf\115\ufeaf\116\ufeaf\117\ufeaf\120\ufeaf\121\ufeaf\122\ufeaf" +
+    "\123\ufeaf\124\ufeaf\001\002\000\076\004\126\005\116\006" +
+    "\132\007\115\010\113\011\117\012\130\013\136\016\042" +
+    "\026\345\050\264\052\365\053\355\074\324\075\323\076" +
+    "\316\077\356\100\374\101\353\102\347\140\234\142\251" +
+    "\144\221\145\304\146\242\147\322\150\273\151\272\156" +
+    "\u0108\161\u0103\001\002\000\076\004\126\005\116\006\132" +
+    "\007\115\010\113\011\117\012\130\013\136\016\042\026" +
+    "\345\050\264\052\365\053\355\074\324\075\323\076\316" +
+    "\077\356\100\374\101\353\102\347\140\234\142\251\144" +
+    "\221\145\304\146\242\147\322\150\273\151\272\156\u0108" +
+    "\161\u0103\001\002\000\072\002\ufeb2\015\ufeb2\020\ufeb2\021" +
+    "\u011e\022\ufeb2\024\ufeb2\027\ufeb2\030\ufeb2\077\ufeb2\100\ufeb2" +
+    "\103\u011f\104\u011d\105\ufeb2\106\ufeb2\107\ufeb2\110\ufeb2\111" +
+    "\ufeb2\112\ufeb2\113\ufeb2\114\ufeb2\115\ufeb2\116\ufeb2\117\ufeb2" +
+    "\120\ufeb2\121\ufeb2\122\ufeb2\123\ufeb2\124\ufeb2\001\002\000" +
+    "\076\004\126\005\116\006\132\007\115\010\113\011\117" +
+    "\012\130\013\136\016\042\026\345\050\264\052\365\053" +
+    "\355\074\324\075\323\076\316\077\356\100\374\101\353" +
+    "\102\347\140\234\142\251\144\221\145\304\146\242\147" +
+    "\322\150\273\151\272\156\u0108\161\u0103\001\002\000\076" +
+    "\004\126\005\116\006\132\007\115\010\113\011\117\012" +
+    "\130\013\136\016\042\026\345\050\264\052\365\053\355" +
+    "\074\324\075\323\076\316\077\356\100\374\101\353\102" +
+    "\347\140\234\142\251\144\221\145\304\146\242\147\322" +
+    "\150\273\151\272\156\u0108\161\u0103\001\002\000\076\004" +
+    "\126\005\116\006\132\007\115\010\113\011\117\012\130" +
+    "\013\136\016\042\026\345\050\264\052\365\053\355\074" +
+    "\324\075\323\076\316\077\356\100\374\101\353\102\347" +
+    "\140\234\142\251\144\221\145\304\146\242\147\322\150" +
+    "\273\151\272\156\u0108\161\u0103\001\002\000\072\002\ufeb6" +
+    "\015\ufeb6\020\ufeb6\021\ufeb6\022\ufeb6\024\ufeb6\027\ufeb6\030" +
+    "\ufeb6\077\ufeb6\100\ufeb6\103\ufeb6\104\ufeb6\105\ufeb6\106\ufeb6" +
+    "\107\ufeb6\110\ufeb6\111\ufeb6\112\ufeb6\113\ufeb6\114\ufeb6\115" +
+    "\ufeb6\116\ufeb6\117\ufeb6\120\ufeb6\121\ufeb6\122\ufeb6\123\ufeb6" +
+    "\124\ufeb6\001\002\000\072\002\ufeb7\015\ufeb7\020\ufeb7\021" +
+    "\ufeb7\022\ufeb7\024\ufeb7\027\ufeb7\030\ufeb7\077\ufeb7\100\ufeb7" +
+    "\103\ufeb7\104\ufeb7\105\ufeb7\106\ufeb7\107\ufeb7\110\ufeb7\111" +
+    "\ufeb7\112\ufeb7\113\ufeb7\114\ufeb7\115\ufeb7\116\ufeb7\117\ufeb7" +
+    "\120\ufeb7\121\ufeb7\122\ufeb7\123\ufeb7\124\ufeb7\001\002\000" +
+    "\072\002\ufeb5\015\ufeb5\020\ufeb5\021\ufeb5\022\ufeb5\024\ufeb5" +
+    "\027\ufeb5\030\ufeb5\077\ufeb5\100\ufeb5\103\ufeb5\104\ufeb5\105" +
+    "\ufeb5\106\ufeb5\107\ufeb5\110\ufeb5\111\ufeb5\112\ufeb5\113\ufeb5" +
+    "\114\ufeb5\115\ufeb5\116\ufeb5\117\ufeb5\120\ufeb5\121\ufeb5\122" +
+    "\ufeb5\123\ufeb5\124\ufeb5\001\002\000\072\002\ufeb3\015\ufeb3" +
+    "\020\ufeb3\021\u011e\022\ufeb3\024\ufeb3\027\ufeb3\030\ufeb3\077" +
+    "\ufeb3\100\ufeb3\103\u011f\104\u011d\105\ufeb3\106\ufeb3\107\ufeb3" +
+    "\110\ufeb3\111\ufeb3\112\ufeb3\113\ufeb3\114\ufeb3\115\ufeb3\116" +
+    "\ufeb3\117\ufeb3\120\ufeb3\121\ufeb3\122\ufeb3\123\ufeb3\124\ufeb3" +
+    "\001\002\000\064\002\ufeae\015\ufeae\020\ufeae\022\ufeae\024" +
+    "\ufeae\027\ufeae\030\ufeae\077\u011a\100\u011b\105\ufeae\106\ufeae" +
+    "\107\ufeae\110\ufeae\111\ufeae\112\ufeae\113\ufeae\114\ufeae\115" +
+    "\ufeae\116\ufeae\117\ufeae\120\ufeae\121\ufeae\122\ufeae\123\ufeae" +
+    "\124\ufeae\001\002\000\064\002\ufeb0\015\ufeb0\020\ufeb0\022" +
+    "\ufeb0\024\ufeb0\027\ufeb0\030\ufeb0\077\u011a\100\u011b\105\ufeb0" +
+    "\106\ufeb0\107\ufeb0\110\ufeb0\111\ufeb0\112\ufeb0\113\ufeb0\114" +
+    "\ufeb0\115\ufeb0\116\ufeb0\117\ufeb0\120\ufeb0\121\ufeb0\122\ufeb0" +
+    "\123\ufeb0\124\ufeb0\001\002\000\052\002\ufea8\015\ufea8\020" +
+    "\ufea8\022\ufea8\024\ufea8\027\ufea8\030\ufea8\110\ufea8\111\ufea8" +
+    "\112\ufea8\113\ufea8\114\ufea8\115\ufea8\116\ufea8\117\ufea8\120" +
+    "\ufea8\121\ufea8\122\ufea8\123\ufea8\124\ufea8\001\002\000\004" +
+    "\014\140\001\002\000\060\002\ufeab\015\ufeab\020\ufeab\022" +
+    "\ufeab\024\ufeab\027\ufeab\030\ufeab\105\u0116\106\u0118\107\u0117" +
+    "\110\ufeab\111\ufeab\112\ufeab\113\ufeab\114\ufeab\115\ufeab\116" +
+    "\ufeab\117\ufeab\120\ufeab\121\ufeab\122\ufeab\123\ufeab\124\ufeab" +
+    "\001\002\000\060\002\ufea9\015\ufea9\020\ufea9\022\ufea9\024" +
+    "\ufea9\027\ufea9\030\ufea9\105\u0116\106\u0118\107\u0117\110\ufea9" +
+    "\111\ufea9\112\ufea9\113\ufea9\114\ufea9\115\ufea9\116\ufea9\117" +
+    "\ufea9\120\ufea9\121\ufea9\122\ufea9\123\ufea9\124\ufea9\001\002" +
+    "\000\060\002\ufeac\015\ufeac\020\ufeac\022\ufeac\024\ufeac\027" +
+    "\ufeac\030\ufeac\105\u0116\106\u0118\107\u0117\110\ufeac\111\ufeac" +
+    "\112\ufeac\113\ufeac\114\ufeac\115\ufeac\116\ufeac\117\ufeac\120" +
+    "\ufeac\121\ufeac\122\ufeac\123\ufeac\124\ufeac\001\002\000\052" +
+    "\002\ufea5\015\ufea5\020\ufea5\022\ufea5\024\ufea5\027\ufea5\030" +
+    "\ufea5\110\u0110\111\u0112\112\u0114\113\u0111\114\u0113\115\ufea5" +
+    "\116\ufea5\117\ufea5\120\ufea5\121\ufea5\122\ufea5\123\ufea5\124" +
+    "\ufea5\001\002\000\100\004\126\005\116\006\132\007\115" +
+    "\010\113\011\117\012\130\013\136\015\144\016\042\026" +
+    "\345\050\264\052\365\053\355\074\324\075\323\076\316" +
+    "\077\356\100\374\101\353\102\347\140\234\142\251\144" +
+    "\221\145\304\146\242\147\322\150\273\151\272\156\357" +
+    "\161\u0103\001\002\000\102\004\126\005\116\006\132\007" +
+    "\115\010\113\011\117\012\130\013\136\016\042\026\345" +
+    "\027\ufee9\050\264\052\365\053\355\074\324\075\323\076" +
+    "\316\077\356\100\374\101\353\102\347\140\234\142\251" +
+    "\144\221\145\304\146\242\147\322\150\273\151\272\156" +
+    "\357\161\u0103\164\372\001\002\000\014\016\042\045\u0132" +
+    "\052\u0131\053\u012f\074\u0130\001\002\000\004\017\u0138\001" +
+    "\002\000\004\016\042\001\002\000\102\002\ufef1\014\ufef1" +
+    "\015\ufef1\017\ufef1\020\ufef1\021\ufef1\022\ufef1\024\ufef1\027" +
+    "\ufef1\030\ufef1\075\ufef1\076\ufef1\077\ufef1\100\ufef1\103\ufef1" +
+    "\104\ufef1\105\ufef1\106\ufef1\107\ufef1\110\ufef1\111\ufef1\112" +
+    "\ufef1\113\ufef1\114\ufef1\115\ufef1\116\ufef1\117\ufef1\120\ufef1" +
+    "\121\ufef1\122\ufef1\123\ufef1\124\ufef1\001\002\000\102\002" +
+    "\ufef2\014\ufef2\015\ufef2\017\ufef2\020\ufef2\021\ufef2\022\ufef2" +
+    "\024\ufef2\027\ufef2\030\ufef2\075\ufef2\076\ufef2\077\ufef2\100" +
+    "\ufef2\103\ufef2\104\ufef2\105\ufef2\106\ufef2\107\ufef2\110\ufef2" +
+    "\111\ufef2\112\ufef2\113\ufef2\114\ufef2\115\ufef2\116\ufef2\117" +
+    "\ufef2\120\ufef2\121\ufef2\122\ufef2\123\ufef2\124\ufef2\001\002" +
+    "\000\004\026\u0134\001\002\000\102\004\126\005\116\006" +
+    "\132\007\115\010\113\011\117\012\130\013\136\016\042" +
+    "\026\345\027\ufee9\050\264\052\365\053\355\074\324\075" +
+    "\323\076\316\077\356\100\374\101\353\102\347\140\234" +
+    "\142\251\144\221\145\304\146\242\147\322\150\273\151" +
+    "\272\156\357\161\u0103\164\372\001\002\000\004\027\u0136" +
+    "\001\002\000\104\002\ufeeb\014\ufeeb\015\ufeeb\017\ufeeb\020" +
+    "\ufeeb\021\ufeeb\022\ufeeb\023\067\024\ufeeb\027\ufeeb\030\ufeeb" +
+    "\075\ufeeb\076\ufeeb\077\ufeeb\100\ufeeb\103\ufeeb\104\ufeeb\105" +
+    "\ufeeb\106\ufeeb\107\ufeeb\110\ufeeb\111\ufeeb\112\ufeeb\113\ufeeb" +
+    "\114\ufeeb\115\ufeeb\116\ufeeb\117\ufeeb\120\ufeeb\121\ufeeb\122" +
+    "\ufeeb\123\ufeeb\124\ufeeb\001\002\000\102\002\ufeea\014\ufeea" +
+    "\015\ufeea\017\ufeea\020\ufeea\021\ufeea\022\ufeea\024\ufeea\027" +
+    "\ufeea\030\ufeea\075\ufeea\076\ufeea\077\ufeea\100\ufeea\103\ufeea" +
+    "\104\ufeea\105\ufeea\106\ufeea\107\ufeea\110\ufeea\111\ufeea\112" +
+    "\ufeea\113\ufeea\114\ufeea\115\ufeea\116\ufeea\117\ufeea\120\ufeea" +
+    "\121\ufeea\122\ufeea\123\ufeea\124\ufeea\001\002\000\004\016" +
+    "\042\001\002\000\134\002\ufed7\014\ufed7\015\ufed7\017\ufed7" +
+    "\020\ufed7\021\ufed7\022\ufed7\024\ufed7\025\ufed7\026\u013a\027" +
+    "\ufed7\030\ufed7\075\ufed7\076\ufed7\077\ufed7\100\ufed7\103\ufed7" +
+    "\104\ufed7\105\ufed7\106\ufed7\107\ufed7\110\ufed7\111\ufed7\112" +
+    "\ufed7\113\ufed7\114\ufed7\115\ufed7\116\ufed7\117\ufed7\120\ufed7" +
+    "\121\ufed7\122\ufed7\123\ufed7\124\ufed7\125\ufed7\126\ufed7\127" +
+    "\ufed7\130\ufed7\131\ufed7\132\ufed7\133\ufed7\134\ufed7\135\ufed7" +
+    "\136\ufed7\137\ufed7\001\002\000\102\004\126\005\116\006" +
+    "\132\007\115\010\113\011\117\012\130\013\136\016\042" +
+    "\026\345\027\ufee9\050\264\052\365\053\355\074\324\075" +
+    "\323\076\316\077\356\100\374\101\353\102\347\140\234" +
+    "\142\251\144\221\145\304\146\242\147\322\150\273\151" +
+    "\272\156\357\161\u0103\164\372\001\002\000\004\027\u013c" +
+    "\001\002\000\102\002\ufed2\014\ufed2\015\ufed2\017\ufed2\020" +
+    "\ufed2\021\ufed2\022\ufed2\024\ufed2\027\ufed2\030\ufed2\075\ufed2" +
+    "\076\ufed2\077\ufed2\100\ufed2\103\ufed2\104\ufed2\105\ufed2\106" +
+    "\ufed2\107\ufed2\110\ufed2\111\ufed2\112\ufed2\113\ufed2\114\ufed2" +
+    "\115\ufed2\116\ufed2\117\ufed2\120\ufed2\121\ufed2\122\ufed2\123" +
+    "\ufed2\124\ufed2\001\002\000\004\027\u013e\001\002\000\102" +
+    "\002\ufed5\014\ufed5\015\ufed5\017\ufed5\020\ufed5\021\ufed5\022" +
+    "\ufed5\024\ufed5\027\ufed5\030\ufed5\075\ufed5\076\ufed5\077\ufed5" +
+    "\100\ufed5\103\ufed5\104\ufed5\105\ufed5\106\ufed5\107\ufed5\110" +
+    "\ufed5\111\ufed5\112\ufed5\113\ufed5\114\ufed5\115\ufed5\116\ufed5" +
+    "\117\ufed5\120\ufed5\121\ufed5\122\ufed5\123\ufed5\124\ufed5\001" +
+    "\002\000\004\015\u0140\001\002\000\132\002\ufed0\014\ufed0" +
+    "\015\ufed0\017\ufed0\020\ufed0\021\ufed0\022\ufed0\024\ufed0\025" +
+    "\ufed0\027\ufed0\030\ufed0\075\ufed0\076\ufed0\077\ufed0\100\ufed0" +
+    "\103\ufed0\104\ufed0\105\ufed0\106\ufed0\107\ufed0\110\ufed0\111" +
+    "\ufed0\112\ufed0\113\ufed0\114\ufed0\115\ufed0\116\ufed0\117\ufed0" +
+    "\120\ufed0\121\ufed0\122\ufed0\123\ufed0\124\ufed0\125\ufed0\126" +
+    "\ufed0\127\ufed0\130\ufed0\131\ufed0\132\ufed0\133\ufed0\134\ufed0" +
+    "\135\ufed0\136\ufed0\137\ufed0\001\002\000\076\004\126\005" +
+    "\116\006\132\007\115\010\113\011\117\012\130\013\136" +
+    "\016\042\026\345\050\264\052\365\053\355\074\324\075" +
+    "\323\076\316\077\356\100\374\101\353\102\347\140\234" +
+    "\142\251\144\221\145\304\146\242\147\322\150\273\151" +
+    "\272\156\u0108\161\u0103\001\002\000\030\002\ufe9d\015\ufe9d" +
+    "\020\ufe9d\022\ufe9d\024\ufe9d\027\ufe9d\030\ufe9d\121\u0143\122" +
+    "\ufe9d\123\ufe9d\124\ufe9d\001\002\000\076\004\126\005\116" +
+    "\006\132\007\115\010\113\011\117\012\130\013\136\016" +
+    "\042\026\345\050\264\052\365\053\355\074\324\075\323" +
+    "\076\316\077\356\100\374\101\353\102\347\140\234\142" +
+    "\251\144\221\145\304\146\242\147\322\150\273\151\272" +
+    "\156\u0108\161\u0103\001\002\000\032\002\ufe9f\015\ufe9f\020" +
+    "\ufe9f\022\ufe9f\024\ufe9f\027\ufe9f\030\ufe9f\120\u0105\121\ufe9f" +
+    "\122\ufe9f\123\ufe9f\124\ufe9f\001\002\000\072\002\ufff8\015" +
+    "\ufff8\020\ufff8\021\ufff8\022\ufff8\024\ufff8\027\ufff8\030\ufff8" +
+    "\077\ufff8\100\ufff8\103\ufff8\104\ufff8\105\ufff8\106\ufff8\107" +
+    "\ufff8\110\ufff8\111\ufff8\112\ufff8\113\ufff8\114\ufff8\115\ufff8" +
+    "\116\ufff8\117\ufff8\120\ufff8\121\ufff8\122\ufff8\123\ufff8\124" +
+    "\ufff8\001\002\000\072\002\ufec5\015\ufec5\020\ufec5\021\ufec5" +
+    "\022\ufec5\024\ufec5\027\ufec5\030\ufec5\077\ufec5\100\ufec5\103" +
+    "\ufec5\104\ufec5\105\ufec5\106\ufec5\107\ufec5\110\ufec5\111\ufec5" +
+    "\112\ufec5\113\ufec5\114\ufec5\115\ufec5\116\ufec5\117\ufec5\120" +
+    "\ufec5\121\ufec5\122\ufec5\123\ufec5\124\ufec5\001\002\000\072" +
+    "\002\ufec4\015\ufec4\020\ufec4\021\ufec4\022\ufec4\024\ufec4\027" +
+    "\ufec4\030\ufec4\077\ufec4\100\ufec4\103\ufec4\104\ufec4\105\ufec4" +
+    "\106\ufec4\107\ufec4\110\ufec4\111\ufec4\112\ufec4\113\ufec4\114" +
+    "\ufec4\115\ufec4\116\ufec4\117\ufec4\120\ufec4\121\ufec4\122\ufec4" +
+    "\123\ufec4\124\ufec4\001\002\000\072\002\ufff7\015\ufff7\020" +
+    "\ufff7\021\ufff7\022\ufff7\024\ufff7\027\ufff7\030\ufff7\077\ufff7" +
+    "\100\ufff7\103\ufff7\104\ufff7\105\ufff7\106\ufff7\107\ufff7\110" +
+    "\ufff7\111\ufff7\112\ufff7\113\ufff7\114\ufff7\115\ufff7\116\ufff7" +
+    "\117\ufff7\120\ufff7\121\ufff7\122\ufff7\123\ufff7\124\ufff7\001" +
+    "\002\000\006\016\042\074\u014a\001\002\000\004\016\042" +
+    "\001\002\000\134\002\ufed9\014\ufed9\015\ufed9\017\ufed9\020" +
+    "\ufed9\021\ufed9\022\ufed9\024\ufed9\025\ufed9\026\u014c\027\ufed9" +
+    "\030\ufed9\075\ufed9\076\ufed9\077\ufed9\100\ufed9\103\ufed9\104" +
+    "\ufed9\105\ufed9\106\ufed9\107\ufed9\110\ufed9\111\ufed9\112\ufed9" +
+    "\113\ufed9\114\ufed9\115\ufed9\116\ufed9\117\ufed9\120\ufed9\121" +
+    "\ufed9\122\ufed9\123\ufed9\124\ufed9\125\ufed9\126\ufed9\127\ufed9" +
+    "\130\ufed9\131\ufed9\132\ufed9\133\ufed9\134\ufed9\135\ufed9\136" +
+    "\ufed9\137\ufed9\001\002\000\102\004\126\005\116\006\132" +
+    "\007\115\010\113\011\117\012\130\013\136\016\042\026" +
+    "\345\027\ufee9\050\264\052\365\053\355\074\324\075\323" +
+    "\076\316\077\356\100\374\101\353\102\347\140\234\142" +
+    "\251\144\221\145\304\146\242\147\322\150\273\151\272" +
+    "\156\357\161\u0103\164\372\001\002\000\004\027\u014e\001" +
+    "\002\000\102\002\ufed4\014\ufed4\015\ufed4\017\ufed4\020\ufed4" +
+    "\021\ufed4\022\ufed4\024\ufed4\027\ufed4\030\ufed4\075\ufed4\076" +
+    "\ufed4\077\ufed4\100\ufed4\103\ufed4\104\ufed4\105\ufed4\106\ufed4" +
+    "\107\ufed4\110\ufed4\111\ufed4\112\ufed4\113\ufed4\114\ufed4\115" +
+    "\ufed4\116\ufed4\117\ufed4\120\ufed4\121\ufed4\122\ufed4\123\ufed4" +
+    "\124\ufed4\001\002\000\004\026\u0150\001\002\000\102\004" +
+    "\126\005\116\006\132\007\115\010\113\011\117\012\130" +
+    "\013\136\016\042\026\345\027\ufee9\050\264\052\365\053" +
+    "\355\074\324\075\323\076\316\077\356\100\374\101\353" +
+    "\102\347\140\234\142\251\144\221\145\304\146\242\147" +
+    "\322\150\273\151\272\156\357\161\u0103\164\372\001\002" +
+    "\000\004\027\u0152\001\002\000\104\002\ufeed\014\ufeed\015" +
+    "\ufeed\017\ufeed\020\ufeed\021\ufeed\022\ufeed\023\067\024\ufeed" +
+    "\027\ufeed\030\ufeed\075\ufeed\076\ufeed\077\ufeed\100\ufeed\103" +
+    "\ufeed\104\ufeed\105\ufeed\106\ufeed\107\ufeed\110\ufeed\111\ufeed" +
+    "\112\ufeed\113\ufeed\114\ufeed\115\ufeed\116\ufeed\117\ufeed\120" +
+    "\ufeed\121\ufeed\122\ufeed\123\ufeed\124\ufeed\001\002\000\102" +
+    "\002\ufeec\014\ufeec\015\ufeec\017\ufeec\020\ufeec\021\ufeec\022" +
+    "\ufeec\024\ufeec\027\ufeec\030\ufeec\075\ufeec\076\ufeec\077\ufeec" +
+    "\100\ufeec\103\ufeec\104\ufeec\105\ufeec\106\ufeec\107\ufeec\110" +
+    "\ufeec\111\ufeec\112\ufeec\113\ufeec\114\ufeec\115\ufeec\116\ufeec" +
+    "\117\ufeec\120\ufeec\121\ufeec\122\ufeec\123\ufeec\124\ufeec\001" +
+    "\002\000\004\045\u0155\001\002\000\102\002\ufef5\014\ufef5" +
+    "\015\ufef5\017\ufef5\020\ufef5\021\ufef5\022\ufef5\024\ufef5\027" +
+    "\ufef5\030\ufef5\075\ufef5\076\ufef5\077\ufef5\100\ufef5\103\ufef5" +
+    "\104\ufef5\105\ufef5\106\ufef5\107\ufef5\110\ufef5\111\ufef5\112" +
+    "\ufef5\113\ufef5\114\ufef5\115\ufef5\116\ufef5\117\ufef5\120\ufef5" +
+    "\121\ufef5\122\ufef5\123\ufef5\124\ufef5\001\002\000\076\004" +
+    "\126\005\116\006\132\007\115\010\113\011\117\012\130" +
+    "\013\136\016\042\026\345\050\264\052\365\053\355\074" +
+    "\324\075\323\076\316\077\356\100\374\101\353\102\347" +
+    "\140\234\142\251\144\221\145\304\146\242\147\322\150" +
+    "\273\151\272\156\u0108\161\u0103\001\002\000\076\004\126" +
+    "\005\116\006\132\007\115\010\113\011\117\012\130\013" +
+    "\136\016\042\026\345\050\264\052\365\053\355\074\324" +
+    "\075\323\076\316\077\356\100\374\101\353\102\347\140" +
+    "\234\142\251\144\221\145\304\146\242\147\322\150\273" +
+    "\151\272\156\357\161\u0103\001\002\000\004\030\u0159\001" +
+    "\002\000\076\004\126\005\116\006\132\007\115\010\113" +
+    "\011\117\012\130\013\136\016\042\026\345\050\264\052" +
+    "\365\053\355\074\324\075\323\076\316\077\356\100\374" +
+    "\101\353\102\347\140\234\142\251\144\221\145\304\146" +
+    "\242\147\322\150\273\151\272\156\u0108\161\u0103\001\002" +
+    "\000\020\002\ufe99\015\ufe99\020\ufe99\022\ufe99\024\ufe99\027" +
+    "\ufe99\030\ufe99\001\002\000\026\002\ufe9b\015\ufe9b\020\ufe9b" +
+    "\022\ufe9b\024\ufe9b\027\ufe9b\030\ufe9b\122\u0141\123\ufe9b\124" +
+    "\ufe9b\001\002\000\072\002\ufec6\015\ufec6\020\ufec6\021\ufec6" +
+    "\022\ufec6\024\ufec6\027\ufec6\030\ufec6\077\ufec6\100\ufec6\103" +
+    "\ufec6\104\ufec6\105\ufec6\106\ufec6\107\ufec6\110\ufec6\111\ufec6" +
+    "\112\ufec6\113\ufec6\114\ufec6\115\ufec6\116\ufec6\117\ufec6\120" +
+    "\ufec6\121\ufec6\122\ufec6\123\ufec6\124\ufec6\001\002\000\004" +
+    "\016\042\001\002\000\134\002\ufed8\014\ufed8\015\ufed8\017" +
+    "\ufed8\020\ufed8\021\ufed8\022\ufed8\024\ufed8\025\ufed8\026\u015f" +
+    "\027\ufed8\030\ufed8\075\ufed8\076\ufed8\077\ufed8\100\ufed8\103" +
+    "\ufed8\104\ufed8\105\ufed8\106\ufed8\107\ufed8\110\ufed8\111\ufed8" +
+    "\112\ufed8\113\ufed8\114\ufed8\115\ufed8\116\ufed8\117\ufed8\120" +
+    "\ufed8\121\ufed8\122\ufed8\123\ufed8\124\ufed8\125\ufed8\126\ufed8" +
+    "\127\ufed8\130\ufed8\131\ufed8\132\ufed8\133\ufed8\134\ufed8\135" +
+    "\ufed8\136\ufed8\137\ufed8\001\002\000\102\004\126\005\116" +
+    "\006\132\007\115\010\113\011\117\012\130\013\136\016" +
+    "\042\026\345\027\ufee9\050\264\052\365\053\355\074\324" +
+    "\075\323\076\316\077\356\100\374\101\353\102\347\140" +
+    "\234\142\251\144\221\145\304\146\242\147\322\150\273" +
+    "\151\272\156\357\161\u0103\164\372\001\002\000\004\027" +
+    "\u0161\001\002\000\102\002\ufed3\014\ufed3\015\ufed3\017\ufed3" +
+    "\020\ufed3\021\ufed3\022\ufed3\024\ufed3\027\ufed3\030\ufed3\075" +
+    "\ufed3\076\ufed3\077\ufed3\100\ufed3\103\ufed3\104\ufed3\105\ufed3" +
+    "\106\ufed3\107\ufed3\110\ufed3\111\ufed3\112\ufed3\113\ufed3\114" +
+    "\ufed3\115\ufed3\116\ufed3\117\ufed3\120\ufed3\121\ufed3\122\ufed3" +
+    "\123\ufed3\124\ufed3\001\002\000\072\002\ufebf\015\ufebf\020" +
+    "\ufebf\021\ufebf\022\ufebf\024\ufebf\027\ufebf\030\ufebf\077\ufebf" +
+    "\100\ufebf\103\ufebf\104\ufebf\105\ufebf\106\ufebf\107\ufebf\110" +
+    "\ufebf\111\ufebf\112\ufebf\113\ufebf\114\ufebf\115\ufebf\116\ufebf" +
+    "\117\ufebf\120\ufebf\121\ufebf\122\ufebf\123\ufebf\124\ufebf\001" +
+    "\002\000\102\002\ufed1\014\ufed1\015\ufed1\017\ufed1\020\ufed1" +
+    "\021\ufed1\022\ufed1\024\ufed1\027\ufed1\030\ufed1\075\ufed1\076" +
+    "\ufed1\077\ufed1\100\ufed1\103\ufed1\104\ufed1\105\ufed1\106\ufed1" +
+    "\107\ufed1\110\ufed1\111\ufed1\112\ufed1\113\ufed1\114\ufed1\115" +
+    "\ufed1\116\ufed1\117\ufed1\120\ufed1\121\ufed1\122\ufed1\123\ufed1" +
+    "\124\ufed1\001\002\000\072\002\ufebe\015\ufebe\020\ufebe\021" +
+    "\ufebe\022\ufebe\024\ufebe\027\ufebe\030\ufebe\077\ufebe\100\ufebe" +
+    "\103\ufebe\104\ufebe\105\ufebe\106\ufebe\107\ufebe\110\ufebe\111" +
+    "\ufebe\112\ufebe\113\ufebe\114\ufebe\115\ufebe\116\ufebe\117\ufebe" +
+    "\120\ufebe\121\ufebe\122\ufebe\123\ufebe\124\ufebe\001\002\000" +
+    "\076\002\ufec9\015\ufec9\020\ufec9\021\ufec9\022\ufec9\024\ufec9" +
+    "\027\ufec9\030\ufec9\075\ufec9\076\ufec9\077\ufec9\100\ufec9\103" +
+    "\ufec9\104\ufec9\105\ufec9\106\ufec9\107\ufec9\110\ufec9\111\ufec9" +
+    "\112\ufec9\113\ufec9\114\ufec9\115\ufec9\116\ufec9\117\ufec9\120" +
+    "\ufec9\121\ufec9\122\ufec9\123\ufec9\124\ufec9\001\002\000\076" +
+    "\002\ufeca\015\ufeca\020\ufeca\021\ufeca\022\ufeca\024\ufeca\027" +
+    "\ufeca\030\ufeca\075\ufeca\076\ufeca\077\ufeca\100\ufeca\103\ufeca" +
+    "\104\ufeca\105\ufeca\106\ufeca\107\ufeca\110\ufeca\111\ufeca\112" +
+    "\ufeca\113\ufeca\114\ufeca\115\ufeca\116\ufeca\117\ufeca\120\ufeca" +
+    "\121\ufeca\122\ufeca\123\ufeca\124\ufeca\001\002\000\120\014" +
+    "\u012c\017\u012e\021\ufecd\025\ufe95\026\u012d\027\ufecd\075\ufecd" +
+    "\076\ufecd\077\ufecd\100\ufecd\103\ufecd\104\ufecd\105\ufecd\106" +
+    "\ufecd\107\ufecd\110\ufecd\111\ufecd\112\ufecd\113\ufecd\114\ufecd" +
+    "\115\ufecd\116\ufecd\117\ufecd\120\ufecd\121\ufecd\122\ufecd\123" +
+    "\ufecd\124\ufecd\125\ufe95\126\ufe95\127\ufe95\130\ufe95\131\ufe95" +
+    "\132\ufe95\133\ufe95\134\ufe95\135\ufe95\136\ufe95\137\ufe95\001" +
+    "\002\000\004\027\u0171\001\002\000\010\014\140\017\u0154" +
+    "\027\ufedd\001\002\000\010\014\140\017\332\027\u016b\001" +
+    "\002\000\076\004\126\005\116\006\132\007\115\010\113" +
+    "\011\117\012\130\013\136\016\042\026\345\050\264\052" +
+    "\365\053\355\074\324\075\323\076\316\077\356\100\374" +
+    "\101\353\102\347\140\234\142\251\144\221\145\304\146" +
+    "\242\147\322\150\273\151\272\156\u0108\161\u0103\001\002" +
+    "\000\072\002\ufeb9\015\ufeb9\020\ufeb9\021\ufeb9\022\ufeb9\024" +
+    "\ufeb9\027\ufeb9\030\ufeb9\077\ufeb9\100\ufeb9\103\ufeb9\104\ufeb9" +
+    "\105\ufeb9\106\ufeb9\107\ufeb9\110\ufeb9\111\ufeb9\112\ufeb9\113" +
+    "\ufeb9\114\ufeb9\115\ufeb9\116\ufeb9\117\ufeb9\120\ufeb9\121\ufeb9" +
+    "\122\ufeb9\123\ufeb9\124\ufeb9\001\002\000\004\027\u016f\001" +
+    "\002\000\010\014\142\017\uffe3\027\ufedc\001\002\000\076" +
+    "\004\126\005\116\006\132\007\115\010\113\011\117\012" +
+    "\130\013\136\016\042\026\345\050\264\052\365\053\355" +
+    "\074\324\075\323\076\316\077\356\100\374\101\353\102" +
+    "\347\140\234\142\251\144\221\145\304\146\242\147\322" +
+    "\150\273\151\272\156\u0108\161\u0103\001\002\000\072\002" +
+    "\ufebc\015\ufebc\020\ufebc\021\ufebc\022\ufebc\024\ufebc\027\ufebc" +
+    "\030\ufebc\077\ufebc\100\ufebc\103\ufebc\104\ufebc\105\ufebc\106" +
+    "\ufebc\107\ufebc\110\ufebc\111\ufebc\112\ufebc\113\ufebc\114\ufebc" +
+    "\115\ufebc\116\ufebc\117\ufebc\120\ufebc\121\ufebc\122\ufebc\123" +
+    "\ufebc\124\ufebc\001\002\000\166\002\ufefa\004\126\005\116" +
+    "\006\132\007\115\010\113\011\117\012\130\013\136\014" +
+    "\ufefa\015\ufefa\016\042\017\ufefa\020\ufefa\021\ufefa\022\ufefa" +
+    "\024\ufefa\026\345\027\ufefa\030\ufefa\050\264\052\365\053" +
+    "\355\074\324\075\ufefa\076\ufefa\077\ufefa\100\ufefa\101\353" +
+    "\102\347\103\ufefa\104\ufefa\105\ufefa\106\ufefa\107\ufefa\110" +
+    "\ufefa\111\ufefa\112\ufefa\113\ufefa\114\ufefa\115\ufefa\116\ufefa" +
+    "\117\ufefa\120\ufefa\121\ufefa\122\ufefa\123\ufefa\124\ufefa\140" +
+    "\234\142\251\144\221\145\304\146\242\147\322\150\273" +
+    "\151\272\156\u0108\161\u0103\001\002\000\072\002\ufebb\015" +
+    "\ufebb\020\ufebb\021\ufebb\022\ufebb\024\ufebb\027\ufebb\030\ufebb" +
+    "\077\ufebb\100\ufebb\103\ufebb\104\ufebb\105\ufebb\106\ufebb\107" +
+    "\ufebb\110\ufebb\111\ufebb\112\ufebb\113\ufebb\114\ufebb\115\ufebb" +
+    "\116\ufebb\117\ufebb\120\ufebb\121\ufebb\122\ufebb\123\ufebb\124" +
+    "\ufebb\001\002\000\010\014\142\017\uffe2\027\u0174\001\002" +
+    "\000\066\004\126\005\116\006\132\007\115\010\113\011" +
+    "\117\012\130\013\136\016\042\026\345\050\264\052\365" +
+    "\053\355\074\324\101\353\102\347\140\234\142\251\144" +
+    "\221\145\304\146\242\147\322\150\273\151\272\156\u0108" +
+    "\161\u0103\001\002\000\072\002\ufeba\015\ufeba\020\ufeba\021" +
+    "\ufeba\022\ufeba\024\ufeba\027\ufeba\030\ufeba\077\ufeba\100\ufeba" +
+    "\103\ufeba\104\ufeba\105\ufeba\106\ufeba\107\ufeba\110\ufeba\111" +
+    "\ufeba\112\ufeba\113\ufeba\114\ufeba\115\ufeba\116\ufeba\117\ufeba" +
+    "\120\ufeba\121\ufeba\122\ufeba\123\ufeba\124\ufeba\001\002\000" +
+    "\004\045\u0177\001\002\000\102\002\ufef3\014\ufef3\015\ufef3" +
+    "\017\ufef3\020\ufef3\021\ufef3\022\ufef3\024\ufef3\027\ufef3\030" +
+    "\ufef3\075\ufef3\076\ufef3\077\ufef3\100\ufef3\103\ufef3\104\ufef3" +
+    "\105\ufef3\106\ufef3\107\ufef3\110\ufef3\111\ufef3\112\ufef3\113" +
+    "\ufef3\114\ufef3\115\ufef3\116\ufef3\117\ufef3\120\ufef3\121\ufef3" +
+    "\122\ufef3\123\ufef3\124\ufef3\001\002\000\076\004\126\005" +
+    "\116\006\132\007\115\010\113\011\117\012\130\013\136" +
+    "\016\042\026\345\050\264\052\365\053\355\074\324\075" +
+    "\323\076\316\077\356\100\374\101\353\102\347\140\234" +
+    "\142\251\144\221\145\304\146\242\147\322\150\273\151" +
+    "\272\156\357\161\u0103\001\002\000\006\022\ufee6\027\ufee6" +
+    "\001\002\000\006\014\u0183\026\uffe5\001\002\000\004\014" +
+    "\u0183\001\002\000\004\026\u017d\001\002\000\102\004\126" +
+    "\005\116\006\132\007\115\010\113\011\117\012\130\013" +
+    "\136\016\042\026\345\027\ufee9\050\264\052\365\053\355" +
+    "\074\324\075\323\076\316\077\356\100\374\101\353\102" +
+    "\347\140\234\142\251\144\221\145\304\146\242\147\322" +
+    "\150\273\151\272\156\357\161\u0103\164\372\001\002\000" +
+    "\004\027\u017f\001\002\000\104\002\ufeef\014\ufeef\015\ufeef" +
+    "\017\ufeef\020\ufeef\021\ufeef\022\ufeef\023\067\024\ufeef\027" +
+    "\ufeef\030\ufeef\075\ufeef\076\ufeef\077\ufeef\100\ufeef\103\ufeef" +
+    "\104\ufeef\105\ufeef\106\ufeef\107\ufeef\110\ufeef\111\ufeef\112" +
+    "\ufeef\113\ufeef\114\ufeef\115\ufeef\116\ufeef\117\ufeef\120\ufeef" +
+    "\121\ufeef\122\ufeef\123\ufeef\124\ufeef\001\002\000\102\002" +
+    "\ufeee\014\ufeee\015\ufeee\017\ufeee\020\ufeee\021\ufeee\022\ufeee" +
+    "\024\ufeee\027\ufeee\030\ufeee\075\ufeee\076\ufeee\077\ufeee\100" +
+    "\ufeee\103\ufeee\104\ufeee\105\ufeee\106\ufeee\107\ufeee\110\ufeee" +
+    "\111\ufeee\112\ufeee\113\ufeee\114\ufeee\115\ufeee\116\ufeee\117" +
+    "\ufeee\120\ufeee\121\ufeee\122\ufeee\123\ufeee\124\ufeee\001\002" +
+    "\000\102\002\ufee0\014\ufee0\015\ufee0\017\ufee0\020\ufee0\021" +
+    "\ufee0\022\ufee0\024\ufee0\027\ufee0\030\ufee0\075\ufee0\076\ufee0" +
+    "\077\ufee0\100\ufee0\103\ufee0\104\ufee0\105\ufee0\106\ufee0\107" +
+    "\ufee0\110\ufee0\111\ufee0\112\ufee0\113\ufee0\114\ufee0\115\ufee0" +
+    "\116\ufee0\117\ufee0\120\ufee0\121\ufee0\122\ufee0\123\ufee0\124" +
+    "\ufee0\001\002\000\102\002\ufedd\014\u0183\015\ufedd\017\ufedd" +
+    "\020\ufedd\021\ufedd\022\ufedd\024\ufedd\027\ufedd\030\ufedd\075" +
+    "\ufedd\076\ufedd\077\ufedd\100\ufedd\103\ufedd\104\ufedd\105\ufedd" +
+    "\106\ufedd\107\ufedd\110\ufedd\111\ufedd\112\ufedd\113\ufedd\114" +
+    "\ufedd\115\ufedd\116\ufedd\117\ufedd\120\ufedd\121\ufedd\122\ufedd" +
+    "\123\ufedd\124\ufedd\001\002\000\100\004\126\005\116\006" +
+    "\132\007\115\010\113\011\117\012\130\013\136\015\144" +
+    "\016\042\026\345\050\264\052\365\053\355\074\324\075" +
+    "\323\076\316\077\356\100\374\101\353\102\347\140\234" +
+    "\142\251\144\221\145\304\146\242\147\322\150\273\151" +
+    "\272\156\357\161\u0103\001\002\000\006\014\142\023\u0186" +
+    "\001\002\000\100\002\ufee2\015\ufee2\017\ufee2\020\ufee2\021" +
+    "\ufee2\022\ufee2\024\ufee2\027\ufee2\030\ufee2\075\ufee2\076\ufee2" +
+    "\077\ufee2\100\ufee2\103\ufee2\104\ufee2\105\ufee2\106\ufee2\107" +
+    "\ufee2\110\ufee2\111\ufee2\112\ufee2\113\ufee2\114\ufee2\115\ufee2" +
+    "\116\ufee2\117\ufee2\120\ufee2\121\ufee2\122\ufee2\123\ufee2\124" +
+    "\ufee2\001\002\000\104\004\126\005\116\006\132\007\115" +
+    "\010\113\011\117\012\130\013\136\016\042\022\u0189\023" +
+    "\u0186\024\u018a\026\345\050\264\052\365\053\355\074\324" +
+    "\075\323\076\316\077\356\100\374\101\353\102\347\140" +
+    "\234\142\251\144\221\145\304\146\242\147\322\150\273" +
+    "\151\272\156\357\161\u0103\001\002\000\006\022\uff62\024" +
+    "\uff62\001\002\000\006\022\u018e\024\u018f\001\002\000\004" +
+    "\024\u018d\001\002\000\100\002\uff63\015\uff63\017\uff63\020" +
+    "\uff63\021\uff63\022\uff63\024\uff63\027\uff63\030\uff63\075\uff63" +
+    "\076\uff63\077\uff63\100\uff63\103\uff63\104\uff63\105\uff63\106" +
+    "\uff63\107\uff63\110\uff63\111\uff63\112\uff63\113\uff63\114\uff63" +
+    "\115\uff63\116\uff63\117\uff63\120\uff63\121\uff63\122\uff63\123" +
+    "\uff63\124\uff63\001\002\000\010\020\uff95\022\uff95\024\uff95" +
+    "\001\002\000\010\020\uff96\022\uff96\024\uff96\001\002\000" +
+    "\100\002\uff64\015\uff64\017\uff64\020\uff64\021\uff64\022\uff64" +
+    "\024\uff64\027\uff64\030\uff64\075\uff64\076\uff64\077\uff64\100" +
+    "\uff64\103\uff64\104\uff64\105\uff64\106\uff64\107\uff64\110\uff64" +
+    "\111\uff64\112\uff64\113\uff64\114\uff64\115\uff64\116\uff64\117" +
+    "\uff64\120\uff64\121\uff64\122\uff64\123\uff64\124\uff64\001\002" +
+    "\000\102\004\126\005\116\006\132\007\115\010\113\011" +
+    "\117\012\130\013\136\016\042\023\u0186\024\u0191\026\345" +
+    "\050\264\052\365\053\355\074\324\075\323\076\316\077" +
+    "\356\100\374\101\353\102\347\140\234\142\251\144\221" +
+    "\145\304\146\242\147\322\150\273\151\272\156\357\161" +
+    "\u0103\001\002\000\100\002\uff65\015\uff65\017\uff65\020\uff65" +
+    "\021\uff65\022\uff65\024\uff65\027\uff65\030\uff65\075\uff65\076" +
+    "\uff65\077\uff65\100\uff65\103\uff65\104\uff65\105\uff65\106\uff65" +
+    "\107\uff65\110\uff65\111\uff65\112\uff65\113\uff65\114\uff65\115" +
+    "\uff65\116\uff65\117\uff65\120\uff65\121\uff65\122\uff65\123\uff65" +
+    "\124\uff65\001\002\000\006\022\uff61\024\uff61\001\002\000" +
+    "\100\002\uff66\015\uff66\017\uff66\020\uff66\021\uff66\022\uff66" +
+    "\024\uff66\027\uff66\030\uff66\075\uff66\076\uff66\077\uff66\100" +
+    "\uff66\103\uff66\104\uff66\105\uff66\106\uff66\107\uff66\110\uff66" +
+    "\111\uff66\112\uff66\113\uff66\114\uff66\115\uff66\116\uff66\117" +
+    "\uff66\120\uff66\121\uff66\122\uff66\123\uff66\124\uff66\001\002" +
+    "\000\004\015\u0193\001\002\000\102\002\ufede\014\ufede\015" +
+    "\ufede\017\ufede\020\ufede\021\ufede\022\ufede\024\ufede\027\ufede" +
+    "\030\ufede\075\ufede\076\ufede\077\ufede\100\ufede\103\ufede\104" +
+    "\ufede\105\ufede\106\ufede\107\ufede\110\ufede\111\ufede\112\ufede" +
+    "\113\ufede\114\ufede\115\ufede\116\ufede\117\ufede\120\ufede\121" +
+    "\ufede\122\ufede\123\ufede\124\ufede\001\002\000\100\002\ufee4" +
+    "\015\ufee4\017\ufee4\020\ufee4\021\ufee4\022\ufee4\024\ufee4\027" +
+    "\ufee4\030\ufee4\075\ufee4\076\ufee4\077\ufee4\100\ufee4\103\ufee4" +
+    "\104\ufee4\105\ufee4\106\ufee4\107\ufee4\110\ufee4\111\ufee4\112" +
+    "\ufee4\113\ufee4\114\ufee4\115\ufee4\116\ufee4\117\ufee4\120\ufee4" +
+    "\121\ufee4\122\ufee4\123\ufee4\124\ufee4\001\002\000\102\002" +
+    "\ufedf\014\ufedf\015\ufedf\017\ufedf\020\ufedf\021\ufedf\022\ufedf" +
+    "\024\ufedf\027\ufedf\030\ufedf\075\ufedf\076\ufedf\077\ufedf\100" +
+    "\ufedf\103\ufedf\104\ufedf\105\ufedf\106\ufedf\107\ufedf\110\ufedf" +
+    "\111\ufedf\112\ufedf\113\ufedf\114\ufedf\115\ufedf\116\ufedf\117" +
+    "\ufedf\120\ufedf\121\ufedf\122\ufedf\123\ufedf\124\ufedf\001\002" +
+    "\000\112\002\ufedc\003\ufedc\014\142\015\ufedc\017\ufedc\020" +
+    "\ufedc\021\ufedc\022\ufedc\023\ufedc\024\ufedc\027\ufedc\030\ufedc" +
+    "\051\ufedc\075\ufedc\076\ufedc\077\ufedc\100\ufedc\103\ufedc\104" +
+    "\ufedc\105\ufedc\106\ufedc\107\ufedc\110\ufedc\111\ufedc\112\ufedc" +
+    "\113\ufedc\114\ufedc\115\ufedc\116\ufedc\117\ufedc\120\ufedc\121" +
+    "\ufedc\122\ufedc\123\ufedc\124\ufedc\164\ufedc\001\002\000\102" +
+    "\002\ufedd\014\u0183\015\ufedd\017\ufedd\020\ufedd\021\ufedd\022" +
+    "\ufedd\024\ufedd\027\ufedd\030\ufedd\075\ufedd\076\ufedd\077\ufedd" +
+    "\100\ufedd\103\ufedd\104\ufedd\105\ufedd\106\ufedd\107\ufedd\110" +
+    "\ufedd\111\ufedd\112\ufedd\113\ufedd\114\ufedd\115\ufedd\116\ufedd" +
+    "\117\ufedd\120\ufedd\121\ufedd\122\ufedd\123\ufedd\124\ufedd\001" +
+    "\002\000\006\014\142\023\u0186\001\002\000\100\002\ufee1" +
+    "\015\ufee1\017\ufee1\020\ufee1\021\ufee1\022\ufee1\024\ufee1\027" +
+    "\ufee1\030\ufee1\075\ufee1\076\ufee1\077\ufee1\100\ufee1\103\ufee1" +
+    "\104\ufee1\105\ufee1\106\ufee1\107\ufee1\110\ufee1\111\ufee1\112" +
+    "\ufee1\113\ufee1\114\ufee1\115\ufee1\116\ufee1\117\ufee1\120\ufee1" +
+    "\121\ufee1\122\ufee1\123\ufee1\124\ufee1\001\002\000\100\002" +
+    "\ufee3\015\ufee3\017\ufee3\020\ufee3\021\ufee3\022\ufee3\024\ufee3" +
+    "\027\ufee3\030\ufee3\075\ufee3\076\ufee3\077\ufee3\100\ufee3\103" +
+    "\ufee3\104\ufee3\105\ufee3\106\ufee3\107\ufee3\110\ufee3\111\ufee3" +
+    "\112\ufee3\113\ufee3\114\ufee3\115\ufee3\116\ufee3\117\ufee3\120" +
+    "\ufee3\121\ufee3\122\ufee3\123\ufee3\124\ufee3\001\002\000\072" +
+    "\002\ufec2\015\ufec2\020\ufec2\021\ufec2\022\ufec2\024\ufec2\027" +
+    "\ufec2\030\ufec2\077\ufec2\100\ufec2\103\ufec2\104\ufec2\105\ufec2" +
+    "\106\ufec2\107\ufec2\110\ufec2\111\ufec2\112\ufec2\113\ufec2\114" +
+    "\ufec2\115\ufec2\116\ufec2\117\ufec2\120\ufec2\121\ufec2\122\ufec2" +
+    "\123\ufec2\124\ufec2\001\002\000\076\004\126\005\116\006" +
+    "\132\007\115\010\113\011\117\012\130\013\136\016\042" +
+    "\026\345\050\264\052\365\053\355\074\324\075\323\076" +
+    "\316\077\356\100\374\101\353\102\347\140\234\142\251" +
+    "\144\221\145\304\146\242\147\322\150\273\151\272\156" +
+    "\357\161\u0103\001\002\000\004\015\u019e\001\002\000\132" +
+    "\002\ufecf\014\ufecf\015\ufecf\017\ufecf\020\ufecf\021\ufecf\022" +
+    "\ufecf\024\ufecf\025\ufecf\027\ufecf\030\ufecf\075\ufecf\076\ufecf" +
+    "\077\ufecf\100\ufecf\103\ufecf\104\ufecf\105\ufecf\106\ufecf\107" +
+    "\ufecf\110\ufecf\111\ufecf\112\ufecf\113\ufecf\114\ufecf\115\ufecf" +
+    "\116\ufecf\117\ufecf\120\ufecf\121\ufecf\122\ufecf\123\ufecf\124" +
+    "\ufecf\125\ufecf\126\ufecf\127\ufecf\130\ufecf\131\ufecf\132\ufecf" +
+    "\133\ufecf\134\ufecf\135\ufecf\136\ufecf\137\ufecf\001\002\000" +
+    "\006\020\u01a0\030\u01a1\001\002\000\166\002\uff00\003\uff00" +
+    "\004\uff00\005\uff00\006\uff00\007\uff00\010\uff00\011\uff00\012" +
+    "\uff00\013\uff00\016\uff00\020\uff00\023\uff00\024\uff00\026\uff00" +
+    "\033\uff00\034\uff00\035\uff00\036\uff00\037\uff00\040\uff00\041" +
+    "\uff00\042\uff00\043\uff00\044\uff00\045\uff00\050\uff00\052\uff00" +
+    "\053\uff00\055\uff00\056\uff00\057\uff00\060\uff00\061\uff00\062" +
+    "\uff00\063\uff00\064\uff00\065\uff00\066\uff00\067\uff00\070\uff00" +
+    "\071\uff00\074\uff00\075\uff00\076\uff00\140\uff00\142\uff00\144" +
+    "\uff00\145\uff00\146\uff00\147\uff00\150\uff00\151\uff00\152\uff00" +
+    "\153\uff00\156\uff00\160\uff00\161\uff00\001\002\000\076\004" +
+    "\126\005\116\006\132\007\115\010\113\011\117\012\130" +
+    "\013\136\016\042\026\345\050\264\052\365\053\355\074" +
+    "\324\075\323\076\316\077\356\100\374\101\353\102\347" +
+    "\140\234\142\251\144\221\145\304\146\242\147\322\150" +
+    "\273\151\272\156\357\161\u0103\001\002\000\004\020\u01a3" +
+    "\001\002\000\166\002\ufeff\003\ufeff\004\ufeff\005\ufeff\006" +
+    "\ufeff\007\ufeff\010\ufeff\011\ufeff\012\ufeff\013\ufeff\016\ufeff" +
+    "\020\ufeff\023\ufeff\024\ufeff\026\ufeff\033\ufeff\034\ufeff\035" +
+    "\ufeff\036\ufeff\037\ufeff\040\ufeff\041\ufeff\042\ufeff\043\ufeff" +
+    "\044\ufeff\045\ufeff\050\ufeff\052\ufeff\053\ufeff\055\ufeff\056" +
+    "\ufeff\057\ufeff\060\ufeff\061\ufeff\062\ufeff\063\ufeff\064\ufeff" +
+    "\065\ufeff\066\ufeff\067\ufeff\070\ufeff\071\ufeff\074\ufeff\075" +
+    "\ufeff\076\ufeff\140\ufeff\142\ufeff\144\ufeff\145\ufeff\146\ufeff" +
+    "\147\ufeff\150\ufeff\151\ufeff\152\ufeff\153\ufeff\156\ufeff\160" +
+    "\ufeff\161\ufeff\001\002\000\072\002\ufec1\015\ufec1\020\ufec1" +
+    "\021\ufec1\022\ufec1\024\ufec1\027\ufec1\030\ufec1\077\ufec1\100" +
+    "\ufec1\103\ufec1\104\ufec1\105\ufec1\106\ufec1\107\ufec1\110\ufec1" +
+    "\111\ufec1\112\ufec1\113\ufec1\114\ufec1\115\ufec1\116\ufec1\117" +
+    "\ufec1\120\ufec1\121\ufec1\122\ufec1\123\ufec1\124\ufec1\001\002" +
+    "\000\076\004\126\005\116\006\132\007\115\010\113\011" +
+    "\117\012\130\013\136\016\042\026\345\050\264\052\365" +
+    "\053\355\074\324\075\323\076\316\077\356\100\374\101" +
+    "\353\102\347\140\234\142\251\144\221\145\304\146\242" +
+    "\147\322\150\273\151\272\156\357\161\u0103\001\002\000" +
+    "\004\027\u01a7\001\002\000\126\003\307\004\126\005\116" +
+    "\006\132\007\115\010\113\011\117\012\130\013\136\016" +
+    "\042\020\274\023\075\026\231\042\u01b1\050\264\052\275" +
+    "\053\247\055\u01b2\057\257\062\260\063\u01ab\064\u01ad\065" +
+    "\270\066\313\067\265\070\223\071\266\074\324\075\323" +
+    "\076\316\140\234\142\251\144\221\145\304\146\242\147" +
+    "\322\150\273\151\272\153\320\156\261\160\254\161\u0103" +
+    "\001\002\000\004\056\uff48\001\002\000\004\056\uff46\001" +
+    "\002\000\004\056\uff49\001\002\000\004\026\u01e0\001\002" +
+    "\000\166\002\uff53\003\uff53\004\uff53\005\uff53\006\uff53\007" +
+    "\uff53\010\uff53\011\uff53\012\uff53\013\uff53\016\uff53\020\uff53" +
+    "\023\uff53\024\uff53\026\uff53\033\uff53\034\uff53\035\uff53\036" +
+    "\uff53\037\uff53\040\uff53\041\uff53\042\uff53\043\uff53\044\uff53" +
+    "\045\uff53\050\uff53\052\uff53\053\uff53\055\uff53\056\uff4a\057" +
+    "\uff53\060\uff53\061\uff53\062\uff53\063\uff53\064\uff53\065\uff53" +
+    "\066\uff53\067\uff53\070\uff53\071\uff53\074\uff53\075\uff53\076" +
+    "\uff53\140\uff53\142\uff53\144\uff53\145\uff53\146\uff53\147\uff53" +
+    "\150\uff53\151\uff53\152\uff53\153\uff53\156\uff53\160\uff53\161" +
+    "\uff53\001\002\000\004\026\u01c5\001\002\000\046\014\uffde" +
+    "\017\uffde\025\uffde\026\uffde\030\u01c2\075\uffde\076\uffde\125" +
+    "\uffde\126\uffde\127\uffde\130\uffde\131\uffde\132\uffde\133\uffde" +
+    "\134\uffde\135\uffde\136\uffde\137\uffde\001\002\000\004\056" +
+    "\uff47\001\002\000\004\056\u01c1\001\002\000\004\026\u01bb" +
+    "\001\002\000\004\026\u01b4\001\002\000\164\002\uff2d\003" +
+    "\uff2d\004\uff2d\005\uff2d\006\uff2d\007\uff2d\010\uff2d\011\uff2d" +
+    "\012\uff2d\013\uff2d\016\uff2d\020\uff2d\023\uff2d\024\uff2d\026" +
+    "\uff2d\033\uff2d\034\uff2d\035\uff2d\036\uff2d\037\uff2d\040\uff2d" +
+    "\041\uff2d\042\uff2d\043\uff2d\044\uff2d\045\uff2d\050\uff2d\052" +
+    "\uff2d\053\uff2d\055\uff2d\057\uff2d\060\uff2d\061\uff2d\062\uff2d" +
+    "\063\uff2d\064\uff2d\065\uff2d\066\uff2d\067\uff2d\070\uff2d\071" +
+    "\uff2d\074\uff2d\075\uff2d\076\uff2d\140\uff2d\142\uff2d\144\uff2d" +
+    "\145\uff2d\146\uff2d\147\uff2d\150\uff2d\151\uff2d\152\uff2d\153" +
+    "\uff2d\156\uff2d\160\uff2d\161\uff2d\001\002\000\076\004\126" +
+    "\005\116\006\132\007\115\010\113\011\117\012\130\013" +
+    "\136\016\042\026\345\050\264\052\365\053\355\074\324" +
+    "\075\323\076\316\077\356\100\374\101\353\102\347\140" +
+    "\234\142\251\144\221\145\304\146\242\147\322\150\273" +
+    "\151\272\156\357\161\u0103\001\002\000\004\027\u01b6\001" +
+    "\002\000\126\003\307\004\126\005\116\006\132\007\115" +
+    "\010\113\011\117\012\130\013\136\016\042\020\274\023" +
+    "\075\026\231\042\u01b1\050\264\052\275\053\247\055\u01b2" +
+    "\057\257\062\260\063\u01ab\064\u01ad\065\270\066\313\067" +
+    "\265\070\223\071\266\074\324\075\323\076\316\140\234" +
+    "\142\251\144\221\145\304\146\242\147\322\150\273\151" +
+    "\272\153\320\156\261\160\254\161\u0103\001\002\000\004" +
+    "\056\u01b8\001\002\000\126\003\307\004\126\005\116\006" +
+    "\132\007\115\010\113\011\117\012\130\013\136\016\042" +
+    "\020\274\023\075\026\231\042\u01b1\050\264\052\275\053" +
+    "\247\055\u01b2\057\257\062\260\063\u01ab\064\u01ad\065\270" +
+    "\066\313\067\265\070\223\071\266\074\324\075\323\076" +
+    "\316\140\234\142\251\144\221\145\304\146\242\147\322" +
+    "\150\273\151\272\153\320\156\261\160\254\161\u0103\001" +
+    "\002\000\004\056\uff2b\001\002\000\164\002\uff2c\003\uff2c" +
+    "\004\uff2c\005\uff2c\006\uff2c\007\uff2c\010\uff2c\011\uff2c\012" +
+    "\uff2c\013\uff2c\016\uff2c\020\uff2c\023\uff2c\024\uff2c\026\uff2c" +
+    "\033\uff2c\034\uff2c\035\uff2c\036\uff2c\037\uff2c\040\uff2c\041" +
+    "\uff2c\042\uff2c\043\uff2c\044\uff2c\045\uff2c\050\uff2c\052\uff2c" +
+    "\053\uff2c\055\uff2c\057\uff2c\060\uff2c\061\uff2c\062\uff2c\063" +
+    "\uff2c\064\uff2c\065\uff2c\066\uff2c\067\uff2c\070\uff2c\071\uff2c" +
+    "\074\uff2c\075\uff2c\076\uff2c\140\uff2c\142\uff2c\144\uff2c\145" +
+    "\uff2c\146\uff2c\147\uff2c\150\uff2c\151\uff2c\152\uff2c\153\uff2c" +
+    "\156\uff2c\160\uff2c\161\uff2c\001\002\000\076\004\126\005" +
+    "\116\006\132\007\115\010\113\011\117\012\130\013\136" +
+    "\016\042\026\345\050\264\052\365\053\355\074\324\075" +
+    "\323\076\316\077\356\100\374\101\353\102\347\140\234" +
+    "\142\251\144\221\145\304\146\242\147\322\150\273\151" +
+    "\272\156\357\161\u0103\001\002\000\004\027\u01bd\001\002" +
+    "\000\006\003\u01be\023\075\001\002\000\004\024\u01c0\001" +
+    "\002\000\166\002\uff09\003\uff09\004\uff09\005\uff09\006\uff09" +
+    "\007\uff09\010\uff09\011\uff09\012\uff09\013\uff09\016\uff09\020" +
+    "\uff09\023\uff09\024\uff09\026\uff09\033\uff09\034\uff09\035\uff09" +
+    "\036\uff09\037\uff09\040\uff09\041\uff09\042\uff09\043\uff09\044" +
+    "\uff09\045\uff09\050\uff09\052\uff09\053\uff09\055\uff09\056\uff09" +
+    "\057\uff09\060\uff09\061\uff09\062\uff09\063\uff09\064\uff09\065" +
+    "\uff09\066\uff09\067\uff09\070\uff09\071\uff09\074\uff09\075\uff09" +
+    "\076\uff09\140\uff09\142\uff09\144\uff09\145\uff09\146\uff09\147" +
+    "\uff09\150\uff09\151\uff09\152\uff09\153\uff09\156\uff09\160\uff09" +
+    "\161\uff09\001\002\000\176\002\uff5f\003\uff5f\004\uff5f\005" +
+    "\uff5f\006\uff5f\007\uff5f\010\uff5f\011\uff5f\012\uff5f\013\uff5f" +
+    "\016\uff5f\020\uff5f\023\uff5f\024\uff5f\026\uff5f\033\uff5f\034" +
+    "\uff5f\035\uff5f\036\uff5f\037\uff5f\040\uff5f\041\uff5f\042\uff5f" +
+    "\043\uff5f\044\uff5f\045\uff5f\050\uff5f\052\uff5f\053\uff5f\054" +
+    "\uff5f\055\uff5f\056\uff5f\057\uff5f\060\uff5f\061\uff5f\062\uff5f" +
+    "\063\uff5f\064\uff5f\065\uff5f\066\uff5f\067\uff5f\070\uff5f\071" +
+    "\uff5f\072\uff5f\073\uff5f\074\uff5f\075\uff5f\076\uff5f\140\uff5f" +
+    "\142\uff5f\144\uff5f\145\uff5f\146\uff5f\147\uff5f\150\uff5f\151" +
+    "\uff5f\152\uff5f\153\uff5f\156\uff5f\160\uff5f\161\uff5f\163\uff5f" +
+    "\001\002\000\126\003\307\004\126\005\116\006\132\007" +
+    "\115\010\113\011\117\012\130\013\136\016\042\020\274" +
+    "\023\075\026\231\042\u01b1\050\264\052\275\053\247\055" +
+    "\314\057\257\062\260\063\252\064\262\065\270\066\313" +
+    "\067\265\070\223\071\266\074\324\075\323\076\316\140" +
+    "\234\142\251\144\221\145\304\146\242\147\322\150\273" +
+    "\151\272\153\320\156\261\160\254\161\u0103\001\002\000" +
+    "\126\003\307\004\126\005\116\006\132\007\115\010\113" +
+    "\011\117\012\130\013\136\016\042\020\274\023\075\026" +
+    "\231\042\u01b1\050\264\052\275\053\247\055\u01b2\057\257" +
+    "\062\260\063\u01ab\064\u01ad\065\270\066\313\067\265\070" +
+    "\223\071\266\074\324\075\323\076\316\140\234\142\251" +
+    "\144\221\145\304\146\242\147\322\150\273\151\272\153" +
+    "\320\156\261\160\254\161\u0103\001\002\000\004\056\uff37" +
+    "\001\002\000\164\002\uff38\003\uff38\004\uff38\005\uff38\006" +
+    "\uff38\007\uff38\010\uff38\011\uff38\012\uff38\013\uff38\016\uff38" +
+    "\020\uff38\023\uff38\024\uff38\026\uff38\033\uff38\034\uff38\035" +
+    "\uff38\036\uff38\037\uff38\040\uff38\041\uff38\042\uff38\043\uff38" +
+    "\044\uff38\045\uff38\050\uff38\052\uff38\053\uff38\055\uff38\057" +
+    "\uff38\060\uff38\061\uff38\062\uff38\063\uff38\064\uff38\065\uff38" +
+    "\066\uff38\067\uff38\070\uff38\071\uff38\074\uff38\075\uff38\076" +
+    "\uff38\140\uff38\142\uff38\144\uff38\145\uff38\146\uff38\147\uff38" +
+    "\150\uff38\151\uff38\152\uff38\153\uff38\156\uff38\160\uff38\161" +
+    "\uff38\001\002\000\072\004\126\005\116\006\132\007\115" +
+    "\010\113\011\117\012\130\013\136\016\042\020\uff18\026" +
+    "\231\040\u01c9\050\264\052\365\053\355\074\324\075\323" +
+    "\076\316\140\234\142\251\144\221\145\304\146\242\147" +
+    "\322\150\273\151\272\156\261\161\327\001\002\000\010" +
+    "\020\uff11\022\uff11\027\uff11\001\002\000\004\020\uff15\001" +
+    "\002\000\006\020\uff16\022\u01d6\001\002\000\026\004\126" +
+    "\005\116\006\132\007\115\010\113\011\117\012\130\013" +
+    "\136\016\042\161\123\001\002\000\004\020\u01cc\001\002" +
+    "\000\004\020\uff17\001\002\000\100\004\126\005\116\006" +
+    "\132\007\115\010\113\011\117\012\130\013\136\016\042" +
+    "\020\ufe85\026\345\050\264\052\365\053\355\074\324\075" +
+    "\323\076\316\077\356\100\374\101\353\102\347\140\234" +
+    "\142\251\144\221\145\304\146\242\147\322\150\273\151" +
+    "\272\156\357\161\u0103\001\002\000\004\020\ufe84\001\002" +
+    "\000\004\020\u01cf\001\002\000\070\004\126\005\116\006" +
+    "\132\007\115\010\113\011\117\012\130\013\136\016\042" +
+    "\026\231\027\uff14\050\264\052\365\053\355\074\324\075" +
+    "\323\076\316\140\234\142\251\144\221\145\304\146\242" +
+    "\147\322\150\273\151\272\156\261\161\u0103\001\002\000" +
+    "\004\027\uff13\001\002\000\006\022\u01d6\027\uff12\001\002" +
+    "\000\004\027\u01d3\001\002\000\126\003\307\004\126\005" +
+    "\116\006\132\007\115\010\113\011\117\012\130\013\136" +
+    "\016\042\020\274\023\075\026\231\042\u01b1\050\264\052" +
+    "\275\053\247\055\u01b2\057\257\062\260\063\u01ab\064\u01ad" +
+    "\065\270\066\313\067\265\070\223\071\266\074\324\075" +
+    "\323\076\316\140\234\142\251\144\221\145\304\146\242" +
+    "\147\322\150\273\151\272\153\320\156\261\160\254\161" +
+    "\u0103\001\002\000\004\056\uff19\001\002\000\164\002\uff1a" +
+    "\003\uff1a\004\uff1a\005\uff1a\006\uff1a\007\uff1a\010\uff1a\011" +
+    "\uff1a\012\uff1a\013\uff1a\016\uff1a\020\uff1a\023\uff1a\024\uff1a" +
+    "\026\uff1a\033\uff1a\034\uff1a\035\uff1a\036\uff1a\037\uff1a\040" +
+    "\uff1a\041\uff1a\042\uff1a\043\uff1a\044\uff1a\045\uff1a\050\uff1a" +
+    "\052\uff1a\053\uff1a\055\uff1a\057\uff1a\060\uff1a\061\uff1a\062" +
+    "\uff1a\063\uff1a\064\uff1a\065\uff1a\066\uff1a\067\uff1a\070\uff1a" +
+    "\071\uff1a\074\uff1a\075\uff1a\076\uff1a\140\uff1a\142\uff1a\144" +
+    "\uff1a\145\uff1a\146\uff1a\147\uff1a\150\uff1a\151\uff1a\152\uff1a" +
+    "\153\uff1a\156\uff1a\160\uff1a\161\uff1a\001\002\000\066\004" +
+    "\126\005\116\006\132\007\115\010\113\011\117\012\130" +
+    "\013\136\016\042\026\231\050\264\052\365\053\355\074" +
+    "\324\075\323\076\316\140\234\142\251\144\221\145\304" +
+    "\146\242\147\322\150\273\151\272\156\261\161\u0103\001" +
+    "\002\000\010\020\uff10\022\uff10\027\uff10\001\002\000\004" +
+    "\016\042\001\002\000\012\014\161\020\uff9a\022\uff9a\025" +
+    "\u01de\001\002\000\006\020\uff9c\022\uff9c\001\002\000\006" +
+    "\020\uff54\022\u01dc\001\002\000\004\016\042\001\002\000" +
+    "\006\020\uff9b\022\uff9b\001\002\000\100\004\126\005\116" +
+    "\006\132\007\115\010\113\011\117\012\130\013\136\016" +
+    "\042\023\u0186\026\345\050\264\052\365\053\355\074\324" +
+    "\075\323\076\316\077\356\100\374\101\353\102\347\140" +
+    "\234\142\251\144\221\145\304\146\242\147\322\150\273" +
+    "\151\272\156\357\161\u0103\001\002\000\006\020\uff99\022" +
+    "\uff99\001\002\000\076\004\126\005\116\006\132\007\115" +
+    "\010\113\011\117\012\130\013\136\016\042\026\345\050" +
+    "\264\052\365\053\355\074\324\075\323\076\316\077\356" +
+    "\100\374\101\353\102\347\140\234\142\251\144\221\145" +
+    "\304\146\242\147\322\150\273\151\272\156\357\161\u0103" +
+    "\001\002\000\004\027\u01e2\001\002\000\126\003\307\004" +
+    "\126\005\116\006\132\007\115\010\113\011\117\012\130" +
+    "\013\136\016\042\020\274\023\075\026\231\042\u01b1\050" +
+    "\264\052\275\053\247\055\u01b2\057\257\062\260\063\u01ab" +
+    "\064\u01ad\065\270\066\313\067\265\070\223\071\266\074" +
+    "\324\075\323\076\316\140\234\142\251\144\221\145\304" +
+    "\146\242\147\322\150\273\151\272\153\320\156\261\160" +
+    "\254\161\u0103\001\002\000\004\056\uff1c\001\002\000\164" +
+    "\002\uff1d\003\uff1d\004\uff1d\005\uff1d\006\uff1d\007\uff1d\010" +
+    "\uff1d\011\uff1d\012\uff1d\013\uff1d\016\uff1d\020\uff1d\023\uff1d" +
+    "\024\uff1d\026\uff1d\033\uff1d\034\uff1d\035\uff1d\036\uff1d\037" +
+    "\uff1d\040\uff1d\041\uff1d\042\uff1d\043\uff1d\044\uff1d\045\uff1d" +
+    "\050\uff1d\052\uff1d\053\uff1d\055\uff1d\057\uff1d\060\uff1d\061" +
+    "\uff1d\062\uff1d\063\uff1d\064\uff1d\065\uff1d\066\uff1d\067\uff1d" +
+    "\070\uff1d\071\uff1d\074\uff1d\075\uff1d\076\uff1d\140\uff1d\142" +
+    "\uff1d\144\uff1d\145\uff1d\146\uff1d\147\uff1d\150\uff1d\151\uff1d" +
+    "\152\uff1d\153\uff1d\156\uff1d\160\uff1d\161\uff1d\001\002\000" +
+    "\004\020\u01e7\001\002\000\004\020\uff0e\001\002\000\166" +
+    "\002\uff0c\003\uff0c\004\uff0c\005\uff0c\006\uff0c\007\uff0c\010" +
+    "\uff0c\011\uff0c\012\uff0c\013\uff0c\016\uff0c\020\uff0c\023\uff0c" +
+    "\024\uff0c\026\uff0c\033\uff0c\034\uff0c\035\uff0c\036\uff0c\037" +
+    "\uff0c\040\uff0c\041\uff0c\042\uff0c\043\uff0c\044\uff0c\045\uff0c" +
+    "\050\uff0c\052\uff0c\053\uff0c\055\uff0c\056\uff0c\057\uff0c\060" +
+    "\uff0c\061\uff0c\062\uff0c\063\uff0c\064\uff0c\065\uff0c\066\uff0c" +
+    "\067\uff0c\070\uff0c\071\uff0c\074\uff0c\075\uff0c\076\uff0c\140" +
+    "\uff0c\142\uff0c\144\uff0c\145\uff0c\146\uff0c\147\uff0c\150\uff0c" +
+    "\151\uff0c\152\uff0c\153\uff0c\156\uff0c\160\uff0c\161\uff0c\001" +
+    "\002\000\164\002\uff4d\003\uff4d\004\uff4d\005\uff4d\006\uff4d" +
+    "\007\uff4d\010\uff4d\011\uff4d\012\uff4d\013\uff4d\016\uff4d\020" +
+    "\uff4d\023\uff4d\024\uff4d\026\uff4d\033\uff4d\034\uff4d\035\uff4d" +
+    "\036\uff4d\037\uff4d\040\uff4d\041\uff4d\042\uff4d\043\uff4d\044" +
+    "\uff4d\045\uff4d\050\uff4d\052\uff4d\053\uff4d\055\uff4d\057\uff4d" +
+    "\060\uff4d\061\uff4d\062\uff4d\063\uff4d\064\uff4d\065\uff4d\066" +
+    "\uff4d\067\uff4d\070\uff4d\071\uff4d\074\uff4d\075\uff4d\076\uff4d" +
+    "\140\uff4d\142\uff4d\144\uff4d\145\uff4d\146\uff4d\147\uff4d\150" +
+    "\uff4d\151\uff4d\152\uff4d\153\uff4d\156\uff4d\160\uff4d\161\uff4d" +
+    "\001\002\000\012\016\042\052\u01eb\053\u01ea\074\u014a\001" +
+    "\002\000\004\026\u01f0\001\002\000\004\026\u01ec\001\002" +
+    "\000\102\004\126\005\116\006\132\007\115\010\113\011" +
+    "\117\012\130\013\136\016\042\026\345\027\ufee9\050\264" +
+    "\052\365\053\355\074\324\075\323\076\316\077\356\100" +
+    "\374\101\353\102\347\140\234\142\251\144\221\145\304" +
+    "\146\242\147\322\150\273\151\272\156\357\161\u0103\164" +
+    "\372\001\002\000\004\027\u01ee\001\002\000\004\020\u01ef" +
+    "\001\002\000\164\002\uff7a\003\uff7a\004\uff7a\005\uff7a\006" +
+    "\uff7a\007\uff7a\010\uff7a\011\uff7a\012\uff7a\013\uff7a\016\uff7a" +
+    "\020\uff7a\023\uff7a\024\uff7a\026\uff7a\033\uff7a\034\uff7a\035" +
+    "\uff7a\036\uff7a\037\uff7a\040\uff7a\041\uff7a\042\uff7a\043\uff7a" +
+    "\044\uff7a\045\uff7a\050\uff7a\052\uff7a\053\uff7a\055\uff7a\057" +
+    "\uff7a\060\uff7a\061\uff7a\062\uff7a\063\uff7a\064\uff7a\065\uff7a" +
+    "\066\uff7a\067\uff7a\070\uff7a\071\uff7a\074\uff7a\075\uff7a\076" +
+    "\uff7a\140\uff7a\142\uff7a\144\uff7a\145\uff7a\146\uff7a\147\uff7a" +
+    "\150\uff7a\151\uff7a\152\uff7a\153\uff7a\156\uff7a\160\uff7a\161" +
+    "\uff7a\001\002\000\102\004\126\005\116\006\132\007\115" +
+    "\010\113\011\117\012\130\013\136\016\042\026\345\027" +
+    "\ufee9\050\264\052\365\053\355\074\324\075\323\076\316" +
+    "\077\356\100\374\101\353\102\347\140\234\142\251\144" +
+    "\221\145\304\146\242\147\322\150\273\151\272\156\357" +
+    "\161\u0103\164\372\001\002\000\004\027\u01f2\001\002\000" +
+    "\004\020\u01f3\001\002\000\164\002\uff79\003\uff79\004\uff79" +
+    "\005\uff79\006\uff79\007\uff79\010\uff79\011\uff79\012\uff79\013" +
+    "\uff79\016\uff79\020\uff79\023\uff79\024\uff79\026\uff79\033\uff79" +
+    "\034\uff79\035\uff79\036\uff79\037\uff79\040\uff79\041\uff79\042" +
+    "\uff79\043\uff79\044\uff79\045\uff79\050\uff79\052\uff79\053\uff79" +
+    "\055\uff79\057\uff79\060\uff79\061\uff79\062\uff79\063\uff79\064" +
+    "\uff79\065\uff79\066\uff79\067\uff79\070\uff79\071\uff79\074\uff79" +
+    "\075\uff79\076\uff79\140\uff79\142\uff79\144\uff79\145\uff79\146" +
+    "\uff79\147\uff79\150\uff79\151\uff79\152\uff79\153\uff79\156\uff79" +
+    "\160\uff79\161\uff79\001\002\000\102\004\126\005\116\006" +
+    "\132\007\115\010\113\011\117\012\130\013\136\016\042" +
+    "\026\345\027\ufee9\050\264\052\365\053\355\074\324\075" +
+    "\323\076\316\077\356\100\374\101\353\102\347\140\234" +
+    "\142\251\144\221\145\304\146\242\147\322\150\273\151" +
+    "\272\156\357\161\u0103\164\372\001\002\000\004\027\u01f6" +
+    "\001\002\000\004\020\u01f7\001\002\000\164\002\uff7c\003" +
+    "\uff7c\004\uff7c\005\uff7c\006\uff7c\007\uff7c\010\uff7c\011\uff7c" +
+    "\012\uff7c\013\uff7c\016\uff7c\020\uff7c\023\uff7c\024\uff7c\026" +
+    "\uff7c\033\uff7c\034\uff7c\035\uff7c\036\uff7c\037\uff7c\040\uff7c" +
+    "\041\uff7c\042\uff7c\043\uff7c\044\uff7c\045\uff7c\050\uff7c\052" +
+    "\uff7c\053\uff7c\055\uff7c\057\uff7c\060\uff7c\061\uff7c\062\uff7c" +
+    "\063\uff7c\064\uff7c\065\uff7c\066\uff7c\067\uff7c\070\uff7c\071" +
+    "\uff7c\074\uff7c\075\uff7c\076\uff7c\140\uff7c\142\uff7c\144\uff7c" +
+    "\145\uff7c\146\uff7c\147\uff7c\150\uff7c\151\uff7c\152\uff7c\153" +
+    "\uff7c\156\uff7c\160\uff7c\161\uff7c\001\002\000\004\020\u01f9" +
+    "\001\002\000\166\002\uff0d\003\uff0d\004\uff0d\005\uff0d\006" +
+    "\uff0d\007\uff0d\010\uff0d\011\uff0d\012\uff0d\013\uff0d\016\uff0d" +
+    "\020\uff0d\023\uff0d\024\uff0d\026\uff0d\033\uff0d\034\uff0d\035" +
+    "\uff0d\036\uff0d\037\uff0d\040\uff0d\041\uff0d\042\uff0d\043\uff0d" +
+    "\044\uff0d\045\uff0d\050\uff0d\052\uff0d\053\uff0d\055\uff0d\056" +
+    "\uff0d\057\uff0d\060\uff0d\061\uff0d\062\uff0d\063\uff0d\064\uff0d" +
+    "\065\uff0d\066\uff0d\067\uff0d\070\uff0d\071\uff0d\074\uff0d\075" +
+    "\uff0d\076\uff0d\140\uff0d\142\uff0d\144\uff0d\145\uff0d\146\uff0d" +
+    "\147\uff0d\150\uff0d\151\uff0d\152\uff0d\153\uff0d\156\uff0d\160" +
+    "\uff0d\161\uff0d\001\002\000\006\072\u01fe\073\uff06\001\002" +
+    "\000\172\002\uff08\003\uff08\004\uff08\005\uff08\006\uff08\007" +
+    "\uff08\010\uff08\011\uff08\012\uff08\013\uff08\016\uff08\020\uff08" +
+    "\023\uff08\024\uff08\026\uff08\033\uff08\034\uff08\035\uff08\036" +
+    "\uff08\037\uff08\040\uff08\041\uff08\042\uff08\043\uff08\044\uff08" +
+    "\045\uff08\050\uff08\052\uff08\053\uff08\055\uff08\056\uff08\057" +
+    "\uff08\060\uff08\061\uff08\062\uff08\063\uff08\064\uff08\065\uff08" +
+    "\066\uff08\067\uff08\070\uff08\071\uff08\072\u01fe\073\uff05\074" +
+    "\uff08\075\uff08\076\uff08\140\uff08\142\uff08\144\uff08\145\uff08" +
+    "\146\uff08\147\uff08\150\uff08\151\uff08\152\uff08\153\uff08\156" +
+    "\uff08\160\uff08\161\uff08\001\002\000\172\002\uff04\003\uff04" +
+    "\004\uff04\005\uff04\006\uff04\007\uff04\010\uff04\011\uff04\012" +
+    "\uff04\013\uff04\016\uff04\020\uff04\023\uff04\024\uff04\026\uff04" +
+    "\033\uff04\034\uff04\035\uff04\036\uff04\037\uff04\040\uff04\041" +
+    "\uff04\042\uff04\043\uff04\044\uff04\045\uff04\050\uff04\052\uff04" +
+    "\053\uff04\055\uff04\056\uff04\057\uff04\060\uff04\061\uff04\062" +
+    "\uff04\063\uff04\064\uff04\065\uff04\066\uff04\067\uff04\070\uff04" +
+    "\071\uff04\072\uff04\073\uff04\074\uff04\075\uff04\076\uff04\140" +
+    "\uff04\142\uff04\144\uff04\145\uff04\146\uff04\147\uff04\150\uff04" +
+    "\151\uff04\152\uff04\153\uff04\156\uff04\160\uff04\161\uff04\001" +
+    "\002\000\004\073\u0203\001\002\000\004\026\u01ff\001\002" +
+    "\000\032\004\126\005\116\006\132\007\115\010\113\011" +
+    "\117\012\130\013\136\016\042\040\153\157\150\161\123" +
+    "\001\002\000\004\027\u0201\001\002\000\006\003\u01be\023" +
+    "\075\001\002\000\172\002\uff02\003\uff02\004\uff02\005\uff02" +
+    "\006\uff02\007\uff02\010\uff02\011\uff02\012\uff02\013\uff02\016" +
+    "\uff02\020\uff02\023\uff02\024\uff02\026\uff02\033\uff02\034\uff02" +
+    "\035\uff02\036\uff02\037\uff02\040\uff02\041\uff02\042\uff02\043" +
+    "\uff02\044\uff02\045\uff02\050\uff02\052\uff02\053\uff02\055\uff02" +
+    "\056\uff02\057\uff02\060\uff02\061\uff02\062\uff02\063\uff02\064" +
+    "\uff02\065\uff02\066\uff02\067\uff02\070\uff02\071\uff02\072\uff02" +
+    "\073\uff02\074\uff02\075\uff02\076\uff02\140\uff02\142\uff02\144" +
+    "\uff02\145\uff02\146\uff02\147\uff02\150\uff02\151\uff02\152\uff02" +
+    "\153\uff02\156\uff02\160\uff02\161\uff02\001\002\000\006\003" +
+    "\u01be\023\075\001\002\000\166\002\uff07\003\uff07\004\uff07" +
+    "\005\uff07\006\uff07\007\uff07\010\uff07\011\uff07\012\uff07\013" +
+    "\uff07\016\uff07\020\uff07\023\uff07\024\uff07\026\uff07\033\uff07" +
+    "\034\uff07\035\uff07\036\uff07\037\uff07\040\uff07\041\uff07\042" +
+    "\uff07\043\uff07\044\uff07\045\uff07\050\uff07\052\uff07\053\uff07" +
+    "\055\uff07\056\uff07\057\uff07\060\uff07\061\uff07\062\uff07\063" +
+    "\uff07\064\uff07\065\uff07\066\uff07\067\uff07\070\uff07\071\uff07" +
+    "\074\uff07\075\uff07\076\uff07\140\uff07\142\uff07\144\uff07\145" +
+    "\uff07\146\uff07\147\uff07\150\uff07\151\uff07\152\uff07\153\uff07" +
+    "\156\uff07\160\uff07\161\uff07\001\002\000\166\002\uff01\003" +
+    "\uff01\004\uff01\005\uff01\006\uff01\007\uff01\010\uff01\011\uff01" +
+    "\012\uff01\013\uff01\016\uff01\020\uff01\023\uff01\024\uff01\026" +
+    "\uff01\033\uff01\034\uff01\035\uff01\036\uff01\037\uff01\040\uff01" +
+    "\041\uff01\042\uff01\043\uff01\044\uff01\045\uff01\050\uff01\052" +
+    "\uff01\053\uff01\055\uff01\056\uff01\057\uff01\060\uff01\061\uff01" +
+    "\062\uff01\063\uff01\064\uff01\065\uff01\066\uff01\067\uff01\070" +
+    "\uff01\071\uff01\074\uff01\075\uff01\076\uff01\140\uff01\142\uff01" +
+    "\144\uff01\145\uff01\146\uff01\147\uff01\150\uff01\151\uff01\152" +
+    "\uff01\153\uff01\156\uff01\160\uff01\161\uff01\001\002\000\172" +
+    "\002\uff03\003\uff03\004\uff03\005\uff03\006\uff03\007\uff03\010" +
+    "\uff03\011\uff03\012\uff03\013\uff03\016\uff03\020\uff03\023\uff03" +
+    "\024\uff03\026\uff03\033\uff03\034\uff03\035\uff03\036\uff03\037" +
+    "\uff03\040\uff03\041\uff03\042\uff03\043\uff03\044\uff03\045\uff03" +
+    "\050\uff03\052\uff03\053\uff03\055\uff03\056\uff03\057\uff03\060" +
+    "\uff03\061\uff03\062\uff03\063\uff03\064\uff03\065\uff03\066\uff03" +
+    "\067\uff03\070\uff03\071\uff03\072\uff03\073\uff03\074\uff03\075" +
+    "\uff03\076\uff03\140\uff03\142\uff03\144\uff03\145\uff03\146\uff03" +
+    "\147\uff03\150\uff03\151\uff03\152\uff03\153\uff03\156\uff03\160" +
+    "\uff03\161\uff03\001\002\000\004\020\u0208\001\002\000\166" +
+    "\002\uff0b\003\uff0b\004\uff0b\005\uff0b\006\uff0b\007\uff0b\010" +
+    "\uff0b\011\uff0b\012\uff0b\013\uff0b\016\uff0b\020\uff0b\023\uff0b" +
+    "\024\uff0b\026\uff0b\033\uff0b\034\uff0b\035\uff0b\036\uff0b\037" +
+    "\uff0b\040\uff0b\041\uff0b\042\uff0b\043\uff0b\044\uff0b\045\uff0b" +
+    "\050\uff0b\052\uff0b\053\uff0b\055\uff0b\056\uff0b\057\uff0b\060" +
+    "\uff0b\061\uff0b\062\uff0b\063\uff0b\064\uff0b\065\uff0b\066\uff0b" +
+    "\067\uff0b\070\uff0b\071\uff0b\074\uff0b\075\uff0b\076\uff0b\140" +
+    "\uff0b\142\uff0b\144\uff0b\145\uff0b\146\uff0b\147\uff0b\150\uff0b" +
+    "\151\uff0b\152\uff0b\153\uff0b\156\uff0b\160\uff0b\161\uff0b\001" +
+    "\002\000\004\045\u020a\001\002\000\102\002\ufef4\014\ufef4" +
+    "\015\ufef4\017\ufef4\020\ufef4\021\ufef4\022\ufef4\024\ufef4\027" +
+    "\ufef4\030\ufef4\075\ufef4\076\ufef4\077\ufef4\100\ufef4\103\ufef4" +
+    "\104\ufef4\105\ufef4\106\ufef4\107\ufef4\110\ufef4\111\ufef4\112" +
+    "\ufef4\113\ufef4\114\ufef4\115\ufef4\116\ufef4\117\ufef4\120\ufef4" +
+    "\121\ufef4\122\ufef4\123\ufef4\124\ufef4\001\002\000\126\003" +
+    "\307\004\126\005\116\006\132\007\115\010\113\011\117" +
+    "\012\130\013\136\016\042\020\274\023\075\026\231\042" +
+    "\u01b1\050\264\052\275\053\247\055\314\057\257\062\260" +
+    "\063\252\064\262\065\270\066\313\067\265\070\223\071" +
+    "\266\074\324\075\323\076\316\140\234\142\251\144\221" +
+    "\145\304\146\242\147\322\150\273\151\272\153\320\156" +
+    "\261\160\254\161\u0103\001\002\000\072\004\126\005\116" +
+    "\006\132\007\115\010\113\011\117\012\130\013\136\016" +
+    "\042\020\uff18\026\231\040\u01c9\050\264\052\365\053\355" +
+    "\074\324\075\323\076\316\140\234\142\251\144\221\145" +
+    "\304\146\242\147\322\150\273\151\272\156\261\161\327" +
+    "\001\002\000\004\020\u020e\001\002\000\100\004\126\005" +
+    "\116\006\132\007\115\010\113\011\117\012\130\013\136" +
+    "\016\042\020\ufe85\026\345\050\264\052\365\053\355\074" +
+    "\324\075\323\076\316\077\356\100\374\101\353\102\347" +
+    "\140\234\142\251\144\221\145\304\146\242\147\322\150" +
+    "\273\151\272\156\357\161\u0103\001\002\000\004\020\u0210" +
+    "\001\002\000\070\004\126\005\116\006\132\007\115\010" +
+    "\113\011\117\012\130\013\136\016\042\026\231\027\uff14" +
+    "\050\264\052\365\053\355\074\324\075\323\076\316\140" +
+    "\234\142\251\144\221\145\304\146\242\147\322\150\273" +
+    "\151\272\156\261\161\u0103\001\002\000\004\027\u0212\001" +
+    "\002\000\126\003\307\004\126\005\116\006\132\007\115" +
+    "\010\113\011\117\012\130\013\136\016\042\020\274\023" +
+    "\075\026\231\042\u01b1\050\264\052\275\053\247\055\314" +
+    "\057\257\062\260\063\252\064\262\065\270\066\313\067" +
+    "\265\070\223\071\266\074\324\075\323\076\316\140\234" +
+    "\142\251\144\221\145\304\146\242\147\322\150\273\151" +
+    "\272\153\320\156\261\160\254\161\u0103\001\002\000\004" +
+    "\063\u0214\001\002\000\004\026\u0215\001\002\000\076\004" +
+    "\126\005\116\006\132\007\115\010\113\011\117\012\130" +
+    "\013\136\016\042\026\345\050\264\052\365\053\355\074" +
+    "\324\075\323\076\316\077\356\100\374\101\353\102\347" +
+    "\140\234\142\251\144\221\145\304\146\242\147\322\150" +
+    "\273\151\272\156\357\161\u0103\001\002\000\004\027\u0217" +
+    "\001\002\000\004\020\u0218\001\002\000\166\002\uff1b\003" +
+    "\uff1b\004\uff1b\005\uff1b\006\uff1b\007\uff1b\010\uff1b\011\uff1b" +
+    "\012\uff1b\013\uff1b\016\uff1b\020\uff1b\023\uff1b\024\uff1b\026" +
+    "\uff1b\033\uff1b\034\uff1b\035\uff1b\036\uff1b\037\uff1b\040\uff1b" +
+    "\041\uff1b\042\uff1b\043\uff1b\044\uff1b\045\uff1b\050\uff1b\052" +
+    "\uff1b\053\uff1b\055\uff1b\056\uff1b\057\uff1b\060\uff1b\061\uff1b" +
+    "\062\uff1b\063\uff1b\064\uff1b\065\uff1b\066\uff1b\067\uff1b\070" +
+    "\uff1b\071\uff1b\074\uff1b\075\uff1b\076\uff1b\140\uff1b\142\uff1b" +
+    "\144\uff1b\145\uff1b\146\uff1b\147\uff1b\150\uff1b\151\uff1b\152" +
+    "\uff1b\153\uff1b\156\uff1b\160\uff1b\161\uff1b\001\002\000\076" +
+    "\004\126\005\116\006\132\007\115\010\113\011\117\012" +
+    "\130\013\136\016\042\026\345\050\264\052\365\053\355" +
+    "\074\324\075\323\076\316\077\356\100\374\101\353\102" +
+    "\347\140\234\142\251\144\221\145\304\146\242\147\322" +
+    "\150\273\151\272\156\357\161\u0103\001\002\000\004\027" +
+    "\u021b\001\002\000\004\023\u021c\001\002\000\012\024\u0220" +
+    "\060\u0224\061\u021e\164\u021f\001\002\000\166\002\uff2a\003" +
+    "\uff2a\004\uff2a\005\uff2a\006\uff2a\007\uff2a\010\uff2a\011\uff2a" +
+    "\012\uff2a\013\uff2a\016\uff2a\020\uff2a\023\uff2a\024\uff2a\026" +
+    "\uff2a\033\uff2a\034\uff2a\035\uff2a\036\uff2a\037\uff2a\040\uff2a" +
+    "\041\uff2a\042\uff2a\043\uff2a\044\uff2a\045\uff2a\050\uff2a\052" +
+    "\uff2a\053\uff2a\055\uff2a\056\uff2a\057\uff2a\060\uff2a\061\uff2a" +
+    "\062\uff2a\063\uff2a\064\uff2a\065\uff2a\066\uff2a\067\uff2a\070" +
+    "\uff2a\071\uff2a\074\uff2a\075\uff2a\076\uff2a\140\uff2a\142\uff2a" +
+    "\144\uff2a\145\uff2a\146\uff2a\147\uff2a\150\uff2a\151\uff2a\152" +
+    "\uff2a\153\uff2a\156\uff2a\160\uff2a\161\uff2a\001\002\000\004" +
+    "\030\u0231\001\002\000\010\024\uff23\060\uff23\061\uff23\001" +
+    "\002\000\166\002\uff26\003\uff26\004\uff26\005\uff26\006\uff26" +
+    "\007\uff26\010\uff26\011\uff26\012\uff26\013\uff26\016\uff26\020" +
+    "\uff26\023\uff26\024\uff26\026\uff26\033\uff26\034\uff26\035\uff26" +
+    "\036\uff26\037\uff26\040\uff26\041\uff26\042\uff26\043\uff26\044" +
+    "\uff26\045\uff26\050\uff26\052\uff26\053\uff26\055\uff26\056\uff26" +
+    "\057\uff26\060\uff26\061\uff26\062\uff26\063\uff26\064\uff26\065" +
+    "\uff26\066\uff26\067\uff26\070\uff26\071\uff26\074\uff26\075\uff26" +
+    "\076\uff26\140\uff26\142\uff26\144\uff26\145\uff26\146\uff26\147" +
+    "\uff26\150\uff26\151\uff26\152\uff26\153\uff26\156\uff26\160\uff26" +
+    "\161\uff26\001\002\000\010\024\u022d\060\u0224\061\u021e\001" +
+    "\002\000\010\024\uff25\060\uff25\061\uff25\001\002\000\164" +
+    "\003\uff21\004\uff21\005\uff21\006\uff21\007\uff21\010\uff21\011" +
+    "\uff21\012\uff21\013\uff21\016\uff21\020\uff21\023\uff21\024\uff21" +
+    "\026\uff21\033\uff21\034\uff21\035\uff21\036\uff21\037\uff21\040" +
+    "\uff21\041\uff21\042\uff21\043\uff21\044\uff21\045\uff21\050\uff21" +
+    "\052\uff21\053\uff21\055\uff21\057\uff21\060\uff21\061\uff21\062" +
+    "\uff21\063\uff21\064\uff21\065\uff21\066\uff21\067\uff21\070\uff21" +
+    "\071\uff21\074\uff21\075\uff21\076\uff21\140\uff21\142\uff21\144" +
+    "\uff21\145\uff21\146\uff21\147\uff21\150\uff21\151\uff21\152\uff21" +
+    "\153\uff21\156\uff21\160\uff21\161\uff21\164\uff21\001\002\000" +
+    "\076\004\126\005\116\006\132\007\115\010\113\011\117" +
+    "\012\130\013\136\016\042\026\345\050\264\052\365\053" +
+    "\355\074\324\075\323\076\316\077\356\100\374\101\353" +
+    "\102\347\140\234\142\251\144\221\145\304\146\242\147" +
+    "\322\150\273\151\272\156\357\161\u0103\001\002\000\164" +
+    "\003\307\004\126\005\116\006\132\007\115\010\113\011" +
+    "\117\012\130\013\136\016\042\020\274\023\075\024\u0228" +
+    "\026\231\033\023\034\026\035\017\036\025\037\033\040" +
+    "\235\041\020\042\312\043\027\044\024\045\uffc7\050\264" +
+    "\052\275\053\247\055\314\057\257\060\u0224\061\u021e\062" +
+    "\260\063\252\064\262\065\270\066\313\067\265\070\223" +
+    "\071\266\074\324\075\323\076\316\140\234\142\251\144" +
+    "\221\145\304\146\242\147\322\150\273\151\272\152\015" +
+    "\153\320\156\261\160\254\161\327\164\301\001\002\000" +
+    "\162\003\307\004\126\005\116\006\132\007\115\010\113" +
+    "\011\117\012\130\013\136\016\042\020\274\023\075\024" +
+    "\uff22\026\231\033\023\034\026\035\017\036\025\037\033" +
+    "\040\235\041\020\042\312\043\027\044\024\045\uffc7\050" +
+    "\264\052\275\053\247\055\314\057\257\060\uff22\061\uff22" +
+    "\062\260\063\252\064\262\065\270\066\313\067\265\070" +
+    "\223\071\266\074\324\075\323\076\316\140\234\142\251" +
+    "\144\221\145\304\146\242\147\322\150\273\151\272\152" +
+    "\015\153\320\156\261\160\254\161\327\001\002\000\164" +
+    "\003\uff20\004\uff20\005\uff20\006\uff20\007\uff20\010\uff20\011" +
+    "\uff20\012\uff20\013\uff20\016\uff20\020\uff20\023\uff20\024\uff20" +
+    "\026\uff20\033\uff20\034\uff20\035\uff20\036\uff20\037\uff20\040" +
+    "\uff20\041\uff20\042\uff20\043\uff20\044\uff20\045\uff20\050\uff20" +
+    "\052\uff20\053\uff20\055\uff20\057\uff20\060\uff20\061\uff20\062" +
+    "\uff20\063\uff20\064\uff20\065\uff20\066\uff20\067\uff20\070\uff20" +
+    "\071\uff20\074\uff20\075\uff20\076\uff20\140\uff20\142\uff20\144" +
+    "\uff20\145\uff20\146\uff20\147\uff20\150\uff20\151\uff20\152\uff20" +
+    "\153\uff20\156\uff20\160\uff20\161\uff20\164\uff20\001\002\000" +
+    "\166\002\uff27\003\uff27\004\uff27\005\uff27\006\uff27\007\uff27" +
+    "\010\uff27\011\uff27\012\uff27\013\uff27\016\uff27\020\uff27\023" +
+    "\uff27\024\uff27\026\uff27\033\uff27\034\uff27\035\uff27\036\uff27" +
+    "\037\uff27\040\uff27\041\uff27\042\uff27\043\uff27\044\uff27\045" +
+    "\uff27\050\uff27\052\uff27\053\uff27\055\uff27\056\uff27\057\uff27" +
+    "\060\uff27\061\uff27\062\uff27\063\uff27\064\uff27\065\uff27\066" +
+    "\uff27\067\uff27\070\uff27\071\uff27\074\uff27\075\uff27\076\uff27" +
+    "\140\uff27\142\uff27\144\uff27\145\uff27\146\uff27\147\uff27\150" +
+    "\uff27\151\uff27\152\uff27\153\uff27\156\uff27\160\uff27\161\uff27" +
+    "\001\002\000\162\003\uff5b\004\uff5b\005\uff5b\006\uff5b\007" +
+    "\uff5b\010\uff5b\011\uff5b\012\uff5b\013\uff5b\016\uff5b\020\uff5b" +
+    "\023\uff5b\024\uff5b\026\uff5b\033\uff5b\034\uff5b\035\uff5b\036" +
+    "\uff5b\037\uff5b\040\uff5b\041\uff5b\042\uff5b\043\uff5b\044\uff5b" +
+    "\045\uff5b\050\uff5b\052\uff5b\053\uff5b\055\uff5b\057\uff5b\060" +
+    "\uff5b\061\uff5b\062\uff5b\063\uff5b\064\uff5b\065\uff5b\066\uff5b" +
+    "\067\uff5b\070\uff5b\071\uff5b\074\uff5b\075\uff5b\076\uff5b\140" +
+    "\uff5b\142\uff5b\144\uff5b\145\uff5b\146\uff5b\147\uff5b\150\uff5b" +
+    "\151\uff5b\152\uff5b\153\uff5b\156\uff5b\160\uff5b\161\uff5b\001" +
+    "\002\000\004\030\u022c\001\002\000\004\030\ufe82\001\002" +
+    "\000\164\003\uff1f\004\uff1f\005\uff1f\006\uff1f\007\uff1f\010" +
+    "\uff1f\011\uff1f\012\uff1f\013\uff1f\016\uff1f\020\uff1f\023\uff1f" +
+    "\024\uff1f\026\uff1f\033\uff1f\034\uff1f\035\uff1f\036\uff1f\037" +
+    "\uff1f\040\uff1f\041\uff1f\042\uff1f\043\uff1f\044\uff1f\045\uff1f" +
+    "\050\uff1f\052\uff1f\053\uff1f\055\uff1f\057\uff1f\060\uff1f\061" +
+    "\uff1f\062\uff1f\063\uff1f\064\uff1f\065\uff1f\066\uff1f\067\uff1f" +
+    "\070\uff1f\071\uff1f\074\uff1f\075\uff1f\076\uff1f\140\uff1f\142" +
+    "\uff1f\144\uff1f\145\uff1f\146\uff1f\147\uff1f\150\uff1f\151\uff1f" +
+    "\152\uff1f\153\uff1f\156\uff1f\160\uff1f\161\uff1f\164\uff1f\001" +
+    "\002\000\166\002\uff28\003\uff28\004\uff28\005\uff28\006\uff28" +
+    "\007\uff28\010\uff28\011\uff28\012\uff28\013\uff28\016\uff28\020" +
+    "\uff28\023\uff28\024\uff28\026\uff28\033\uff28\034\uff28\035\uff28" +
+    "\036\uff28\037\uff28\040\uff28\041\uff28\042\uff28\043\uff28\044" +
+    "\uff28\045\uff28\050\uff28\052\uff28\053\uff28\055\uff28\056\uff28" +
+    "\057\uff28\060\uff28\061\uff28\062\uff28\063\uff28\064\uff28\065" +
+    "\uff28\066\uff28\067\uff28\070\uff28\071\uff28\074\uff28\075\uff28" +
+    "\076\uff28\140\uff28\142\uff28\144\uff28\145\uff28\146\uff28\147" +
+    "\uff28\150\uff28\151\uff28\152\uff28\153\uff28\156\uff28\160\uff28" +
+    "\161\uff28\001\002\000\010\024\uff24\060\uff24\061\uff24\001" +
+    "\002\000\164\003\307\004\126\005\116\006\132\007\115" +
+    "\010\113\011\117\012\130\013\136\016\042\020\274\023" +
+    "\075\024\u0230\026\231\033\023\034\026\035\017\036\025" +
+    "\037\033\040\235\041\020\042\312\043\027\044\024\045" +
+    "\uffc7\050\264\052\275\053\247\055\314\057\257\060\u0224" +
+    "\061\u021e\062\260\063\252\064\262\065\270\066\313\067" +
+    "\265\070\223\071\266\074\324\075\323\076\316\140\234" +
+    "\142\251\144\221\145\304\146\242\147\322\150\273\151" +
+    "\272\152\015\153\320\156\261\160\254\161\327\164\301" +
+    "\001\002\000\166\002\uff29\003\uff29\004\uff29\005\uff29\006" +
+    "\uff29\007\uff29\010\uff29\011\uff29\012\uff29\013\uff29\016\uff29" +
+    "\020\uff29\023\uff29\024\uff29\026\uff29\033\uff29\034\uff29\035" +
+    "\uff29\036\uff29\037\uff29\040\uff29\041\uff29\042\uff29\043\uff29" +
+    "\044\uff29\045\uff29\050\uff29\052\uff29\053\uff29\055\uff29\056" +
+    "\uff29\057\uff29\060\uff29\061\uff29\062\uff29\063\uff29\064\uff29" +
+    "\065\uff29\066\uff29\067\uff29\070\uff29\071\uff29\074\uff29\075" +
+    "\uff29\076\uff29\140\uff29\142\uff29\144\uff29\145\uff29\146\uff29" +
+    "\147\uff29\150\uff29\151\uff29\152\uff29\153\uff29\156\uff29\160" +
+    "\uff29\161\uff29\001\002\000\164\003\uff1e\004\uff1e\005\uff1e" +
+    "\006\uff1e\007\uff1e\010\uff1e\011\uff1e\012\uff1e\013\uff1e\016" +
+    "\uff1e\020\uff1e\023\uff1e\024\uff1e\026\uff1e\033\uff1e\034\uff1e" +
+    "\035\uff1e\036\uff1e\037\uff1e\040\uff1e\041\uff1e\042\uff1e\043" +
+    "\uff1e\044\uff1e\045\uff1e\050\uff1e\052\uff1e\053\uff1e\055\uff1e" +
+    "\057\uff1e\060\uff1e\061\uff1e\062\uff1e\063\uff1e\064\uff1e\065" +
+    "\uff1e\066\uff1e\067\uff1e\070\uff1e\071\uff1e\074\uff1e\075\uff1e" +
+    "\076\uff1e\140\uff1e\142\uff1e\144\uff1e\145\uff1e\146\uff1e\147" +
+    "\uff1e\150\uff1e\151\uff1e\152\uff1e\153\uff1e\156\uff1e\160\uff1e" +
+    "\161\uff1e\164\uff1e\001\002\000\006\020\uff55\022\u01dc\001" +
+    "\002\000\076\004\126\005\116\006\132\007\115\010\113" +
+    "\011\117\012\130\013\136\016\042\026\345\050\264\052" +
+    "\365\053\355\074\324\075\323\076\316\077\356\100\374" +
+    "\101\353\102\347\140\234\142\251\144\221\145\304\146" +
+    "\242\147\322\150\273\151\272\156\357\161\u0103\001\002" +
+    "\000\004\027\u0235\001\002\000\126\003\307\004\126\005" +
+    "\116\006\132\007\115\010\113\011\117\012\130\013\136" +
+    "\016\042\020\274\023\075\026\231\042\u01b1\050\264\052" +
+    "\275\053\247\055\314\057\257\062\260\063\252\064\262" +
+    "\065\270\066\313\067\265\070\223\071\266\074\324\075" +
+    "\323\076\316\140\234\142\251\144\221\145\304\146\242" +
+    "\147\322\150\273\151\272\153\320\156\261\160\254\161" +
+    "\u0103\001\002\000\102\004\126\005\116\006\132\007\115" +
+    "\010\113\011\117\012\130\013\136\016\042\026\345\027" +
+    "\ufee9\050\264\052\365\053\355\074\324\075\323\076\316" +
+    "\077\356\100\374\101\353\102\347\140\234\142\251\144" +
+    "\221\145\304\146\242\147\322\150\273\151\272\156\357" +
+    "\161\u0103\164\372\001\002\000\004\027\u0238\001\002\000" +
+    "\004\020\u0239\001\002\000\164\002\uff7b\003\uff7b\004\uff7b" +
+    "\005\uff7b\006\uff7b\007\uff7b\010\uff7b\011\uff7b\012\uff7b\013" +
+    "\uff7b\016\uff7b\020\uff7b\023\uff7b\024\uff7b\026\uff7b\033\uff7b" +
+    "\034\uff7b\035\uff7b\036\uff7b\037\uff7b\040\uff7b\041\uff7b\042" +
+    "\uff7b\043\uff7b\044\uff7b\045\uff7b\050\uff7b\052\uff7b\053\uff7b" +
+    "\055\uff7b\057\uff7b\060\uff7b\061\uff7b\062\uff7b\063\uff7b\064" +
+    "\uff7b\065\uff7b\066\uff7b\067\uff7b\070\uff7b\071\uff7b\074\uff7b" +
+    "\075\uff7b\076\uff7b\140\uff7b\142\uff7b\144\uff7b\145\uff7b\146" +
+    "\uff7b\147\uff7b\150\uff7b\151\uff7b\152\uff7b\153\uff7b\156\uff7b" +
+    "\160\uff7b\161\uff7b\001\002\000\164\002\uff56\003\uff56\004" +
+    "\uff56\005\uff56\006\uff56\007\uff56\010\uff56\011\uff56\012\uff56" +
+    "\013\uff56\016\uff56\020\uff56\023\uff56\024\uff56\026\uff56\033" +
+    "\uff56\034\uff56\035\uff56\036\uff56\037\uff56\040\uff56\041\uff56" +
+    "\042\uff56\043\uff56\044\uff56\045\uff56\050\uff56\052\uff56\053" +
+    "\uff56\055\uff56\057\uff56\060\uff56\061\uff56\062\uff56\063\uff56" +
+    "\064\uff56\065\uff56\066\uff56\067\uff56\070\uff56\071\uff56\074" +
+    "\uff56\075\uff56\076\uff56\140\uff56\142\uff56\144\uff56\145\uff56" +
+    "\146\uff56\147\uff56\150\uff56\151\uff56\152\uff56\153\uff56\156" +
+    "\uff56\160\uff56\161\uff56\001\002\000\004\027\u023c\001\002" +
+    "\000\012\014\ufefa\017\ufefa\075\ufefa\076\ufefa\001\002\000" +
+    "\166\002\uff36\003\uff36\004\uff36\005\uff36\006\uff36\007\uff36" +
+    "\010\uff36\011\uff36\012\uff36\013\uff36\016\uff36\020\uff36\023" +
+    "\uff36\024\uff36\026\uff36\033\uff36\034\uff36\035\uff36\036\uff36" +
+    "\037\uff36\040\uff36\041\uff36\042\uff36\043\uff36\044\uff36\045" +
+    "\uff36\050\uff36\052\uff36\053\uff36\055\uff36\056\uff36\057\uff36" +
+    "\060\uff36\061\uff36\062\uff36\063\uff36\064\uff36\065\uff36\066" +
+    "\uff36\067\uff36\070\uff36\071\uff36\074\uff36\075\uff36\076\uff36" +
+    "\140\uff36\142\uff36\144\uff36\145\uff36\146\uff36\147\uff36\150" +
+    "\uff36\151\uff36\152\uff36\153\uff36\156\uff36\160\uff36\161\uff36" +
+    "\001\002\000\004\020\u023f\001\002\000\166\002\uff0a\003" +
+    "\uff0a\004\uff0a\005\uff0a\006\uff0a\007\uff0a\010\uff0a\011\uff0a" +
+    "\012\uff0a\013\uff0a\016\uff0a\020\uff0a\023\uff0a\024\uff0a\026" +
+    "\uff0a\033\uff0a\034\uff0a\035\uff0a\036\uff0a\037\uff0a\040\uff0a" +
+    "\041\uff0a\042\uff0a\043\uff0a\044\uff0a\045\uff0a\050\uff0a\052" +
+    "\uff0a\053\uff0a\055\uff0a\056\uff0a\057\uff0a\060\uff0a\061\uff0a" +
+    "\062\uff0a\063\uff0a\064\uff0a\065\uff0a\066\uff0a\067\uff0a\070" +
+    "\uff0a\071\uff0a\074\uff0a\075\uff0a\076\uff0a\140\uff0a\142\uff0a" +
+    "\144\uff0a\145\uff0a\146\uff0a\147\uff0a\150\uff0a\151\uff0a\152" +
+    "\uff0a\153\uff0a\156\uff0a\160\uff0a\161\uff0a\001\002\000\076" +
+    "\004\ufe87\005\ufe87\006\ufe87\007\ufe87\010\ufe87\011\ufe87\012" +
+    "\ufe87\013\ufe87\016\ufe87\026\ufe87\050\ufe87\052\ufe87\053\ufe87" +
+    "\074\ufe87\075\ufe87\076\ufe87\077\ufe87\100\ufe87\101\ufe87\102" +
+    "\ufe87\140\ufe87\142\ufe87\144\ufe87\145\ufe87\146\ufe87\147\ufe87" +
+    "\150\ufe87\151\ufe87\156\ufe87\161\ufe87\001\002\000\076\004" +
+    "\ufe90\005\ufe90\006\ufe90\007\ufe90\010\ufe90\011\ufe90\012\ufe90" +
+    "\013\ufe90\016\ufe90\026\ufe90\050\ufe90\052\ufe90\053\ufe90\074" +
+    "\ufe90\075\ufe90\076\ufe90\077\ufe90\100\ufe90\101\ufe90\102\ufe90" +
+    "\140\ufe90\142\ufe90\144\ufe90\145\ufe90\146\ufe90\147\ufe90\150" +
+    "\ufe90\151\ufe90\156\ufe90\161\ufe90\001\002\000\076\004\ufe8f" +
+    "\005\ufe8f\006\ufe8f\007\ufe8f\010\ufe8f\011\ufe8f\012\ufe8f\013" +
+    "\ufe8f\016\ufe8f\026\ufe8f\050\ufe8f\052\ufe8f\053\ufe8f\074\ufe8f" +
+    "\075\ufe8f\076\ufe8f\077\ufe8f\100\ufe8f\101\ufe8f\102\ufe8f\140" +
+    "\ufe8f\142\ufe8f\144\ufe8f\145\ufe8f\146\ufe8f\147\ufe8f\150\ufe8f" +
+    "\151\ufe8f\156\ufe8f\161\ufe8f\001\002\000\076\004\ufe88\005" +
+    "\ufe88\006\ufe88\007\ufe88\010\ufe88\011\ufe88\012\ufe88\013\ufe88" +
+    "\016\ufe88\026\ufe88\050\ufe88\052\ufe88\053\ufe88\074\ufe88\075" +
+    "\ufe88\076\ufe88\077\ufe88\100\ufe88\101\ufe88\102\ufe88\140\ufe88" +
+    "\142\ufe88\144\ufe88\145\ufe88\146\ufe88\147\ufe88\150\ufe88\151" +
+    "\ufe88\156\ufe88\161\ufe88\001\002\000\076\004\ufe89\005\ufe89" +
+    "\006\ufe89\007\ufe89\010\ufe89\011\ufe89\012\ufe89\013\ufe89\016" +
+    "\ufe89\026\ufe89\050\ufe89\052\ufe89\053\ufe89\074\ufe89\075\ufe89" +
+    "\076\ufe89\077\ufe89\100\ufe89\101\ufe89\102\ufe89\140\ufe89\142" +
+    "\ufe89\144\ufe89\145\ufe89\146\ufe89\147\ufe89\150\ufe89\151\ufe89" +
+    "\156\ufe89\161\ufe89\001\002\000\076\004\ufe8d\005\ufe8d\006" +
+    "\ufe8d\007\ufe8d\010\ufe8d\011\ufe8d\012\ufe8d\013\ufe8d\016\ufe8d" +
+    "\026\ufe8d\050\ufe8d\052\ufe8d\053\ufe8d\074\ufe8d\075\ufe8d\076" +
+    "\ufe8d\077\ufe8d\100\ufe8d\101\ufe8d\102\ufe8d\140\ufe8d\142\ufe8d" +
+    "\144\ufe8d\145\ufe8d\146\ufe8d\147\ufe8d\150\ufe8d\151\ufe8d\156" +
+    "\ufe8d\161\ufe8d\001\002\000\076\004\ufe8a\005\ufe8a\006\ufe8a" +
+    "\007\ufe8a\010\ufe8a\011\ufe8a\012\ufe8a\013\ufe8a\016\ufe8a\026" +
+    "\ufe8a\050\ufe8a\052\ufe8a\053\ufe8a\074\ufe8a\075\ufe8a\076\ufe8a" +
+    "\077\ufe8a\100\ufe8a\101\ufe8a\102\ufe8a\140\ufe8a\142\ufe8a\144" +
+    "\ufe8a\145\ufe8a\146\ufe8a\147\ufe8a\150\ufe8a\151\ufe8a\156\ufe8a" +
+    "\161\ufe8a\001\002\000\076\004\ufe8b\005\ufe8b\006\ufe8b\007" +
+    "\ufe8b\010\ufe8b\011\ufe8b\012\ufe8b\013\ufe8b\016\ufe8b\026\ufe8b" +
+    "\050\ufe8b\052\ufe8b\053\ufe8b\074\ufe8b\075\ufe8b\076\ufe8b\077" +
+    "\ufe8b\100\ufe8b\101\ufe8b\102\ufe8b\140\ufe8b\142\ufe8b\144\ufe8b" +
+    "\145\ufe8b\146\ufe8b\147\ufe8b\150\ufe8b\151\ufe8b\156\ufe8b\161" +
+    "\ufe8b\001\002\000\076\004\ufe91\005\ufe91\006\ufe91\007\ufe91" +
+    "\010\ufe91\011\ufe91\012\ufe91\013\ufe91\016\ufe91\026\ufe91\050" +
+    "\ufe91\052\ufe91\053\ufe91\074\ufe91\075\ufe91\076\ufe91\077\ufe91" +
+    "\100\ufe91\101\ufe91\102\ufe91\140\ufe91\142\ufe91\144\ufe91\145" +
+    "\ufe91\146\ufe91\147\ufe91\150\ufe91\151\ufe91\156\ufe91\161\ufe91" +
+    "\001\002\000\076\004\ufe8c\005\ufe8c\006\ufe8c\007\ufe8c\010" +
+    "\ufe8c\011\ufe8c\012\ufe8c\013\ufe8c\016\ufe8c\026\ufe8c\050\ufe8c" +
+    "\052\ufe8c\053\ufe8c\074\ufe8c\075\ufe8c\076\ufe8c\077\ufe8c\100" +
+    "\ufe8c\101\ufe8c\102\ufe8c\140\ufe8c\142\ufe8c\144\ufe8c\145\ufe8c" +
+    "\146\ufe8c\147\ufe8c\150\ufe8c\151\ufe8c\156\ufe8c\161\ufe8c\001" +
+    "\002\000\076\004\126\005\116\006\132\007\115\010\113" +
+    "\011\117\012\130\013\136\016\042\026\345\050\264\052" +
+    "\365\053\355\074\324\075\323\076\316\077\356\100\374" +
+    "\101\353\102\347\140\234\142\251\144\221\145\304\146" +
+    "\242\147\322\150\273\151\272\156\357\161\u0103\001\002" +
+    "\000\076\004\ufe86\005\ufe86\006\ufe86\007\ufe86\010\ufe86\011" +
+    "\ufe86\012\ufe86\013\ufe86\016\ufe86\026\ufe86\050\ufe86\052\ufe86" +
+    "\053\ufe86\074\ufe86\075\ufe86\076\ufe86\077\ufe86\100\ufe86\101" +
+    "\ufe86\102\ufe86\140\ufe86\142\ufe86\144\ufe86\145\ufe86\146\ufe86" +
+    "\147\ufe86\150\ufe86\151\ufe86\156\ufe86\161\ufe86\001\002\000" +
+    "\076\004\ufe8e\005\ufe8e\006\ufe8e\007\ufe8e\010\ufe8e\011\ufe8e" +
+    "\012\ufe8e\013\ufe8e\016\ufe8e\026\ufe8e\050\ufe8e\052\ufe8e\053" +
+    "\ufe8e\074\ufe8e\075\ufe8e\076\ufe8e\077\ufe8e\100\ufe8e\101\ufe8e" +
+    "\102\ufe8e\140\ufe8e\142\ufe8e\144\ufe8e\145\ufe8e\146\ufe8e\147" +
+    "\ufe8e\150\ufe8e\151\ufe8e\156\ufe8e\161\ufe8e\001\002\000\020" +
+    "\002\ufe96\015\ufe96\020\ufe96\022\ufe96\024\ufe96\027\ufe96\030" +
+    "\ufe96\001\002\000\076\002\uff7d\003\uff7d\004\uff7d\005\uff7d" +
+    "\006\uff7d\007\uff7d\010\uff7d\011\uff7d\012\uff7d\013\uff7d\016" +
+    "\uff7d\020\uff7d\023\uff7d\024\uff7d\033\uff7d\034\uff7d\035\uff7d" +
+    "\036\uff7d\037\uff7d\040\uff7d\041\uff7d\042\uff7d\043\uff7d\044" +
+    "\uff7d\045\uff7d\050\uff7d\054\uff7d\152\uff7d\161\uff7d\163\uff7d" +
+    "\001\002\000\014\014\uff98\020\uff98\022\uff98\025\uff98\026" +
+    "\u0252\001\002\000\006\020\u0251\022\u01dc\001\002\000\074" +
+    "\003\uff9d\004\uff9d\005\uff9d\006\uff9d\007\uff9d\010\uff9d\011" +
+    "\uff9d\012\uff9d\013\uff9d\016\uff9d\020\uff9d\023\uff9d\024\uff9d" +
+    "\033\uff9d\034\uff9d\035\uff9d\036\uff9d\037\uff9d\040\uff9d\041" +
+    "\uff9d\042\uff9d\043\uff9d\044\uff9d\045\uff9d\050\uff9d\054\uff9d" +
+    "\152\uff9d\161\uff9d\163\uff9d\001\002\000\036\004\126\005" +
+    "\116\006\132\007\115\010\113\011\117\012\130\013\136" +
+    "\016\042\027\uff91\040\153\157\150\161\123\164\155\001" +
+    "\002\000\004\027\u0254\001\002\000\016\003\ufedd\014\140" +
+    "\020\ufedd\023\ufedd\051\ufedd\164\ufedd\001\002\000\014\003" +
+    "\uff89\020\uff89\023\uff89\051\167\164\165\001\002\000\010" +
+    "\003\uff93\020\uff93\023\uff93\001\002\000\010\023\uffb6\046" +
+    "\045\047\uffb6\001\002\000\006\023\uffb3\047\060\001\002" +
+    "\000\004\023\067\001\002\000\074\003\uffa0\004\uffa0\005" +
+    "\uffa0\006\uffa0\007\uffa0\010\uffa0\011\uffa0\012\uffa0\013\uffa0" +
+    "\016\uffa0\020\uffa0\023\uffa0\024\uffa0\033\uffa0\034\uffa0\035" +
+    "\uffa0\036\uffa0\037\uffa0\040\uffa0\041\uffa0\042\uffa0\043\uffa0" +
+    "\044\uffa0\045\uffa0\050\uffa0\054\uffa0\152\uffa0\161\uffa0\163" +
+    "\uffa0\001\002\000\074\003\uffab\004\uffab\005\uffab\006\uffab" +
+    "\007\uffab\010\uffab\011\uffab\012\uffab\013\uffab\016\uffab\020" +
+    "\uffab\023\uffab\024\uffab\033\uffab\034\uffab\035\uffab\036\uffab" +
+    "\037\uffab\040\uffab\041\uffab\042\uffab\043\uffab\044\uffab\045" +
+    "\uffab\050\uffab\054\uffab\152\uffab\161\uffab\163\uffab\001\002" +
+    "\000\074\003\uffa3\004\uffa3\005\uffa3\006\uffa3\007\uffa3\010" +
+    "\uffa3\011\uffa3\012\uffa3\013\uffa3\016\uffa3\020\uffa3\023\uffa3" +
+    "\024\uffa3\033\uffa3\034\uffa3\035\uffa3\036\uffa3\037\uffa3\040" +
+    "\uffa3\041\uffa3\042\uffa3\043\uffa3\044\uffa3\045\uffa3\050\uffa3" +
+    "\054\uffa3\152\uffa3\161\uffa3\163\uffa3\001\002\000\074\003" +
+    "\uffa4\004\uffa4\005\uffa4\006\uffa4\007\uffa4\010\uffa4\011\uffa4" +
+    "\012\uffa4\013\uffa4\016\uffa4\020\uffa4\023\uffa4\024\uffa4\033" +
+    "\uffa4\034\uffa4\035\uffa4\036\uffa4\037\uffa4\040\uffa4\041\uffa4" +
+    "\042\uffa4\043\uffa4\044\uffa4\045\uffa4\050\uffa4\054\uffa4\152" +
+    "\uffa4\161\uffa4\163\uffa4\001\002\000\260\002\uffaf\003\uffaf" +
+    "\004\uffaf\005\uffaf\006\uffaf\007\uffaf\010\uffaf\011\uffaf\012" +
+    "\uffaf\013\uffaf\014\uffaf\015\uffaf\016\uffaf\017\uffaf\020\uffaf" +
+    "\021\uffaf\022\uffaf\023\uffaf\024\uffaf\026\uffaf\027\uffaf\030" +
+    "\uffaf\033\uffaf\034\uffaf\035\uffaf\036\uffaf\037\uffaf\040\uffaf" +
+    "\041\uffaf\042\uffaf\043\uffaf\044\uffaf\045\uffaf\050\uffaf\052" +
+    "\uffaf\053\uffaf\054\uffaf\055\uffaf\057\uffaf\060\uffaf\061\uffaf" +
+    "\062\uffaf\063\uffaf\064\uffaf\065\uffaf\066\uffaf\067\uffaf\070" +
+    "\uffaf\071\uffaf\074\uffaf\075\uffaf\076\uffaf\077\uffaf\100\uffaf" +
+    "\103\uffaf\104\uffaf\105\uffaf\106\uffaf\107\uffaf\110\uffaf\111" +
+    "\uffaf\112\uffaf\113\uffaf\114\uffaf\115\uffaf\116\uffaf\117\uffaf" +
+    "\120\uffaf\121\uffaf\122\uffaf\123\uffaf\124\uffaf\140\uffaf\142" +
+    "\uffaf\144\uffaf\145\uffaf\146\uffaf\147\uffaf\150\uffaf\151\uffaf" +
+    "\152\uffaf\153\uffaf\156\uffaf\160\uffaf\161\uffaf\162\uffaf\163" +
+    "\uffaf\001\002\000\074\003\uff80\004\uff80\005\uff80\006\uff80" +
+    "\007\uff80\010\uff80\011\uff80\012\uff80\013\uff80\016\uff80\020" +
+    "\uff80\023\uff80\024\uff80\033\uff80\034\uff80\035\uff80\036\uff80" +
+    "\037\uff80\040\uff80\041\uff80\042\uff80\043\uff80\044\uff80\045" +
+    "\uff80\050\uff80\054\uff80\152\uff80\161\uff80\163\uff80\001\002" +
+    "\000\076\002\uff94\003\uff94\004\uff94\005\uff94\006\uff94\007" +
+    "\uff94\010\uff94\011\uff94\012\uff94\013\uff94\016\uff94\020\uff94" +
+    "\023\uff94\024\uff94\033\uff94\034\uff94\035\uff94\036\uff94\037" +
+    "\uff94\040\uff94\041\uff94\042\uff94\043\uff94\044\uff94\045\uff94" +
+    "\050\uff94\054\uff94\152\uff94\161\uff94\163\uff94\001\002\000" +
+    "\076\002\uff81\003\uff81\004\uff81\005\uff81\006\uff81\007\uff81" +
+    "\010\uff81\011\uff81\012\uff81\013\uff81\016\uff81\020\uff81\023" +
+    "\uff81\024\uff81\033\uff81\034\uff81\035\uff81\036\uff81\037\uff81" +
+    "\040\uff81\041\uff81\042\uff81\043\uff81\044\uff81\045\uff81\050" +
+    "\uff81\054\uff81\152\uff81\161\uff81\163\uff81\001\002\000\076" +
+    "\002\uff82\003\uff82\004\uff82\005\uff82\006\uff82\007\uff82\010" +
+    "\uff82\011\uff82\012\uff82\013\uff82\016\uff82\020\uff82\023\uff82" +
+    "\024\uff82\033\uff82\034\uff82\035\uff82\036\uff82\037\uff82\040" +
+    "\uff82\041\uff82\042\uff82\043\uff82\044\uff82\045\uff82\050\uff82" +
+    "\054\uff82\152\uff82\161\uff82\163\uff82\001\002\000\156\003" +
+    "\307\004\126\005\116\006\132\007\115\010\113\011\117" +
+    "\012\130\013\136\016\042\020\274\023\075\024\uff5d\026" +
+    "\231\033\023\034\026\035\017\036\025\037\033\040\235" +
+    "\041\020\042\312\043\027\044\024\045\uffc7\050\264\052" +
+    "\275\053\247\055\314\057\257\062\260\063\252\064\262" +
+    "\065\270\066\313\067\265\070\223\071\266\074\324\075" +
+    "\323\076\316\140\234\142\251\144\221\145\304\146\242" +
+    "\147\322\150\273\151\272\152\015\153\320\156\261\160" +
+    "\254\161\327\001\002\000\004\024\u0265\001\002\000\176" +
+    "\002\uff60\003\uff60\004\uff60\005\uff60\006\uff60\007\uff60\010" +
+    "\uff60\011\uff60\012\uff60\013\uff60\016\uff60\020\uff60\023\uff60" +
+    "\024\uff60\026\uff60\033\uff60\034\uff60\035\uff60\036\uff60\037" +
+    "\uff60\040\uff60\041\uff60\042\uff60\043\uff60\044\uff60\045\uff60" +
+    "\050\uff60\052\uff60\053\uff60\054\uff60\055\uff60\056\uff60\057" +
+    "\uff60\060\uff60\061\uff60\062\uff60\063\uff60\064\uff60\065\uff60" +
+    "\066\uff60\067\uff60\070\uff60\071\uff60\072\uff60\073\uff60\074" +
+    "\uff60\075\uff60\076\uff60\140\uff60\142\uff60\144\uff60\145\uff60" +
+    "\146\uff60\147\uff60\150\uff60\151\uff60\152\uff60\153\uff60\156" +
+    "\uff60\160\uff60\161\uff60\163\uff60\001\002\000\006\023\uff77" +
+    "\046\u0267\001\002\000\006\016\042\161\046\001\002\000" +
+    "\004\023\u026c\001\002\000\006\022\u026a\023\uff76\001\002" +
+    "\000\006\016\042\161\046\001\002\000\006\022\uff74\023" +
+    "\uff74\001\002\000\070\004\uffc7\005\uffc7\006\uffc7\007\uffc7" +
+    "\010\uffc7\011\uffc7\012\uffc7\013\uffc7\016\uffc7\020\u026f\024" +
+    "\uff72\033\023\034\026\035\017\036\025\037\033\040\031" +
+    "\041\020\042\034\043\027\044\024\045\uffc7\050\uffc7\054" +
+    "\uffc7\152\015\161\uffc7\164\u0279\001\002\000\100\002\uff78" +
+    "\003\uff78\004\uff78\005\uff78\006\uff78\007\uff78\010\uff78\011" +
+    "\uff78\012\uff78\013\uff78\016\uff78\020\uff78\023\uff78\024\uff78" +
+    "\033\uff78\034\uff78\035\uff78\036\uff78\037\uff78\040\uff78\041" +
+    "\uff78\042\uff78\043\uff78\044\uff78\045\uff78\050\uff78\054\uff78" +
+    "\152\uff78\161\uff78\162\uff78\163\uff78\001\002\000\066\004" +
+    "\uff6c\005\uff6c\006\uff6c\007\uff6c\010\uff6c\011\uff6c\012\uff6c" +
+    "\013\uff6c\016\uff6c\020\uff6c\024\uff6c\033\uff6c\034\uff6c\035" +
+    "\uff6c\036\uff6c\037\uff6c\040\uff6c\041\uff6c\042\uff6c\043\uff6c" +
+    "\044\uff6c\045\uff6c\050\uff6c\054\uff6c\152\uff6c\161\uff6c\001" +
+    "\002\000\066\004\uff69\005\uff69\006\uff69\007\uff69\010\uff69" +
+    "\011\uff69\012\uff69\013\uff69\016\uff69\020\uff69\024\uff69\033" +
+    "\uff69\034\uff69\035\uff69\036\uff69\037\uff69\040\uff69\041\uff69" +
+    "\042\uff69\043\uff69\044\uff69\045\uff69\050\uff69\054\uff69\152" +
+    "\uff69\161\uff69\001\002\000\066\004\uff70\005\uff70\006\uff70" +
+    "\007\uff70\010\uff70\011\uff70\012\uff70\013\uff70\016\uff70\020" +
+    "\uff70\024\uff70\033\uff70\034\uff70\035\uff70\036\uff70\037\uff70" +
+    "\040\uff70\041\uff70\042\uff70\043\uff70\044\uff70\045\uff70\050" +
+    "\uff70\054\uff70\152\uff70\161\uff70\001\002\000\066\004\uff6b" +
+    "\005\uff6b\006\uff6b\007\uff6b\010\uff6b\011\uff6b\012\uff6b\013" +
+    "\uff6b\016\uff6b\020\uff6b\024\uff6b\033\uff6b\034\uff6b\035\uff6b" +
+    "\036\uff6b\037\uff6b\040\uff6b\041\uff6b\042\uff6b\043\uff6b\044" +
+    "\uff6b\045\uff6b\050\uff6b\054\uff6b\152\uff6b\161\uff6b\001\002" +
+    "\000\004\020\u027c\001\002\000\066\004\uffc7\005\uffc7\006" +
+    "\uffc7\007\uffc7\010\uffc7\011\uffc7\012\uffc7\013\uffc7\016\uffc7" +
+    "\020\u026f\024\uff71\033\023\034\026\035\017\036\025\037" +
+    "\033\040\031\041\020\042\034\043\027\044\024\045\uffc7" +
+    "\050\uffc7\054\uffc7\152\015\161\uffc7\001\002\000\004\024" +
+    "\u027a\001\002\000\066\004\uff68\005\uff68\006\uff68\007\uff68" +
+    "\010\uff68\011\uff68\012\uff68\013\uff68\016\uff68\020\uff68\024" +
+    "\uff68\033\uff68\034\uff68\035\uff68\036\uff68\037\uff68\040\uff68" +
+    "\041\uff68\042\uff68\043\uff68\044\uff68\045\uff68\050\uff68\054" +
+    "\uff68\152\uff68\161\uff68\001\002\000\034\004\126\005\116" +
+    "\006\132\007\115\010\113\011\117\012\130\013\136\016" +
+    "\042\045\040\050\134\054\037\161\123\001\002\000\066" +
+    "\004\uff6d\005\uff6d\006\uff6d\007\uff6d\010\uff6d\011\uff6d\012" +
+    "\uff6d\013\uff6d\016\uff6d\020\uff6d\024\uff6d\033\uff6d\034\uff6d" +
+    "\035\uff6d\036\uff6d\037\uff6d\040\uff6d\041\uff6d\042\uff6d\043" +
+    "\uff6d\044\uff6d\045\uff6d\050\uff6d\054\uff6d\152\uff6d\161\uff6d" +
+    "\001\002\000\066\004\uff6a\005\uff6a\006\uff6a\007\uff6a\010" +
+    "\uff6a\011\uff6a\012\uff6a\013\uff6a\016\uff6a\020\uff6a\024\uff6a" +
+    "\033\uff6a\034\uff6a\035\uff6a\036\uff6a\037\uff6a\040\uff6a\041" +
+    "\uff6a\042\uff6a\043\uff6a\044\uff6a\045\uff6a\050\uff6a\054\uff6a" +
+    "\152\uff6a\161\uff6a\001\002\000\066\004\uff6e\005\uff6e\006" +
+    "\uff6e\007\uff6e\010\uff6e\011\uff6e\012\uff6e\013\uff6e\016\uff6e" +
+    "\020\uff6e\024\uff6e\033\uff6e\034\uff6e\035\uff6e\036\uff6e\037" +
+    "\uff6e\040\uff6e\041\uff6e\042\uff6e\043\uff6e\044\uff6e\045\uff6e" +
+    "\050\uff6e\054\uff6e\152\uff6e\161\uff6e\001\002\000\100\002" +
+    "\uff73\003\uff73\004\uff73\005\uff73\006\uff73\007\uff73\010\uff73" +
+    "\011\uff73\012\uff73\013\uff73\016\uff73\020\uff73\023\uff73\024" +
+    "\uff73\033\uff73\034\uff73\035\uff73\036\uff73\037\uff73\040\uff73" +
+    "\041\uff73\042\uff73\043\uff73\044\uff73\045\uff73\050\uff73\054" +
+    "\uff73\152\uff73\161\uff73\162\uff73\163\uff73\001\002\000\066" +
+    "\004\uff6f\005\uff6f\006\uff6f\007\uff6f\010\uff6f\011\uff6f\012" +
+    "\uff6f\013\uff6f\016\uff6f\020\uff6f\024\uff6f\033\uff6f\034\uff6f" +
+    "\035\uff6f\036\uff6f\037\uff6f\040\uff6f\041\uff6f\042\uff6f\043" +
+    "\uff6f\044\uff6f\045\uff6f\050\uff6f\054\uff6f\152\uff6f\161\uff6f" +
+    "\001\002\000\066\004\uff67\005\uff67\006\uff67\007\uff67\010" +
+    "\uff67\011\uff67\012\uff67\013\uff67\016\uff67\020\uff67\024\uff67" +
+    "\033\uff67\034\uff67\035\uff67\036\uff67\037\uff67\040\uff67\041" +
+    "\uff67\042\uff67\043\uff67\044\uff67\045\uff67\050\uff67\054\uff67" +
+    "\152\uff67\161\uff67\001\002\000\006\022\uff75\023\uff75\001" +
+    "\002\000\062\004\uffc4\005\uffc4\006\uffc4\007\uffc4\010\uffc4" +
+    "\011\uffc4\012\uffc4\013\uffc4\016\uffc4\033\uffc4\034\uffc4\035" +
+    "\uffc4\036\uffc4\037\uffc4\040\uffc4\041\uffc4\042\uffc4\043\uffc4" +
+    "\044\uffc4\045\uffc4\050\uffc4\054\uffc4\152\uffc4\161\uffc4\001" +
+    "\002\000\004\002\001\001\002\000\044\002\uffd7\020\uffd7" +
+    "\032\u028d\033\uffd7\034\uffd7\035\uffd7\036\uffd7\037\uffd7\040" +
+    "\uffd7\041\uffd7\042\uffd7\043\uffd7\044\uffd7\045\uffd7\054\uffd7" +
+    "\152\uffd7\162\uffd7\001\002\000\004\002\ufe7c\001\002\000" +
+    "\042\002\uffd5\020\016\033\023\034\026\035\017\036\025" +
+    "\037\033\040\031\041\020\042\034\043\027\044\024\045" +
+    "\uffc7\054\uffc7\152\015\162\022\001\002\000\044\002\uffda" +
+    "\020\uffda\032\uffda\033\uffda\034\uffda\035\uffda\036\uffda\037" +
+    "\uffda\040\uffda\041\uffda\042\uffda\043\uffda\044\uffda\045\uffda" +
+    "\054\uffda\152\uffda\162\uffda\001\002\000\004\016\042\001" +
+    "\002\000\004\002\ufe76\001\002\000\006\017\055\020\u0287" +
+    "\001\002\000\044\002\uffd0\020\uffd0\032\uffd0\033\uffd0\034" +
+    "\uffd0\035\uffd0\036\uffd0\037\uffd0\040\uffd0\041\uffd0\042\uffd0" +
+    "\043\uffd0\044\uffd0\045\uffd0\054\uffd0\152\uffd0\162\uffd0\001" +
+    "\002\000\004\002\uffdb\001\002\000\042\002\uffd2\020\uffd2" +
+    "\033\uffd2\034\uffd2\035\uffd2\036\uffd2\037\uffd2\040\uffd2\041" +
+    "\uffd2\042\uffd2\043\uffd2\044\uffd2\045\uffd2\054\uffd2\152\uffd2" +
+    "\162\uffd2\001\002\000\042\002\uffd6\020\016\033\023\034" +
+    "\026\035\017\036\025\037\033\040\031\041\020\042\034" +
+    "\043\027\044\024\045\uffc7\054\uffc7\152\015\162\022\001" +
+    "\002\000\042\002\uffd1\020\uffd1\033\uffd1\034\uffd1\035\uffd1" +
+    "\036\uffd1\037\uffd1\040\uffd1\041\uffd1\042\uffd1\043\uffd1\044" +
+    "\uffd1\045\uffd1\054\uffd1\152\uffd1\162\uffd1\001\002\000\044" +
+    "\002\uffce\020\uffce\032\uffce\033\uffce\034\uffce\035\uffce\036" +
+    "\uffce\037\uffce\040\uffce\041\uffce\042\uffce\043\uffce\044\uffce" +
+    "\045\uffce\054\uffce\152\uffce\162\uffce\001\002\000\004\016" +
+    "\042\001\002\000\044\002\uffd4\020\uffd4\032\uffd4\033\uffd4" +
+    "\034\uffd4\035\uffd4\036\uffd4\037\uffd4\040\uffd4\041\uffd4\042" +
+    "\uffd4\043\uffd4\044\uffd4\045\uffd4\054\uffd4\152\uffd4\162\uffd4" +
+    "\001\002\000\044\002\uffd8\020\uffd8\032\u028d\033\uffd8\034" +
+    "\uffd8\035\uffd8\036\uffd8\037\uffd8\040\uffd8\041\uffd8\042\uffd8" +
+    "\043\uffd8\044\uffd8\045\uffd8\054\uffd8\152\uffd8\162\uffd8\001" +
+    "\002\000\042\002\uffd5\020\016\033\023\034\026\035\017" +
+    "\036\025\037\033\040\031\041\020\042\034\043\027\044" +
+    "\024\045\uffc7\054\uffc7\152\015\162\022\001\002\000\044" +
+    "\002\uffcf\020\uffcf\032\uffcf\033\uffcf\034\uffcf\035\uffcf\036" +
+    "\uffcf\037\uffcf\040\uffcf\041\uffcf\042\uffcf\043\uffcf\044\uffcf" +
+    "\045\uffcf\054\uffcf\152\uffcf\162\uffcf\001\002\000\004\002" +
+    "\uffdc\001\002\000\044\002\uffd3\020\uffd3\032\uffd3\033\uffd3" +
+    "\034\uffd3\035\uffd3\036\uffd3\037\uffd3\040\uffd3\041\uffd3\042" +
+    "\uffd3\043\uffd3\044\uffd3\045\uffd3\054\uffd3\152\uffd3\162\uffd3" +
+    "\001\002\000\004\017\u0297\001\002\000\006\017\uffdf\020" +
+    "\u0296\001\002\000\044\002\uffcd\020\uffcd\032\uffcd\033\uffcd" +
+    "\034\uffcd\035\uffcd\036\uffcd\037\uffcd\040\uffcd\041\uffcd\042" +
+    "\uffcd\043\uffcd\044\uffcd\045\uffcd\054\uffcd\152\uffcd\162\uffcd" +
+    "\001\002\000\006\016\042\021\u0298\001\002\000\004\020" +
+    "\u0299\001\002\000\044\002\uffcc\020\uffcc\032\uffcc\033\uffcc" +
+    "\034\uffcc\035\uffcc\036\uffcc\037\uffcc\040\uffcc\041\uffcc\042" +
+    "\uffcc\043\uffcc\044\uffcc\045\uffcc\054\uffcc\152\uffcc\162\uffcc" +
+    "\001\002\000\004\002\ufe73\001\002\000\004\002\ufe75\001" +
+    "\002\000\004\002\ufe7b\001\002\000\030\004\126\005\116" +
+    "\006\132\007\115\010\113\011\117\012\130\013\136\016" +
+    "\042\050\134\161\123\001\002\000\004\016\042\001\002" +
+    "\000\004\020\u02a0\001\002\000\004\002\ufe74\001\002\000" +
+    "\004\002\ufe80\001\002\000\004\002\ufe7a\001\002\000\004" +
+    "\002\ufe79\001\002\000\004\002\ufe7f\001\002\000\004\002" +
+    "\ufe78\001\002\000\004\002\ufe7e\001\002" });
+
+  /** Access to parse-action table. */
+  public short[][] action_table() {return _action_table;}
+
+  /** <code>reduce_goto</code> table. */
+  protected static final short[][] _reduce_table = 
+    unpackFromStrings(new String[] {
+    "\000\u02a4\000\004\243\010\001\001\000\034\005\u02a4\006" +
+    "\130\007\134\010\121\011\124\012\126\013\120\016\132" +
+    "\017\136\020\052\021\051\152\046\237\u02a5\001\001\000" +
+    "\162\003\324\005\254\006\275\007\134\010\121\011\124" +
+    "\012\126\013\120\016\217\017\270\020\052\021\051\035" +
+    "\301\036\013\037\012\040\216\074\236\110\226\113\u02a2" +
+    "\114\235\115\242\116\325\120\255\121\244\122\310\124" +
+    "\266\125\223\126\247\127\307\131\213\137\277\141\327" +
+    "\142\207\152\262\153\237\154\304\155\245\156\314\157" +
+    "\211\160\224\165\240\166\302\167\320\170\225\173\252" +
+    "\200\232\201\210\202\214\203\231\204\316\205\227\210" +
+    "\243\211\305\227\276\230\215\236\u02a3\001\001\000\124" +
+    "\003\324\006\366\007\134\010\121\011\124\016\340\017" +
+    "\362\020\052\021\051\152\046\166\372\167\320\170\342" +
+    "\173\252\200\232\201\335\202\214\203\345\204\377\205" +
+    "\343\206\u0103\207\341\210\353\211\374\212\334\213\351" +
+    "\214\337\215\363\216\350\217\360\220\361\221\u0101\222" +
+    "\365\223\376\224\357\225\u0100\226\370\227\367\230\215" +
+    "\233\u02a1\235\u02a0\001\001\000\020\035\u029c\036\013\037" +
+    "\012\060\u029a\061\076\072\u0299\242\u029b\001\001\000\012" +
+    "\022\u0284\023\u027f\024\u0282\241\u0280\001\001\000\002\001" +
+    "\001\000\020\034\027\035\031\036\013\037\012\040\020" +
+    "\075\035\240\034\001\001\000\002\001\001\000\004\037" +
+    "\u027d\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\004\152" +
+    "\u0265\001\001\000\004\152\040\001\001\000\006\041\042" +
+    "\042\043\001\001\000\002\001\001\000\002\001\001\000" +
+    "\006\043\060\044\056\001\001\000\016\013\050\014\053" +
+    "\017\047\020\052\021\051\152\046\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\004\152\055\001\001\000\002\001\001\000\004\046\067" +
+    "\001\001\000\020\013\062\015\061\017\047\020\052\021" +
+    "\051\045\063\152\046\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\016\013" +
+    "\062\015\065\017\047\020\052\021\051\152\046\001\001" +
+    "\000\002\001\001\000\036\035\106\036\013\037\012\047" +
+    "\104\050\101\051\102\052\110\053\105\060\072\061\076" +
+    "\071\077\072\070\075\107\110\075\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\164\003\324\005\254\006\275\007" +
+    "\134\010\121\011\124\012\126\013\120\016\217\017\270" +
+    "\020\052\021\051\035\301\036\013\037\012\040\216\074" +
+    "\236\110\226\111\u0263\112\u0262\113\212\114\235\115\242" +
+    "\116\325\120\255\121\244\122\310\124\266\125\223\126" +
+    "\247\127\307\131\213\137\277\141\327\142\207\152\262" +
+    "\153\237\154\304\155\245\156\314\157\211\160\224\165" +
+    "\240\166\302\167\320\170\225\173\252\200\232\201\210" +
+    "\202\214\203\231\204\316\205\227\210\243\211\305\227" +
+    "\276\230\215\001\001\000\002\001\001\000\006\070\u025f" +
+    "\110\u0261\001\001\000\002\001\001\000\004\110\u025e\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\032\035\106\036\013\037\012\051\u025a\052\110\053" +
+    "\105\060\072\061\076\071\077\072\070\075\107\110\075" +
+    "\001\001\000\002\001\001\000\032\005\117\006\130\007" +
+    "\134\010\121\011\124\012\126\013\120\016\132\017\136" +
+    "\020\123\021\051\152\046\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\004" +
+    "\152\u0256\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\012\054\u024f\055\u01d9\056\u01d8\152\u024e" +
+    "\001\001\000\002\001\001\000\002\001\001\000\004\177" +
+    "\330\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\004\177" +
+    "\177\001\001\000\002\001\001\000\002\001\001\000\004" +
+    "\152\144\001\001\000\002\001\001\000\002\001\001\000" +
+    "\004\177\140\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\040\005\146\006\130\007\134\010\121" +
+    "\011\124\012\126\013\120\016\132\017\136\020\052\021" +
+    "\051\062\151\063\150\064\153\152\046\001\001\000\006" +
+    "\056\176\152\157\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\032\005\155\006\130\007\134" +
+    "\010\121\011\124\012\126\013\120\016\132\017\136\020" +
+    "\052\021\051\152\046\001\001\000\002\001\001\000\002" +
+    "\001\001\000\006\056\156\152\157\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\006\065\165\066\163\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\020\013\050\014\171" +
+    "\017\047\020\052\021\051\067\167\152\046\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\016" +
+    "\013\050\014\173\017\047\020\052\021\051\152\046\001" +
+    "\001\000\002\001\001\000\034\005\146\006\130\007\134" +
+    "\010\121\011\124\012\126\013\120\016\132\017\136\020" +
+    "\052\021\051\064\175\152\046\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\040\005\146\006" +
+    "\130\007\134\010\121\011\124\012\126\013\120\016\132" +
+    "\017\136\020\052\021\051\062\201\063\150\064\153\152" +
+    "\046\001\001\000\002\001\001\000\006\065\203\066\163" +
+    "\001\001\000\004\073\205\001\001\000\162\003\324\005" +
+    "\254\006\275\007\134\010\121\011\124\012\126\013\120" +
+    "\016\217\017\270\020\052\021\051\035\301\036\013\037" +
+    "\012\040\216\074\236\110\226\112\206\113\212\114\235" +
+    "\115\242\116\325\120\255\121\244\122\310\124\266\125" +
+    "\223\126\247\127\307\131\213\137\277\141\327\142\207" +
+    "\152\262\153\237\154\304\155\245\156\314\157\211\160" +
+    "\224\165\240\166\302\167\320\170\225\173\252\200\232" +
+    "\201\210\202\214\203\231\204\316\205\227\210\243\211" +
+    "\305\227\276\230\215\001\001\000\002\001\001\000\160" +
+    "\003\324\005\254\006\275\007\134\010\121\011\124\012" +
+    "\126\013\120\016\217\017\270\020\052\021\051\035\301" +
+    "\036\013\037\012\040\216\074\236\110\226\113\u0228\114" +
+    "\235\115\242\116\325\120\255\121\244\122\310\124\266" +
+    "\125\223\126\247\127\307\131\213\137\277\141\327\142" +
+    "\207\152\262\153\237\154\304\155\245\156\314\157\211" +
+    "\160\224\165\240\166\302\167\320\170\225\173\252\200" +
+    "\232\201\210\202\214\203\231\204\316\205\227\210\243" +
+    "\211\305\227\276\230\215\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\004\231\u0249\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\122\003\324\006\366\007\134\010\121\011" +
+    "\124\016\340\017\362\020\052\021\051\152\046\166\372" +
+    "\167\320\170\342\173\252\200\232\201\335\202\214\203" +
+    "\345\204\377\205\343\206\u0103\207\341\210\353\211\374" +
+    "\212\334\213\351\214\337\215\363\216\350\217\360\220" +
+    "\361\221\u0101\222\365\223\376\224\357\225\u0100\226\370" +
+    "\227\367\230\215\233\u023d\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\122\003\324\006\366\007\134\010\121\011" +
+    "\124\016\340\017\362\020\052\021\051\152\046\166\372" +
+    "\167\320\170\342\173\252\200\232\201\335\202\214\203" +
+    "\345\204\377\205\343\206\u0103\207\341\210\353\211\374" +
+    "\212\334\213\351\214\337\215\363\216\350\217\360\220" +
+    "\361\221\u0101\222\365\223\376\224\357\225\u0100\226\370" +
+    "\227\367\230\215\233\u023a\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\032\005\u01d7\006\130" +
+    "\007\134\010\121\011\124\012\126\013\120\016\132\017" +
+    "\136\020\052\021\051\152\046\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\012\054\u0231\055\u01d9\056\u01d8\152" +
+    "\157\001\001\000\002\001\001\000\002\001\001\000\134" +
+    "\003\324\006\366\007\134\010\121\011\124\016\340\017" +
+    "\362\020\052\021\051\074\236\110\226\116\u0212\120\255" +
+    "\121\244\122\310\124\266\125\223\126\247\127\307\131" +
+    "\213\137\277\141\327\142\207\152\262\153\237\154\304" +
+    "\155\245\156\314\157\211\160\224\165\240\166\302\167" +
+    "\320\170\225\173\252\200\232\201\210\202\214\203\231" +
+    "\204\316\205\227\210\243\211\305\227\276\230\215\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\124\003\324\006\366\007\134\010" +
+    "\121\011\124\016\340\017\362\020\052\021\051\152\046" +
+    "\166\372\167\320\170\342\173\252\200\232\201\335\202" +
+    "\214\203\345\204\377\205\343\206\u0103\207\341\210\353" +
+    "\211\374\212\334\213\351\214\337\215\363\216\350\217" +
+    "\360\220\361\221\u0101\222\365\223\376\224\357\225\u0100" +
+    "\226\370\227\367\230\215\232\u0206\233\u01cc\001\001\000" +
+    "\004\110\u01f9\001\001\000\002\001\001\000\006\151\u01f7" +
+    "\152\u01e5\001\001\000\004\177\140\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\004\177\177\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\006\151\u01e4\152\u01e5\001\001\000\002\001" +
+    "\001\000\002\001\001\000\064\003\324\006\366\007\134" +
+    "\010\121\011\124\016\340\017\u0106\020\052\021\051\152" +
+    "\046\166\372\167\320\170\342\173\252\200\u0105\201\335" +
+    "\202\u0109\203\345\204\377\205\343\206\u01a3\207\341\210" +
+    "\353\211\374\212\334\001\001\000\002\001\001\000\122" +
+    "\003\324\006\366\007\134\010\121\011\124\016\340\017" +
+    "\362\020\052\021\051\152\046\166\372\167\320\170\342" +
+    "\173\252\200\232\201\335\202\214\203\345\204\377\205" +
+    "\343\206\u0103\207\341\210\353\211\374\212\334\213\351" +
+    "\214\337\215\363\216\350\217\360\220\361\221\u0101\222" +
+    "\365\223\376\224\357\225\u0100\226\370\227\367\230\215" +
+    "\233\u019e\001\001\000\002\001\001\000\002\001\001\000" +
+    "\064\003\324\006\366\007\134\010\121\011\124\016\340" +
+    "\017\u0106\020\052\021\051\152\046\166\372\167\320\170" +
+    "\342\173\252\200\u0105\201\335\202\u0109\203\345\204\377" +
+    "\205\343\206\u019a\207\341\210\353\211\374\212\334\001" +
+    "\001\000\026\006\u017a\007\134\010\121\011\124\013\u0179" +
+    "\014\u017b\017\047\020\052\021\051\152\046\001\001\000" +
+    "\002\001\001\000\002\001\001\000\004\177\330\001\001" +
+    "\000\002\001\001\000\002\001\001\000\004\152\332\001" +
+    "\001\000\002\001\001\000\126\003\324\006\366\007\134" +
+    "\010\121\011\124\016\340\017\362\020\052\021\051\152" +
+    "\046\166\372\167\320\170\342\171\347\172\336\173\252" +
+    "\200\232\201\335\202\214\203\345\204\377\205\343\206" +
+    "\u0103\207\341\210\353\211\374\212\334\213\351\214\337" +
+    "\215\363\216\350\217\360\220\361\221\u0101\222\365\223" +
+    "\376\224\357\225\u0100\226\370\227\367\230\215\233\375" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\122\003\324\006" +
+    "\u0168\007\134\010\121\011\124\016\340\017\u0166\020\052" +
+    "\021\051\152\046\166\372\167\320\170\342\173\252\200" +
+    "\232\201\335\202\214\203\345\204\377\205\343\206\u0103" +
+    "\207\341\210\353\211\374\212\334\213\351\214\337\215" +
+    "\363\216\350\217\360\220\361\221\u0101\222\365\223\376" +
+    "\224\357\225\u0100\226\370\227\367\230\215\233\u0167\001" +
+    "\001\000\002\001\001\000\064\003\324\006\366\007\134" +
+    "\010\121\011\124\016\340\017\u0106\020\052\021\051\152" +
+    "\046\166\372\167\320\170\342\173\252\200\u0105\201\335" +
+    "\202\u0109\203\345\204\377\205\343\206\u0163\207\341\210" +
+    "\353\211\374\212\334\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\064\003\324\006\366\007" +
+    "\134\010\121\011\124\016\340\017\u0106\020\052\021\051" +
+    "\152\046\166\372\167\320\170\342\173\252\200\u0105\201" +
+    "\335\202\u0109\203\345\204\377\205\343\206\u0161\207\341" +
+    "\210\353\211\374\212\334\001\001\000\002\001\001\000" +
+    "\002\001\001\000\064\003\324\006\366\007\134\010\121" +
+    "\011\124\016\340\017\u0106\020\052\021\051\152\046\166" +
+    "\372\167\320\170\342\173\252\200\u0105\201\335\202\u0109" +
+    "\203\345\204\377\205\343\206\u015b\207\341\210\353\211" +
+    "\374\212\334\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\004\177\140\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\004\177\177\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\066\003\324" +
+    "\004\u0146\006\366\007\134\010\121\011\124\016\340\017" +
+    "\u0106\020\052\021\051\152\046\166\372\167\320\170\342" +
+    "\173\252\200\u0105\201\335\202\u0109\203\345\204\377\205" +
+    "\343\206\u0145\207\341\210\353\211\374\212\334\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\004" +
+    "\177\330\001\001\000\002\001\001\000\100\003\324\006" +
+    "\366\007\134\010\121\011\124\016\340\017\u0106\020\052" +
+    "\021\051\152\046\166\372\167\320\170\342\173\252\200" +
+    "\u0105\201\335\202\u0109\203\345\204\377\205\343\206\u0103" +
+    "\207\341\210\353\211\374\212\334\213\351\214\337\215" +
+    "\363\216\350\217\360\220\u0108\001\001\000\002\001\001" +
+    "\000\004\177\140\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\076\003\324\006\366\007\134" +
+    "\010\121\011\124\016\340\017\u0106\020\052\021\051\152" +
+    "\046\166\372\167\320\170\342\173\252\200\u0105\201\335" +
+    "\202\u0109\203\345\204\377\205\343\206\u0103\207\341\210" +
+    "\353\211\374\212\334\213\351\214\337\215\363\216\350" +
+    "\217\u010b\001\001\000\002\001\001\000\074\003\324\006" +
+    "\366\007\134\010\121\011\124\016\340\017\u0106\020\052" +
+    "\021\051\152\046\166\372\167\320\170\342\173\252\200" +
+    "\u0105\201\335\202\u0109\203\345\204\377\205\343\206\u0103" +
+    "\207\341\210\353\211\374\212\334\213\351\214\337\215" +
+    "\363\216\u012a\001\001\000\074\003\324\006\366\007\134" +
+    "\010\121\011\124\016\340\017\u0106\020\052\021\051\152" +
+    "\046\166\372\167\320\170\342\173\252\200\u0105\201\335" +
+    "\202\u0109\203\345\204\377\205\343\206\u0103\207\341\210" +
+    "\353\211\374\212\334\213\351\214\337\215\363\216\u010e" +
+    "\001\001\000\002\001\001\000\072\003\324\006\366\007" +
+    "\134\010\121\011\124\016\340\017\u0106\020\052\021\051" +
+    "\152\046\166\372\167\320\170\342\173\252\200\u0105\201" +
+    "\335\202\u0109\203\345\204\377\205\343\206\u0103\207\341" +
+    "\210\353\211\374\212\334\213\351\214\337\215\u0129\001" +
+    "\001\000\072\003\324\006\366\007\134\010\121\011\124" +
+    "\016\340\017\u0106\020\052\021\051\152\046\166\372\167" +
+    "\320\170\342\173\252\200\u0105\201\335\202\u0109\203\345" +
+    "\204\377\205\343\206\u0103\207\341\210\353\211\374\212" +
+    "\334\213\351\214\337\215\u0128\001\001\000\072\003\324" +
+    "\006\366\007\134\010\121\011\124\016\340\017\u0106\020" +
+    "\052\021\051\152\046\166\372\167\320\170\342\173\252" +
+    "\200\u0105\201\335\202\u0109\203\345\204\377\205\343\206" +
+    "\u0103\207\341\210\353\211\374\212\334\213\351\214\337" +
+    "\215\u0127\001\001\000\030\006\u0126\007\134\010\121\011" +
+    "\124\012\u0125\013\120\016\132\017\136\020\052\021\051" +
+    "\152\046\001\001\000\072\003\324\006\366\007\134\010" +
+    "\121\011\124\016\340\017\u0106\020\052\021\051\152\046" +
+    "\166\372\167\320\170\342\173\252\200\u0105\201\335\202" +
+    "\u0109\203\345\204\377\205\343\206\u0103\207\341\210\353" +
+    "\211\374\212\334\213\351\214\337\215\u0114\001\001\000" +
+    "\002\001\001\000\070\003\324\006\366\007\134\010\121" +
+    "\011\124\016\340\017\u0106\020\052\021\051\152\046\166" +
+    "\372\167\320\170\342\173\252\200\u0105\201\335\202\u0109" +
+    "\203\345\204\377\205\343\206\u0103\207\341\210\353\211" +
+    "\374\212\334\213\351\214\u0124\001\001\000\070\003\324" +
+    "\006\366\007\134\010\121\011\124\016\340\017\u0106\020" +
+    "\052\021\051\152\046\166\372\167\320\170\342\173\252" +
+    "\200\u0105\201\335\202\u0109\203\345\204\377\205\343\206" +
+    "\u0103\207\341\210\353\211\374\212\334\213\351\214\u0123" +
+    "\001\001\000\070\003\324\006\366\007\134\010\121\011" +
+    "\124\016\340\017\u0106\020\052\021\051\152\046\166\372" +
+    "\167\320\170\342\173\252\200\u0105\201\335\202\u0109\203" +
+    "\345\204\377\205\343\206\u0103\207\341\210\353\211\374" +
+    "\212\334\213\351\214\u0118\001\001\000\002\001\001\000" +
+    "\066\003\324\006\366\007\134\010\121\011\124\016\340" +
+    "\017\u0106\020\052\021\051\152\046\166\372\167\320\170" +
+    "\342\173\252\200\u0105\201\335\202\u0109\203\345\204\377" +
+    "\205\343\206\u0103\207\341\210\353\211\374\212\334\213" +
+    "\u0122\001\001\000\066\003\324\006\366\007\134\010\121" +
+    "\011\124\016\340\017\u0106\020\052\021\051\152\046\166" +
+    "\372\167\320\170\342\173\252\200\u0105\201\335\202\u0109" +
+    "\203\345\204\377\205\343\206\u0103\207\341\210\353\211" +
+    "\374\212\334\213\u011b\001\001\000\002\001\001\000\064" +
+    "\003\324\006\366\007\134\010\121\011\124\016\340\017" +
+    "\u0106\020\052\021\051\152\046\166\372\167\320\170\342" +
+    "\173\252\200\u0105\201\335\202\u0109\203\345\204\377\205" +
+    "\343\206\u0121\207\341\210\353\211\374\212\334\001\001" +
+    "\000\064\003\324\006\366\007\134\010\121\011\124\016" +
+    "\340\017\u0106\020\052\021\051\152\046\166\372\167\320" +
+    "\170\342\173\252\200\u0105\201\335\202\u0109\203\345\204" +
+    "\377\205\343\206\u0120\207\341\210\353\211\374\212\334" +
+    "\001\001\000\064\003\324\006\366\007\134\010\121\011" +
+    "\124\016\340\017\u0106\020\052\021\051\152\046\166\372" +
+    "\167\320\170\342\173\252\200\u0105\201\335\202\u0109\203" +
+    "\345\204\377\205\343\206\u011f\207\341\210\353\211\374" +
+    "\212\334\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\004\177\177\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\122\003\324\006\366\007\134\010\121\011" +
+    "\124\016\340\017\362\020\052\021\051\152\046\166\372" +
+    "\167\320\170\342\173\252\200\232\201\335\202\214\203" +
+    "\345\204\377\205\343\206\u0103\207\341\210\353\211\374" +
+    "\212\334\213\351\214\337\215\363\216\350\217\360\220" +
+    "\361\221\u0101\222\365\223\376\224\357\225\u0100\226\370" +
+    "\227\367\230\215\233\u013e\001\001\000\126\003\324\006" +
+    "\366\007\134\010\121\011\124\016\340\017\362\020\052" +
+    "\021\051\152\046\166\372\167\320\170\342\171\u013c\172" +
+    "\336\173\252\200\232\201\335\202\214\203\345\204\377" +
+    "\205\343\206\u0103\207\341\210\353\211\374\212\334\213" +
+    "\351\214\337\215\363\216\350\217\360\220\361\221\u0101" +
+    "\222\365\223\376\224\357\225\u0100\226\370\227\367\230" +
+    "\215\233\375\001\001\000\004\152\055\001\001\000\002" +
+    "\001\001\000\006\020\u0132\152\046\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\126\003\324" +
+    "\006\366\007\134\010\121\011\124\016\340\017\362\020" +
+    "\052\021\051\152\046\166\372\167\320\170\342\171\u0134" +
+    "\172\336\173\252\200\232\201\335\202\214\203\345\204" +
+    "\377\205\343\206\u0103\207\341\210\353\211\374\212\334" +
+    "\213\351\214\337\215\363\216\350\217\360\220\361\221" +
+    "\u0101\222\365\223\376\224\357\225\u0100\226\370\227\367" +
+    "\230\215\233\375\001\001\000\002\001\001\000\004\046" +
+    "\u0136\001\001\000\002\001\001\000\004\152\u0138\001\001" +
+    "\000\002\001\001\000\126\003\324\006\366\007\134\010" +
+    "\121\011\124\016\340\017\362\020\052\021\051\152\046" +
+    "\166\372\167\320\170\342\171\u013a\172\336\173\252\200" +
+    "\232\201\335\202\214\203\345\204\377\205\343\206\u0103" +
+    "\207\341\210\353\211\374\212\334\213\351\214\337\215" +
+    "\363\216\350\217\360\220\361\221\u0101\222\365\223\376" +
+    "\224\357\225\u0100\226\370\227\367\230\215\233\375\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\104\003\324\006\366\007\134\010\121\011\124\016\340" +
+    "\017\u0106\020\052\021\051\152\046\166\372\167\320\170" +
+    "\342\173\252\200\u0105\201\335\202\u0109\203\345\204\377" +
+    "\205\343\206\u0103\207\341\210\353\211\374\212\334\213" +
+    "\351\214\337\215\363\216\350\217\360\220\361\221\u0101" +
+    "\222\u0141\001\001\000\002\001\001\000\102\003\324\006" +
+    "\366\007\134\010\121\011\124\016\340\017\u0106\020\052" +
+    "\021\051\152\046\166\372\167\320\170\342\173\252\200" +
+    "\u0105\201\335\202\u0109\203\345\204\377\205\343\206\u0103" +
+    "\207\341\210\353\211\374\212\334\213\351\214\337\215" +
+    "\363\216\350\217\360\220\361\221\u0143\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\004\152\u014a\001\001\000\006" +
+    "\020\u014e\152\046\001\001\000\002\001\001\000\126\003" +
+    "\324\006\366\007\134\010\121\011\124\016\340\017\362" +
+    "\020\052\021\051\152\046\166\372\167\320\170\342\171" +
+    "\u014c\172\336\173\252\200\232\201\335\202\214\203\345" +
+    "\204\377\205\343\206\u0103\207\341\210\353\211\374\212" +
+    "\334\213\351\214\337\215\363\216\350\217\360\220\361" +
+    "\221\u0101\222\365\223\376\224\357\225\u0100\226\370\227" +
+    "\367\230\215\233\375\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\126\003\324\006\366\007" +
+    "\134\010\121\011\124\016\340\017\362\020\052\021\051" +
+    "\152\046\166\372\167\320\170\342\171\u0150\172\336\173" +
+    "\252\200\232\201\335\202\214\203\345\204\377\205\343" +
+    "\206\u0103\207\341\210\353\211\374\212\334\213\351\214" +
+    "\337\215\363\216\350\217\360\220\361\221\u0101\222\365" +
+    "\223\376\224\357\225\u0100\226\370\227\367\230\215\233" +
+    "\375\001\001\000\002\001\001\000\004\046\u0152\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\106\003\324\006\366\007\134\010\121\011\124\016\340" +
+    "\017\u0106\020\052\021\051\152\046\166\372\167\320\170" +
+    "\342\173\252\200\u0105\201\335\202\u0109\203\345\204\377" +
+    "\205\343\206\u0103\207\341\210\353\211\374\212\334\213" +
+    "\351\214\337\215\363\216\350\217\360\220\361\221\u0101" +
+    "\222\365\223\u015a\001\001\000\122\003\324\006\366\007" +
+    "\134\010\121\011\124\016\340\017\362\020\052\021\051" +
+    "\152\046\166\372\167\320\170\342\173\252\200\232\201" +
+    "\335\202\214\203\345\204\377\205\343\206\u0103\207\341" +
+    "\210\353\211\374\212\334\213\351\214\337\215\363\216" +
+    "\350\217\360\220\361\221\u0101\222\365\223\376\224\357" +
+    "\225\u0100\226\370\227\367\230\215\233\u0157\001\001\000" +
+    "\002\001\001\000\112\003\324\006\366\007\134\010\121" +
+    "\011\124\016\340\017\u0106\020\052\021\051\152\046\166" +
+    "\372\167\320\170\342\173\252\200\u0105\201\335\202\u0109" +
+    "\203\345\204\377\205\343\206\u0103\207\341\210\353\211" +
+    "\374\212\334\213\351\214\337\215\363\216\350\217\360" +
+    "\220\361\221\u0101\222\365\223\376\224\357\225\u0159\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\004\152\u015d\001\001\000\002\001\001\000\126\003" +
+    "\324\006\366\007\134\010\121\011\124\016\340\017\362" +
+    "\020\052\021\051\152\046\166\372\167\320\170\342\171" +
+    "\u015f\172\336\173\252\200\232\201\335\202\214\203\345" +
+    "\204\377\205\343\206\u0103\207\341\210\353\211\374\212" +
+    "\334\213\351\214\337\215\363\216\350\217\360\220\361" +
+    "\221\u0101\222\365\223\376\224\357\225\u0100\226\370\227" +
+    "\367\230\215\233\375\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\004\177\u0172" +
+    "\001\001\000\002\001\001\000\006\176\u016c\177\u016d\001" +
+    "\001\000\004\177\330\001\001\000\064\003\324\006\366" +
+    "\007\134\010\121\011\124\016\340\017\u0106\020\052\021" +
+    "\051\152\046\166\372\167\320\170\342\173\252\200\u0105" +
+    "\201\335\202\u0109\203\345\204\377\205\343\206\u016b\207" +
+    "\341\210\353\211\374\212\334\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\064\003\324\006" +
+    "\366\007\134\010\121\011\124\016\340\017\u0106\020\052" +
+    "\021\051\152\046\166\372\167\320\170\342\173\252\200" +
+    "\u0105\201\335\202\u0109\203\345\204\377\205\343\206\u016f" +
+    "\207\341\210\353\211\374\212\334\001\001\000\002\001" +
+    "\001\000\056\003\324\006\366\007\134\010\121\011\124" +
+    "\016\340\017\u0106\020\052\021\051\152\046\166\372\167" +
+    "\320\170\342\173\252\200\u0105\201\335\202\u0109\203\345" +
+    "\204\377\205\343\207\u0171\212\334\001\001\000\002\001" +
+    "\001\000\002\001\001\000\056\003\324\006\366\007\134" +
+    "\010\121\011\124\016\340\017\u0106\020\052\021\051\152" +
+    "\046\166\372\167\320\170\342\173\252\200\u0105\201\335" +
+    "\202\u0109\203\345\204\377\205\343\207\u0174\212\334\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\122\003\324\006\366\007\134\010\121\011\124\016" +
+    "\340\017\362\020\052\021\051\152\046\166\372\167\320" +
+    "\170\342\173\252\200\232\201\335\202\214\203\345\204" +
+    "\377\205\343\206\u0103\207\341\210\353\211\374\212\334" +
+    "\213\351\214\337\215\363\216\350\217\360\220\361\221" +
+    "\u0101\222\365\223\376\224\357\225\u0100\226\370\227\367" +
+    "\230\215\233\u0178\001\001\000\002\001\001\000\010\174" +
+    "\u0196\175\u0180\177\u0197\001\001\000\010\174\u0181\175\u0180" +
+    "\177\u0183\001\001\000\002\001\001\000\126\003\324\006" +
+    "\366\007\134\010\121\011\124\016\340\017\362\020\052" +
+    "\021\051\152\046\166\372\167\320\170\342\171\u017d\172" +
+    "\336\173\252\200\232\201\335\202\214\203\345\204\377" +
+    "\205\343\206\u0103\207\341\210\353\211\374\212\334\213" +
+    "\351\214\337\215\363\216\350\217\360\220\361\221\u0101" +
+    "\222\365\223\376\224\357\225\u0100\226\370\227\367\230" +
+    "\215\233\375\001\001\000\002\001\001\000\004\046\u017f" +
+    "\001\001\000\002\001\001\000\002\001\001\000\010\175" +
+    "\u0194\176\u0193\177\u0195\001\001\000\122\003\324\006\366" +
+    "\007\134\010\121\011\124\016\340\017\362\020\052\021" +
+    "\051\152\046\166\372\167\320\170\342\173\252\200\232" +
+    "\201\335\202\214\203\345\204\377\205\343\206\u0103\207" +
+    "\341\210\353\211\374\212\334\213\351\214\337\215\363" +
+    "\216\350\217\360\220\361\221\u0101\222\365\223\376\224" +
+    "\357\225\u0100\226\370\227\367\230\215\233\u0191\001\001" +
+    "\000\004\106\u0184\001\001\000\002\001\001\000\130\003" +
+    "\324\006\366\007\134\010\121\011\124\016\340\017\362" +
+    "\020\052\021\051\057\u0186\106\u018a\107\u0187\152\046\166" +
+    "\372\167\320\170\342\173\252\200\232\201\335\202\214" +
+    "\203\345\204\377\205\343\206\u0103\207\341\210\353\211" +
+    "\374\212\334\213\351\214\337\215\363\216\350\217\360" +
+    "\220\361\221\u0101\222\365\223\376\224\357\225\u0100\226" +
+    "\370\227\367\230\215\233\u018b\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\126" +
+    "\003\324\006\366\007\134\010\121\011\124\016\340\017" +
+    "\362\020\052\021\051\057\u018f\106\u018a\152\046\166\372" +
+    "\167\320\170\342\173\252\200\232\201\335\202\214\203" +
+    "\345\204\377\205\343\206\u0103\207\341\210\353\211\374" +
+    "\212\334\213\351\214\337\215\363\216\350\217\360\220" +
+    "\361\221\u0101\222\365\223\376\224\357\225\u0100\226\370" +
+    "\227\367\230\215\233\u018b\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\010\175\u0194\176\u0199\177\u0195\001\001\000\004" +
+    "\106\u0198\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\122\003\324\006\366\007\134\010\121" +
+    "\011\124\016\340\017\362\020\052\021\051\152\046\166" +
+    "\372\167\320\170\342\173\252\200\232\201\335\202\214" +
+    "\203\345\204\377\205\343\206\u0103\207\341\210\353\211" +
+    "\374\212\334\213\351\214\337\215\363\216\350\217\360" +
+    "\220\361\221\u0101\222\365\223\376\224\357\225\u0100\226" +
+    "\370\227\367\230\215\233\u019c\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\122\003\324\006\366\007\134\010\121\011\124\016\340" +
+    "\017\362\020\052\021\051\152\046\166\372\167\320\170" +
+    "\342\173\252\200\232\201\335\202\214\203\345\204\377" +
+    "\205\343\206\u0103\207\341\210\353\211\374\212\334\213" +
+    "\351\214\337\215\363\216\350\217\360\220\361\221\u0101" +
+    "\222\365\223\376\224\357\225\u0100\226\370\227\367\230" +
+    "\215\233\u01a1\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\122\003\324\006\366\007\134\010" +
+    "\121\011\124\016\340\017\362\020\052\021\051\152\046" +
+    "\166\372\167\320\170\342\173\252\200\232\201\335\202" +
+    "\214\203\345\204\377\205\343\206\u0103\207\341\210\353" +
+    "\211\374\212\334\213\351\214\337\215\363\216\350\217" +
+    "\360\220\361\221\u0101\222\365\223\376\224\357\225\u0100" +
+    "\226\370\227\367\230\215\233\u01a5\001\001\000\002\001" +
+    "\001\000\146\003\324\006\366\007\134\010\121\011\124" +
+    "\016\340\017\362\020\052\021\051\074\236\110\226\116" +
+    "\u01b2\117\u01af\120\u01ab\121\244\122\310\123\u01a9\124\266" +
+    "\125\223\126\247\127\307\130\u01a7\131\213\137\277\140" +
+    "\u01ae\141\327\142\207\143\u01a8\152\u01ad\153\237\154\304" +
+    "\155\245\156\314\157\211\160\224\165\240\166\302\167" +
+    "\320\170\225\173\252\200\232\201\210\202\214\203\231" +
+    "\204\316\205\227\210\243\211\305\227\276\230\215\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\122\003" +
+    "\324\006\366\007\134\010\121\011\124\016\340\017\362" +
+    "\020\052\021\051\152\046\166\372\167\320\170\342\173" +
+    "\252\200\232\201\335\202\214\203\345\204\377\205\343" +
+    "\206\u0103\207\341\210\353\211\374\212\334\213\351\214" +
+    "\337\215\363\216\350\217\360\220\361\221\u0101\222\365" +
+    "\223\376\224\357\225\u0100\226\370\227\367\230\215\233" +
+    "\u01b4\001\001\000\002\001\001\000\146\003\324\006\366" +
+    "\007\134\010\121\011\124\016\340\017\362\020\052\021" +
+    "\051\074\236\110\226\116\u01b2\117\u01b6\120\u01ab\121\244" +
+    "\122\310\123\u01a9\124\266\125\223\126\247\127\307\130" +
+    "\u01a7\131\213\137\277\140\u01ae\141\327\142\207\143\u01a8" +
+    "\152\u01ad\153\237\154\304\155\245\156\314\157\211\160" +
+    "\224\165\240\166\302\167\320\170\225\173\252\200\232" +
+    "\201\210\202\214\203\231\204\316\205\227\210\243\211" +
+    "\305\227\276\230\215\001\001\000\002\001\001\000\146" +
+    "\003\324\006\366\007\134\010\121\011\124\016\340\017" +
+    "\362\020\052\021\051\074\236\110\226\116\u01b9\117\u01b8" +
+    "\120\u01ab\121\244\122\310\123\u01a9\124\266\125\223\126" +
+    "\247\127\307\130\u01a7\131\213\137\277\140\u01ae\141\327" +
+    "\142\207\143\u01a8\152\u01ad\153\237\154\304\155\245\156" +
+    "\314\157\211\160\224\165\240\166\302\167\320\170\225" +
+    "\173\252\200\232\201\210\202\214\203\231\204\316\205" +
+    "\227\210\243\211\305\227\276\230\215\001\001\000\002" +
+    "\001\001\000\002\001\001\000\122\003\324\006\366\007" +
+    "\134\010\121\011\124\016\340\017\362\020\052\021\051" +
+    "\152\046\166\372\167\320\170\342\173\252\200\232\201" +
+    "\335\202\214\203\345\204\377\205\343\206\u0103\207\341" +
+    "\210\353\211\374\212\334\213\351\214\337\215\363\216" +
+    "\350\217\360\220\361\221\u0101\222\365\223\376\224\357" +
+    "\225\u0100\226\370\227\367\230\215\233\u01bb\001\001\000" +
+    "\002\001\001\000\004\110\u01be\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\134\003\324\006" +
+    "\366\007\134\010\121\011\124\016\340\017\362\020\052" +
+    "\021\051\074\236\110\226\116\u01b9\120\255\121\244\122" +
+    "\310\124\266\125\223\126\247\127\307\131\213\137\277" +
+    "\141\327\142\207\152\262\153\237\154\304\155\245\156" +
+    "\314\157\211\160\224\165\240\166\302\167\320\170\225" +
+    "\173\252\200\232\201\210\202\214\203\231\204\316\205" +
+    "\227\210\243\211\305\227\276\230\215\001\001\000\146" +
+    "\003\324\006\366\007\134\010\121\011\124\016\340\017" +
+    "\362\020\052\021\051\074\236\110\226\116\u01c3\117\u01c2" +
+    "\120\u01ab\121\244\122\310\123\u01a9\124\266\125\223\126" +
+    "\247\127\307\130\u01a7\131\213\137\277\140\u01ae\141\327" +
+    "\142\207\143\u01a8\152\u01ad\153\237\154\304\155\245\156" +
+    "\314\157\211\160\224\165\240\166\302\167\320\170\225" +
+    "\173\252\200\232\201\210\202\214\203\231\204\316\205" +
+    "\227\210\243\211\305\227\276\230\215\001\001\000\002" +
+    "\001\001\000\002\001\001\000\102\003\324\005\254\006" +
+    "\275\007\134\010\121\011\124\012\126\013\120\016\217" +
+    "\017\270\020\052\021\051\115\u01c6\125\u01c5\144\u01c9\145" +
+    "\u01ca\150\u01c7\152\046\166\372\167\320\170\225\173\252" +
+    "\200\232\201\210\202\214\203\231\204\316\205\227\210" +
+    "\243\211\305\227\276\230\215\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\032\005\u01d7\006" +
+    "\130\007\134\010\121\011\124\012\126\013\120\016\132" +
+    "\017\136\020\052\021\051\152\046\001\001\000\002\001" +
+    "\001\000\002\001\001\000\124\003\324\006\366\007\134" +
+    "\010\121\011\124\016\340\017\362\020\052\021\051\152" +
+    "\046\166\372\167\320\170\342\173\252\200\232\201\335" +
+    "\202\214\203\345\204\377\205\343\206\u0103\207\341\210" +
+    "\353\211\374\212\334\213\351\214\337\215\363\216\350" +
+    "\217\360\220\361\221\u0101\222\365\223\376\224\357\225" +
+    "\u0100\226\370\227\367\230\215\232\u01cd\233\u01cc\001\001" +
+    "\000\002\001\001\000\002\001\001\000\072\003\324\006" +
+    "\366\007\134\010\121\011\124\016\340\017\362\020\052" +
+    "\021\051\125\u01c5\146\u01d1\147\u01cf\150\u01d0\152\046\166" +
+    "\372\167\320\170\225\173\252\200\232\201\210\202\214" +
+    "\203\231\204\316\205\227\210\243\211\305\227\276\230" +
+    "\215\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\146\003\324\006\366\007\134\010\121\011" +
+    "\124\016\340\017\362\020\052\021\051\074\236\110\226" +
+    "\116\u01d4\117\u01d3\120\u01ab\121\244\122\310\123\u01a9\124" +
+    "\266\125\223\126\247\127\307\130\u01a7\131\213\137\277" +
+    "\140\u01ae\141\327\142\207\143\u01a8\152\u01ad\153\237\154" +
+    "\304\155\245\156\314\157\211\160\224\165\240\166\302" +
+    "\167\320\170\225\173\252\200\232\201\210\202\214\203" +
+    "\231\204\316\205\227\210\243\211\305\227\276\230\215" +
+    "\001\001\000\002\001\001\000\002\001\001\000\064\003" +
+    "\324\006\366\007\134\010\121\011\124\016\340\017\362" +
+    "\020\052\021\051\125\u01d6\152\046\166\372\167\320\170" +
+    "\225\173\252\200\232\201\210\202\214\203\231\204\316" +
+    "\205\227\210\243\211\305\227\276\230\215\001\001\000" +
+    "\002\001\001\000\012\054\u01da\055\u01d9\056\u01d8\152\157" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\010\055\u01dc\056\u01d8\152\157\001\001\000\002" +
+    "\001\001\000\126\003\324\006\366\007\134\010\121\011" +
+    "\124\016\340\017\362\020\052\021\051\057\u01de\106\u018a" +
+    "\152\046\166\372\167\320\170\342\173\252\200\232\201" +
+    "\335\202\214\203\345\204\377\205\343\206\u0103\207\341" +
+    "\210\353\211\374\212\334\213\351\214\337\215\363\216" +
+    "\350\217\360\220\361\221\u0101\222\365\223\376\224\357" +
+    "\225\u0100\226\370\227\367\230\215\233\u018b\001\001\000" +
+    "\002\001\001\000\122\003\324\006\366\007\134\010\121" +
+    "\011\124\016\340\017\362\020\052\021\051\152\046\166" +
+    "\372\167\320\170\342\173\252\200\232\201\335\202\214" +
+    "\203\345\204\377\205\343\206\u0103\207\341\210\353\211" +
+    "\374\212\334\213\351\214\337\215\363\216\350\217\360" +
+    "\220\361\221\u0101\222\365\223\376\224\357\225\u0100\226" +
+    "\370\227\367\230\215\233\u01e0\001\001\000\002\001\001" +
+    "\000\146\003\324\006\366\007\134\010\121\011\124\016" +
+    "\340\017\362\020\052\021\051\074\236\110\226\116\u01e3" +
+    "\117\u01e2\120\u01ab\121\244\122\310\123\u01a9\124\266\125" +
+    "\223\126\247\127\307\130\u01a7\131\213\137\277\140\u01ae" +
+    "\141\327\142\207\143\u01a8\152\u01ad\153\237\154\304\155" +
+    "\245\156\314\157\211\160\224\165\240\166\302\167\320" +
+    "\170\225\173\252\200\232\201\210\202\214\203\231\204" +
+    "\316\205\227\210\243\211\305\227\276\230\215\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\004" +
+    "\152\u014a\001\001\000\002\001\001\000\002\001\001\000" +
+    "\126\003\324\006\366\007\134\010\121\011\124\016\340" +
+    "\017\362\020\052\021\051\152\046\166\372\167\320\170" +
+    "\342\171\u01ec\172\336\173\252\200\232\201\335\202\214" +
+    "\203\345\204\377\205\343\206\u0103\207\341\210\353\211" +
+    "\374\212\334\213\351\214\337\215\363\216\350\217\360" +
+    "\220\361\221\u0101\222\365\223\376\224\357\225\u0100\226" +
+    "\370\227\367\230\215\233\375\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\126\003\324\006" +
+    "\366\007\134\010\121\011\124\016\340\017\362\020\052" +
+    "\021\051\152\046\166\372\167\320\170\342\171\u01f0\172" +
+    "\336\173\252\200\232\201\335\202\214\203\345\204\377" +
+    "\205\343\206\u0103\207\341\210\353\211\374\212\334\213" +
+    "\351\214\337\215\363\216\350\217\360\220\361\221\u0101" +
+    "\222\365\223\376\224\357\225\u0100\226\370\227\367\230" +
+    "\215\233\375\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\126\003\324\006\366\007\134\010" +
+    "\121\011\124\016\340\017\362\020\052\021\051\152\046" +
+    "\166\372\167\320\170\342\171\u01f4\172\336\173\252\200" +
+    "\232\201\335\202\214\203\345\204\377\205\343\206\u0103" +
+    "\207\341\210\353\211\374\212\334\213\351\214\337\215" +
+    "\363\216\350\217\360\220\361\221\u0101\222\365\223\376" +
+    "\224\357\225\u0100\226\370\227\367\230\215\233\375\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\010\161\u01fc\162" +
+    "\u01fa\163\u01fb\001\001\000\004\163\u0205\001\001\000\002" +
+    "\001\001\000\004\164\u0203\001\001\000\002\001\001\000" +
+    "\034\005\146\006\130\007\134\010\121\011\124\012\126" +
+    "\013\120\016\132\017\136\020\052\021\051\064\u01ff\152" +
+    "\046\001\001\000\002\001\001\000\004\110\u0201\001\001" +
+    "\000\002\001\001\000\004\110\u0204\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\134\003\324\006\366\007\134\010\121\011\124\016\340" +
+    "\017\362\020\052\021\051\074\236\110\226\116\u01c3\120" +
+    "\255\121\244\122\310\124\266\125\223\126\247\127\307" +
+    "\131\213\137\277\141\327\142\207\152\262\153\237\154" +
+    "\304\155\245\156\314\157\211\160\224\165\240\166\302" +
+    "\167\320\170\225\173\252\200\232\201\210\202\214\203" +
+    "\231\204\316\205\227\210\243\211\305\227\276\230\215" +
+    "\001\001\000\102\003\324\005\254\006\275\007\134\010" +
+    "\121\011\124\012\126\013\120\016\217\017\270\020\052" +
+    "\021\051\115\u01c6\125\u01c5\144\u020c\145\u01ca\150\u01c7\152" +
+    "\046\166\372\167\320\170\225\173\252\200\232\201\210" +
+    "\202\214\203\231\204\316\205\227\210\243\211\305\227" +
+    "\276\230\215\001\001\000\002\001\001\000\124\003\324" +
+    "\006\366\007\134\010\121\011\124\016\340\017\362\020" +
+    "\052\021\051\152\046\166\372\167\320\170\342\173\252" +
+    "\200\232\201\335\202\214\203\345\204\377\205\343\206" +
+    "\u0103\207\341\210\353\211\374\212\334\213\351\214\337" +
+    "\215\363\216\350\217\360\220\361\221\u0101\222\365\223" +
+    "\376\224\357\225\u0100\226\370\227\367\230\215\232\u020e" +
+    "\233\u01cc\001\001\000\002\001\001\000\072\003\324\006" +
+    "\366\007\134\010\121\011\124\016\340\017\362\020\052" +
+    "\021\051\125\u01c5\146\u0210\147\u01cf\150\u01d0\152\046\166" +
+    "\372\167\320\170\225\173\252\200\232\201\210\202\214" +
+    "\203\231\204\316\205\227\210\243\211\305\227\276\230" +
+    "\215\001\001\000\002\001\001\000\134\003\324\006\366" +
+    "\007\134\010\121\011\124\016\340\017\362\020\052\021" +
+    "\051\074\236\110\226\116\u01d4\120\255\121\244\122\310" +
+    "\124\266\125\223\126\247\127\307\131\213\137\277\141" +
+    "\327\142\207\152\262\153\237\154\304\155\245\156\314" +
+    "\157\211\160\224\165\240\166\302\167\320\170\225\173" +
+    "\252\200\232\201\210\202\214\203\231\204\316\205\227" +
+    "\210\243\211\305\227\276\230\215\001\001\000\002\001" +
+    "\001\000\002\001\001\000\122\003\324\006\366\007\134" +
+    "\010\121\011\124\016\340\017\362\020\052\021\051\152" +
+    "\046\166\372\167\320\170\342\173\252\200\232\201\335" +
+    "\202\214\203\345\204\377\205\343\206\u0103\207\341\210" +
+    "\353\211\374\212\334\213\351\214\337\215\363\216\350" +
+    "\217\360\220\361\221\u0101\222\365\223\376\224\357\225" +
+    "\u0100\226\370\227\367\230\215\233\u0215\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\122\003" +
+    "\324\006\366\007\134\010\121\011\124\016\340\017\362" +
+    "\020\052\021\051\152\046\166\372\167\320\170\342\173" +
+    "\252\200\232\201\335\202\214\203\345\204\377\205\343" +
+    "\206\u0103\207\341\210\353\211\374\212\334\213\351\214" +
+    "\337\215\363\216\350\217\360\220\361\221\u0101\222\365" +
+    "\223\376\224\357\225\u0100\226\370\227\367\230\215\233" +
+    "\u0219\001\001\000\002\001\001\000\004\132\u021c\001\001" +
+    "\000\012\133\u0220\134\u0221\135\u0224\136\u0222\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\010\134\u022d\135\u022e\136\u0222\001\001\000" +
+    "\002\001\001\000\002\001\001\000\124\003\324\006\366" +
+    "\007\134\010\121\011\124\016\340\017\362\020\052\021" +
+    "\051\152\046\166\372\167\320\170\342\173\252\200\232" +
+    "\201\335\202\214\203\345\204\377\205\343\206\u0103\207" +
+    "\341\210\353\211\374\212\334\213\351\214\337\215\363" +
+    "\216\350\217\360\220\361\221\u0101\222\365\223\376\224" +
+    "\357\225\u0100\226\370\227\367\230\215\233\u022a\234\u0229" +
+    "\001\001\000\164\003\324\005\254\006\275\007\134\010" +
+    "\121\011\124\012\126\013\120\016\217\017\270\020\052" +
+    "\021\051\035\301\036\013\037\012\040\216\074\236\110" +
+    "\226\112\u0225\113\212\114\235\115\242\116\325\120\255" +
+    "\121\244\122\310\124\266\125\223\126\247\127\307\131" +
+    "\213\136\u0226\137\277\141\327\142\207\152\262\153\237" +
+    "\154\304\155\245\156\314\157\211\160\224\165\240\166" +
+    "\302\167\320\170\225\173\252\200\232\201\210\202\214" +
+    "\203\231\204\316\205\227\210\243\211\305\227\276\230" +
+    "\215\001\001\000\160\003\324\005\254\006\275\007\134" +
+    "\010\121\011\124\012\126\013\120\016\217\017\270\020" +
+    "\052\021\051\035\301\036\013\037\012\040\216\074\236" +
+    "\110\226\113\u0228\114\235\115\242\116\325\120\255\121" +
+    "\244\122\310\124\266\125\223\126\247\127\307\131\213" +
+    "\137\277\141\327\142\207\152\262\153\237\154\304\155" +
+    "\245\156\314\157\211\160\224\165\240\166\302\167\320" +
+    "\170\225\173\252\200\232\201\210\202\214\203\231\204" +
+    "\316\205\227\210\243\211\305\227\276\230\215\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\164\003\324\005\254\006" +
+    "\275\007\134\010\121\011\124\012\126\013\120\016\217" +
+    "\017\270\020\052\021\051\035\301\036\013\037\012\040" +
+    "\216\074\236\110\226\112\u0225\113\212\114\235\115\242" +
+    "\116\325\120\255\121\244\122\310\124\266\125\223\126" +
+    "\247\127\307\131\213\136\u0226\137\277\141\327\142\207" +
+    "\152\262\153\237\154\304\155\245\156\314\157\211\160" +
+    "\224\165\240\166\302\167\320\170\225\173\252\200\232" +
+    "\201\210\202\214\203\231\204\316\205\227\210\243\211" +
+    "\305\227\276\230\215\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\122\003\324\006\366\007" +
+    "\134\010\121\011\124\016\340\017\362\020\052\021\051" +
+    "\152\046\166\372\167\320\170\342\173\252\200\232\201" +
+    "\335\202\214\203\345\204\377\205\343\206\u0103\207\341" +
+    "\210\353\211\374\212\334\213\351\214\337\215\363\216" +
+    "\350\217\360\220\361\221\u0101\222\365\223\376\224\357" +
+    "\225\u0100\226\370\227\367\230\215\233\u0233\001\001\000" +
+    "\002\001\001\000\134\003\324\006\366\007\134\010\121" +
+    "\011\124\016\340\017\362\020\052\021\051\074\236\110" +
+    "\226\116\u01e3\120\255\121\244\122\310\124\266\125\223" +
+    "\126\247\127\307\131\213\137\277\141\327\142\207\152" +
+    "\262\153\237\154\304\155\245\156\314\157\211\160\224" +
+    "\165\240\166\302\167\320\170\225\173\252\200\232\201" +
+    "\210\202\214\203\231\204\316\205\227\210\243\211\305" +
+    "\227\276\230\215\001\001\000\126\003\324\006\366\007" +
+    "\134\010\121\011\124\016\340\017\362\020\052\021\051" +
+    "\152\046\166\372\167\320\170\342\171\u0236\172\336\173" +
+    "\252\200\232\201\335\202\214\203\345\204\377\205\343" +
+    "\206\u0103\207\341\210\353\211\374\212\334\213\351\214" +
+    "\337\215\363\216\350\217\360\220\361\221\u0101\222\365" +
+    "\223\376\224\357\225\u0100\226\370\227\367\230\215\233" +
+    "\375\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\120\003\324\006\366\007\134\010\121\011\124" +
+    "\016\340\017\362\020\052\021\051\152\046\166\372\167" +
+    "\320\170\342\173\252\200\232\201\335\202\214\203\345" +
+    "\204\377\205\343\206\u0103\207\341\210\353\211\374\212" +
+    "\334\213\351\214\337\215\363\216\350\217\360\220\361" +
+    "\221\u0101\222\365\223\376\224\357\225\u0100\226\u024c\227" +
+    "\367\230\215\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\040\005\146\006\130" +
+    "\007\134\010\121\011\124\012\126\013\120\016\132\017" +
+    "\136\020\052\021\051\062\u0252\063\150\064\153\152\046" +
+    "\001\001\000\002\001\001\000\006\176\u0254\177\u0195\001" +
+    "\001\000\006\065\u0255\066\163\001\001\000\002\001\001" +
+    "\000\006\041\042\042\u0257\001\001\000\006\043\060\044" +
+    "\u0258\001\001\000\004\046\u0259\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\160\003\324\005\254\006" +
+    "\275\007\134\010\121\011\124\012\126\013\120\016\217" +
+    "\017\270\020\052\021\051\035\301\036\013\037\012\040" +
+    "\216\074\236\110\226\113\u0228\114\235\115\242\116\325" +
+    "\120\255\121\244\122\310\124\266\125\223\126\247\127" +
+    "\307\131\213\137\277\141\327\142\207\152\262\153\237" +
+    "\154\304\155\245\156\314\157\211\160\224\165\240\166" +
+    "\302\167\320\170\225\173\252\200\232\201\210\202\214" +
+    "\203\231\204\316\205\227\210\243\211\305\227\276\230" +
+    "\215\001\001\000\002\001\001\000\002\001\001\000\006" +
+    "\076\u0267\077\u0268\001\001\000\016\013\062\015\u027c\017" +
+    "\047\020\052\021\051\152\046\001\001\000\004\100\u026c" +
+    "\001\001\000\002\001\001\000\016\013\062\015\u026a\017" +
+    "\047\020\052\021\051\152\046\001\001\000\002\001\001" +
+    "\000\032\035\u0275\036\013\037\012\040\u0270\053\u0274\061" +
+    "\u0271\075\u0277\101\u0273\102\u0272\103\u026f\104\u0276\105\u026d" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\026\035\u0275\036\013\037\012\040\u0270\053\u0274\061" +
+    "\u0271\075\u0277\103\u027a\104\u0276\105\u026d\001\001\000\002" +
+    "\001\001\000\002\001\001\000\032\005\117\006\130\007" +
+    "\134\010\121\011\124\012\126\013\120\016\132\017\136" +
+    "\020\052\021\051\152\046\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\014\025\u028f\026\u028e\031\u028d" +
+    "\032\u0290\033\u028b\001\001\000\002\001\001\000\022\027" +
+    "\u0287\030\u0289\034\u0288\035\031\036\013\037\012\040\020" +
+    "\075\035\001\001\000\002\001\001\000\012\017\u0285\020" +
+    "\052\021\051\152\046\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\016\034\u028a\035\031\036\013\037\012\040\020" +
+    "\075\035\001\001\000\002\001\001\000\002\001\001\000" +
+    "\012\017\u0293\020\052\021\u0294\152\046\001\001\000\002" +
+    "\001\001\000\010\031\u0292\032\u0290\033\u028b\001\001\000" +
+    "\022\027\u0291\030\u0289\034\u0288\035\031\036\013\037\012" +
+    "\040\020\075\035\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\004\152\055\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\032\005\u029d\006\130\007\134\010" +
+    "\121\011\124\012\126\013\120\016\132\017\136\020\123" +
+    "\021\051\152\046\001\001\000\010\055\u029e\056\u01d8\152" +
+    "\u024e\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001" });
+
+  /** Access to <code>reduce_goto</code> table. */
+  public short[][] reduce_table() {return _reduce_table;}
+
+  /** Instance of action encapsulation class. */
+  protected CUP$Grm$actions action_obj;
+
+  /** Action encapsulation object initializer. */
+  protected void init_actions()
+    {
+      action_obj = new CUP$Grm$actions(this);
+    }
+
+  /** Invoke a user supplied parse action. */
+  public java_cup.runtime.Symbol do_action(
+    int                        act_num,
+    java_cup.runtime.lr_parser parser,
+    java.util.Stack            stack,
+    int                        top)
+    throws java.lang.Exception
+  {
+    /* call code in generated class */
+    return action_obj.CUP$Grm$do_action(act_num, parser, stack, top);
+  }
+
+  /** Indicates start state. */
+  public int start_state() {return 0;}
+  /** Indicates start production. */
+  public int start_production() {return 0;}
+
+  /** <code>EOF</code> Symbol index. */
+  public int EOF_sym() {return 0;}
+
+  /** <code>error</code> Symbol index. */
+  public int error_sym() {return 1;}
+
+
+  /** Scan to get the next Symbol. */
+  public java_cup.runtime.Symbol scan()
+    throws java.lang.Exception
+    {
+
+// scan code generated by PPG
+if (ppg_curr_sym!= null) {
+	Symbol result = ppg_curr_sym;
+	ppg_curr_sym = null;
+	return result;
+}
+// end scan code generated by PPG
+
+
+ return nextSymbol(); 
+    }
+
+
+
+    public Grm(Lexer l, TypeSystem t, NodeFactory n, ErrorQueue eq) {
+	super(l, t, n, eq);
+    }
+
+  /**
+   * Override the default CUP routine.
+   */
+  public void syntax_error (java_cup.runtime.Symbol current) {
+    Position p = ((Token) current.value).getPosition();
+    System.out.println("p = " + p);
+    if (current.sym == sym.EOF)
+	report_error ("Unexpected end of file.", p);
+    else
+	report_error ("Syntax error.", p);
+  }
+
+Symbol ppg_curr_sym;
+
+public Symbol qq_expr () throws Exception {
+	ppg_curr_sym = new Symbol(sym.JLGEN_TOKEN_0);
+	return parse();
+}
+
+public Symbol qq_stmt () throws Exception {
+	ppg_curr_sym = new Symbol(sym.JLGEN_TOKEN_1);
+	return parse();
+}
+
+public Symbol qq_type () throws Exception {
+	ppg_curr_sym = new Symbol(sym.JLGEN_TOKEN_2);
+	return parse();
+}
+
+public Symbol qq_decl () throws Exception {
+	ppg_curr_sym = new Symbol(sym.JLGEN_TOKEN_3);
+	return parse();
+}
+
+public Symbol qq_file () throws Exception {
+	ppg_curr_sym = new Symbol(sym.JLGEN_TOKEN_4);
+	return parse();
+}
+
+public Symbol qq_member () throws Exception {
+	ppg_curr_sym = new Symbol(sym.JLGEN_TOKEN_5);
+	return parse();
+}
+
+
+
+}
+
+/** Cup generated class to encapsulate user supplied action code.*/
+class CUP$Grm$actions {
+  private final Grm parser;
+
+  /** Constructor */
+  CUP$Grm$actions(Grm parser) {
+    this.parser = parser;
+  }
+
+  /** Method with the actual generated action code. */
+  public final java_cup.runtime.Symbol CUP$Grm$do_action(
+    int                        CUP$Grm$act_num,
+    java_cup.runtime.lr_parser CUP$Grm$parser,
+    java.util.Stack            CUP$Grm$stack,
+    int                        CUP$Grm$top)
+    throws java.lang.Exception
+    {
+      /* Symbol object for return from actions */
+      java_cup.runtime.Symbol CUP$Grm$result;
+
+      if (CUP$Grm$act_num <= 199) {
+        if (CUP$Grm$act_num <= 99) {
+          return CUP$Grm$do_action_0(CUP$Grm$act_num,CUP$Grm$parser,CUP$Grm$stack,CUP$Grm$top);
+        } else {
+          return CUP$Grm$do_action_100(CUP$Grm$act_num,CUP$Grm$parser,CUP$Grm$stack,CUP$Grm$top);
+        }
+      } else {
+        if (CUP$Grm$act_num <= 299) {
+          return CUP$Grm$do_action_200(CUP$Grm$act_num,CUP$Grm$parser,CUP$Grm$stack,CUP$Grm$top);
+        } else {
+          return CUP$Grm$do_action_300(CUP$Grm$act_num,CUP$Grm$parser,CUP$Grm$stack,CUP$Grm$top);
+        }
+      }
+    }
+
+  /** Method with the actual generated action code. */
+  public final java_cup.runtime.Symbol CUP$Grm$do_action_0(
+    int                        CUP$Grm$act_num,
+    java_cup.runtime.lr_parser CUP$Grm$parser,
+    java.util.Stack            CUP$Grm$stack,
+    int                        CUP$Grm$top)
+    throws java.lang.Exception
+    {
+      /* Symbol object for return from actions */
+      java_cup.runtime.Symbol CUP$Grm$result;
+
+      /* select the action based on the action number */
+      switch (CUP$Grm$act_num)
+        {
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 99: // class_member_declaration ::= COMMA_MEMB 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		QQNodeToken a = (QQNodeToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                 List l = new ArrayList(1);
+	       l.add((ClassMember) a.node());
+	       RESULT = l; 
+                 
+              CUP$Grm$result = new java_cup.runtime.Symbol(40/*class_member_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 98: // class_member_declaration ::= interface_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassDecl a = (ClassDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                            List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               l.add(a);
+               RESULT = l; 
+                            
+              CUP$Grm$result = new java_cup.runtime.Symbol(40/*class_member_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 97: // class_member_declaration ::= modifiers_opt CLASS identifier super_opt interfaces_opt class_body 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		FlagsNode a = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		TypeNode c = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List d = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassBody e = (ClassBody)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                                   List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               l.add(parser.nf.ClassDecl(parser.pos(n, e),
+                        a, b, c, d, e));
+               RESULT = l; 
+                                                                                   
+              CUP$Grm$result = new java_cup.runtime.Symbol(40/*class_member_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 96: // class_member_declaration ::= method_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		MethodDecl a = (MethodDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                         List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               l.add(a);
+               RESULT = l; 
+                         
+              CUP$Grm$result = new java_cup.runtime.Symbol(40/*class_member_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 95: // class_member_declaration ::= field_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(40/*class_member_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 94: // class_body_declaration ::= error LBRACE 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                   List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               RESULT = l; 
+                   
+              CUP$Grm$result = new java_cup.runtime.Symbol(39/*class_body_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 93: // class_body_declaration ::= error SEMICOLON 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                      List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               RESULT = l; 
+                      
+              CUP$Grm$result = new java_cup.runtime.Symbol(39/*class_body_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 92: // class_body_declaration ::= SEMICOLON 
+            {
+              List RESULT = null;
+		
+              List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               RESULT = l; 
+              
+              CUP$Grm$result = new java_cup.runtime.Symbol(39/*class_body_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 91: // class_body_declaration ::= block 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block a = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+            List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               l.add(parser.nf.Initializer(parser.pos(a), parser.nf.FlagsNode(parser.pos(a), Flags.NONE), a));
+               RESULT = l; 
+            
+              CUP$Grm$result = new java_cup.runtime.Symbol(39/*class_body_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 90: // class_body_declaration ::= constructor_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ConstructorDecl a = (ConstructorDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                              List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               l.add(a);
+               RESULT = l; 
+                              
+              CUP$Grm$result = new java_cup.runtime.Symbol(39/*class_body_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 89: // class_body_declaration ::= static_initializer 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Initializer a = (Initializer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                         List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               l.add(a);
+               RESULT = l; 
+                         
+              CUP$Grm$result = new java_cup.runtime.Symbol(39/*class_body_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 88: // class_body_declaration ::= class_member_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(39/*class_body_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 87: // class_body_declarations ::= COMMA_LIST 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		QQListToken a = (QQListToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a.list();  
+              CUP$Grm$result = new java_cup.runtime.Symbol(37/*class_body_declarations*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 86: // class_body_declarations ::= class_body_declarations class_body_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                       RESULT = a;
+               a.addAll(b); 
+                                                       
+              CUP$Grm$result = new java_cup.runtime.Symbol(37/*class_body_declarations*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 85: // class_body_declarations ::= class_body_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(37/*class_body_declarations*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 84: // class_body_declarations_opt ::= class_body_declarations 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(38/*class_body_declarations_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 83: // class_body_declarations_opt ::= 
+            {
+              List RESULT = null;
+		  RESULT = new TypedList(new LinkedList(), ClassMember.class, false);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(38/*class_body_declarations_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 82: // class_body ::= LBRACE class_body_declarations_opt RBRACE 
+            {
+              ClassBody RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                    RESULT = parser.nf.ClassBody(parser.pos(n, b), a); 
+                                                    
+              CUP$Grm$result = new java_cup.runtime.Symbol(36/*class_body*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 81: // interface_type_list ::= interface_type_list COMMA interface_type 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode b = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                 RESULT = a;
+               a.add(b); 
+                                                 
+              CUP$Grm$result = new java_cup.runtime.Symbol(35/*interface_type_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 80: // interface_type_list ::= interface_type 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                     List l = new TypedList(new LinkedList(), TypeNode.class, false);
+               l.add(a);
+               RESULT = l; 
+                     
+              CUP$Grm$result = new java_cup.runtime.Symbol(35/*interface_type_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 79: // interfaces_opt ::= interfaces 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(34/*interfaces_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 78: // interfaces_opt ::= 
+            {
+              List RESULT = null;
+		  RESULT = new TypedList(new LinkedList(), TypeNode.class, false);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(34/*interfaces_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 77: // interfaces ::= IMPLEMENTS interface_type_list 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(33/*interfaces*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 76: // super_opt ::= super 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(32/*super_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 75: // super_opt ::= 
+            {
+              TypeNode RESULT = null;
+
+              CUP$Grm$result = new java_cup.runtime.Symbol(32/*super_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 74: // super ::= EXTENDS class_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(31/*super*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 73: // class_declaration ::= modifiers_opt CLASS identifier super_opt interfaces_opt class_body 
+            {
+              ClassDecl RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		FlagsNode a = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		TypeNode c = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List d = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassBody e = (ClassBody)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                                   RESULT = parser.nf.ClassDecl(parser.pos(n, e),
+                a, b, c, d, e); 
+                                                                                   
+              CUP$Grm$result = new java_cup.runtime.Symbol(30/*class_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 72: // modifier ::= STRICTFP 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+               RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.STRICTFP); 
+               
+              CUP$Grm$result = new java_cup.runtime.Symbol(29/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 71: // modifier ::= VOLATILE 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+               RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.VOLATILE); 
+               
+              CUP$Grm$result = new java_cup.runtime.Symbol(29/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 70: // modifier ::= TRANSIENT 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.TRANSIENT); 
+                
+              CUP$Grm$result = new java_cup.runtime.Symbol(29/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 69: // modifier ::= SYNCHRONIZED 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                   RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.SYNCHRONIZED); 
+                   
+              CUP$Grm$result = new java_cup.runtime.Symbol(29/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 68: // modifier ::= NATIVE 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.NATIVE);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(29/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 67: // modifier ::= FINAL 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.FINAL);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(29/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 66: // modifier ::= ABSTRACT 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+               RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.ABSTRACT); 
+               
+              CUP$Grm$result = new java_cup.runtime.Symbol(29/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 65: // modifier ::= STATIC 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.STATIC);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(29/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 64: // modifier ::= PRIVATE 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+              RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.PRIVATE); 
+              
+              CUP$Grm$result = new java_cup.runtime.Symbol(29/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 63: // modifier ::= PROTECTED 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.PROTECTED); 
+                
+              CUP$Grm$result = new java_cup.runtime.Symbol(29/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 62: // modifier ::= PUBLIC 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = parser.nf.FlagsNode(parser.pos(a), Flags.PUBLIC);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(29/*modifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 61: // modifiers ::= modifiers modifier 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		FlagsNode a = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		FlagsNode b = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                           Flags fa = a.flags();
+               Flags fb = b.flags();
+               if (fa.intersects(fb)) parser.die(parser.position());
+               RESULT = parser.nf.FlagsNode(parser.pos(a, b), fa.set(fb)); 
+                           
+              CUP$Grm$result = new java_cup.runtime.Symbol(28/*modifiers*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 60: // modifiers ::= modifier 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		FlagsNode a = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(28/*modifiers*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 59: // modifiers_opt ::= modifiers 
+            {
+              FlagsNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		FlagsNode a = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(27/*modifiers_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 58: // modifiers_opt ::= 
+            {
+              FlagsNode RESULT = null;
+		
+    RESULT = parser.nf.FlagsNode(Position.COMPILER_GENERATED, Flags.NONE); 
+    
+              CUP$Grm$result = new java_cup.runtime.Symbol(27/*modifiers_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 57: // type_declaration ::= COMMA_DECL 
+            {
+              ClassDecl RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		QQNodeToken a = (QQNodeToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = (ClassDecl) a.node();  
+              CUP$Grm$result = new java_cup.runtime.Symbol(26/*type_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 56: // type_declaration ::= SEMICOLON 
+            {
+              ClassDecl RESULT = null;
+		  RESULT = null;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(26/*type_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 55: // type_declaration ::= interface_declaration 
+            {
+              ClassDecl RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassDecl a = (ClassDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(26/*type_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 54: // type_declaration ::= class_declaration 
+            {
+              ClassDecl RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassDecl a = (ClassDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(26/*type_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 53: // type_import_on_demand_declaration ::= IMPORT name DOT MULT SEMICOLON 
+            {
+              Import RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		ParsedName b = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token c = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                         RESULT = parser.nf.Import(parser.pos(a, c), Import.PACKAGE, QName.make(b.toString())); 
+                                         
+              CUP$Grm$result = new java_cup.runtime.Symbol(25/*type_import_on_demand_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 52: // single_type_import_declaration ::= IMPORT qualified_name SEMICOLON 
+            {
+              Import RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		ParsedName b = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token c = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                          RESULT = parser.nf.Import(parser.pos(a, c), Import.CLASS, QName.make(b.toString())); 
+                                          
+              CUP$Grm$result = new java_cup.runtime.Symbol(24/*single_type_import_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 51: // import_declaration ::= type_import_on_demand_declaration 
+            {
+              Import RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Import a = (Import)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(23/*import_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 50: // import_declaration ::= single_type_import_declaration 
+            {
+              Import RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Import a = (Import)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(23/*import_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 49: // package_declaration ::= PACKAGE name SEMICOLON 
+            {
+              PackageNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		  RESULT = a.toPackage();  
+              CUP$Grm$result = new java_cup.runtime.Symbol(18/*package_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 48: // type_declarations ::= type_declarations type_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassDecl b = (ClassDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                           RESULT = a;
+               if (b != null)
+                   a.add(b); 
+                                           
+              CUP$Grm$result = new java_cup.runtime.Symbol(22/*type_declarations*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 47: // type_declarations ::= type_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassDecl a = (ClassDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                       List l = new TypedList(new LinkedList(), TopLevelDecl.class, false); 
+               if (a != null)
+                   l.add(a);
+               RESULT = l; 
+                       
+              CUP$Grm$result = new java_cup.runtime.Symbol(22/*type_declarations*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 46: // import_declarations ::= import_declarations import_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Import b = (Import)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                               RESULT = a; 
+               a.add(b); 
+                                               
+              CUP$Grm$result = new java_cup.runtime.Symbol(20/*import_declarations*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 45: // import_declarations ::= import_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Import a = (Import)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                         List l = new TypedList(new LinkedList(), Import.class, false); 
+               l.add(a);
+               RESULT = l; 
+                         
+              CUP$Grm$result = new java_cup.runtime.Symbol(20/*import_declarations*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 44: // type_declarations_opt ::= 
+            {
+              List RESULT = null;
+		
+    RESULT = new TypedList(new LinkedList(), TopLevelDecl.class, false); 
+    
+              CUP$Grm$result = new java_cup.runtime.Symbol(21/*type_declarations_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 43: // type_declarations_opt ::= type_declarations 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(21/*type_declarations_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 42: // import_declarations_opt ::= 
+            {
+              List RESULT = null;
+		  RESULT = new TypedList(new LinkedList(), Import.class, false);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(19/*import_declarations_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 41: // import_declarations_opt ::= import_declarations 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(19/*import_declarations_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 40: // package_declaration_opt ::= 
+            {
+              PackageNode RESULT = null;
+		  RESULT = null;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(17/*package_declaration_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 39: // package_declaration_opt ::= package_declaration 
+            {
+              PackageNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		PackageNode a = (PackageNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(17/*package_declaration_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 38: // compilation_unit ::= error type_declarations_opt 
+            {
+              SourceFile RESULT = null;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                  RESULT = parser.nf.SourceFile(new Position(parser.lexer.path(), parser.lexer.file()),
+					     null, Collections.EMPTY_LIST, c);
+	    
+                                  
+              CUP$Grm$result = new java_cup.runtime.Symbol(16/*compilation_unit*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 37: // compilation_unit ::= package_declaration_opt import_declarations_opt type_declarations_opt 
+            {
+              SourceFile RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		PackageNode a = (PackageNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                                RESULT = parser.nf.SourceFile(new Position(parser.lexer.path(), parser.lexer.file()),
+					     a, b, c);
+	    
+                                                                                
+              CUP$Grm$result = new java_cup.runtime.Symbol(16/*compilation_unit*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 36: // qualified_name ::= name DOT identifier 
+            {
+              ParsedName RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                            RESULT = new ParsedName(parser.nf, parser.ts, parser.pos(a, b), a, b); 
+                            
+              CUP$Grm$result = new java_cup.runtime.Symbol(15/*qualified_name*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 35: // simple_name ::= identifier 
+            {
+              ParsedName RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Id a = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                 RESULT = new ParsedName(parser.nf, parser.ts, parser.pos(a), a); 
+                 
+              CUP$Grm$result = new java_cup.runtime.Symbol(14/*simple_name*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 34: // name ::= qualified_name 
+            {
+              ParsedName RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(13/*name*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 33: // name ::= simple_name 
+            {
+              ParsedName RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(13/*name*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 32: // array_type ::= COMMA_TYPE dims 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		QQNodeToken a = (QQNodeToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Integer b = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                        RESULT = parser.array((TypeNode) a.node(), b.intValue()); 
+                        
+              CUP$Grm$result = new java_cup.runtime.Symbol(12/*array_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 31: // array_type ::= name dims 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Integer b = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = parser.array(a.toType(), b.intValue());  
+              CUP$Grm$result = new java_cup.runtime.Symbol(12/*array_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 30: // array_type ::= primitive_type dims 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Integer b = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = parser.array(a, b.intValue());  
+              CUP$Grm$result = new java_cup.runtime.Symbol(12/*array_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 29: // interface_type ::= class_or_interface_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(11/*interface_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 28: // class_type ::= class_or_interface_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(10/*class_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 27: // class_or_interface_type ::= COMMA_TYPE 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		QQNodeToken a = (QQNodeToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = (TypeNode) a.node();  
+              CUP$Grm$result = new java_cup.runtime.Symbol(9/*class_or_interface_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 26: // class_or_interface_type ::= name 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a.toType();  
+              CUP$Grm$result = new java_cup.runtime.Symbol(9/*class_or_interface_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 25: // reference_type ::= array_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(8/*reference_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 24: // reference_type ::= class_or_interface_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(8/*reference_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 23: // floating_point_type ::= DOUBLE 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+             RESULT = parser.nf.CanonicalTypeNode(parser.pos(a),
+                       parser.ts.Double()); 
+             
+              CUP$Grm$result = new java_cup.runtime.Symbol(7/*floating_point_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 22: // floating_point_type ::= FLOAT 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+            RESULT = parser.nf.CanonicalTypeNode(parser.pos(a),
+                       parser.ts.Float()); 
+            
+              CUP$Grm$result = new java_cup.runtime.Symbol(7/*floating_point_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 21: // integral_type ::= LONG 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+           RESULT = parser.nf.CanonicalTypeNode(parser.pos(a), parser.ts.Long()); 
+           
+              CUP$Grm$result = new java_cup.runtime.Symbol(6/*integral_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 20: // integral_type ::= INT 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+          RESULT = parser.nf.CanonicalTypeNode(parser.pos(a), parser.ts.Int()); 
+          
+              CUP$Grm$result = new java_cup.runtime.Symbol(6/*integral_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 19: // integral_type ::= SHORT 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+            RESULT = parser.nf.CanonicalTypeNode(parser.pos(a), parser.ts.Short()); 
+            
+              CUP$Grm$result = new java_cup.runtime.Symbol(6/*integral_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 18: // integral_type ::= CHAR 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+           RESULT = parser.nf.CanonicalTypeNode(parser.pos(a), parser.ts.Char()); 
+           
+              CUP$Grm$result = new java_cup.runtime.Symbol(6/*integral_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 17: // integral_type ::= BYTE 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+           RESULT = parser.nf.CanonicalTypeNode(parser.pos(a), parser.ts.Byte()); 
+           
+              CUP$Grm$result = new java_cup.runtime.Symbol(6/*integral_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 16: // numeric_type ::= floating_point_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(5/*numeric_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 15: // numeric_type ::= integral_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(5/*numeric_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 14: // primitive_type ::= BOOLEAN 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+              RESULT = parser.nf.CanonicalTypeNode(parser.pos(a), parser.ts.Boolean()); 
+              
+              CUP$Grm$result = new java_cup.runtime.Symbol(4/*primitive_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 13: // primitive_type ::= numeric_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(4/*primitive_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 12: // type ::= reference_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(3/*type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 11: // type ::= primitive_type 
+            {
+              TypeNode RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(3/*type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 10: // boundary_literal ::= LONG_LITERAL_BD 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.LongLiteral a = (polyglot.lex.LongLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                      RESULT = parser.nf.IntLit(parser.pos(a), IntLit.LONG,
+                     a.getValue().longValue()); 
+                      
+              CUP$Grm$result = new java_cup.runtime.Symbol(2/*boundary_literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 9: // boundary_literal ::= INTEGER_LITERAL_BD 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.IntegerLiteral a = (polyglot.lex.IntegerLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                         RESULT = parser.nf.IntLit(parser.pos(a), IntLit.INT,
+                                     a.getValue().intValue()); 
+                         
+              CUP$Grm$result = new java_cup.runtime.Symbol(2/*boundary_literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 8: // literal ::= NULL_LITERAL 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.NullLiteral a = (polyglot.lex.NullLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = parser.nf.NullLit(parser.pos(a));  
+              CUP$Grm$result = new java_cup.runtime.Symbol(1/*literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 7: // literal ::= STRING_LITERAL 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.StringLiteral a = (polyglot.lex.StringLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                     RESULT = parser.nf.StringLit(parser.pos(a), a.getValue()); 
+                     
+              CUP$Grm$result = new java_cup.runtime.Symbol(1/*literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 6: // literal ::= CHARACTER_LITERAL 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.CharacterLiteral a = (polyglot.lex.CharacterLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                        RESULT = parser.nf.CharLit(parser.pos(a),
+                      a.getValue().charValue()); 
+                        
+              CUP$Grm$result = new java_cup.runtime.Symbol(1/*literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 5: // literal ::= BOOLEAN_LITERAL 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.BooleanLiteral a = (polyglot.lex.BooleanLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                      RESULT = parser.nf.BooleanLit(parser.pos(a),
+                                         a.getValue().booleanValue()); 
+                      
+              CUP$Grm$result = new java_cup.runtime.Symbol(1/*literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 4: // literal ::= FLOAT_LITERAL 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.FloatLiteral a = (polyglot.lex.FloatLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                    RESULT = parser.nf.FloatLit(parser.pos(a), FloatLit.FLOAT,
+                                           a.getValue().floatValue()); 
+                    
+              CUP$Grm$result = new java_cup.runtime.Symbol(1/*literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 3: // literal ::= DOUBLE_LITERAL 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.DoubleLiteral a = (polyglot.lex.DoubleLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                     RESULT = parser.nf.FloatLit(parser.pos(a), FloatLit.DOUBLE,
+                                           a.getValue().doubleValue()); 
+                     
+              CUP$Grm$result = new java_cup.runtime.Symbol(1/*literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 2: // literal ::= LONG_LITERAL 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.LongLiteral a = (polyglot.lex.LongLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                   RESULT = parser.nf.IntLit(parser.pos(a), IntLit.LONG,
+                     a.getValue().longValue()); 
+                   
+              CUP$Grm$result = new java_cup.runtime.Symbol(1/*literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 1: // literal ::= INTEGER_LITERAL 
+            {
+              polyglot.ast.Lit RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.lex.IntegerLiteral a = (polyglot.lex.IntegerLiteral)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                      RESULT = parser.nf.IntLit(parser.pos(a), IntLit.INT,
+                                     a.getValue().intValue()); 
+                      
+              CUP$Grm$result = new java_cup.runtime.Symbol(1/*literal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 0: // $START ::= multi_start_symbool EOF 
+            {
+              Object RESULT = null;
+		int start_valleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int start_valright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Object start_val = (Object)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		RESULT = start_val;
+              CUP$Grm$result = new java_cup.runtime.Symbol(0/*$START*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          /* ACCEPT */
+          CUP$Grm$parser.done_parsing();
+          return CUP$Grm$result;
+
+          default:
+            {
+              throw new Exception(
+                 "Invalid action number found in internal parse table");
+            }
+
+        }
+    }
+
+  /** Method with the actual generated action code. */
+  public final java_cup.runtime.Symbol CUP$Grm$do_action_100(
+    int                        CUP$Grm$act_num,
+    java_cup.runtime.lr_parser CUP$Grm$parser,
+    java.util.Stack            CUP$Grm$stack,
+    int                        CUP$Grm$top)
+    throws java.lang.Exception
+    {
+      /* Symbol object for return from actions */
+      java_cup.runtime.Symbol CUP$Grm$result;
+
+      /* select the action based on the action number */
+      switch (CUP$Grm$act_num)
+        {
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 199: // statement_without_trailing_substatement ::= assert_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Assert a = (Assert)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(78/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 198: // statement_without_trailing_substatement ::= try_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Try a = (Try)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(78/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 197: // statement_without_trailing_substatement ::= throw_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Throw a = (Throw)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(78/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 196: // statement_without_trailing_substatement ::= synchronized_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Synchronized a = (Synchronized)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(78/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 195: // statement_without_trailing_substatement ::= return_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Return a = (Return)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(78/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 194: // statement_without_trailing_substatement ::= continue_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Branch a = (Branch)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(78/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 193: // statement_without_trailing_substatement ::= break_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Branch a = (Branch)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(78/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 192: // statement_without_trailing_substatement ::= do_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Do a = (Do)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(78/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 191: // statement_without_trailing_substatement ::= switch_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Switch a = (Switch)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(78/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 190: // statement_without_trailing_substatement ::= expression_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt a = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(78/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 189: // statement_without_trailing_substatement ::= empty_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Empty a = (Empty)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(78/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 188: // statement_without_trailing_substatement ::= block 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block a = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(78/*statement_without_trailing_substatement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 187: // statement_no_short_if ::= for_statement_no_short_if 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		For a = (For)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(77/*statement_no_short_if*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 186: // statement_no_short_if ::= while_statement_no_short_if 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		While a = (While)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(77/*statement_no_short_if*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 185: // statement_no_short_if ::= if_then_else_statement_no_short_if 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		If a = (If)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(77/*statement_no_short_if*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 184: // statement_no_short_if ::= labeled_statement_no_short_if 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Labeled a = (Labeled)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(77/*statement_no_short_if*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 183: // statement_no_short_if ::= statement_without_trailing_substatement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt a = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(77/*statement_no_short_if*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 182: // statement ::= explicit_constructor_invocation 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ConstructorCall a = (ConstructorCall)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = (Stmt) a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(76/*statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 181: // statement ::= COMMA_STMT 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		QQNodeToken a = (QQNodeToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = (Stmt) a.node();  
+              CUP$Grm$result = new java_cup.runtime.Symbol(76/*statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 180: // statement ::= error SEMICOLON 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = parser.nf.Empty(parser.pos(a));  
+              CUP$Grm$result = new java_cup.runtime.Symbol(76/*statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 179: // statement ::= for_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		For a = (For)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(76/*statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 178: // statement ::= while_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		While a = (While)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(76/*statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 177: // statement ::= if_then_else_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		If a = (If)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(76/*statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 176: // statement ::= if_then_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		If a = (If)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(76/*statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 175: // statement ::= labeled_statement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Labeled a = (Labeled)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(76/*statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 174: // statement ::= statement_without_trailing_substatement 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt a = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(76/*statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 173: // local_variable_declaration ::= FINAL type variable_declarators 
+            {
+              List RESULT = null;
+		int xleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int xright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token x = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                          RESULT = parser.variableDeclarators(a, b, parser.nf.FlagsNode(parser.pos(x), Flags.FINAL)); 
+                                          
+              CUP$Grm$result = new java_cup.runtime.Symbol(75/*local_variable_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 172: // local_variable_declaration ::= type variable_declarators 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                  RESULT = parser.variableDeclarators(a, b, parser.nf.FlagsNode(parser.pos(a), Flags.NONE)); 
+                                  
+              CUP$Grm$result = new java_cup.runtime.Symbol(75/*local_variable_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 171: // local_variable_declaration_statement ::= local_variable_declaration SEMICOLON 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(74/*local_variable_declaration_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 170: // block_statement ::= class_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassDecl a = (ClassDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                        List l = new TypedList(new LinkedList(), Stmt.class, false);
+               l.add(parser.nf.LocalClassDecl(parser.pos(a), a));
+               RESULT = l; 
+                        
+              CUP$Grm$result = new java_cup.runtime.Symbol(73/*block_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 169: // block_statement ::= statement 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt a = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                List l = new TypedList(new LinkedList(), Stmt.class, false);
+               l.add(a);
+               RESULT = l; 
+                
+              CUP$Grm$result = new java_cup.runtime.Symbol(73/*block_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 168: // block_statement ::= local_variable_declaration_statement 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(73/*block_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 167: // block_statements ::= COMMA_LIST 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		QQListToken a = (QQListToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a.list();  
+              CUP$Grm$result = new java_cup.runtime.Symbol(72/*block_statements*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 166: // block_statements ::= block_statements block_statement 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                         RESULT = a;
+               a.addAll(b); 
+                                         
+              CUP$Grm$result = new java_cup.runtime.Symbol(72/*block_statements*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 165: // block_statements ::= block_statement 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                      List l = new TypedList(new LinkedList(), Stmt.class, false);
+               l.addAll(a);
+               RESULT = l; 
+                      
+              CUP$Grm$result = new java_cup.runtime.Symbol(72/*block_statements*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 164: // block_statements_opt ::= block_statements 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(71/*block_statements_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 163: // block_statements_opt ::= 
+            {
+              List RESULT = null;
+		  RESULT = new TypedList(new LinkedList(), Stmt.class, false);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(71/*block_statements_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 162: // block ::= error RBRACE 
+            {
+              Block RESULT = null;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                   RESULT = parser.nf.Block(parser.pos(d),
+                                        Collections.EMPTY_LIST); 
+                   
+              CUP$Grm$result = new java_cup.runtime.Symbol(70/*block*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 161: // block ::= LBRACE block_statements_opt RBRACE 
+            {
+              Block RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                             RESULT = parser.nf.Block(parser.pos(n, d), a); 
+                                             
+              CUP$Grm$result = new java_cup.runtime.Symbol(70/*block*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 160: // variable_initializers ::= variable_initializers COMMA variable_initializer 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                         RESULT = a; a.add(b); 
+                                                         
+              CUP$Grm$result = new java_cup.runtime.Symbol(69/*variable_initializers*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 159: // variable_initializers ::= variable_initializer 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                           List l = new TypedList(new LinkedList(), Expr.class, false);
+           l.add(a);
+           RESULT = l; 
+                           
+              CUP$Grm$result = new java_cup.runtime.Symbol(69/*variable_initializers*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 158: // array_initializer ::= LBRACE RBRACE 
+            {
+              ArrayInit RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = parser.nf.ArrayInit(parser.pos(n, d));  
+              CUP$Grm$result = new java_cup.runtime.Symbol(68/*array_initializer*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 157: // array_initializer ::= LBRACE COMMA RBRACE 
+            {
+              ArrayInit RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                            RESULT = parser.nf.ArrayInit(parser.pos(n, d)); 
+                            
+              CUP$Grm$result = new java_cup.runtime.Symbol(68/*array_initializer*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 156: // array_initializer ::= LBRACE variable_initializers RBRACE 
+            {
+              ArrayInit RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                              RESULT = parser.nf.ArrayInit(parser.pos(n, d), a); 
+                                              
+              CUP$Grm$result = new java_cup.runtime.Symbol(68/*array_initializer*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 155: // array_initializer ::= LBRACE variable_initializers COMMA RBRACE 
+            {
+              ArrayInit RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                    RESULT = parser.nf.ArrayInit(parser.pos(n, d), a); 
+                                                    
+              CUP$Grm$result = new java_cup.runtime.Symbol(68/*array_initializer*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 154: // abstract_method_declaration ::= method_header SEMICOLON 
+            {
+              MethodDecl RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		MethodDecl a = (MethodDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(67/*abstract_method_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 153: // constant_declaration ::= field_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(66/*constant_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 152: // interface_member_declaration ::= SEMICOLON 
+            {
+              List RESULT = null;
+		  RESULT = Collections.EMPTY_LIST;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(65/*interface_member_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 151: // interface_member_declaration ::= interface_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassDecl a = (ClassDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                            List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               l.add(a);
+               RESULT = l; 
+                            
+              CUP$Grm$result = new java_cup.runtime.Symbol(65/*interface_member_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 150: // interface_member_declaration ::= class_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassDecl a = (ClassDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                        List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               l.add(a);
+               RESULT = l; 
+                        
+              CUP$Grm$result = new java_cup.runtime.Symbol(65/*interface_member_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 149: // interface_member_declaration ::= abstract_method_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		MethodDecl a = (MethodDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                  List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               l.add(a);
+               RESULT = l; 
+                                  
+              CUP$Grm$result = new java_cup.runtime.Symbol(65/*interface_member_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 148: // interface_member_declaration ::= constant_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(65/*interface_member_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 147: // interface_member_declarations ::= COMMA_LIST 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		QQListToken a = (QQListToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a.list();  
+              CUP$Grm$result = new java_cup.runtime.Symbol(64/*interface_member_declarations*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 146: // interface_member_declarations ::= interface_member_declarations interface_member_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                   RESULT = a;
+               a.addAll(b); 
+                                                                   
+              CUP$Grm$result = new java_cup.runtime.Symbol(64/*interface_member_declarations*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 145: // interface_member_declarations ::= interface_member_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(64/*interface_member_declarations*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 144: // interface_member_declarations_opt ::= interface_member_declarations 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(63/*interface_member_declarations_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 143: // interface_member_declarations_opt ::= 
+            {
+              List RESULT = null;
+		  RESULT = new TypedList(new LinkedList(), ClassMember.class, false);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(63/*interface_member_declarations_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 142: // interface_body ::= LBRACE interface_member_declarations_opt RBRACE 
+            {
+              ClassBody RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                          RESULT = parser.nf.ClassBody(parser.pos(n, d), a); 
+                                                          
+              CUP$Grm$result = new java_cup.runtime.Symbol(62/*interface_body*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 141: // extends_interfaces ::= extends_interfaces COMMA interface_type 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode b = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                RESULT = a;
+               a.add(b); 
+                                                
+              CUP$Grm$result = new java_cup.runtime.Symbol(61/*extends_interfaces*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 140: // extends_interfaces ::= EXTENDS interface_type 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                             List l = new TypedList(new LinkedList(), TypeNode.class, false);
+               l.add(a);
+               RESULT = l; 
+                             
+              CUP$Grm$result = new java_cup.runtime.Symbol(61/*extends_interfaces*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 139: // extends_interfaces_opt ::= extends_interfaces 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(60/*extends_interfaces_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 138: // extends_interfaces_opt ::= 
+            {
+              List RESULT = null;
+		  RESULT = new TypedList(new LinkedList(), TypeNode.class, false);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(60/*extends_interfaces_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 137: // interface_declaration ::= modifiers_opt INTERFACE identifier extends_interfaces_opt interface_body 
+            {
+              ClassDecl RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		FlagsNode a = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassBody d = (ClassBody)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                                       RESULT = parser.nf.ClassDecl(
+                    parser.pos(n, d), a.flags(a.flags().Interface()),
+                        b, null, c, d); 
+                                                                                       
+              CUP$Grm$result = new java_cup.runtime.Symbol(59/*interface_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 136: // explicit_constructor_invocation ::= primary DOT SUPER LPAREN argument_list_opt RPAREN SEMICOLON 
+            {
+              ConstructorCall RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token c = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                        RESULT = parser.nf.SuperCall(parser.pos(a, c, n), a, b); 
+                                                                        
+              CUP$Grm$result = new java_cup.runtime.Symbol(58/*explicit_constructor_invocation*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 135: // explicit_constructor_invocation ::= primary DOT THIS LPAREN argument_list_opt RPAREN SEMICOLON 
+            {
+              ConstructorCall RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token c = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                       RESULT = parser.nf.ThisCall(parser.pos(a, c, n), a, b); 
+                                                                       
+              CUP$Grm$result = new java_cup.runtime.Symbol(58/*explicit_constructor_invocation*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 134: // explicit_constructor_invocation ::= SUPER LPAREN argument_list_opt RPAREN SEMICOLON 
+            {
+              ConstructorCall RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token c = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                          RESULT = parser.nf.SuperCall(parser.pos(a, c), b); 
+                                                          
+              CUP$Grm$result = new java_cup.runtime.Symbol(58/*explicit_constructor_invocation*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 133: // explicit_constructor_invocation ::= THIS LPAREN argument_list_opt RPAREN SEMICOLON 
+            {
+              ConstructorCall RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token c = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                         RESULT = parser.nf.ThisCall(parser.pos(a, c), b); 
+                                                         
+              CUP$Grm$result = new java_cup.runtime.Symbol(58/*explicit_constructor_invocation*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 132: // constructor_body ::= LBRACE block_statements RBRACE 
+            {
+              Block RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                         RESULT = parser.nf.Block(parser.pos(n, d), a); 
+                                         
+              CUP$Grm$result = new java_cup.runtime.Symbol(57/*constructor_body*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 131: // constructor_body ::= LBRACE RBRACE 
+            {
+              Block RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                      RESULT = parser.nf.Block(parser.pos(n, d),
+                parser.nf.SuperCall(parser.pos(n, d),
+                Collections.EMPTY_LIST)); 
+                      
+              CUP$Grm$result = new java_cup.runtime.Symbol(57/*constructor_body*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 130: // constructor_declaration ::= modifiers_opt simple_name LPAREN formal_parameter_list_opt RPAREN throws_opt constructor_body 
+            {
+              ConstructorDecl RESULT = null;
+		int mleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int mright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		FlagsNode m = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block d = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                                                            RESULT = parser.nf.ConstructorDecl(parser.pos(a, d), m, parser.nf.Id(parser.pos(a), a.toString()), b,
+                c, d); 
+                                                                                                            
+              CUP$Grm$result = new java_cup.runtime.Symbol(56/*constructor_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 129: // static_initializer ::= STATIC block 
+            {
+              Initializer RESULT = null;
+		int xleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int xright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token x = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block a = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                     RESULT = parser.nf.Initializer(parser.pos(x,a), parser.nf.FlagsNode(parser.pos(x), Flags.STATIC), a); 
+                     
+              CUP$Grm$result = new java_cup.runtime.Symbol(55/*static_initializer*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 128: // method_body ::= SEMICOLON 
+            {
+              Block RESULT = null;
+		  RESULT = null;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(54/*method_body*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 127: // method_body ::= block 
+            {
+              Block RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block a = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(54/*method_body*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 126: // class_type_list ::= COMMA_LIST 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		QQListToken a = (QQListToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a.list();  
+              CUP$Grm$result = new java_cup.runtime.Symbol(53/*class_type_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 125: // class_type_list ::= class_type_list COMMA class_type 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode b = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                         RESULT = a;
+               a.add(b); 
+                                         
+              CUP$Grm$result = new java_cup.runtime.Symbol(53/*class_type_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 124: // class_type_list ::= class_type 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                 List l = new TypedList(new LinkedList(), TypeNode.class, false);
+               l.add(a);
+               RESULT = l; 
+                 
+              CUP$Grm$result = new java_cup.runtime.Symbol(53/*class_type_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 123: // throws ::= COMMA_LIST 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		QQListToken a = (QQListToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a.list();  
+              CUP$Grm$result = new java_cup.runtime.Symbol(52/*throws*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 122: // throws ::= THROWS class_type_list 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(52/*throws*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 121: // throws_opt ::= throws 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(51/*throws_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 120: // throws_opt ::= 
+            {
+              List RESULT = null;
+		  RESULT = new TypedList(new LinkedList(), TypeNode.class, false);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(51/*throws_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 119: // formal_parameter ::= COMMA_FORM 
+            {
+              Formal RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		QQNodeToken a = (QQNodeToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = (Formal) a.node();  
+              CUP$Grm$result = new java_cup.runtime.Symbol(50/*formal_parameter*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 118: // formal_parameter ::= FINAL type variable_declarator_id 
+            {
+              Formal RESULT = null;
+		int xleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int xright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token x = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		VarDeclarator b = (VarDeclarator)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                            RESULT = parser.nf.Formal(parser.pos(a, b, b), parser.nf.FlagsNode(parser.pos(x), Flags.FINAL),
+                     parser.array(a, b.dims), b.name); 
+                                            
+              CUP$Grm$result = new java_cup.runtime.Symbol(50/*formal_parameter*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 117: // formal_parameter ::= type variable_declarator_id 
+            {
+              Formal RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		VarDeclarator b = (VarDeclarator)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                    RESULT = parser.nf.Formal(parser.pos(a, b, b), parser.nf.FlagsNode(parser.pos(a), Flags.NONE),
+                                         parser.array(a, b.dims), b.name); 
+                                    
+              CUP$Grm$result = new java_cup.runtime.Symbol(50/*formal_parameter*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 116: // formal_parameter_list ::= COMMA_LIST 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		QQListToken a = (QQListToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a.list();  
+              CUP$Grm$result = new java_cup.runtime.Symbol(49/*formal_parameter_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 115: // formal_parameter_list ::= formal_parameter_list COMMA formal_parameter 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Formal b = (Formal)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                     RESULT = a;
+               a.add(b); 
+                                                     
+              CUP$Grm$result = new java_cup.runtime.Symbol(49/*formal_parameter_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 114: // formal_parameter_list ::= formal_parameter 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Formal a = (Formal)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                       List l = new TypedList(new LinkedList(), Formal.class, false);
+               l.add(a);
+               RESULT = l; 
+                       
+              CUP$Grm$result = new java_cup.runtime.Symbol(49/*formal_parameter_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 113: // formal_parameter_list_opt ::= formal_parameter_list 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(48/*formal_parameter_list_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 112: // formal_parameter_list_opt ::= 
+            {
+              List RESULT = null;
+		  RESULT = new TypedList(new LinkedList(), Formal.class, false);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(48/*formal_parameter_list_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 111: // method_header ::= modifiers_opt VOID identifier LPAREN formal_parameter_list_opt RPAREN throws_opt 
+            {
+              MethodDecl RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		FlagsNode a = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Id c = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List d = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int gleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int gright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token g = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int fleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List f = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                                                 RESULT = parser.nf.MethodDecl(parser.pos(b, g, c), a,
+                parser.nf.CanonicalTypeNode(parser.pos(b),
+                parser.ts.Void()), c, d, f, null); 
+                                                                                                 
+              CUP$Grm$result = new java_cup.runtime.Symbol(47/*method_header*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 110: // method_header ::= modifiers_opt type identifier LPAREN formal_parameter_list_opt RPAREN dims_opt throws_opt 
+            {
+              MethodDecl RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).right;
+		FlagsNode a = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-7)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		TypeNode b = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		Id c = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		List d = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int gleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int gright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token g = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Integer e = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int fleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List f = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                                                            RESULT = parser.nf.MethodDecl(parser.pos(b, g, c), a,
+                parser.array(b, e.intValue()), c,
+                d, f, null); 
+                                                                                                            
+              CUP$Grm$result = new java_cup.runtime.Symbol(47/*method_header*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 109: // method_declaration ::= method_header method_body 
+            {
+              MethodDecl RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		MethodDecl a = (MethodDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block b = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = (MethodDecl) a.body(b);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(46/*method_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 108: // variable_initializer ::= array_initializer 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ArrayInit a = (ArrayInit)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(45/*variable_initializer*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 107: // variable_initializer ::= expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(45/*variable_initializer*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 106: // variable_declarator_id ::= variable_declarator_id LBRACK RBRACK 
+            {
+              VarDeclarator RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		VarDeclarator a = (VarDeclarator)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		
+                                           RESULT = a;
+               a.dims++; 
+                                           
+              CUP$Grm$result = new java_cup.runtime.Symbol(44/*variable_declarator_id*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 105: // variable_declarator_id ::= identifier 
+            {
+              VarDeclarator RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Id a = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = new VarDeclarator(parser.pos(a), a);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(44/*variable_declarator_id*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 104: // variable_declarator ::= variable_declarator_id EQ variable_initializer 
+            {
+              VarDeclarator RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		VarDeclarator a = (VarDeclarator)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                       RESULT = a;
+               a.init = b; 
+                                                       
+              CUP$Grm$result = new java_cup.runtime.Symbol(43/*variable_declarator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 103: // variable_declarator ::= variable_declarator_id 
+            {
+              VarDeclarator RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		VarDeclarator a = (VarDeclarator)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(43/*variable_declarator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 102: // variable_declarators ::= variable_declarators COMMA variable_declarator 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		VarDeclarator b = (VarDeclarator)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                       RESULT = a;
+               a.add(b); 
+                                                       
+              CUP$Grm$result = new java_cup.runtime.Symbol(42/*variable_declarators*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 101: // variable_declarators ::= variable_declarator 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		VarDeclarator a = (VarDeclarator)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                          List l = new TypedList(new LinkedList(), VarDeclarator.class, false);
+               l.add(a);
+               RESULT = l; 
+                          
+              CUP$Grm$result = new java_cup.runtime.Symbol(42/*variable_declarators*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 100: // field_declaration ::= modifiers_opt type variable_declarators SEMICOLON 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		FlagsNode a = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		TypeNode b = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token e = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                              List l = new TypedList(new LinkedList(), ClassMember.class, false);
+               for (Iterator i = c.iterator(); i.hasNext(); ) {
+                   VarDeclarator d = (VarDeclarator) i.next();
+                   l.add(parser.nf.FieldDecl(parser.pos(b, e),
+                                             a, parser.array(b, d.dims),
+                                             d.name, d.init));
+               }
+               RESULT = l; 
+                                                              
+              CUP$Grm$result = new java_cup.runtime.Symbol(41/*field_declaration*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          default:
+            {
+              throw new Exception(
+                 "Invalid action number found in internal parse table");
+            }
+
+        }
+    }
+
+  /** Method with the actual generated action code. */
+  public final java_cup.runtime.Symbol CUP$Grm$do_action_200(
+    int                        CUP$Grm$act_num,
+    java_cup.runtime.lr_parser CUP$Grm$parser,
+    java.util.Stack            CUP$Grm$stack,
+    int                        CUP$Grm$top)
+    throws java.lang.Exception
+    {
+      /* Symbol object for return from actions */
+      java_cup.runtime.Symbol CUP$Grm$result;
+
+      /* select the action based on the action number */
+      switch (CUP$Grm$act_num)
+        {
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 299: // field_access ::= COMMA_TYPE DOT identifier 
+            {
+              Field RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		QQNodeToken a = (QQNodeToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                  RESULT = parser.nf.Field(parser.pos(a, b, b), (TypeNode)a.node(), b); 
+                                  
+              CUP$Grm$result = new java_cup.runtime.Symbol(126/*field_access*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 298: // field_access ::= name DOT SUPER DOT identifier 
+            {
+              Field RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                        RESULT = parser.nf.Field(parser.pos(b),
+                parser.nf.Super(parser.pos(n), a.toType()),
+                b); 
+                                        
+              CUP$Grm$result = new java_cup.runtime.Symbol(126/*field_access*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 297: // field_access ::= SUPER DOT identifier 
+            {
+              Field RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Id a = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                             RESULT = parser.nf.Field(parser.pos(a),
+                parser.nf.Super(parser.pos(n)),
+                a); 
+                             
+              CUP$Grm$result = new java_cup.runtime.Symbol(126/*field_access*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 296: // field_access ::= primary DOT identifier 
+            {
+              Field RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                               RESULT = parser.nf.Field(parser.pos(a, b, b), a,
+                b); 
+                               
+              CUP$Grm$result = new java_cup.runtime.Symbol(126/*field_access*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 295: // dims ::= dims LBRACK RBRACK 
+            {
+              Integer RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Integer a = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		  RESULT = new Integer(a.intValue() + 1);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(125/*dims*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 294: // dims ::= LBRACK RBRACK 
+            {
+              Integer RESULT = null;
+		  RESULT = new Integer(1);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(125/*dims*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 293: // dims_opt ::= dims 
+            {
+              Integer RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Integer a = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(124/*dims_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 292: // dims_opt ::= 
+            {
+              Integer RESULT = null;
+		  RESULT = new Integer(0);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(124/*dims_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 291: // dim_expr ::= LBRACK expression RBRACK 
+            {
+              Expr RESULT = null;
+		int xleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int xright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token x = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int yleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int yright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token y = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                   RESULT = (Expr)a.position(parser.pos(x,y,a)); 
+                                   
+              CUP$Grm$result = new java_cup.runtime.Symbol(123/*dim_expr*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 290: // dim_exprs ::= dim_exprs dim_expr 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;
+               a.add(b);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(122/*dim_exprs*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 289: // dim_exprs ::= dim_expr 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+               List l = new TypedList(new LinkedList(), Expr.class, false);
+               l.add(a);
+               RESULT = l; 
+               
+              CUP$Grm$result = new java_cup.runtime.Symbol(122/*dim_exprs*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 288: // array_creation_expression ::= NEW class_or_interface_type dims array_initializer 
+            {
+              NewArray RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Integer b = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ArrayInit c = (ArrayInit)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                               RESULT = parser.nf.NewArray(parser.pos(n, c), a,
+                b.intValue(), c); 
+                                                               
+              CUP$Grm$result = new java_cup.runtime.Symbol(121/*array_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 287: // array_creation_expression ::= NEW primitive_type dims array_initializer 
+            {
+              NewArray RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Integer b = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ArrayInit c = (ArrayInit)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                      RESULT = parser.nf.NewArray(parser.pos(n, c), a,
+                b.intValue(), c); 
+                                                      
+              CUP$Grm$result = new java_cup.runtime.Symbol(121/*array_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 286: // array_creation_expression ::= NEW class_or_interface_type dim_exprs dims_opt 
+            {
+              NewArray RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Integer c = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                           RESULT = parser.nf.NewArray(parser.pos(n, b), a, b, 
+                c.intValue()); 
+                                                           
+              CUP$Grm$result = new java_cup.runtime.Symbol(121/*array_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 285: // array_creation_expression ::= NEW primitive_type dim_exprs dims_opt 
+            {
+              NewArray RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Integer c = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                  RESULT = parser.nf.NewArray(parser.pos(n, b), a, b,
+                c.intValue()); 
+                                                  
+              CUP$Grm$result = new java_cup.runtime.Symbol(121/*array_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 284: // argument_list ::= COMMA_LIST 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		QQListToken a = (QQListToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a.list();  
+              CUP$Grm$result = new java_cup.runtime.Symbol(120/*argument_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 283: // argument_list ::= argument_list COMMA expression 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                       RESULT = a;
+               a.add(b); 
+                                       
+              CUP$Grm$result = new java_cup.runtime.Symbol(120/*argument_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 282: // argument_list ::= expression 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                 List l = new TypedList(new LinkedList(), Expr.class, false);
+               l.add(a);
+               RESULT = l; 
+                 
+              CUP$Grm$result = new java_cup.runtime.Symbol(120/*argument_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 281: // argument_list_opt ::= argument_list 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(119/*argument_list_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 280: // argument_list_opt ::= 
+            {
+              List RESULT = null;
+		  RESULT = new TypedList(new LinkedList(), Expr.class, false);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(119/*argument_list_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 279: // class_instance_creation_expression ::= name DOT NEW simple_name LPAREN argument_list_opt RPAREN class_body 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-7)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		ParsedName b = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassBody d = (ClassBody)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                                RESULT = parser.nf.New(parser.pos(a, d), a.toExpr(),
+				      b.toType(), c, d); 
+                                                                                
+              CUP$Grm$result = new java_cup.runtime.Symbol(118/*class_instance_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 278: // class_instance_creation_expression ::= name DOT NEW simple_name LPAREN argument_list_opt RPAREN 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		ParsedName b = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                     RESULT = parser.nf.New(parser.pos(a, d), a.toExpr(),
+				      b.toType(), c); 
+                                                                     
+              CUP$Grm$result = new java_cup.runtime.Symbol(118/*class_instance_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 277: // class_instance_creation_expression ::= primary DOT NEW simple_name LPAREN argument_list_opt RPAREN class_body 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-7)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		ParsedName b = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassBody d = (ClassBody)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                                   RESULT = parser.nf.New(parser.pos(a, d), a,
+				      b.toType(), c, d); 
+                                                                                   
+              CUP$Grm$result = new java_cup.runtime.Symbol(118/*class_instance_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 276: // class_instance_creation_expression ::= primary DOT NEW simple_name LPAREN argument_list_opt RPAREN 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		ParsedName b = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                        RESULT = parser.nf.New(parser.pos(a, d), a,
+				      b.toType(), c); 
+                                                                        
+              CUP$Grm$result = new java_cup.runtime.Symbol(118/*class_instance_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 275: // class_instance_creation_expression ::= NEW class_type LPAREN argument_list_opt RPAREN class_body 
+            {
+              Expr RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassBody c = (ClassBody)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                      RESULT = parser.nf.New(parser.pos(n, c), a, b, c); 
+                                                                      
+              CUP$Grm$result = new java_cup.runtime.Symbol(118/*class_instance_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 274: // class_instance_creation_expression ::= NEW class_type LPAREN argument_list_opt RPAREN 
+            {
+              Expr RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                           RESULT = parser.nf.New(parser.pos(n, d), a, b); 
+                                                           
+              CUP$Grm$result = new java_cup.runtime.Symbol(118/*class_instance_creation_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 273: // primary_no_new_array ::= COMMA_EXPR 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		QQNodeToken a = (QQNodeToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = (Expr) a.node();  
+              CUP$Grm$result = new java_cup.runtime.Symbol(117/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 272: // primary_no_new_array ::= name DOT THIS 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                      RESULT = parser.nf.This(parser.pos(a, n, n), a.toType()); 
+                      
+              CUP$Grm$result = new java_cup.runtime.Symbol(117/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 271: // primary_no_new_array ::= name DOT CLASS 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                       RESULT = parser.nf.ClassLit(parser.pos(a, n, n), a.toType()); 
+                       
+              CUP$Grm$result = new java_cup.runtime.Symbol(117/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 270: // primary_no_new_array ::= array_type DOT CLASS 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                             RESULT = parser.nf.ClassLit(parser.pos(a, n, n), a); 
+                             
+              CUP$Grm$result = new java_cup.runtime.Symbol(117/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 269: // primary_no_new_array ::= VOID DOT CLASS 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                       RESULT = parser.nf.ClassLit(parser.pos(a, n, n), 
+                parser.nf.CanonicalTypeNode(parser.pos(a),
+                                            parser.ts.Void())); 
+                       
+              CUP$Grm$result = new java_cup.runtime.Symbol(117/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 268: // primary_no_new_array ::= primitive_type DOT CLASS 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                 RESULT = parser.nf.ClassLit(parser.pos(a, n, n), a); 
+                                 
+              CUP$Grm$result = new java_cup.runtime.Symbol(117/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 267: // primary_no_new_array ::= array_access 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ArrayAccess a = (ArrayAccess)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(117/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 266: // primary_no_new_array ::= method_invocation 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Call a = (Call)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(117/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 265: // primary_no_new_array ::= field_access 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Field a = (Field)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(117/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 264: // primary_no_new_array ::= class_instance_creation_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(117/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 263: // primary_no_new_array ::= LPAREN expression RPAREN 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(117/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 262: // primary_no_new_array ::= THIS 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = parser.nf.This(parser.pos(a));  
+              CUP$Grm$result = new java_cup.runtime.Symbol(117/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 261: // primary_no_new_array ::= literal 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.ast.Lit a = (polyglot.ast.Lit)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(117/*primary_no_new_array*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 260: // primary ::= array_creation_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		NewArray a = (NewArray)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(116/*primary*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 259: // primary ::= primary_no_new_array 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(116/*primary*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 258: // assert_statement ::= ASSERT expression COLON expression SEMICOLON 
+            {
+              Assert RESULT = null;
+		int xleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int xright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token x = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                         RESULT = parser.nf.Assert(parser.pos(x, d), a, b); 
+                                                         
+              CUP$Grm$result = new java_cup.runtime.Symbol(115/*assert_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 257: // assert_statement ::= ASSERT expression SEMICOLON 
+            {
+              Assert RESULT = null;
+		int xleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int xright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token x = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                      RESULT = parser.nf.Assert(parser.pos(x, d), a); 
+                                      
+              CUP$Grm$result = new java_cup.runtime.Symbol(115/*assert_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 256: // finally ::= FINALLY block 
+            {
+              Block RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block a = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(114/*finally*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 255: // catch_clause ::= CATCH LPAREN formal_parameter RPAREN block 
+            {
+              Catch RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Formal a = (Formal)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block b = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                     RESULT = parser.nf.Catch(parser.pos(n, b), a, b); 
+                                                     
+              CUP$Grm$result = new java_cup.runtime.Symbol(113/*catch_clause*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 254: // catches ::= catches catch_clause 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Catch b = (Catch)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;
+               a.add(b);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(112/*catches*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 253: // catches ::= catch_clause 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Catch a = (Catch)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                   List l = new TypedList(new LinkedList(), Catch.class, false);
+               l.add(a);
+               RESULT = l; 
+                   
+              CUP$Grm$result = new java_cup.runtime.Symbol(112/*catches*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 252: // catches_opt ::= catches 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(111/*catches_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 251: // catches_opt ::= 
+            {
+              List RESULT = null;
+		  RESULT = new TypedList(new LinkedList(), Catch.class, false);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(111/*catches_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 250: // try_statement ::= TRY block catches_opt finally 
+            {
+              Try RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Block a = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block c = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                          RESULT = parser.nf.Try(parser.pos(n, c), a, b, c); 
+                                          
+              CUP$Grm$result = new java_cup.runtime.Symbol(110/*try_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 249: // try_statement ::= TRY block catches 
+            {
+              Try RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Block a = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                            RESULT = parser.nf.Try(parser.pos(n, b), a, b); 
+                            
+              CUP$Grm$result = new java_cup.runtime.Symbol(110/*try_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 248: // synchronized_statement ::= SYNCHRONIZED LPAREN expression RPAREN block 
+            {
+              Synchronized RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Block b = (Block)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                      RESULT = parser.nf.Synchronized(parser.pos(n, b), a, b); 
+                                                      
+              CUP$Grm$result = new java_cup.runtime.Symbol(109/*synchronized_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 247: // throw_statement ::= THROW expression SEMICOLON 
+            {
+              Throw RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                     RESULT = parser.nf.Throw(parser.pos(n, d), a); 
+                                     
+              CUP$Grm$result = new java_cup.runtime.Symbol(108/*throw_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 246: // return_statement ::= RETURN expression_opt SEMICOLON 
+            {
+              Return RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                          RESULT = parser.nf.Return(parser.pos(n, d), a); 
+                                          
+              CUP$Grm$result = new java_cup.runtime.Symbol(107/*return_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 245: // continue_statement ::= CONTINUE identifier_opt SEMICOLON 
+            {
+              Branch RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Id a = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                            if (a == null)
+                   RESULT = parser.nf.Continue(parser.pos(n, d));
+               else
+                   RESULT = parser.nf.Continue(parser.pos(n, d), a); 
+                                            
+              CUP$Grm$result = new java_cup.runtime.Symbol(106/*continue_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 244: // break_statement ::= BREAK identifier_opt SEMICOLON 
+            {
+              Branch RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Id a = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                         if (a == null)
+                   RESULT = parser.nf.Break(parser.pos(n, d));
+               else
+                   RESULT = parser.nf.Break(parser.pos(n, d), a); 
+                                         
+              CUP$Grm$result = new java_cup.runtime.Symbol(105/*break_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 243: // identifier_opt ::= identifier 
+            {
+              Id RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Id a = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(103/*identifier_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 242: // identifier_opt ::= 
+            {
+              Id RESULT = null;
+		  RESULT = null;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(103/*identifier_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 241: // statement_expression_list ::= statement_expression_list COMMA statement_expression 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                             RESULT = a;
+               a.add(parser.nf.Eval(parser.pos(a, b, b), b)); 
+                                                             
+              CUP$Grm$result = new java_cup.runtime.Symbol(102/*statement_expression_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 240: // statement_expression_list ::= statement_expression 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                           List l = new TypedList(new LinkedList(), Eval.class, false);
+               l.add(parser.nf.Eval(parser.pos(a), a));
+               RESULT = l; 
+                           
+              CUP$Grm$result = new java_cup.runtime.Symbol(102/*statement_expression_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 239: // for_update ::= statement_expression_list 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(101/*for_update*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 238: // for_update_opt ::= for_update 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(100/*for_update_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 237: // for_update_opt ::= 
+            {
+              List RESULT = null;
+		  RESULT = new TypedList(new LinkedList(), ForUpdate.class, false);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(100/*for_update_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 236: // for_init ::= local_variable_declaration 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                 List l = new TypedList(new LinkedList(), ForInit.class, false);
+               l.addAll(a);
+               RESULT = l; 
+                                 
+              CUP$Grm$result = new java_cup.runtime.Symbol(99/*for_init*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 235: // for_init ::= statement_expression_list 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(99/*for_init*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 234: // for_init_opt ::= for_init 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(98/*for_init_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 233: // for_init_opt ::= 
+            {
+              List RESULT = null;
+		  RESULT = new TypedList(new LinkedList(), ForInit.class, false);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(98/*for_init_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 232: // for_statement_no_short_if ::= FOR LPAREN for_init_opt SEMICOLON expression_opt SEMICOLON for_update_opt RPAREN statement_no_short_if 
+            {
+              For RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-8)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-8)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-8)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token e = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt d = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                                                                       RESULT = parser.nf.For(parser.pos(n, e), a, b, c, d); 
+                                                                                                                       
+              CUP$Grm$result = new java_cup.runtime.Symbol(97/*for_statement_no_short_if*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-8)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 231: // for_statement ::= FOR LPAREN for_init_opt SEMICOLON expression_opt SEMICOLON for_update_opt RPAREN statement 
+            {
+              For RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-8)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-8)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-8)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token e = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt d = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                                                           RESULT = parser.nf.For(parser.pos(n, e), a, b, c, d); 
+                                                                                                           
+              CUP$Grm$result = new java_cup.runtime.Symbol(96/*for_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-8)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 230: // do_statement ::= DO statement WHILE LPAREN expression RPAREN SEMICOLON 
+            {
+              Do RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		Stmt a = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                  RESULT = parser.nf.Do(parser.pos(n, d), a, b); 
+                                                                  
+              CUP$Grm$result = new java_cup.runtime.Symbol(95/*do_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 229: // while_statement_no_short_if ::= WHILE LPAREN expression RPAREN statement_no_short_if 
+            {
+              While RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt b = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                               RESULT = parser.nf.While(parser.pos(n, b), a, b); 
+                                                               
+              CUP$Grm$result = new java_cup.runtime.Symbol(94/*while_statement_no_short_if*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 228: // while_statement ::= WHILE LPAREN expression RPAREN statement 
+            {
+              While RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt b = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                   RESULT = parser.nf.While(parser.pos(n, b), a, b); 
+                                                   
+              CUP$Grm$result = new java_cup.runtime.Symbol(93/*while_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 227: // switch_label ::= DEFAULT COLON 
+            {
+              Case RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = parser.nf.Default(parser.pos(n, d));  
+              CUP$Grm$result = new java_cup.runtime.Symbol(92/*switch_label*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 226: // switch_label ::= CASE constant_expression COLON 
+            {
+              Case RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                         RESULT = parser.nf.Case(parser.pos(n, d), a); 
+                                         
+              CUP$Grm$result = new java_cup.runtime.Symbol(92/*switch_label*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 225: // switch_labels ::= switch_labels switch_label 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Case b = (Case)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;
+               a.add(b);  
+              CUP$Grm$result = new java_cup.runtime.Symbol(91/*switch_labels*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 224: // switch_labels ::= switch_label 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Case a = (Case)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                   List l = new TypedList(new LinkedList(), Case.class, false);
+               l.add(a);
+               RESULT = l; 
+                   
+              CUP$Grm$result = new java_cup.runtime.Symbol(91/*switch_labels*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 223: // switch_block_statement_group ::= switch_labels block_statements 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                       List l = new TypedList(new LinkedList(), SwitchElement.class, false);
+               l.addAll(a); 
+               l.add(parser.nf.SwitchBlock(parser.pos(a, b), b));
+               RESULT = l; 
+                                       
+              CUP$Grm$result = new java_cup.runtime.Symbol(90/*switch_block_statement_group*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 222: // switch_block_statement_groups ::= COMMA_LIST 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		QQListToken a = (QQListToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a.list();  
+              CUP$Grm$result = new java_cup.runtime.Symbol(89/*switch_block_statement_groups*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 221: // switch_block_statement_groups ::= switch_block_statement_groups switch_block_statement_group 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                   RESULT = a;
+               a.addAll(b); 
+                                                                   
+              CUP$Grm$result = new java_cup.runtime.Symbol(89/*switch_block_statement_groups*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 220: // switch_block_statement_groups ::= switch_block_statement_group 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(89/*switch_block_statement_groups*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 219: // switch_block ::= LBRACE RBRACE 
+            {
+              List RESULT = null;
+		
+                  RESULT = new TypedList(new LinkedList(), SwitchElement.class, false); 
+                  
+              CUP$Grm$result = new java_cup.runtime.Symbol(88/*switch_block*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 218: // switch_block ::= LBRACE switch_labels RBRACE 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(88/*switch_block*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 217: // switch_block ::= LBRACE switch_block_statement_groups RBRACE 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(88/*switch_block*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 216: // switch_block ::= LBRACE switch_block_statement_groups switch_labels RBRACE 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		
+                                                                  RESULT = a;
+               a.addAll(b); 
+                                                                  
+              CUP$Grm$result = new java_cup.runtime.Symbol(88/*switch_block*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 215: // switch_statement ::= SWITCH LPAREN expression RPAREN switch_block 
+            {
+              Switch RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int rprnleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int rprnright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token rprn = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                            
+               Position endpos = parser.pos(n, b);
+               if (endpos == null) endpos = parser.pos(n, rprn);
+               RESULT = parser.nf.Switch(endpos, a, b); 
+            
+                                                            
+              CUP$Grm$result = new java_cup.runtime.Symbol(87/*switch_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 214: // if_then_else_statement_no_short_if ::= IF LPAREN expression RPAREN statement_no_short_if ELSE statement_no_short_if 
+            {
+              If RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Stmt b = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt c = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                                         RESULT = parser.nf.If(parser.pos(n, c), a, b, c); 
+                                                                                         
+              CUP$Grm$result = new java_cup.runtime.Symbol(86/*if_then_else_statement_no_short_if*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 213: // if_then_else_statement ::= IF LPAREN expression RPAREN statement_no_short_if ELSE statement 
+            {
+              If RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-6)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Stmt b = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt c = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                             RESULT = parser.nf.If(parser.pos(n, c), a, b, c); 
+                                                                             
+              CUP$Grm$result = new java_cup.runtime.Symbol(85/*if_then_else_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-6)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 212: // if_then_statement ::= IF LPAREN expression RPAREN statement 
+            {
+              If RESULT = null;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt b = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                RESULT = parser.nf.If(parser.pos(n, b), a, b); 
+                                                
+              CUP$Grm$result = new java_cup.runtime.Symbol(84/*if_then_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 211: // statement_expression ::= COMMA_EXPR 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		QQNodeToken a = (QQNodeToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = (Expr) a.node();  
+              CUP$Grm$result = new java_cup.runtime.Symbol(83/*statement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 210: // statement_expression ::= class_instance_creation_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(83/*statement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 209: // statement_expression ::= method_invocation 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Call a = (Call)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(83/*statement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 208: // statement_expression ::= postdecrement_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Unary a = (Unary)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(83/*statement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 207: // statement_expression ::= postincrement_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Unary a = (Unary)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(83/*statement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 206: // statement_expression ::= predecrement_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Unary a = (Unary)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(83/*statement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 205: // statement_expression ::= preincrement_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Unary a = (Unary)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(83/*statement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 204: // statement_expression ::= assignment 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(83/*statement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 203: // expression_statement ::= statement_expression SEMICOLON 
+            {
+              Stmt RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                       RESULT = parser.nf.Eval(parser.pos(a, d), a); 
+                                       
+              CUP$Grm$result = new java_cup.runtime.Symbol(82/*expression_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 202: // labeled_statement_no_short_if ::= identifier COLON statement_no_short_if 
+            {
+              Labeled RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Id a = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt b = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                               RESULT = parser.nf.Labeled(parser.pos(a, b),
+                                      a, b); 
+                                               
+              CUP$Grm$result = new java_cup.runtime.Symbol(81/*labeled_statement_no_short_if*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 201: // labeled_statement ::= identifier COLON statement 
+            {
+              Labeled RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Id a = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Stmt b = (Stmt)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                   RESULT = parser.nf.Labeled(parser.pos(a, b),
+                                      a, b); 
+                                   
+              CUP$Grm$result = new java_cup.runtime.Symbol(80/*labeled_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 200: // empty_statement ::= SEMICOLON 
+            {
+              Empty RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = parser.nf.Empty(parser.pos(a));  
+              CUP$Grm$result = new java_cup.runtime.Symbol(79/*empty_statement*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          default:
+            {
+              throw new Exception(
+                 "Invalid action number found in internal parse table");
+            }
+
+        }
+    }
+
+  /** Method with the actual generated action code. */
+  public final java_cup.runtime.Symbol CUP$Grm$do_action_300(
+    int                        CUP$Grm$act_num,
+    java_cup.runtime.lr_parser CUP$Grm$parser,
+    java.util.Stack            CUP$Grm$stack,
+    int                        CUP$Grm$top)
+    throws java.lang.Exception
+    {
+      /* Symbol object for return from actions */
+      java_cup.runtime.Symbol CUP$Grm$result;
+
+      /* select the action based on the action number */
+      switch (CUP$Grm$act_num)
+        {
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 398: // qq_member ::= constructor_declaration 
+            {
+              Node RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ConstructorDecl a = (ConstructorDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(160/*qq_member*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 397: // qq_member ::= modifiers_opt type variable_declarator SEMICOLON 
+            {
+              Node RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		FlagsNode a = (FlagsNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		TypeNode b = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		VarDeclarator d = (VarDeclarator)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		
+                                                           RESULT = parser.nf.FieldDecl(parser.pos(b), 
+					    a, parser.array(b, d.dims),
+					    d.name, d.init); 
+                                                           
+              CUP$Grm$result = new java_cup.runtime.Symbol(160/*qq_member*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 396: // qq_member ::= method_declaration 
+            {
+              Node RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		MethodDecl a = (MethodDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(160/*qq_member*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 395: // qq_file ::= compilation_unit 
+            {
+              Node RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		SourceFile a = (SourceFile)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(159/*qq_file*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 394: // qq_decl ::= type_declaration 
+            {
+              Node RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ClassDecl a = (ClassDecl)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(158/*qq_decl*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 393: // qq_type ::= type 
+            {
+              Node RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(157/*qq_type*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 392: // qq_stmt ::= block_statement 
+            {
+              Node RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                      if (a.size() == 1) {
+                RESULT = (Stmt) a.get(0);
+               }
+               else {
+                RESULT = parser.nf.Block(parser.pos(a), a);
+               }
+            
+                      
+              CUP$Grm$result = new java_cup.runtime.Symbol(156/*qq_stmt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 391: // qq_expr ::= expression 
+            {
+              Node RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(155/*qq_expr*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 390: // multi_start_symbool ::= JLGEN_TOKEN_5 qq_member 
+            {
+              Object RESULT = null;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Node s = (Node)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = s; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(161/*multi_start_symbool*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 389: // multi_start_symbool ::= JLGEN_TOKEN_4 qq_file 
+            {
+              Object RESULT = null;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Node s = (Node)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = s; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(161/*multi_start_symbool*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 388: // multi_start_symbool ::= JLGEN_TOKEN_3 qq_decl 
+            {
+              Object RESULT = null;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Node s = (Node)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = s; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(161/*multi_start_symbool*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 387: // multi_start_symbool ::= JLGEN_TOKEN_2 qq_type 
+            {
+              Object RESULT = null;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Node s = (Node)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = s; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(161/*multi_start_symbool*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 386: // multi_start_symbool ::= JLGEN_TOKEN_1 qq_stmt 
+            {
+              Object RESULT = null;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Node s = (Node)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = s; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(161/*multi_start_symbool*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 385: // multi_start_symbool ::= JLGEN_TOKEN_0 qq_expr 
+            {
+              Object RESULT = null;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Node s = (Node)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = s; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(161/*multi_start_symbool*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 384: // identifier ::= IDENTIFIER 
+            {
+              Id RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Identifier a = (Identifier)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                 RESULT = parser.nf.Id(parser.pos(a), a.getIdentifier()); 
+                 
+              CUP$Grm$result = new java_cup.runtime.Symbol(104/*identifier*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 383: // constant_expression ::= expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(154/*constant_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 382: // expression ::= assignment_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(153/*expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 381: // expression_opt ::= expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(152/*expression_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 380: // expression_opt ::= 
+            {
+              Expr RESULT = null;
+		  RESULT = null;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(152/*expression_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 379: // assignment_operator ::= OREQ 
+            {
+              Assign.Operator RESULT = null;
+		  RESULT = Assign.BIT_OR_ASSIGN;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(151/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 378: // assignment_operator ::= XOREQ 
+            {
+              Assign.Operator RESULT = null;
+		  RESULT = Assign.BIT_XOR_ASSIGN;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(151/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 377: // assignment_operator ::= ANDEQ 
+            {
+              Assign.Operator RESULT = null;
+		  RESULT = Assign.BIT_AND_ASSIGN;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(151/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 376: // assignment_operator ::= URSHIFTEQ 
+            {
+              Assign.Operator RESULT = null;
+		  RESULT = Assign.USHR_ASSIGN;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(151/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 375: // assignment_operator ::= RSHIFTEQ 
+            {
+              Assign.Operator RESULT = null;
+		  RESULT = Assign.SHR_ASSIGN;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(151/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 374: // assignment_operator ::= LSHIFTEQ 
+            {
+              Assign.Operator RESULT = null;
+		  RESULT = Assign.SHL_ASSIGN;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(151/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 373: // assignment_operator ::= MINUSEQ 
+            {
+              Assign.Operator RESULT = null;
+		  RESULT = Assign.SUB_ASSIGN;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(151/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 372: // assignment_operator ::= PLUSEQ 
+            {
+              Assign.Operator RESULT = null;
+		  RESULT = Assign.ADD_ASSIGN;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(151/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 371: // assignment_operator ::= MODEQ 
+            {
+              Assign.Operator RESULT = null;
+		  RESULT = Assign.MOD_ASSIGN;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(151/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 370: // assignment_operator ::= DIVEQ 
+            {
+              Assign.Operator RESULT = null;
+		  RESULT = Assign.DIV_ASSIGN;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(151/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 369: // assignment_operator ::= MULTEQ 
+            {
+              Assign.Operator RESULT = null;
+		  RESULT = Assign.MUL_ASSIGN;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(151/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 368: // assignment_operator ::= EQ 
+            {
+              Assign.Operator RESULT = null;
+		  RESULT = Assign.ASSIGN;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(151/*assignment_operator*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 367: // left_hand_side ::= COMMA_EXPR 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		QQNodeToken a = (QQNodeToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = (Expr) a.node();  
+              CUP$Grm$result = new java_cup.runtime.Symbol(150/*left_hand_side*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 366: // left_hand_side ::= array_access 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ArrayAccess a = (ArrayAccess)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(150/*left_hand_side*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 365: // left_hand_side ::= field_access 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Field a = (Field)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(150/*left_hand_side*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 364: // left_hand_side ::= name 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a.toExpr();  
+              CUP$Grm$result = new java_cup.runtime.Symbol(150/*left_hand_side*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 363: // assignment ::= left_hand_side assignment_operator assignment_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Assign.Operator b = (Assign.Operator)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr c = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                   RESULT = parser.nf.Assign(parser.pos(a, c), a, b, c); 
+                                                                   
+              CUP$Grm$result = new java_cup.runtime.Symbol(149/*assignment*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 362: // assignment_expression ::= assignment 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(148/*assignment_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 361: // assignment_expression ::= conditional_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(148/*assignment_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 360: // conditional_expression ::= conditional_or_expression QUESTION expression COLON conditional_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr c = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                                     RESULT = parser.nf.Conditional(parser.pos(a, c), a, 
+                b, c); 
+                                                                                     
+              CUP$Grm$result = new java_cup.runtime.Symbol(147/*conditional_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 359: // conditional_expression ::= conditional_or_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(147/*conditional_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 358: // conditional_or_expression ::= conditional_or_expression OROR conditional_and_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                  RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.COND_OR, b); 
+                                                                  
+              CUP$Grm$result = new java_cup.runtime.Symbol(146/*conditional_or_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 357: // conditional_or_expression ::= conditional_and_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(146/*conditional_or_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 356: // conditional_and_expression ::= conditional_and_expression ANDAND inclusive_or_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                  RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.COND_AND, b); 
+                                                                  
+              CUP$Grm$result = new java_cup.runtime.Symbol(145/*conditional_and_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 355: // conditional_and_expression ::= inclusive_or_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(145/*conditional_and_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 354: // inclusive_or_expression ::= inclusive_or_expression OR exclusive_or_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                           RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.BIT_OR, b); 
+                                                           
+              CUP$Grm$result = new java_cup.runtime.Symbol(144/*inclusive_or_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 353: // inclusive_or_expression ::= exclusive_or_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(144/*inclusive_or_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 352: // exclusive_or_expression ::= exclusive_or_expression XOR and_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                   RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.BIT_XOR, b); 
+                                                   
+              CUP$Grm$result = new java_cup.runtime.Symbol(143/*exclusive_or_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 351: // exclusive_or_expression ::= and_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(143/*exclusive_or_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 350: // and_expression ::= and_expression AND equality_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                               RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.BIT_AND, b); 
+                                               
+              CUP$Grm$result = new java_cup.runtime.Symbol(142/*and_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 349: // and_expression ::= equality_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(142/*and_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 348: // equality_expression ::= equality_expression NOTEQ relational_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                        RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.NE, b); 
+                                                        
+              CUP$Grm$result = new java_cup.runtime.Symbol(141/*equality_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 347: // equality_expression ::= equality_expression EQEQ relational_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                       RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.EQ, b); 
+                                                       
+              CUP$Grm$result = new java_cup.runtime.Symbol(141/*equality_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 346: // equality_expression ::= relational_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(141/*equality_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 345: // relational_expression ::= relational_expression INSTANCEOF reference_type 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		TypeNode b = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                        RESULT = parser.nf.Instanceof(parser.pos(a, b), a, b); 
+                                                        
+              CUP$Grm$result = new java_cup.runtime.Symbol(140/*relational_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 344: // relational_expression ::= relational_expression GTEQ shift_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                    RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.GE, b); 
+                                                    
+              CUP$Grm$result = new java_cup.runtime.Symbol(140/*relational_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 343: // relational_expression ::= relational_expression LTEQ shift_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                    RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.LE, b); 
+                                                    
+              CUP$Grm$result = new java_cup.runtime.Symbol(140/*relational_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 342: // relational_expression ::= relational_expression GT shift_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                  RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.GT, b); 
+                                                  
+              CUP$Grm$result = new java_cup.runtime.Symbol(140/*relational_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 341: // relational_expression ::= relational_expression LT shift_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                  RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.LT, b); 
+                                                  
+              CUP$Grm$result = new java_cup.runtime.Symbol(140/*relational_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 340: // relational_expression ::= shift_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(140/*relational_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 339: // shift_expression ::= shift_expression URSHIFT additive_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                     RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.USHR, b); 
+                                                     
+              CUP$Grm$result = new java_cup.runtime.Symbol(139/*shift_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 338: // shift_expression ::= shift_expression RSHIFT additive_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                    RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.SHR, b); 
+                                                    
+              CUP$Grm$result = new java_cup.runtime.Symbol(139/*shift_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 337: // shift_expression ::= shift_expression LSHIFT additive_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                    RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.SHL, b); 
+                                                    
+              CUP$Grm$result = new java_cup.runtime.Symbol(139/*shift_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 336: // shift_expression ::= additive_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(139/*shift_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 335: // additive_expression ::= additive_expression MINUS multiplicative_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                            RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.SUB, b); 
+                                                            
+              CUP$Grm$result = new java_cup.runtime.Symbol(138/*additive_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 334: // additive_expression ::= additive_expression PLUS multiplicative_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                           RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.ADD, b); 
+                                                           
+              CUP$Grm$result = new java_cup.runtime.Symbol(138/*additive_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 333: // additive_expression ::= multiplicative_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(138/*additive_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 332: // multiplicative_expression ::= multiplicative_expression MOD unary_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                       RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.MOD, b); 
+                                                       
+              CUP$Grm$result = new java_cup.runtime.Symbol(137/*multiplicative_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 331: // multiplicative_expression ::= multiplicative_expression DIV unary_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                       RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.DIV, b); 
+                                                       
+              CUP$Grm$result = new java_cup.runtime.Symbol(137/*multiplicative_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 330: // multiplicative_expression ::= multiplicative_expression MULT unary_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                        RESULT = parser.nf.Binary(parser.pos(a, b), a, 
+                Binary.MUL, b); 
+                                                        
+              CUP$Grm$result = new java_cup.runtime.Symbol(137/*multiplicative_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 329: // multiplicative_expression ::= unary_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(137/*multiplicative_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 328: // cast_expression ::= LPAREN COMMA_TYPE RPAREN unary_expression 
+            {
+              Cast RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		QQNodeToken a = (QQNodeToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                  RESULT = parser.nf.Cast(parser.pos(a), (TypeNode) a.node(), b); 
+                                                  
+              CUP$Grm$result = new java_cup.runtime.Symbol(136/*cast_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 327: // cast_expression ::= LPAREN name dims RPAREN unary_expression_not_plus_minus 
+            {
+              Cast RESULT = null;
+		int pleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int pright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token p = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Integer b = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr c = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                    RESULT = parser.nf.Cast(parser.pos(p, c,a),
+                parser.array(a.toType(), b.intValue()), c); 
+                                                                    
+              CUP$Grm$result = new java_cup.runtime.Symbol(136/*cast_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 326: // cast_expression ::= LPAREN expression RPAREN unary_expression_not_plus_minus 
+            {
+              Cast RESULT = null;
+		int pleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int pright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Token p = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                   RESULT = parser.nf.Cast(parser.pos(p, b,a),
+                parser.exprToType(a), b); 
+                                                                   
+              CUP$Grm$result = new java_cup.runtime.Symbol(136/*cast_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 325: // cast_expression ::= LPAREN primitive_type dims_opt RPAREN unary_expression 
+            {
+              Cast RESULT = null;
+		int pleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int pright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		Token p = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		TypeNode a = (TypeNode)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		Integer b = (Integer)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr c = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                   RESULT = parser.nf.Cast(parser.pos(p, c,a),
+                parser.array(a, b.intValue()), c); 
+                                                                   
+              CUP$Grm$result = new java_cup.runtime.Symbol(136/*cast_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 324: // unary_expression_not_plus_minus ::= cast_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Cast a = (Cast)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(133/*unary_expression_not_plus_minus*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 323: // unary_expression_not_plus_minus ::= NOT unary_expression 
+            {
+              Expr RESULT = null;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                             RESULT = parser.nf.Unary(parser.pos(b,a,a), Unary.NOT, a); 
+                             
+              CUP$Grm$result = new java_cup.runtime.Symbol(133/*unary_expression_not_plus_minus*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 322: // unary_expression_not_plus_minus ::= COMP unary_expression 
+            {
+              Expr RESULT = null;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                              RESULT = parser.nf.Unary(parser.pos(b,a,a), Unary.BIT_NOT, a); 
+                              
+              CUP$Grm$result = new java_cup.runtime.Symbol(133/*unary_expression_not_plus_minus*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 321: // unary_expression_not_plus_minus ::= postfix_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(133/*unary_expression_not_plus_minus*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 320: // predecrement_expression ::= MINUSMINUS unary_expression 
+            {
+              Unary RESULT = null;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                    RESULT = parser.nf.Unary(parser.pos(b,a,a), Unary.PRE_DEC, a); 
+                                    
+              CUP$Grm$result = new java_cup.runtime.Symbol(135/*predecrement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 319: // preincrement_expression ::= PLUSPLUS unary_expression 
+            {
+              Unary RESULT = null;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                  RESULT = parser.nf.Unary(parser.pos(b,a,a), Unary.PRE_INC, a); 
+                                  
+              CUP$Grm$result = new java_cup.runtime.Symbol(134/*preincrement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 318: // unary_expression ::= unary_expression_not_plus_minus 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(132/*unary_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 317: // unary_expression ::= MINUS boundary_literal 
+            {
+              Expr RESULT = null;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		polyglot.ast.Lit a = (polyglot.ast.Lit)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                               RESULT = parser.nf.Unary(parser.pos(b,a,a), Unary.NEG, a); 
+                               
+              CUP$Grm$result = new java_cup.runtime.Symbol(132/*unary_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 316: // unary_expression ::= MINUS unary_expression 
+            {
+              Expr RESULT = null;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                               RESULT = parser.nf.Unary(parser.pos(b,a,a), Unary.NEG, a); 
+                               
+              CUP$Grm$result = new java_cup.runtime.Symbol(132/*unary_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 315: // unary_expression ::= PLUS unary_expression 
+            {
+              Expr RESULT = null;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                              RESULT = parser.nf.Unary(parser.pos(b,a,a), Unary.POS, a); 
+                              
+              CUP$Grm$result = new java_cup.runtime.Symbol(132/*unary_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 314: // unary_expression ::= predecrement_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Unary a = (Unary)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(132/*unary_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 313: // unary_expression ::= preincrement_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Unary a = (Unary)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(132/*unary_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 312: // postdecrement_expression ::= postfix_expression MINUSMINUS 
+            {
+              Unary RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                      RESULT = parser.nf.Unary(parser.pos(a,b), a, Unary.POST_DEC); 
+                                      
+              CUP$Grm$result = new java_cup.runtime.Symbol(131/*postdecrement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 311: // postincrement_expression ::= postfix_expression PLUSPLUS 
+            {
+              Unary RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token b = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                    RESULT = parser.nf.Unary(parser.pos(a,b), a, Unary.POST_INC); 
+                                    
+              CUP$Grm$result = new java_cup.runtime.Symbol(130/*postincrement_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 310: // postfix_expression ::= postdecrement_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Unary a = (Unary)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(129/*postfix_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 309: // postfix_expression ::= postincrement_expression 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Unary a = (Unary)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(129/*postfix_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 308: // postfix_expression ::= name 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a.toExpr();  
+              CUP$Grm$result = new java_cup.runtime.Symbol(129/*postfix_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 307: // postfix_expression ::= primary 
+            {
+              Expr RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		  RESULT = a;  
+              CUP$Grm$result = new java_cup.runtime.Symbol(129/*postfix_expression*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 306: // array_access ::= primary_no_new_array LBRACK expression RBRACK 
+            {
+              ArrayAccess RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                        RESULT = parser.nf.ArrayAccess(parser.pos(a, d), a, b); 
+                                                        
+              CUP$Grm$result = new java_cup.runtime.Symbol(128/*array_access*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 305: // array_access ::= name LBRACK expression RBRACK 
+            {
+              ArrayAccess RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		Expr b = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                        RESULT = parser.nf.ArrayAccess(parser.pos(a, d), a.toExpr(), b); 
+                                        
+              CUP$Grm$result = new java_cup.runtime.Symbol(128/*array_access*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 304: // method_invocation ::= COMMA_TYPE DOT identifier LPAREN argument_list_opt RPAREN 
+            {
+              Call RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		QQNodeToken a = (QQNodeToken)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                      RESULT = parser.nf.Call(parser.pos(a,d), (TypeNode)a.node(), b, c); 
+                                                                      
+              CUP$Grm$result = new java_cup.runtime.Symbol(127/*method_invocation*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 303: // method_invocation ::= name DOT SUPER DOT identifier LPAREN argument_list_opt RPAREN 
+            {
+              Call RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-7)).value;
+		int nleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int nright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		Token n = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                            RESULT = parser.nf.Call(parser.pos(b,d),
+                parser.nf.Super(parser.pos(n), a.toType()),
+                b, c); 
+                                                                            
+              CUP$Grm$result = new java_cup.runtime.Symbol(127/*method_invocation*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-7)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 302: // method_invocation ::= SUPER DOT identifier LPAREN argument_list_opt RPAREN 
+            {
+              Call RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		Token a = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                 RESULT = parser.nf.Call(parser.pos(a,d, b),
+                parser.nf.Super(parser.pos(a)),
+                b, c); 
+                                                                 
+              CUP$Grm$result = new java_cup.runtime.Symbol(127/*method_invocation*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 301: // method_invocation ::= primary DOT identifier LPAREN argument_list_opt RPAREN 
+            {
+              Call RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).right;
+		Expr a = (Expr)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-5)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		Id b = (Id)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                                                   RESULT = parser.nf.Call(parser.pos(b,d), a,
+                b, c); 
+                                                                   
+              CUP$Grm$result = new java_cup.runtime.Symbol(127/*method_invocation*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-5)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 300: // method_invocation ::= name LPAREN argument_list_opt RPAREN 
+            {
+              Call RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		ParsedName a = (ParsedName)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		Token d = (Token)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		
+                                               RESULT = parser.nf.Call(parser.pos(a,d),
+                a.prefix == null ? null : a.prefix.toReceiver(),
+                a.name, b); 
+                                               
+              CUP$Grm$result = new java_cup.runtime.Symbol(127/*method_invocation*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          default:
+            {
+              throw new Exception(
+                 "Invalid action number found in internal parse table");
+            }
+
+        }
+    }
+}
+
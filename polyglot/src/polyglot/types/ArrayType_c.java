@@ -16,6 +16,8 @@ import polyglot.util.*;
  */
 public class ArrayType_c extends ReferenceType_c implements ArrayType
 {
+    private static final long serialVersionUID = 5957743833621743101L;
+
     protected Ref<? extends Type> base;
     protected List<FieldDef> fields;
     protected List<MethodDef> methods;
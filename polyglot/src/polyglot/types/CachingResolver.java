@@ -9,6 +9,7 @@ package polyglot.types;
 
 import java.util.*;
 
+import polyglot.frontend.Stats;
 import polyglot.main.Report;
 import polyglot.util.*;
 
@@ -84,6 +85,8 @@ public class CachingResolver implements TopLevelResolver, Copy {
 
         Object o = cache.get(name);
 
+        count(o != null);
+
         if (o instanceof SemanticException) throw ((SemanticException) o);
 
         Named q = (Named) o;
@@ -120,6 +123,22 @@ public class CachingResolver implements TopLevelResolver, Copy {
 	return q;
     }
 
+    /**
+     * The <code>Stats</code> lookups are counted in, or null if they are
+     * not counted.
+     */
+    protected Stats stats() {
+        return null;
+    }
+
+    /** Count a lookup as a hit or a miss. */
+    protected void count(boolean hit) {
+        Stats stats = stats();
+        if (stats != null && stats.enabled()) {
+            stats.accumulate(hit ? "resolver hits" : "resolver misses", 1);
+        }
+    }
+
     /**
      * Check if a type object is in the cache, returning null if not.
      * @param name The name to search for.
@@ -149,6 +168,21 @@ public class CachingResolver implements TopLevelResolver, Copy {
         cache.put(name, q);
     }
 
+    /**
+     * Remove a qualifier from the cache, returning it, or null if none is
+     * cached under the name.
+     * @param name The name of the qualifier to remove.
+     */
+    public Named uninstall(QName name) {
+        if (shouldReport(3))
+            Report.report(3, "CachingResolver: uninstalling " + name + " from resolver cache");
+
+        Object o = cache.remove(name);
+        if (o instanceof Named)
+            return (Named) o;
+        return null;
+    }
+
     /**
      * Install a qualifier in the cache.
      * @param name The name of the qualifier to insert.
@@ -150,7 +150,7 @@ public class ClassContextResolver extends AbstractAccessControlResolver {
         
         // Collect all members of the super types.
         // Use a Set to eliminate duplicates.
-        Set<Named> acceptable = new HashSet<Named>();
+        Set<Named> acceptable = new LinkedHashSet<Named>();
         
         if (type.superClass() != null) {
             Type sup = type.superClass();
@@ -182,7 +182,7 @@ public class ClassContextResolver extends AbstractAccessControlResolver {
             throw new NoClassException(name.toString(), type);
         }
         else if (acceptable.size() > 1) {
-            Set<Type> containers = new HashSet<Type>(acceptable.size());
+            Set<Type> containers = new LinkedHashSet<Type>(acceptable.size());
             for (Named n : acceptable) {
                 if (n instanceof MemberInstance) {
                     MemberInstance<?> mi = (MemberInstance<?>) n;
@@ -31,6 +31,8 @@ public interface ClassDef extends MemberDef
     public boolean inStaticContext();
     
     public static class Kind extends Enum {
+        private static final long serialVersionUID = 2700062381999037549L;
+
         public Kind(String name) {
             super(name);
         }
@@ -76,6 +78,13 @@ public interface ClassDef extends MemberDef
      * @see polyglot.types.MethodDef
      */
     List<MethodDef> methods();
+
+    /**
+     * Return the type's methods named <code>name</code>.
+     * @return A list of <code>MethodDef</code>.
+     */
+    List<MethodDef> methodsNamed(Name name);
+
     /**
      * The class's constructors.
      * A list of <code>ConstructorInstance</code>.
@@ -7,13 +7,13 @@
 
 package polyglot.types;
 
+import java.io.*;
 import java.util.*;
 
 import polyglot.frontend.Job;
 import polyglot.frontend.Source;
 import polyglot.main.Report;
-import polyglot.util.InternalCompilerError;
-import polyglot.util.Position;
+import polyglot.util.*;
 
 /**
  * ParsedClassType
@@ -24,19 +24,38 @@ import polyglot.util.Position;
  **/
 public class ClassDef_c extends Def_c implements ClassDef
 {
+    private static final long serialVersionUID = -8488950878330484721L;
+
     protected transient Source fromSource;
 
     protected Ref<? extends Type> superType;
     protected List<Ref<? extends Type>> interfaces;
-    protected List<MethodDef> methods;
-    protected List<FieldDef> fields;
-    protected List<ConstructorDef> constructors;
+    protected transient List<MethodDef> methods;
+    protected transient List<FieldDef> fields;
+    protected transient List<ConstructorDef> constructors;
     protected Ref<? extends Package> package_;
     protected Flags flags;
     protected Kind kind;
     protected Name name;
     protected Ref<ClassDef> outer;
-    protected List<Ref<? extends ClassType>> memberClasses;
+    protected transient List<Ref<? extends ClassType>> memberClasses;
+
+    /**
+     * The serialized methods, fields, constructors, and member classes of
+     * a class decoded from a class file, or null if they have been decoded.
+     * Only the class itself is decoded when it is loaded; its members are
+     * decoded on first access.
+     */
+    protected transient volatile byte[] encodedMembers;
+
+    /** The thread decoding the members, or null. */
+    protected transient Thread decodingThread;
+
+    /**
+     * The methods of the class indexed by name, built on first use and
+     * discarded when the methods change.
+     */
+    protected transient volatile Map<Name,List<MethodDef>> methodsByName;
     protected transient ClassType asType;
     
     public ClassType asType() {
@@ -124,7 +143,7 @@ public class ClassDef_c extends Def_c implements ClassDef
         sourceKind = SourceKind.JAVA;
     }
 
-    Job job;
+    transient Job job;
     
     public Job job() {
         return job;
@@ -217,65 +236,219 @@ public class ClassDef_c extends Def_c implements ClassDef
 
     public void superType(Ref<? extends Type> t) {
 	this.superType = t;
+	ts.supertypesChanged(this);
     }
 
     public void addInterface(Ref<? extends Type> t) {
 	interfaces.add(t);
+	ts.supertypesChanged(this);
     }
 
     public void addMethod(MethodDef mi) {
+        decodeMembers();
 	methods.add(mi);
+	methodsByName = null;
+	ts.membersChanged(this);
     }
 
     public void addConstructor(ConstructorDef ci) {
+        decodeMembers();
 	constructors.add(ci);
     }
 
     public void addField(FieldDef fi) {
+        decodeMembers();
 	fields.add(fi);
     }
 
     public void addMemberClass(Ref<? extends ClassType> t) {
+        decodeMembers();
 	memberClasses.add(t);
     }
 
     public void setConstructors(List<? extends ConstructorDef> l) {
+        decodeMembers();
         this.constructors = new ArrayList<ConstructorDef>(l);
     }
 
     public void setFields(List<? extends FieldDef> l) {
+        decodeMembers();
         this.fields = new ArrayList<FieldDef>(l);
     }
 
     public void setInterfaces(List<Ref<? extends Type>> l) {
         this.interfaces = new ArrayList<Ref<? extends Type>>(l);
+        ts.supertypesChanged(this);
     }
 
     public void setMemberClasses(List<Ref<? extends ClassType>> l) {
+        decodeMembers();
         this.memberClasses = new ArrayList<Ref<? extends ClassType>>(l);
     }
 
     public void setMethods(List<? extends MethodDef> l) {
+        decodeMembers();
         this.methods = new ArrayList<MethodDef>(l);
+        methodsByName = null;
+        ts.membersChanged(this);
     }
     
+    /**
+     * Decode the members of a class read from serialized type information.
+     * If they cannot be decoded, an error is reported and the class is left
+     * with no members.
+     */
+    protected void decodeMembers() {
+        if (encodedMembers == null) {
+            return;
+        }
+
+        if (! tryDecodeMembers()) {
+            ErrorQueue eq = ts.extensionInfo().compiler().errorQueue();
+            eq.enqueue(ErrorInfo.SEMANTIC_ERROR,
+                       new BadSerializationException(fullName().toString()).getMessage(),
+                       position());
+        }
+    }
+
+    /**
+     * Decode the members of a class read from serialized type information
+     * if they have not been decoded yet.  Return false if they cannot be
+     * decoded, leaving the class with no members.
+     */
+    public boolean tryDecodeMembers() {
+        if (encodedMembers == null) {
+            return true;
+        }
+
+        synchronized (this) {
+            byte[] b = encodedMembers;
+
+            if (b == null) {
+                return true;
+            }
+
+            if (decodingThread == Thread.currentThread()) {
+                // Decoding the members needed the members themselves.  The
+                // lists are not set yet, so there is nothing to return.
+                throw new InternalCompilerError("Members of " + fullName() +
+                                                " accessed while they are being decoded.", position());
+            }
+
+            Object o;
+
+            decodingThread = Thread.currentThread();
+
+            try {
+                o = new TypeEncoder(ts).decodeNested(b, fullName());
+            }
+            catch (InvalidClassException e) {
+                if (Report.should_report(Report.serialize, 1))
+                    Report.report(1, "Decoding members of " + fullName() + " failed: " + e.getMessage());
+                o = null;
+            }
+            finally {
+                decodingThread = null;
+            }
+
+            if (o == null) {
+                setMembers(new Object[] { new ArrayList<MethodDef>(), new ArrayList<FieldDef>(),
+                                          new ArrayList<ConstructorDef>(),
+                                          new ArrayList<Ref<? extends ClassType>>() });
+            }
+            else {
+                setMembers((Object[]) o);
+            }
+
+            // Clear the encoded members only once the lists are set: a
+            // thread that sees encodedMembers null reads the lists without
+            // taking the lock.
+            encodedMembers = null;
+
+            return o != null;
+        }
+    }
+
+    protected void setMembers(Object[] members) {
+        this.methods = (List<MethodDef>) members[0];
+        this.fields = (List<FieldDef>) members[1];
+        this.constructors = (List<ConstructorDef>) members[2];
+        this.memberClasses = (List<Ref<? extends ClassType>>) members[3];
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        decodeMembers();
+
+        out.defaultWriteObject();
+
+        Object[] members = new Object[] { methods, fields, constructors, memberClasses };
+
+        if (out instanceof TypeOutputStream) {
+            out.writeObject(new TypeEncoder(ts).encodeNested(members));
+        }
+        else {
+            out.writeObject(members);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+
+        Object o = in.readObject();
+
+        if (o instanceof byte[]) {
+            encodedMembers = (byte[]) o;
+        }
+        else {
+            setMembers((Object[]) o);
+        }
+    }
+
     /** Return an immutable list of constructors */
     public List<ConstructorDef> constructors() {
+        decodeMembers();
         return Collections.unmodifiableList(constructors);
     }
 
     /** Return an immutable list of member classes */
     public List<Ref<? extends ClassType>> memberClasses() {
+        decodeMembers();
         return Collections.<Ref<? extends ClassType>>unmodifiableList(memberClasses);
     }
 
     /** Return an immutable list of methods. */
     public List<MethodDef> methods() {
+        decodeMembers();
         return Collections.unmodifiableList(methods);
     }
 
+    /** Return an immutable list of the methods named <code>name</code>. */
+    public List<MethodDef> methodsNamed(Name name) {
+        Map<Name,List<MethodDef>> index = methodsByName;
+
+        if (index == null) {
+            index = new HashMap<Name,List<MethodDef>>();
+            for (MethodDef md : methods()) {
+                List<MethodDef> l = index.get(md.name());
+                if (l == null) {
+                    l = new ArrayList<MethodDef>(1);
+                    index.put(md.name(), l);
+                }
+                l.add(md);
+            }
+            methodsByName = index;
+        }
+
+        List<MethodDef> l = index.get(name);
+        if (l == null) {
+            return Collections.<MethodDef>emptyList();
+        }
+        return Collections.unmodifiableList(l);
+    }
+
     /** Return an immutable list of fields */
     public List<FieldDef> fields() {
+        decodeMembers();
         return Collections.unmodifiableList(fields);
     }
     
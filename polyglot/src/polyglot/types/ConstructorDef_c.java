@@ -20,6 +20,8 @@ import polyglot.util.Position;
 public class ConstructorDef_c extends ProcedureDef_c
                                 implements ConstructorDef
 {
+    private static final long serialVersionUID = -6672601102313722506L;
+
     /** Used for deserializing types. */
     protected ConstructorDef_c() { }
 
@@ -7,6 +7,8 @@ import polyglot.util.InternalCompilerError;
 import polyglot.util.Position;
 
 public class ErrorRef_c<T> extends TypeObject_c implements Ref<T> {
+    private static final long serialVersionUID = -9197233963214096876L;
+
     String errorMessage;
     
       public ErrorRef_c(TypeSystem ts, Position pos, String errorMessage) {
@@ -7,17 +7,29 @@
 
 package polyglot.types;
 
-import java.io.Serializable;
+import java.io.*;
 import java.util.*;
 
+import polyglot.util.InternalCompilerError;
+
 /**
  * <code>Flags</code> is an immutable set of class, method, or field modifiers.
  * We represent package scope as the absence of private, public and protected
  * scope modifiers.
+ * <p>
+ * Each flag created with <code>createFlag</code> is assigned a bit in a
+ * <code>long</code>, so at most 64 flags may be created, including those
+ * of extensions.  Flags objects are interned: there is one object for
+ * each combination of flags, and set operations do not allocate once a
+ * combination has been seen.  Flags are serialized as the set of their
+ * names, as in earlier versions of this class.
  */
 public class Flags implements Serializable
 {
-    protected Set<String> flags;
+    private static final long serialVersionUID = -539580723506705467L;
+
+    /** The flags in the set, one bit per flag. */
+    protected final transient long bits;
 
     protected static class FlagComparator implements Comparator<String> {
         protected static List<String> order = new ArrayList<String>(
@@ -39,7 +51,24 @@ public class Flags implements Serializable
         }
     }
 
-    public static final Flags NONE         = new Flags();
+    /** The names of the flags created so far, indexed by bit. */
+    private static final String[] names = new String[64];
+
+    /** The number of flags created so far. */
+    private static int count = 0;
+
+    /** Bit indices of the flags sorted by name; flags are printed in this order. */
+    private static volatile int[] printOrder = new int[0];
+
+    /**
+     * Open-addressed table of interned flags, keyed by <code>bits</code>.
+     * Lookups do not lock; insertions are synchronized on
+     * <code>Flags.class</code>.
+     */
+    private static volatile Flags[] table = new Flags[64];
+    private static int tableCount = 0;
+
+    public static final Flags NONE         = intern(0L);
     public static final Flags PUBLIC       = createFlag("public", null);
     public static final Flags PRIVATE      = createFlag("private", null);
     public static final Flags PROTECTED    = createFlag("protected", null);
@@ -58,7 +87,7 @@ public class Flags implements Serializable
 
     /**
      * Return a new Flags object with a new name.  Should be called only once
-     * per name.
+     * per name; later calls return the existing flag.
      *
      * @param name the name of the new flag
      * @param after the flags after which this flag should be printed;
@@ -66,26 +95,71 @@ public class Flags implements Serializable
      *        if we should print at the end.
      */
     public static Flags createFlag(String name, Flags after) {
-        addToOrder(name, after);
+        synchronized (Flags.class) {
+            int bit = bitFor(name);
+
+            if (bit < 0) {
+                if (count == names.length) {
+                    throw new InternalCompilerError("Cannot create flag \"" + name +
+                                                    "\": all " + names.length + " flags are in use.");
+                }
+
+                bit = count;
+                names[bit] = name;
+                count++;
+
+                // Keep the print order sorted by name.
+                int[] old = printOrder;
+                int[] order = new int[old.length + 1];
+                int j = 0;
+                while (j < old.length && names[old[j]].compareTo(name) < 0) {
+                    order[j] = old[j];
+                    j++;
+                }
+                order[j] = bit;
+                System.arraycopy(old, j, order, j + 1, old.length - j);
+                printOrder = order;
+
+                addToOrder(name, after);
+            }
 
-        return new Flags(name);
+            return intern(1L << bit);
+        }
+    }
+
+    /** Return the bit of the flag named <code>name</code>, or -1. */
+    private static int bitFor(String name) {
+        for (int i = 0; i < count; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     public static void addToOrder(String name, Flags after) {
-        List order = FlagComparator.order;
-        boolean added = false;
+        List<String> order = FlagComparator.order;
+
+        if (order.contains(name)) {
+            return;
+        }
 
         if (after == null) {
             order.add(name);
         }
-        else if (after.flags.isEmpty()) {
+        else if (after.bits == 0) {
             order.add(0, name);
         }
         else {
-            for (ListIterator i = order.listIterator(); i.hasNext(); ) {
-                String s = (String) i.next();
-                after = after.clear(new Flags(s));
-                if (after.flags.isEmpty()) {
+            long remaining = after.bits;
+            boolean added = false;
+
+            for (ListIterator<String> i = order.listIterator(); i.hasNext(); ) {
+                int bit = bitFor(i.next());
+                if (bit >= 0) {
+                    remaining &= ~(1L << bit);
+                }
+                if (remaining == 0) {
                     i.add(name);
                     added = true;
                     break;
@@ -99,69 +173,112 @@ public class Flags implements Serializable
         }
     }
 
+    /** Return the interned Flags object for <code>bits</code>. */
+    protected static Flags intern(long bits) {
+        Flags[] t = table;
+        int mask = t.length - 1;
+
+        for (int i = hash(bits) & mask; ; i = (i + 1) & mask) {
+            Flags f = t[i];
+            if (f == null) break;
+            if (f.bits == bits) return f;
+        }
+
+        synchronized (Flags.class) {
+            t = table;
+            mask = t.length - 1;
+
+            int i = hash(bits) & mask;
+            for (; t[i] != null; i = (i + 1) & mask) {
+                if (t[i].bits == bits) return t[i];
+            }
+
+            Flags f = new Flags(bits);
+
+            if (2 * (tableCount + 1) > t.length) {
+                Flags[] n = new Flags[2 * t.length];
+                int nmask = n.length - 1;
+                for (Flags g : t) {
+                    if (g != null) {
+                        int k = hash(g.bits) & nmask;
+                        while (n[k] != null) k = (k + 1) & nmask;
+                        n[k] = g;
+                    }
+                }
+                int k = hash(bits) & nmask;
+                while (n[k] != null) k = (k + 1) & nmask;
+                n[k] = f;
+                table = n;
+            }
+            else {
+                t[i] = f;
+            }
+
+            tableCount++;
+            return f;
+        }
+    }
+
+    private static int hash(long bits) {
+        long h = bits * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
     /**
      * Effects: returns a new accessflags object with no accessflags set.
      */
     protected Flags() {
-        this.flags = new TreeSet();
+        this(0L);
     }
 
-    protected Flags(String name) {
-        this();
-        flags.add(name);
+    protected Flags(long bits) {
+        this.bits = bits;
     }
 
-    public Set flags() {
-        return this.flags;
+    /** Return the names of the flags in the set. */
+    public Set<String> flags() {
+        Set<String> s = new TreeSet<String>();
+        for (int i = 0; i < count; i++) {
+            if ((bits & (1L << i)) != 0) {
+                s.add(names[i]);
+            }
+        }
+        return s;
     }
 
     /**
      * Create new flags with the flags in <code>other</code> also set.
      */
     public Flags set(Flags other) {
-        Flags f = new Flags();
-        f.flags.addAll(this.flags);
-        f.flags.addAll(other.flags);
-        return f;
+        return intern(this.bits | other.bits);
     }
 
     /**
      * Create new flags with the flags in <code>other</code> cleared.
      */
     public Flags clear(Flags other) {
-        Flags f = new Flags();
-        f.flags.addAll(this.flags);
-        f.flags.removeAll(other.flags);
-        return f;
+        return intern(this.bits & ~other.bits);
     }
 
     /**
      * Create new flags with only flags in <code>other</code> set.
      */
     public Flags retain(Flags other) {
-        Flags f = new Flags();
-        f.flags.addAll(this.flags);
-        f.flags.retainAll(other.flags);
-        return f;
+        return intern(this.bits & other.bits);
     }
 
     /**
      * Check if <i>any</i> flags in <code>other</code> are set.
      */
     public boolean intersects(Flags other) {
-        for (String name : this.flags) {
-            if (other.flags.contains(name)) {
-                return true;
-            }
-        }
-        return false;
+        return (this.bits & other.bits) != 0;
     }
 
     /**
      * Check if <i>all</i> flags in <code>other</code> are set.
      */
     public boolean contains(Flags other) {
-        return this.flags.containsAll(other.flags);
+        return (this.bits & other.bits) == other.bits;
     }
 
     /**
@@ -485,23 +602,57 @@ public class Flags implements Serializable
      * Return "" if no flags set, or toString() + " " if some flags are set.
      */
     public String translate() {
-        StringBuffer sb = new StringBuffer();
+        if (bits == 0) {
+            return "";
+        }
 
-        for (Iterator i = this.flags.iterator(); i.hasNext(); ) {
-            String s = (String) i.next();
+        StringBuilder sb = new StringBuilder();
 
-            sb.append(s);
-            sb.append(" ");
+        for (int i : printOrder) {
+            if ((bits & (1L << i)) != 0) {
+                sb.append(names[i]);
+                sb.append(" ");
+            }
         }
 
         return sb.toString();
     }
 
     public int hashCode() {
-        return flags.hashCode();
+        return hash(bits);
     }
 
     public boolean equals(Object o) {
-	return o instanceof Flags && flags.equals(((Flags) o).flags);
+	return o instanceof Flags && bits == ((Flags) o).bits;
+    }
+
+    /** Flags are serialized as a set of names. */
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("flags", Set.class)
+    };
+
+    /** The names read by <code>readObject</code>, for <code>readResolve</code>. */
+    private transient Set<String> serializedFlags;
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("flags", flags());
+        out.writeFields();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        serializedFlags = (Set<String>) fields.get("flags", null);
+    }
+
+    /** Replace deserialized flags with the interned object. */
+    protected Object readResolve() {
+        long b = 0;
+        if (serializedFlags != null) {
+            for (String name : serializedFlags) {
+                b |= createFlag(name, null).bits;
+            }
+        }
+        return intern(b);
     }
 }
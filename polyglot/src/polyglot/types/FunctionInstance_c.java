@@ -5,6 +5,8 @@ import java.util.List;
 import polyglot.util.Position;
 
 public class FunctionInstance_c<T extends FunctionDef> extends ProcedureInstance_c<T> implements FunctionInstance<T> {
+    private static final long serialVersionUID = 7771092895217853763L;
+
     public FunctionInstance_c(TypeSystem ts, Position pos, Ref<? extends T> def) {
         super(ts, pos, def);
     }
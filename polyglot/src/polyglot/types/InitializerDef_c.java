@@ -16,6 +16,8 @@ import polyglot.util.Position;
 public class InitializerDef_c extends Def_c
                                 implements InitializerDef
 {
+    private static final long serialVersionUID = -9122365198981873737L;
+
     protected Ref<? extends ClassType> container;
     protected Flags flags;
 
@@ -9,6 +9,8 @@ import polyglot.frontend.Goal.Status;
 import polyglot.util.TypeInputStream;
 
 public class LazyRef_c<T> extends AbstractRef_c<T> implements LazyRef<T>, Serializable {
+	private static final long serialVersionUID = -7466682011826272737L;
+
 	Runnable resolver;
 
 	/** Create a lazy ref initialized with error value v. */
@@ -56,18 +58,36 @@ public class LazyRef_c<T> extends AbstractRef_c<T> implements LazyRef<T>, Serial
 
 	private void writeObject(ObjectOutputStream out) throws IOException {
 		assert resolver != null : "resolver for " + this + " is null";
-		assert resolver instanceof Serializable : "resolver for " + this + " not Serializable";
-		assert known() : "resolver for " + this + " not reached";
-		out.defaultWriteObject();
+
+		// A resolved reference is written without its resolver, which
+		// may refer to the AST of the current compilation.  Only
+		// unresolved references (e.g., placeholders for other classes)
+		// keep their resolver, which must be Serializable.
+		Runnable r = resolver;
+		if (known()) {
+			resolver = null;
+		}
+		else {
+			assert resolver instanceof Serializable : "resolver for " + this + " not Serializable";
+		}
+		try {
+			out.defaultWriteObject();
+		}
+		finally {
+			resolver = r;
+		}
 	}
 
 	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
 		in.defaultReadObject();
 
-		if (in instanceof TypeInputStream) {
+		if (in instanceof TypeInputStream && resolver != null) {
 			// Mark the resolver as NEW to force re-resolution
 			known = false;
 		}
+		else if (resolver == null) {
+			resolver = new ErrorRunnable();
+		}
 	}
 
 	public String toString() {
@@ -20,6 +20,8 @@ import polyglot.util.Position;
 public class MethodDef_c extends ProcedureDef_c
                                 implements MethodDef
 {
+    private static final long serialVersionUID = -4600875186109814395L;
+
     protected Name name;
     protected Ref<? extends Type> returnType;
 
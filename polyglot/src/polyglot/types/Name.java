@@ -1,7 +1,9 @@
 package polyglot.types;
 
 import java.io.Serializable;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import polyglot.util.StringUtil;
 import polyglot.util.UniqueID;
@@ -17,15 +19,19 @@ public class Name  implements Serializable {
         this.hash = hash;
     }
 
-    static HashMap<String,Name> internCache = new HashMap<String,Name>();
-    static int count = 0;
+    /**
+     * Names are interned across all compilers in the VM.  Lookups do not
+     * lock, so concurrent compilers do not contend on the cache.
+     */
+    static final ConcurrentMap<String,Name> internCache = new ConcurrentHashMap<String,Name>();
+    static final AtomicInteger count = new AtomicInteger();
     
     public static Name makeFresh() {
         return makeFresh("id");
     }
     
-    public static synchronized Name makeFresh(String prefix) {
-        return make(prefix + (count++));
+    public static Name makeFresh(String prefix) {
+        return make(prefix + count.getAndIncrement());
     }
 
     public static Name makeFresh(Name prefix) {
@@ -37,16 +43,16 @@ public class Name  implements Serializable {
     public static Name make(String name) {
 	assert StringUtil.isNameShort(name);
 
-	synchronized (internCache) {
-	    Name n = internCache.get(name);
+	Name n = internCache.get(name);
 
-	    if (n == null) {
-		n = new Name(name, name.hashCode());
-		internCache.put(name, n);
-	    }
-
-	    return n;
+	if (n == null) {
+	    n = new Name(name, name.hashCode());
+	    Name old = internCache.putIfAbsent(name, n);
+	    if (old != null)
+		n = old;
 	}
+
+	return n;
     }
     
     public final void equals(final String o) { }
@@ -63,6 +69,11 @@ public class Name  implements Serializable {
         return hash;
     }
 
+    /** Intern names read from serialized type information. */
+    private Object readResolve() {
+        return make(name);
+    }
+
     public String toString() {
         return name;
     }
@@ -21,6 +21,8 @@ import polyglot.util.*;
  **/
 public class ParsedClassType_c extends ClassType_c implements ParsedClassType
 {
+    private static final long serialVersionUID = 6197928496249447357L;
+
     protected ParsedClassType_c() {
 	super();
     }
@@ -119,23 +121,24 @@ public class ParsedClassType_c extends ClassType_c implements ParsedClassType
                                     new DerefTransform<ClassType>());
     }
 
+    /** Return the transformation from the class's method definitions to its methods. */
+    protected Transformation<MethodDef,MethodInstance> methodTransform() {
+        return new MethodAsTypeTransform();
+    }
+
     /** Return an immutable list of methods. */
     public List<MethodInstance> methods() {
         return new TransformingList<MethodDef,MethodInstance>(
                                     def().methods(),
-                                    new MethodAsTypeTransform());
+                                    methodTransform());
     }
     
     /** Return a list of all methods with the given name. */
     public List<MethodInstance> methodsNamed(Name name) {
-        List<MethodInstance> l = new ArrayList<MethodInstance>();
-        for (MethodInstance mi : methods()) {
-            if (mi.name().equals(name)) {
-                l.add(mi);
-            }
-        }
-
-        return l;
+        return new ArrayList<MethodInstance>(
+                new TransformingList<MethodDef,MethodInstance>(
+                                    def().methodsNamed(name),
+                                    methodTransform()));
     }
 
     /** Return an immutable list of fields */
@@ -19,6 +19,8 @@ import polyglot.util.TypedList;
 public abstract class ProcedureDef_c extends Def_c
                                        implements ProcedureDef
 {
+    private static final long serialVersionUID = 7146402627770404357L;
+
     protected Ref<? extends StructType> container;
     protected Flags flags;
     protected List<Ref<? extends Type>> formalTypes;
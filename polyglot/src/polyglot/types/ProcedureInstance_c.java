@@ -6,6 +6,8 @@ import polyglot.types.TypeSystem_c.TypeEquals;
 import polyglot.util.*;
 
 public class ProcedureInstance_c<T extends ProcedureDef> extends Use_c<T> implements ProcedureInstance<T> {
+    private static final long serialVersionUID = -5028005051545234620L;
+
     protected ProcedureInstance_c(TypeSystem ts, Position pos, Ref<? extends T> def) {
         super(ts, pos, def);
     }
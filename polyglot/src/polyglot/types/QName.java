@@ -1,7 +1,8 @@
 package polyglot.types;
 
 import java.io.Serializable;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import polyglot.util.StringUtil;
 
@@ -26,21 +27,23 @@ public class QName implements Serializable {
 	return qualifier;
     }
     
-    static HashMap<String,QName> internCache = new HashMap<String,QName>();
+    /** Interned names, shared by all compilers in the VM; see Name. */
+    static final ConcurrentMap<String,QName> internCache = new ConcurrentHashMap<String,QName>();
+
+    private static QName intern(String fullName, QName q) {
+	QName old = internCache.putIfAbsent(fullName, q);
+	return old != null ? old : q;
+    }
 
     public static QName make(QName qualifier, Name name) {
 	String shortName = name.toString();
 	String fullName = qualifier == null ? shortName : qualifier.toString() + 
 			(shortName.startsWith("$") ? "" : ".") + shortName;
-	synchronized (internCache) {
-	    QName q = internCache.get(fullName);
-	    if (q != null)
-		return q;
-	    int hash = fullName.hashCode();
-	    q = new QName(qualifier, name, hash);
-	    internCache.put(fullName, q);
+	QName q = internCache.get(fullName);
+	if (q != null)
 	    return q;
-	}
+	int hash = fullName.hashCode();
+	return intern(fullName, new QName(qualifier, name, hash));
     }
     
     public boolean startsWith(QName name) {
@@ -67,22 +70,19 @@ public class QName implements Serializable {
 	if (fullName.equals(""))
 	    return null;
 	
-	synchronized (internCache) {
-	    QName q = internCache.get(fullName);
-	    if (q != null)
-		return q;
-	    int hash = fullName.hashCode();
-	    if (StringUtil.isNameShort(fullName)) {
-		q = new QName(null, Name.make(fullName), hash);
-	    }
-	    else {
-		String container = StringUtil.getPackageComponent(fullName);
-		String name = StringUtil.getShortNameComponent(fullName);
-		q = new QName(make(container), Name.make(name), hash);
-	    }
-	    internCache.put(fullName, q);
+	QName q = internCache.get(fullName);
+	if (q != null)
 	    return q;
+	int hash = fullName.hashCode();
+	if (StringUtil.isNameShort(fullName)) {
+	    q = new QName(null, Name.make(fullName), hash);
 	}
+	else {
+	    String container = StringUtil.getPackageComponent(fullName);
+	    String name = StringUtil.getShortNameComponent(fullName);
+	    q = new QName(make(container), Name.make(name), hash);
+	}
+	return intern(fullName, q);
     }
 
     public final void equals(String s) { }
@@ -96,6 +96,11 @@ public class QName implements Serializable {
 	return hash;
     }
 
+    /** Intern names read from serialized type information. */
+    private Object readResolve() {
+	return make(qualifier, name);
+    }
+
     public String toString() {
 	if (qualifier == null)
 	    return name.toString();
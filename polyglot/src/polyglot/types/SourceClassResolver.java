@@ -197,9 +197,25 @@ public class SourceClassResolver extends LoadedClassResolver
 	Report.report(4, "Using encoded class type for " + name);
       try {
         result = getEncodedType(encodedClazz, name);
+
+        // Members are decoded lazily, when it is too late to use the
+        // source instead.  If there is a source, decode them now.
+        if (source != null && result instanceof ClassType) {
+          ClassDef def = ((ClassType) result).def();
+          if (def instanceof ClassDef_c && ! ((ClassDef_c) def).tryDecodeMembers()) {
+            ts.systemResolver().uninstall(name);
+            throw new BadSerializationException(encodedClazz.name());
+          }
+        }
       }
       catch (BadSerializationException e) {
-      	throw e;
+        if (source == null) {
+          throw e;
+        }
+        if (Report.should_report(report_topics, 4))
+          Report.report(4, "Could not decode encoded class " + name + "; using source");
+        result = null;
+        encodedClazz = null;
       }
       catch (SemanticException e) {
         if (Report.should_report(report_topics, 4))
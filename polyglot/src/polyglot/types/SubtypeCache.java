@@ -0,0 +1,104 @@
+/*
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2006 Polyglot project group, Cornell University
+ *
+ */
+
+package polyglot.types;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import polyglot.frontend.Globals;
+import polyglot.frontend.Stats;
+
+/**
+ * A <code>SubtypeCache</code> remembers the results of queries on the
+ * class hierarchy: subtype, cast and least common ancestor queries on
+ * pairs of class types, and the methods of a given name a class declares
+ * or inherits.  Results are keyed on the identity of the
+ * <code>ClassDef</code>s of the types, so the type system must only cache
+ * queries on types that are determined by their definition.  The type
+ * system clears the cache when the classes it depends on change, and the
+ * cache clears itself when it grows beyond its bound.
+ * <p>
+ * Hits and misses are accumulated in the <code>Stats</code> object of the
+ * current extension when statistics are enabled.
+ */
+public class SubtypeCache
+{
+    public static final int SUBTYPE = 0;
+    public static final int IMPLICIT_CAST = 1;
+    public static final int CAST = 2;
+    public static final int LUB = 3;
+    public static final int DESCENDS_FROM = 4;
+    public static final int METHODS_NAMED = 5;
+
+    protected static final String[] kindNames = {
+        "subtype", "implicit cast", "cast", "least common ancestor", "descends from",
+        "methods named"
+    };
+
+    protected static final class Key {
+        final int kind;
+        final Object o1;
+        final Object o2;
+
+        Key(int kind, Object o1, Object o2) {
+            this.kind = kind;
+            this.o1 = o1;
+            this.o2 = o2;
+        }
+
+        public int hashCode() {
+            return (System.identityHashCode(o1) * 31 + System.identityHashCode(o2)) * 8 + kind;
+        }
+
+        public boolean equals(Object o) {
+            if (o instanceof Key) {
+                Key k = (Key) o;
+                return kind == k.kind && o1 == k.o1 && o2 == k.o2;
+            }
+            return false;
+        }
+    }
+
+    protected final int maxSize;
+    protected final ConcurrentMap<Key,Object> results;
+
+    public SubtypeCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.results = new ConcurrentHashMap<Key,Object>();
+    }
+
+    /**
+     * Return the cached result of the query <code>kind</code> on
+     * <code>o1</code> and <code>o2</code>, or null.
+     */
+    public Object get(int kind, Object o1, Object o2) {
+        Object result = results.get(new Key(kind, o1, o2));
+
+        Stats stats = Globals.Stats();
+        if (stats.enabled()) {
+            stats.accumulate(kindNames[kind] + " cache " + (result != null ? "hits" : "misses"), 1);
+        }
+
+        return result;
+    }
+
+    /** Cache the result of the query <code>kind</code> on <code>o1</code> and <code>o2</code>. */
+    public void put(int kind, Object o1, Object o2, Object result) {
+        if (results.size() >= maxSize) {
+            results.clear();
+        }
+        results.put(new Key(kind, o1, o2), result);
+    }
+
+    /** Discard all cached results. */
+    public void clear() {
+        if (! results.isEmpty()) {
+            results.clear();
+        }
+    }
+}
@@ -9,7 +9,9 @@ package polyglot.types;
 
 import java.util.*;
 
+import polyglot.frontend.BuildDatabase;
 import polyglot.frontend.ExtensionInfo;
+import polyglot.frontend.Stats;
 import polyglot.main.Report;
 import polyglot.util.*;
 
@@ -20,6 +22,16 @@ import polyglot.util.*;
 public class SystemResolver extends CachingResolver implements TopLevelResolver {
     protected Map<QName,Boolean> packageCache;
     protected ExtensionInfo extInfo;
+
+    /**
+     * The packages of the objects in the cache, and all their prefixes,
+     * each mapped to the number of cache entries in it or a subpackage.
+     * Objects are added to <code>unindexed</code> when installed and
+     * counted by <code>index</code>, so installing an object does not
+     * force its package to be resolved.
+     */
+    protected Map<QName,Integer> cachedPackages;
+    protected List<Importable> unindexed;
     
     /**
      * Create a caching resolver.
@@ -29,11 +41,17 @@ public class SystemResolver extends CachingResolver implements TopLevelResolver
         super(inner);
         this.extInfo = extInfo;
         this.packageCache = new HashMap<QName, Boolean>();
+        this.cachedPackages = new HashMap<QName, Integer>();
+        this.unindexed = new ArrayList<Importable>();
     }
 
     public Object copy() {
         SystemResolver r = (SystemResolver) super.copy();
         r.packageCache = new HashMap<QName, Boolean>(this.packageCache);
+        synchronized (this) {
+            r.cachedPackages = new HashMap<QName, Integer>(this.cachedPackages);
+            r.unindexed = new ArrayList<Importable>(this.unindexed);
+        }
         return r;
     }
     
@@ -49,21 +67,41 @@ public class SystemResolver extends CachingResolver implements TopLevelResolver
     }
 
     /** Check if a package exists in the resolver cache. */
-    protected boolean packageExistsInCache(QName name) {
-        for (Iterator i = cachedObjects().iterator(); i.hasNext(); ) {
-            Object o = i.next();
-            if (o instanceof Importable) {
-                Importable im = (Importable) o;
-                if (im.package_() != null &&
-                    im.package_().fullName() != null &&
-                    (im.package_().fullName().equals(name) ||
-                     im.package_().fullName().startsWith(name))) {
-                    return true;
-                }
-            }
+    protected synchronized boolean packageExistsInCache(QName name) {
+        index();
+        return cachedPackages.containsKey(name);
+    }
+
+    /** Count the objects installed since the last call in their packages. */
+    protected synchronized void index() {
+        for (Importable im : unindexed) {
+            countPackage(im, 1);
         }
+        unindexed.clear();
+    }
 
-        return false;
+    /**
+     * Add <code>delta</code> to the count of the package of
+     * <code>im</code> and of each of its prefixes.  A package whose count
+     * drops to zero is forgotten, along with whether it exists.
+     */
+    protected void countPackage(Importable im, int delta) {
+        if (im.package_() == null) {
+            return;
+        }
+
+        for (QName p = im.package_().fullName(); p != null; p = p.qualifier()) {
+            Integer n = cachedPackages.get(p);
+            int count = (n != null ? n.intValue() : 0) + delta;
+
+            if (count > 0) {
+                cachedPackages.put(p, Integer.valueOf(count));
+            }
+            else {
+                cachedPackages.remove(p);
+                packageCache.remove(p);
+            }
+        }
     }
 
     /**
@@ -112,6 +150,16 @@ public class SystemResolver extends CachingResolver implements TopLevelResolver
         }
     }
 
+    /** Count lookups in the <code>Stats</code> of this resolver's extension. */
+    protected Stats stats() {
+        return extInfo.getStats();
+    }
+
+    /** The compiler's build database, or null if not compiling incrementally. */
+    protected BuildDatabase buildDatabase() {
+        return extInfo.compiler() != null ? extInfo.compiler().buildDatabase() : null;
+    }
+
     /**
      * Check if a type is in the cache, returning null if not.
      * @param name The name to search for.
@@ -129,6 +177,11 @@ public class SystemResolver extends CachingResolver implements TopLevelResolver
     public Named find(QName name) throws SemanticException {
         Named n = super.find(name);
 
+        BuildDatabase db = buildDatabase();
+        if (db != null && n instanceof Type) {
+            db.recordDependency(extInfo.scheduler().enclosingJob(), name);
+        }
+
         if (Report.should_report(TOPICS, 2))
             Report.report(2, "Returning from SR.find(" + name + "): " + n);
 
@@ -139,7 +192,39 @@ public class SystemResolver extends CachingResolver implements TopLevelResolver
         if (Report.should_report(TOPICS, 2) && check(name) == null)
             Report.report(2, "SR installing " + name + "->" + q);
         
+        Named old = check(name);
+
         super.install(name, q);
+
+        if (old != q) {
+            synchronized (this) {
+                if (old instanceof Importable) {
+                    unindex((Importable) old);
+                }
+                if (q instanceof Importable) {
+                    unindexed.add((Importable) q);
+                }
+            }
+        }
+    }
+
+    public Named uninstall(QName name) {
+        Named old = super.uninstall(name);
+
+        if (old instanceof Importable) {
+            synchronized (this) {
+                unindex((Importable) old);
+            }
+        }
+
+        return old;
+    }
+
+    /** Remove one cache entry for <code>im</code> from the package index. */
+    protected void unindex(Importable im) {
+        if (! unindexed.remove(im)) {
+            countPackage(im, -1);
+        }
     }
 
     /**
@@ -152,6 +237,12 @@ public class SystemResolver extends CachingResolver implements TopLevelResolver
 
         if (q instanceof ClassType) {
             ClassType ct = (ClassType) q;
+
+            BuildDatabase db = buildDatabase();
+            if (db != null && ct.def().job() != null) {
+                db.recordDefinition(ct.def().job(), name);
+            }
+
             QName containerName = name.qualifier();
             if (containerName != null) {
             if (ct.isTopLevel()) {
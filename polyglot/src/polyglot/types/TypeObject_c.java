@@ -17,6 +17,8 @@ import polyglot.util.*;
  */  
 public abstract class TypeObject_c implements TypeObject
 {
+    private static final long serialVersionUID = -8428041030408667923L;
+
     protected transient TypeSystem ts;
     protected Position position;
 
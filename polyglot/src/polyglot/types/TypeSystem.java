@@ -175,6 +175,18 @@ public interface TypeSystem {
     /**
      * Returns true iff child is not ancestor, but child descends from ancestor.     */
     boolean descendsFrom(ClassDef child, ClassDef ancestor);
+
+    /**
+     * Notify the type system that the supertypes of <code>def</code>
+     * changed, invalidating any cached results of subtype queries.
+     */
+    void supertypesChanged(ClassDef def);
+
+    /**
+     * Notify the type system that the methods of <code>def</code> changed,
+     * invalidating any cached results of method lookups.
+     */
+    void membersChanged(ClassDef def);
     
     /**
      * Returns true iff a cast from fromType to toType is valid; in other
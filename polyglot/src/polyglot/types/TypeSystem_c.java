@@ -28,8 +28,13 @@ public class TypeSystem_c implements TypeSystem
     protected TopLevelResolver loadedResolver;
     protected Map<String, Flags> flagsForName;
     protected ExtensionInfo extInfo;
+    protected SubtypeCache subtypeCache;
+    protected SubtypeCache memberCache;
 
-    public TypeSystem_c() {}
+    public TypeSystem_c() {
+        this.subtypeCache = new SubtypeCache(16384);
+        this.memberCache = new SubtypeCache(16384);
+    }
 
     /**
      * Initializes the type system and its internal constants (which depend on
@@ -322,6 +327,18 @@ public class TypeSystem_c implements TypeSystem
 	if (child == ancestor)
 	    return true;
 
+	Boolean cached = (Boolean) subtypeCache.get(SubtypeCache.DESCENDS_FROM, child, ancestor);
+	if (cached != null)
+	    return cached.booleanValue();
+
+	boolean result = descendsFromImpl(child, ancestor);
+	if (supertypesResolved(child))
+	    subtypeCache.put(SubtypeCache.DESCENDS_FROM, child, ancestor, Boolean.valueOf(result));
+	return result;
+    }
+
+    protected boolean descendsFromImpl(ClassDef child, ClassDef ancestor) {
+
 	ClassDef o = classDefOf(Object());
 
 	if (ancestor == o)
@@ -360,7 +377,110 @@ public class TypeSystem_c implements TypeSystem
     public boolean isCastValid(Type fromType, Type toType, Context context) {
 	assert_(fromType);
 	assert_(toType);
-	return env(context).isCastValid(fromType, toType);
+
+	if (! isCacheable(fromType) || ! isCacheable(toType))
+	    return env(context).isCastValid(fromType, toType);
+
+	ClassDef d1 = classDefOf(fromType);
+	ClassDef d2 = classDefOf(toType);
+	Boolean cached = (Boolean) subtypeCache.get(SubtypeCache.CAST, d1, d2);
+	if (cached != null)
+	    return cached.booleanValue();
+
+	boolean result = env(context).isCastValid(fromType, toType);
+	if (supertypesResolved(d1) && supertypesResolved(d2))
+	    subtypeCache.put(SubtypeCache.CAST, d1, d2, Boolean.valueOf(result));
+	return result;
+    }
+
+    /**
+     * Return true if the results of subtype, cast and least common ancestor
+     * queries on <code>t</code> are determined by its class definition
+     * alone, and so may be cached.  Extensions whose class types carry more
+     * than the definition should only return true for types that do not.
+     */
+    protected boolean isCacheable(Type t) {
+	return t.getClass() == ParsedClassType_c.class;
+    }
+
+    /**
+     * Return true if no supertype of <code>def</code>, or of its ancestors,
+     * is being resolved.  While the goal resolving a supertype runs, a
+     * recursive query sees the supertype as an unknown type, so its
+     * result must not be cached.  Supertypes not yet resolved at all were
+     * not read by the query, and are not searched.
+     */
+    protected boolean supertypesResolved(ClassDef def) {
+	Set<ClassDef> seen = new HashSet<ClassDef>();
+	LinkedList<ClassDef> worklist = new LinkedList<ClassDef>();
+	worklist.add(def);
+
+	while (! worklist.isEmpty()) {
+	    ClassDef d = worklist.removeFirst();
+	    if (! seen.add(d))
+		continue;
+
+	    Ref<? extends Type> sup = d.superType();
+	    if (sup != null && ! supertypeResolved(sup, worklist))
+		return false;
+
+	    for (Ref<? extends Type> i : d.interfaces()) {
+		if (! supertypeResolved(i, worklist))
+		    return false;
+	    }
+	}
+
+	return true;
+    }
+
+    /**
+     * Return false if <code>ref</code> is being resolved.  Otherwise, if
+     * it is resolved to a class, add the class to <code>worklist</code>,
+     * and return true.
+     */
+    private boolean supertypeResolved(Ref<? extends Type> ref, List<ClassDef> worklist) {
+	if (ref instanceof ErrorRef_c)
+	    return false;
+
+	if (ref instanceof LazyRef) {
+	    Runnable r = ((LazyRef<?>) ref).resolver();
+	    if (r instanceof Goal) {
+		switch (((Goal) r).state()) {
+		case NEW:
+		    return true;
+		case RUNNING:
+		case RUNNING_RECURSIVE:
+		case RUNNING_WILL_FAIL:
+		    return false;
+		default:
+		    break;
+		}
+	    }
+	}
+
+	Type t = ref.getCached();
+	if (t instanceof UnknownType)
+	    return false;
+	if (t != null && classDefOf(t) != null)
+	    worklist.add(classDefOf(t));
+	return true;
+    }
+
+    /**
+     * Discard the cached results of subtype, cast and least common ancestor
+     * queries.  Called when the supertypes of a class change.
+     */
+    public void supertypesChanged(ClassDef def) {
+	subtypeCache.clear();
+	memberCache.clear();
+    }
+
+    /**
+     * Discard the cached methods of classes.  Called when the methods of a
+     * class change.
+     */
+    public void membersChanged(ClassDef def) {
+	memberCache.clear();
     }
 
     public TypeEnv env(Context context) {
@@ -381,7 +501,20 @@ public class TypeSystem_c implements TypeSystem
     public boolean isImplicitCastValid(Type fromType, Type toType, Context context) {
 	assert_(fromType);
 	assert_(toType);
-	return env(context).isImplicitCastValid(fromType, toType);
+
+	if (! isCacheable(fromType) || ! isCacheable(toType))
+	    return env(context).isImplicitCastValid(fromType, toType);
+
+	ClassDef d1 = classDefOf(fromType);
+	ClassDef d2 = classDefOf(toType);
+	Boolean cached = (Boolean) subtypeCache.get(SubtypeCache.IMPLICIT_CAST, d1, d2);
+	if (cached != null)
+	    return cached.booleanValue();
+
+	boolean result = env(context).isImplicitCastValid(fromType, toType);
+	if (supertypesResolved(d1) && supertypesResolved(d2))
+	    subtypeCache.put(SubtypeCache.IMPLICIT_CAST, d1, d2, Boolean.valueOf(result));
+	return result;
     }
 
     /**
@@ -642,7 +775,20 @@ public class TypeSystem_c implements TypeSystem
     public boolean isSubtype(Type t1, Type t2, Context context) {
 	assert_(t1);
 	assert_(t2);
-	return env(context).isSubtype(t1, t2);
+
+	if (! isCacheable(t1) || ! isCacheable(t2))
+	    return env(context).isSubtype(t1, t2);
+
+	ClassDef d1 = classDefOf(t1);
+	ClassDef d2 = classDefOf(t2);
+	Boolean cached = (Boolean) subtypeCache.get(SubtypeCache.SUBTYPE, d1, d2);
+	if (cached != null)
+	    return cached.booleanValue();
+
+	boolean result = env(context).isSubtype(t1, t2);
+	if (supertypesResolved(d1) && supertypesResolved(d2))
+	    subtypeCache.put(SubtypeCache.SUBTYPE, d1, d2, Boolean.valueOf(result));
+	return result;
     }
 
     ////
@@ -717,7 +863,7 @@ public class TypeSystem_c implements TypeSystem
 	    }
 	}
 
-	Set<FieldInstance> fields = new HashSet<FieldInstance>();
+	Set<FieldInstance> fields = new LinkedHashSet<FieldInstance>();
 
 	if (container instanceof ObjectType) {
 	    ObjectType ot = (ObjectType) container;
@@ -758,30 +904,7 @@ public class TypeSystem_c implements TypeSystem
 	    "\" within a null container type.");
 	}
 
-	if (container instanceof StructType) {
-	    if (! ((StructType) container).methodsNamed(name).isEmpty()) {
-		return true;
-	    }
-	}
-
-	if (container instanceof ObjectType) {
-	    ObjectType ot = (ObjectType) container;
-	    if (ot.superClass() != null && ot.superClass() instanceof StructType) {
-		if (hasMethodNamed((StructType) ot.superClass(), name)) {
-		    return true;
-		}
-	    }
-
-	    for (Type it : ot.interfaces()) {
-		if (it instanceof StructType) {
-		    if (hasMethodNamed((StructType) it, name)) {
-			return true;
-		    }
-		}
-	    }
-	}
-
-	return false;
+	return ! methodsNamedInHierarchy(container, name, null).isEmpty();
     }
 
     public static class ConstructorMatcher implements Matcher<ConstructorInstance> {
@@ -1235,28 +1358,34 @@ public class TypeSystem_c implements TypeSystem
     }
 
     /**
-     * Populates the list acceptable with those MethodInstances which are
-     * Applicable and Accessible as defined by JLS 15.11.2.1
+     * Return the methods named <code>name</code> declared in
+     * <code>container</code> or in one of its supertypes, in the order the
+     * types are searched: breadth first, starting from
+     * <code>container</code>.  Overridden methods are not removed.  The
+     * result is cached when <code>container</code> is cacheable.
+     * @param context The context in which to compare types, or null for
+     *        the empty context.
      */
-    public List<MethodInstance> findAcceptableMethods(Type container, MethodMatcher matcher)
-    throws SemanticException {
+    protected List<MethodInstance> methodsNamedInHierarchy(Type container, Name name, Context context) {
+	if (! isCacheable(container))
+	    return findMethodsNamedInHierarchy(container, name, context);
 
-	assert_(container);
-	
-	Context context = matcher.context();
-	
-	SemanticException error = null;
+	ClassDef def = classDefOf(container);
+	List<MethodInstance> cached = (List<MethodInstance>) memberCache.get(SubtypeCache.METHODS_NAMED, def, name);
+	if (cached != null)
+	    return cached;
 
-	// The list of acceptable methods. These methods are accessible from
-	// currClass, the method call is valid, and they are not overridden
-	// by an unacceptable method (which can occur with protected methods
-	// only).
-	List<MethodInstance> acceptable = new ArrayList<MethodInstance>();
+	List<MethodInstance> result = Collections.unmodifiableList(findMethodsNamedInHierarchy(container, name, context));
+	if (supertypesResolved(def))
+	    memberCache.put(SubtypeCache.METHODS_NAMED, def, name, result);
+	return result;
+    }
 
-	// A list of unacceptable methods, where the method call is valid, but
-	// the method is not accessible. This list is needed to make sure that
-	// the acceptable methods are not overridden by an unacceptable method.
-	List<MethodInstance> unacceptable = new ArrayList<MethodInstance>();
+    protected List<MethodInstance> findMethodsNamedInHierarchy(Type container, Name name, Context context) {
+	if (context == null)
+	    context = emptyContext();
+
+	List<MethodInstance> result = new ArrayList<MethodInstance>();
 
 	Set<Type> visitedTypes = new HashSet<Type>();
 
@@ -1282,61 +1411,9 @@ public class TypeSystem_c implements TypeSystem
 		    visitedTypes.add(type);
 
 		    if (Report.should_report(Report.types, 2))
-			Report.report(2, "Searching type " + type + " for method " + matcher.signature());
-
-		    for (Iterator<MethodInstance> i = type.methodsNamed(matcher.name()).iterator(); i.hasNext(); ) {
-			MethodInstance mi = i.next();
-
-			if (Report.should_report(Report.types, 3))
-			    Report.report(3, "Trying " + mi);
-
-			try {
-			    mi = matcher.instantiate(mi);
-
-			    if (mi == null) {
-				continue;
-			    }
-
-			    if (isAccessible(mi, context)) {
-				if (Report.should_report(Report.types, 3)) {
-				    Report.report(3, "->acceptable: " + mi + " in "
-				                  + mi.container());
-				}
-
-				acceptable.add(mi);
-			    }
-			    else {
-				// method call is valid, but the method is
-				// unacceptable.
-				unacceptable.add(mi);
-				if (error == null) {
-				    error = new NoMemberException(NoMemberException.METHOD,
-				                                  "Method " + mi.signature() +
-				                                  " in " + container +
-				    " is inaccessible."); 
-				}
-			    }
-
-			    continue;
-			}
-			catch (SemanticException e) {
-			    // Treat any instantiation errors as call invalid errors.
-			    if (error == null)
-				error = new NoMemberException(NoMemberException.METHOD,
-				                              "Method " + mi.signature() +
-				                              " in " + container +
-				                              " cannot be called with arguments " +
-				                              matcher.argumentString() + "; " + e.getMessage()); 
-			}
-
-			if (error == null) {
-			    error = new NoMemberException(NoMemberException.METHOD,
-			                                  "Method " + mi.signature() +
-			                                  " in " + container +
-			                                  " cannot be called with arguments " +
-			                                  matcher.argumentString() + "."); 
-			}
-		    }
+			Report.report(2, "Searching type " + type + " for method " + name);
+
+		    result.addAll(type.methodsNamed(name));
 		}
 
 		if (t instanceof ObjectType) {
@@ -1349,7 +1426,88 @@ public class TypeSystem_c implements TypeSystem
 		    typeQueue.addAll(ot.interfaces());
 		}
 	    }
+
+	return result;
+    }
+
+    /**
+     * Populates the list acceptable with those MethodInstances which are
+     * Applicable and Accessible as defined by JLS 15.11.2.1
+     */
+    public List<MethodInstance> findAcceptableMethods(Type container, MethodMatcher matcher)
+    throws SemanticException {
+
+	assert_(container);
+	
+	Context context = matcher.context();
 	
+	SemanticException error = null;
+
+	// The list of acceptable methods. These methods are accessible from
+	// currClass, the method call is valid, and they are not overridden
+	// by an unacceptable method (which can occur with protected methods
+	// only).
+	List<MethodInstance> acceptable = new ArrayList<MethodInstance>();
+
+	// A list of unacceptable methods, where the method call is valid, but
+	// the method is not accessible. This list is needed to make sure that
+	// the acceptable methods are not overridden by an unacceptable method.
+	List<MethodInstance> unacceptable = new ArrayList<MethodInstance>();
+
+	for (Iterator<MethodInstance> i = methodsNamedInHierarchy(container, matcher.name(), context).iterator(); i.hasNext(); ) {
+	    MethodInstance mi = i.next();
+
+	    if (Report.should_report(Report.types, 3))
+		Report.report(3, "Trying " + mi);
+
+	    try {
+		mi = matcher.instantiate(mi);
+
+		if (mi == null) {
+		    continue;
+		}
+
+		if (isAccessible(mi, context)) {
+		    if (Report.should_report(Report.types, 3)) {
+			Report.report(3, "->acceptable: " + mi + " in "
+				      + mi.container());
+		    }
+
+		    acceptable.add(mi);
+		}
+		else {
+		    // method call is valid, but the method is
+		    // unacceptable.
+		    unacceptable.add(mi);
+		    if (error == null) {
+			error = new NoMemberException(NoMemberException.METHOD,
+						      "Method " + mi.signature() +
+						      " in " + container +
+			" is inaccessible."); 
+		    }
+		}
+
+		continue;
+	    }
+	    catch (SemanticException e) {
+		// Treat any instantiation errors as call invalid errors.
+		if (error == null)
+		    error = new NoMemberException(NoMemberException.METHOD,
+						  "Method " + mi.signature() +
+						  " in " + container +
+						  " cannot be called with arguments " +
+						  matcher.argumentString() + "; " + e.getMessage()); 
+	    }
+
+	    if (error == null) {
+		error = new NoMemberException(NoMemberException.METHOD,
+					      "Method " + mi.signature() +
+					      " in " + container +
+					      " cannot be called with arguments " +
+					      matcher.argumentString() + "."); 
+	    }
+	}
+
 	if (acceptable.size() > 0) {
 		// remove any method in acceptable that are overridden by an
 		// unacceptable
@@ -1419,7 +1577,20 @@ public class TypeSystem_c implements TypeSystem
     {
 	assert_(type1);
 	assert_(type2);
-	return env(context).leastCommonAncestor(type1, type2);
+
+	if (! isCacheable(type1) || ! isCacheable(type2))
+	    return env(context).leastCommonAncestor(type1, type2);
+
+	ClassDef d1 = classDefOf(type1);
+	ClassDef d2 = classDefOf(type2);
+	Type cached = (Type) subtypeCache.get(SubtypeCache.LUB, d1, d2);
+	if (cached != null)
+	    return cached;
+
+	Type result = env(context).leastCommonAncestor(type1, type2);
+	if (supertypesResolved(d1) && supertypesResolved(d2))
+	    subtypeCache.put(SubtypeCache.LUB, d1, d2, result);
+	return result;
     }
 
     ////
@@ -1595,6 +1766,12 @@ public class TypeSystem_c implements TypeSystem
 	    if (ref.get() instanceof ClassDef) {
 		ClassDef ct = (ClassDef) ref.get();
 
+		// A reference to a class being encoded is kept as is; a
+		// placeholder would resolve back to the class being decoded.
+		if (roots.contains(ct)) {
+		    return o;
+		}
+
 		// This should never happen: anonymous and local types cannot
 		// appear in signatures.
 		if (ct.isLocal() || ct.isAnonymous()) {
@@ -1717,12 +1894,14 @@ public class TypeSystem_c implements TypeSystem
      * Factory method for ArrayTypes.
      */
     protected ArrayType arrayType(Position pos, Ref<? extends Type> type) {
-	ArrayType t = (ArrayType) arrayTypeCache.get(type);
-	if (t == null) {
-	    t = createArrayType(pos, type);
-	    arrayTypeCache.put(type, t);
+	synchronized (arrayTypeCache) {
+	    ArrayType t = (ArrayType) arrayTypeCache.get(type);
+	    if (t == null) {
+		t = createArrayType(pos, type);
+		arrayTypeCache.put(type, t);
+	    }
+	    return t;
 	}
-	return t;
     }
 
     protected ArrayType createArrayType(Position pos, Ref<? extends Type> type) {
@@ -1782,6 +1961,13 @@ public class TypeSystem_c implements TypeSystem
      * should be returned in the set in addition to clazz.
      */
     public Set getTypeEncoderRootSet(TypeObject t) {
+	if (t instanceof ClassType) {
+	    // Encode the class's definition along with the type.
+	    Set s = new HashSet();
+	    s.add(t);
+	    s.add(((ClassType) t).def());
+	    return s;
+	}
 	return Collections.singleton(t);
     }
 
@@ -1819,7 +2005,7 @@ public class TypeSystem_c implements TypeSystem
 	assert ct.asType().isGloballyAccessible();
 
 	if (sb.length() > 0)
-	    return QName.make(ct.fullName(), Name.make(sb.toString()));
+	    return QName.make(ct.fullName().qualifier(), Name.make(ct.name() + sb.toString()));
 	else
 	    return QName.make(ct.fullName());
     }
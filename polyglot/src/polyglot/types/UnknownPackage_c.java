@@ -16,6 +16,8 @@ import polyglot.util.InternalCompilerError;
  */
 public class UnknownPackage_c extends Package_c implements UnknownPackage
 {
+    private static final long serialVersionUID = 7081521055209225641L;
+
     /** Used for deserializing types. */
     protected UnknownPackage_c() { }
     
@@ -3,6 +3,8 @@ package polyglot.types;
 import polyglot.util.Position;
 
 public class Use_c<T extends Def> extends TypeObject_c implements Use<T> {
+   private static final long serialVersionUID = -6571291950402711547L;
+
    protected Ref<? extends T> def;
 
    public Use_c(TypeSystem ts, Position pos, Ref<? extends T> def) {
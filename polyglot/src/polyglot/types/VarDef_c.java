@@ -7,6 +7,8 @@
 
 package polyglot.types;
 
+import java.io.Serializable;
+
 import polyglot.util.InternalCompilerError;
 import polyglot.util.Position;
 
@@ -16,6 +18,8 @@ import polyglot.util.Position;
  */
 public abstract class VarDef_c extends Def_c implements VarDef
 {
+    private static final long serialVersionUID = 340662366820442336L;
+
     protected Flags flags;
     protected Ref<? extends Type> type;
     protected Name name;
@@ -33,7 +37,9 @@ public abstract class VarDef_c extends Def_c implements VarDef
     	this.constantRef = Types.<ConstantValue>lazyRef(null);
     }
 
-    public static class ConstantValue {
+    public static class ConstantValue implements Serializable {
+    	private static final long serialVersionUID = 8792235199817238029L;
+
     	private Object value;
     	private boolean isConstant;
     	public ConstantValue() {
@@ -3,6 +3,8 @@ package polyglot.types;
 import polyglot.util.Position;
 
 public class VarInstance_c<T extends VarDef> extends Use_c<T> implements VarInstance<T> {
+    private static final long serialVersionUID = 1662108421276493195L;
+
     public VarInstance_c(TypeSystem ts, Position pos, Ref<? extends T> def) {
         super(ts, pos, def);
     }
@@ -81,39 +81,53 @@ public class ClassFile {
       try {
         int mask = 0;
 
+        String versionName = "jlc$CompilerVersion$" + typeSystemKey;
+        String lastModifiedName = "jlc$SourceLastModified$" + typeSystemKey;
+        String classTypeName = "jlc$ClassType$" + typeSystemKey;
+
+        // The encoded class type may be split over several fields named
+        // classTypeName, classTypeName$1, classTypeName$2, ...
+        Map<String,Field> parts = null;
+
         for (int i = 0; i < fields.length; i++) {
-          if (fields[i].name().equals("jlc$SourceLastModified$" + typeSystemKey)) {
+          String name = fields[i].name();
+
+          if (! name.startsWith("jlc$")) {
+            continue;
+          }
+
+          if (name.equals(lastModifiedName)) {
             jlc.sourceLastModified = fields[i].getLong();
             mask |= 1;
           }
-          else if (fields[i].name().equals("jlc$CompilerVersion$" + typeSystemKey)) {
+          else if (name.equals(versionName)) {
             jlc.compilerVersion = fields[i].getString();
             mask |= 2;
           }
-          else if (fields[i].name().equals("jlc$ClassType$" + typeSystemKey)) {
-            // there is encoded class type information.
-            StringBuffer encodedClassTypeInfo = new StringBuffer(fields[i].getString());
-            // check to see if there are more fields.
-            int seeking = 1;
-            boolean found;
-            do {
-                found = false;
-                String suffix = ("$" + seeking);
-                String seekingFieldName = "jlc$ClassType$" + typeSystemKey + suffix;
-                for (int j = 0; j < fields.length; j++) {
-                    if (fields[j].name().equals(seekingFieldName)) {
-                        encodedClassTypeInfo.append(fields[j].getString());
-                        found = true;
-                        seeking++;
-                        break;
-                    }
-                }
-            } while (found);
-            jlc.encodedClassType = encodedClassTypeInfo.toString();
-            mask |= 4;
+          else if (name.startsWith(classTypeName)) {
+            if (parts == null) {
+              parts = new HashMap<String,Field>();
+            }
+            parts.put(name, fields[i]);
           }
         }
 
+        Field first = parts != null ? parts.get(classTypeName) : null;
+
+        if (first != null) {
+          // there is encoded class type information.
+          StringBuilder encodedClassTypeInfo = new StringBuilder(first.getString());
+          for (int seeking = 1; ; seeking++) {
+            Field f = parts.get(classTypeName + "$" + seeking);
+            if (f == null) {
+              break;
+            }
+            encodedClassTypeInfo.append(f.getString());
+          }
+          jlc.encodedClassType = encodedClassTypeInfo.toString();
+          mask |= 4;
+        }
+
         if (mask != 7) {
           // Not all the information is there.  Reset to default.
           jlc.sourceLastModified = 0;
@@ -257,6 +271,21 @@ public class ClassFile {
       case Constant.UTF8:
 	value = in.readUTF();
 	break;
+      case Constant.METHOD_HANDLE:
+	value = new int[2];
+
+	((int[]) value)[0] = in.readUnsignedByte();
+	((int[]) value)[1] = in.readUnsignedShort();
+	break;
+      case Constant.METHOD_TYPE:
+	value = new Integer(in.readUnsignedShort());
+	break;
+      case Constant.INVOKE_DYNAMIC:
+	value = new int[2];
+
+	((int[]) value)[0] = in.readUnsignedShort();
+	((int[]) value)[1] = in.readUnsignedShort();
+	break;
       default:
 	throw new ClassFormatError("Invalid constant tag: " + tag);
       }
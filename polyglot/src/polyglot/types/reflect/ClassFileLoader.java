@@ -12,6 +12,7 @@ import polyglot.util.FileUtil;
 import polyglot.util.InternalCompilerError;
 import polyglot.frontend.ExtensionInfo;
 import polyglot.frontend.Resource;
+import polyglot.frontend.Stats;
 
 import java.io.*;
 import java.util.*;
@@ -47,6 +48,11 @@ public class ClassFileLoader
 	    InputStream in = r.getInputStream();
 	    c = loadFromStream(r.file(), in, r.name());
 	    in.close();
+
+	    Stats stats = extensionInfo.getStats();
+	    if (stats.enabled()) {
+	        stats.accumulate("class files loaded", 1);
+	    }
 	}
 	catch (IOException e) {
 	    return null;
@@ -58,17 +64,36 @@ public class ClassFileLoader
      * Load a class from an input stream.
      */
     ClassFile loadFromStream(File source, InputStream in, String name) throws IOException {
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-
-        byte[] buf = new byte[4096];
-        int n = 0;
+        // Both file and zip entry streams know how many bytes remain, so
+        // the class is usually read straight into an array of the right
+        // size.
+        int size = in.available();
+        byte[] bytecode = new byte[size > 0 ? size : 4096];
+        int len = 0;
 
-        do {
-            n = in.read(buf);
-            if (n >= 0) out.write(buf, 0, n);
-        } while (n >= 0);
+        for (;;) {
+            int n = in.read(bytecode, len, bytecode.length - len);
+            if (n < 0) {
+                break;
+            }
+            len += n;
+            if (len == bytecode.length) {
+                int b = in.read();
+                if (b < 0) {
+                    break;
+                }
+                byte[] a = new byte[bytecode.length * 2];
+                System.arraycopy(bytecode, 0, a, 0, len);
+                bytecode = a;
+                bytecode[len++] = (byte) b;
+            }
+        }
 
-        byte[] bytecode = out.toByteArray();
+        if (len != bytecode.length) {
+            byte[] a = new byte[len];
+            System.arraycopy(bytecode, 0, a, 0, len);
+            bytecode = a;
+        }
 
         try {
             if (Report.should_report(verbose, 3))
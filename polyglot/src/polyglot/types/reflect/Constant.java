@@ -94,6 +94,22 @@ public class Constant
      */
     public static final byte UTF8               = 1;
 
+    /**
+     * Constant tag for method handles, used by invokedynamic.
+     */
+    public static final byte METHOD_HANDLE        = 15;
+
+    /**
+     * Constant tag for method types, used by invokedynamic.
+     */
+    public static final byte METHOD_TYPE          = 16;
+
+    /**
+     * Constant tag for the bootstrap method and name and type of an
+     * invokedynamic instruction.
+     */
+    public static final byte INVOKE_DYNAMIC       = 18;
+
     /**
      * @param tag
      *        The constant's tag.
@@ -144,11 +160,14 @@ public class Constant
 	    case LONG:
 	    case DOUBLE:
 	    case UTF8:
+	    case METHOD_TYPE:
 		return tag ^ value.hashCode();
 	    case FIELD_REF:
 	    case METHOD_REF:
 	    case INTERFACE_METHOD_REF:
 	    case NAME_AND_TYPE:
+	    case METHOD_HANDLE:
+	    case INVOKE_DYNAMIC:
 		return tag ^ ((int[]) value)[0] ^ ((int[]) value)[1];
 	}
 
@@ -183,11 +202,14 @@ public class Constant
 	    case LONG:
 	    case DOUBLE:
 	    case UTF8:
+	    case METHOD_TYPE:
 		return value.equals(c.value);
 	    case FIELD_REF:
 	    case METHOD_REF:
 	    case INTERFACE_METHOD_REF:
 	    case NAME_AND_TYPE:
+	    case METHOD_HANDLE:
+	    case INVOKE_DYNAMIC:
 		return ((int[]) value)[0] == ((int[]) c.value)[0] &&
 		       ((int[]) value)[1] == ((int[]) c.value)[1];
 	}
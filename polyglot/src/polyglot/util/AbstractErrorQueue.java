@@ -33,7 +33,7 @@ public abstract class AbstractErrorQueue implements ErrorQueue
 	enqueue(new ErrorInfo(type, message, position));
     }
 
-    public final void enqueue(ErrorInfo e) {
+    public final synchronized void enqueue(ErrorInfo e) {
 	if (e.getErrorKind() != ErrorInfo.WARNING &&
             e.getErrorKind() != ErrorInfo.DEBUG) {
 	    errorCount++;
@@ -70,11 +70,11 @@ public abstract class AbstractErrorQueue implements ErrorQueue
         flushed = true;
     }
 
-    public final boolean hasErrors() {
+    public final synchronized boolean hasErrors() {
       return errorCount > 0;
     }
 
-    public final int errorCount() {
+    public final synchronized int errorCount() {
         return errorCount;
     }
 }
@@ -16,6 +16,8 @@ import java.util.*;
 /** An enumerated type.  Enums are interned and can be compared with ==. */
 public class Enum implements Internable, Serializable
 {
+    private static final long serialVersionUID = 3864044934302534755L;
+
     /** The name of the enum.  Used for debugging and interning. */
     private String name;
 
@@ -81,13 +83,15 @@ public class Enum implements Internable, Serializable
     public Enum internEnum() {
         EnumKey k = new EnumKey(this);
 
-	Enum e = (Enum) cache.get(k);
+        synchronized (cache) {
+	    Enum e = (Enum) cache.get(k);
 
-	if (e == null) {
-	    cache.put(k, this);
-	    return this;
-	}
+	    if (e == null) {
+	        cache.put(k, this);
+	        return this;
+	    }
 
-	return e;
+	    return e;
+        }
     }
 }
@@ -0,0 +1,54 @@
+/*
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2006 Polyglot project group, Cornell University
+ *
+ */
+
+package polyglot.util;
+
+
+/**
+ * A <code>ForwardingErrorQueue</code> passes every error on to another
+ * queue, but counts only the errors enqueued through it.  It is used to give
+ * a pass a view of the shared queue that is not affected by errors reported
+ * for other jobs.
+ */
+public class ForwardingErrorQueue implements ErrorQueue
+{
+    protected final ErrorQueue eq;
+    protected int errorCount;
+
+    public ForwardingErrorQueue(ErrorQueue eq) {
+        this.eq = eq;
+        this.errorCount = 0;
+    }
+
+    public void enqueue(int type, String message) {
+        enqueue(type, message, null);
+    }
+
+    public void enqueue(int type, String message, Position position) {
+        enqueue(new ErrorInfo(type, message, position));
+    }
+
+    public void enqueue(ErrorInfo e) {
+        if (e.getErrorKind() != ErrorInfo.WARNING &&
+            e.getErrorKind() != ErrorInfo.DEBUG) {
+            errorCount++;
+        }
+        eq.enqueue(e);
+    }
+
+    public void flush() {
+        eq.flush();
+    }
+
+    public boolean hasErrors() {
+        return errorCount > 0;
+    }
+
+    public int errorCount() {
+        return errorCount;
+    }
+}
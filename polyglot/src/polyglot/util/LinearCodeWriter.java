@@ -0,0 +1,425 @@
+/*
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2006 Polyglot project group, Cornell University
+ *
+ */
+
+package polyglot.util;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LinearCodeWriter is a pretty-printer that formats its input in time linear
+ * in the size of the input, in the style of the Oppen and Wadler
+ * pretty-printers. It follows the same rules for break levels as
+ * OptimalCodeWriter, but rather than searching for a layout that obeys the
+ * margins, it decides each break once, from left to right:
+ * <ul>
+ * <li>A block that fits on the rest of the line, together with the text
+ * following it up to the next break, is printed without breaking any of its
+ * breaks.</li>
+ * <li>In a block that does not fit, a break is broken if the text following
+ * it up to the next break does not fit. A unified break is broken if the
+ * rest of its block does not fit.</li>
+ * <li>As in OptimalCodeWriter, breaking a break forces the breaks of lower
+ * level after it in the same block, and of equal or lower level after it in
+ * containing blocks, to be broken. A break is also broken if a newline
+ * follows it that could not otherwise be broken.</li>
+ * </ul>
+ * Blocks are measured in two passes over the input when it is flushed, and
+ * printed in a third, so the cost of formatting does not depend on how
+ * hard it is to fit the output within the margins. The layout is usually
+ * the same as that of OptimalCodeWriter, but when text cannot be fit within
+ * the margins this writer may break fewer breaks.
+ */
+public class LinearCodeWriter extends CodeWriter {
+    /**
+     * Create a LinearCodeWriter object with output stream <code>o</code>
+     * and width <code>width_</code>.
+     * @param o the writer to write to. Must be non-null.
+     * @param width_ the formatting width. Must be positive.
+     */
+    public LinearCodeWriter(OutputStream o, int width_) {
+        this(new PrintWriter(new OutputStreamWriter(o)), width_);
+    }
+
+    /**
+     * Create a LinearCodeWriter object.
+     * @param o the writer to write to. Must be non-null.
+     * @param width_ the formatting width. Must be positive.
+     */
+    public LinearCodeWriter(PrintWriter o, int width_) {
+        output = o;
+        width = width_;
+        current = input = new Block(null, 0);
+    }
+
+    /**
+     * Create a LinearCodeWriter object.
+     * @param o the writer to write to. Must be non-null.
+     * @param width_ the formatting width. Must be positive.
+     */
+    public LinearCodeWriter(Writer o, int width_) {
+        this(new PrintWriter(o), width_);
+    }
+
+    public void write(String s) {
+        if (s.length() > 0) write(s, s.length());
+    }
+
+    public void write(String s, int length) {
+        current.items.add(new Text(s, length));
+    }
+
+    public void begin(int n) {
+        Block b = new Block(current, n);
+        current.items.add(b);
+        current = b;
+    }
+
+    public void end() {
+        current = current.parent;
+    }
+
+    public void allowBreak(int n, int level, String alt, int altlen) {
+        current.items.add(new Break(n, level, alt, altlen, false, level == 0));
+    }
+
+    public void unifiedBreak(int n, int level, String alt, int altlen) {
+        current.items.add(new Break(n, level, alt, altlen, true, level == 0));
+    }
+
+    public void newline() {
+        newline(0, 1);
+    }
+
+    public void newline(int n, int level) {
+        current.items.add(new Break(n, level, "", 0, true, true));
+    }
+
+    public boolean flush() throws IOException {
+        return flush(true);
+    }
+
+    public boolean flush(boolean format) throws IOException {
+        input.measure();
+        input.measureFollowing(0);
+
+        success = true;
+        breakAll = !format;
+        input.layout(this, 0);
+        output.flush();
+
+        current = input = new Block(null, 0);
+        return format && success;
+    }
+
+    public void close() throws IOException {
+        flush();
+        output.close();
+    }
+
+    /**
+     * Return a readable representation of all the structured input given to
+     * the CodeWriter since the last flush.
+     */
+    public String toString() {
+        return input.toString();
+    }
+
+    protected Block input;
+    protected Block current;
+
+    protected PrintWriter output;
+    protected int width;
+
+    /** False if the margins were not obeyed by the output. */
+    protected boolean success;
+
+    /** True if all breaks are to be broken. */
+    protected boolean breakAll;
+
+    /** The minimum break level returned by <code>Block.layout</code>. */
+    protected int minLevel;
+
+    /** Print a newline followed by <code>n</code> spaces. */
+    protected int newlineAndIndent(int n) {
+        output.println();
+        for (int i = 0; i < n; i++) output.print(' ');
+        return n;
+    }
+
+    /** Print <code>s</code> and return the new position. */
+    protected int print(String s, int length, int pos) {
+        output.print(s);
+        pos += length;
+        if (pos > width) success = false;
+        return pos;
+    }
+
+    /** A piece of input. */
+    protected static abstract class Item {
+        /** Width of the item if none of its breaks are broken. */
+        abstract int flatWidth();
+    }
+
+    protected static class Text extends Item {
+        final String s;
+        final int length;
+
+        Text(String s, int length) {
+            this.s = s;
+            this.length = length;
+        }
+
+        int flatWidth() { return length; }
+
+        public String toString() { return s; }
+    }
+
+    protected static class Break extends Item {
+        final int indent;
+        final int level;
+        final String alt;
+        final int altlen;
+        final boolean unified;
+
+        /** True for newlines and level-0 breaks, which are always broken. */
+        final boolean forced;
+
+        /** Width of the text after the break up to the next break. */
+        int segment;
+
+        /** Width of the rest of the block after the break, and the text after the block up to the next break. */
+        int rest;
+
+        /** True if the break must be broken because of a newline after it. */
+        boolean mustBreak;
+
+        Break(int indent, int level, String alt, int altlen, boolean unified, boolean forced) {
+            this.indent = indent;
+            this.level = level;
+            this.alt = alt;
+            this.altlen = altlen;
+            this.unified = unified;
+            this.forced = forced;
+        }
+
+        int flatWidth() { return altlen; }
+
+        public String toString() {
+            if (forced) return indent == 0 ? "\\n" : "\\n[" + indent + "]";
+            return indent == 0 ? " " : "^" + indent;
+        }
+    }
+
+    protected static class Block extends Item {
+        final Block parent;
+        final int indent;
+        final List<Item> items;
+
+        /** Width of the block if none of its breaks are broken. */
+        int flat;
+
+        /** True if the block contains a forced break. */
+        boolean hard;
+
+        /** Width of the block up to its first forced break. */
+        int lead;
+
+        /** The highest level of the forced breaks in the block. */
+        int forcedLevel;
+
+        /** Width of the text after the block up to the next break. */
+        int following;
+
+        Block(Block parent, int indent) {
+            this.parent = parent;
+            this.indent = indent;
+            this.items = new ArrayList<Item>();
+        }
+
+        int flatWidth() { return flat; }
+
+        /**
+         * Compute the widths of this block and the blocks it contains.
+         */
+        void measure() {
+            flat = 0;
+            lead = 0;
+            hard = false;
+            forcedLevel = -1;
+
+            for (int i = 0; i < items.size(); i++) {
+                Item it = items.get(i);
+
+                if (it instanceof Block) {
+                    Block b = (Block) it;
+                    b.measure();
+                    if (b.hard) {
+                        if (! hard) lead += b.lead;
+                        hard = true;
+                        forcedLevel = Math.max(forcedLevel, b.forcedLevel);
+                    }
+                }
+                else if (it instanceof Break && ((Break) it).forced) {
+                    hard = true;
+                    forcedLevel = Math.max(forcedLevel, ((Break) it).level);
+                }
+
+                if (! hard) lead += it.flatWidth();
+                flat += it.flatWidth();
+            }
+        }
+
+        /**
+         * Compute the text following each break in this block and the blocks
+         * it contains, given the width <code>following</code> of the text
+         * after the block up to the next break.
+         */
+        void measureFollowing(int following) {
+            this.following = following;
+
+            int segment = following;
+            int rest = following;
+
+            // The highest level of the forced breaks after the current item,
+            // in this block and in nested blocks.
+            int forcedAhead = -1;
+            int forcedAheadInner = -1;
+
+            for (int i = items.size() - 1; i >= 0; i--) {
+                Item it = items.get(i);
+
+                if (it instanceof Break) {
+                    Break b = (Break) it;
+                    b.segment = segment;
+                    b.rest = rest;
+
+                    // Leaving a break unbroken would prevent breaking a
+                    // newline after it.
+                    b.mustBreak = forcedAheadInner >= b.level ||
+                                  (b.unified ? forcedAhead >= b.level : forcedAhead > b.level);
+
+                    if (b.forced) {
+                        forcedAhead = Math.max(forcedAhead, b.level);
+                        segment = 0;
+                        rest = 0;
+                    }
+                    else {
+                        segment = 0;
+                        rest += b.altlen;
+                    }
+                }
+                else if (it instanceof Block) {
+                    Block b = (Block) it;
+                    b.measureFollowing(segment);
+
+                    if (b.hard) {
+                        forcedAheadInner = Math.max(forcedAheadInner, b.forcedLevel);
+                        segment = b.lead;
+                        rest = b.lead;
+                    }
+                    else {
+                        segment += b.flat;
+                        rest += b.flat;
+                    }
+                }
+                else {
+                    segment += it.flatWidth();
+                    rest += it.flatWidth();
+                }
+            }
+        }
+
+        /**
+         * Print the block starting at position <code>pos</code>.
+         * @return the new position, and in <code>w.minLevel</code> the
+         * level at or below which breaks after the block in the containing
+         * block must be broken.
+         */
+        int layout(LinearCodeWriter w, int pos) {
+            int lmargin = pos + indent;
+
+            if (! hard && ! w.breakAll && pos + flat + following <= w.width) {
+                for (int i = 0; i < items.size(); i++) {
+                    Item it = items.get(i);
+                    if (it instanceof Text) {
+                        pos = w.print(((Text) it).s, ((Text) it).length, pos);
+                    }
+                    else if (it instanceof Break) {
+                        pos = w.print(((Break) it).alt, ((Break) it).altlen, pos);
+                    }
+                    else {
+                        pos = ((Block) it).layout(w, pos);
+                    }
+                }
+                w.minLevel = 0;
+                return pos;
+            }
+
+            // Breaks of level at or below minLevel must be broken, as must
+            // unified breaks of level at or below minLevelUnified.
+            int minLevel = 0;
+            int minLevelUnified = 0;
+
+            for (int i = 0; i < items.size(); i++) {
+                Item it = items.get(i);
+
+                if (it instanceof Text) {
+                    pos = w.print(((Text) it).s, ((Text) it).length, pos);
+                }
+                else if (it instanceof Block) {
+                    pos = ((Block) it).layout(w, pos);
+                    minLevel = Math.max(minLevel, w.minLevel);
+                    minLevelUnified = Math.max(minLevelUnified, w.minLevel);
+                }
+                else {
+                    Break b = (Break) it;
+
+                    boolean broken;
+
+                    if (b.forced || b.mustBreak || w.breakAll) {
+                        broken = true;
+                    }
+                    else if (b.unified) {
+                        broken = b.level <= minLevelUnified || pos + b.altlen + b.rest > w.width;
+                    }
+                    else {
+                        broken = b.level <= minLevel || pos + b.altlen + b.segment > w.width;
+                    }
+
+                    if (broken) {
+                        pos = w.newlineAndIndent(lmargin + b.indent);
+                        minLevel = Math.max(minLevel, b.level - 1);
+                        minLevelUnified = Math.max(minLevelUnified, b.level);
+                    }
+                    else {
+                        pos = w.print(b.alt, b.altlen, pos);
+                    }
+                }
+            }
+
+            w.minLevel = minLevelUnified;
+            return pos;
+        }
+
+        public String toString() {
+            StringBuffer sb = new StringBuffer();
+            sb.append("[");
+            if (indent != 0) sb.append(indent);
+            for (int i = 0; i < items.size(); i++) {
+                sb.append(items.get(i));
+            }
+            sb.append("]");
+            return sb.toString();
+        }
+    }
+}
@@ -181,6 +181,9 @@ public class OptimalCodeWriter extends CodeWriter {
 	if (format) {
 	    try {
 	        top = input;
+	        if (debug || visualize) {
+	            formatting.set(this);
+	        }
 	        Item.format(input, 0, 0, width, width,
                     new MaxLevels(Integer.MAX_VALUE, Integer.MAX_VALUE), 0, 0);
 	    } catch (Overrun o) { success = false; }
@@ -212,11 +215,12 @@ public class OptimalCodeWriter extends CodeWriter {
     protected BlockItem input;
     protected BlockItem current;
     
-    protected static Item top;
+    /** The item being formatted by <code>flush</code>, for tracing. */
+    protected Item top;
 
     protected PrintWriter output;
     protected int width;
-    protected static int format_calls = 0;
+    protected int format_calls = 0;
     public static final boolean debug = false;      // show every step
     public static final boolean showInput = false;  // show input
     public static final boolean visualize = false;  // visualize formatting
@@ -224,6 +228,12 @@ public class OptimalCodeWriter extends CodeWriter {
 
     public static final boolean precompute = true;  // use memoization
 
+    /**
+     * The writer being flushed on the current thread, used by the tracing
+     * code in the static formatting methods.  Set only if tracing.
+     */
+    static final ThreadLocal<OptimalCodeWriter> formatting = new ThreadLocal<OptimalCodeWriter>();
+
     // Debugging methods
 
     /** Amount to indent during tracing. */
@@ -269,7 +279,7 @@ class Overrun extends Exception
 	    System.err.print("\033[H\033[2J");
 	    PrintWriter w = new PrintWriter(new OutputStreamWriter(System.err));
 	    try {	            	            
-		OptimalCodeWriter.top.sendOutput(w, 0, 0, true, it);
+		OptimalCodeWriter.formatting.get().top.sendOutput(w, 0, 0, true, it);
 	    }
 	    catch (IOException e) {  }
 	    w.flush();
@@ -426,13 +436,14 @@ abstract class Item
             		       MaxLevels m, int minLevel, int minLevelUnified)
 	throws Overrun
     {
-        OptimalCodeWriter.format_calls++;
 	if (OptimalCodeWriter.debug) {
-	    if (it != null && it != OptimalCodeWriter.top) {
+	    OptimalCodeWriter cw = OptimalCodeWriter.formatting.get();
+            cw.format_calls++;
+	    if (it != null && it != cw.top) {
 	        System.err.println("SNAPSHOT:");
 	        PrintWriter w = new PrintWriter(new OutputStreamWriter(System.err));
 	        try {	            	            
-	            OptimalCodeWriter.top.sendOutput(w, 0, 0, true, it);
+	            cw.top.sendOutput(w, 0, 0, true, it);
 	        }
 	        catch (IOException e) {  }
 	        w.write("<END>\n");
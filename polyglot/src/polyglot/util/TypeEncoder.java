@@ -9,8 +9,7 @@ package polyglot.util;
 
 import java.io.*;
 import java.util.*;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.*;
 
 import polyglot.frontend.SchedulerException;
 import polyglot.main.Report;
@@ -30,6 +29,11 @@ import polyglot.types.*;
  * <code>PlaceHolder</code> that contains the name of the class. To aid
  * in the decoding process, placeholders for member classes user their 
  * "mangled" name; non-member classes use their fully qualified name.
+ * <p>
+ * The byte stream starts with a short versioned header.  Class descriptors
+ * are written as just the class name and serial version UID rather than
+ * the full field layout, and the stream is deflated without the GZIP
+ * framing.  Types encoded by older compilers are still decoded.
  */
 public class TypeEncoder
 {
@@ -37,6 +41,19 @@ public class TypeEncoder
     protected final boolean zip = true;
     protected final boolean base64 = true;
     protected final boolean test = false;
+
+    /**
+     * Encoded types begin with these two bytes followed by the format
+     * version.  Types encoded by older compilers begin with the
+     * <code>ObjectOutputStream</code> or GZIP magic number instead.
+     * Since class descriptors are not written in full, the version must
+     * change whenever the serialized form of a type class does.  Version 3
+     * encodes the members of a class as nested bytes.
+     */
+    protected static final byte MAGIC_0 = (byte) 'P';
+    protected static final byte MAGIC_1 = (byte) 'T';
+    protected static final byte VERSION = 3;
+
     protected Map placeHolderCache;
     protected Map dependencies;
     protected int depth;
@@ -61,17 +78,30 @@ public class TypeEncoder
         }
         
         baos = new ByteArrayOutputStream();
-        
+        baos.write(MAGIC_0);
+        baos.write(MAGIC_1);
+        baos.write(VERSION);
+
+        Deflater deflater = null;
+
         if (zip) {
-            oos = new TypeOutputStream(new GZIPOutputStream(baos), ts, t);
+            deflater = new Deflater(Deflater.BEST_COMPRESSION);
+            oos = new TypeOutputStream(new DeflaterOutputStream(baos, deflater), ts, t, true);
         }
         else {
-            oos = new TypeOutputStream(baos, ts, t);
+            oos = new TypeOutputStream(baos, ts, t, true);
         }
 
-        oos.writeObject(t);
-        oos.flush();
-        oos.close();
+        try {
+            oos.writeObject(t);
+            oos.flush();
+            oos.close();
+        }
+        finally {
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
         
         byte[] b = baos.toByteArray();
         
@@ -155,17 +185,33 @@ public class TypeEncoder
         depth++;
         
         try {
-            if (zip && !base64) {
+            if (b.length >= 3 && b[0] == MAGIC_0 && b[1] == MAGIC_1) {
+                if (b[2] != VERSION) {
+                    throw new InvalidClassException(String.valueOf(name),
+                                                    "serialized type information has format version " +
+                                                    b[2] + ", expected " + VERSION);
+                }
+
+                InputStream in = new ByteArrayInputStream(b, 3, b.length - 3);
+                if (zip) {
+                    in = new InflaterInputStream(in);
+                }
+                ois = new TypeInputStream(in, ts, placeHolderCache, true);
+            }
+            else if (zip && !base64) {
+                // Serialized by an older compiler.
                 // The base64 decoder automatically unzips byte streams, so
                 // we only need an explicit GZIPInputStream if we are not
                 // using base64 encoding.
                 ois = new TypeInputStream(new GZIPInputStream(new ByteArrayInputStream(b)), ts, placeHolderCache);
             }
             else {
+                // Serialized by an older compiler.
                 ois = new TypeInputStream(new ByteArrayInputStream(b), ts, placeHolderCache);
             }
       
             TypeObject o = (TypeObject) ois.readObject();
+            ois.close();
             
             if (ois.deserializationFailed()) {
                 return null;
@@ -194,4 +240,56 @@ public class TypeEncoder
             depth--;
         }
     }
+
+    /**
+     * Serialize part of a type object to be embedded in the encoding of the
+     * type object itself, for decoding on demand with
+     * <code>decodeNested</code>.  The bytes are not compressed, since the
+     * enclosing encoding is.  All references to classes, including the
+     * enclosing class, are written as placeholders.
+     */
+    public byte[] encodeNested(Object o) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new TypeOutputStream(baos, ts, Collections.<Object>emptySet(), true);
+        oos.writeObject(o);
+        oos.close();
+        return baos.toByteArray();
+    }
+
+    /**
+     * Decode bytes produced by <code>encodeNested</code>.
+     * @param name The name of the enclosing class, for error messages.
+     * @return The decoded object, or null if deserialization fails.
+     * @throws InvalidClassException If the bytes are malformed or were
+     * written by an incompatible compiler.
+     */
+    public Object decodeNested(byte[] b, QName name) throws InvalidClassException {
+        if (Report.should_report(Report.serialize, 1))
+            Report.report(1, "TypeEncoder decoding members of " + name);
+
+        try {
+            TypeInputStream ois = new TypeInputStream(new ByteArrayInputStream(b), ts, new HashMap(), true);
+            Object o = ois.readObject();
+            ois.close();
+
+            if (ois.deserializationFailed()) {
+                return null;
+            }
+
+            return o;
+        }
+        catch (InvalidClassException e) {
+            throw e;
+        }
+        catch (IOException e) {
+            throw new InvalidClassException(String.valueOf(name),
+                                            "IOException thrown while decoding serialized type info: " +
+                                            e.getMessage());
+        }
+        catch (ClassNotFoundException e) {
+            throw new InvalidClassException(String.valueOf(name),
+                                            "Unable to find one of the classes for the serialized type info: " +
+                                            e.getMessage());
+        }
+    }
 }
@@ -22,12 +22,27 @@ public class TypeInputStream extends ObjectInputStream {
     protected boolean failed;
     protected boolean enableReplace;
     protected Set placeHoldersUsed;
+    protected boolean compact;
     
     public TypeInputStream(InputStream in, TypeSystem ts, Map cache)
         throws IOException
+    {
+        this(in, ts, cache, false);
+    }
+
+    /**
+     * Create a stream for reading type objects.  If <code>compact</code>
+     * is true, class descriptors are expected in the form written by a
+     * compact <code>TypeOutputStream</code> and are replaced by the
+     * descriptors of the local classes.
+     */
+    public TypeInputStream(InputStream in, TypeSystem ts, Map cache, boolean compact)
+        throws IOException
     {
         super(in);
 
+        this.compact = compact;
+
         enableResolveObject(true);
 
         this.ts = ts;
@@ -49,6 +64,24 @@ public class TypeInputStream extends ObjectInputStream {
         return ts;
     }
     
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+        if (! compact) {
+            return super.readClassDescriptor();
+        }
+
+        String name = readUTF();
+        long suid = readLong();
+
+        Class c = Class.forName(name, false, ts.getClass().getClassLoader());
+        ObjectStreamClass desc = ObjectStreamClass.lookupAny(c);
+
+        if (desc == null || desc.getSerialVersionUID() != suid) {
+            throw new InvalidClassException(name, "local class incompatible with serialized type information");
+        }
+
+        return desc;
+    }
+
     private final static Object UNRESOLVED = new Object();
     
     public void enableReplace(boolean f) {
@@ -20,14 +20,38 @@ public class TypeOutputStream extends ObjectOutputStream
     protected TypeSystem ts;
     protected Set<Object> roots;
     protected Map<Object,Object> placeHolders;
+    protected boolean compact;
     
     public TypeOutputStream(OutputStream out, TypeSystem ts, TypeObject root) 
         throws IOException
+    {
+        this(out, ts, root, false);
+    }
+
+    /**
+     * Create a stream for writing type objects.  If <code>compact</code>
+     * is true, class descriptors are written as just the class name and
+     * serial version UID; the stream must then be read by a
+     * <code>TypeInputStream</code> created with <code>compact</code> true.
+     */
+    public TypeOutputStream(OutputStream out, TypeSystem ts, TypeObject root, boolean compact) 
+        throws IOException
+    {
+        this(out, ts, ts.getTypeEncoderRootSet(root), compact);
+    }
+
+    /**
+     * Create a stream for writing type objects, replacing references to
+     * classes not in <code>roots</code> with placeholders.
+     */
+    public TypeOutputStream(OutputStream out, TypeSystem ts, Set<Object> roots, boolean compact) 
+        throws IOException
     {
         super( out);
         
         this.ts = ts;
-        this.roots = ts.getTypeEncoderRootSet(root);
+        this.compact = compact;
+        this.roots = roots;
         this.placeHolders = new HashMap<Object, Object>();
         
         if (Report.should_report(Report.serialize, 2)) {
@@ -37,6 +61,16 @@ public class TypeOutputStream extends ObjectOutputStream
         enableReplaceObject( true);
     }
     
+    protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+        if (compact) {
+            writeUTF(desc.getName());
+            writeLong(desc.getSerialVersionUID());
+        }
+        else {
+            super.writeClassDescriptor(desc);
+        }
+    }
+
     protected Object placeHolder(TypeObject o, boolean useRoots) {
         Object k = new IdentityKey(o);
         Object p = placeHolders.get(k);
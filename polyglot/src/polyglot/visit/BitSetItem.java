@@ -0,0 +1,199 @@
+/*
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2006 Polyglot project group, Cornell University
+ *
+ */
+
+package polyglot.visit;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A <code>BitSetItem</code> is a dataflow item that is a set of small
+ * integers, for gen/kill analyses whose facts can be numbered, such as the
+ * variables of a method.  Items are immutable.  The set operations return
+ * one of their operands rather than a new item when the result is equal to
+ * it, so that confluence and flow allocate nothing once the analysis
+ * reaches its fixed point.
+ * <p>
+ * Subclasses implement <code>create</code> to make items of their own
+ * class, and may return canonical instances from it.
+ */
+public abstract class BitSetItem extends DataFlow.Item
+{
+    protected static final long[] EMPTY = new long[0];
+
+    /** The set, with no trailing zero words. */
+    protected final long[] bits;
+
+    protected BitSetItem(long[] bits) {
+        this.bits = trim(bits);
+    }
+
+    /** Create an item of this class with the given bits. */
+    protected abstract BitSetItem create(long[] bits);
+
+    /** Return true if <code>i</code> is in the set. */
+    public boolean get(int i) {
+        int w = i >> 6;
+        return w < bits.length && (bits[w] & (1L << i)) != 0;
+    }
+
+    /** Return true if the set is empty. */
+    public boolean isEmpty() {
+        return bits.length == 0;
+    }
+
+    /** Return the set with <code>i</code> added. */
+    public BitSetItem set(int i) {
+        if (get(i)) {
+            return this;
+        }
+        int w = i >> 6;
+        long[] b = new long[Math.max(bits.length, w + 1)];
+        System.arraycopy(bits, 0, b, 0, bits.length);
+        b[w] |= 1L << i;
+        return create(b);
+    }
+
+    /** Return the set with <code>i</code> removed. */
+    public BitSetItem clear(int i) {
+        if (! get(i)) {
+            return this;
+        }
+        long[] b = (long[]) bits.clone();
+        b[i >> 6] &= ~(1L << i);
+        return create(b);
+    }
+
+    /** Return true if every element of <code>item</code> is in the set. */
+    public boolean containsAll(BitSetItem item) {
+        if (item.bits.length > bits.length) {
+            return false;
+        }
+        for (int w = 0; w < item.bits.length; w++) {
+            if ((item.bits[w] & ~bits[w]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Return the union of the set and <code>item</code>. */
+    public BitSetItem union(BitSetItem item) {
+        if (containsAll(item)) {
+            return this;
+        }
+        if (item.containsAll(this)) {
+            return item;
+        }
+        long[] b = new long[Math.max(bits.length, item.bits.length)];
+        for (int w = 0; w < b.length; w++) {
+            b[w] = (w < bits.length ? bits[w] : 0) | (w < item.bits.length ? item.bits[w] : 0);
+        }
+        return create(b);
+    }
+
+    /** Return the intersection of the set and <code>item</code>. */
+    public BitSetItem intersection(BitSetItem item) {
+        if (item.containsAll(this)) {
+            return this;
+        }
+        if (containsAll(item)) {
+            return item;
+        }
+        long[] b = new long[Math.min(bits.length, item.bits.length)];
+        for (int w = 0; w < b.length; w++) {
+            b[w] = bits[w] & item.bits[w];
+        }
+        return create(b);
+    }
+
+    /** Return the set with the elements of <code>item</code> removed. */
+    public BitSetItem difference(BitSetItem item) {
+        int n = Math.min(bits.length, item.bits.length);
+        boolean disjoint = true;
+        for (int w = 0; w < n && disjoint; w++) {
+            disjoint = (bits[w] & item.bits[w]) == 0;
+        }
+        if (disjoint) {
+            return this;
+        }
+        long[] b = (long[]) bits.clone();
+        for (int w = 0; w < n; w++) {
+            b[w] &= ~item.bits[w];
+        }
+        return create(b);
+    }
+
+    /**
+     * Return the union of a non-empty list of <code>BitSetItem</code>s.
+     * If one of the items contains the others, it is returned.
+     */
+    public static BitSetItem union(List items) {
+        BitSetItem result = (BitSetItem) items.get(0);
+        for (int i = 1; i < items.size(); i++) {
+            result = result.union((BitSetItem) items.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Return the intersection of a non-empty list of
+     * <code>BitSetItem</code>s.  If one of the items is contained in the
+     * others, it is returned.
+     */
+    public static BitSetItem intersection(List items) {
+        BitSetItem result = (BitSetItem) items.get(0);
+        for (int i = 1; i < items.size(); i++) {
+            result = result.intersection((BitSetItem) items.get(i));
+        }
+        return result;
+    }
+
+    private static long[] trim(long[] bits) {
+        int n = bits.length;
+        while (n > 0 && bits[n-1] == 0) {
+            n--;
+        }
+        if (n == 0) {
+            return EMPTY;
+        }
+        if (n == bits.length) {
+            return bits;
+        }
+        long[] b = new long[n];
+        System.arraycopy(bits, 0, b, 0, n);
+        return b;
+    }
+
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof BitSetItem && o.getClass() == getClass()) {
+            return Arrays.equals(bits, ((BitSetItem) o).bits);
+        }
+        return false;
+    }
+
+    public int hashCode() {
+        return Arrays.hashCode(bits);
+    }
+
+    public String toString() {
+        StringBuffer sb = new StringBuffer("{");
+        for (int w = 0; w < bits.length; w++) {
+            for (int i = 0; i < 64; i++) {
+                if ((bits[w] & (1L << i)) != 0) {
+                    if (sb.length() > 1) sb.append(", ");
+                    sb.append(w * 64 + i);
+                }
+            }
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+}
@@ -211,10 +211,10 @@ public class CFGBuilder implements Copy
 
     /** Visit the AST, constructing the CFG. */
     public void visitGraph() {
-        String name = StringUtil.getShortNameComponent(df.getClass().getName());
-        name += counter++;
-
 	if (Report.should_report(Report.cfg, 2)) {
+            String name = StringUtil.getShortNameComponent(df.getClass().getName());
+            name += counter++;
+
             String rootName = "";
             if (graph.root() instanceof CodeNode) {
                 CodeNode cd = (CodeNode)graph.root();
@@ -23,6 +23,10 @@ public class ConstructorCallChecker extends ContextVisitor
     }
 
     protected Map constructorInvocations = new HashMap();
+
+    public boolean readOnly() {
+        return true;
+    }
     
     protected NodeVisitor enterCall(Node n) throws SemanticException {
         if (n instanceof ConstructorCall) {
@@ -110,9 +110,21 @@ public class ContextVisitor extends ErrorHandlingVisitor
             return new PruningVisitor();
         }
 
-        ContextVisitor v = this;
+        return enter(parent, n, this.enterScope(parent, n));
+    }
 
-        Context c = this.enterScope(parent, n);
+    /**
+     * Begin traversal of <code>n</code> in the context <code>c</code>,
+     * which the caller has computed with <code>enterScope</code>.  This is
+     * used by a <code>FusedVisitor</code> to compute the context once for
+     * all the visitors it runs.
+     */
+    protected final NodeVisitor enter(Node parent, Node n, Context c) {
+        if (prune) {
+            return new PruningVisitor();
+        }
+
+        ContextVisitor v = this;
 
         if (c != this.context) {
             v = (ContextVisitor) this.copy();
@@ -141,4 +153,17 @@ public class ContextVisitor extends ErrorHandlingVisitor
         this.addDecls(m);
         return m;
     }
+
+    /**
+     * Finish traversal of <code>n</code> without adding its declarations to
+     * the context.  This is used by a <code>FusedVisitor</code>, which adds
+     * the declarations once for all the visitors it runs.
+     */
+    protected final Node leaveWithoutDecls(Node parent, Node old, Node n, NodeVisitor v) {
+        if (v instanceof PruningVisitor || prune) {
+            return n;
+        }
+
+        return super.leave(parent, old, n, v);
+    }
 }
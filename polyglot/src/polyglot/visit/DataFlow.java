@@ -13,6 +13,7 @@ import java.util.*;
 import polyglot.ast.*;
 import polyglot.frontend.Globals;
 import polyglot.frontend.Job;
+import polyglot.frontend.Stats;
 import polyglot.main.Report;
 import polyglot.types.*;
 import polyglot.util.*;
@@ -40,6 +41,16 @@ public abstract class DataFlow extends ErrorHandlingVisitor
      * <code>CodeNode</code>s will have already been processed.
      */
     protected final boolean dataflowOnEntry;
+
+    /**
+     * Indicates whether the dataflow equations are solved with a worklist,
+     * which evaluates a peer again only when the out item of one of its
+     * predecessors changes, rather than by evaluating all the peers of a
+     * strongly connected component until none changes.  Both reach the same
+     * fixed point if the flow and confluence operations are monotone.
+     * Subclasses opt in by setting this in their constructors.
+     */
+    protected boolean worklist;
     
     /**
      * A stack of <code>FlowGraphSource</code>. The flow graph is constructed 
@@ -422,13 +433,11 @@ public abstract class DataFlow extends ErrorHandlingVisitor
             FlowGraph g = initGraph(cd, cd);
 
             if (g != null) {
-                // Build the control flow graph.
-                CFGBuilder v = createCFGBuilder(ts, g);
-
                 long t1 = System.currentTimeMillis();
                 
+                // Build the control flow graph.
                 try {
-                    v.visitGraph();
+                    g = buildGraph(g);
                 }
                 catch (CFGBuildError e) {
                     throw new SemanticException(e.message(), e.position());
@@ -444,9 +453,12 @@ public abstract class DataFlow extends ErrorHandlingVisitor
                 
                 long t4 = System.currentTimeMillis();
 
-                Globals.Stats().accumulate("DataFlow.cfg.build", (t2-t1));
-                Globals.Stats().accumulate("DataFlow.dataflow", (t3-t2));
-                Globals.Stats().accumulate("DataFlow.post", (t4-t3));
+                Stats stats = Globals.Stats();
+                if (stats.enabled()) {
+                    stats.accumulate("DataFlow.cfg.build", (t2-t1));
+                    stats.accumulate("DataFlow.dataflow", (t3-t2));
+                    stats.accumulate("DataFlow.post", (t4-t3));
+                }
 
                 // push the CFG onto the stack if we are dataflowing on entry
                 if (dataflowOnEntry)
@@ -455,17 +467,6 @@ public abstract class DataFlow extends ErrorHandlingVisitor
         }
     }
 
-    /** A "stack frame" for recursive DFS */
-    static private class Frame {
-	private Peer peer;
-	private Iterator edges;
-	Frame(Peer p, boolean forward) {
-	    peer = p;
-	    if (forward) edges = p.succs().iterator();
-	    else edges = p.preds().iterator();
-	}
-    }
-
     /** Returns the linked list [by_scc, scc_head] where
      *  by_scc is an array in which SCCs occur in topologically
      *  order. 
@@ -473,90 +474,106 @@ public abstract class DataFlow extends ErrorHandlingVisitor
      *  scc_head[n] where n is the last peer in a (non-singleton) SCC is set
      *  to the index of the first peer. Otherwise it is -2. */
     protected LinkedList findSCCs(FlowGraph graph) {
-	Collection peers = graph.peers();
-	Peer[] sorted = new Peer[peers.size()];
+	int npeers = graph.peerCount();
+	int[] sorted = new int[npeers];
         Collection start = graph.startPeers();
 	  // if start == peers, making all nodes reachable,
 	  // the problem still arises.
 
-	//System.out.println("scc: npeers = " + peers.size());
+	// Stack of peers for the depth-first searches, and the index of the
+	// next edge of each to follow.
+	int[] stack = new int[npeers];
+	int[] edges = new int[npeers];
+	int sp;
 
 // First, topologically sort the nodes (put in postorder)
 	int n = 0;
-	LinkedList stack = new LinkedList();
-	Set reachable = new HashSet();
+	boolean[] reachable = new boolean[npeers];
 	for (Iterator i = start.iterator(); i.hasNext(); ) {
-	  Peer peer = (Peer)i.next();
-	  if (!reachable.contains(peer)) {
-	    reachable.add(peer);
-	    stack.addFirst(new Frame(peer, true));
-	    while (stack.size() != 0) {
-		Frame top = (Frame)stack.getFirst();
-		if (top.edges.hasNext()) {
-		    Edge e = (Edge)top.edges.next();
-		    Peer q = e.getTarget();
-		    if (!reachable.contains(q)) {
-			reachable.add(q);
-			stack.addFirst(new Frame(q, true));
+	  int peer = ((Peer)i.next()).index();
+	  if (!reachable[peer]) {
+	    reachable[peer] = true;
+	    stack[0] = peer;
+	    edges[0] = 0;
+	    sp = 1;
+	    while (sp != 0) {
+		int top = stack[sp-1];
+		int[] succs = graph.succIndices(top);
+		if (edges[sp-1] < succs.length) {
+		    int q = succs[edges[sp-1]++];
+		    if (!reachable[q]) {
+			reachable[q] = true;
+			stack[sp] = q;
+			edges[sp] = 0;
+			sp++;
 		    }
 		} else {
-		    stack.removeFirst();
-		    sorted[n++] = top.peer;
+		    sp--;
+		    sorted[n++] = top;
 		}
 	    }
 	  }
 	}
-	//System.out.println("scc: reached " + n);
 // Now, walk the transposed graph picking nodes in reverse
 // postorder, thus picking out one SCC at a time and
 // appending it to "by_scc".
 	Peer[] by_scc = new Peer[n];
 	int[] scc_head = new int[n];
-	Set visited = new HashSet();
+	boolean[] visited = new boolean[npeers];
+	boolean[] revisited = new boolean[npeers];
+	// scc[p] is the number of the SCC containing p, plus one.
+	int[] scc = new int[npeers];
+	int nsccs = 0;
 	int head = 0;
 	for (int i=n-1; i>=0; i--) {
-	    if (!visited.contains(sorted[i])) {
+	    if (!visited[sorted[i]]) {
 		// First, find all the nodes in the SCC
-		Set SCC = new HashSet();
-		visited.add(sorted[i]);
-		stack.add(new Frame(sorted[i], false));
-		while (stack.size() != 0) {
-		    Frame top = (Frame)stack.getFirst();
-		    if (top.edges.hasNext()) {
-			Edge e = (Edge)top.edges.next();
-			Peer q = e.getTarget();
-			if (reachable.contains(q) && !visited.contains(q)) {
-			    visited.add(q);
-			    Frame f = new Frame(q, false);
-			    stack.addFirst(f);
+		nsccs++;
+		int scc_size = 0;
+		visited[sorted[i]] = true;
+		stack[0] = sorted[i];
+		edges[0] = 0;
+		sp = 1;
+		while (sp != 0) {
+		    int top = stack[sp-1];
+		    int[] preds = graph.predIndices(top);
+		    if (edges[sp-1] < preds.length) {
+			int q = preds[edges[sp-1]++];
+			if (reachable[q] && !visited[q]) {
+			    visited[q] = true;
+			    stack[sp] = q;
+			    edges[sp] = 0;
+			    sp++;
 			}
 		    } else {
-			stack.removeFirst();
-			SCC.add(top.peer);
+			sp--;
+			scc[top] = nsccs;
+			scc_size++;
 		    }
 		}
 		// Now, topologically sort the SCC (as much as possible)
 		// and place into by_scc[head..head+scc_size-1]
-		stack.add(new Frame(sorted[i], true));
-		Set revisited = new HashSet();
-		revisited.add(sorted[i]);
-		int scc_size = SCC.size();
+		revisited[sorted[i]] = true;
+		stack[0] = sorted[i];
+		edges[0] = 0;
+		sp = 1;
 		int nsorted = 0;
-		while (stack.size() != 0) {
-		    Frame top = (Frame)stack.getFirst();
-		    if (top.edges.hasNext()) {
-			Edge e = (Edge)top.edges.next();
-			Peer q = e.getTarget();
-			if (SCC.contains(q) && !revisited.contains(q)) {
-			    revisited.add(q);
-			    Frame f = new Frame(q, true);
-			    stack.addFirst(f);
+		while (sp != 0) {
+		    int top = stack[sp-1];
+		    int[] succs = graph.succIndices(top);
+		    if (edges[sp-1] < succs.length) {
+			int q = succs[edges[sp-1]++];
+			if (scc[q] == nsccs && !revisited[q]) {
+			    revisited[q] = true;
+			    stack[sp] = q;
+			    edges[sp] = 0;
+			    sp++;
 			}
 		    } else {
-			stack.removeFirst();
+			sp--;
 			int n3 = head + scc_size - nsorted - 1;
 			scc_head[n3] = -2;
-			by_scc[n3] = top.peer;
+			by_scc[n3] = graph.peerAt(top);
 			nsorted++;
 		    }
 		}
@@ -604,8 +621,18 @@ public abstract class DataFlow extends ErrorHandlingVisitor
 	    Report.report(1, "Iterating dataflow equations");
 	}
 
+	if (worklist) {
+	    dataflowWorklist(graph, by_scc);
+	    return;
+	}
+
 	int current = 0;
 	boolean change = false;
+	long iterations = 0;
+
+        // The lists of in items and their keys are reused for each peer.
+        List inItems = new ArrayList();
+        List inItemKeys = new ArrayList();
 
 	while (current < npeers) {
             Peer p = by_scc[current];
@@ -613,46 +640,9 @@ public abstract class DataFlow extends ErrorHandlingVisitor
 		change = false; // just started working on a new SCC
 	    }
 
-            // get the in items by examining the out items of all
-            // the predecessors of p
-            List inItems = new ArrayList(p.preds.size());
-            List inItemKeys = new ArrayList(p.preds.size());
-            for (Iterator i = p.preds.iterator(); i.hasNext(); ) {
-                Edge e = (Edge)i.next();
-                Peer o = e.getTarget();
-                if (o.outItems != null) {
-                    if (!o.outItems.keySet().contains(e.getKey())) {
-                        throw new InternalCompilerError("There should have " +
-                                "an out Item with edge key " + e.getKey() +
-                                "; instead there were only " + 
-                                o.outItems.keySet());
-                    }
-                    Item it = (Item)o.outItems.get(e.getKey());
-                    if (it != null) {
-                        inItems.add(it);
-                        inItemKeys.add(e.getKey());
-                    }
-                }
-            }
-                
-            // calculate the out item
-            Map oldOutItems = p.outItems;
-            p.inItem = this.safeConfluence(inItems, inItemKeys, p.node, 
-                    p.entry == Term.ENTRY, graph);
-            p.outItems = this.flow(inItems, inItemKeys, graph, p.node, 
-                    p.entry == Term.ENTRY, p.succEdgeKeys());
-                    
-            if (!p.succEdgeKeys().equals(p.outItems.keySet())) {
-                // This check is more for developers to ensure that they
-                // have implemented their dataflow correctly. If performance
-                // is an issue, maybe we should remove this check.
-                throw new InternalCompilerError("The flow only defined " +
-                        "outputs for " + p.outItems.keySet() + "; needs to " +
-                        "define outputs for all of: " + p.succEdgeKeys());
-            }
+            iterations++;
 
-            if (oldOutItems != p.outItems &&
-                 (oldOutItems == null || !oldOutItems.equals(p.outItems))) {
+            if (flowPeer(graph, p, inItems, inItemKeys)) {
                 // the outItems of p has changed, so we will
                 // loop when we get to the end of the current SCC.
 		change = true;
@@ -664,11 +654,133 @@ public abstract class DataFlow extends ErrorHandlingVisitor
 		current++;
 	    }
         }
+
+	Stats stats = Globals.Stats();
+	if (stats.enabled()) {
+	    stats.accumulate("DataFlow.peers", npeers);
+	    stats.accumulate("DataFlow.iterations", iterations);
+	}
+
+	if (Report.should_report(Report.dataflow, 1)) {
+	    Report.report(1, "Done.");
+	}
+    }
+
+    /**
+     * Perform the dataflow on the flowgraph provided with a worklist.  Each
+     * peer is evaluated once, in the order of <code>by_scc</code>, which is
+     * a topological order of the strongly connected components.  After that,
+     * a peer is evaluated again only if the out item of one of its
+     * predecessors changed.  The pending peer earliest in
+     * <code>by_scc</code> is evaluated first.
+     */
+    protected void dataflowWorklist(FlowGraph graph, Peer[] by_scc) {
+        int npeers = by_scc.length;
+        long iterations = 0;
+
+        // position[i] is the position in by_scc of the peer numbered i, or
+        // -1 if the peer is unreachable.
+        int[] position = new int[graph.peerCount()];
+        Arrays.fill(position, -1);
+        for (int i = 0; i < npeers; i++) {
+            position[by_scc[i].index()] = i;
+        }
+
+        BitSet pending = new BitSet(npeers);
+        pending.set(0, npeers);
+
+        // No peer before position first is pending, so the search for the
+        // next pending peer starts there rather than at the beginning.
+        int first = 0;
+
+        // The lists of in items and their keys are reused for each peer.
+        List inItems = new ArrayList();
+        List inItemKeys = new ArrayList();
+
+        for (int current = pending.nextSetBit(0); current >= 0; current = pending.nextSetBit(first)) {
+            pending.clear(current);
+            first = current + 1;
+            Peer p = by_scc[current];
+
+            iterations++;
+
+            if (flowPeer(graph, p, inItems, inItemKeys)) {
+                int[] succs = graph.succIndices(p.index());
+                for (int i = 0; i < succs.length; i++) {
+                    int q = position[succs[i]];
+                    if (q >= 0) {
+                        pending.set(q);
+                        if (q < first) {
+                            first = q;
+                        }
+                    }
+                }
+            }
+        }
+
+        Stats stats = Globals.Stats();
+        if (stats.enabled()) {
+            stats.accumulate("DataFlow.peers", npeers);
+            stats.accumulate("DataFlow.iterations", iterations);
+            stats.accumulate("DataFlow.worklist.iterations", iterations);
+        }
+
 	if (Report.should_report(Report.dataflow, 1)) {
 	    Report.report(1, "Done.");
 	}
     }
 
+    /**
+     * Compute the in item and out items of the peer <code>p</code> from the
+     * out items of its predecessors.
+     *
+     * @param inItems a list to use for the in items of the peer
+     * @param inItemKeys a list to use for the edge keys of the in items
+     * @return true if the out items of the peer changed.
+     */
+    protected boolean flowPeer(FlowGraph graph, Peer p, List inItems, List inItemKeys) {
+        // get the in items by examining the out items of all
+        // the predecessors of p
+        inItems.clear();
+        inItemKeys.clear();
+        for (int i = 0; i < p.preds.size(); i++) {
+            Edge e = (Edge)p.preds.get(i);
+            Peer o = e.getTarget();
+            if (o.outItems != null) {
+                if (!o.outItems.keySet().contains(e.getKey())) {
+                    throw new InternalCompilerError("There should have " +
+                            "an out Item with edge key " + e.getKey() +
+                            "; instead there were only " + 
+                            o.outItems.keySet());
+                }
+                Item it = (Item)o.outItems.get(e.getKey());
+                if (it != null) {
+                    inItems.add(it);
+                    inItemKeys.add(e.getKey());
+                }
+            }
+        }
+            
+        // calculate the out item
+        Map oldOutItems = p.outItems;
+        p.inItem = this.safeConfluence(inItems, inItemKeys, p.node, 
+                p.entry == Term.ENTRY, graph);
+        p.outItems = this.flow(inItems, inItemKeys, graph, p.node, 
+                p.entry == Term.ENTRY, p.succEdgeKeys());
+                
+        if (!p.succEdgeKeys().equals(p.outItems.keySet())) {
+            // This check is more for developers to ensure that they
+            // have implemented their dataflow correctly. If performance
+            // is an issue, maybe we should remove this check.
+            throw new InternalCompilerError("The flow only defined " +
+                    "outputs for " + p.outItems.keySet() + "; needs to " +
+                    "define outputs for all of: " + p.succEdgeKeys());
+        }
+
+        return oldOutItems != p.outItems &&
+             (oldOutItems == null || !oldOutItems.equals(p.outItems));
+    }
+
     /**
      * Initialise the <code>FlowGraph</code> to be used in the dataflow
      * analysis.
@@ -693,6 +805,31 @@ public abstract class DataFlow extends ErrorHandlingVisitor
         return initGraph((CodeNode) code, root);
     }
 
+    /**
+     * Build the control flow graph <code>g</code> returned by
+     * <code>initGraph</code>.  If an earlier pass over the job's AST built
+     * a graph for the same code with the same class of
+     * <code>CFGBuilder</code>, that graph is returned instead.
+     */
+    protected FlowGraph buildGraph(FlowGraph g) {
+        CFGBuilder v = createCFGBuilder(ts, g);
+        FlowGraphCache cache = job().flowGraphs();
+
+        FlowGraph cached = cache.get(g.root(), g.forward(), v.getClass());
+
+        if (cached != null) {
+            Stats stats = Globals.Stats();
+            if (stats.enabled()) {
+                stats.accumulate("DataFlow.cfg.reused", 1);
+            }
+            return cached;
+        }
+
+        v.visitGraph();
+        cache.put(g, v.getClass());
+        return g;
+    }
+
     /**
      * Construct a CFGBuilder.
      * 
@@ -742,6 +879,10 @@ public abstract class DataFlow extends ErrorHandlingVisitor
      */
     protected Node leaveCall(Node old, Node n, NodeVisitor v) throws SemanticException {
         if (n instanceof CodeNode) {
+            if (old != n) {
+                // The graph of the old code is of no further use.
+                job().flowGraphs().remove((CodeNode) old);
+            }
             if (!dataflowOnEntry) {
                 dataflow((CodeNode)n);
             }
@@ -767,29 +908,47 @@ public abstract class DataFlow extends ErrorHandlingVisitor
         }
         
         // Check the nodes in approximately flow order.
-        Set uncheckedPeers = new HashSet(graph.peers());
-        LinkedList peersToCheck = new LinkedList(graph.startPeers());
-        while (!peersToCheck.isEmpty()) {
-            Peer p = (Peer) peersToCheck.removeFirst();
-            uncheckedPeers.remove(p);
+        int npeers = graph.peerCount();
+        int[] peersToCheck = new int[npeers];
+        boolean[] queued = new boolean[npeers];
+        int head = 0;
+        int tail = 0;
+        int unchecked = 0;
+
+        for (Iterator i = graph.startPeers().iterator(); i.hasNext(); ) {
+            int p = ((Peer) i.next()).index();
+            if (!queued[p]) {
+                queued[p] = true;
+                peersToCheck[tail++] = p;
+            }
+        }
+
+        while (head < tail) {
+            int pi = peersToCheck[head++];
+            Peer p = graph.peerAt(pi);
 
             this.check(graph, p.node, p.entry == Term.ENTRY, p.inItem, p.outItems);
             
-            for (Iterator iter = p.succs.iterator(); iter.hasNext(); ) {
-                Peer q = ((Edge)iter.next()).getTarget();
-                if (uncheckedPeers.contains(q) && !peersToCheck.contains(q)) {
+            int[] succs = graph.succIndices(pi);
+            for (int i = 0; i < succs.length; i++) {
+                int q = succs[i];
+                if (!queued[q]) {
                     // q hasn't been checked yet.
-                    peersToCheck.addLast(q);
+                    queued[q] = true;
+                    peersToCheck[tail++] = q;
                 }
             }
             
-            if (peersToCheck.isEmpty() && !uncheckedPeers.isEmpty()) {
+            if (head == tail) {
                 // done all the we can reach...
-                Iterator i = uncheckedPeers.iterator();                
-                peersToCheck.add(i.next());
-                i.remove();
+                while (unchecked < npeers && queued[unchecked]) {
+                    unchecked++;
+                }
+                if (unchecked < npeers) {
+                    queued[unchecked] = true;
+                    peersToCheck[tail++] = unchecked;
+                }
             }
-            
         }
     }
     
@@ -25,6 +25,7 @@ public class ExitChecker extends DataFlow
 
     public ExitChecker(Job job, TypeSystem ts, NodeFactory nf) {
 	super(job, ts, nf, false /* backward analysis */);
+	worklist = true;
     }
 
     protected FlowGraph initGraph(CodeNode code, Term root) {
@@ -48,6 +48,19 @@ public class FlowGraph {
      */
     protected boolean forward;
 
+    /**
+     * The peers of the graph in the order of their numbers, or null if the
+     * peers have not been numbered.
+     */
+    protected Peer[] numbered;
+
+    /**
+     * The numbers of the successors and predecessors of each peer, in the
+     * order of the successor and predecessor edges.
+     */
+    protected int[][] succIndices;
+    protected int[][] predIndices;
+
     FlowGraph(Term root, boolean forward) {
         this.root = root;
         this.forward = forward;
@@ -166,6 +179,145 @@ public class FlowGraph {
         return p;
     }
 
+    /**
+     * Number the peers of the graph from 0, and record the successors and
+     * predecessors of each peer as arrays of numbers.  The graph must not
+     * change after its peers are numbered.
+     */
+    protected void number() {
+        if (numbered != null) {
+            return;
+        }
+
+        List<Peer> l = new ArrayList<Peer>();
+
+        for (Map pathMap : peerMap.values()) {
+            for (Iterator i = pathMap.values().iterator(); i.hasNext(); ) {
+                Peer p = (Peer) i.next();
+                // A path map may be shared by several nodes.
+                if (p.index < 0) {
+                    p.index = l.size();
+                    l.add(p);
+                }
+            }
+        }
+
+        Peer[] peers = l.toArray(new Peer[l.size()]);
+        succIndices = new int[peers.length][];
+        predIndices = new int[peers.length][];
+
+        for (int i = 0; i < peers.length; i++) {
+            succIndices[i] = indices(peers[i].succs);
+            predIndices[i] = indices(peers[i].preds);
+        }
+
+        numbered = peers;
+    }
+
+    private static int[] indices(List edges) {
+        int[] a = new int[edges.size()];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = ((Edge) edges.get(i)).target.index;
+        }
+        return a;
+    }
+
+    /** Return the number of peers in the graph. */
+    public int peerCount() {
+        number();
+        return numbered.length;
+    }
+
+    /** Return the peer numbered <code>i</code>. */
+    public Peer peerAt(int i) {
+        number();
+        return numbered[i];
+    }
+
+    /**
+     * Return the numbers of the targets of the successor edges of the peer
+     * numbered <code>i</code>.  The array must not be modified.
+     */
+    public int[] succIndices(int i) {
+        number();
+        return succIndices[i];
+    }
+
+    /**
+     * Return the numbers of the targets of the predecessor edges of the peer
+     * numbered <code>i</code>.  The array must not be modified.
+     */
+    public int[] predIndices(int i) {
+        number();
+        return predIndices[i];
+    }
+
+    /**
+     * Return a copy of this graph for dataflow in the opposite direction.
+     * The copy has the same peers and edges as a graph built for the
+     * opposite direction by the <code>CFGBuilder</code>, in the same order,
+     * but no dataflow items.
+     */
+    public FlowGraph reverse() {
+        FlowGraph g = new FlowGraph(root, ! forward);
+
+        Map<Map,Map> pathMaps = new IdentityHashMap<Map,Map>();
+        Map<Peer,Peer> peers = new IdentityHashMap<Peer,Peer>();
+
+        for (Map.Entry<IdentityKey,Map> e : peerMap.entrySet()) {
+            Map pathMap = e.getValue();
+            Map newPathMap = pathMaps.get(pathMap);
+
+            if (newPathMap == null) {
+                newPathMap = new HashMap();
+                pathMaps.put(pathMap, newPathMap);
+
+                for (Iterator i = pathMap.entrySet().iterator(); i.hasNext(); ) {
+                    Map.Entry pe = (Map.Entry) i.next();
+                    Peer p = (Peer) pe.getValue();
+                    Peer q = new Peer(p.node, p.path_to_finally, p.entry);
+                    peers.put(p, q);
+                    newPathMap.put(pe.getKey(), q);
+                }
+            }
+
+            g.peerMap.put(e.getKey(), newPathMap);
+        }
+
+        // An edge p -> q of this graph is an edge q -> p of the reversed
+        // graph; the builder adds it to the successors of q and the
+        // predecessors of p in the order it adds the edges.
+        for (Map.Entry<Peer,Peer> e : peers.entrySet()) {
+            Peer p = e.getKey();
+            Peer q = e.getValue();
+
+            for (Iterator i = p.preds.iterator(); i.hasNext(); ) {
+                Edge edge = (Edge) i.next();
+                q.succs.add(new Edge(edge.key, peers.get(edge.target)));
+            }
+
+            for (Iterator i = p.succs.iterator(); i.hasNext(); ) {
+                Edge edge = (Edge) i.next();
+                q.preds.add(new Edge(edge.key, peers.get(edge.target)));
+            }
+        }
+
+        return g;
+    }
+
+    /**
+     * Discard the results of any earlier dataflow over the graph.
+     */
+    public void clearItems() {
+        for (Map pathMap : peerMap.values()) {
+            for (Iterator i = pathMap.values().iterator(); i.hasNext(); ) {
+                Peer p = (Peer) i.next();
+                p.inItem = null;
+                p.outItems = null;
+            }
+        }
+    }
+
   /**
    * This class provides an identifying label for edges in the flow graph.
    * Thus, the condition of an if statement will have at least two edges
@@ -296,6 +448,8 @@ public class FlowGraph {
                                     // from the other Peers for the AST node.
 
     protected int entry; // Term.ENTRY or Term.EXIT
+
+    protected int index; // The number of the peer in the graph, or -1.
     
     /**
      * Set of all the different EdgeKeys that occur in the Edges in the 
@@ -312,9 +466,16 @@ public class FlowGraph {
       this.succs = new ArrayList();
       this.preds = new ArrayList();
       this.entry = entry;
+      this.index = -1;
       this.succEdgeKeys = null;
     }
 
+    /**
+     * The number of the peer in the graph.  Should only be called after
+     * the peers of the graph are numbered.
+     */
+    public int index() { return index; }
+
     /** The successor Edges. */
     public List succs() { return succs; }
 
@@ -0,0 +1,103 @@
+/*
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2006 Polyglot project group, Cornell University
+ *
+ */
+
+package polyglot.visit;
+
+import java.util.*;
+
+import polyglot.ast.Term;
+import polyglot.util.IdentityKey;
+
+/**
+ * A <code>FlowGraphCache</code> holds the control flow graphs built by the
+ * dataflow passes over a job, so that later passes over the same code
+ * can use them rather than building them again.  Graphs are keyed on the
+ * identity of their root, so a pass that rewrites a piece of code does not
+ * find the graph of the old code.  The <code>Job</code> discards its cache
+ * when its AST is replaced.
+ * <p>
+ * A graph is only shared by passes that build it with the same class of
+ * <code>CFGBuilder</code>.  A graph for the opposite direction is made by
+ * reversing the cached graph.
+ */
+public class FlowGraphCache
+{
+    protected static class Entry {
+        final FlowGraph graph;
+        final Class builder;
+
+        Entry(FlowGraph graph, Class builder) {
+            this.graph = graph;
+            this.builder = builder;
+        }
+    }
+
+    protected Map<IdentityKey,List<Entry>> graphs;
+
+    public FlowGraphCache() {
+        this.graphs = new HashMap<IdentityKey,List<Entry>>();
+    }
+
+    /**
+     * Return the graph rooted at <code>root</code> in the given direction,
+     * built by a <code>CFGBuilder</code> of class <code>builder</code>, or
+     * null if there is none.
+     */
+    public FlowGraph get(Term root, boolean forward, Class builder) {
+        List<Entry> l = graphs.get(new IdentityKey(root));
+
+        if (l == null) {
+            return null;
+        }
+
+        FlowGraph reversible = null;
+
+        for (Entry e : l) {
+            if (e.builder == builder) {
+                if (e.graph.forward() == forward) {
+                    e.graph.clearItems();
+                    return e.graph;
+                }
+                reversible = e.graph;
+            }
+        }
+
+        if (reversible != null) {
+            FlowGraph g = reversible.reverse();
+            l.add(new Entry(g, builder));
+            return g;
+        }
+
+        return null;
+    }
+
+    /**
+     * Cache the graph <code>g</code>, built by a <code>CFGBuilder</code> of
+     * class <code>builder</code>.
+     */
+    public void put(FlowGraph g, Class builder) {
+        IdentityKey k = new IdentityKey(g.root());
+        List<Entry> l = graphs.get(k);
+
+        if (l == null) {
+            l = new ArrayList<Entry>(2);
+            graphs.put(k, l);
+        }
+
+        l.add(new Entry(g, builder));
+    }
+
+    /** Discard the graph rooted at <code>root</code>. */
+    public void remove(Term root) {
+        graphs.remove(new IdentityKey(root));
+    }
+
+    /** Discard all graphs. */
+    public void clear() {
+        graphs.clear();
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2006 Polyglot project group, Cornell University
+ *
+ */
+
+package polyglot.visit;
+
+import java.util.List;
+
+import polyglot.ast.Node;
+import polyglot.ast.NodeFactory;
+import polyglot.frontend.Job;
+import polyglot.types.TypeSystem;
+import polyglot.util.InternalCompilerError;
+
+/**
+ * A <code>FusedVisitor</code> runs several visitors over the AST in a single
+ * traversal.  At each node, <code>enter</code> is called on each visitor in
+ * order, the children are visited once, and then <code>leave</code> is
+ * called on each visitor in order, each being passed the node returned by
+ * the one before it.
+ * <p>
+ * The visitors must not depend on each other's results: a visitor sees the
+ * children of a node after all the visitors have left them.  Each visitor
+ * keeps its own state and reports its own errors, so an error found by one
+ * visitor does not affect the others.  A visitor may use
+ * <code>override</code> to skip a subtree, but may not replace the node.
+ * <p>
+ * The context is computed once at each node and shared by the visitors that
+ * are <code>ContextVisitor</code>s, so those visitors must not override
+ * <code>enterScope</code> or <code>addDecls</code>; see <code>canFuse</code>.
+ */
+public class FusedVisitor extends ContextVisitor
+{
+    /**
+     * The visitors.  An element is null if the visitor is not visiting the
+     * current subtree.  The array is shared with the visitors for enclosing
+     * nodes and must not be modified.
+     */
+    protected NodeVisitor[] visitors;
+
+    public FusedVisitor(Job job, TypeSystem ts, NodeFactory nf, List<NodeVisitor> visitors) {
+        super(job, ts, nf);
+        this.visitors = visitors.toArray(new NodeVisitor[visitors.size()]);
+
+        for (int i = 0; i < this.visitors.length; i++) {
+            if (! canFuse(this.visitors[i])) {
+                throw new InternalCompilerError("Visitor " + this.visitors[i] + " cannot be fused.");
+            }
+        }
+    }
+
+    /**
+     * Return true if <code>v</code> can be run by a <code>FusedVisitor</code>.
+     * A <code>ContextVisitor</code> cannot be fused if it overrides
+     * <code>enterScope</code> or <code>addDecls</code>, since it would not
+     * see the context it computes.
+     */
+    public static boolean canFuse(NodeVisitor v) {
+        if (v instanceof FusedVisitor) {
+            return false;
+        }
+
+        if (v instanceof ContextVisitor) {
+            Class<?> c = v.getClass();
+            return inherited(c, "enterScope", Node.class, Node.class) &&
+                   inherited(c, "addDecls", Node.class);
+        }
+
+        return true;
+    }
+
+    /**
+     * Return true if the method <code>name</code> of the subclass
+     * <code>c</code> is inherited from <code>ContextVisitor</code>.
+     */
+    private static boolean inherited(Class<?> c, String name, Class<?>... params) {
+        for (; c != ContextVisitor.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod(name, params);
+                return false;
+            }
+            catch (NoSuchMethodException e) {
+            }
+        }
+        return true;
+    }
+
+    public boolean readOnly() {
+        for (int i = 0; i < visitors.length; i++) {
+            if (visitors[i] != null && ! visitors[i].readOnly()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public NodeVisitor begin() {
+        NodeVisitor[] vs = new NodeVisitor[visitors.length];
+        boolean any = false;
+
+        for (int i = 0; i < visitors.length; i++) {
+            vs[i] = visitors[i].begin();
+            any |= vs[i] != null;
+        }
+
+        if (! any) {
+            return null;
+        }
+
+        FusedVisitor v = (FusedVisitor) super.begin();
+        v.visitors = vs;
+
+        for (int i = 0; i < vs.length; i++) {
+            if (vs[i] instanceof ContextVisitor) {
+                ((ContextVisitor) vs[i]).context = v.context;
+            }
+        }
+
+        return v;
+    }
+
+    public void finish(Node ast) {
+        for (int i = 0; i < visitors.length; i++) {
+            if (visitors[i] != null) {
+                visitors[i].finish(ast);
+            }
+        }
+    }
+
+    /** Return a copy of this visitor that runs the visitors <code>vs</code>. */
+    protected FusedVisitor visitors(NodeVisitor[] vs) {
+        FusedVisitor v = (FusedVisitor) this.copy();
+        v.visitors = vs;
+        return v;
+    }
+
+    public Node override(Node parent, Node n) {
+        NodeVisitor[] vs = null;
+        boolean any = false;
+
+        for (int i = 0; i < visitors.length; i++) {
+            if (visitors[i] == null) {
+                continue;
+            }
+
+            Node m = visitors[i].override(parent, n);
+
+            if (m == null) {
+                any = true;
+                continue;
+            }
+
+            if (m != n) {
+                throw new InternalCompilerError("Visitor " + visitors[i] +
+                                                " cannot be fused: it replaced a node in override.",
+                                                n.position());
+            }
+
+            if (vs == null) {
+                vs = visitors.clone();
+            }
+
+            vs[i] = null;
+        }
+
+        if (vs == null) {
+            return null;
+        }
+
+        if (! any) {
+            return n;
+        }
+
+        // Visit the subtree with the visitors that did not override it.
+        return visitors(vs).visitEdgeNoOverride(parent, n);
+    }
+
+    protected NodeVisitor enterCall(Node parent, Node n) {
+        NodeVisitor[] vs = null;
+
+        for (int i = 0; i < visitors.length; i++) {
+            NodeVisitor v = visitors[i];
+
+            if (v == null) {
+                continue;
+            }
+
+            NodeVisitor v_;
+
+            if (v instanceof ContextVisitor) {
+                v_ = ((ContextVisitor) v).enter(parent, n, context);
+            }
+            else {
+                v_ = v.enter(parent, n);
+            }
+
+            if (v_ == null) {
+                throw new InternalCompilerError("NodeVisitor.enter() returned null.");
+            }
+
+            if (v_ != v) {
+                if (vs == null) {
+                    vs = visitors.clone();
+                }
+                vs[i] = v_;
+            }
+        }
+
+        if (vs == null) {
+            return this;
+        }
+
+        return visitors(vs);
+    }
+
+    protected Node leaveCall(Node parent, Node old, Node n, NodeVisitor v) {
+        NodeVisitor[] inner = ((FusedVisitor) v).visitors;
+
+        for (int i = 0; i < visitors.length; i++) {
+            NodeVisitor u = visitors[i];
+
+            if (u == null) {
+                continue;
+            }
+
+            if (u instanceof ContextVisitor) {
+                // The declarations are added to the shared context when
+                // this visitor leaves the node.
+                n = ((ContextVisitor) u).leaveWithoutDecls(parent, old, n, inner[i]);
+            }
+            else {
+                n = u.leave(parent, old, n, inner[i]);
+            }
+
+            if (n == null) {
+                throw new InternalCompilerError("NodeVisitor.leave() returned null.");
+            }
+        }
+
+        return n;
+    }
+}
@@ -27,7 +27,12 @@ public class FwdReferenceChecker extends ContextVisitor
 
     private boolean inInitialization = false;
     private boolean inStaticInit = false;
+    private FieldDef currentField = null;
     private Set<FieldDef> declaredFields = new HashSet<FieldDef>();
+
+    public boolean readOnly() {
+        return true;
+    }
     
     protected NodeVisitor enterCall(Node n) throws SemanticException {
         if (n instanceof FieldDecl) {
@@ -37,7 +42,9 @@ public class FwdReferenceChecker extends ContextVisitor
             frc.inInitialization = true;
             frc.inStaticInit = fd.flags().flags().isStatic();
 
-            frc.declaredFields = new HashSet<FieldDef>(declaredFields);
+            // The set of declared fields is shared; the field being
+            // declared is not yet declared in its own initializer.
+            frc.currentField = fd.fieldDef();
             declaredFields.add(fd.fieldDef());
             return frc;
         }
@@ -45,6 +52,7 @@ public class FwdReferenceChecker extends ContextVisitor
             FwdReferenceChecker frc = (FwdReferenceChecker)this.copy();
             frc.inInitialization = true;
             frc.inStaticInit = ((Initializer)n).flags().flags().isStatic();
+            frc.currentField = null;
             return frc;
         }
         else if (n instanceof FieldAssign) {
@@ -70,7 +78,8 @@ public class FwdReferenceChecker extends ContextVisitor
 
                 if (inStaticInit == f.fieldInstance().flags().isStatic() &&
                     currentClass.typeEquals(fContainer, context) &&
-                   !declaredFields.contains(f.fieldInstance().def()) &&
+                   (!declaredFields.contains(f.fieldInstance().def()) ||
+                    f.fieldInstance().def().equals(currentField)) &&
                    f.isTargetImplicit()) {
                     throw new SemanticException("Illegal forward reference", 
                                                 f.position());
@@ -0,0 +1,151 @@
+/*
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2006 Polyglot project group, Cornell University
+ *
+ */
+
+package polyglot.visit;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+import javax.tools.*;
+
+import polyglot.frontend.Compiler;
+import polyglot.frontend.TargetFactory;
+import polyglot.main.Options;
+import polyglot.main.Report;
+import polyglot.util.ErrorInfo;
+import polyglot.util.ErrorQueue;
+import polyglot.util.QuotedStringTokenizer;
+
+/**
+ * An <code>InProcessPostCompiler</code> compiles the output files with the
+ * <code>javax.tools</code> Java compiler in the compiler's own JVM, rather
+ * than by running the post-compiler as a separate process.  Output kept in
+ * memory by the <code>TargetFactory</code> is compiled without being
+ * written to disk.  Class files are written to the output directory.
+ * <p>
+ * The Java compiler and its file manager are created once and reused by
+ * later compilations in the same JVM, so a long-running process that
+ * invokes polyglot repeatedly pays for loading and warming up the Java
+ * compiler only once.
+ * <p>
+ * This class is only loaded when the in-process post-compiler is used, so
+ * polyglot still runs on JVMs without <code>javax.tools</code>.
+ */
+public class InProcessPostCompiler
+{
+    protected static JavaCompiler javac;
+    protected static StandardJavaFileManager fileManager;
+
+    /**
+     * Return true if the JVM provides a Java compiler; it does not when
+     * running on a JRE rather than a JDK.
+     */
+    public static boolean isAvailable() {
+        return ToolProvider.getSystemJavaCompiler() != null;
+    }
+
+    /** An output file whose contents are in memory. */
+    protected static class MemorySource extends SimpleJavaFileObject {
+        protected CharSequence contents;
+
+        public MemorySource(String path, CharSequence contents) {
+            super(new File(path).toURI(), JavaFileObject.Kind.SOURCE);
+            this.contents = contents;
+        }
+
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return contents;
+        }
+    }
+
+    /**
+     * Compile the output files of <code>compiler</code>.  Errors and
+     * warnings are reported to <code>eq</code>.
+     * @return true if the files compiled without errors.
+     */
+    public static boolean compile(Options options, Compiler compiler, TargetFactory tf, ErrorQueue eq) {
+        // The first token of the post-compiler is the compiler itself; the
+        // rest are options.
+        QuotedStringTokenizer st = new QuotedStringTokenizer(options.post_compiler);
+        List<String> args = new ArrayList<String>();
+        if (st.hasMoreTokens()) {
+            st.nextToken();
+        }
+        while (st.hasMoreTokens()) {
+            args.add(st.nextToken());
+        }
+
+        args.add("-classpath");
+        args.add(options.constructPostCompilerClasspath());
+        args.add("-d");
+        args.add(options.output_directory.getPath());
+
+        // Output kept in memory does not create the output directory.
+        options.output_directory.mkdirs();
+
+        synchronized (InProcessPostCompiler.class) {
+            if (javac == null) {
+                javac = ToolProvider.getSystemJavaCompiler();
+                fileManager = javac.getStandardFileManager(null, null, null);
+            }
+
+            List<JavaFileObject> sources = new ArrayList<JavaFileObject>();
+            List<File> files = new ArrayList<File>();
+
+            for (Iterator i = compiler.outputFiles().iterator(); i.hasNext(); ) {
+                String path = (String) i.next();
+                CharSequence contents = tf.outputContents(path);
+                if (contents != null) {
+                    sources.add(new MemorySource(path, contents));
+                }
+                else {
+                    files.add(new File(path));
+                }
+            }
+
+            for (JavaFileObject fo : fileManager.getJavaFileObjectsFromFiles(files)) {
+                sources.add(fo);
+            }
+
+            if (Report.should_report(PostCompiled.postcompile, 1)) {
+                Report.report(1, "Running in-process post-compiler " + args + " on " +
+                              sources.size() + " files");
+            }
+
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+
+            boolean okay;
+
+            try {
+                okay = javac.getTask(null, fileManager, diagnostics, args, null, sources).call().booleanValue();
+                fileManager.flush();
+            }
+            catch (IOException e) {
+                eq.enqueue(ErrorInfo.POST_COMPILER_ERROR, e.getMessage());
+                okay = false;
+            }
+            catch (RuntimeException e) {
+                // Thrown for invalid options, among other things.
+                eq.enqueue(ErrorInfo.POST_COMPILER_ERROR, String.valueOf(e.getMessage()));
+                return false;
+            }
+
+            StringBuffer sb = new StringBuffer();
+            for (Diagnostic<? extends JavaFileObject> d : diagnostics.getDiagnostics()) {
+                sb.append(d.toString());
+                sb.append('\n');
+            }
+
+            if (sb.length() != 0) {
+                eq.enqueue(ErrorInfo.POST_COMPILER_ERROR, sb.toString());
+            }
+
+            return okay;
+        }
+    }
+}
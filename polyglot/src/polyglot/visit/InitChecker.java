@@ -13,6 +13,7 @@ import java.util.*;
 import polyglot.ast.*;
 import polyglot.frontend.Globals;
 import polyglot.frontend.Job;
+import polyglot.frontend.Stats;
 import polyglot.types.*;
 import polyglot.util.InternalCompilerError;
 import polyglot.util.Position;
@@ -40,6 +41,7 @@ public class InitChecker extends DataFlow
         super(job, ts, nf, 
               true /* forward analysis */,
               false /* perform dataflow when leaving CodeDecls, not when entering */);
+        worklist = true;
     }
     
     protected ClassBodyInfo currCBI = null;
@@ -116,6 +118,43 @@ public class InitChecker extends DataFlow
          * class.
          */
         public Set<LocalDef> localDeclarations = new HashSet<LocalDef>();
+
+        /**
+         * The numbering of the variables and fields in the dataflow items
+         * of the code body currently being processed.
+         */
+        public VarIndex vars = new VarIndex();
+    }
+
+    /**
+     * A numbering of the variables and fields whose initialization is
+     * tracked in one code body, so that dataflow items can be bit sets.
+     */
+    protected static class VarIndex {
+        protected Map<VarDef, Integer> index = new HashMap<VarDef, Integer>();
+        protected List<VarDef> defs = new ArrayList<VarDef>();
+
+        /** Return the number of <code>v</code>, numbering it if needed. */
+        public int number(VarDef v) {
+            Integer i = index.get(v);
+            if (i == null) {
+                i = defs.size();
+                index.put(v, i);
+                defs.add(v);
+            }
+            return i;
+        }
+
+        /** Return the number of <code>v</code>, or -1 if it has none. */
+        public int lookup(VarDef v) {
+            Integer i = index.get(v);
+            return i == null ? -1 : i.intValue();
+        }
+
+        /** Return the variable numbered <code>i</code>. */
+        public VarDef def(int i) {
+            return defs.get(i);
+        }
     }
 
 
@@ -190,9 +229,23 @@ public class InitChecker extends DataFlow
      */
     protected static class MinMaxInitCount {
         protected InitCount min, max;
+
+        /**
+         * The count as stored in a <code>DataFlowItem</code>: two bits for
+         * the minimum, set if it is less than one and less than two, and
+         * two bits for the maximum, set if it is at least one and at least
+         * two.  Joining two counts is the union of their bits, and a
+         * variable with no count has no bits set.
+         */
+        protected int bits;
+
+        static final int MIN_LT_1 = 1, MIN_LT_2 = 2, MAX_GE_1 = 4, MAX_GE_2 = 8;
+
         MinMaxInitCount(InitCount min, InitCount max) {
             MinMaxInitCount.this.min = min;
             MinMaxInitCount.this.max = max;
+            this.bits = (min.count < 1 ? MIN_LT_1 : 0) | (min.count < 2 ? MIN_LT_2 : 0) |
+                        (max.count >= 1 ? MAX_GE_1 : 0) | (max.count >= 2 ? MAX_GE_2 : 0);
         }
         InitCount getMin() { return min; }
         InitCount getMax() { return max; }
@@ -216,45 +269,135 @@ public class InitChecker extends DataFlow
             if (initCount2 == null) {
                 return initCount1;
             }
-            MinMaxInitCount t = new MinMaxInitCount(
-                                  InitCount.min(initCount1.getMin(), initCount2.getMin()),
-                                  InitCount.max(initCount1.getMax(), initCount2.getMax()));
-            return t;
+            InitCount min = InitCount.min(initCount1.getMin(), initCount2.getMin());
+            InitCount max = InitCount.max(initCount1.getMax(), initCount2.getMax());
+            if (min.equals(initCount1.getMin()) && max.equals(initCount1.getMax())) {
+                return initCount1;
+            }
+            return get(min, max);
+        }
 
+        /** The counts, indexed by min and max count. */
+        private static final MinMaxInitCount[][] counts = new MinMaxInitCount[3][3];
+
+        static {
+            InitCount[] c = { InitCount.ZERO, InitCount.ONE, InitCount.MANY };
+            for (int i = 0; i < 3; i++) {
+                for (int j = 0; j < 3; j++) {
+                    counts[i][j] = new MinMaxInitCount(c[i], c[j]);
+                }
+            }
+        }
+
+        /**
+         * Return the count with the given minimum and maximum.  Counts are
+         * immutable, so there is one of each.
+         */
+        static MinMaxInitCount get(InitCount min, InitCount max) {
+            return counts[min.count][max.count];
+        }
+
+        /** Return the count stored as <code>bits</code>, or null if none is. */
+        static MinMaxInitCount fromBits(int bits) {
+            if (bits == 0) {
+                return null;
+            }
+            int min = (bits & MIN_LT_1) != 0 ? 0 : (bits & MIN_LT_2) != 0 ? 1 : 2;
+            int max = (bits & MAX_GE_2) != 0 ? 2 : (bits & MAX_GE_1) != 0 ? 1 : 0;
+            return counts[min][max];
         }
     }
         
     /**
-     * Dataflow items for this dataflow are maps of VarInstances to counts
-     * of the min and max number of times those variables/fields have
-     * been initialized. These min and max counts are then used to determine
-     * if variables have been initialized before use, and that final variables
-     * are not initialized too many times.
+     * Dataflow items for this dataflow map VarDefs to counts of the min and
+     * max number of times those variables/fields have been initialized.
+     * These min and max counts are then used to determine if variables
+     * have been initialized before use, and that final variables are not
+     * initialized too many times.
+     * <p>
+     * The variables are numbered by a <code>VarIndex</code>, and the item
+     * holds the bits of the count of variable <code>i</code> (see
+     * <code>MinMaxInitCount.bits</code>) at bits <code>4i</code> to
+     * <code>4i+3</code>, so that confluence is a union.
      * 
      * This class is immutable.
      */
-    protected static class DataFlowItem extends Item {
-        public Map<VarDef, MinMaxInitCount> initStatus; // map of VarInstances to MinMaxInitCount
+    protected static class DataFlowItem extends BitSetItem {
+        protected static final int VARS_PER_WORD = 16;
+
+        /** The numbering of the variables. */
+        protected final VarIndex vars;
+
+        /** A read-only view of the item as a map of VarDefs to MinMaxInitCounts. */
+        public final Map<VarDef, MinMaxInitCount> initStatus;
 
-        DataFlowItem(Map<VarDef, MinMaxInitCount> m) {
-            this.initStatus = Collections.unmodifiableMap(m);
+        protected DataFlowItem(long[] bits, VarIndex vars) {
+            super(bits);
+            this.vars = vars;
+            this.initStatus = new InitStatusMap();
         }
 
-        public String toString() {
-            return initStatus.toString();
+        protected BitSetItem create(long[] bits) {
+            return new DataFlowItem(bits, vars);
         }
 
-        public boolean equals(Object o) {
-            if (o instanceof DataFlowItem) {
-                return this.initStatus.equals(((DataFlowItem)o).initStatus);
+        /** Return the count of the variable numbered <code>i</code>, or null. */
+        protected MinMaxInitCount count(int i) {
+            int w = i / VARS_PER_WORD;
+            if (w >= bits.length) {
+                return null;
             }
-            return false;
+            return MinMaxInitCount.fromBits((int) (bits[w] >>> (i % VARS_PER_WORD * 4)) & 15);
         }
-        
-        public int hashCode() {
-            return (initStatus.hashCode());
+
+        /** Return the count of <code>v</code>, or null if it has none. */
+        public MinMaxInitCount get(VarDef v) {
+            int i = vars.lookup(v);
+            return i < 0 ? null : count(i);
         }
 
+        /** Return the item with the count of <code>v</code> set to <code>c</code>. */
+        public DataFlowItem put(VarDef v, MinMaxInitCount c) {
+            int i = vars.number(v);
+            if (count(i) == c) {
+                return this;
+            }
+            int w = i / VARS_PER_WORD;
+            int shift = i % VARS_PER_WORD * 4;
+            long[] b = new long[Math.max(bits.length, w + 1)];
+            System.arraycopy(bits, 0, b, 0, bits.length);
+            b[w] = (b[w] & ~(15L << shift)) | ((long) c.bits << shift);
+            return new DataFlowItem(b, vars);
+        }
+
+        protected class InitStatusMap extends AbstractMap<VarDef, MinMaxInitCount> {
+            public MinMaxInitCount get(Object o) {
+                return o instanceof VarDef ? DataFlowItem.this.get((VarDef) o) : null;
+            }
+
+            public boolean containsKey(Object o) {
+                return get(o) != null;
+            }
+
+            public Set<Map.Entry<VarDef, MinMaxInitCount>> entrySet() {
+                Map<VarDef, MinMaxInitCount> m = new LinkedHashMap<VarDef, MinMaxInitCount>();
+                for (int i = 0; i < bits.length * VARS_PER_WORD; i++) {
+                    MinMaxInitCount c = count(i);
+                    if (c != null) {
+                        m.put(vars.def(i), c);
+                    }
+                }
+                return Collections.unmodifiableMap(m).entrySet();
+            }
+        }
+
+        public String toString() {
+            return initStatus.toString();
+        }
+
+        public boolean equals(Object o) {
+            return super.equals(o) && vars == ((DataFlowItem) o).vars;
+        }
     }
     
     protected static class BottomItem extends Item {
@@ -276,6 +419,7 @@ public class InitChecker extends DataFlow
      */
     protected FlowGraph initGraph(CodeNode code, Term root) {
         currCBI.currCodeDecl = code;
+        currCBI.vars = new VarIndex();
         return new FlowGraph(root, forward);
     }
 
@@ -382,7 +526,7 @@ public class InitChecker extends DataFlow
                     MinMaxInitCount initCount;
                     if (fd.init() != null) {
                         // the field has an initializer
-                        initCount = new MinMaxInitCount(InitCount.ONE, InitCount.ONE);
+                        initCount = MinMaxInitCount.get(InitCount.ONE, InitCount.ONE);
                             
                         // do dataflow over the initialization expression
                         // to pick up any uses of outer local variables.
@@ -391,7 +535,7 @@ public class InitChecker extends DataFlow
                     }
                     else {
                         // the field does not have an initializer
-                        initCount = new MinMaxInitCount(InitCount.ZERO, InitCount.ZERO);
+                        initCount = MinMaxInitCount.get(InitCount.ZERO, InitCount.ZERO);
                     }
                     newCDI.currClassFinalFieldInitCounts.put(fd.fieldDef(),
                                                          initCount);
@@ -498,9 +642,8 @@ public class InitChecker extends DataFlow
      */
     protected void dataflow(Expr root) throws SemanticException {
         // Build the control flow graph.
-        FlowGraph g = new FlowGraph(root, forward);
-        CFGBuilder v = createCFGBuilder(ts, g);
-        v.visitGraph();
+        currCBI.vars = new VarIndex();
+        FlowGraph g = buildGraph(new FlowGraph(root, forward));
         dataflow(g);
         post(g, root);        
     }
@@ -517,7 +660,11 @@ public class InitChecker extends DataFlow
     }
 
     private DataFlowItem createInitDFI() {
-        return new DataFlowItem(new LinkedHashMap<VarDef, MinMaxInitCount>(currCBI.currClassFinalFieldInitCounts));
+        DataFlowItem item = new DataFlowItem(BitSetItem.EMPTY, currCBI.vars);
+        for (Map.Entry<FieldDef, MinMaxInitCount> e : currCBI.currClassFinalFieldInitCounts.entrySet()) {
+            item = item.put(e.getKey(), e.getValue());
+        }
+        return item;
     }
     
     /**
@@ -548,38 +695,23 @@ public class InitChecker extends DataFlow
 
     /**
      * The confluence operator is essentially the union of all of the
-     * inItems. However, if two or more of the initCount maps from
-     * the inItems each have a MinMaxInitCounts entry for the same
-     * VarInstance, the conflict must be resolved, by using the
-     * minimum of all mins and the maximum of all maxs. 
+     * inItems. However, if two or more of the inItems each have a
+     * MinMaxInitCount for the same VarDef, the conflict must be resolved,
+     * by using the minimum of all mins and the maximum of all maxs.  The
+     * bits of the items are laid out so that this is the union of the bit
+     * sets, which returns one of the items if it contains the others.
      */
     public Item confluence(List inItems, Term node, boolean entry, FlowGraph graph) {        
-        // Resolve any conflicts pairwise.
-        Iterator<Item> iter = inItems.iterator();
-        Map<VarDef, MinMaxInitCount> m = null;
-        while (iter.hasNext()) {
-            Item itm = (Item)iter.next();
+        BitSetItem result = null;
+        for (int i = 0; i < inItems.size(); i++) {
+            Item itm = (Item) inItems.get(i);
             if (itm == BOTTOM) continue;
-            if (m == null) {
-                m = new LinkedHashMap<VarDef, MinMaxInitCount>(((DataFlowItem)itm).initStatus);
-            } 
-            else { 
-                Map<VarDef, MinMaxInitCount> n = ((DataFlowItem)itm).initStatus;
-                for (Iterator<Map.Entry<VarDef, MinMaxInitCount>> iter2 = n.entrySet().iterator(); iter2.hasNext(); ) {
-                    Map.Entry<VarDef, MinMaxInitCount> e = (Map.Entry<VarDef, MinMaxInitCount>)iter2.next();
-                    VarDef v = (VarDef)e.getKey();
-                    MinMaxInitCount initCount1 = m.get(v);
-                    MinMaxInitCount initCount2 = (MinMaxInitCount)e.getValue();
-                    m.put(v, MinMaxInitCount.join(initCount1, initCount2));                                        
-                }
-            }
+            result = result == null ? (BitSetItem) itm : result.union((BitSetItem) itm);
         }
         
-        if (m == null) return BOTTOM;
-        
-        return new DataFlowItem(m);
+        if (result == null) return BOTTOM;
+        return result;
     }
-    
 
     protected Map flow(List inItems, List inItemKeys, FlowGraph graph, 
             Term n, boolean entry, Set edgeKeys) {
@@ -656,14 +788,13 @@ public class InitChecker extends DataFlow
      * parameter
      */
     protected Map flowFormal(DataFlowItem inItem, FlowGraph graph, Formal f, Set succEdgeKeys) {
-        Map<VarDef, MinMaxInitCount> m = new LinkedHashMap<VarDef, MinMaxInitCount>(inItem.initStatus);
         // a formal argument is always defined.            
-        m.put(f.localDef(), new MinMaxInitCount(InitCount.ONE,InitCount.ONE));
+        DataFlowItem item = inItem.put(f.localDef(), MinMaxInitCount.get(InitCount.ONE,InitCount.ONE));
             
         // record the fact that we have seen the formal declaration
         currCBI.localDeclarations.add(f.localDef());
 
-        return itemToMap(new DataFlowItem(m), succEdgeKeys);
+        return itemToMap(item, succEdgeKeys);
     }
     
     /**
@@ -674,20 +805,19 @@ public class InitChecker extends DataFlow
                                 FlowGraph graph, 
                                 LocalDecl ld, 
                                 Set succEdgeKeys) {
-        Map<VarDef, MinMaxInitCount> m = new LinkedHashMap<VarDef, MinMaxInitCount>(inItem.initStatus);
-        MinMaxInitCount initCount = m.get(ld.localDef());
+        MinMaxInitCount initCount = inItem.get(ld.localDef());
         //if (initCount == null) {
             if (ld.init() != null) {
                 // declaration of local var with initialization.
-                initCount = new MinMaxInitCount(InitCount.ONE,
+                initCount = MinMaxInitCount.get(InitCount.ONE,
                                                 InitCount.ONE);
             }
             else {
                 // declaration of local var with no initialization.
-                initCount = new MinMaxInitCount(InitCount.ZERO,InitCount.ZERO);
+                initCount = MinMaxInitCount.get(InitCount.ZERO,InitCount.ZERO);
             }     
 
-            m.put(ld.localDef(), initCount);
+            DataFlowItem item = inItem.put(ld.localDef(), initCount);
 //        }
 //        else {
             // the initCount is not null. We now have a problem. Why is the
@@ -702,7 +832,7 @@ public class InitChecker extends DataFlow
         // record the fact that we have seen a local declaration
         currCBI.localDeclarations.add(ld.localDef());
         
-        return itemToMap(new DataFlowItem(m), succEdgeKeys);
+        return itemToMap(item, succEdgeKeys);
     }
     
     /**
@@ -714,21 +844,19 @@ public class InitChecker extends DataFlow
                                   LocalAssign a, 
                                   Set succEdgeKeys) {
           Local l = (Local) a.local();
-          Map<VarDef, MinMaxInitCount> m = new LinkedHashMap<VarDef, MinMaxInitCount>(inItem.initStatus);
-          MinMaxInitCount initCount = m.get(l.localInstance().def());
+          MinMaxInitCount initCount = inItem.get(l.localInstance().def());
 
           // initcount could be null if the local is defined in the outer
           // class, or if we have not yet seen its declaration (i.e. the
           // local is used in its own initialization)
           if (initCount == null) {
-              initCount = new MinMaxInitCount(InitCount.ZERO,InitCount.ZERO);
+              initCount = MinMaxInitCount.get(InitCount.ZERO,InitCount.ZERO);
           }
 
-          initCount = new MinMaxInitCount(initCount.getMin().increment(),
+          initCount = MinMaxInitCount.get(initCount.getMin().increment(),
                                           initCount.getMax().increment());
 
-          m.put(l.localInstance().def(), initCount);
-          return itemToMap(new DataFlowItem(m), succEdgeKeys);  
+          return itemToMap(inItem.put(l.localInstance().def(), initCount), succEdgeKeys);  
     }
 
     /**
@@ -743,15 +871,13 @@ public class InitChecker extends DataFlow
         if (fi.flags().isFinal() && isFieldsTargetAppropriate(a)) {
             // this field is final and the target for this field is 
             // appropriate for what we are interested in.
-            Map<VarDef, MinMaxInitCount> m = new LinkedHashMap<VarDef, MinMaxInitCount>(inItem.initStatus);
-            MinMaxInitCount initCount = m.get(fi);
+            MinMaxInitCount initCount = inItem.get(fi);
             // initCount may be null if the field is defined in an
             // outer class.
             if (initCount != null) {
-                initCount = new MinMaxInitCount(initCount.getMin().increment(),
+                initCount = MinMaxInitCount.get(initCount.getMin().increment(),
                           initCount.getMax().increment());
-                m.put(fi, initCount);
-                return itemToMap(new DataFlowItem(m), succEdgeKeys);
+                return itemToMap(inItem.put(fi, initCount), succEdgeKeys);
             }
         }
         return null;
@@ -921,10 +1047,13 @@ public class InitChecker extends DataFlow
         
         long t3 = System.currentTimeMillis();
         
-        Globals.Stats().accumulate("InitChecker.check", 1);
-        Globals.Stats().accumulate("InitChecker.1", (t2-t));
-        Globals.Stats().accumulate("InitChecker.2", (t3-t2));
-        Globals.Stats().accumulate("InitChecker.1+2", (t3-t));
+        Stats stats = Globals.Stats();
+        if (stats.enabled()) {
+            stats.accumulate("InitChecker.check", 1);
+            stats.accumulate("InitChecker.1", (t2-t));
+            stats.accumulate("InitChecker.2", (t3-t2));
+            stats.accumulate("InitChecker.1+2", (t3-t));
+        }
     }
 
     /**
@@ -1012,7 +1141,7 @@ public class InitChecker extends DataFlow
 	    DataFlowItem dfOut) 
     throws SemanticException {
 	if (isFieldsTargetAppropriate(f) && f.flags().isFinal() && (currCBI.currCodeDecl instanceof ConstructorDecl || currCBI.currCodeDecl instanceof FieldDecl)) {
-	    MinMaxInitCount initCount = dfIn.initStatus.get(f.fieldInstance().def());         
+	    MinMaxInitCount initCount = dfIn.get(f.fieldInstance().def());         
 	    if (initCount != null && InitCount.ZERO.equals(initCount.getMin())) {
 		// the field may not have been initialized. 
 		// However, we only want to complain if the field is reachable
@@ -1056,7 +1185,7 @@ public class InitChecker extends DataFlow
             currCBI.outerLocalsUsed.add(l.localInstance().def());                
         }
         else { 
-            MinMaxInitCount initCount = dfIn.initStatus.get(l.localInstance().def());         
+            MinMaxInitCount initCount = dfIn.get(l.localInstance().def());         
             if (initCount != null && InitCount.ZERO.equals(initCount.getMin())) {
                 // the local variable may not have been initialized. 
                 // However, we only want to complain if the local is reachable
@@ -1073,7 +1202,7 @@ public class InitChecker extends DataFlow
                                           DataFlowItem dfIn, 
                                           Position pos) 
     throws SemanticException {
-        MinMaxInitCount initCount = dfIn.initStatus.get(li);         
+        MinMaxInitCount initCount = dfIn.get(li);         
         if (initCount != null && InitCount.ZERO.equals(initCount.getMin())) {
             // the local variable may not have been initialized. 
             throw new SemanticException("Local variable \"" + li.name() +
@@ -1097,7 +1226,7 @@ public class InitChecker extends DataFlow
                     a.position());                     
         }
         
-        MinMaxInitCount initCount = dfOut.initStatus.get(li);                                
+        MinMaxInitCount initCount = dfOut.get(li);                                
 
         if (li.flags().isFinal() && InitCount.MANY.equals(initCount.getMax())) {
             throw new SemanticException("Final variable \"" + li.name() +
@@ -1126,7 +1255,7 @@ public class InitChecker extends DataFlow
                 // target of the field is this. 
                 // So a final field in this situation can be 
                 // assigned to at most once.                    
-                MinMaxInitCount initCount = dfOut.initStatus.get(fi);
+                MinMaxInitCount initCount = dfOut.get(fi);
                 if (initCount == null) {
                     // This should not happen.
                     throw new InternalCompilerError(
@@ -1190,7 +1319,7 @@ public class InitChecker extends DataFlow
     throws SemanticException {
         for (Iterator<LocalDef> iter = localsUsed.iterator(); iter.hasNext(); ) {
             LocalDef li = (LocalDef)iter.next();
-            MinMaxInitCount initCount = dfOut.initStatus.get(li);                                
+            MinMaxInitCount initCount = dfOut.get(li);                                
             if (!currCBI.localDeclarations.contains(li)) {
                 // the local wasn't defined in this scope.
                 currCBI.outerLocalsUsed.add(li);
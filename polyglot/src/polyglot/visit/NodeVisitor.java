@@ -170,6 +170,20 @@ public abstract class NodeVisitor implements Copy
         return n;
     }
 
+    /**
+     * Return true if this visitor only inspects the AST.  A read-only
+     * visitor must return the node it is given from <code>override</code>
+     * (or <code>null</code>) and from <code>leave</code>.  Since no node is
+     * replaced, the traversal copies no nodes and allocates no lists, and
+     * the AST of the job is left as it is when the visitor is run by a
+     * <code>VisitorGoal</code>.
+     * <p>
+     * The default implementation returns <code>false</code>.
+     */
+    public boolean readOnly() {
+        return false;
+    }
+
     /**
      * The begin method is called before the entire tree is visited.
      * This method allows the visitor to perform any initialization
@@ -262,6 +276,11 @@ public abstract class NodeVisitor implements Copy
                 e.setPosition(n.position());
             throw e;
         }
+
+        if (n != child && readOnly()) {
+            throw new InternalCompilerError("Read-only visitor " + this +
+                                            " changed the AST.", child.position());
+        }
         
         return n;
     }
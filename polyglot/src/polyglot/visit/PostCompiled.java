@@ -8,6 +8,7 @@
 
 package polyglot.visit;
 
+import java.io.File;
 import java.io.InputStreamReader;
 import java.util.Iterator;
 
@@ -17,7 +18,11 @@ import polyglot.main.Options;
 import polyglot.main.Report;
 import polyglot.util.*;
 
-/** The post compiler pass runs after all jobs complete.  It invokes the post-compiler on the output files stored in compiler.outputFiles(). */
+/**
+ * The post compiler pass runs after all jobs complete.  It invokes the
+ * post-compiler on the output files stored in compiler.outputFiles(), either
+ * as a separate process or, with <code>-inprocess</code>, in this JVM.
+ */
 public class PostCompiled extends AllBarrierGoal
 {
     ExtensionInfo ext;
@@ -50,6 +55,12 @@ public class PostCompiled extends AllBarrierGoal
 	if (Report.should_report(postcompile, 2))
 	    Report.report(2, "Output files: " + compiler.outputFiles());
 
+	// Nothing was translated, for example because an incremental
+	// compilation found every source up to date.
+	if (compiler.outputFiles().isEmpty()) {
+	    return true;
+	}
+
 	long start_time = System.currentTimeMillis();
 
 	try {
@@ -66,6 +77,21 @@ public class PostCompiled extends AllBarrierGoal
     protected boolean invokePostCompiler(Options options,
                                       Compiler compiler,
                                       ErrorQueue eq) {
+        if (options.post_compiler != null && !options.output_stdout &&
+            options.post_compile_in_process) {
+            if (InProcessPostCompiler.isAvailable()) {
+                try {
+                    return InProcessPostCompiler.compile(options, compiler, ext.targetFactory(), eq);
+                }
+                finally {
+                    deleteOutputFiles(options, compiler);
+                }
+            }
+
+            if (Report.should_report(postcompile, 1))
+                Report.report(1, "No Java compiler in this JVM; running the post-compiler as a separate process");
+        }
+
         if (options.post_compiler != null && !options.output_stdout) {
             Runtime runtime = Runtime.getRuntime();
             QuotedStringTokenizer st = new QuotedStringTokenizer(options.post_compiler);
@@ -113,14 +139,7 @@ public class PostCompiled extends AllBarrierGoal
 
                 proc.waitFor();
 
-                if (!options.keep_output_files) {
-                  String[] rmCmd = new String[1+compiler.outputFiles().size()];
-                  rmCmd[0] = "rm";
-                  iter = compiler.outputFiles().iterator();
-                  for (int i = 1; iter.hasNext(); i++)
-                    rmCmd[i] = (String) iter.next();
-                  runtime.exec(rmCmd);
-                }
+                deleteOutputFiles(options, compiler);
 
                 if (proc.exitValue() > 0) {
                   eq.enqueue(ErrorInfo.POST_COMPILER_ERROR,
@@ -136,4 +155,12 @@ public class PostCompiled extends AllBarrierGoal
         return true;
     }
 
+    /** Delete the output files unless they are to be kept. */
+    protected void deleteOutputFiles(Options options, Compiler compiler) {
+        if (!options.keep_output_files) {
+            for (Iterator iter = compiler.outputFiles().iterator(); iter.hasNext(); ) {
+                new File((String) iter.next()).delete();
+            }
+        }
+    }
 }
@@ -25,13 +25,24 @@ public class ReachChecker extends DataFlow
 	super(job, ts, nf, 
               true /* forward analysis */, 
               true /* perform dataflow on entry to CodeDecls */);
+        worklist = true;
     }
 
-    protected static class DataFlowItem extends Item {
+    /**
+     * The reachability of a term, as a set of at most two facts: that the
+     * term is reachable, and that it is reachable by normal control flow.
+     * There are only three items, so <code>create</code> returns one of the
+     * constants.
+     */
+    protected static class DataFlowItem extends BitSetItem {
+        protected static final int REACHABLE_BIT = 0;
+        protected static final int NORMAL_BIT = 1;
+
         public final boolean reachable;
         public final boolean normalReachable;
 
         protected DataFlowItem(boolean reachable, boolean normalReachable) {
+            super(new long[] { (reachable ? 1L << REACHABLE_BIT : 0) | (normalReachable ? 1L << NORMAL_BIT : 0) });
             this.reachable = reachable;
             this.normalReachable = normalReachable;
         }
@@ -46,21 +57,21 @@ public class ReachChecker extends DataFlow
         // terms that are not reachable 
         public static final DataFlowItem NOT_REACHABLE = new DataFlowItem(false, false);
 
+        protected BitSetItem create(long[] bits) {
+            long b = bits.length == 0 ? 0 : bits[0];
+            if ((b & (1L << NORMAL_BIT)) != 0) {
+                return REACHABLE;
+            }
+            if ((b & (1L << REACHABLE_BIT)) != 0) {
+                return REACHABLE_EX_ONLY;
+            }
+            return NOT_REACHABLE;
+        }
+
         public String toString() {
             return (reachable?"":"not ") + "reachable" +
                    (normalReachable?"":" by exceptions only");
         }
-        
-        public boolean equals(Object o) {
-            if (o instanceof DataFlowItem) {
-                return this.reachable == ((DataFlowItem)o).reachable &&
-                       this.normalReachable == ((DataFlowItem)o).normalReachable;
-            }
-            return false;
-        }
-        public int hashCode() {
-            return (reachable ? 5423 : 5753) + (normalReachable ? 31 : -2);
-        }
     }
 
     public Item createInitialItem(FlowGraph graph, Term node, boolean entry) {
@@ -104,30 +115,21 @@ public class ReachChecker extends DataFlow
         // if any predecessor is reachable, so is this one, and if any
         // predecessor is normal reachable, and the edge key is not an 
         // exception edge key, then so is this one.
-        
-        
-        List l = this.filterItemsNonException(inItems, itemKeys);
-        for (Iterator i = l.iterator(); i.hasNext(); ) {
-            if (i.next() == DataFlowItem.REACHABLE) {
-                // this term is reachable via a non-exception edge
-                return DataFlowItem.REACHABLE;
-            }
-        }
+        BitSetItem result = DataFlowItem.NOT_REACHABLE;
+
+        for (int i = 0; i < inItems.size(); i++) {
+            BitSetItem item = (BitSetItem) inItems.get(i);
 
-        // If we fall through to here, then there were
-        // no non-exception edges that were normally reachable.        
-        // We now need to determine if this node is
-        // reachable via an exception edge key, or if 
-        // it is not reachable at all.
-        for (Iterator i = inItems.iterator(); i.hasNext(); ) {
-            if (((DataFlowItem)i.next()).reachable) {
-                // this term is reachable, but only through an
-                // exception edge.
-                return DataFlowItem.REACHABLE_EX_ONLY;
+            if (itemKeys.get(i) instanceof FlowGraph.ExceptionEdgeKey) {
+                // this term is reachable through the edge, but only through
+                // an exception edge.
+                item = item.clear(DataFlowItem.NORMAL_BIT);
             }
+
+            result = result.union(item);
         }
 
-        return DataFlowItem.NOT_REACHABLE;
+        return result;
     }
 
     public Node leaveCall(Node old, Node n, NodeVisitor v) throws SemanticException {
@@ -10,6 +10,7 @@ package polyglot.visit;
 
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import polyglot.ast.Node;
 import polyglot.ast.NodeFactory;
@@ -219,7 +220,7 @@ public class TypeBuilder extends NodeVisitor
     }
 
     // Duplicate class id counter
-    private static int dupId = 0;
+    private static final AtomicInteger dupId = new AtomicInteger();
 
     /**
      * Do not fail on duplicate types, but create another instance of the type with a
@@ -301,7 +302,7 @@ public class TypeBuilder extends NodeVisitor
             if (dup != null && dup.fullName().equals(fullName)) {
                 job.compiler().errorQueue().enqueue(ErrorInfo.SEMANTIC_ERROR,
                                                     "Duplicate class \"" + ct.fullName() + "\".", pos);
-                Name newName = Name.make(name.toString()+"_dup"+(dupId++));
+                Name newName = Name.make(name.toString()+"_dup"+dupId.getAndIncrement());
                 ct.name(newName);
                 fullName = QName.make(null, newName);
             }
@@ -0,0 +1,29 @@
+// The exception, exit path, initialization, constructor call and forward
+// reference checks are run together, so each reports its own errors even
+// if another check finds an error in the same file.
+
+class BadChecks {
+  int f = g; // BAD: forward reference
+  int g;
+
+  BadChecks() {
+    this(1); // BAD: recursive constructor call
+  }
+
+  BadChecks(int i) {
+    this();
+  }
+
+  void m1() {
+    throw new Exception(); // BAD: not caught or declared
+  }
+
+  int m2() {
+    int i;
+    return i; // BAD: not initialized
+  }
+
+  int m3(boolean b) {
+    if (b) return 1;
+  } // BAD: missing return
+}
@@ -0,0 +1,17 @@
+// As in ForwardSuper.jl, but the class does not descend from the
+// supertype it is assigned to.
+class BadForwardSuper {
+    void f(BadForwardSuper1 a) {
+	BadForwardSuper2 x = a;
+	BadForwardSuper3.I y = a;
+    }
+}
+
+class BadForwardSuper1 extends BadForwardSuper2 { }
+
+class BadForwardSuper2 extends BadForwardSuper3.In { }
+
+class BadForwardSuper3 {
+    static class In { }
+    interface I { }
+}
@@ -0,0 +1,8 @@
+class ForwardRef10 {
+    int before = 1;
+    Object o = new Object() {
+        int x = y; // error - forward reference within the anonymous class
+        int y = before + later; // ok - fields of the enclosing class
+    };
+    int later = 2;
+}
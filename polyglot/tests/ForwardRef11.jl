@@ -0,0 +1,5 @@
+class ForwardRef11 {
+    Object o = new Object() {
+        int x = x + 1; // error - reads x in its own initializer
+    };
+}
@@ -0,0 +1,3 @@
+class ForwardRef7 {
+    int i = i + 1; // error - reads i in its own initializer
+}
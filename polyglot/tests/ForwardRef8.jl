@@ -0,0 +1,7 @@
+class ForwardRef8 {
+    int a = this.a + 1; // ok - not accessed via simple name
+    int b = (b = 2); // ok - b at left hand side of assignment
+    static int s = ForwardRef8.s; // ok - not accessed via simple name
+    int c = c(); // ok - method, not the field
+    int c() { return c; }
+}
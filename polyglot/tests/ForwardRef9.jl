@@ -0,0 +1,13 @@
+class ForwardRef9 {
+    // ok - references from an anonymous class occur in a different class
+    Object o = new Object() {
+        int f() { return later; }
+        int g = later;
+        { later++; }
+    };
+    static Object s = new Object() {
+        int h = slater;
+    };
+    int later = 1;
+    static int slater = 2;
+}
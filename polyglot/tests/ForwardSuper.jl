@@ -0,0 +1,27 @@
+// Subtype queries on classes whose supertypes are declared later, and
+// through member classes of classes declared later.
+class ForwardSuper {
+    void f(ForwardSuper1 a, ForwardSuper3.In b, ForwardSuper3.I c) {
+	ForwardSuper2 x = a;
+	ForwardSuper3.I y = a;
+	ForwardSuper3.In z = x;
+	Object o = true ? a : b;
+	ForwardSuper3.In w = true ? a : b;
+	ForwardSuper1 v = (ForwardSuper1) c;
+	ForwardSuper2 u = (ForwardSuper2) b;
+	a.m();
+    }
+}
+
+class ForwardSuper1 extends ForwardSuper2 { }
+
+class ForwardSuper2 extends ForwardSuper3.In implements ForwardSuper3.I { }
+
+class ForwardSuper3 {
+    static class In extends ForwardSuper4 { }
+    interface I { }
+}
+
+class ForwardSuper4 {
+    void m() { }
+}
@@ -0,0 +1,8 @@
+// ParseAfterErrorHelper is read from the source path after the error in
+// m() is reported; it must still be parsed.
+class ParseAfterError {
+    void m() {
+        boolean b = 1;
+        new ParseAfterErrorHelper().n();
+    }
+}
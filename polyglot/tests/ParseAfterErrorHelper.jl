@@ -0,0 +1,3 @@
+class ParseAfterErrorHelper {
+    void n() { }
+}
@@ -0,0 +1 @@
+class B { int m(A a) { return a.hashCode(); } }
@@ -0,0 +1,32 @@
+class A extends C {
+    
+    public A() { super(); }
+    
+    final public static String jlc$CompilerVersion$jl = "3.2.0";
+    final public static long jlc$SourceLastModified$jl = 1792283578623L;
+    final public static String jlc$ClassType$jl =
+      ("UFQCeNrtVl1oXEUUnt1ut4lJ/5Kma2LTpO1WjTS7KlTUhNh1G0vNsom5SVUC" +
+       "xsnsJN305s44MzeZ\nCNaKgqIipVJIoSW0hT5IoNBq8cGAL1Z88UERC2q14I" +
+       "OmxpcUreCDM3M3u9vdjSawVB9c2Nm7M9+d\nM+c753xnZubBas5AMyX25IhN" +
+       "RERMUswjPZBxnIrbkPM+NTGIDqya2Nbw8I5ZyUBDATYP9VDVtRvc\nf/VLhd" +
+       "pagOrFw5hhB2EP6V/12MtTv/+8RyHrCpAeYOGr9nTPfSeEAtxVAtA9NIqRGE" +
+       "RvVR4/cHfN\nn/OSKi82Z4GuSNuRHsLTIk2cj3svP3vkPXxdUpD5bFJfX+bZ" +
+       "/AoQiEVGbQFao4wQEaWM6P2jixtG\nBeaCR9MOYngMOwLaUY2XyuimYkcH0Y" +
+       "0/vt+x9sPqsHwBHAYBPazR2PpS1O3VL/Rd3DUdOQnnZPGG\nZv2zBxuc2ZfO" +
+       "787fEPhKmH/ChiP85qvB+7/+qOoTw8rGUTgOPUb6GMYWFt9N9bx7fP71AUnp" +
+       "REC7\nL/XhanO4GGNwMpHmQr7yReOJT+Epj7oMWGG3LOFIuCvtpHbKt50kOz" +
+       "mmfKm5NSKdjju2e/oKbtlT\njSQVoFIQ2mrjcWxr+wV7JuEYXnitZWJuf92M" +
+       "sR8TwBej9DAD4SV5DFvEZQjrYywGWx1jnXHNhs6I\nOUJ2RR0haHX398Y7lf" +
+       "07CzZNwBcnTTCnYKDz0a7LTbLY79gQFwwiYXC/XTr1/Jt2TYWkPq4jBMwY\n" +
+       "VIYqFxMtUJB0cZN0Dyw76ThD0bhJPL11s2ehmqpUoOaxNi9M+n/IzNbPfnN6" +
+       "SoD17a5zyCETTjPS\nfHUoKvXqFgHW9Ce7kt1PJ6nLgH/g8ZmF0M1gRd8Phv" +
+       "U3ZpREqPnagUSORa/82o5+/sz0Bt5iG2Bg\nRTmkLftXNKHzrj3L/zAjjsBO" +
+       "KvJkwkIHccq1MQsnCDnk0n02GYK2VgmVEjEnpTLeVMWVX587vfcn\nf1DFcX" +
+       "vxPjlV2UegPYiud7z/bQVeOCjz1TGLXgy8h71g3XFs7ujma4bzZp/K0MbiVz" +
+       "Q0bAkoXJ5N\nQI1vVPxb/fF4p2VRKcDWv3eC6lfuKVH4T+l6eSR0tW7/j3Ue" +
+       "13Ev+PpJVU6cUlXvVLp6MgJA8Pxt\nDqzPTGjNaiosX+IoNl0kCDNFfHb43n" +
+       "NHPpgfl/k8ZhoTI0gFm2EDRK1N1pldydX/qJplbiI1IDPc\nviZSaXisWrKD" +
+       "6dW1elgn/9v93Dijh42yvKILltdgtemKnGL6/+3GtqQ2l7XN/a/wZVT40AoV" +
+       "fufK\nFb5+WQofMxRuy92NlMKX6U7oU1cj6g7ZaWTCEro13/WpUzr0v1xo2/" +
+       "BOK7+k7jzj+VWRFYlcEpaO\nf5tPjx0lcqFohtK/AEXzOkQ=");
+}
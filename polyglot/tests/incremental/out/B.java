@@ -0,0 +1,38 @@
+class B {
+    
+    int m(A a) { return a.hashCode(); }
+    
+    public B() { super(); }
+    
+    final public static String jlc$CompilerVersion$jl = "3.2.0";
+    final public static long jlc$SourceLastModified$jl = 1792283578623L;
+    final public static String jlc$ClassType$jl =
+      ("UFQDeNrtVl9sFEUYn7te2+s/W/vXVtoCPSs19q4QQaQNcC2VYOu19lrUNPHc" +
+       "7k3bLXu74+5su2cU\nIWo0QBQhhDaBkGriA2liQpT4YBNexBgTHzRGErVK4o" +
+       "OAxYcSwcSgM99e7673B3rJRX1wk53dnfnN\nN/P9vm9+384tolxdQ2uJKofH" +
+       "ZJW6aZhg3d0vaDoOdsmCrg+yjoC4N2dqXd3WpnlTQ3UJ2DjUlqLL\nN3T7wt" +
+       "cM1ZCAGsCjWMOKiC2kPWfHK9M3r+xkyKoEpAVY+qZD6n9ohjLA/SkAfSMTWK" +
+       "QB8XDBib3N\n5X8umoR5UR0FGlSS3f2qLlFJVS4MXHz2wFl8zSQocnnYbYu8" +
+       "w5MiR6d7Qqao1aOpKvUQTeX2PcsG\nPRTrVPdIiqjhEFaoIHs43mSLViY7Gh" +
+       "Bv/PFjU8nHxS7zBbQfOXiTz7G1qajbxScc2tj2YEnAWWom\nG4TxzzfVKfMv" +
+       "f7A53iCypVj+cVkY02+9mtf27SdFnwIr904Ik4LFyKCGsR/TH6b7j59YfGPY" +
+       "JGTK\nwd03+eYqYjivpgnhXkmn5sGv6mc+E05b1EXADLsmjSOuHkkJPmAeUX" +
+       "zaqRDzpXxlRLoVI7T5zCXc\nsrNYNAlFBVQlrTKexDJfP8GmTwjhpddapq7u" +
+       "qZqD9TspsnUSsl9DrrQ8uvyqoYmYb2M52Gwb94Br\nsqCMwRaiI2wLef6+oY" +
+       "Gubp1TWght3l/sQuy+zW+Ogw7IkmpuyMMNeawMdIt8aWLCTMSbdZyf+xI2\n" +
+       "2Cu8GIbEmBYc3dt6LjaayRx6R3SqCSIF3O/nTz9/SC53MsfBdDFh4SbwWhEX" +
+       "Cv5dA72189/NTlNU\n2mEo+xR1SlkLG9vO6OKjayjKH/L1+Pqe9hFDQ/bhzr" +
+       "mlmlt5zsGfgNk355gMsP6K4d4YU5aD7Ue/\nfOZMmd4iA9CRUZ7wle0ZdXDu" +
+       "OqK8jGqqQrESdD/R6xfHcdCQsebqVdV9BtktqyOCzJWAhd2rBFlW\nQ+Zfuv" +
+       "7c7K5f7HmM3/XJdmLKsVsV5IB4bfuH3zvx0rgZr4BR9HJALOw5f+Gxq0erLw" +
+       "PnLhvLwvrk\nKRzq8lOBGno0yTi+nvHvH+rq6vb7iUlRw52dIHxKc4rD/RQ/" +
+       "E4/VLFTt+bmKcb1DCh+3gn8Evx1g\nuWz5Bl2PfuFs3mYNok3vXGcCx4NqDa" +
+       "GNZ9dHhtgbG+IRJYTJgcF7WxFyHsxqRtggvFyuEovHk5iO\nq0E4uheax3Fx" +
+       "zpXXzXhmI+VIU0UWfg0DUGxt9L/7sC/3rlqZ5dJRyMNZ+Y+WjnwIU0HausVH" +
+       "i0Af\nzP92FQdneFOadXlcVVkFYY9pqP3fLmdp1Tqrxe1/zc+i5ldlqPlNmW" +
+       "t+zd01n/8HAYWNsT8iJtxZ\n/ROsWZnmfLNBHvFfz7WXvdWqnzeJbTL+MES1" +
+       "IZZ70SgvS7/FIDzKVopaKkX1ZqioXlBUWAM0sRbe\nN9ignK2WfYvXNrYDb5" +
+       "RhL2PYCwwT01pgKxhtT53XfEqITQnBVwnhbDYkFTMpxIrLZERDZ2ZvViwc\n" +
+       "e+k25EwFWbZjO/kbRTmSQu9wgmJltTFRM1SF5bEhUlUD5XhvdMP7Bz5anIRF" +
+       "cqP8O1GkSVtUwA1L\nt3lbCR2PQLvFShkb++8gxogsiashKN1gClkg5G8tuM" + "fl");
+}
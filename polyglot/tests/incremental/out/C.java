@@ -0,0 +1,38 @@
+abstract class C {
+    
+    abstract void foo();
+    
+    public C() { super(); }
+    
+    final public static String jlc$CompilerVersion$jl = "3.2.0";
+    final public static long jlc$SourceLastModified$jl = 1792291566218L;
+    final public static String jlc$ClassType$jl =
+      ("UFQDeNrtVm1oHEUYnvvI5dIkpiZNrqYmV5NrasTcNcXWfoS28RpLzXlJc0lV" +
+       "Ap6bvUmy6d7OODt7\n2YjWiopSg9bWQgKWEgV/lIBQtPjDQP8YEUFBEQtqtO" +
+       "AP25r+SbEVpDoze7m73kfbQPz44cIMuzPP\nvDPv877zvDs9D4p0AtZipI4N" +
+       "qYj66RiGur9bIjqMBVVJ13vZQFTe7xi9p3ZL44xJQG0WNgO1ufT8\nFd0+9z" +
+       "VD1WeheuAgJFCToYW0O3Y+P3H1wi6GrM5CWoCFb9qU7vsmKQOsyQPoGhiBMo" +
+       "3Kr5Uc399U\n+ce8iZkXNSmgQRXV3410hSpIO9sz+8ShU/CSiQEAJawBG2su" +
+       "YD38HVDgDPpHVApaAwQhGsAEcfuB\nRYMBCnWqBxRNJjAONSqpAZ3IAb7GZB" +
+       "uvynU2Kl/5/cfG8o/KfObT4CBw8q6YY+/KR99uvuBw64b1\n5VF3hZlrUMx/" +
+       "trFWm3nu/U2ZBoEtz/YPq9KQfu1F14ZvPy79RDBz54iUkCxWegmEEUh/mOg+" +
+       "dnz+\nlX4T41Enp4ECtzSgUyLJ1OTnrEovaSdEGgspOjVf+Kpu8lPphGASiH" +
+       "WAY+8u4JOvU9Fi68xxLUze\njjO3Km8MUIdmxDedPAebd5XJJqaghCLcosIE" +
+       "VPn+WTbDUhwuvNQ8enFv9bTYP0iBLYjxQQJ8BSn1\nRZBBZMiPkQw3YMe4Q7" +
+       "imStqQOEJqhh3BFenq6wl26JzdFaJ3/ckewNp13jhODIikqeGGAtxQwEpI\n" +
+       "v8y3xqZYCXjXwPlZnXXAkPTMmMiRCcnZsa1z1mvmctieDIbA/XbmxFOH1Uo3" +
+       "c1yYLsMs8li8rsoI\nBf9eLUZrZ76bmqCgos3QDmhoVFsrDraD0cVn6ygo7g" +
+       "t3hrseC2ODAHv/Q9MLnmsud+9PgtlXp5kq\nsPGq/lCaKcvB7Ue+ePzkSr1Z" +
+       "FUDnkvKE72xf0gDnri3FyyBBGoVazP9IKCIPw5ihQuILIXTAwHtU\nNCCpXB" +
+       "hY2Nu1GEtwcQnOXX5yavcvdhfjtyHXTlpI9iBJjcqXdnzwvRsuDJuZgphCLw" +
+       "bEwp6OrDh6\n8UjNecH5OhvLwrrcJRzqi1CJGnoqyTi+nvEf6QsGOyIRbFJQ" +
+       "f3MnMF+yPs8938fvxFbPXPXen6sZ\n1zuVsWNW8MfhG1GWy5ZvYmjL5+6mbd" +
+       "Yk2PjmZaZ3PKjWFGg91ZCcYm9sikcUY6YMBh/1A1D85bJm\nhM1SHD23ljwK" +
+       "6TCKiat7tmkYljkuvGxmMpusTgTJLPwECqDc4o28c3+46JayucyVpJyH08Oa" +
+       "Ixla\nxz9SSYpFqEoKljI+Wyo0wvxvF3bhDO8qll0ib6vKCnFP66j93y5pBR" +
+       "V7WQvc/7q/jLpfvUTdb1y6\n7nturfv8X0hQ6E3/FTHx/rt+DD03Zjw/d4wH" +
+       "/9fT21e+3qKfMbEtkXkvUjKRTsP8GbDVxvu2/JNe\nYBufpcAxiJD4Lsf8LP" +
+       "U5lUGJM6VOJMVocupq1dzRZ68L8qvwoqUH973FZDqBlNhNcjFdpLzZtw9p\n" +
+       "jA5DpoiIO/ju4L3vHfpwPiF2KUrJcym3t4a1oqTfRdnyLPywFFD8yYmBB0S/" +
+       "OUW+CxsDqiKbt8FR\nock8FwzjvwCgDqCb");
+}
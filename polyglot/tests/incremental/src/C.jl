@@ -0,0 +1,6 @@
+abstract class C {
+    
+    abstract void foo();
+    
+    public C() { super(); }
+}
@@ -0,0 +1,3 @@
+abstract class C {
+    abstract void foo();
+}
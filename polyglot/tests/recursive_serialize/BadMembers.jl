@@ -0,0 +1,6 @@
+public class BadMembers
+{
+  int f() {
+    return new Members().m(true);
+  }
+}
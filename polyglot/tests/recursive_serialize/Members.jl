@@ -0,0 +1,25 @@
+public class Members extends Rec1 implements Comparable
+{
+  public static final int K = 3;
+
+  public Members() { }
+  public Members(int x) { }
+
+  public int m(int i) {
+    return i + K;
+  }
+
+  public static Members make() {
+    return new Members(1);
+  }
+
+  public int compareTo(Object o) {
+    return 0;
+  }
+
+  public static class Inner {
+    public int n() {
+      return 1;
+    }
+  }
+}
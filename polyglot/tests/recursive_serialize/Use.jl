@@ -0,0 +1,6 @@
+public class Use
+{
+  Rec2 f(Rec1 x) {
+    return x.y.z.y;
+  }
+}
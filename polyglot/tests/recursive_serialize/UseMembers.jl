@@ -0,0 +1,11 @@
+public class UseMembers
+{
+  int f() {
+    Members m = Members.make();
+    Rec2 r = m.y;
+    switch (m.m(0)) {
+      case Members.K: break;
+    }
+    return m.m(Members.K) + new Members.Inner().n() + m.compareTo(r);
+  }
+}
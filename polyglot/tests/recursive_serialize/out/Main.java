@@ -0,0 +1,38 @@
+public class Main {
+    Rec1 x;
+    
+    public Main() { super(); }
+    
+    final public static String jlc$CompilerVersion$jl = "3.2.0";
+    final public static long jlc$SourceLastModified$jl = 1359565822000L;
+    final public static String jlc$ClassType$jl =
+      ("UFQDeNrtV19MHEUYnzuucLRAKxSoVP4IBxUjd6WmBgsppVdoKnggB6gh8brs" +
+       "DXTpsjvOzsIeiRVT\nE01ttNo0oYltU018aGhMGm1MI4k+iFGjDxpjjVrbxA" +
+       "dtpS80WhOjzjd7HNe7o4C5Jj64ycwNM7+Z\n+b7f92+YmkWrDIoqiK5GhlSd" +
+       "eVmEYMPbJVEDh/2qZBg9fCIk92WM3VvSUDVtUVSSgI1DPbTmyg3D\neekrji" +
+       "pLQHXjQUyxJmMb6cxofnby9192cGRhAtIGzH3dpHTdf5xxwMYUgM6BYSyzkP" +
+       "xS9rG+mvw/\nZy3CtSiKAU2mqN4u3VCYomsfdM88OXEGX7MIQiiLN+TgzYXs" +
+       "D8aIoaxHJUXzDqsMNfiorjMfoTpc\n4Zs/08ewwQwfxbJJDWUUhwxMFUlVxr" +
+       "EvutXiIqxPVjsk3/jjx6rc93I81tPoAHJBlwXYu1MRuQs2\nHKrfvCk35F5r" +
+       "JR8o1j/ZUqJNP/P21vgDkSPF9W2qNGTcPJi5+Zv313wkOLprWBqVbH56KMZB" +
+       "zH6Y\n7Dp6bPaFfouQMSDFwVAmMQdURbZAyoKFDS2USpEOxWDWc1+WHv9YOi" +
+       "EYRWIXAuw9i2jkaVe0cLV1\nWAvQ10e4Uvm3GqpVM0e2nrqIa3fkyBZhKJvp" +
+       "pE7Fo1iF+xPODEgjeO752rGrewqn+P2eyLcMucAC\nhBygyLMop56gblIZgy" +
+       "RRyyMuSZ7QTpW0ISFFbIVLkRns7O32txpA72rRZ/7NP8TbX9AAJyaE/xTB\n" +
+       "QT44yGf7pleGq4kldiLoKoGiDQkCdkjjEeEkk5KrdVv7TLmVTGPLgMGoJDOB" +
+       "++38ib2H1Hw3110c\nnUO46YkYro+zBvy9QcyWTH93epKhtU2mtl/Tx7QKId" +
+       "h2TheslnLX7w20BzofDxCTImf/zqm54puZ\n7p7LwrgvTvEEwecL+jsWmLIV" +
+       "bDzyxROn1hm1qgC6VuQqcLNzRRPAXVOMl0GqawxrYe8jHUF5Hw6b\nKqaeDl" +
+       "3fb5Ldqj4gqZAjuNlbtDD3cBEFF68/dXrXz85Mzm9l8jkLOWW3Lqkh+dr2d7" +
+       "5347l9Vnxu\njKHnDWJjzwVXv3b1SNEVwXm1g3thafIWgHqCTGKmEXMywJdx" +
+       "/oO9fn9rMEgshspurwSBLZtSBPpj\nEBYPF18q3PNTIee6WYkctY1/GL8S4r" +
+       "5s6yamGj5z12yzF9GWV6/z6AGj2kuo/kxldImP+BJYlBCe\nGkyY9SLknriz" +
+       "HuGwc1CK9NimYDUsQvng2ZrqvYNDJ7lxihNAfRIVENeFtpOVZysuL5lB01xe" +
+       "hMtm\n85YRNXJGWstLGrMHUFy9CHsev64ZTNJYn6SaeNzV3nPh05lcriB3hT" +
+       "RVGTuil0juHMWQw3aOPMd/\n+50CMrrtYnG7Z0Y3luv/pR9Et0bpQMt7QYjH" +
+       "wUKJcN7pgg2XFC9acdJaoP+vW2msW3krrFveldet\nqqXrFqr5/EPbhWDE6w" +
+       "/4vKg/ZHmv66UiULyYoMu1TbURupb5kBIFXIwfdIh6uFzV/GJTI7xGo+LH\n" +
+       "v0tt8ZMrXHliLEDWpabMdDsNvzl431sT786OWvGWiSY+qsvcfSgWQLmuPPjG" +
+       "A4FVdrTHKIh9zvjf\nRAqabQqg3ykmCkRfmPK/geJbEwHQEYZw+fVc47qX64" +
+       "zzvK6MxqeLmJ0WAjd1zHQLwntTxE/SDCH/\nADM35S0=");
+}
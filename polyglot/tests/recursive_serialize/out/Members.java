@@ -0,0 +1,96 @@
+public class Members extends Rec1 implements Comparable {
+    final public static int K = 3;
+    
+    public Members() { super(); }
+    
+    public Members(int x) { super(); }
+    
+    public int m(int i) { return i + K; }
+    
+    public static Members make() { return new Members(1); }
+    
+    public int compareTo(Object o) { return 0; }
+    
+    public static class Inner {
+        
+        public int n() { return 1; }
+        
+        public Inner() { super(); }
+        
+        final public static String jlc$CompilerVersion$jl = "3.2.0";
+        final public static long jlc$SourceLastModified$jl = 1792286369441L;
+        final public static String jlc$ClassType$jl =
+          ("UFQDeNrtVn9sU0Ucv3Zd99vNbV1xQDtYHUxdC0tGgC2MOSaZG91cN9Qsoby9" +
+           "3rY3Xt87793rXolO\njBoNEkUIcQsQMk38gywxIUr8wyX8I8QQ/UOjkqhTEv" +
+           "8QcPjHiEBi0Lt7XVvajrFkRk1scpfrfT93\n9/39eVOzIFvDoAqpcnRIVomX" +
+           "RBHUvN0C1mCoVRY0rZduBMXdWaNrKjdXTxsYVKZgk1CbCi7f0Kwz\nX1GUKw" +
+           "XVAwchhooITaQ1q/nF8ZtXtlOkIwVpAua+bpK6H5kgFLAyA6BrYASKJCi+kX" +
+           "dsd03pH7MG\nolZUxIE6kWRvt6pJRFKVcz3nnz1wGl4zEACghA6QRccKYP7K" +
+           "2URA/i4YHoBY847IBDT6sKoSH8Iq\ne8U3f62PQI1oPgxFHWtSBAY1iCVBlv" +
+           "ZDX+K0QRUpTzc+KN64/WN10ceFHuM5MAZsbMph2IcyuXMH\nO3Bw44Z1RcHc" +
+           "YiP9Qi7/rL5SmX7hg4bkC4Elw/NPyMKQdutl+4ZvPyn4lHvqwREhIphe6sUQ" +
+           "BiD5\nYbz76LHZ1/oNhEZt1CNWAuxIH5AlkS40IhBJNJi6ZYmTLRgL0U5JI8" +
+           "ZLX66euCCc5A4G/Dhg2FUL\nmObpkJTQw8YhxY9PhKl1pXfHrU3Rww2nLsHa" +
+           "7YWigejzYdO59PGUC/1CGM69Ujt6td0xZSDb5j2b\nCMhuVxQOXpEC7hT2R3" +
+           "kgxgVb29aO824jXcOWAY1gQSQc9/vZk3sPyqW51CyNebcQUfcivnQkG8o2\n" +
+           "nATkERXVyTACZb6zcvq7yXECipt0ZZ+ijipVIrN+G0JjGHgWjLknoOpYhMxB" +
+           "sfwEVM0HuNNlQRni\nzolLqHNy+vwd/q6n/UjHwNr/+NSc85Y9t/cnHorXp2" +
+           "h10/2y/s7EBWblNB7+4plTJVqtzIG2JQWW\nWWdd0gZLhqa4zYNYVQhUQt4n" +
+           "OwPiMAzpMsSeTlXdp6OdsjogyKzAqTdalBBNTJ68l67vmdzxi9VO\nfbE2/Z" +
+           "5EQ9ipCnJQvLbtw+9z4dywkdzY4uj5GJvYM4H8I1cPV1zmReSy0OCsTj/CoJ" +
+           "4ALQJdi/ue\n4ddT/wf6WlvbAgFkEOC6txGIHanKUJ9PsTze4pxxtP/soL4+" +
+           "fmHvbTOF2Io+EWsuCBlojO2vozUR\n6OrraW3jsHw+2/+kP0DHHTaYinyDN7" +
+           "cKFlsfC7/P9JOXJyMyIwXY1GSuXfzPGr6us7C5/n4ta+aH\nGpql6FFT+0Pw" +
+           "rSDV1HzRFF7MrdlqCkH929cJsDGdTBHYeHptTERXVMR0ZiYjne0+CkDO58ua" +
+           "zxae\nnKxfpjLaLkiG1RCvx3M1w7Aw68qrRnJexDgSqyJNXgw5UKxzB959zJ" +
+           "+9aLNeZj4rYBEupcMRS0zH\nP8JnOTx0eQsSLJMW8CZq/Ls/N7gxbCo2lptD" +
+           "7ovreSkniMb6tzBqElUtRqr/s9h/jsUcS2Sx6qWz\nmHNxFov0fXORu9DNVg" +
+           "QUxVqKh3+f8ca+TJ+qlvinKg+R8+7cZxaEWBr8eqax5M067ayBLJHkCok3\n" +
+           "jERCZs6FLZwPmzIL3XSlEGBR+L8ixDRxpTGGFKYdPBJrShOTN8tmjjx/hweh" +
+           "DM3fY3nnNwKyJIXc\nIyUT3OVOLUJVoYmhi0TFvBTfG1z//oGPZiP8kex4l1" +
+           "4FYlP5Ql2am2E2QjaXc5Je3A8LCTOUE0J/\nAcNS17M=");
+    }
+    
+    final public static String jlc$CompilerVersion$jl = "3.2.0";
+    final public static long jlc$SourceLastModified$jl = 1792286369441L;
+    final public static String jlc$ClassType$jl =
+      ("UFQDeNrtV11sVEUUnv3tlrZS224LhXYLXcpPaLdFIQUaKJZCakup3bZqSFhu" +
+       "b6fthbv3Xu+d3d4S\nRQgqBIgi2FiUH0HjA5aYEEVDJOKDECX6oFExKoLhQc" +
+       "DiQ4mAMej83P3f0lZr9IFNZnZ25szMme+c\n852zA4PApqmgSJHF3i5RRmWo" +
+       "V4FaWROnarCjRuQ0rQVP+Pg2S8+0/MriU7oK8uNko6QWpF26oZkv\nfImlCu" +
+       "OkmmEnVKHEQyZptix9uv/mlWos6YyTZAJDX1UJTXP2ISwwJYnA6vb1kEc+fm" +
+       "dqX1tJ1h+D\nuoJfkRsWDCBBLGuSNQEJsnS6+czjm4/Ca7oCAEjBDZhwmwzY" +
+       "h4wBAhNWQX87VLWy9SICiz2qLCOP\nosrkFk/oWA+CGtI8KuQDqiYEoU+Dqs" +
+       "CJwkboiezWsSI5iY/38Tdu/1ic8X66W38CbAJW0qUQ2cnJ\n4FxONuyoKJ+Z" +
+       "4XNM1BMPpOufzMuXTj319vzoA4EpyfUrRK5Lu7XVXv7NB2kfU6TuX88FOYZS" +
+       "iwqh\nF6If+pv29g1uW6MrSo+VwIKAXQm0iwKvEy2zIxuWqSrX2yBoSN/yRc" +
+       "G+s9wBiquJ7cKik+Jub+A2\n9lIA+jlr7aL6My78nqlxMsvaNaRyPKJyv504" +
+       "sG6HmOXQFZNGXgVob/8TfwBud0gjRqMT1Hj5RDuP\nyEldnhrZr3Aq1y7CMp" +
+       "4gqeh0dy47JF3BCCl0mEO2UqUBeeDUYczgrhekjhn6LqlR3e/HmmfF+lit\n" +
+       "FPDPP3Qezq5O53UFgVQkK6UiDEKRgBZ3ZiPnh0PPzO65Wucc0JVT3x3uR2Bi" +
+       "VUDaIMk9UhFVd4mi\nbFKBe1ifcHvlgMpDopThvwArdR+1Dnk/VSi8ghVKaW" +
+       "2sb1z9aKMSUIF5zUMDQ3m37I6Wi9Rm2wdw\n9OP57DUNkQNYZC3e/fljhzK1" +
+       "2SIVtI7GA8JgEnTNY5ogBqgKv7lTlSUEpY6yhxu8fDfsCIhQdTfI\n8oaAsl" +
+       "KU2zmREABGY5nUgR2XOvf562sPL//ZbMdYTE88J0IYK2VO9PHXlrzzvQMOde" +
+       "vRxBeWDvki\nkz3unbDn6u7cSzTIck3YOAWJW4io24s4FNDC2BP5mRh/b2tN" +
+       "Ta3Xq+gIFN79EQrZMjVJ/D5CHGdh\n3gVn3WUnxvpIS18ZhbB4uX75d0xdEZ" +
+       "+n0w+ec5QsYgJg3ovXEbASw7IlUHF0urGER3iJWFVRcNQr\nOlV5Glt99ey6" +
+       "21h5g9awU5LZEswJ3tWtzTW1LKZiwjOaW62x3JrSDPkKSqyVYyZWY2soiklf" +
+       "QMdz\nTaSvGC2uK433l3z2kfF+PMLvJ+cb7w+Q+TkAZOSNa1xYqJNbtMTMuQ" +
+       "qibrmDxvXpkm6YbrnyrB7t\nX0YuVmUeB4EKqSBf6vIemdtoGzEpjHPeTCWm" +
+       "dOLmMGzr+E/yZgo1XuqwiZysplGm1//fZQ19DOkm\n6uObM8Hoagoas5FsaL" +
+       "6XDe9lwzFmQ+cYs2Hx2LNh3sjZkGQqCqErPmdhUv93iuG8WK8nuncQB/jl\n" +
+       "+OLM50u1E7hwDUbHRpgqIq4YNnqobia/MxRyemEC/wt+zMdBg2L2Hb6ZfWHP" +
+       "k3copNlGeesCppd/\nRcAiSIhNLKTZsSq5s7nwyI+AyR+6lXxV0x/WML9mEv" +
+       "lC3NINpdPj+ZVuZhRGC2qWYWm/gOFmJuNK\nDJ6GvYGCN6JuIyj+gI3UM35u" +
+       "Ayt1nFQ6x0AhojzNVkWhV4S+76Y86eYn1SDaQk72lckuuss/ktzI\nPxIWaz" +
+       "H/RpxUlcl0PIteVzraiFhLN5UvFXr3Mkh2wRd8GGF2C1sM13+u+PqvPFz/uZ" +
+       "LUf6MwwFvn\njlRjXudpxQlb5BgP0hMwS0xFKwQospJn67GSGes6uw7q0QHF" +
+       "hNo4lYpYT644OP1Y0UWWrcLWzQ1Z\n12JY15LMuk5y/YxhTnbXyBJ2Sgm1cW" +
+       "IAbrTWt5z89EwG+ccZ4gNK/3WY0bqgmvXTa2/c3LKtEqua\nGVlsDBCieW6g" +
+       "ryDtpYs7Wa1nGDgmCiwI2DoFiRNpNJBulR4JxHociPWJgRgTWCpwxb2jTsKU" +
+       "QEso\n9p4tnd96shs+fC8OKRK/9JbhkFJGEcUmQ+WIec0supPoRWFVAzySmV" +
+       "6vd856c/O7g0F6ti02PokZ\nbYZetr8fn6Onj+2x90/BzW7cbx8ffoiNhOGU" +
+       "0ZPvjaVeYqlJhnY5ybTLJN0r/5hQ9jNiCLZ+fY75\nJBkhkGGkUXedJEGVMo" +
+       "SO219MFlHd");
+}
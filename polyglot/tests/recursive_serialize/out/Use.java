@@ -0,0 +1,39 @@
+public class Use {
+    
+    Rec2 f(Rec1 x) { return x.y.z.y; }
+    
+    public Use() { super(); }
+    
+    final public static String jlc$CompilerVersion$jl = "3.2.0";
+    final public static long jlc$SourceLastModified$jl = 1792280901571L;
+    final public static String jlc$ClassType$jl =
+      ("UFQDeNrtV19sFEUYn/vT65W2thauhWp72B6Fqr1rL4KVNkAplWCPa+m1qGni" +
+       "ud2ba7dsd8fZ2XZL\nImLUaIAoSkhKIiFo4gNpYkKU+GATJBFjjD5ojCQqSu" +
+       "KDgOWlRDEx6szsde96fyxnLuqDm+zs3Mxv\nvpn5fd/8vrnZeVCkYbAWqfL0" +
+       "qKwSP5lGUPP3C1iDsW5Z0LRB2hAV9zqm7qltb5wzMKhNw6agNpVe\nuanZL3" +
+       "9BUfVpqAEYhxgqIjSRdsfWZ2Z+ubqNIj1pSBOw8GWn1H/vCUIBd2UB9I2MQ5" +
+       "FExcMlx/c2\nVf02byC6i2oLqBNJ9vermkQkVTk/cPHxg2fgdQMBAIrpC2z0" +
+       "dQHzYXVAgGtIg/5xmYAHA1hVSQBh\nlc0QWDQZIFAjWgBDUceaNAmjGsSSIE" +
+       "v7YcAcadAFrMrcdFS8+et3jeXvlfmMp8AB4GRFMcOuyUbj\nDjbgUFvr+vKo" +
+       "u8LINMj7Pw7WKnNPv70x1SCwZZn+YVkY1W4952r96v3SDzlDd44Lk4LJziCG" +
+       "MALJ\ntzP9x47PvzhsIDTlZHRQKpA+IkuiwVa5MjmgC2NhOiRpxHj287oTHw" +
+       "knOZ+AjwIMe3eOHfl6JSW2\nzjiihPHrE3RTVUvd1KPoExtPXYLN28pEAxFQ" +
+       "QlTUIsNJKLP502yGhQm48Hzz1LVdnlk6v233KAEO\n6gCEDmDgy0mpL6LqWI" +
+       "RsIQm3A7qQO/jmZEEZ5YuweugiXJG+oYHuHo2xu4KXrj/oA+j7O3sZjjfw\n" +
+       "4KlmhgLMUMAMTL/IpkYGHwlY0cAYWp22wJCwf5rHyIzg7Nnce9FrZLLYNaIR" +
+       "LIiE434+d/LJQ3KV\nm26dmy5D1POIV1elOIP9Xs1ba+e+Pj1DQEWnruxT1C" +
+       "llLV/YFkoX660joHgo3BvuezSMdAzsw9tn\nF2puudyD33PfvjRL1YG2rxwO" +
+       "JZkyN9hx9LPHTlVqzTIHOvOKFDazPa8Gxl2nxUscqwqBSsz/SCgi\njsGYLk" +
+       "PsC6nqPh3tlNURQWYCQd3epcRogPNDcOnGE6d3/Gh3UX4bMu0kBWWnKshR8f" +
+       "qWd75xw4Ux\nI1UYLfSiQ0zs2ciK164drb7COV9no1FYlzmEQX0RIhBds4KM" +
+       "4esp/5Gh7u6eSAQZBNT/9SYQG7I+\nyznfw07FQzWXPbt+8FCut0rTx0znH4" +
+       "GvRGksm3vjTe2fuJs2m50g+OoNApzMqWYXaDvTkOiiNdrF\nPIoQVQadtfoB" +
+       "KLmvoBFhMxVHy8wpuyEZU2P86J5vGoNljqsvGKnMJrIUVkXqfgw5UGzxRt64" +
+       "P1y0\nrGwWOKPwQK2kryPhWsc/mlGKuctKcqY21lvKtcL4byd6vhlWVBRcKm" +
+       "8r23KRT+qp/d9ObjmVu6CJ\n7n/9L6D+e/LU/8b89b9mef1ntyJOoTf1fkRl" +
+       "vEBXRNMfNUsDnS03xnz+09mOypdbtHMGsk2mHgdL\nHZLRZ/l5MRGYHPJPZa" +
+       "asOZfe2IsHoNjGBbY9b4FNDDUjzcM1cg2vb7CxsuV2vbGdD2oFTZ9+kGCc\n" +
+       "1mjmZPY55cgw52jndjuyh7qX1uIE2OLLEODIJCD49wkIFoKAPRYBFywCLpgE" +
+       "BJcQkPV8Jy8A3nRF\nUxV6ynSRqJjr2pvxDW8dfHd+kh+bIosa67GnflNTHv" +
+       "uUm1mF35J5wwO83JTlH8+yvsrVmUW0EPoT\nQW8DJw==");
+}
@@ -0,0 +1,43 @@
+public class UseMembers {
+    
+    int f() {
+        Members m = Members.make();
+        Rec2 r = m.y;
+        switch (m.m(0)) { case Members.K: break; }
+        return m.m(Members.K) + new Members.Inner().n() + m.compareTo(r);
+    }
+    
+    public UseMembers() { super(); }
+    
+    final public static String jlc$CompilerVersion$jl = "3.2.0";
+    final public static long jlc$SourceLastModified$jl = 1792286369443L;
+    final public static String jlc$ClassType$jl =
+      ("UFQDeNrtVl9sFEUYn/vT63+LLW2x2h62R7HG3gERUmlTqKUSbLnWXouaJp7b" +
+       "vbl2y97uODN73RJF\niBoNEEUIsU0kpJr4QJqYNEp8sIYXMcbEB42RRK2Q+C" +
+       "Bg8aFEMDHozOz17np/qE0uwQc32bm9+X7z\nzczv++b3zcwCyCMYrEe6OjGi" +
+       "6tRLJxAk3j4JExjqVCVCBlhHUN7nGH+wpqVhzsSgJgWbhNpWfPkG\nsc9/y1" +
+       "B1Kah+GIYYajK0kHbHjpcnb17ZyZCVKUgLsPhdm9L38BRlgPszAHqHx6BMg/" +
+       "LRwlP7Gsv/\nWjAR20VVHGhQRfX26UShiq6d77/w7KGz8JqJAAD57AU29hYD" +
+       "6+HfgILSQQL3wsgwxMQ7plLQ7sO6\nTn0I63wi35JnH4WEEh+GsoGJEoVBAr" +
+       "EiqcoB6FvmwGTLWZtOQVC+8efPDaWflHjMF8BB4ORNPsfe\nl4nUXXzAkc2b" +
+       "NpYGC8rMdIfC/uWWGm3upQ+3JjsEtgzTP6FKI+TWK65N339a/Lng694xKSpZ" +
+       "XA1g\nCAOQ/jTZd/LUwutDJkLjTk4OBS5kDKuKbPJVViQGdGAsTfQohJqHv6" +
+       "md+kI6LdgFYhTg2Aey7MjT\nrWihDeYxzY/fjbBNlS8PWpdmRLaeuQibdpbI" +
+       "JqKgkOqoWYVRqPL5U3z6pQhcfLVp/OqeyhkT+T87\nPEtBUSIOCB3EwJOVWU" +
+       "9AN7AM+XpiuQDYeu4Re1QlbUSsJW5ha3EFegf7O7sIJ7lItK6/2QPYe5u/\n" +
+       "HCc6REZVcUc+7shnZatX5lMjU4wEvKnnRK1LWWCPdGBCpMqk5Oza3n3BbaaT" +
+       "2TFMKJZkKnB/nDv9\n/BG1vIBFQLguQSwBkPhcmxQT/n+d6K2Z+2F6koKyNk" +
+       "Pbr+nj2nqxsHZGF7fWUpA/6O/29z7tRwYG\n9qHHZxarb7kKBi6JEL8xwySD" +
+       "9VcM9SSYsjbYevzrZ86sIU2qADpXlTB8ZvuqOjh3bXFewljXKNRC\n3id7Av" +
+       "IoDBkqxJ4eXd9voN2qPiypXDVY2Du0EMtzcRYuXn9uetevdhfjtz7dT0Jldu" +
+       "uSGpSvtX/0\nYwFcHDWT1TKOXgqIhZ0NFJ24erzqsuB8g41lYW36EA71BKhE" +
+       "DRJPMo6vY/wHBjs7uwIBZFJQd+dN\nID5kY4bj/hQ/HI9Vz1fu+aWScb1DmT" +
+       "hpBf8YfCvIctnam+hq+aqgcbtlBFvevk6BkwfVMoHNZ+tj\nJvbFTDyiCDGB" +
+       "MHivlynqpZxmhM0SHpJeaPZCOqqHxNE93zgKSxxXXjOTmY2VLqzLLPwYCqDc" +
+       "7A68\n94g/b0X1zHGZEYlayF5HLLSOu1hm8kUAC7NWP24tFsph/rfvAmIzvC" +
+       "nLuXD+qxIsJD+hrva7XfGy\n6nhOy97/1SCH1aByldWgYfXVoHrlasCvSoJC" +
+       "d4ZLE9P2HF0frbBUL893vuoQD/1vs61r3mwm50xk\niyafirhIJJIwc/xbbL" +
+       "xtzWx0s68wBbaw+FeK+Erq0mqFEmHaHY0J0dT0zYr5Ey/eFsRXoCU/tnd+\n" +
+       "p8ChaPQOaZioWu7Ug6drLBkMmepYHL/3ww99cOjjhaiYJC+uzPHHnvybrMxi" +
+       "G5b4iaud6HhUtNsy\n3NZXJCibMcPZQugf38+6UQ==");
+}
@@ -0,0 +1,38 @@
+public class Rec1 {
+    Rec2 y;
+    
+    public Rec1() { super(); }
+    
+    final public static String jlc$CompilerVersion$jl = "3.2.0";
+    final public static long jlc$SourceLastModified$jl = 1359565822000L;
+    final public static String jlc$ClassType$jl =
+      ("UFQDeNrtV21MHEUYnjuux9ECrVCgUvkQDipG7sqZGiyklF6haSEH3gFqSLwu" +
+       "ewNduuyOs7OwR2LF\n1ERTG602TWhi29Qm/mhoTBptTCOJmohRoz80xiZqbR" +
+       "N/aCv9Q6M1Mep8wN1xdwiYa+IPN9m5ZeaZ\nmfd93k+mZsEaA4NKpKvRIVUn" +
+       "HhJF0PB0S9iAEb8qGUYPnQjLfVlj95c2Vk9bGJQmYRNQj6y7ftuw\nX/2Kos" +
+       "qTUEE4CDHUZCiQ9qyWZyd/+3knRRYlIQVg7utmpfvBk4QCNqcBdA0MQ5mE5Z" +
+       "dyTvTVFvwx\nayGqRXEMaBJF9XTrhkIUXXs/OPPkxHl400IAgGz6Aht9HUA8" +
+       "7BsQkB2EcoNnWCWg0Yt1nXgR1tkV\n3oUzvQQaxPBiKJvYUEZh2IBYkVRlHH" +
+       "rnt1pUhI2paofl27//UJ33bq7behocAg42ZDPsvemI3M02\nHGnYuiUv7Fpv" +
+       "pR7I1z/xlWrTz7y1LfFAYEtzfbsqDRl3Dju3fvPeuo84R/cMS6OS4KcHQxiC" +
+       "5PvJ\n7uMnZl/otxAaY6TYCHAic0BVZItJWRjf0IqxFO1UDGI992XZyY+lU5" +
+       "xRwHcBhr1vCY3cHYoWqbGO\nagH8+ghVqmCxodo0c2TbmSuwbmeubCECcoiO" +
+       "6lU4ClV2f9KZAWkEzj1fN3Zjb9EUvb/28w8IcDAL\nIHQIA/eSnLpDuollyC" +
+       "SZtzygkuRz7VRJG+JSxFaoFM5QV2/Q32Ywetfy0fkXfQB9/2Qvw/EJ7j/F\n" +
+       "7CAvO8grfNMjs6uRxXcCNlQxijYlCdgpjUe5k0xKjrbtHTMVViqNrQMGwZJM" +
+       "OO7XS6f2H1ELXFR3\nfnQuoqZH/HNjgjXY35v4bOn0t2cnCVjfbGoHNX1Mq+" +
+       "SC7aB0sdUy6vq9gY5A1+MBZGJg7981NVdy\nx+nqucaN++IUTRB0vrC/M86U" +
+       "ULDp2BdPnNlg1Kkc6FiVq7Cb7auaYNw1x3gZxLpGoBbx7OsMyQdg\nxFQhdn" +
+       "fq+kET7VH1AUllOYKavVWLUA/nUXDl1lNnd/9kd1J+q1LPieeUPbqkhuWbO9" +
+       "7+zgXnDliJ\nuTGGXjCIwF4MrX3txrHi65zzGhv1wrLULQzqDhGJmEbMyRi+" +
+       "nPIf6vX720IhZBFQ/s9KILZlS5pA\nf4yFxaMlV4v2/lhEuW5RoseF8Y/CV8" +
+       "LUl4VufKrxM1ftdrEIfK/eotHDjCqWQMP5qvkl+kWXmEUR\noqnBZLMeAFwT" +
+       "d9cjbCIHpUmP7QpUIzyUD1+ordk/OHSaGqckCdQnYQ5xXG4/XXWh8tqyGTTD" +
+       "5YW7\nbA59s+aNnJXR8pLB7MEorlmCPbdf1wwiaaRPUk047ujoufzpTB5VkL" +
+       "pChqqMiOhlkjsAUQJsUe4c\n+bb/dp/CZHSJYpHYZmSlthm+f+8HPu4HnA6w" +
+       "sg6CNwfxEmG/2wWbXVKyZMXJaIH+v25lsG7lr7Ju\neVZft6qXr1u0nftQuB" +
+       "D7Eo2dj9cftLLuOk0ELmr0ecfEhjxhqs1saF0IKV7A+ffDNl4PV6qan29q\n" +
+       "Yt1oTPx4XyrET61wFcmxwLIuNmWiizR8bvCBNyfemR21Ei0zn/iwLlP3wZAD" +
+       "5fqK0BsPBdaIaI9R\nEHvsib/JFLQICti4i08U8rEo7X8DJYsTAaMjwsLll4" +
+       "tNG16uNy7RujKamC5idooHbvqYCXLCe9PE\nT8oMQn8DdwXkkQ==");
+}
@@ -0,0 +1,38 @@
+public class Rec2 {
+    Rec1 z;
+    
+    public Rec2() { super(); }
+    
+    final public static String jlc$CompilerVersion$jl = "3.2.0";
+    final public static long jlc$SourceLastModified$jl = 1359565822000L;
+    final public static String jlc$ClassType$jl =
+      ("UFQDeNrtV21MW1UYPi1d6cbHJgyYTD6EwsRIOzAzOMgY62CZkIIUUENid7k9" +
+       "sMsu9x7PPRdumzgx\nM9HMxU2XJSxxW6aJPxYWk0UXs0iiJmLU6A+NcYk6t8" +
+       "Qfusn+sOhMjHo+SlvaMsB0iT9sck8O5zzn\nnPd93k+m58AaA4NKpKvhEVUn" +
+       "HhJG0PD0SNiAIZ8qGUYfXQjKA1kT95c2Vc9YGJQmYRNQj+Rcu2XY\nr3xNUe" +
+       "VJqF44DDHUZCiQ9qzW56Z+/2UnRRYlIQVg/psWpefBk4QCNqcBdA+NQpkE5Z" +
+       "fXnhioLfhz\nzkJUi+IY0CSK6unRDYUouvZB7+xTk+fgDQsBALLpB2z0ywLi" +
+       "x+aAgOxeKDd6RlUCmrxY14kXYZ09\n4V2400ugQQwvhrKJDWUcBg2IFUlVIt" +
+       "AbPWpRETamqh2Ub/3xY3Xee7lu6xlwEDjYkM2w96Yjcjc7\ncLhh65a8oGu9" +
+       "lXoh3/+0sVSbefbtbYkXAlua5ztUacS4fci59dv3cz7mHN0zKo1Lgp8+DGEA" +
+       "kh+m\neo6fmHtx0EJowsEIIcCJzCFVkS0mZWH8QBvGUrhLMYj1/FdlJz+RTn" +
+       "FGAT8FGPa+JTRydypaqMY6\novnx62NUqYLFhmrXzLFtZy7Dup25soUIWEt0" +
+       "VK/Ccaiy95Pu9EtjcP6Fuonre4um6fu1X3xEgINZ\nAKGDGLiX5NQd0E0sQy" +
+       "ZJ1PKASpLPtVMlbYRLEduhUjgD3f29vnaD0buOj86/6Q/Q7y/2MRxf4P5T\n" +
+       "zC7ysou8wjc9MnsaWfwkYEMVo2hTkoBdUiTMnWRKcrRv75ytsFJpbBsyCJZk" +
+       "wnG/XTy177Ba4KK6\n86tzETU94tONCdZgf2/iq6Uz352dImB9i6kd0PQJrZ" +
+       "ILtoPSxXbLqOv3+zv93U/4kYmBfXDX9HzJ\nbaer7yo37kvTNEHQ9cLBrjhT" +
+       "QsHmY18+eWaDUadyoGNVrsJetq9qgXHXEuNlGOsagVrI81hXQN4P\nQ6YKsb" +
+       "tL1w+YaI+qD0kqyxHU7G1aiHo4j4LLN58+u/tnu5PyW5V6Tzyn7NElNSjf2P" +
+       "HO9y44v99K\nzI0x9IJBBPZCYN1r148VX+Oc19ioF5alHmFQd4BIxDRiTsbw" +
+       "5ZT/QL/P1x4IIIuA8jsrgdiRLWkC\n/XEWFo+WXCna+1MR5bpVCR8Xxj8Cjw" +
+       "apLwvd+FLT567a7WITNL56k0YPM6rYAg3nqqJbdEa3mEUR\noqnBZKseAFyT" +
+       "d9cjbCIHpUmPHQpUQzyUD52vrdk3PHKaGqckCTQgYQ5xXOo4XXW+8uqyGTTD" +
+       "5YVr\nk0M/e9TI9oyWlwxmD0ZxzRLsuX26ZhBJIwOSasKIo7Pv0mezeVRB6g" +
+       "oZqjIiopdJ7gBECLBFuHPk\n2/7bfQqT0SWKRWKb4UhtMxr+vR80cD/gdICV" +
+       "dRC8OYiXCPvdLtjskZIlK05GC/T/dSuDdSt/lXXL\ns/q6Vb183aLt3IfChd" +
+       "hMNHYNvP6glXXXaSJwUaPPOyY25AlTbWZD20JI8QLO5w/beD1cqWo+fqiZ\n" +
+       "daMx8eN9qRA/tcJVJMcCy7rYlIku0vCbww+8Nfnu3LiVaJlo4sO6TN0HQw6U" +
+       "6ysCbzzkXyOiPUZB\nAYgOtjtR0CooYOMuvlDIx6K0/w2ULE4EjI4QC5dfLz" +
+       "RveKXeuEjrynhiuojZKR646WOmlxPenyZ+\nUlYQ+gfZKuS6");
+}
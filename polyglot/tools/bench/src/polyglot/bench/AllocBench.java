@@ -0,0 +1,150 @@
+package polyglot.bench;
+
+import java.io.File;
+import java.util.*;
+
+import polyglot.frontend.*;
+
+/**
+ * Measures the memory the compiler allocates in each pass of the standard
+ * pipeline over the corpus.  Each file is compiled with statistics on, and
+ * the bytes allocated by each pass are summed by pass name.  A pass that
+ * runs other passes while it runs, for example to type check a class it
+ * refers to, is charged only for what it allocates itself.  Reports the
+ * total for each pass, in all and per AST node parsed, in the order the
+ * passes first ran.
+ * <p>
+ * Usage: <code>AllocBench [-dir tests] [-runs n]</code>
+ */
+public class AllocBench extends Bench {
+    /** Bytes allocated by each pass in each timed run, by pass name. */
+    protected Map<String, long[]> allocation = new LinkedHashMap<String, long[]>();
+
+    /** Bytes allocated by each whole compilation in each timed run. */
+    protected long[] totals;
+
+    /** Number of AST nodes parsed in each run. */
+    protected long nodes;
+
+    /** Index of the timed run in progress, or -1 during warmup. */
+    protected int timedRun;
+
+    /** Statistics that charge the allocation of each pass to the bench. */
+    class AllocStats extends Stats {
+        /**
+         * Start time and inclusive allocation of each finished pass whose
+         * enclosing pass has not finished yet.
+         */
+        List<long[]> finished = new ArrayList<long[]>();
+
+        AllocStats(ExtensionInfo ext) {
+            super(ext);
+        }
+
+        public boolean enabled() {
+            return true;
+        }
+
+        public synchronized void recordPass(Goal goal, long start, long time, long allocated, boolean reached) {
+            // Passes that started after this one finished inside it.
+            long inner = 0;
+            while (! finished.isEmpty() && finished.get(finished.size() - 1)[0] >= start) {
+                inner += finished.remove(finished.size() - 1)[1];
+            }
+            finished.add(new long[] { start, allocated });
+
+            if (timedRun >= 0) {
+                long[] a = allocation.get(goal.name());
+                if (a == null) {
+                    a = new long[runs];
+                    allocation.put(goal.name(), a);
+                }
+                a[timedRun] += allocated - inner;
+            }
+        }
+
+        public synchronized void recordNodes(Job job, long count) {
+            if (timedRun == 0) {
+                nodes += count;
+            }
+        }
+
+        public synchronized void report() {
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new AllocBench().run(args);
+    }
+
+    public void run(String[] args) throws Exception {
+        List<String> rest = parseArgs(args);
+
+        if (! rest.isEmpty()) {
+            throw new IllegalArgumentException("Unknown option " + rest.get(0) + ".");
+        }
+
+        if (new Stats(extensionInfo()).allocatedBytes() < 0) {
+            System.out.println("This JVM does not count allocated bytes.");
+            System.exit(1);
+        }
+
+        totals = new long[runs];
+        final File tmp = tempDir("alloc");
+        final List<File> files = corpus();
+
+        runOnThread(new Runnable() {
+            public void run() {
+                for (int r = 0; r < warmup + runs; r++) {
+                    timedRun = r - warmup;
+
+                    for (File f : files) {
+                        JLExtensionInfo ext = new JLExtensionInfo() {
+                            public Stats getStats() {
+                                if (stats == null) {
+                                    stats = new AllocStats(this);
+                                }
+                                return stats;
+                            }
+                        };
+
+                        long a = ext.getStats().allocatedBytes();
+                        compile(ext, f, tmp);
+                        a = ext.getStats().allocatedBytes() - a;
+
+                        if (r >= warmup) {
+                            totals[r - warmup] += a;
+                        }
+                    }
+                }
+            }
+        });
+
+        deleteAll(tmp);
+
+        System.out.println(files.size() + " files, " + nodes + " AST nodes");
+
+        for (Map.Entry<String, long[]> e : allocation.entrySet()) {
+            System.out.println(line(e.getKey(), median(e.getValue())));
+        }
+
+        System.out.println(line("total, with the compiler's setup", median(totals)));
+    }
+
+    protected String line(String name, long bytes) {
+        StringBuffer sb = new StringBuffer(name);
+        while (sb.length() < 40) {
+            sb.append(' ');
+        }
+        sb.append(mb(bytes) + " MB");
+        while (sb.length() < 56) {
+            sb.append(' ');
+        }
+        sb.append(bytes / Math.max(1, nodes) + " bytes/node");
+        return sb.toString();
+    }
+
+    protected static String mb(long bytes) {
+        return (bytes >> 20) + "." + ((bytes >> 10) % 1024 * 10 / 1024);
+    }
+}
@@ -0,0 +1,269 @@
+package polyglot.bench;
+
+import java.io.*;
+import java.util.*;
+
+import polyglot.frontend.Compiler;
+import polyglot.frontend.ExtensionInfo;
+import polyglot.frontend.Globals;
+import polyglot.frontend.JLExtensionInfo;
+import polyglot.main.UsageError;
+import polyglot.util.ErrorInfo;
+import polyglot.util.ErrorQueue;
+import polyglot.util.SilentErrorQueue;
+
+/**
+ * Code shared by the benchmarks: finding the test corpus, compiling a
+ * source file with a fresh compiler, and reporting times.
+ */
+public class Bench {
+    /** Directory holding the corpus, by default <code>tests</code>. */
+    protected File dir = new File("tests");
+
+    /** Number of untimed runs before the timed ones. */
+    protected int warmup = 2;
+
+    /** Number of timed runs. */
+    protected int runs = 5;
+
+    /** Whether compilers serialize type information into their output. */
+    protected boolean serialize = false;
+
+    /**
+     * The outcome of compiling one file: whether it succeeded, the errors
+     * reported, the number of debugging messages reported, and the
+     * contents of the files written.
+     */
+    public static class Result {
+        public boolean ok;
+        public List<String> errors = new ArrayList<String>();
+        public int reports;
+        public Map<String, String> output = new TreeMap<String, String>();
+
+        public boolean equals(Object o) {
+            if (o instanceof Result) {
+                Result r = (Result) o;
+                return ok == r.ok && errors.equals(r.errors) && reports == r.reports && output.equals(r.output);
+            }
+            return false;
+        }
+
+        public int hashCode() {
+            return errors.hashCode() ^ output.hashCode();
+        }
+
+        public String toString() {
+            return (ok ? "ok" : "failed") + " " + errors + " " + reports + " reports " + output.keySet();
+        }
+    }
+
+    /**
+     * Parse the options common to all benchmarks, returning the arguments
+     * that are not options.
+     */
+    public List<String> parseArgs(String[] args) {
+        List<String> rest = new ArrayList<String>();
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-dir") && i + 1 < args.length) {
+                dir = new File(args[++i]);
+            }
+            else if (args[i].equals("-warmup") && i + 1 < args.length) {
+                warmup = Integer.parseInt(args[++i]);
+            }
+            else if (args[i].equals("-runs") && i + 1 < args.length) {
+                runs = Integer.parseInt(args[++i]);
+            }
+            else {
+                rest.add(args[i]);
+            }
+        }
+
+        return rest;
+    }
+
+    /**
+     * Return the <code>.jl</code> files directly in the corpus directory,
+     * sorted by name.
+     */
+    public List<File> corpus() {
+        File[] files = dir.listFiles(new FilenameFilter() {
+            public boolean accept(File d, String name) {
+                return name.endsWith(".jl");
+            }
+        });
+
+        if (files == null) {
+            throw new IllegalArgumentException("Cannot read directory " + dir + ".");
+        }
+
+        Arrays.sort(files);
+        return Arrays.asList(files);
+    }
+
+    /** Create the extension the benchmarks compile with. */
+    public ExtensionInfo extensionInfo() {
+        return new JLExtensionInfo();
+    }
+
+    /**
+     * Compile <code>file</code> with a new compiler for <code>ext</code>,
+     * writing output into <code>out</code>, and return the result.  The
+     * corpus directory is on the class path.
+     */
+    public Result compile(ExtensionInfo ext, File file, File out, String... options) {
+        Result r = new Result();
+
+        deleteAll(out);
+        out.mkdirs();
+
+        SilentErrorQueue eq = new SilentErrorQueue(1000, ext.compilerName());
+        SilentErrorQueue reports = new SilentErrorQueue(1000, ext.compilerName());
+        Compiler compiler = newCompiler(ext, eq, out, file.getPath(), options);
+        compiler.setReportQueue(reports);
+
+        try {
+            r.ok = compiler.compileFiles(Collections.singletonList(file.getPath()));
+        }
+        catch (RuntimeException e) {
+            r.errors.add(e.toString());
+        }
+        catch (StackOverflowError e) {
+            r.errors.add(e.toString());
+        }
+
+        for (Iterator i = eq.getErrors().iterator(); i.hasNext(); ) {
+            ErrorInfo e = (ErrorInfo) i.next();
+            r.errors.add(e.getErrorString() + ": " + e.getMessage());
+        }
+
+        r.reports = reports.getErrors().size();
+        readAll(out, "", r.output);
+        return r;
+    }
+
+    /**
+     * Create a compiler for <code>ext</code> that reports errors to
+     * <code>eq</code>, with the options it would have if run on
+     * <code>file</code> with output into <code>out</code>, and make it the
+     * current thread's compiler.
+     */
+    public Compiler newCompiler(ExtensionInfo ext, ErrorQueue eq, File out, String file, String... options) {
+        List<String> args = new ArrayList<String>();
+        args.add("-c");
+        if (! serialize) {
+            args.add("-noserial");
+        }
+        args.add("-d");
+        args.add(out.getPath());
+        args.add("-cp");
+        args.add(dir.getPath());
+        args.addAll(Arrays.asList(options));
+        args.add(file);
+
+        try {
+            ext.getOptions().parseCommandLine(args.toArray(new String[args.size()]),
+                                              new HashSet<String>());
+        }
+        catch (UsageError e) {
+            throw new IllegalArgumentException(e.getMessage());
+        }
+
+        Compiler compiler = new Compiler(ext, eq);
+        Globals.initialize(compiler);
+        return compiler;
+    }
+
+    protected static void readAll(File f, String name, Map<String, String> m) {
+        File[] files = f.listFiles();
+
+        if (files == null) {
+            return;
+        }
+
+        for (int i = 0; i < files.length; i++) {
+            String n = name + "/" + files[i].getName();
+
+            if (files[i].isDirectory()) {
+                readAll(files[i], n, m);
+            }
+            else {
+                m.put(n, read(files[i]));
+            }
+        }
+    }
+
+    protected static String read(File f) {
+        try {
+            Reader r = new InputStreamReader(new FileInputStream(f), "UTF-8");
+            StringBuffer sb = new StringBuffer();
+            char[] buf = new char[8192];
+
+            try {
+                for (int n; (n = r.read(buf)) > 0; ) {
+                    sb.append(buf, 0, n);
+                }
+            }
+            finally {
+                r.close();
+            }
+
+            return sb.toString();
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    protected static void deleteAll(File f) {
+        File[] files = f.listFiles();
+
+        if (files != null) {
+            for (int i = 0; i < files.length; i++) {
+                deleteAll(files[i]);
+            }
+        }
+
+        f.delete();
+    }
+
+    /**
+     * Stack size of the threads compilers run on, enough for the deeply
+     * nested inputs in the corpus.
+     */
+    protected static final long STACK_SIZE = 64L << 20;
+
+    /**
+     * Run <code>r</code> on a new thread with a stack of
+     * <code>STACK_SIZE</code>, and wait for it to finish.
+     */
+    protected static void runOnThread(Runnable r) throws InterruptedException {
+        Thread t = new Thread(null, r, "compiler", STACK_SIZE);
+        t.start();
+        t.join();
+    }
+
+    /** Return a fresh temporary directory. */
+    protected static File tempDir(String prefix) {
+        try {
+            File d = File.createTempFile(prefix, "");
+            d.delete();
+            d.mkdirs();
+            return d;
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /** Return the median of <code>times</code>. */
+    protected static long median(long[] times) {
+        long[] t = (long[]) times.clone();
+        Arrays.sort(t);
+        return t[t.length / 2];
+    }
+
+    protected static String ms(long nanos) {
+        return (nanos / 1000000) + "." + (nanos / 100000 % 10) + " ms";
+    }
+}
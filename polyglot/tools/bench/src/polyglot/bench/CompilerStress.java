@@ -0,0 +1,157 @@
+package polyglot.bench;
+
+import java.io.File;
+import java.util.*;
+
+/**
+ * Runs several compilers at once in one VM, each on its own thread, over
+ * the test corpus, and checks that every one of them produces the same
+ * errors and output as a compiler run alone.  Compilers must share no
+ * mutable state, so a difference, or an exception, points at a static
+ * field that should be per compiler.  Every other compiler also reports
+ * on the <code>frontend</code> topic, and must report as many debugging
+ * messages as it does alone, while the others report none.  Reports the
+ * time for the corpus run alone and run on each thread at once.
+ * <p>
+ * Usage: <code>CompilerStress [-dir tests] [-runs n] [-threads n]
+ * [compiler options]</code>
+ */
+public class CompilerStress extends Bench {
+    protected int threads = 8;
+
+    public static void main(String[] args) throws Exception {
+        new CompilerStress().run(args);
+    }
+
+    public void run(String[] args) throws Exception {
+        List<String> rest = parseArgs(args);
+        final String[] options;
+        final String[] reportOptions;
+
+        for (Iterator<String> i = rest.iterator(); i.hasNext(); ) {
+            if (i.next().equals("-threads") && i.hasNext()) {
+                i.remove();
+                threads = Integer.parseInt(i.next());
+                i.remove();
+            }
+        }
+
+        options = rest.toArray(new String[rest.size()]);
+        rest.add("-report");
+        rest.add("frontend=1");
+        reportOptions = rest.toArray(new String[rest.size()]);
+
+        final List<File> files = corpus();
+        final File tmp = tempDir("stress");
+
+        final Map<File, Result> expected = new HashMap<File, Result>();
+        final Map<File, Result> expectedReporting = new HashMap<File, Result>();
+        Runnable alone = new Runnable() {
+            public void run() {
+                expected.clear();
+                expected.putAll(compileAll(files, new File(tmp, "seq"), options));
+            }
+        };
+        Runnable aloneReporting = new Runnable() {
+            public void run() {
+                expectedReporting.clear();
+                expectedReporting.putAll(compileAll(files, new File(tmp, "seq"), reportOptions));
+            }
+        };
+
+        runOnThread(aloneReporting);
+
+        for (int i = 0; i < warmup; i++) {
+            runOnThread(alone);
+        }
+
+        long t = System.nanoTime();
+        runOnThread(alone);
+        long seq = System.nanoTime() - t;
+
+        System.out.println(files.size() + " files, alone: " + ms(seq));
+
+        boolean same = true;
+
+        for (int run = 0; run < runs; run++) {
+            final List<Map<File, Result>> results = new ArrayList<Map<File, Result>>();
+            final List<Throwable> thrown = Collections.synchronizedList(new ArrayList<Throwable>());
+            Thread[] ts = new Thread[threads];
+
+            for (int k = 0; k < threads; k++) {
+                final File out = new File(tmp, "t" + k);
+                final int index = k;
+                final String[] o = k % 2 == 0 ? options : reportOptions;
+                results.add(null);
+
+                ts[k] = new Thread(null, new Runnable() {
+                    public void run() {
+                        try {
+                            Map<File, Result> m = compileAll(files, out, o);
+                            synchronized (results) {
+                                results.set(index, m);
+                            }
+                        }
+                        catch (Throwable e) {
+                            thrown.add(e);
+                        }
+                    }
+                }, "compiler-" + k, STACK_SIZE);
+            }
+
+            t = System.nanoTime();
+
+            for (int k = 0; k < threads; k++) {
+                ts[k].start();
+            }
+            for (int k = 0; k < threads; k++) {
+                ts[k].join();
+            }
+
+            long par = System.nanoTime() - t;
+
+            for (Throwable e : thrown) {
+                same = false;
+                e.printStackTrace();
+            }
+
+            for (int k = 0; k < threads; k++) {
+                Map<File, Result> m = results.get(k);
+                Map<File, Result> e = k % 2 == 0 ? expected : expectedReporting;
+
+                if (m == null) {
+                    continue;
+                }
+
+                for (File f : files) {
+                    if (! e.get(f).equals(m.get(f))) {
+                        same = false;
+                        System.out.println("thread " + k + ", " + f + ": expected " +
+                                           e.get(f) + ", got " + m.get(f));
+                    }
+                }
+            }
+
+            System.out.println("run " + run + ", " + threads + " at once: " + ms(par) +
+                               " (" + ms(par / threads) + " per corpus)");
+        }
+
+        deleteAll(tmp);
+
+        System.out.println(same ? "all outputs match" : "OUTPUTS DIFFER");
+
+        if (! same) {
+            System.exit(1);
+        }
+    }
+
+    protected Map<File, Result> compileAll(List<File> files, File out, String[] options) {
+        Map<File, Result> m = new HashMap<File, Result>();
+
+        for (File f : files) {
+            m.put(f, compile(extensionInfo(), f, out, options));
+        }
+
+        return m;
+    }
+}
@@ -0,0 +1,312 @@
+package polyglot.bench;
+
+import java.io.*;
+import java.util.*;
+
+import polyglot.ast.NodeFactory;
+import polyglot.frontend.*;
+import polyglot.types.TypeSystem;
+import polyglot.visit.*;
+import polyglot.visit.FlowGraph.EdgeKey;
+import polyglot.visit.FlowGraph.Peer;
+
+/**
+ * Compares the two solvers of <code>DataFlow</code>: the iteration over
+ * the strongly connected components of the flow graph, and the worklist.
+ * The corpus, and classes with one method of a loop of <n> statements, are
+ * compiled with the reachability, exit path and initialization checkers
+ * replaced by ones that solve the equations of every flow graph with both
+ * solvers.  Checks that both reach the same in and out items at every
+ * peer, and reports the peer evaluations and time of each solver.
+ * <p>
+ * Usage: <code>DataFlowBench [-dir tests] [-runs n] [-generate n,n,...]</code>
+ */
+public class DataFlowBench extends Bench {
+    static final String[] SOLVERS = { "scc", "worklist" };
+
+    /** Numbers of statements in the loops of the generated methods. */
+    protected int[] generate = { 1000, 10000 };
+
+    /** The peer evaluations and time of each solver in the current run. */
+    protected long[] evaluations = new long[SOLVERS.length];
+    protected long[] times = new long[SOLVERS.length];
+
+    /** The number of flow graphs solved in the current run. */
+    protected int graphs;
+
+    /** Descriptions of the flow graphs on which the solvers disagree. */
+    protected List<String> differences = new ArrayList<String>();
+
+    /** A dataflow whose equations can be solved with either solver. */
+    interface Solver {
+        /** Solve the equations of <code>graph</code>. */
+        void solve(FlowGraph graph, boolean worklist);
+    }
+
+    class Reach extends ReachChecker implements Solver {
+        Reach(Job job, TypeSystem ts, NodeFactory nf) {
+            super(job, ts, nf);
+        }
+        protected void dataflow(FlowGraph graph) {
+            compare(this, graph);
+        }
+        public void solve(FlowGraph graph, boolean worklist) {
+            this.worklist = worklist;
+            super.dataflow(graph);
+        }
+        protected boolean flowPeer(FlowGraph graph, Peer p, List inItems, List inItemKeys) {
+            evaluations[worklist ? 1 : 0]++;
+            return super.flowPeer(graph, p, inItems, inItemKeys);
+        }
+    }
+
+    class Exit extends ExitChecker implements Solver {
+        Exit(Job job, TypeSystem ts, NodeFactory nf) {
+            super(job, ts, nf);
+        }
+        protected void dataflow(FlowGraph graph) {
+            compare(this, graph);
+        }
+        public void solve(FlowGraph graph, boolean worklist) {
+            this.worklist = worklist;
+            super.dataflow(graph);
+        }
+        protected boolean flowPeer(FlowGraph graph, Peer p, List inItems, List inItemKeys) {
+            evaluations[worklist ? 1 : 0]++;
+            return super.flowPeer(graph, p, inItems, inItemKeys);
+        }
+    }
+
+    class Init extends InitChecker implements Solver {
+        Init(Job job, TypeSystem ts, NodeFactory nf) {
+            super(job, ts, nf);
+        }
+        protected void dataflow(FlowGraph graph) {
+            compare(this, graph);
+        }
+        public void solve(FlowGraph graph, boolean worklist) {
+            this.worklist = worklist;
+            super.dataflow(graph);
+        }
+        protected boolean flowPeer(FlowGraph graph, Peer p, List inItems, List inItemKeys) {
+            evaluations[worklist ? 1 : 0]++;
+            return super.flowPeer(graph, p, inItems, inItemKeys);
+        }
+    }
+
+    /** An extension whose checkers compare the solvers. */
+    class ComparingExtensionInfo extends JLExtensionInfo {
+        protected Scheduler createScheduler() {
+            return new JLScheduler(this) {
+                public Goal ReachabilityChecked(Job job) {
+                    TypeSystem ts = job.extensionInfo().typeSystem();
+                    NodeFactory nf = job.extensionInfo().nodeFactory();
+                    return new VisitorGoal("ReachChecked", job, new Reach(job, ts, nf)).intern(this);
+                }
+                public Goal ExitPathsChecked(Job job) {
+                    TypeSystem ts = job.extensionInfo().typeSystem();
+                    NodeFactory nf = job.extensionInfo().nodeFactory();
+                    return new VisitorGoal("ExitChecked", job, new Exit(job, ts, nf)).intern(this);
+                }
+                public Goal InitializationsChecked(Job job) {
+                    TypeSystem ts = job.extensionInfo().typeSystem();
+                    NodeFactory nf = job.extensionInfo().nodeFactory();
+                    return new VisitorGoal("InitializationsChecked", job, new Init(job, ts, nf)).intern(this);
+                }
+            };
+        }
+    }
+
+    /**
+     * Solve the equations of <code>graph</code> with the SCC solver, then
+     * again from the start with the worklist, and record a difference in
+     * the items of any peer.  The items of the worklist are kept.
+     */
+    protected void compare(Solver s, FlowGraph graph) {
+        graphs++;
+
+        long t = System.nanoTime();
+        s.solve(graph, false);
+        times[0] += System.nanoTime() - t;
+
+        Map<Peer, List<DataFlow.Item>> expected = items(graph);
+        graph.clearItems();
+
+        t = System.nanoTime();
+        s.solve(graph, true);
+        times[1] += System.nanoTime() - t;
+
+        Map<Peer, List<DataFlow.Item>> actual = items(graph);
+
+        for (Map.Entry<Peer, List<DataFlow.Item>> e : expected.entrySet()) {
+            List<DataFlow.Item> l = actual.get(e.getKey());
+            if (! e.getValue().equals(l)) {
+                differences.add(s.getClass().getSuperclass().getName() + " at " +
+                                e.getKey() + ": " + e.getValue() + ", worklist " + l);
+            }
+        }
+    }
+
+    /**
+     * Return the in item followed by the out items, in a fixed order of
+     * their edge keys, of each peer of <code>graph</code> that has items.
+     */
+    protected Map<Peer, List<DataFlow.Item>> items(FlowGraph graph) {
+        Map<Peer, List<DataFlow.Item>> m = new HashMap<Peer, List<DataFlow.Item>>();
+
+        for (Iterator i = graph.peers().iterator(); i.hasNext(); ) {
+            Peer p = (Peer) i.next();
+
+            if (p.inItem() == null) {
+                continue;
+            }
+
+            List<String> keys = new ArrayList<String>();
+            Map<String, EdgeKey> byName = new HashMap<String, EdgeKey>();
+            for (Iterator j = p.succEdgeKeys().iterator(); j.hasNext(); ) {
+                EdgeKey k = (EdgeKey) j.next();
+                keys.add(k.toString());
+                byName.put(k.toString(), k);
+            }
+            Collections.sort(keys);
+
+            List<DataFlow.Item> l = new ArrayList<DataFlow.Item>();
+            l.add(p.inItem());
+            for (String k : keys) {
+                l.add(p.outItem(byName.get(k)));
+            }
+
+            m.put(p, l);
+        }
+
+        return m;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new DataFlowBench().run(args);
+    }
+
+    public void run(String[] args) throws Exception {
+        List<String> rest = parseArgs(args);
+
+        for (int i = 0; i + 1 < rest.size(); i += 2) {
+            if (rest.get(i).equals("-generate")) {
+                String[] s = rest.get(i + 1).split(",");
+                generate = new int[s.length];
+                for (int j = 0; j < s.length; j++) {
+                    generate[j] = Integer.parseInt(s[j]);
+                }
+            }
+            else {
+                throw new IllegalArgumentException("Unknown option " + rest.get(i) + ".");
+            }
+        }
+
+        if (rest.size() % 2 != 0) {
+            throw new IllegalArgumentException("Unknown option " + rest.get(rest.size() - 1) + ".");
+        }
+
+        final File tmp = tempDir("dataflow");
+
+        runOnThread(new Runnable() {
+            public void run() {
+                try {
+                    List<File> corpus = corpus();
+                    measure(corpus.size() + " corpus files", corpus, tmp);
+
+                    for (int i = 0; i < generate.length; i++) {
+                        File f = new File(tmp, "Generated" + generate[i] + ".jl");
+                        writeGenerated(f, "Generated" + generate[i], generate[i]);
+                        measure("loop of " + generate[i] + " statements",
+                                Collections.singletonList(f), tmp);
+                    }
+                }
+                catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+
+        deleteAll(tmp);
+
+        for (String d : differences) {
+            System.out.println(d);
+        }
+
+        System.out.println(differences.isEmpty() ? "solvers agree" : "SOLVERS DIFFER");
+
+        if (! differences.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Compile <code>files</code> <code>warmup + runs</code> times, and
+     * report the median time and the evaluations of each solver.
+     */
+    protected void measure(String name, List<File> files, File tmp) {
+        long[][] runTimes = new long[SOLVERS.length][runs];
+        long[] runEvaluations = new long[SOLVERS.length];
+
+        for (int run = 0; run < warmup + runs; run++) {
+            Arrays.fill(evaluations, 0);
+            Arrays.fill(times, 0);
+            graphs = 0;
+
+            for (File f : files) {
+                compile(new ComparingExtensionInfo(), f, new File(tmp, "out"));
+            }
+
+            if (run >= warmup) {
+                for (int s = 0; s < SOLVERS.length; s++) {
+                    runTimes[s][run - warmup] = times[s];
+                    runEvaluations[s] = evaluations[s];
+                }
+            }
+        }
+
+        StringBuffer sb = new StringBuffer(name + ", " + graphs + " flow graphs:");
+        for (int s = 0; s < SOLVERS.length; s++) {
+            sb.append(" " + SOLVERS[s] + " " + ms(median(runTimes[s])) +
+                      " (" + runEvaluations[s] + " evaluations);");
+        }
+        System.out.println(sb);
+    }
+
+    /**
+     * Write a class with one method whose body is a loop of <code>n</code>
+     * statements, most of them branches that join again, so that every
+     * evaluation of the loop changes the items of many peers.
+     */
+    protected void writeGenerated(File f, String name, int n) throws IOException {
+        PrintWriter w = new PrintWriter(new FileWriter(f));
+
+        w.println("class " + name + " {");
+        w.println("    int m(int a, int b) {");
+        w.println("        int x = 0;");
+        w.println("        while (a > b) {");
+
+        for (int i = 0; i < n; i++) {
+            switch (i % 4) {
+            case 0:
+                w.println("            if (x > " + i + ") { x = x + a; } else { x = x - b; }");
+                break;
+            case 1:
+                w.println("            { int v; if (a > " + i + ") v = a; else v = b; x = x + v; }");
+                break;
+            case 2:
+                w.println("            if (x == " + i + ") break;");
+                break;
+            default:
+                w.println("            x = x * 3 + " + i + ";");
+            }
+        }
+
+        w.println("            a--;");
+        w.println("        }");
+        w.println("        return x;");
+        w.println("    }");
+        w.println("}");
+        w.close();
+    }
+}
@@ -0,0 +1,172 @@
+package polyglot.bench;
+
+import java.util.*;
+
+import polyglot.frontend.ExtensionInfo;
+import polyglot.types.*;
+import polyglot.types.Package;
+import polyglot.util.SilentErrorQueue;
+
+/**
+ * Measures the package index of <code>SystemResolver</code> with many
+ * classes in the cache: installing them, asking whether packages exist,
+ * and removing some of them again.  Each answer from the index is checked
+ * against a scan of the whole cache.
+ * <p>
+ * Usage: <code>ResolverBench [-runs n] [-classes n] [-packages n]</code>
+ */
+public class ResolverBench extends Bench {
+    protected int classes = 50000;
+    protected int packages = 2000;
+
+    /** Number of queries checked against a scan of the cache. */
+    protected int scans = 200;
+
+    /** A system resolver over a resolver that finds nothing. */
+    static class Resolver extends SystemResolver {
+        Resolver(ExtensionInfo extInfo) {
+            super(new TopLevelResolver() {
+                public Named find(QName name) throws SemanticException {
+                    throw new NoClassException(name.toString());
+                }
+                public boolean packageExists(QName name) {
+                    return false;
+                }
+            }, extInfo);
+        }
+
+        boolean inCache(QName name) {
+            return packageExistsInCache(name);
+        }
+
+        /** Answer <code>inCache</code> the slow way. */
+        boolean scan(QName name) {
+            for (Named n : cachedObjects()) {
+                if (n instanceof Importable) {
+                    Package p = ((Importable) n).package_();
+                    if (p != null && (p.fullName().equals(name) || p.fullName().startsWith(name))) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new ResolverBench().run(args);
+    }
+
+    public void run(String[] args) throws Exception {
+        List<String> rest = parseArgs(args);
+
+        for (int i = 0; i + 1 < rest.size(); i += 2) {
+            if (rest.get(i).equals("-classes")) {
+                classes = Integer.parseInt(rest.get(i + 1));
+            }
+            else if (rest.get(i).equals("-packages")) {
+                packages = Integer.parseInt(rest.get(i + 1));
+            }
+            else {
+                throw new IllegalArgumentException("Unknown option " + rest.get(i) + ".");
+            }
+        }
+
+        ExtensionInfo ext = extensionInfo();
+        newCompiler(ext, new SilentErrorQueue(100, ext.compilerName()),
+                    tempDir("resolver"), "Dummy.jl");
+        TypeSystem ts = ext.typeSystem();
+
+        List<QName> names = new ArrayList<QName>(classes);
+        List<ClassType> types = new ArrayList<ClassType>(classes);
+        List<QName> queries = new ArrayList<QName>();
+
+        for (int i = 0; i < packages; i++) {
+            QName p = packageName(i);
+            queries.add(p);
+            queries.add(p.qualifier());
+            queries.add(QName.make(p, Name.make("C")));
+        }
+
+        for (int i = 0; i < classes; i++) {
+            QName p = packageName(i % packages);
+            ClassDef cd = ts.createClassDef();
+            cd.kind(ClassDef.TOP_LEVEL);
+            cd.flags(Flags.PUBLIC);
+            cd.name(Name.make("C" + i));
+            cd.setPackage(Types.ref(ts.createPackage(p)));
+            names.add(QName.make(p, cd.name()));
+            types.add(cd.asType());
+        }
+
+        boolean ok = true;
+
+        for (int run = 0; run < warmup + runs; run++) {
+            Resolver r = new Resolver(ext);
+
+            long t = System.nanoTime();
+            for (int i = 0; i < classes; i++) {
+                r.addNamed(names.get(i), types.get(i));
+            }
+            long install = System.nanoTime() - t;
+
+            long query = time(r, queries);
+            ok &= check(r, queries);
+
+            // Remove the classes of every other package.
+            t = System.nanoTime();
+            for (int i = 0; i < classes; i++) {
+                if (i % packages % 2 == 0) {
+                    r.uninstall(names.get(i));
+                }
+            }
+            long remove = System.nanoTime() - t;
+
+            long query2 = time(r, queries);
+            ok &= check(r, queries);
+
+            if (run >= warmup) {
+                System.out.println(classes + " classes in " + packages + " packages: install " +
+                                   ms(install) + ", " + queries.size() + " queries " + ms(query) +
+                                   ", remove half " + ms(remove) + ", queries " + ms(query2));
+            }
+        }
+
+        System.out.println(ok ? "index matches scan" : "INDEX DIFFERS FROM SCAN");
+
+        if (! ok) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Return the name of package <code>i</code>.  Packages are nested
+     * three deep, so that prefixes are shared.
+     */
+    protected QName packageName(int i) {
+        return QName.make("p" + (i % 10) + ".q" + (i % 100) + ".r" + i);
+    }
+
+    protected long time(Resolver r, List<QName> queries) {
+        long t = System.nanoTime();
+        for (QName q : queries) {
+            r.inCache(q);
+        }
+        return System.nanoTime() - t;
+    }
+
+    protected boolean check(Resolver r, List<QName> queries) {
+        boolean ok = true;
+        int step = Math.max(1, queries.size() / scans);
+
+        for (int i = 0; i < queries.size(); i += step) {
+            QName q = queries.get(i);
+            if (r.inCache(q) != r.scan(q)) {
+                System.out.println(q + ": index says " + r.inCache(q) + ", scan says " + r.scan(q));
+                ok = false;
+            }
+        }
+
+        return ok;
+    }
+}
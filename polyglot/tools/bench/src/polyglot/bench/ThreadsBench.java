@@ -0,0 +1,232 @@
+package polyglot.bench;
+
+import java.io.*;
+import java.util.*;
+
+import polyglot.frontend.Compiler;
+import polyglot.frontend.JLExtensionInfo;
+import polyglot.util.ErrorInfo;
+import polyglot.util.SilentErrorQueue;
+
+/**
+ * Compiles a generated program of many classes that refer to each other,
+ * in one compilation, with <code>-j 1</code> and with more threads, and
+ * reports the time each takes.  Every compilation must write the same
+ * output files as <code>-j 1</code> and report the same errors, in any
+ * order; compilations with the same number of threads must report them in
+ * the same order.  Some of the classes are not given on the command line,
+ * so that the compilers find them on the source path.
+ * <p>
+ * Usage: <code>ThreadsBench [-classes n] [-threads n,...] [-errors]
+ * [-runs n]</code>
+ */
+public class ThreadsBench extends Bench {
+    /** Number of classes generated. */
+    protected int classes = 200;
+
+    /** Numbers of threads to compile with, after one. */
+    protected int[] threads = { 2, 4 };
+
+    /** Whether to generate classes with errors. */
+    protected boolean errors;
+
+    /** True if a compilation differed from the first. */
+    protected boolean differ;
+
+    public static void main(String[] args) throws Exception {
+        ThreadsBench b = new ThreadsBench();
+        b.run(args);
+        if (b.differ) {
+            System.exit(1);
+        }
+    }
+
+    public void run(String[] args) throws Exception {
+        List<String> rest = parseArgs(args);
+
+        for (Iterator<String> i = rest.iterator(); i.hasNext(); ) {
+            String a = i.next();
+            if (a.equals("-classes") && i.hasNext()) {
+                i.remove();
+                classes = Integer.parseInt(i.next());
+                i.remove();
+            }
+            else if (a.equals("-threads") && i.hasNext()) {
+                i.remove();
+                String[] n = i.next().split(",");
+                i.remove();
+                threads = new int[n.length];
+                for (int k = 0; k < n.length; k++) {
+                    threads[k] = Integer.parseInt(n[k]);
+                }
+            }
+            else if (a.equals("-errors")) {
+                i.remove();
+                errors = true;
+            }
+        }
+
+        final String[] options = rest.toArray(new String[rest.size()]);
+        final File src = tempDir("threads");
+        final File out = tempDir("threadsout");
+        final List<String> files = generate(src);
+
+        serialize = true;
+        dir = src;
+
+        final int[] all = new int[threads.length + 1];
+        all[0] = 1;
+        System.arraycopy(threads, 0, all, 1, threads.length);
+
+        runOnThread(new Runnable() {
+            public void run() {
+                Result base = null;
+                List<String> sortedBase = null;
+
+                for (int t = 0; t < all.length; t++) {
+                    long[] times = new long[runs];
+                    Result first = null;
+
+                    for (int r = 0; r < warmup + runs; r++) {
+                        long start = System.nanoTime();
+                        Result res = compile(files, out, all[t], options);
+                        long time = System.nanoTime() - start;
+
+                        if (r >= warmup) {
+                            times[r - warmup] = time;
+                        }
+
+                        if (base == null) {
+                            base = res;
+                            sortedBase = sorted(res.errors);
+                        }
+                        else if (res.ok != base.ok || ! res.output.equals(base.output) ||
+                                 ! sorted(res.errors).equals(sortedBase)) {
+                            System.out.println("-j " + all[t] + " differs from -j 1: " + res + " vs " + base);
+                            differ = true;
+                        }
+
+                        if (first == null) {
+                            first = res;
+                        }
+                        else if (! res.errors.equals(first.errors)) {
+                            System.out.println("-j " + all[t] + " reported errors in another order: " +
+                                               res.errors + " vs " + first.errors);
+                            differ = true;
+                        }
+                    }
+
+                    System.out.println("-j " + all[t] + ": " + ms(median(times)) +
+                                       (base.ok ? "" : ", " + base.errors.size() + " errors"));
+                }
+            }
+        });
+
+        deleteAll(src);
+        deleteAll(out);
+
+        System.out.println(classes + " classes, " + files.size() + " on the command line, " +
+                           (differ ? "outputs differ" : "outputs identical"));
+    }
+
+    /**
+     * Compile <code>files</code> in one compilation on <code>n</code>
+     * threads, writing output into <code>out</code>, and return the result.
+     */
+    protected Result compile(List<String> files, File out, int n, String[] options) {
+        Result r = new Result();
+
+        deleteAll(out);
+        out.mkdirs();
+
+        List<String> args = new ArrayList<String>(Arrays.asList(options));
+        args.add("-j");
+        args.add(Integer.toString(n));
+        args.add("-sourcepath");
+        args.add(dir.getPath());
+
+        JLExtensionInfo ext = new JLExtensionInfo();
+        SilentErrorQueue eq = new SilentErrorQueue(1000, ext.compilerName());
+        Compiler compiler = newCompiler(ext, eq, out, files.get(0), args.toArray(new String[args.size()]));
+
+        try {
+            r.ok = compiler.compileFiles(files);
+        }
+        catch (RuntimeException e) {
+            r.errors.add(e.toString());
+        }
+
+        for (Iterator i = eq.getErrors().iterator(); i.hasNext(); ) {
+            ErrorInfo e = (ErrorInfo) i.next();
+            r.errors.add(e.getErrorString() + ": " + e.getPosition() + ": " + e.getMessage());
+        }
+
+        readAll(out, "", r.output);
+        return r;
+    }
+
+    /**
+     * Write the classes into packages under <code>src</code>, and return the
+     * files to give on the command line: all but every tenth class.  Class
+     * <code>k</code> extends class <code>k-1</code> unless <code>k</code> is
+     * a multiple of four, has a constant defined from that of its
+     * superclass, calls methods of another class, and has a member class
+     * that refers to the next class.
+     */
+    protected List<String> generate(File src) throws IOException {
+        List<String> files = new ArrayList<String>();
+
+        for (int k = 0; k < classes; k++) {
+            File d = new File(src, pkg(k));
+            d.mkdirs();
+
+            File f = new File(d, "C" + k + ".jl");
+            PrintWriter w = new PrintWriter(new FileWriter(f));
+
+            w.println("package " + pkg(k) + ";");
+            w.println();
+            w.println("public class C" + k + (k % 4 != 0 ? " extends " + name(k - 1) : "") + " {");
+            w.println("    public static final int K = " + (k % 4 != 0 ? name(k - 1) + ".K + 1" : "1") + ";");
+            w.println("    public int f(int x) {");
+            w.println("        int s = 0;");
+            w.println("        for (int i = 0; i < x; i++) {");
+            w.println("            s += new " + name((k * 7 + 3) % classes) + "().g(i);");
+            w.println("        }");
+            w.println("        return s + K;");
+            w.println("    }");
+            w.println("    public int g(int i) {");
+            w.println("        return i * K;");
+            w.println("    }");
+            w.println("    class Inner {");
+            w.println("        int h() {");
+            w.println("            return f(1) + " + name((k + 1) % classes) + ".K;");
+            w.println("        }");
+            w.println("    }");
+            if (errors && k % 10 == 5) {
+                w.println("    String bad = g(1);");
+            }
+            w.println("}");
+            w.close();
+
+            if (k % 10 != 9) {
+                files.add(f.getPath());
+            }
+        }
+
+        return files;
+    }
+
+    protected static String pkg(int k) {
+        return "p" + (k % 5);
+    }
+
+    protected static String name(int k) {
+        return pkg(k) + ".C" + k;
+    }
+
+    protected static List<String> sorted(List<String> l) {
+        List<String> s = new ArrayList<String>(l);
+        Collections.sort(s);
+        return s;
+    }
+}
@@ -0,0 +1,219 @@
+package polyglot.bench;
+
+import java.io.*;
+import java.util.*;
+import java.util.zip.GZIPOutputStream;
+
+import polyglot.ast.NodeFactory;
+import polyglot.frontend.*;
+import polyglot.main.Version;
+import polyglot.types.*;
+import polyglot.util.*;
+import polyglot.util.Base64;
+import polyglot.visit.ClassSerializer;
+
+/**
+ * Compares the encoding of serialized type information written by
+ * <code>TypeEncoder</code> with the one written by earlier compilers:
+ * Java serialization with full class descriptors, GZIP, and Base64.
+ * Compiles the corpus, encodes each class serialized in both formats, and
+ * reports the total encoded size and the time to decode the classes, with
+ * and without decoding their members.  Checks that both formats decode to
+ * classes with the same members.
+ * <p>
+ * Usage: <code>TypeEncoderBench [-dir tests] [-runs n]</code>
+ */
+public class TypeEncoderBench extends Bench {
+    /** Total encoded size of the classes in each format. */
+    protected long compactSize, legacySize;
+
+    /** Total decoding times of each run, in nanoseconds. */
+    protected long[] compactTimes, compactMemberTimes, legacyTimes;
+
+    protected int classes;
+    protected boolean ok = true;
+
+    /** An extension that remembers the classes it serializes. */
+    static class RecordingExtensionInfo extends JLExtensionInfo {
+        List<ClassDef> serialized = new ArrayList<ClassDef>();
+
+        protected Scheduler createScheduler() {
+            return new JLScheduler(this) {
+                protected ClassSerializer createSerializer(TypeSystem ts, NodeFactory nf,
+                        Date lastModified, ErrorQueue eq, Version version) {
+                    return new ClassSerializer(ts, nf, lastModified, eq, version) {
+                        public List createSerializationMembers(ClassDef cd) {
+                            List l = super.createSerializationMembers(cd);
+                            if (! l.isEmpty()) {
+                                serialized.add(cd);
+                            }
+                            return l;
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    /**
+     * A stream writing type objects as earlier compilers did: with full
+     * class descriptors, and with the members of classes inline.
+     */
+    static class LegacyOutputStream extends ObjectOutputStream {
+        TypeSystem ts;
+        Set<Object> roots;
+        Map<Object, Object> placeHolders = new HashMap<Object, Object>();
+
+        LegacyOutputStream(OutputStream out, TypeSystem ts, TypeObject root) throws IOException {
+            super(out);
+            this.ts = ts;
+            this.roots = ts.getTypeEncoderRootSet(root);
+            enableReplaceObject(true);
+        }
+
+        protected Object replaceObject(Object o) {
+            if (o instanceof TypeObject && ! roots.contains(o)) {
+                Object k = new IdentityKey(o);
+                Object p = placeHolders.get(k);
+                if (p == null) {
+                    p = ts.placeHolder((TypeObject) o, roots);
+                    placeHolders.put(k, p);
+                }
+                return p;
+            }
+            return o;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new TypeEncoderBench().run(args);
+    }
+
+    public void run(String[] args) throws Exception {
+        List<String> rest = parseArgs(args);
+
+        if (! rest.isEmpty()) {
+            throw new IllegalArgumentException("Unknown option " + rest.get(0) + ".");
+        }
+
+        serialize = true;
+        compactTimes = new long[runs];
+        compactMemberTimes = new long[runs];
+        legacyTimes = new long[runs];
+
+        final File tmp = tempDir("encoder");
+
+        runOnThread(new Runnable() {
+            public void run() {
+                for (File f : corpus()) {
+                    RecordingExtensionInfo ext = new RecordingExtensionInfo();
+                    Result r = compile(ext, f, tmp);
+                    if (r.ok) {
+                        try {
+                            measure(f, ext);
+                        }
+                        catch (IOException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+                }
+            }
+        });
+
+        deleteAll(tmp);
+
+        System.out.println(classes + " classes, encoded size: compact " + compactSize +
+                           " characters, legacy " + legacySize + " characters (" +
+                           (100 * compactSize / Math.max(1, legacySize)) + "%)");
+        System.out.println("decode: compact " + ms(median(compactTimes)) +
+                           ", with members " + ms(median(compactMemberTimes)) +
+                           "; legacy " + ms(median(legacyTimes)));
+        System.out.println(ok ? "formats agree" : "FORMATS DIFFER");
+
+        if (! ok) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Encode the classes <code>ext</code> serialized in both formats, and
+     * add their sizes and decoding times to the totals.
+     */
+    protected void measure(File f, RecordingExtensionInfo ext) throws IOException {
+        TypeSystem ts = ext.typeSystem();
+        TypeEncoder te = new TypeEncoder(ts);
+
+        for (ClassDef cd : ext.serialized) {
+            ClassType ct = cd.asType();
+            String compact = te.encode(ct);
+            String legacy = legacyEncode(ts, ct);
+
+            compactSize += compact.length();
+            legacySize += legacy.length();
+            classes++;
+
+            ClassType c = null, l = null;
+
+            for (int run = 0; run < warmup + runs; run++) {
+                long t0 = System.nanoTime();
+                c = (ClassType) te.decode(compact, cd.fullName());
+
+                long t1 = System.nanoTime();
+                ClassType cm = (ClassType) te.decode(compact, cd.fullName());
+                if (cm != null) {
+                    ((ClassDef_c) cm.def()).tryDecodeMembers();
+                }
+
+                long t2 = System.nanoTime();
+                l = (ClassType) te.decode(legacy, cd.fullName());
+
+                long t3 = System.nanoTime();
+
+                if (run >= warmup) {
+                    compactTimes[run - warmup] += t1 - t0;
+                    compactMemberTimes[run - warmup] += t2 - t1;
+                    legacyTimes[run - warmup] += t3 - t2;
+                }
+            }
+
+            String expected = members(ct);
+
+            if (c == null || l == null || ! expected.equals(members(c)) || ! expected.equals(members(l))) {
+                System.out.println(f + ", " + cd.fullName() + ": expected " + expected +
+                                   ", compact " + (c == null ? null : members(c)) +
+                                   ", legacy " + (l == null ? null : members(l)));
+                ok = false;
+            }
+        }
+    }
+
+    /** Encode <code>t</code> as compilers before the compact format did. */
+    protected String legacyEncode(TypeSystem ts, TypeObject t) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new LegacyOutputStream(new GZIPOutputStream(baos), ts, t);
+        oos.writeObject(t);
+        oos.close();
+        return new String(Base64.encode(baos.toByteArray()));
+    }
+
+    /** Return the names of the members of <code>ct</code>. */
+    protected static String members(ClassType ct) {
+        List<String> l = new ArrayList<String>();
+
+        for (FieldInstance fi : ct.fields()) {
+            l.add(fi.name().toString());
+        }
+        for (MethodInstance mi : ct.methods()) {
+            l.add(mi.name() + "/" + mi.formalTypes().size());
+        }
+        for (ConstructorInstance ci : ct.constructors()) {
+            l.add("<init>/" + ci.formalTypes().size());
+        }
+        for (ClassType t : ct.memberClasses()) {
+            l.add(t.fullName().toString());
+        }
+
+        Collections.sort(l);
+        return l.toString();
+    }
+}
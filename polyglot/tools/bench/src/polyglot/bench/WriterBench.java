@@ -0,0 +1,331 @@
+package polyglot.bench;
+
+import java.io.*;
+import java.util.*;
+
+import polyglot.frontend.ExtensionInfo;
+import polyglot.frontend.JLExtensionInfo;
+import polyglot.frontend.TargetFactory;
+import polyglot.util.*;
+
+/**
+ * Measures the three code writers, <code>OptimalCodeWriter</code>,
+ * <code>LinearCodeWriter</code> and <code>SimpleCodeWriter</code>, on the
+ * output of the corpus and of generated classes with one long method.
+ * Each file is compiled once with a writer that records the calls the
+ * translator makes; the calls are then replayed into each writer.  Checks
+ * that all writers print the same text apart from whitespace, and reports
+ * a writer that overflows the stack instead of printing.
+ * <p>
+ * Usage: <code>WriterBench [-dir tests] [-runs n] [-generate n,n,...]
+ * [-width n]</code>
+ */
+public class WriterBench extends Bench {
+    static final String[] WRITERS = { "optimal", "linear", "simple" };
+
+    /** Numbers of statements in the generated methods. */
+    protected int[] generate = { 1000, 10000 };
+
+    protected int width = 80;
+
+    /** One call made on a <code>CodeWriter</code>. */
+    static class Call {
+        static final int WRITE = 0, BEGIN = 1, END = 2, ALLOW_BREAK = 3,
+                         UNIFIED_BREAK = 4, NEWLINE = 5, FLUSH = 6;
+
+        int kind;
+        String s;
+        int n, level, length;
+        boolean format;
+
+        Call(int kind) {
+            this.kind = kind;
+        }
+
+        void replay(CodeWriter w) throws IOException {
+            switch (kind) {
+            case WRITE: w.write(s, length); break;
+            case BEGIN: w.begin(n); break;
+            case END: w.end(); break;
+            case ALLOW_BREAK: w.allowBreak(n, level, s, length); break;
+            case UNIFIED_BREAK: w.unifiedBreak(n, level, s, length); break;
+            case NEWLINE: w.newline(n, level); break;
+            default: w.flush(format);
+            }
+        }
+    }
+
+    /** A writer that records the calls made on it instead of printing. */
+    static class Recorder extends CodeWriter {
+        List<Call> calls = new ArrayList<Call>();
+
+        Call add(int kind) {
+            Call c = new Call(kind);
+            calls.add(c);
+            return c;
+        }
+
+        public void write(String s) {
+            write(s, s.length());
+        }
+        public void write(String s, int length) {
+            Call c = add(Call.WRITE);
+            c.s = s;
+            c.length = length;
+        }
+        public void begin(int n) {
+            add(Call.BEGIN).n = n;
+        }
+        public void end() {
+            add(Call.END);
+        }
+        public void allowBreak(int n, int level, String alt, int altlen) {
+            Call c = add(Call.ALLOW_BREAK);
+            c.n = n;
+            c.level = level;
+            c.s = alt;
+            c.length = altlen;
+        }
+        public void unifiedBreak(int n, int level, String alt, int altlen) {
+            Call c = add(Call.UNIFIED_BREAK);
+            c.n = n;
+            c.level = level;
+            c.s = alt;
+            c.length = altlen;
+        }
+        public void newline(int n, int level) {
+            Call c = add(Call.NEWLINE);
+            c.n = n;
+            c.level = level;
+        }
+        public boolean flush() {
+            return flush(true);
+        }
+        public boolean flush(boolean format) {
+            add(Call.FLUSH).format = format;
+            return true;
+        }
+        public void close() {
+        }
+        public String toString() {
+            return calls.size() + " recorded calls";
+        }
+    }
+
+    /** An extension whose output files are recorded into <code>output</code>. */
+    static class RecordingExtensionInfo extends JLExtensionInfo {
+        List<Recorder> output;
+
+        RecordingExtensionInfo(List<Recorder> output) {
+            this.output = output;
+        }
+
+        public TargetFactory targetFactory() {
+            if (target_factory == null) {
+                target_factory = new TargetFactory(getOptions().output_directory,
+                                                   getOptions().output_ext,
+                                                   getOptions().output_stdout) {
+                    public CodeWriter outputCodeWriter(File f, int width) {
+                        Recorder r = new Recorder();
+                        output.add(r);
+                        return r;
+                    }
+                };
+            }
+            return target_factory;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new WriterBench().run(args);
+    }
+
+    public void run(String[] args) throws Exception {
+        List<String> rest = parseArgs(args);
+
+        for (int i = 0; i + 1 < rest.size(); i += 2) {
+            if (rest.get(i).equals("-generate")) {
+                String[] s = rest.get(i + 1).split(",");
+                generate = new int[s.length];
+                for (int j = 0; j < s.length; j++) {
+                    generate[j] = Integer.parseInt(s[j]);
+                }
+            }
+            else if (rest.get(i).equals("-width")) {
+                width = Integer.parseInt(rest.get(i + 1));
+            }
+            else {
+                throw new IllegalArgumentException("Unknown option " + rest.get(i) + ".");
+            }
+        }
+
+        final File tmp = tempDir("writers");
+        final Map<String, List<Recorder>> inputs = new LinkedHashMap<String, List<Recorder>>();
+        final boolean[] ok = { true };
+
+        runOnThread(new Runnable() {
+            public void run() {
+                try {
+                    List<Recorder> corpus = new ArrayList<Recorder>();
+                    for (File f : corpus()) {
+                        record(f, new File(tmp, "out"), corpus);
+                    }
+                    inputs.put(corpus.size() + " corpus output files", corpus);
+
+                    for (int i = 0; i < generate.length; i++) {
+                        File f = new File(tmp, "Generated" + generate[i] + ".jl");
+                        writeGenerated(f, "Generated" + generate[i], generate[i]);
+                        List<Recorder> l = new ArrayList<Recorder>();
+                        record(f, new File(tmp, "out"), l);
+                        inputs.put("method of " + generate[i] + " statements", l);
+                    }
+
+                    for (Map.Entry<String, List<Recorder>> e : inputs.entrySet()) {
+                        ok[0] &= measure(e.getKey(), e.getValue());
+                    }
+                }
+                catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+
+        deleteAll(tmp);
+
+        System.out.println(ok[0] ? "outputs match" : "OUTPUTS DIFFER");
+
+        if (! ok[0]) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Compile <code>f</code>, adding the recorded output files to
+     * <code>output</code>.  Files that do not compile add nothing.
+     */
+    protected void record(File f, File out, List<Recorder> output) {
+        List<Recorder> l = new ArrayList<Recorder>();
+        Result r = compile(new RecordingExtensionInfo(l), f, out);
+        if (r.ok) {
+            output.addAll(l);
+        }
+    }
+
+    /**
+     * Replay <code>files</code> into each writer, report the times, and
+     * return false if the writers that finish disagree.
+     */
+    protected boolean measure(String name, List<Recorder> files) {
+        StringBuffer sb = new StringBuffer(name + ":");
+        String expected = null;
+        boolean ok = true;
+
+        for (int w = 0; w < WRITERS.length; w++) {
+            long[] times = new long[runs];
+            String out = null;
+
+            try {
+                for (int run = 0; run < warmup + runs; run++) {
+                    long t = System.nanoTime();
+                    out = print(WRITERS[w], files);
+                    if (run >= warmup) {
+                        times[run - warmup] = System.nanoTime() - t;
+                    }
+                }
+            }
+            catch (StackOverflowError e) {
+                sb.append(" " + WRITERS[w] + " overflows the stack;");
+                continue;
+            }
+
+            sb.append(" " + WRITERS[w] + " " + ms(median(times)) +
+                      " (" + lines(out) + " lines);");
+
+            String s = out.replaceAll("\\s+", "");
+
+            if (expected == null) {
+                expected = s;
+            }
+            else if (! expected.equals(s)) {
+                sb.append(" DIFFERS;");
+                ok = false;
+            }
+        }
+
+        System.out.println(sb);
+        return ok;
+    }
+
+    protected String print(String writer, List<Recorder> files) {
+        StringWriter sw = new StringWriter();
+
+        try {
+            for (Recorder r : files) {
+                CodeWriter cw;
+
+                if (writer.equals("optimal")) {
+                    cw = new OptimalCodeWriter(sw, width);
+                }
+                else if (writer.equals("linear")) {
+                    cw = new LinearCodeWriter(sw, width);
+                }
+                else {
+                    cw = new SimpleCodeWriter(sw, width);
+                }
+
+                for (Call c : r.calls) {
+                    c.replay(cw);
+                }
+            }
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return sw.toString();
+    }
+
+    /**
+     * Write a class with one method of <code>n</code> statements: a mix of
+     * declarations, long expressions and nested blocks, as generated code
+     * often has.
+     */
+    protected void writeGenerated(File f, String name, int n) throws IOException {
+        PrintWriter w = new PrintWriter(new FileWriter(f));
+
+        w.println("class " + name + " {");
+        w.println("    int m(int a, int b) {");
+        w.println("        int x = 0;");
+
+        for (int i = 0; i < n; i++) {
+            switch (i % 4) {
+            case 0:
+                w.println("        int v" + i + " = a * " + i + " + b - x;");
+                break;
+            case 1:
+                w.println("        x = x + v" + (i - 1) + " * (a + b) - (x / (b + " + i + ")) + m(x, a);");
+                break;
+            case 2:
+                w.println("        if (x > " + i + ") { x = x - a; } else { x = x + b; }");
+                break;
+            default:
+                w.println("        x++;");
+            }
+        }
+
+        w.println("        return x;");
+        w.println("    }");
+        w.println("}");
+        w.close();
+    }
+
+    protected static int lines(String s) {
+        int n = 0;
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) == '\n') {
+                n++;
+            }
+        }
+        return n;
+    }
+}
@@ -0,0 +1,545 @@
+
+//----------------------------------------------------
+// The following code was generated by CUP v0.10k
+// Sat Oct 17 19:02:39 UTC 2026
+//----------------------------------------------------
+
+package polyglot.pth;
+
+import java.io.*;
+import java.util.*;
+
+/** CUP v0.10k generated parser.
+  * @version Sat Oct 17 19:02:39 UTC 2026
+  */
+public class Grm
+ extends java_cup.runtime.lr_parser
+{
+  /** Default constructor. */
+  public Grm() {super();}
+
+  /** Constructor which sets the default scanner. */
+  public Grm(java_cup.runtime.Scanner s) {super(s);}
+
+  /** Production table. */
+  protected static final short _production_table[][] = 
+    unpackFromStrings(new String[] {
+    "\000\030\000\002\002\004\000\002\003\003\000\002\004" +
+    "\003\000\002\004\004\000\002\005\007\000\002\006\003" +
+    "\000\002\006\002\000\002\007\003\000\002\007\004\000" +
+    "\002\007\005\000\002\010\005\000\002\011\003\000\002" +
+    "\011\004\000\002\012\002\000\002\012\003\000\002\015" +
+    "\003\000\002\013\002\000\002\013\003\000\002\014\003" +
+    "\000\002\014\005\000\002\016\005\000\002\016\004\000" +
+    "\002\016\007\000\002\016\005" });
+
+  /** Access to production table. */
+  public short[][] production_table() {return _production_table;}
+
+  /** Parse-action table. */
+  protected static final short[][] _action_table = 
+    unpackFromStrings(new String[] {
+    "\000\043\000\004\004\007\001\002\000\006\002\uffff\004" +
+    "\007\001\002\000\004\002\044\001\002\000\004\002\000" +
+    "\001\002\000\006\005\012\012\ufffb\001\002\000\004\012" +
+    "\013\001\002\000\004\012\ufffc\001\002\000\012\006\ufff2" +
+    "\012\ufff2\013\ufff2\014\ufff2\001\002\000\004\004\015\001" +
+    "\002\000\014\004\025\005\012\006\ufff4\013\ufff4\014\ufff4" +
+    "\001\002\000\014\004\ufff6\005\ufff6\006\ufff6\013\ufff6\014" +
+    "\ufff6\001\002\000\006\013\ufffa\014\021\001\002\000\004" +
+    "\013\020\001\002\000\006\002\ufffd\004\ufffd\001\002\000" +
+    "\006\004\015\013\ufff9\001\002\000\004\013\ufff8\001\002" +
+    "\000\010\006\031\013\ufff1\014\ufff1\001\002\000\010\006" +
+    "\ufff3\013\ufff3\014\ufff3\001\002\000\014\004\ufff5\005\ufff5" +
+    "\006\ufff5\013\ufff5\014\ufff5\001\002\000\010\013\uffef\014" +
+    "\uffef\015\uffef\001\002\000\006\013\ufff7\014\ufff7\001\002" +
+    "\000\010\013\ufff0\014\ufff0\015\042\001\002\000\010\004" +
+    "\033\005\034\007\032\001\002\000\010\013\uffec\014\uffec" +
+    "\015\uffec\001\002\000\006\007\037\015\036\001\002\000" +
+    "\004\007\035\001\002\000\010\013\uffea\014\uffea\015\uffea" +
+    "\001\002\000\004\005\040\001\002\000\010\013\uffed\014" +
+    "\uffed\015\uffed\001\002\000\004\007\041\001\002\000\010" +
+    "\013\uffeb\014\uffeb\015\uffeb\001\002\000\004\006\031\001" +
+    "\002\000\010\013\uffee\014\uffee\015\uffee\001\002\000\004" +
+    "\002\001\001\002\000\004\002\ufffe\001\002" });
+
+  /** Access to parse-action table. */
+  public short[][] action_table() {return _action_table;}
+
+  /** <code>reduce_goto</code> table. */
+  protected static final short[][] _reduce_table = 
+    unpackFromStrings(new String[] {
+    "\000\043\000\010\003\004\004\005\005\003\001\001\000" +
+    "\006\004\044\005\003\001\001\000\002\001\001\000\002" +
+    "\001\001\000\006\006\007\015\010\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\010\007\016" +
+    "\010\015\011\013\001\001\000\006\012\022\015\023\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\010\007\021\010\015\011\013\001" +
+    "\001\000\002\001\001\000\010\013\026\014\027\016\025" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\004\016\042\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001" });
+
+  /** Access to <code>reduce_goto</code> table. */
+  public short[][] reduce_table() {return _reduce_table;}
+
+  /** Instance of action encapsulation class. */
+  protected CUP$Grm$actions action_obj;
+
+  /** Action encapsulation object initializer. */
+  protected void init_actions()
+    {
+      action_obj = new CUP$Grm$actions(this);
+    }
+
+  /** Invoke a user supplied parse action. */
+  public java_cup.runtime.Symbol do_action(
+    int                        act_num,
+    java_cup.runtime.lr_parser parser,
+    java.util.Stack            stack,
+    int                        top)
+    throws java.lang.Exception
+  {
+    /* call code in generated class */
+    return action_obj.CUP$Grm$do_action(act_num, parser, stack, top);
+  }
+
+  /** Indicates start state. */
+  public int start_state() {return 0;}
+  /** Indicates start production. */
+  public int start_production() {return 0;}
+
+  /** <code>EOF</code> Symbol index. */
+  public int EOF_sym() {return 0;}
+
+  /** <code>error</code> Symbol index. */
+  public int error_sym() {return 1;}
+
+
+  /** Scan to get the next Symbol. */
+  public java_cup.runtime.Symbol scan()
+    throws java.lang.Exception
+    {
+
+    return lexer.next_token();
+
+    }
+
+
+    Lexer_c lexer;
+    public Grm(String filename) {
+        this(new File(filename));
+    }
+    public Grm(File file) {
+        this();
+        try {
+            lexer = new Lexer_c(new FileInputStream(file));
+        }
+        catch (Exception e) {
+            System.out.println("open script file (" + file.getName() +") error: " + e);
+            lexer = new Lexer_c(System.in);
+        }
+    }
+
+    public Grm(Lexer_c l) {
+        this();
+        lexer = l;
+    }
+    
+    public static int findErrorKind(String s) {
+      s = s.toLowerCase();
+      for (int i = 0; i < 10; i++) {
+          String t = polyglot.util.ErrorInfo.getErrorString(i);
+          if (t.toLowerCase().startsWith(s))
+            return i;
+      }
+      return -1;      
+    }
+
+}
+
+/** Cup generated class to encapsulate user supplied action code.*/
+class CUP$Grm$actions {
+
+
+
+  private final Grm parser;
+
+  /** Constructor */
+  CUP$Grm$actions(Grm parser) {
+    this.parser = parser;
+  }
+
+  /** Method with the actual generated action code. */
+  public final java_cup.runtime.Symbol CUP$Grm$do_action(
+    int                        CUP$Grm$act_num,
+    java_cup.runtime.lr_parser CUP$Grm$parser,
+    java.util.Stack            CUP$Grm$stack,
+    int                        CUP$Grm$top)
+    throws java.lang.Exception
+    {
+      /* Symbol object for return from actions */
+      java_cup.runtime.Symbol CUP$Grm$result;
+
+      /* select the action based on the action number */
+      switch (CUP$Grm$act_num)
+        {
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 23: // failure ::= LPAREN STRING_LITERAL RPAREN 
+            {
+              ExpectedFailure RESULT = null;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		String b = (String)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		 
+              RESULT = new ExpectedFailure(b);
+             
+              CUP$Grm$result = new java_cup.runtime.Symbol(12/*failure*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 22: // failure ::= LPAREN IDENT COMMA STRING_LITERAL RPAREN 
+            {
+              ExpectedFailure RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		String a = (String)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		String b = (String)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		 
+              RESULT = new ExpectedFailure(Grm.findErrorKind(a), b);
+             
+              CUP$Grm$result = new java_cup.runtime.Symbol(12/*failure*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 21: // failure ::= LPAREN RPAREN 
+            {
+              ExpectedFailure RESULT = null;
+		 
+              RESULT = new AnyExpectedFailure();
+             
+              CUP$Grm$result = new java_cup.runtime.Symbol(12/*failure*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 20: // failure ::= LPAREN IDENT RPAREN 
+            {
+              ExpectedFailure RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		String a = (String)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		 
+              RESULT = new ExpectedFailure(Grm.findErrorKind(a));
+             
+              CUP$Grm$result = new java_cup.runtime.Symbol(12/*failure*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 19: // failure_set ::= failure_set COMMA failure 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ExpectedFailure b = (ExpectedFailure)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 a.add(b); RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(10/*failure_set*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 18: // failure_set ::= failure 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		ExpectedFailure a = (ExpectedFailure)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List l = new ArrayList();
+               l.add(a);
+               RESULT = l;
+            
+              CUP$Grm$result = new java_cup.runtime.Symbol(10/*failure_set*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 17: // failure_set_opt ::= failure_set 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(9/*failure_set_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 16: // failure_set_opt ::= 
+            {
+              List RESULT = null;
+		 List l = new ArrayList();
+               RESULT = l;
+            
+              CUP$Grm$result = new java_cup.runtime.Symbol(9/*failure_set_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 15: // sentence ::= STRING_LITERAL 
+            {
+              String RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		String a = (String)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(11/*sentence*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 14: // description_opt ::= sentence 
+            {
+              String RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		String a = (String)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(8/*description_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 13: // description_opt ::= 
+            {
+              String RESULT = null;
+		 RESULT = null; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(8/*description_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 12: // filename_list ::= filename_list IDENT 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		String b = (String)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 a.add(b); RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(7/*filename_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 11: // filename_list ::= IDENT 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		String a = (String)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List list = new LinkedList();
+               list.add(a);
+               RESULT = list;
+            
+              CUP$Grm$result = new java_cup.runtime.Symbol(7/*filename_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 10: // filetest ::= filename_list description_opt failure_set_opt 
+            {
+              SourceFileTest RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		String b = (String)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List d = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 SourceFileTest sft = null;
+               if (a.size() == 1) {
+                   sft = new SourceFileTest((String)a.get(0));
+               }
+               else {
+                   sft = new SourceFileTest(a);
+               }
+               sft.setDescription(b);
+               sft.setExpectedFailures(d);
+               RESULT = sft; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(6/*filetest*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 9: // filetest_list ::= filetest SEMICOLON filetest_list 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).right;
+		SourceFileTest a = (SourceFileTest)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-2)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 b.add(0, a); RESULT = b; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(5/*filetest_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-2)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 8: // filetest_list ::= filetest SEMICOLON 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		SourceFileTest a = (SourceFileTest)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		 List list = new LinkedList();
+               list.add(a);
+               RESULT = list;
+            
+              CUP$Grm$result = new java_cup.runtime.Symbol(5/*filetest_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 7: // filetest_list ::= filetest 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		SourceFileTest a = (SourceFileTest)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 List list = new LinkedList();
+               list.add(a);
+               RESULT = list;
+            
+              CUP$Grm$result = new java_cup.runtime.Symbol(5/*filetest_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 6: // command_line_args_opt ::= 
+            {
+              String RESULT = null;
+		 RESULT = null; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(4/*command_line_args_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 5: // command_line_args_opt ::= sentence 
+            {
+              String RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		String a = (String)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(4/*command_line_args_opt*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 4: // compilertest ::= IDENT command_line_args_opt LBRACE filetest_list RBRACE 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).right;
+		String a = (String)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-4)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-3)).right;
+		String b = (String)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List c = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		 String extClassName = a;
+               
+		        for (Iterator iter = c.iterator(); iter.hasNext(); ) {
+		            SourceFileTest sft = (SourceFileTest)iter.next();
+		            sft.setExtensionClassname(extClassName);
+		            sft.setExtraCmdLineArgs(b);
+		        }
+               RESULT = c; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(3/*compilertest*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-4)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 3: // compilertest_list ::= compilertest compilertest_list 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List b = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 b.addAll(0, a); RESULT = b; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(2/*compilertest_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 2: // compilertest_list ::= compilertest 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 
+               RESULT = a;
+            
+              CUP$Grm$result = new java_cup.runtime.Symbol(2/*compilertest_list*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 1: // goal ::= compilertest_list 
+            {
+              List RESULT = null;
+		int aleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left;
+		int aright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right;
+		List a = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-0)).value;
+		 RESULT = a; 
+              CUP$Grm$result = new java_cup.runtime.Symbol(1/*goal*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          return CUP$Grm$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 0: // $START ::= goal EOF 
+            {
+              Object RESULT = null;
+		int start_valleft = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left;
+		int start_valright = ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).right;
+		List start_val = (List)((java_cup.runtime.Symbol) CUP$Grm$stack.elementAt(CUP$Grm$top-1)).value;
+		RESULT = start_val;
+              CUP$Grm$result = new java_cup.runtime.Symbol(0/*$START*/, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-1)).left, ((java_cup.runtime.Symbol)CUP$Grm$stack.elementAt(CUP$Grm$top-0)).right, RESULT);
+            }
+          /* ACCEPT */
+          CUP$Grm$parser.done_parsing();
+          return CUP$Grm$result;
+
+          default:
+            {
+              throw new Exception(
+                 "Invalid action number found in internal parse table");
+            }
+
+        }
+    }
+}
+
@@ -84,6 +84,10 @@ public class SourceFileTest extends AbstractTest {
                 return false;
             }
         }        
+        catch (StackOverflowError e) {
+            setFailureMessage("Stack overflow");
+            return false;
+        }
         return checkErrorQueue(eq);
     }
     